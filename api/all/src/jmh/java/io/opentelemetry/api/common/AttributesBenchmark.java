@@ -26,6 +26,8 @@ public class AttributesBenchmark {
   private static final List<AttributeKey<String>> keys = new ArrayList<>(10);
   private static final List<String> values = new ArrayList<>(10);
   private static final List<Attributes> attributes = new ArrayList<>();
+  // equal to, but distinct instances from, the ones in attributes
+  private static final List<Attributes> attributesCopies = new ArrayList<>();
 
   static {
     for (int i = 0; i < 10; i++) {
@@ -36,6 +38,12 @@ public class AttributesBenchmark {
         builder.put(keys.get(j), values.get(j));
       }
       attributes.add(builder.build());
+      attributesCopies.add(builder.build());
+    }
+    // Cache the hash codes, as done by any map the attributes are used as keys of
+    for (int i = 0; i < attributes.size(); i++) {
+      attributes.get(i).hashCode();
+      attributesCopies.get(i).hashCode();
     }
   }
 
@@ -52,6 +60,44 @@ public class AttributesBenchmark {
     }
   }
 
+  @Benchmark
+  @BenchmarkMode({Mode.AverageTime})
+  @Fork(1)
+  @Measurement(iterations = 15, time = 1)
+  @OutputTimeUnit(TimeUnit.NANOSECONDS)
+  @Warmup(iterations = 5, time = 1)
+  public int computeHashCodeNewInstance() {
+    return Attributes.of(keys.get(0), values.get(0), keys.get(1), values.get(1)).hashCode();
+  }
+
+  @Benchmark
+  @BenchmarkMode({Mode.AverageTime})
+  @Fork(1)
+  @Measurement(iterations = 15, time = 1)
+  @OutputTimeUnit(TimeUnit.NANOSECONDS)
+  @Warmup(iterations = 5, time = 1)
+  public boolean equalsEqualInstances() {
+    boolean result = true;
+    for (int i = 0; i < attributes.size(); i++) {
+      result &= attributes.get(i).equals(attributesCopies.get(i));
+    }
+    return result;
+  }
+
+  @Benchmark
+  @BenchmarkMode({Mode.AverageTime})
+  @Fork(1)
+  @Measurement(iterations = 15, time = 1)
+  @OutputTimeUnit(TimeUnit.NANOSECONDS)
+  @Warmup(iterations = 5, time = 1)
+  public boolean equalsUnequalInstances() {
+    boolean result = false;
+    for (int i = 1; i < attributes.size(); i++) {
+      result |= attributes.get(i).equals(attributesCopies.get(i - 1));
+    }
+    return result;
+  }
+
   @Benchmark
   @BenchmarkMode({Mode.AverageTime})
   @Fork(1)
@@ -0,0 +1,256 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.api.internal;
+
+import io.opentelemetry.api.trace.SpanContext;
+import io.opentelemetry.api.trace.SpanId;
+import io.opentelemetry.api.trace.TraceFlags;
+import io.opentelemetry.api.trace.TraceId;
+import io.opentelemetry.api.trace.TraceState;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * A {@link SpanContext} keeping the trace ID as two {@code long}s and the span ID as one, which
+ * renders the hex form of an ID only the first time it is asked for.
+ *
+ * <p>Spans created by the SDK and contexts extracted by the W3C propagator use this
+ * representation, so that exporters and propagators reading the IDs through {@link
+ * SpanContext#getTraceIdHigh()}, {@link SpanContext#getTraceIdLow()}, {@link
+ * SpanContext#getSpanIdAsLong()} or the byte accessors never allocate hex strings.
+ *
+ * <p>It is equal to, and has the same hash code as, an {@link ImmutableSpanContext} holding the
+ * same IDs in hex form.
+ *
+ * <p>This class is internal and is hence not for public use. Its APIs are unstable and can change
+ * at any time.
+ */
+@Immutable
+public final class BinarySpanContext extends ImmutableSpanContext {
+
+  private final long traceIdHigh;
+  private final long traceIdLow;
+  private final long spanId;
+  private final TraceFlags traceFlags;
+  private final TraceState traceState;
+  private final boolean remote;
+
+  // Rendered lazily. Racing threads render equal strings, so a benign data race like the one of
+  // String#hashCode.
+  @Nullable private String traceIdHex;
+  @Nullable private String spanIdHex;
+
+  /**
+   * Creates a new {@code SpanContext} with the given binary identifiers and options.
+   *
+   * <p>If the trace ID or the span ID is invalid (i.e. all zeros), returns an invalid {@code
+   * SpanContext} instead, see {@link ImmutableSpanContext#create}.
+   *
+   * @param traceIdHigh the higher 64 bits of the trace identifier.
+   * @param traceIdLow the lower 64 bits of the trace identifier.
+   * @param traceIdHex the hex form of the trace identifier if it is already known, e.g. from the
+   *     parent span, or {@code null} to render it lazily.
+   * @param spanId the span identifier.
+   * @param traceFlags the trace flags of the {@code SpanContext}.
+   * @param traceState the trace state for the {@code SpanContext}.
+   * @param remote the remote flag for the {@code SpanContext}.
+   * @return a new {@code SpanContext} with the given identifiers and options.
+   */
+  public static SpanContext create(
+      long traceIdHigh,
+      long traceIdLow,
+      @Nullable String traceIdHex,
+      long spanId,
+      TraceFlags traceFlags,
+      TraceState traceState,
+      boolean remote) {
+    if ((traceIdHigh == 0 && traceIdLow == 0) || spanId == 0) {
+      return ImmutableSpanContext.create(
+          TraceId.getInvalid(),
+          SpanId.getInvalid(),
+          traceFlags,
+          traceState,
+          remote,
+          /* skipIdValidation= */ false);
+    }
+    return new BinarySpanContext(
+        traceIdHigh, traceIdLow, traceIdHex, spanId, traceFlags, traceState, remote);
+  }
+
+  private BinarySpanContext(
+      long traceIdHigh,
+      long traceIdLow,
+      @Nullable String traceIdHex,
+      long spanId,
+      TraceFlags traceFlags,
+      TraceState traceState,
+      boolean remote) {
+    this.traceIdHigh = traceIdHigh;
+    this.traceIdLow = traceIdLow;
+    this.traceIdHex = traceIdHex;
+    this.spanId = spanId;
+    this.traceFlags = traceFlags;
+    this.traceState = traceState;
+    this.remote = remote;
+  }
+
+  @Override
+  public String getTraceId() {
+    String traceIdHex = this.traceIdHex;
+    if (traceIdHex == null) {
+      traceIdHex = TraceId.fromLongs(traceIdHigh, traceIdLow);
+      this.traceIdHex = traceIdHex;
+    }
+    return traceIdHex;
+  }
+
+  @Override
+  public byte[] getTraceIdBytes() {
+    byte[] bytes = new byte[TraceId.getLength() / 2];
+    writeLong(traceIdHigh, bytes, 0);
+    writeLong(traceIdLow, bytes, OtelEncodingUtils.LONG_BYTES);
+    return bytes;
+  }
+
+  @Override
+  public long getTraceIdHigh() {
+    return traceIdHigh;
+  }
+
+  @Override
+  public long getTraceIdLow() {
+    return traceIdLow;
+  }
+
+  @Override
+  public String getSpanId() {
+    String spanIdHex = this.spanIdHex;
+    if (spanIdHex == null) {
+      spanIdHex = SpanId.fromLong(spanId);
+      this.spanIdHex = spanIdHex;
+    }
+    return spanIdHex;
+  }
+
+  @Override
+  public byte[] getSpanIdBytes() {
+    byte[] bytes = new byte[SpanId.getLength() / 2];
+    writeLong(spanId, bytes, 0);
+    return bytes;
+  }
+
+  @Override
+  public long getSpanIdAsLong() {
+    return spanId;
+  }
+
+  @Override
+  public TraceFlags getTraceFlags() {
+    return traceFlags;
+  }
+
+  @Override
+  public TraceState getTraceState() {
+    return traceState;
+  }
+
+  @Override
+  public boolean isRemote() {
+    return remote;
+  }
+
+  @Override
+  public boolean isValid() {
+    return true;
+  }
+
+  @Override
+  public String toString() {
+    return "ImmutableSpanContext{"
+        + "traceId="
+        + getTraceId()
+        + ", "
+        + "spanId="
+        + getSpanId()
+        + ", "
+        + "traceFlags="
+        + traceFlags
+        + ", "
+        + "traceState="
+        + traceState
+        + ", "
+        + "remote="
+        + remote
+        + ", "
+        + "valid="
+        + true
+        + "}";
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (o == this) {
+      return true;
+    }
+    if (o instanceof BinarySpanContext) {
+      BinarySpanContext that = (BinarySpanContext) o;
+      return traceIdHigh == that.traceIdHigh
+          && traceIdLow == that.traceIdLow
+          && spanId == that.spanId
+          && traceFlags.equals(that.traceFlags)
+          && traceState.equals(that.traceState)
+          && remote == that.remote;
+    }
+    if (o instanceof ImmutableSpanContext) {
+      ImmutableSpanContext that = (ImmutableSpanContext) o;
+      return that.isValid()
+          && getTraceId().equals(that.getTraceId())
+          && getSpanId().equals(that.getSpanId())
+          && traceFlags.equals(that.getTraceFlags())
+          && traceState.equals(that.getTraceState())
+          && remote == that.isRemote();
+    }
+    return false;
+  }
+
+  @Override
+  public int hashCode() {
+    // Same as the hash code of an ImmutableSpanContext with the hex IDs, without rendering them
+    int h = 1;
+    h *= 1000003;
+    h ^= hexHashCode(traceIdLow, hexHashCode(traceIdHigh, 0));
+    h *= 1000003;
+    h ^= hexHashCode(spanId, 0);
+    h *= 1000003;
+    h ^= traceFlags.hashCode();
+    h *= 1000003;
+    h ^= traceState.hashCode();
+    h *= 1000003;
+    h ^= remote ? 1231 : 1237;
+    h *= 1000003;
+    h ^= 1231; // valid
+    return h;
+  }
+
+  /**
+   * Continues the {@link String#hashCode()} computation from {@code hash} over the 16 lowercase
+   * hex chars of {@code value}.
+   */
+  private static int hexHashCode(long value, int hash) {
+    for (int shift = 60; shift >= 0; shift -= 4) {
+      int digit = (int) (value >>> shift) & 0xF;
+      hash = 31 * hash + (digit < 10 ? '0' + digit : 'a' + digit - 10);
+    }
+    return hash;
+  }
+
+  private static void writeLong(long value, byte[] dest, int destOffset) {
+    for (int i = OtelEncodingUtils.LONG_BYTES - 1; i >= 0; i--) {
+      dest[destOffset + i] = (byte) value;
+      value >>>= 8;
+    }
+  }
+}
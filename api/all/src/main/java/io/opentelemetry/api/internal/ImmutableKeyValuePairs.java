@@ -243,6 +243,13 @@ public abstract class ImmutableKeyValuePairs<K, V> {
       return false;
     }
     ImmutableKeyValuePairs<?, ?> that = (ImmutableKeyValuePairs<?, ?>) o;
+    // Instances used as map keys have their hash cached already, which tells most unequal ones
+    // apart without comparing the data
+    int hashcode = this.hashcode;
+    int thatHashcode = that.hashcode;
+    if (hashcode != 0 && thatHashcode != 0 && hashcode != thatHashcode) {
+      return false;
+    }
     return Arrays.equals(this.data, that.data);
   }
 
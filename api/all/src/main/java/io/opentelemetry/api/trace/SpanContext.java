@@ -103,6 +103,26 @@ public interface SpanContext {
     return OtelEncodingUtils.bytesFromBase16(getTraceId(), TraceId.getLength());
   }
 
+  /**
+   * Returns the higher 64 bits of the trace identifier associated with this {@link SpanContext},
+   * i.e. its first 8 bytes read in big-endian order.
+   *
+   * @return the higher 64 bits of the trace identifier associated with this {@link SpanContext}.
+   */
+  default long getTraceIdHigh() {
+    return OtelEncodingUtils.longFromBase16String(getTraceId(), 0);
+  }
+
+  /**
+   * Returns the lower 64 bits of the trace identifier associated with this {@link SpanContext},
+   * i.e. its last 8 bytes read in big-endian order.
+   *
+   * @return the lower 64 bits of the trace identifier associated with this {@link SpanContext}.
+   */
+  default long getTraceIdLow() {
+    return OtelEncodingUtils.longFromBase16String(getTraceId(), TraceId.getLength() / 2);
+  }
+
   /**
    * Returns the span identifier associated with this {@link SpanContext} as 16 character lowercase
    * hex String.
@@ -121,6 +141,16 @@ public interface SpanContext {
     return OtelEncodingUtils.bytesFromBase16(getSpanId(), SpanId.getLength());
   }
 
+  /**
+   * Returns the span identifier associated with this {@link SpanContext} as a {@code long}, i.e.
+   * its 8 bytes read in big-endian order.
+   *
+   * @return the span identifier associated with this {@link SpanContext} as a {@code long}.
+   */
+  default long getSpanIdAsLong() {
+    return OtelEncodingUtils.longFromBase16String(getSpanId(), 0);
+  }
+
   /** Whether the span in this context is sampled. */
   default boolean isSampled() {
     return getTraceFlags().isSampled();
@@ -8,6 +8,7 @@ package io.opentelemetry.api.trace.propagation;
 import static io.opentelemetry.api.trace.propagation.internal.W3CTraceContextEncoding.decodeTraceState;
 import static io.opentelemetry.api.trace.propagation.internal.W3CTraceContextEncoding.encodeTraceState;
 
+import io.opentelemetry.api.internal.BinarySpanContext;
 import io.opentelemetry.api.internal.OtelEncodingUtils;
 import io.opentelemetry.api.internal.TemporaryBuffers;
 import io.opentelemetry.api.trace.Span;
@@ -108,13 +109,14 @@ public final class W3CTraceContextPropagator implements TextMapPropagator {
     chars[1] = VERSION.charAt(1);
     chars[2] = TRACEPARENT_DELIMITER;
 
-    String traceId = spanContext.getTraceId();
-    traceId.getChars(0, traceId.length(), chars, TRACE_ID_OFFSET);
+    // Render the IDs straight from their binary form, without going through hex strings
+    OtelEncodingUtils.longToBase16String(spanContext.getTraceIdHigh(), chars, TRACE_ID_OFFSET);
+    OtelEncodingUtils.longToBase16String(
+        spanContext.getTraceIdLow(), chars, TRACE_ID_OFFSET + TRACE_ID_HEX_SIZE / 2);
 
     chars[SPAN_ID_OFFSET - 1] = TRACEPARENT_DELIMITER;
 
-    String spanId = spanContext.getSpanId();
-    spanId.getChars(0, spanId.length(), chars, SPAN_ID_OFFSET);
+    OtelEncodingUtils.longToBase16String(spanContext.getSpanIdAsLong(), chars, SPAN_ID_OFFSET);
 
     chars[TRACE_OPTION_OFFSET - 1] = TRACEPARENT_DELIMITER;
     String traceFlagsHex = spanContext.getTraceFlags().asHex();
@@ -164,11 +166,14 @@ public final class W3CTraceContextPropagator implements TextMapPropagator {
 
     try {
       TraceState traceState = decodeTraceState(traceStateHeader);
-      return SpanContext.createFromRemoteParent(
-          contextFromParentHeader.getTraceId(),
-          contextFromParentHeader.getSpanId(),
+      return BinarySpanContext.create(
+          contextFromParentHeader.getTraceIdHigh(),
+          contextFromParentHeader.getTraceIdLow(),
+          /* traceIdHex= */ null,
+          contextFromParentHeader.getSpanIdAsLong(),
           contextFromParentHeader.getTraceFlags(),
-          traceState);
+          traceState,
+          /* remote= */ true);
     } catch (IllegalArgumentException e) {
       logger.fine("Unparseable tracestate header. Returning span context without state.");
       return contextFromParentHeader;
@@ -198,8 +203,10 @@ public final class W3CTraceContextPropagator implements TextMapPropagator {
       return SpanContext.getInvalid();
     }
 
-    String traceId = traceparent.substring(TRACE_ID_OFFSET, TRACE_ID_OFFSET + TraceId.getLength());
-    String spanId = traceparent.substring(SPAN_ID_OFFSET, SPAN_ID_OFFSET + SpanId.getLength());
+    if (!isValidBase16(traceparent, TRACE_ID_OFFSET, TRACE_ID_HEX_SIZE)
+        || !isValidBase16(traceparent, SPAN_ID_OFFSET, SPAN_ID_HEX_SIZE)) {
+      return SpanContext.getInvalid();
+    }
     char firstTraceFlagsChar = traceparent.charAt(TRACE_OPTION_OFFSET);
     char secondTraceFlagsChar = traceparent.charAt(TRACE_OPTION_OFFSET + 1);
 
@@ -211,7 +218,25 @@ public final class W3CTraceContextPropagator implements TextMapPropagator {
     TraceFlags traceFlags =
         TraceFlags.fromByte(
             OtelEncodingUtils.byteFromBase16(firstTraceFlagsChar, secondTraceFlagsChar));
-    return SpanContext.createFromRemoteParent(traceId, spanId, traceFlags, TraceState.getDefault());
+    // Parse the IDs in place, the hex strings are only rendered if asked for
+    return BinarySpanContext.create(
+        OtelEncodingUtils.longFromBase16String(traceparent, TRACE_ID_OFFSET),
+        OtelEncodingUtils.longFromBase16String(
+            traceparent, TRACE_ID_OFFSET + TRACE_ID_HEX_SIZE / 2),
+        /* traceIdHex= */ null,
+        OtelEncodingUtils.longFromBase16String(traceparent, SPAN_ID_OFFSET),
+        traceFlags,
+        TraceState.getDefault(),
+        /* remote= */ true);
+  }
+
+  private static boolean isValidBase16(String value, int offset, int length) {
+    for (int i = offset; i < offset + length; i++) {
+      if (!OtelEncodingUtils.isValidBase16Character(value.charAt(i))) {
+        return false;
+      }
+    }
+    return true;
   }
 
   @Override
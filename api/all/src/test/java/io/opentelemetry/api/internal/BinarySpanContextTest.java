@@ -0,0 +1,149 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.api.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.opentelemetry.api.trace.SpanContext;
+import io.opentelemetry.api.trace.SpanId;
+import io.opentelemetry.api.trace.TraceFlags;
+import io.opentelemetry.api.trace.TraceId;
+import io.opentelemetry.api.trace.TraceState;
+import org.junit.jupiter.api.Test;
+
+class BinarySpanContextTest {
+  private static final long TRACE_ID_HIGH = 0x0af7651916cd43ddL;
+  private static final long TRACE_ID_LOW = 0x8448eb211c80319cL;
+  private static final long SPAN_ID = 0xb7ad6b7169203331L;
+  private static final String TRACE_ID = "0af7651916cd43dd8448eb211c80319c";
+  private static final String SPAN_ID_HEX = "b7ad6b7169203331";
+  private static final TraceState TRACE_STATE = TraceState.builder().put("foo", "bar").build();
+
+  @Test
+  void ids() {
+    SpanContext spanContext =
+        BinarySpanContext.create(
+            TRACE_ID_HIGH,
+            TRACE_ID_LOW,
+            /* traceIdHex= */ null,
+            SPAN_ID,
+            TraceFlags.getSampled(),
+            TRACE_STATE,
+            /* remote= */ false);
+
+    assertThat(spanContext.isValid()).isTrue();
+    assertThat(spanContext.getTraceIdHigh()).isEqualTo(TRACE_ID_HIGH);
+    assertThat(spanContext.getTraceIdLow()).isEqualTo(TRACE_ID_LOW);
+    assertThat(spanContext.getSpanIdAsLong()).isEqualTo(SPAN_ID);
+    assertThat(spanContext.getTraceIdBytes())
+        .isEqualTo(OtelEncodingUtils.bytesFromBase16(TRACE_ID, TraceId.getLength()));
+    assertThat(spanContext.getSpanIdBytes())
+        .isEqualTo(OtelEncodingUtils.bytesFromBase16(SPAN_ID_HEX, SpanId.getLength()));
+    assertThat(spanContext.getTraceId()).isEqualTo(TRACE_ID);
+    assertThat(spanContext.getSpanId()).isEqualTo(SPAN_ID_HEX);
+    // Rendered once
+    assertThat(spanContext.getTraceId()).isSameAs(spanContext.getTraceId());
+    assertThat(spanContext.getSpanId()).isSameAs(spanContext.getSpanId());
+  }
+
+  @Test
+  void knownTraceIdHex() {
+    SpanContext spanContext =
+        BinarySpanContext.create(
+            TRACE_ID_HIGH,
+            TRACE_ID_LOW,
+            TRACE_ID,
+            SPAN_ID,
+            TraceFlags.getSampled(),
+            TraceState.getDefault(),
+            /* remote= */ false);
+
+    assertThat(spanContext.getTraceId()).isSameAs(TRACE_ID);
+  }
+
+  @Test
+  void invalidIds() {
+    assertThat(
+            BinarySpanContext.create(
+                    0,
+                    0,
+                    /* traceIdHex= */ null,
+                    SPAN_ID,
+                    TraceFlags.getDefault(),
+                    TraceState.getDefault(),
+                    /* remote= */ false)
+                .isValid())
+        .isFalse();
+    assertThat(
+            BinarySpanContext.create(
+                    TRACE_ID_HIGH,
+                    TRACE_ID_LOW,
+                    /* traceIdHex= */ null,
+                    0,
+                    TraceFlags.getDefault(),
+                    TraceState.getDefault(),
+                    /* remote= */ false)
+                .isValid())
+        .isFalse();
+    // Only one half of the trace ID needs to be set
+    assertThat(
+            BinarySpanContext.create(
+                    0,
+                    TRACE_ID_LOW,
+                    /* traceIdHex= */ null,
+                    SPAN_ID,
+                    TraceFlags.getDefault(),
+                    TraceState.getDefault(),
+                    /* remote= */ false)
+                .isValid())
+        .isTrue();
+  }
+
+  @Test
+  void equalsImmutableSpanContext() {
+    SpanContext binary =
+        BinarySpanContext.create(
+            TRACE_ID_HIGH,
+            TRACE_ID_LOW,
+            /* traceIdHex= */ null,
+            SPAN_ID,
+            TraceFlags.getSampled(),
+            TRACE_STATE,
+            /* remote= */ true);
+    SpanContext hex =
+        SpanContext.createFromRemoteParent(
+            TRACE_ID, SPAN_ID_HEX, TraceFlags.getSampled(), TRACE_STATE);
+
+    assertThat(binary).isEqualTo(hex);
+    assertThat(hex).isEqualTo(binary);
+    assertThat(binary.hashCode()).isEqualTo(hex.hashCode());
+    assertThat(binary.toString()).isEqualTo(hex.toString());
+    assertThat(binary)
+        .isEqualTo(
+            BinarySpanContext.create(
+                TRACE_ID_HIGH,
+                TRACE_ID_LOW,
+                /* traceIdHex= */ null,
+                SPAN_ID,
+                TraceFlags.getSampled(),
+                TRACE_STATE,
+                /* remote= */ true));
+
+    assertThat(binary)
+        .isNotEqualTo(
+            SpanContext.create(TRACE_ID, SPAN_ID_HEX, TraceFlags.getSampled(), TRACE_STATE));
+    assertThat(binary)
+        .isNotEqualTo(
+            BinarySpanContext.create(
+                TRACE_ID_HIGH,
+                TRACE_ID_LOW + 1,
+                /* traceIdHex= */ null,
+                SPAN_ID,
+                TraceFlags.getSampled(),
+                TRACE_STATE,
+                /* remote= */ true));
+  }
+}
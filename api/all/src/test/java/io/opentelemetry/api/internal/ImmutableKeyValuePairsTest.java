@@ -56,6 +56,20 @@ class ImmutableKeyValuePairsTest {
     assertThat(new TestPairs(new Object[] {"one", 55, "two", "b"}).isEmpty()).isFalse();
   }
 
+  @Test
+  void equalsWithCachedHashCode() {
+    TestPairs one = new TestPairs(new Object[] {"one", 55});
+    TestPairs sameAsOne = new TestPairs(new Object[] {"one", 55});
+    TestPairs two = new TestPairs(new Object[] {"two", 55});
+    assertThat(one).isEqualTo(sameAsOne).isNotEqualTo(two);
+
+    // Cache the hash codes, equality must not change
+    assertThat(one.hashCode()).isEqualTo(sameAsOne.hashCode()).isNotEqualTo(two.hashCode());
+    assertThat(one).isEqualTo(sameAsOne).isNotEqualTo(two);
+    assertThat(sameAsOne).isEqualTo(one);
+    assertThat(two).isNotEqualTo(one);
+  }
+
   @Test
   void toStringIsHumanReadable() {
     assertThat(new TestPairs(new Object[0]).toString()).isEqualTo("{}");
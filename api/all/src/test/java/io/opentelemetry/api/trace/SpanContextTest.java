@@ -70,6 +70,16 @@ class SpanContextTest {
     assertThat(second.getSpanId()).isEqualTo(SECOND_SPAN_ID);
   }
 
+  @Test
+  void getIdsAsLongs() {
+    assertThat(first.getTraceIdHigh()).isEqualTo(0);
+    assertThat(first.getTraceIdLow()).isEqualTo(0x61);
+    assertThat(first.getSpanIdAsLong()).isEqualTo(0x61);
+    assertThat(second.getTraceIdHigh()).isEqualTo(0x30);
+    assertThat(second.getTraceIdLow()).isEqualTo(0);
+    assertThat(second.getSpanIdAsLong()).isEqualTo(0x3000000000000000L);
+  }
+
   @Test
   void getTraceFlags() {
     assertThat(first.getTraceFlags()).isEqualTo(TraceFlags.getDefault());
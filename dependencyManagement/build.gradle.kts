@@ -54,6 +54,7 @@ val DEPENDENCIES = listOf(
   "io.prometheus:simpleclient_common:${prometheusClientVersion}",
   "io.prometheus:simpleclient_httpserver:${prometheusClientVersion}",
   "javax.annotation:javax.annotation-api:1.3.2",
+  "com.github.luben:zstd-jni:1.5.5-6",
   "com.github.stefanbirkner:system-rules:1.19.0",
   "com.google.api.grpc:proto-google-common-protos:2.25.1",
   "com.google.code.findbugs:jsr305:3.0.2",
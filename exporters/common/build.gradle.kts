@@ -22,12 +22,16 @@ dependencies {
   // dependency on all of our consumers.
   compileOnly("com.fasterxml.jackson.core:jackson-core")
   compileOnly("io.grpc:grpc-stub")
+  // zstd compression is enabled when zstd-jni is on the classpath.
+  compileOnly("com.github.luben:zstd-jni")
 
   testImplementation(project(":sdk:common"))
+  testImplementation(project(":sdk:testing"))
 
   testImplementation("com.google.protobuf:protobuf-java-util")
   testImplementation("com.linecorp.armeria:armeria-junit5")
   testImplementation("org.skyscreamer:jsonassert")
+  testImplementation("com.github.luben:zstd-jni")
   testImplementation("com.google.api.grpc:proto-google-common-protos")
   testImplementation("io.grpc:grpc-testing")
   testRuntimeOnly("io.grpc:grpc-netty-shaded")
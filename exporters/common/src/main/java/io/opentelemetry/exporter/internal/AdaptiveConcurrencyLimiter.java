@@ -0,0 +1,208 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.exporter.internal;
+
+import io.opentelemetry.sdk.common.Clock;
+import io.opentelemetry.sdk.internal.DaemonThreadFactory;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Limits the number of concurrent export requests with an additive-increase/multiplicative-decrease
+ * (AIMD) limit. The limit grows by one for every {@code limit} successful requests, shrinks when
+ * request latency rises well above the lowest latency recently seen, and halves when the backend
+ * signals overload, e.g. with a {@code 429} or {@code RESOURCE_EXHAUSTED} response. A backend
+ * asking to back off for a given time, with {@code Retry-After} or {@code grpc-retry-pushback-ms},
+ * also pauses sending new requests until then.
+ *
+ * <p>Requests beyond the limit wait in a FIFO queue of bounded size. Every request passed to {@link
+ * #execute(Runnable)} must report its outcome with exactly one of {@link #onSuccess(long)}, {@link
+ * #onOverload(long)} or {@link #onFailure()}.
+ *
+ * <p>This class is internal and is hence not for public use. Its APIs are unstable and can change
+ * at any time.
+ */
+public final class AdaptiveConcurrencyLimiter {
+
+  private static final double LATENCY_TOLERANCE = 2.0;
+  private static final double LATENCY_BACKOFF_RATIO = 0.9;
+  private static final double OVERLOAD_BACKOFF_RATIO = 0.5;
+  // The baseline drifts up slowly so it follows a backend that got permanently slower.
+  private static final double BASELINE_DRIFT = 0.01;
+  private static final long MAX_PAUSE_NANOS = TimeUnit.SECONDS.toNanos(30);
+  private static final int MAX_QUEUED_PER_PERMIT = 32;
+
+  private final int maxLimit;
+  private final int maxQueued;
+  private final Clock clock;
+  private final ScheduledExecutorService scheduler;
+
+  private final Deque<Runnable> queue = new ArrayDeque<>();
+  private double limit;
+  private int inFlight;
+  private long baselineLatencyNanos = -1;
+  private boolean paused;
+  private long pausedUntilNanos;
+  private boolean resumeScheduled;
+  private boolean isShutdown;
+
+  /** Creates a limiter allowing at most {@code maxLimit} concurrent requests, starting at one. */
+  public static AdaptiveConcurrencyLimiter create(String type, int maxLimit) {
+    return new AdaptiveConcurrencyLimiter(
+        maxLimit,
+        Clock.getDefault(),
+        Executors.newSingleThreadScheduledExecutor(
+            new DaemonThreadFactory("otel-" + type + "-concurrency-limiter")));
+  }
+
+  // Visible for testing
+  AdaptiveConcurrencyLimiter(int maxLimit, Clock clock, ScheduledExecutorService scheduler) {
+    if (maxLimit < 1) {
+      throw new IllegalArgumentException("maxLimit must be positive");
+    }
+    this.maxLimit = maxLimit;
+    this.maxQueued = maxLimit * MAX_QUEUED_PER_PERMIT;
+    this.clock = clock;
+    this.scheduler = scheduler;
+    this.limit = 1;
+  }
+
+  /**
+   * Runs {@code request} once the limit allows it, on the calling thread or the thread completing a
+   * previous request. Returns {@code false} if the request was not accepted because too many
+   * requests are queued or the limiter is shut down.
+   */
+  public boolean execute(Runnable request) {
+    synchronized (this) {
+      if (isShutdown || queue.size() >= maxQueued) {
+        return false;
+      }
+      queue.addLast(request);
+    }
+    dispatch();
+    return true;
+  }
+
+  /** Reports a request completed successfully after {@code latencyNanos}. */
+  public void onSuccess(long latencyNanos) {
+    synchronized (this) {
+      inFlight--;
+      if (baselineLatencyNanos < 0 || latencyNanos < baselineLatencyNanos) {
+        baselineLatencyNanos = latencyNanos;
+      } else {
+        baselineLatencyNanos += (long) ((latencyNanos - baselineLatencyNanos) * BASELINE_DRIFT);
+      }
+      if (latencyNanos > baselineLatencyNanos * LATENCY_TOLERANCE) {
+        limit = Math.max(1, limit * LATENCY_BACKOFF_RATIO);
+      } else {
+        limit = Math.min(maxLimit, limit + 1 / limit);
+      }
+    }
+    dispatch();
+  }
+
+  /**
+   * Reports the backend rejected a request because it is overloaded. New requests are held back
+   * for {@code pushbackNanos} if it is positive, as requested by the backend.
+   */
+  public void onOverload(long pushbackNanos) {
+    synchronized (this) {
+      inFlight--;
+      limit = Math.max(1, limit * OVERLOAD_BACKOFF_RATIO);
+      if (pushbackNanos > 0) {
+        long until = clock.nanoTime() + Math.min(pushbackNanos, MAX_PAUSE_NANOS);
+        // Compared by difference since nano times may overflow.
+        if (!paused || until - pausedUntilNanos > 0) {
+          pausedUntilNanos = until;
+          paused = true;
+        }
+      }
+    }
+    dispatch();
+  }
+
+  /** Reports a request failed for a reason unrelated to the backend load. */
+  public void onFailure() {
+    synchronized (this) {
+      inFlight--;
+    }
+    dispatch();
+  }
+
+  /** Returns the current concurrency limit. */
+  public synchronized int getLimit() {
+    return (int) limit;
+  }
+
+  /**
+   * Stops limiting requests. Queued requests are run right away so they complete, new requests are
+   * not accepted.
+   */
+  public void shutdown() {
+    List<Runnable> queued;
+    synchronized (this) {
+      isShutdown = true;
+      queued = new ArrayList<>(queue);
+      queue.clear();
+    }
+    scheduler.shutdown();
+    for (Runnable request : queued) {
+      request.run();
+    }
+  }
+
+  private void dispatch() {
+    List<Runnable> ready = new ArrayList<>();
+    synchronized (this) {
+      if (isShutdown) {
+        return;
+      }
+      if (paused) {
+        long pauseNanos = pausedUntilNanos - clock.nanoTime();
+        if (pauseNanos > 0) {
+          scheduleResume(pauseNanos);
+          return;
+        }
+        paused = false;
+      }
+      while (inFlight < (int) limit && !queue.isEmpty()) {
+        ready.add(queue.pollFirst());
+        inFlight++;
+      }
+    }
+    // Run outside the lock, requests may complete synchronously.
+    for (Runnable request : ready) {
+      request.run();
+    }
+  }
+
+  private void scheduleResume(long delayNanos) {
+    if (resumeScheduled) {
+      return;
+    }
+    resumeScheduled = true;
+    try {
+      scheduler.schedule(
+          () -> {
+            synchronized (this) {
+              resumeScheduled = false;
+            }
+            dispatch();
+          },
+          delayNanos,
+          TimeUnit.NANOSECONDS);
+    } catch (RejectedExecutionException e) {
+      // Shutting down.
+      resumeScheduled = false;
+    }
+  }
+}
@@ -10,9 +10,15 @@ import static io.opentelemetry.api.common.AttributeKey.stringKey;
 
 import io.opentelemetry.api.common.AttributeKey;
 import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.internal.GuardedBy;
 import io.opentelemetry.api.metrics.LongCounter;
 import io.opentelemetry.api.metrics.Meter;
 import io.opentelemetry.api.metrics.MeterProvider;
+import io.opentelemetry.api.metrics.ObservableLongGauge;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
 import java.util.function.Supplier;
 import javax.annotation.Nullable;
 
@@ -26,6 +32,7 @@ public class ExporterMetrics {
 
   private static final AttributeKey<String> ATTRIBUTE_KEY_TYPE = stringKey("type");
   private static final AttributeKey<Boolean> ATTRIBUTE_KEY_SUCCESS = booleanKey("success");
+  private static final AttributeKey<String> ATTRIBUTE_KEY_STATE = stringKey("state");
 
   private final Supplier<MeterProvider> meterProviderSupplier;
   private final String exporterName;
@@ -33,6 +40,8 @@ public class ExporterMetrics {
   private final Attributes seenAttrs;
   private final Attributes successAttrs;
   private final Attributes failedAttrs;
+  private final Attributes activeAttrs;
+  private final Attributes idleAttrs;
 
   /** Access via {@link #seen()}. */
   @Nullable private volatile LongCounter seen;
@@ -40,6 +49,19 @@ public class ExporterMetrics {
   /** Access via {@link #exported()} . */
   @Nullable private volatile LongCounter exported;
 
+  private final Object lock = new Object();
+
+  /** Gauges registered with the first counter, see {@link #seen()}. */
+  @GuardedBy("lock")
+  private final List<Function<Meter, ObservableLongGauge>> gauges = new ArrayList<>();
+
+  /** The gauges registered with the meter, closed by {@link #close()}. */
+  @GuardedBy("lock")
+  private final List<ObservableLongGauge> registeredGauges = new ArrayList<>();
+
+  @GuardedBy("lock")
+  private boolean gaugesRegistered;
+
   private ExporterMetrics(
       Supplier<MeterProvider> meterProviderSupplier,
       String exporterName,
@@ -51,6 +73,8 @@ public class ExporterMetrics {
     this.seenAttrs = Attributes.builder().put(ATTRIBUTE_KEY_TYPE, type).build();
     this.successAttrs = this.seenAttrs.toBuilder().put(ATTRIBUTE_KEY_SUCCESS, true).build();
     this.failedAttrs = this.seenAttrs.toBuilder().put(ATTRIBUTE_KEY_SUCCESS, false).build();
+    this.activeAttrs = this.seenAttrs.toBuilder().put(ATTRIBUTE_KEY_STATE, "active").build();
+    this.idleAttrs = this.seenAttrs.toBuilder().put(ATTRIBUTE_KEY_STATE, "idle").build();
   }
 
   /** Record number of records seen. */
@@ -68,10 +92,90 @@ public class ExporterMetrics {
     exported().add(value, failedAttrs);
   }
 
+  /**
+   * Record the concurrency limit of the exporter, observed from {@code limit} by the gauge {@code
+   * exporterName + ".exporter.concurrency.limit"}. Must be called before recording any records.
+   */
+  public void registerConcurrencyLimit(LongSupplier limit) {
+    addGauge(
+        meter ->
+            meter
+                .gaugeBuilder(exporterName + ".exporter.concurrency.limit")
+                .ofLongs()
+                .buildWithCallback(
+                    measurement -> measurement.record(limit.getAsLong(), seenAttrs)));
+  }
+
+  /**
+   * Record the connections of the exporter, observed by the gauge {@code exporterName +
+   * ".exporter.connections"} with a {@code state} of {@code active} or {@code idle}. Must be called
+   * before recording any records.
+   */
+  public void registerConnections(LongSupplier openConnections, LongSupplier idleConnections) {
+    addGauge(
+        meter ->
+            meter
+                .gaugeBuilder(exporterName + ".exporter.connections")
+                .ofLongs()
+                .buildWithCallback(
+                    measurement -> {
+                      long open = openConnections.getAsLong();
+                      long idle = idleConnections.getAsLong();
+                      measurement.record(Math.max(0, open - idle), activeAttrs);
+                      measurement.record(idle, idleAttrs);
+                    }));
+  }
+
+  /**
+   * Record the requests in flight of the exporter, observed by the gauge {@code exporterName +
+   * ".exporter.requests.active"}. Must be called before recording any records.
+   */
+  public void registerActiveRequests(LongSupplier activeRequests) {
+    addGauge(
+        meter ->
+            meter
+                .gaugeBuilder(exporterName + ".exporter.requests.active")
+                .ofLongs()
+                .buildWithCallback(
+                    measurement -> measurement.record(activeRequests.getAsLong(), seenAttrs)));
+  }
+
+  /** Unregister the gauges of the exporter, which is shut down. */
+  public void close() {
+    synchronized (lock) {
+      // Gauges are not registered anymore if the first records are recorded after the shutdown
+      gaugesRegistered = true;
+      for (ObservableLongGauge gauge : registeredGauges) {
+        gauge.close();
+      }
+      registeredGauges.clear();
+    }
+  }
+
+  private void addGauge(Function<Meter, ObservableLongGauge> gauge) {
+    synchronized (lock) {
+      gauges.add(gauge);
+    }
+  }
+
+  private void registerGauges(Meter meter) {
+    synchronized (lock) {
+      if (gaugesRegistered) {
+        return;
+      }
+      gaugesRegistered = true;
+      for (Function<Meter, ObservableLongGauge> gauge : gauges) {
+        registeredGauges.add(gauge.apply(meter));
+      }
+    }
+  }
+
   private LongCounter seen() {
     LongCounter seen = this.seen;
     if (seen == null) {
-      seen = meter().counterBuilder(exporterName + ".exporter.seen").build();
+      Meter meter = meter();
+      seen = meter.counterBuilder(exporterName + ".exporter.seen").build();
+      registerGauges(meter);
       this.seen = seen;
     }
     return seen;
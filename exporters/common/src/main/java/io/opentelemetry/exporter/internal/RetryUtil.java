@@ -6,11 +6,16 @@
 package io.opentelemetry.exporter.internal;
 
 import io.opentelemetry.exporter.internal.grpc.GrpcExporterUtil;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
+import javax.annotation.Nullable;
 
 /**
  * This class is internal and is hence not for public use. Its APIs are unstable and can change at
@@ -47,4 +52,52 @@ public final class RetryUtil {
   public static Set<Integer> retryableHttpResponseCodes() {
     return RETRYABLE_HTTP_STATUS_CODES;
   }
+
+  /**
+   * Returns the delay in nanos requested by the value of an HTTP {@code Retry-After} header, in
+   * delay-seconds or HTTP-date form, or {@code -1} if there is no valid value.
+   */
+  public static long parseRetryAfterNanos(@Nullable String retryAfter) {
+    return parseRetryAfterNanos(retryAfter, System.currentTimeMillis());
+  }
+
+  // Visible for testing
+  static long parseRetryAfterNanos(@Nullable String retryAfter, long nowMillis) {
+    if (retryAfter == null) {
+      return -1;
+    }
+    String value = retryAfter.trim();
+    try {
+      long seconds = Long.parseLong(value);
+      return seconds < 0 ? -1 : TimeUnit.SECONDS.toNanos(seconds);
+    } catch (NumberFormatException e) {
+      // Not delay-seconds, try HTTP-date.
+    }
+    try {
+      long dateMillis =
+          ZonedDateTime.parse(value, DateTimeFormatter.RFC_1123_DATE_TIME)
+              .toInstant()
+              .toEpochMilli();
+      return TimeUnit.MILLISECONDS.toNanos(Math.max(0, dateMillis - nowMillis));
+    } catch (DateTimeParseException e) {
+      return -1;
+    }
+  }
+
+  /**
+   * Returns the delay in nanos requested by the value of a {@code grpc-retry-pushback-ms} trailer,
+   * {@code -1} if there is none, or {@link Long#MAX_VALUE} if the server asks not to retry, which
+   * it does with a negative or invalid value.
+   */
+  public static long parseGrpcRetryPushbackNanos(@Nullable String pushbackMs) {
+    if (pushbackMs == null) {
+      return -1;
+    }
+    try {
+      long millis = Long.parseLong(pushbackMs.trim());
+      return millis < 0 ? Long.MAX_VALUE : TimeUnit.MILLISECONDS.toNanos(millis);
+    } catch (NumberFormatException e) {
+      return Long.MAX_VALUE;
+    }
+  }
 }
@@ -0,0 +1,33 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.exporter.internal.compression;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * An abstraction for compressing messages. Implementations must be thread safe, a single instance
+ * is shared by all exports of an exporter.
+ *
+ * <p>This class is internal and is hence not for public use. Its APIs are unstable and can change
+ * at any time.
+ */
+@ThreadSafe
+public interface Compressor {
+
+  /**
+   * The name of the compression encoding, used to select the compressor in configuration and sent
+   * in the {@code Content-Encoding} or {@code grpc-encoding} header.
+   */
+  String getEncoding();
+
+  /**
+   * Wraps {@code outputStream} with a stream compressing the bytes written to it. Closing the
+   * returned stream finishes the compressed payload and closes {@code outputStream}.
+   */
+  OutputStream compress(OutputStream outputStream) throws IOException;
+}
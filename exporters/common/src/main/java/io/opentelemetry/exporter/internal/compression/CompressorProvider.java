@@ -0,0 +1,20 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.exporter.internal.compression;
+
+/**
+ * A service provider interface (SPI) for providing {@link Compressor}s in addition to the built-in
+ * {@code gzip} and {@code zstd}. Providers are selected by the {@link Compressor#getEncoding()
+ * encoding} of their compressor.
+ *
+ * <p>This class is internal and is hence not for public use. Its APIs are unstable and can change
+ * at any time.
+ */
+public interface CompressorProvider {
+
+  /** Returns the {@link Compressor}. */
+  Compressor getInstance();
+}
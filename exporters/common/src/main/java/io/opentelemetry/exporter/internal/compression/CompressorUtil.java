@@ -0,0 +1,104 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.exporter.internal.compression;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.ServiceLoader;
+import java.util.StringJoiner;
+import javax.annotation.Nullable;
+
+/**
+ * Utilities for resolving compression methods to {@link Compressor}s.
+ *
+ * <p>A compression method is {@code none}, the encoding of a {@link Compressor}, or for the
+ * built-in {@code gzip} and {@code zstd} an encoding followed by a compression level, e.g. {@code
+ * gzip:1} or {@code zstd:6}.
+ *
+ * <p>This class is internal and is hence not for public use. Its APIs are unstable and can change
+ * at any time.
+ */
+public final class CompressorUtil {
+
+  private static final String NONE = "none";
+  private static final String GZIP = "gzip";
+  private static final String ZSTD = "zstd";
+
+  private static final boolean ZSTD_AVAILABLE = isZstdAvailable();
+
+  private static final Map<String, Compressor> compressorRegistry = buildCompressorRegistry();
+
+  private CompressorUtil() {}
+
+  /**
+   * Validate that the {@code compressionMethod} is supported and return the corresponding {@link
+   * Compressor}, or {@code null} for {@code none}.
+   *
+   * @throws IllegalArgumentException if the {@code compressionMethod} is not supported
+   */
+  @Nullable
+  public static Compressor validateAndResolveCompressor(String compressionMethod) {
+    if (compressionMethod.equals(NONE)) {
+      return null;
+    }
+    int separator = compressionMethod.indexOf(':');
+    if (separator < 0) {
+      Compressor compressor = compressorRegistry.get(compressionMethod);
+      if (compressor == null) {
+        throw unsupported();
+      }
+      return compressor;
+    }
+
+    String encoding = compressionMethod.substring(0, separator);
+    int level;
+    try {
+      level = Integer.parseInt(compressionMethod.substring(separator + 1));
+    } catch (NumberFormatException e) {
+      throw new IllegalArgumentException(
+          "Invalid compression level in compression method: " + compressionMethod, e);
+    }
+    if (encoding.equals(GZIP)) {
+      return GzipCompressor.create(level);
+    }
+    if (encoding.equals(ZSTD) && ZSTD_AVAILABLE) {
+      return ZstdCompressor.create(level);
+    }
+    throw unsupported();
+  }
+
+  private static IllegalArgumentException unsupported() {
+    StringJoiner joiner = new StringJoiner(", ");
+    compressorRegistry.keySet().forEach(joiner::add);
+    joiner.add(NONE);
+    return new IllegalArgumentException(
+        "Unsupported compression method. Supported compression methods include: " + joiner + ".");
+  }
+
+  private static Map<String, Compressor> buildCompressorRegistry() {
+    Map<String, Compressor> compressors = new LinkedHashMap<>();
+    compressors.put(GZIP, GzipCompressor.getInstance());
+    if (ZSTD_AVAILABLE) {
+      compressors.put(ZSTD, ZstdCompressor.create());
+    }
+    // Providers may replace the built-in compressors
+    for (CompressorProvider spi :
+        ServiceLoader.load(CompressorProvider.class, CompressorUtil.class.getClassLoader())) {
+      Compressor compressor = spi.getInstance();
+      compressors.put(compressor.getEncoding(), compressor);
+    }
+    return compressors;
+  }
+
+  private static boolean isZstdAvailable() {
+    try {
+      Class.forName("com.github.luben.zstd.ZstdOutputStream");
+      return true;
+    } catch (ClassNotFoundException e) {
+      return false;
+    }
+  }
+}
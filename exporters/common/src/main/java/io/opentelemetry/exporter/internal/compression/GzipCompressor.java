@@ -0,0 +1,78 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.exporter.internal.compression;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Gzip {@link Compressor}, at the default level of {@link Deflater} unless configured otherwise.
+ *
+ * <p>This class is internal and is hence not for public use. Its APIs are unstable and can change
+ * at any time.
+ */
+public final class GzipCompressor implements Compressor {
+
+  private static final GzipCompressor INSTANCE = new GzipCompressor(Deflater.DEFAULT_COMPRESSION);
+
+  private final int level;
+
+  private GzipCompressor(int level) {
+    this.level = level;
+  }
+
+  /** Returns a {@link GzipCompressor} using the default compression level. */
+  public static GzipCompressor getInstance() {
+    return INSTANCE;
+  }
+
+  /**
+   * Returns a {@link GzipCompressor} using compression {@code level}, from {@code 0} (no
+   * compression) to {@code 9} (best compression), or {@code -1} for the default level.
+   */
+  public static GzipCompressor create(int level) {
+    if (level == Deflater.DEFAULT_COMPRESSION) {
+      return INSTANCE;
+    }
+    if (level < Deflater.NO_COMPRESSION || level > Deflater.BEST_COMPRESSION) {
+      throw new IllegalArgumentException("Invalid gzip compression level: " + level);
+    }
+    return new GzipCompressor(level);
+  }
+
+  /** Returns the compression level. */
+  public int getLevel() {
+    return level;
+  }
+
+  @Override
+  public String getEncoding() {
+    return "gzip";
+  }
+
+  @Override
+  public OutputStream compress(OutputStream outputStream) throws IOException {
+    if (level == Deflater.DEFAULT_COMPRESSION) {
+      return new GZIPOutputStream(outputStream);
+    }
+    return new LevelGzipOutputStream(outputStream, level);
+  }
+
+  @Override
+  public String toString() {
+    return "GzipCompressor{level=" + level + "}";
+  }
+
+  private static final class LevelGzipOutputStream extends GZIPOutputStream {
+
+    LevelGzipOutputStream(OutputStream out, int level) throws IOException {
+      super(out);
+      def.setLevel(level);
+    }
+  }
+}
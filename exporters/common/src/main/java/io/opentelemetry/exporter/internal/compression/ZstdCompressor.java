@@ -0,0 +1,71 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.exporter.internal.compression;
+
+import com.github.luben.zstd.Zstd;
+import com.github.luben.zstd.ZstdOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Zstandard {@link Compressor} backed by {@code com.github.luben:zstd-jni}, which must be added to
+ * the classpath for this compressor to be available.
+ *
+ * <p>This class is internal and is hence not for public use. Its APIs are unstable and can change
+ * at any time.
+ */
+public final class ZstdCompressor implements Compressor {
+
+  // Same as the zstd command line default, a good balance of speed and ratio for OTLP payloads.
+  private static final int DEFAULT_LEVEL = 3;
+
+  private static final ZstdCompressor INSTANCE = new ZstdCompressor(DEFAULT_LEVEL);
+
+  private final int level;
+
+  private ZstdCompressor(int level) {
+    this.level = level;
+  }
+
+  /** Returns a {@link ZstdCompressor} using the default compression level. */
+  public static ZstdCompressor create() {
+    return INSTANCE;
+  }
+
+  /**
+   * Returns a {@link ZstdCompressor} using compression {@code level}, from {@code
+   * Zstd.minCompressionLevel()} (fastest) to {@code Zstd.maxCompressionLevel()} (best compression).
+   */
+  public static ZstdCompressor create(int level) {
+    if (level < Zstd.minCompressionLevel() || level > Zstd.maxCompressionLevel()) {
+      throw new IllegalArgumentException("Invalid zstd compression level: " + level);
+    }
+    if (level == DEFAULT_LEVEL) {
+      return INSTANCE;
+    }
+    return new ZstdCompressor(level);
+  }
+
+  /** Returns the compression level. */
+  public int getLevel() {
+    return level;
+  }
+
+  @Override
+  public String getEncoding() {
+    return "zstd";
+  }
+
+  @Override
+  public OutputStream compress(OutputStream outputStream) throws IOException {
+    return new ZstdOutputStream(outputStream, level);
+  }
+
+  @Override
+  public String toString() {
+    return "ZstdCompressor{level=" + level + "}";
+  }
+}
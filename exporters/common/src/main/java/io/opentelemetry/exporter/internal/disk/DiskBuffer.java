@@ -0,0 +1,506 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.exporter.internal.disk;
+
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.CREATE_NEW;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+import io.opentelemetry.sdk.common.Clock;
+import java.io.Closeable;
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Consumer;
+import java.util.function.IntConsumer;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import javax.annotation.Nullable;
+
+/**
+ * A FIFO queue of serialized export requests stored in memory-mapped segment files. Requests are
+ * appended to the newest segment and read from the oldest one, a segment is deleted once all its
+ * requests are removed. Removed requests are marked in place so they are not read again after a
+ * restart, the queue survives process restarts but writes not yet flushed by the OS may be lost on
+ * a system crash.
+ *
+ * <p>Segment files are named after their sequence and the {@code format} of the requests they
+ * store, e.g. {@code json}. Segments of another format, left by an exporter configured differently
+ * before a restart, cannot be replayed and are dropped when the queue is opened.
+ *
+ * <p>The queue is bounded by {@code maxBytes}, the oldest segments are dropped to make room for new
+ * requests, and by {@code maxAge}, older requests are dropped when read. The number of items of
+ * dropped requests is reported to {@code droppedItems}.
+ *
+ * <p>This class is internal and is hence not for public use. Its APIs are unstable and can change
+ * at any time.
+ */
+public final class DiskBuffer implements Closeable {
+
+  private static final Logger logger = Logger.getLogger(DiskBuffer.class.getName());
+
+  // A record is the payload length, negated once the record is removed, the number of items, the
+  // epoch nanos it was appended at and the payload. A zero length marks the end of a segment's data
+  // since segment files are zero filled when created.
+  private static final int HEADER_SIZE = 16;
+  private static final int MAX_SEGMENT_SIZE = 4 * 1024 * 1024;
+  private static final String SEGMENT_SUFFIX = ".seg";
+  private static final String LOCK_FILE = "lock";
+
+  // Releases the memory mapping of a buffer right away instead of once it is garbage collected, so
+  // that the file of a deleted segment does not keep using disk space. Null if the JVM does not
+  // allow it.
+  @Nullable private static final Consumer<ByteBuffer> UNMAPPER = createUnmapper();
+
+  private final Path directory;
+  private final String format;
+  private final long maxBytes;
+  private final long maxAgeNanos;
+  private final int segmentSize;
+  private final Clock clock;
+  private final IntConsumer droppedItems;
+  private final FileChannel lockChannel;
+  private final FileLock lock;
+
+  // Oldest first, the last segment is the one appended to.
+  private final Deque<Segment> segments = new ArrayDeque<>();
+  private long totalBytes;
+  private long nextSequence;
+  private boolean closed;
+
+  /**
+   * Opens the queue stored in {@code directory}, creating it if needed. Requests left by a previous
+   * process are read first.
+   *
+   * @param format the serialization format of the requests, a file name safe identifier
+   * @throws IOException if the directory cannot be used, e.g. when it is used by another queue
+   */
+  public static DiskBuffer open(
+      Path directory, String format, long maxBytes, Duration maxAge, IntConsumer droppedItems)
+      throws IOException {
+    int segmentSize = (int) Math.max(Math.min(MAX_SEGMENT_SIZE, maxBytes / 4), HEADER_SIZE);
+    return new DiskBuffer(
+        directory,
+        format,
+        maxBytes,
+        maxAge.toNanos(),
+        segmentSize,
+        Clock.getDefault(),
+        droppedItems);
+  }
+
+  // Visible for testing
+  DiskBuffer(
+      Path directory,
+      String format,
+      long maxBytes,
+      long maxAgeNanos,
+      int segmentSize,
+      Clock clock,
+      IntConsumer droppedItems)
+      throws IOException {
+    this.directory = directory;
+    this.format = format;
+    this.maxBytes = maxBytes;
+    this.maxAgeNanos = maxAgeNanos;
+    this.segmentSize = segmentSize;
+    this.clock = clock;
+    this.droppedItems = droppedItems;
+
+    Files.createDirectories(directory);
+    lockChannel = FileChannel.open(directory.resolve(LOCK_FILE), CREATE, WRITE);
+    FileLock fileLock;
+    try {
+      fileLock = lockChannel.tryLock();
+    } catch (OverlappingFileLockException e) {
+      // Locked by this process.
+      fileLock = null;
+    }
+    if (fileLock == null) {
+      lockChannel.close();
+      throw new IOException("Directory is used by another disk buffer: " + directory);
+    }
+    lock = fileLock;
+    try {
+      recover();
+    } catch (IOException e) {
+      close();
+      throw e;
+    }
+  }
+
+  /**
+   * Appends a request of {@code numItems} items, dropping the oldest requests if needed. Returns
+   * {@code false} if the request is larger than {@code maxBytes} or the queue is closed.
+   */
+  public synchronized boolean append(byte[] payload, int numItems) throws IOException {
+    if (closed) {
+      return false;
+    }
+    if (payload.length == 0) {
+      // Nothing to replay.
+      return true;
+    }
+    int recordSize = HEADER_SIZE + payload.length;
+    Segment segment = segments.peekLast();
+    if (segment == null || segment.remaining() < recordSize) {
+      int size = Math.max(segmentSize, recordSize);
+      if (size > maxBytes) {
+        return false;
+      }
+      while (totalBytes + size > maxBytes) {
+        Segment oldest = segments.pollFirst();
+        int dropped = oldest.liveItems();
+        deleteSegment(oldest);
+        if (dropped > 0) {
+          droppedItems.accept(dropped);
+        }
+      }
+      segment = Segment.create(directory.resolve(segmentName(nextSequence)), size);
+      nextSequence++;
+      segments.addLast(segment);
+      totalBytes += size;
+    }
+    segment.write(payload, numItems, clock.now());
+    return true;
+  }
+
+  /**
+   * Returns the oldest request without removing it, or {@code null} if there is none. Expired
+   * requests are dropped.
+   */
+  @Nullable
+  public synchronized Record peek() {
+    if (closed) {
+      return null;
+    }
+    long now = clock.now();
+    while (true) {
+      Segment segment = segments.peekFirst();
+      if (segment == null) {
+        return null;
+      }
+      if (!segment.hasUnread()) {
+        if (segment == segments.peekLast()) {
+          return null;
+        }
+        segments.pollFirst();
+        deleteSegment(segment);
+        continue;
+      }
+      int position = segment.readPosition;
+      int length = segment.buffer.getInt(position);
+      if (length < 0) {
+        segment.readPosition += HEADER_SIZE - length;
+        continue;
+      }
+      int numItems = segment.buffer.getInt(position + 4);
+      long epochNanos = segment.buffer.getLong(position + 8);
+      if (now - epochNanos > maxAgeNanos) {
+        segment.markRemoved(position);
+        droppedItems.accept(numItems);
+        continue;
+      }
+      byte[] payload = new byte[length];
+      ByteBuffer data = segment.buffer.duplicate();
+      data.position(position + HEADER_SIZE);
+      data.get(payload);
+      return new Record(segment, position, payload, numItems);
+    }
+  }
+
+  /** Removes {@code record}, previously returned by {@link #peek()}. */
+  public synchronized void remove(Record record) {
+    if (closed || record.segment.deleted) {
+      // Already dropped.
+      return;
+    }
+    record.segment.markRemoved(record.position);
+  }
+
+  /** Returns whether no request is waiting to be read. */
+  public synchronized boolean isEmpty() {
+    for (Segment segment : segments) {
+      if (segment.hasUnread()) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  // Visible for testing
+  synchronized long totalBytes() {
+    return totalBytes;
+  }
+
+  @Override
+  public synchronized void close() throws IOException {
+    if (closed) {
+      return;
+    }
+    closed = true;
+    for (Segment segment : segments) {
+      segment.buffer.force();
+      unmap(segment.buffer);
+    }
+    segments.clear();
+    try {
+      lock.release();
+    } finally {
+      lockChannel.close();
+    }
+  }
+
+  private void recover() throws IOException {
+    List<Path> files = new ArrayList<>();
+    try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory, "*" + SEGMENT_SUFFIX)) {
+      for (Path file : stream) {
+        if (segmentSequence(file) >= 0) {
+          files.add(file);
+        }
+      }
+    }
+    files.sort(Comparator.comparingLong(DiskBuffer::segmentSequence));
+    for (Path file : files) {
+      Segment segment = Segment.open(file);
+      nextSequence = segmentSequence(file) + 1;
+      totalBytes += segment.buffer.capacity();
+      if (!format.equals(segmentFormat(file))) {
+        int dropped = segment.liveItems();
+        logger.log(
+            Level.WARNING,
+            "Dropping disk buffer segment "
+                + file
+                + " with requests of another format than "
+                + format
+                + ".");
+        deleteSegment(segment);
+        if (dropped > 0) {
+          droppedItems.accept(dropped);
+        }
+        continue;
+      }
+      segments.addLast(segment);
+    }
+  }
+
+  private void deleteSegment(Segment segment) {
+    segment.deleted = true;
+    totalBytes -= segment.buffer.capacity();
+    // Only accessed while holding the lock, and never once deleted
+    unmap(segment.buffer);
+    try {
+      Files.deleteIfExists(segment.path);
+    } catch (IOException e) {
+      logger.log(Level.WARNING, "Failed to delete disk buffer segment " + segment.path, e);
+    }
+  }
+
+  private String segmentName(long sequence) {
+    return String.format(Locale.ROOT, "%019d.%s%s", sequence, format, SEGMENT_SUFFIX);
+  }
+
+  private static long segmentSequence(Path file) {
+    String name = file.getFileName().toString();
+    int end = name.indexOf('.');
+    try {
+      return Long.parseLong(name.substring(0, end));
+    } catch (NumberFormatException e) {
+      return -1;
+    }
+  }
+
+  // Empty for segments named without a format
+  private static String segmentFormat(Path file) {
+    String name = file.getFileName().toString();
+    int start = name.indexOf('.') + 1;
+    int end = name.length() - SEGMENT_SUFFIX.length();
+    return start < end ? name.substring(start, end) : "";
+  }
+
+  private static void unmap(MappedByteBuffer buffer) {
+    if (UNMAPPER == null) {
+      return;
+    }
+    try {
+      UNMAPPER.accept(buffer);
+    } catch (RuntimeException e) {
+      logger.log(Level.FINE, "Failed to unmap disk buffer segment", e);
+    }
+  }
+
+  @Nullable
+  private static Consumer<ByteBuffer> createUnmapper() {
+    try {
+      // Java 9+
+      Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+      Method invokeCleaner = unsafeClass.getMethod("invokeCleaner", ByteBuffer.class);
+      Field theUnsafe = unsafeClass.getDeclaredField("theUnsafe");
+      theUnsafe.setAccessible(true);
+      Object unsafe = theUnsafe.get(null);
+      return buffer -> invoke(invokeCleaner, unsafe, buffer);
+    } catch (ReflectiveOperationException | RuntimeException e) {
+      // Try the Java 8 cleaner.
+    }
+    try {
+      Method cleaner = Class.forName("sun.nio.ch.DirectBuffer").getMethod("cleaner");
+      Method clean = Class.forName("sun.misc.Cleaner").getMethod("clean");
+      return buffer -> {
+        Object bufferCleaner = invoke(cleaner, buffer);
+        if (bufferCleaner != null) {
+          invoke(clean, bufferCleaner);
+        }
+      };
+    } catch (ReflectiveOperationException | RuntimeException e) {
+      logger.log(Level.FINE, "Disk buffer segments are unmapped once garbage collected", e);
+      return null;
+    }
+  }
+
+  @Nullable
+  private static Object invoke(Method method, Object target, Object... args) {
+    try {
+      return method.invoke(target, args);
+    } catch (IllegalAccessException | InvocationTargetException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  /** A request read from a {@link DiskBuffer}. */
+  public static final class Record {
+
+    private final Segment segment;
+    private final int position;
+    private final byte[] payload;
+    private final int numItems;
+
+    private Record(Segment segment, int position, byte[] payload, int numItems) {
+      this.segment = segment;
+      this.position = position;
+      this.payload = payload;
+      this.numItems = numItems;
+    }
+
+    /** Returns the serialized request. */
+    public byte[] getPayload() {
+      return payload;
+    }
+
+    /** Returns the number of items of the request. */
+    public int getNumItems() {
+      return numItems;
+    }
+  }
+
+  private static final class Segment {
+
+    private final Path path;
+    private final MappedByteBuffer buffer;
+    private int readPosition;
+    private int writePosition;
+    private boolean deleted;
+
+    private Segment(Path path, MappedByteBuffer buffer) {
+      this.path = path;
+      this.buffer = buffer;
+    }
+
+    static Segment create(Path path, int size) throws IOException {
+      try (FileChannel channel = FileChannel.open(path, CREATE_NEW, READ, WRITE)) {
+        // The mapping stays valid once the channel is closed.
+        return new Segment(path, channel.map(FileChannel.MapMode.READ_WRITE, 0, size));
+      }
+    }
+
+    static Segment open(Path path) throws IOException {
+      Segment segment;
+      try (FileChannel channel = FileChannel.open(path, READ, WRITE)) {
+        segment = new Segment(path, channel.map(FileChannel.MapMode.READ_WRITE, 0, channel.size()));
+      }
+      segment.scan();
+      return segment;
+    }
+
+    // Finds the end of the data and the first record not removed yet. A record cut short by a crash
+    // has no length yet and is overwritten.
+    private void scan() {
+      int position = 0;
+      int firstUnread = -1;
+      while (position + HEADER_SIZE <= buffer.capacity()) {
+        int length = buffer.getInt(position);
+        if (length == 0 || position + HEADER_SIZE + (long) Math.abs(length) > buffer.capacity()) {
+          break;
+        }
+        if (length > 0 && firstUnread < 0) {
+          firstUnread = position;
+        }
+        position += HEADER_SIZE + Math.abs(length);
+      }
+      writePosition = position;
+      readPosition = firstUnread < 0 ? position : firstUnread;
+    }
+
+    int remaining() {
+      return buffer.capacity() - writePosition;
+    }
+
+    boolean hasUnread() {
+      return readPosition < writePosition;
+    }
+
+    void write(byte[] payload, int numItems, long epochNanos) {
+      int position = writePosition;
+      buffer.putInt(position + 4, numItems);
+      buffer.putLong(position + 8, epochNanos);
+      ByteBuffer data = buffer.duplicate();
+      data.position(position + HEADER_SIZE);
+      data.put(payload);
+      // Written last so a record is only visible once complete.
+      buffer.putInt(position, payload.length);
+      writePosition = position + HEADER_SIZE + payload.length;
+    }
+
+    void markRemoved(int position) {
+      int length = buffer.getInt(position);
+      if (length > 0) {
+        buffer.putInt(position, -length);
+      }
+      if (readPosition == position) {
+        readPosition += HEADER_SIZE + Math.abs(length);
+      }
+    }
+
+    int liveItems() {
+      int items = 0;
+      int position = readPosition;
+      while (position < writePosition) {
+        int length = buffer.getInt(position);
+        if (length > 0) {
+          items += buffer.getInt(position + 4);
+        }
+        position += HEADER_SIZE + Math.abs(length);
+      }
+      return items;
+    }
+  }
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.exporter.internal.disk;
+
+import static io.opentelemetry.api.internal.Utils.checkArgument;
+import static java.util.Objects.requireNonNull;
+
+import com.google.auto.value.AutoValue;
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Configuration for buffering exports on disk while the export destination is unavailable.
+ * Requests which fail with a retryable error are persisted to the directory and replayed in order
+ * in the background once the destination accepts them again, so outages and restarts do not lose
+ * telemetry or grow the heap.
+ *
+ * <p>Each exporter must use its own directory.
+ *
+ * <p>This class is internal and is hence not for public use. Its APIs are unstable and can change
+ * at any time.
+ */
+@AutoValue
+public abstract class DiskBufferingConfig {
+
+  private static final long DEFAULT_MAX_BYTES = 64 * 1024 * 1024;
+
+  @SuppressWarnings("StronglyTypeTime")
+  private static final int DEFAULT_MAX_AGE_HOURS = 6;
+
+  DiskBufferingConfig() {}
+
+  /**
+   * Returns a new {@link DiskBufferingConfigBuilder} to construct a {@link DiskBufferingConfig}
+   * storing requests in {@code directory}, which is created if it does not exist.
+   */
+  public static DiskBufferingConfigBuilder builder(Path directory) {
+    requireNonNull(directory, "directory");
+    return new AutoValue_DiskBufferingConfig.Builder()
+        .setDirectory(directory)
+        .setMaxBytes(DEFAULT_MAX_BYTES)
+        .setMaxAge(Duration.ofHours(DEFAULT_MAX_AGE_HOURS));
+  }
+
+  /**
+   * Returns a {@link DiskBufferingConfigBuilder} reflecting configuration values for this {@link
+   * DiskBufferingConfig}.
+   */
+  public abstract DiskBufferingConfigBuilder toBuilder();
+
+  /** Returns the directory requests are stored in. */
+  public abstract Path getDirectory();
+
+  /**
+   * Returns the max number of bytes stored on disk. Once reached, the oldest requests are dropped.
+   */
+  public abstract long getMaxBytes();
+
+  /** Returns the max age of stored requests. Older requests are dropped instead of replayed. */
+  public abstract Duration getMaxAge();
+
+  /** Builder for {@link DiskBufferingConfig}. */
+  @AutoValue.Builder
+  public abstract static class DiskBufferingConfigBuilder {
+
+    DiskBufferingConfigBuilder() {}
+
+    abstract DiskBufferingConfigBuilder setDirectory(Path directory);
+
+    /** Set the max number of bytes stored on disk. Must be greater than 0. Defaults to 64MB. */
+    public abstract DiskBufferingConfigBuilder setMaxBytes(long maxBytes);
+
+    /**
+     * Set the max age of stored requests. Must be greater than 0. Defaults to {@value
+     * DEFAULT_MAX_AGE_HOURS} hours.
+     */
+    public abstract DiskBufferingConfigBuilder setMaxAge(Duration maxAge);
+
+    abstract DiskBufferingConfig autoBuild();
+
+    /** Build and return a {@link DiskBufferingConfig} with the values of this builder. */
+    public DiskBufferingConfig build() {
+      DiskBufferingConfig config = autoBuild();
+      checkArgument(config.getMaxBytes() > 0, "maxBytes must be greater than 0");
+      checkArgument(config.getMaxAge().toNanos() > 0, "maxAge must be greater than 0");
+      return config;
+    }
+  }
+}
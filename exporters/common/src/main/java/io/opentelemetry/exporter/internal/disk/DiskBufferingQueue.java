@@ -0,0 +1,192 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.exporter.internal.disk;
+
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.internal.DaemonThreadFactory;
+import io.opentelemetry.sdk.internal.ThrottlingLogger;
+import java.io.IOException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.IntConsumer;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import javax.annotation.Nullable;
+
+/**
+ * Stores export requests which could not be sent in a {@link DiskBuffer} and replays them in order
+ * from a background thread, one at a time, until they are accepted.
+ *
+ * <p>This class is internal and is hence not for public use. Its APIs are unstable and can change
+ * at any time.
+ */
+public final class DiskBufferingQueue {
+
+  private static final Logger internalLogger = Logger.getLogger(DiskBufferingQueue.class.getName());
+
+  private static final long REPLAY_INTERVAL_SECONDS = 5;
+
+  /** The format of requests serialized as binary protobuf, by gRPC and http/protobuf exporters. */
+  public static final String FORMAT_PROTOBUF = "protobuf";
+
+  /** The format of requests serialized as JSON, by http/json exporters. */
+  public static final String FORMAT_JSON = "json";
+
+  /** Sends a stored request. */
+  @FunctionalInterface
+  public interface PayloadSender {
+
+    /**
+     * Sends {@code payload}, the result fails if the request should stay stored to be replayed
+     * later. Requests rejected for good should be dropped by succeeding.
+     */
+    CompletableResultCode send(byte[] payload, int numItems);
+  }
+
+  private final ThrottlingLogger logger = new ThrottlingLogger(internalLogger);
+  private final AtomicBoolean replaying = new AtomicBoolean();
+
+  private final String type;
+  private final DiskBuffer buffer;
+  private final PayloadSender sender;
+  private final ScheduledExecutorService executor;
+  private volatile boolean isShutdown;
+
+  /**
+   * Returns a queue storing requests of {@code type} serialized in {@code format}, e.g. {@link
+   * #FORMAT_PROTOBUF}, as configured by {@code config}, or {@code null} if the directory cannot be
+   * used, in which case an error is logged and requests are not buffered. Stored requests of
+   * another format are dropped.
+   */
+  @Nullable
+  public static DiskBufferingQueue create(
+      DiskBufferingConfig config,
+      String type,
+      String format,
+      PayloadSender sender,
+      IntConsumer droppedItems) {
+    DiskBuffer buffer;
+    try {
+      buffer =
+          DiskBuffer.open(
+              config.getDirectory(),
+              format,
+              config.getMaxBytes(),
+              config.getMaxAge(),
+              droppedItems);
+    } catch (IOException e) {
+      internalLogger.log(
+          Level.SEVERE,
+          "Failed to open disk buffer in "
+              + config.getDirectory()
+              + ", "
+              + type
+              + "s will not be buffered on disk.",
+          e);
+      return null;
+    }
+    return new DiskBufferingQueue(
+        type,
+        buffer,
+        sender,
+        Executors.newSingleThreadScheduledExecutor(
+            new DaemonThreadFactory("otel-" + type + "-disk-buffer")));
+  }
+
+  // Visible for testing
+  DiskBufferingQueue(
+      String type, DiskBuffer buffer, PayloadSender sender, ScheduledExecutorService executor) {
+    this.type = type;
+    this.buffer = buffer;
+    this.sender = sender;
+    this.executor = executor;
+    // Also replays the requests left by a previous process.
+    executor.scheduleWithFixedDelay(
+        this::replay, REPLAY_INTERVAL_SECONDS, REPLAY_INTERVAL_SECONDS, TimeUnit.SECONDS);
+  }
+
+  /**
+   * Returns whether stored requests wait to be replayed, new requests should then be stored too so
+   * they are sent after them.
+   */
+  public boolean hasPending() {
+    return !buffer.isEmpty();
+  }
+
+  /** Stores {@code payload} to be replayed, returning {@code false} if it could not be stored. */
+  public boolean store(byte[] payload, int numItems) {
+    try {
+      if (buffer.append(payload, numItems)) {
+        return true;
+      }
+      logger.log(
+          Level.WARNING,
+          "Failed to store " + type + "s on disk. The request is larger than the disk buffer.");
+    } catch (IOException e) {
+      logger.log(Level.WARNING, "Failed to store " + type + "s on disk.", e);
+    }
+    return false;
+  }
+
+  /** Replays stored requests right away, e.g. once a request was sent successfully. */
+  public void wakeUp() {
+    if (isShutdown || !hasPending()) {
+      return;
+    }
+    try {
+      executor.execute(this::replay);
+    } catch (RejectedExecutionException e) {
+      // Shutting down.
+    }
+  }
+
+  /**
+   * Stops replaying. Stored requests are kept and replayed by the next queue using the directory.
+   */
+  public CompletableResultCode shutdown() {
+    isShutdown = true;
+    executor.shutdown();
+    try {
+      buffer.close();
+    } catch (IOException e) {
+      logger.log(Level.WARNING, "Failed to close disk buffer.", e);
+    }
+    return CompletableResultCode.ofSuccess();
+  }
+
+  private void replay() {
+    if (isShutdown || !replaying.compareAndSet(false, true)) {
+      return;
+    }
+    DiskBuffer.Record record = buffer.peek();
+    if (record == null) {
+      replaying.set(false);
+      return;
+    }
+    CompletableResultCode result;
+    try {
+      result = sender.send(record.getPayload(), record.getNumItems());
+    } catch (RuntimeException e) {
+      logger.log(Level.WARNING, "Failed to replay " + type + "s stored on disk.", e);
+      replaying.set(false);
+      return;
+    }
+    result.whenComplete(
+        () -> {
+          if (result.isSuccess()) {
+            buffer.remove(record);
+            replaying.set(false);
+            wakeUp();
+          } else {
+            // Retried at the next interval.
+            replaying.set(false);
+          }
+        });
+  }
+}
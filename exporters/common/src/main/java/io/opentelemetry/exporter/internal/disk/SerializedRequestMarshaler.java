@@ -0,0 +1,37 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.exporter.internal.disk;
+
+import io.opentelemetry.exporter.internal.marshal.Marshaler;
+import io.opentelemetry.exporter.internal.marshal.Serializer;
+import java.io.IOException;
+
+/**
+ * A {@link Marshaler} writing a request already serialized in proto binary format, used to replay
+ * requests stored in a {@link DiskBuffer}.
+ *
+ * <p>This class is internal and is hence not for public use. Its APIs are unstable and can change
+ * at any time.
+ */
+public final class SerializedRequestMarshaler extends Marshaler {
+
+  private final byte[] protoSerialized;
+
+  public SerializedRequestMarshaler(byte[] protoSerialized) {
+    this.protoSerialized = protoSerialized;
+  }
+
+  @Override
+  public int getBinarySerializedSize() {
+    return protoSerialized.length;
+  }
+
+  @Override
+  protected void writeTo(Serializer output) throws IOException {
+    // Only used to write proto binary, the JSON form is not known.
+    output.writeSerializedMessage(protoSerialized, "");
+  }
+}
@@ -0,0 +1,10 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+/** Buffering of export requests on disk. */
+@ParametersAreNonnullByDefault
+package io.opentelemetry.exporter.internal.disk;
+
+import javax.annotation.ParametersAreNonnullByDefault;
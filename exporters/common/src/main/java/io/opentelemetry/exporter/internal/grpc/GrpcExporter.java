@@ -5,18 +5,32 @@
 
 package io.opentelemetry.exporter.internal.grpc;
 
+import static io.opentelemetry.exporter.internal.grpc.GrpcExporterUtil.GRPC_STATUS_DEADLINE_EXCEEDED;
+import static io.opentelemetry.exporter.internal.grpc.GrpcExporterUtil.GRPC_STATUS_RESOURCE_EXHAUSTED;
 import static io.opentelemetry.exporter.internal.grpc.GrpcExporterUtil.GRPC_STATUS_UNAVAILABLE;
 import static io.opentelemetry.exporter.internal.grpc.GrpcExporterUtil.GRPC_STATUS_UNIMPLEMENTED;
 
 import io.opentelemetry.api.metrics.MeterProvider;
+import io.opentelemetry.exporter.internal.AdaptiveConcurrencyLimiter;
 import io.opentelemetry.exporter.internal.ExporterMetrics;
+import io.opentelemetry.exporter.internal.RetryUtil;
+import io.opentelemetry.exporter.internal.disk.DiskBufferingConfig;
+import io.opentelemetry.exporter.internal.disk.DiskBufferingQueue;
+import io.opentelemetry.exporter.internal.disk.SerializedRequestMarshaler;
 import io.opentelemetry.exporter.internal.marshal.Marshaler;
+import io.opentelemetry.exporter.internal.marshal.RequestSplitter;
 import io.opentelemetry.sdk.common.CompletableResultCode;
 import io.opentelemetry.sdk.internal.ThrottlingLogger;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Collection;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.logging.Level;
 import java.util.logging.Logger;
+import javax.annotation.Nullable;
 
 /**
  * Generic gRPC exporter.
@@ -38,15 +52,65 @@ public final class GrpcExporter<T extends Marshaler> {
   private final String type;
   private final GrpcSender<T> grpcSender;
   private final ExporterMetrics exporterMetrics;
+  @Nullable private final DiskBufferingQueue diskBufferingQueue;
+  @Nullable private final AdaptiveConcurrencyLimiter concurrencyLimiter;
+  private final int maxRequestSize;
 
   public GrpcExporter(
       String exporterName,
       String type,
       GrpcSender<T> grpcSender,
       Supplier<MeterProvider> meterProviderSupplier) {
+    this(exporterName, type, grpcSender, meterProviderSupplier, null, 0, 0);
+  }
+
+  public GrpcExporter(
+      String exporterName,
+      String type,
+      GrpcSender<T> grpcSender,
+      Supplier<MeterProvider> meterProviderSupplier,
+      @Nullable DiskBufferingConfig diskBufferingConfig,
+      int maxConcurrentRequests,
+      int maxRequestSize) {
     this.type = type;
     this.grpcSender = grpcSender;
     this.exporterMetrics = ExporterMetrics.createGrpc(exporterName, type, meterProviderSupplier);
+    this.diskBufferingQueue =
+        diskBufferingConfig == null
+            ? null
+            : DiskBufferingQueue.create(
+                diskBufferingConfig,
+                type,
+                DiskBufferingQueue.FORMAT_PROTOBUF,
+                this::replay,
+                exporterMetrics::addFailed);
+    if (maxConcurrentRequests > 0) {
+      AdaptiveConcurrencyLimiter limiter =
+          AdaptiveConcurrencyLimiter.create(type, maxConcurrentRequests);
+      exporterMetrics.registerConcurrencyLimit(limiter::getLimit);
+      this.concurrencyLimiter = limiter;
+    } else {
+      this.concurrencyLimiter = null;
+    }
+    this.maxRequestSize = maxRequestSize;
+  }
+
+  /**
+   * Exports the request {@code marshal} creates for {@code items}, split into several requests if
+   * it is larger than the configured max request size.
+   */
+  public <I> CompletableResultCode export(
+      Collection<I> items, Function<Collection<I>, T> marshal) {
+    return RequestSplitter.export(items, marshal, maxRequestSize, this::export);
+  }
+
+  /**
+   * Like {@link #export(Collection, Function)}, handing each request {@code marshal} creates to
+   * {@code release} once it is no longer used so that it can be reused for a later export.
+   */
+  public <I, R extends T> CompletableResultCode export(
+      Collection<I> items, Function<Collection<I>, R> marshal, Consumer<R> release) {
+    return RequestSplitter.export(items, marshal, release, maxRequestSize, this::export);
   }
 
   public CompletableResultCode export(T exportRequest, int numItems) {
@@ -56,16 +120,55 @@ public final class GrpcExporter<T extends Marshaler> {
 
     exporterMetrics.addSeen(numItems);
 
+    if (diskBufferingQueue != null && diskBufferingQueue.hasPending()) {
+      // Queue behind the requests stored on disk to keep the export order.
+      if (store(exportRequest, numItems)) {
+        return CompletableResultCode.ofSuccess();
+      }
+      exporterMetrics.addFailed(numItems);
+      return CompletableResultCode.ofFailure();
+    }
+
     CompletableResultCode result = new CompletableResultCode();
 
+    if (concurrencyLimiter == null) {
+      send(exportRequest, numItems, result);
+    } else if (!concurrencyLimiter.execute(() -> send(exportRequest, numItems, result))) {
+      exporterMetrics.addFailed(numItems);
+      logger.log(
+          Level.WARNING,
+          "Failed to export "
+              + type
+              + "s. Too many requests are waiting for the concurrency limit.");
+      result.fail();
+    }
+
+    return result;
+  }
+
+  private void send(T exportRequest, int numItems, CompletableResultCode result) {
+    long startNanos = System.nanoTime();
     grpcSender.send(exportRequest,
         // 发送成功后的回掉
         () -> {
+          if (concurrencyLimiter != null) {
+            concurrencyLimiter.onSuccess(System.nanoTime() - startNanos);
+          }
           exporterMetrics.addSuccess(numItems);
           result.succeed();
+          if (diskBufferingQueue != null) {
+            diskBufferingQueue.wakeUp();
+          }
         },
         // 出现异常时的回掉
         (response, throwable) -> {
+          if (concurrencyLimiter != null) {
+            reportFailure(concurrencyLimiter, response);
+          }
+          if (isRetryable(response, throwable) && store(exportRequest, numItems)) {
+            result.succeed();
+            return;
+          }
           exporterMetrics.addFailed(numItems);
           switch (response.grpcStatusValue()) {
             case GRPC_STATUS_UNIMPLEMENTED:
@@ -97,8 +200,6 @@ public final class GrpcExporter<T extends Marshaler> {
           }
           result.fail();
         });
-
-    return result;
   }
 
   public CompletableResultCode shutdown() {
@@ -106,6 +207,80 @@ public final class GrpcExporter<T extends Marshaler> {
       logger.log(Level.INFO, "Calling shutdown() multiple times.");
       return CompletableResultCode.ofSuccess();
     }
+    if (diskBufferingQueue != null) {
+      diskBufferingQueue.shutdown();
+    }
+    if (concurrencyLimiter != null) {
+      concurrencyLimiter.shutdown();
+    }
+    exporterMetrics.close();
     return grpcSender.shutdown();
   }
+
+  // Stores the request on disk to be replayed, if disk buffering is enabled. Never throws, as it
+  // runs in the sender callbacks that complete the export's result.
+  private boolean store(T exportRequest, int numItems) {
+    if (diskBufferingQueue == null) {
+      return false;
+    }
+    ByteArrayOutputStream payload = new ByteArrayOutputStream();
+    try {
+      exportRequest.writeBinaryTo(payload);
+    } catch (IOException | RuntimeException e) {
+      logger.log(Level.WARNING, "Failed to store " + type + "s on disk.", e);
+      return false;
+    }
+    return diskBufferingQueue.store(payload.toByteArray(), numItems);
+  }
+
+  // Senders only use the Marshaler contract of requests, so a stored request can be sent as T.
+  @SuppressWarnings("unchecked")
+  private CompletableResultCode replay(byte[] payload, int numItems) {
+    CompletableResultCode result = new CompletableResultCode();
+    grpcSender.send(
+        (T) new SerializedRequestMarshaler(payload),
+        () -> {
+          exporterMetrics.addSuccess(numItems);
+          result.succeed();
+        },
+        (response, throwable) -> {
+          if (isRetryable(response, throwable)) {
+            result.fail();
+            return;
+          }
+          // Rejected for good, drop it.
+          exporterMetrics.addFailed(numItems);
+          logger.log(
+              Level.WARNING,
+              "Failed to export "
+                  + type
+                  + "s stored on disk. Server responded with gRPC status code "
+                  + response.grpcStatusValue()
+                  + ", dropping them.");
+          result.succeed();
+        });
+    return result;
+  }
+
+  private static void reportFailure(AdaptiveConcurrencyLimiter limiter, GrpcResponse response) {
+    switch (response.grpcStatusValue()) {
+      case GRPC_STATUS_RESOURCE_EXHAUSTED:
+      case GRPC_STATUS_UNAVAILABLE:
+      case GRPC_STATUS_DEADLINE_EXCEEDED:
+        long pushbackNanos = RetryUtil.parseGrpcRetryPushbackNanos(response.grpcRetryPushbackMs());
+        // A server asking not to retry does not ask to wait.
+        limiter.onOverload(pushbackNanos == Long.MAX_VALUE ? -1 : pushbackNanos);
+        break;
+      default:
+        limiter.onFailure();
+        break;
+    }
+  }
+
+  private static boolean isRetryable(GrpcResponse response, @Nullable Throwable throwable) {
+    // Transport failures are reported as UNKNOWN with the IOException.
+    return throwable instanceof IOException
+        || RetryUtil.retryableGrpcStatusCodes()
+            .contains(String.valueOf(response.grpcStatusValue()));
+  }
 }
@@ -12,12 +12,16 @@ import io.opentelemetry.api.internal.ConfigUtil;
 import io.opentelemetry.api.metrics.MeterProvider;
 import io.opentelemetry.exporter.internal.ExporterBuilderUtil;
 import io.opentelemetry.exporter.internal.TlsConfigHelper;
+import io.opentelemetry.exporter.internal.compression.Compressor;
+import io.opentelemetry.exporter.internal.compression.CompressorUtil;
+import io.opentelemetry.exporter.internal.disk.DiskBufferingConfig;
 import io.opentelemetry.exporter.internal.marshal.Marshaler;
 import io.opentelemetry.sdk.common.export.RetryPolicy;
 import java.net.URI;
 import java.time.Duration;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Optional;
 import java.util.ServiceLoader;
 import java.util.StringJoiner;
 import java.util.concurrent.TimeUnit;
@@ -48,10 +52,13 @@ public class GrpcExporterBuilder<T extends Marshaler> {
 
   private long timeoutNanos;
   private URI endpoint;
-  private boolean compressionEnabled = false;
+  @Nullable private Compressor compressor;
   private final Map<String, String> headers = new HashMap<>();
   private TlsConfigHelper tlsConfigHelper = new TlsConfigHelper();
   @Nullable private RetryPolicy retryPolicy;
+  @Nullable private DiskBufferingConfig diskBufferingConfig;
+  private int maxConcurrentRequests;
+  private int maxRequestSize;
   private Supplier<MeterProvider> meterProviderSupplier = GlobalOpenTelemetry::getMeterProvider;
 
   // Use Object type since gRPC may not be on the classpath.
@@ -92,7 +99,11 @@ public class GrpcExporterBuilder<T extends Marshaler> {
   }
 
   public GrpcExporterBuilder<T> setCompression(String compressionMethod) {
-    this.compressionEnabled = compressionMethod.equals("gzip");
+    return setCompression(CompressorUtil.validateAndResolveCompressor(compressionMethod));
+  }
+
+  public GrpcExporterBuilder<T> setCompression(@Nullable Compressor compressor) {
+    this.compressor = compressor;
     return this;
   }
 
@@ -123,6 +134,21 @@ public class GrpcExporterBuilder<T extends Marshaler> {
     return this;
   }
 
+  public GrpcExporterBuilder<T> setDiskBuffering(DiskBufferingConfig diskBufferingConfig) {
+    this.diskBufferingConfig = diskBufferingConfig;
+    return this;
+  }
+
+  public GrpcExporterBuilder<T> setAdaptiveConcurrency(int maxConcurrentRequests) {
+    this.maxConcurrentRequests = maxConcurrentRequests;
+    return this;
+  }
+
+  public GrpcExporterBuilder<T> setMaxRequestSize(int maxRequestSize) {
+    this.maxRequestSize = maxRequestSize;
+    return this;
+  }
+
   public GrpcExporterBuilder<T> setMeterProvider(MeterProvider meterProvider) {
     this.meterProviderSupplier = () -> meterProvider;
     return this;
@@ -141,12 +167,15 @@ public class GrpcExporterBuilder<T extends Marshaler> {
 
     copy.timeoutNanos = timeoutNanos;
     copy.endpoint = endpoint;
-    copy.compressionEnabled = compressionEnabled;
+    copy.compressor = compressor;
     copy.headers.putAll(headers);
     copy.tlsConfigHelper = tlsConfigHelper.copy();
     if (retryPolicy != null) {
       copy.retryPolicy = retryPolicy.toBuilder().build();
     }
+    copy.diskBufferingConfig = diskBufferingConfig;
+    copy.maxConcurrentRequests = maxConcurrentRequests;
+    copy.maxRequestSize = maxRequestSize;
     copy.meterProviderSupplier = meterProviderSupplier;
     copy.grpcChannel = grpcChannel;
     return copy;
@@ -158,7 +187,7 @@ public class GrpcExporterBuilder<T extends Marshaler> {
         grpcSenderProvider.createSender(
             endpoint,
             grpcEndpointPath,
-            compressionEnabled,
+            compressor,
             timeoutNanos,
             headers,
             grpcChannel,
@@ -168,7 +197,14 @@ public class GrpcExporterBuilder<T extends Marshaler> {
             tlsConfigHelper.getTrustManager());
     LOGGER.log(Level.FINE, "Using GrpcSender: " + grpcSender.getClass().getName());
 
-    return new GrpcExporter<>(exporterName, type, grpcSender, meterProviderSupplier);
+    return new GrpcExporter<>(
+        exporterName,
+        type,
+        grpcSender,
+        meterProviderSupplier,
+        diskBufferingConfig,
+        maxConcurrentRequests,
+        maxRequestSize);
   }
 
   public String toString(boolean includePrefixAndSuffix) {
@@ -181,13 +217,24 @@ public class GrpcExporterBuilder<T extends Marshaler> {
     joiner.add("endpoint=" + endpoint.toString());
     joiner.add("endpointPath=" + grpcEndpointPath);
     joiner.add("timeoutNanos=" + timeoutNanos);
-    joiner.add("compressionEnabled=" + compressionEnabled);
+    joiner.add(
+        "compressorEncoding="
+            + Optional.ofNullable(compressor).map(Compressor::getEncoding).orElse(null));
     StringJoiner headersJoiner = new StringJoiner(", ", "Headers{", "}");
     headers.forEach((key, value) -> headersJoiner.add(key + "=OBFUSCATED"));
     joiner.add("headers=" + headersJoiner);
     if (retryPolicy != null) {
       joiner.add("retryPolicy=" + retryPolicy);
     }
+    if (diskBufferingConfig != null) {
+      joiner.add("diskBuffering=" + diskBufferingConfig);
+    }
+    if (maxConcurrentRequests > 0) {
+      joiner.add("maxConcurrentRequests=" + maxConcurrentRequests);
+    }
+    if (maxRequestSize > 0) {
+      joiner.add("maxRequestSize=" + maxRequestSize);
+    }
     if (grpcChannel != null) {
       joiner.add("grpcChannel=" + grpcChannel);
     }
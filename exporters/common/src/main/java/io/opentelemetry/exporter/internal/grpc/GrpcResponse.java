@@ -18,11 +18,22 @@ public abstract class GrpcResponse {
   GrpcResponse() {}
 
   public static GrpcResponse create(int grpcStatusValue, @Nullable String grpcStatusDescription) {
-    return new AutoValue_GrpcResponse(grpcStatusValue, grpcStatusDescription);
+    return create(grpcStatusValue, grpcStatusDescription, null);
+  }
+
+  public static GrpcResponse create(
+      int grpcStatusValue,
+      @Nullable String grpcStatusDescription,
+      @Nullable String grpcRetryPushbackMs) {
+    return new AutoValue_GrpcResponse(grpcStatusValue, grpcStatusDescription, grpcRetryPushbackMs);
   }
 
   public abstract int grpcStatusValue();
 
   @Nullable
   public abstract String grpcStatusDescription();
+
+  /** The value of the {@code grpc-retry-pushback-ms} trailer, if the server sent one. */
+  @Nullable
+  public abstract String grpcRetryPushbackMs();
 }
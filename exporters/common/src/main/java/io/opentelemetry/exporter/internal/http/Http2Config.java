@@ -0,0 +1,45 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.exporter.internal.http;
+
+import com.google.auto.value.AutoValue;
+
+/**
+ * Configuration for sending requests over HTTP/2 instead of HTTP/1.1. Requests to {@code https}
+ * endpoints negotiate {@code h2} with ALPN, requests to {@code http} endpoints use {@code h2c}.
+ * Concurrent requests are multiplexed as streams on a single connection.
+ *
+ * <p>This class is internal and is hence not for public use. Its APIs are unstable and can change
+ * at any time.
+ */
+@AutoValue
+public abstract class Http2Config {
+
+  public static final int DEFAULT_MAX_CONCURRENT_STREAMS = 100;
+  public static final long DEFAULT_PING_INTERVAL_SECS = 30;
+
+  Http2Config() {}
+
+  /**
+   * Creates a config allowing at most {@code maxConcurrentStreams} requests in flight, and sending
+   * keep-alive pings every {@code pingIntervalNanos} if it is positive.
+   */
+  public static Http2Config create(int maxConcurrentStreams, long pingIntervalNanos) {
+    if (maxConcurrentStreams < 1) {
+      throw new IllegalArgumentException("maxConcurrentStreams must be positive");
+    }
+    if (pingIntervalNanos < 0) {
+      throw new IllegalArgumentException("pingInterval must be non-negative");
+    }
+    return new AutoValue_Http2Config(maxConcurrentStreams, pingIntervalNanos);
+  }
+
+  /** The max number of concurrent requests, i.e. streams on the connection. */
+  public abstract int getMaxConcurrentStreams();
+
+  /** The interval between keep-alive pings, or {@code 0} if pings are disabled. */
+  public abstract long getPingIntervalNanos();
+}
@@ -6,15 +6,23 @@
 package io.opentelemetry.exporter.internal.http;
 
 import io.opentelemetry.api.metrics.MeterProvider;
+import io.opentelemetry.exporter.internal.AdaptiveConcurrencyLimiter;
 import io.opentelemetry.exporter.internal.ExporterMetrics;
+import io.opentelemetry.exporter.internal.RetryUtil;
+import io.opentelemetry.exporter.internal.disk.DiskBufferingConfig;
+import io.opentelemetry.exporter.internal.disk.DiskBufferingQueue;
 import io.opentelemetry.exporter.internal.grpc.GrpcExporterUtil;
 import io.opentelemetry.exporter.internal.marshal.Marshaler;
+import io.opentelemetry.exporter.internal.marshal.RequestSplitter;
 import io.opentelemetry.sdk.common.CompletableResultCode;
 import io.opentelemetry.sdk.internal.ThrottlingLogger;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
+import java.util.Collection;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -38,6 +46,9 @@ public final class HttpExporter<T extends Marshaler> {
   private final HttpSender httpSender;
   private final ExporterMetrics exporterMetrics;
   private final boolean exportAsJson;
+  @Nullable private final DiskBufferingQueue diskBufferingQueue;
+  @Nullable private final AdaptiveConcurrencyLimiter concurrencyLimiter;
+  private final int maxRequestSize;
 
   public HttpExporter(
       String exporterName,
@@ -45,13 +56,73 @@ public final class HttpExporter<T extends Marshaler> {
       HttpSender httpSender,
       Supplier<MeterProvider> meterProviderSupplier,
       boolean exportAsJson) {
+    this(exporterName, type, httpSender, meterProviderSupplier, exportAsJson, null, 0, 0, null);
+  }
+
+  public HttpExporter(
+      String exporterName,
+      String type,
+      HttpSender httpSender,
+      Supplier<MeterProvider> meterProviderSupplier,
+      boolean exportAsJson,
+      @Nullable DiskBufferingConfig diskBufferingConfig,
+      int maxConcurrentRequests,
+      int maxRequestSize,
+      @Nullable Http2Config http2Config) {
     this.type = type;
     this.httpSender = httpSender;
     this.exporterMetrics =
         exportAsJson
             ? ExporterMetrics.createHttpJson(exporterName, type, meterProviderSupplier)
             : ExporterMetrics.createHttpProtobuf(exporterName, type, meterProviderSupplier);
+    // Connections are only worth observing when requests are multiplexed on them
+    HttpSender.ConnectionStats connectionStats =
+        http2Config == null ? null : httpSender.connectionStats();
+    if (connectionStats != null) {
+      if (connectionStats.tracksConnections()) {
+        exporterMetrics.registerConnections(
+            connectionStats::openConnections, connectionStats::idleConnections);
+      }
+      exporterMetrics.registerActiveRequests(connectionStats::activeRequests);
+    }
     this.exportAsJson = exportAsJson;
+    this.diskBufferingQueue =
+        diskBufferingConfig == null
+            ? null
+            : DiskBufferingQueue.create(
+                diskBufferingConfig,
+                type,
+                // Stored requests are replayed in the format they were serialized in
+                exportAsJson ? DiskBufferingQueue.FORMAT_JSON : DiskBufferingQueue.FORMAT_PROTOBUF,
+                this::replay,
+                exporterMetrics::addFailed);
+    if (maxConcurrentRequests > 0) {
+      AdaptiveConcurrencyLimiter limiter =
+          AdaptiveConcurrencyLimiter.create(type, maxConcurrentRequests);
+      exporterMetrics.registerConcurrencyLimit(limiter::getLimit);
+      this.concurrencyLimiter = limiter;
+    } else {
+      this.concurrencyLimiter = null;
+    }
+    this.maxRequestSize = maxRequestSize;
+  }
+
+  /**
+   * Exports the request {@code marshal} creates for {@code items}, split into several requests if
+   * it is larger than the configured max request size.
+   */
+  public <I> CompletableResultCode export(
+      Collection<I> items, Function<Collection<I>, T> marshal) {
+    return RequestSplitter.export(items, marshal, maxRequestSize, this::export);
+  }
+
+  /**
+   * Like {@link #export(Collection, Function)}, handing each request {@code marshal} creates to
+   * {@code release} once it is no longer used so that it can be reused for a later export.
+   */
+  public <I, R extends T> CompletableResultCode export(
+      Collection<I> items, Function<Collection<I>, R> marshal, Consumer<R> release) {
+    return RequestSplitter.export(items, marshal, release, maxRequestSize, this::export);
   }
 
   public CompletableResultCode export(T exportRequest, int numItems) {
@@ -61,8 +132,6 @@ public final class HttpExporter<T extends Marshaler> {
 
     exporterMetrics.addSeen(numItems);
 
-    CompletableResultCode result = new CompletableResultCode();
-
     Consumer<OutputStream> marshaler =
         os -> {
           try {
@@ -76,15 +145,60 @@ public final class HttpExporter<T extends Marshaler> {
           }
         };
 
+    if (diskBufferingQueue != null && diskBufferingQueue.hasPending()) {
+      // Queue behind the requests stored on disk to keep the export order.
+      return store(marshaler, numItems)
+          ? CompletableResultCode.ofSuccess()
+          : failStored(numItems);
+    }
+
+    // JSON size is not known before it is written.
+    int contentLength = exportAsJson ? -1 : exportRequest.getBinarySerializedSize();
+    CompletableResultCode result = new CompletableResultCode();
+
+    if (concurrencyLimiter == null) {
+      send(marshaler, contentLength, numItems, result);
+    } else if (!concurrencyLimiter.execute(
+        () -> send(marshaler, contentLength, numItems, result))) {
+      exporterMetrics.addFailed(numItems);
+      logger.log(
+          Level.WARNING,
+          "Failed to export "
+              + type
+              + "s. Too many requests are waiting for the concurrency limit.");
+      result.fail();
+    }
+
+    return result;
+  }
+
+  private void send(
+      Consumer<OutputStream> marshaler,
+      int contentLength,
+      int numItems,
+      CompletableResultCode result) {
+    long startNanos = System.nanoTime();
     httpSender.send(
         marshaler,
-        exportRequest.getBinarySerializedSize(),
+        contentLength,
         httpResponse -> {
           int statusCode = httpResponse.statusCode();
+          if (concurrencyLimiter != null) {
+            reportResponse(concurrencyLimiter, httpResponse, System.nanoTime() - startNanos);
+          }
 
           if (statusCode >= 200 && statusCode < 300) {
             exporterMetrics.addSuccess(numItems);
             result.succeed();
+            if (diskBufferingQueue != null) {
+              diskBufferingQueue.wakeUp();
+            }
+            return;
+          }
+
+          if (RetryUtil.retryableHttpResponseCodes().contains(statusCode)
+              && store(marshaler, numItems)) {
+            result.succeed();
             return;
           }
 
@@ -110,6 +224,14 @@ public final class HttpExporter<T extends Marshaler> {
           result.fail();
         },
         e -> {
+          if (concurrencyLimiter != null) {
+            // Timeouts and refused connections both call for fewer concurrent requests.
+            concurrencyLimiter.onOverload(-1);
+          }
+          if (store(marshaler, numItems)) {
+            result.succeed();
+            return;
+          }
           exporterMetrics.addFailed(numItems);
           logger.log(
               Level.SEVERE,
@@ -120,8 +242,6 @@ public final class HttpExporter<T extends Marshaler> {
               e);
           result.fail();
         });
-
-    return result;
   }
 
   public CompletableResultCode shutdown() {
@@ -129,9 +249,84 @@ public final class HttpExporter<T extends Marshaler> {
       logger.log(Level.INFO, "Calling shutdown() multiple times.");
       return CompletableResultCode.ofSuccess();
     }
+    if (diskBufferingQueue != null) {
+      diskBufferingQueue.shutdown();
+    }
+    if (concurrencyLimiter != null) {
+      concurrencyLimiter.shutdown();
+    }
+    exporterMetrics.close();
     return httpSender.shutdown();
   }
 
+  // Stores the request on disk to be replayed, if disk buffering is enabled. Never throws, as it
+  // runs in the sender callbacks that complete the export's result.
+  private boolean store(Consumer<OutputStream> marshaler, int numItems) {
+    if (diskBufferingQueue == null) {
+      return false;
+    }
+    ByteArrayOutputStream payload = new ByteArrayOutputStream();
+    try {
+      marshaler.accept(payload);
+    } catch (RuntimeException e) {
+      logger.log(Level.WARNING, "Failed to store " + type + "s on disk.", e);
+      return false;
+    }
+    return diskBufferingQueue.store(payload.toByteArray(), numItems);
+  }
+
+  private CompletableResultCode failStored(int numItems) {
+    exporterMetrics.addFailed(numItems);
+    return CompletableResultCode.ofFailure();
+  }
+
+  private CompletableResultCode replay(byte[] payload, int numItems) {
+    CompletableResultCode result = new CompletableResultCode();
+    httpSender.send(
+        os -> {
+          try {
+            os.write(payload);
+          } catch (IOException e) {
+            throw new IllegalStateException(e);
+          }
+        },
+        payload.length,
+        httpResponse -> {
+          int statusCode = httpResponse.statusCode();
+          if (statusCode >= 200 && statusCode < 300) {
+            exporterMetrics.addSuccess(numItems);
+            result.succeed();
+          } else if (RetryUtil.retryableHttpResponseCodes().contains(statusCode)) {
+            result.fail();
+          } else {
+            // Rejected for good, drop it.
+            exporterMetrics.addFailed(numItems);
+            logger.log(
+                Level.WARNING,
+                "Failed to export "
+                    + type
+                    + "s stored on disk. Server responded with HTTP status code "
+                    + statusCode
+                    + ", dropping them.");
+            result.succeed();
+          }
+        },
+        e -> result.fail());
+    return result;
+  }
+
+  private static void reportResponse(
+      AdaptiveConcurrencyLimiter limiter, HttpSender.Response httpResponse, long latencyNanos) {
+    int statusCode = httpResponse.statusCode();
+    if (statusCode >= 200 && statusCode < 300) {
+      limiter.onSuccess(latencyNanos);
+    } else if (statusCode == 429 || statusCode == 503 || statusCode == 504) {
+      limiter.onOverload(RetryUtil.parseRetryAfterNanos(httpResponse.header("Retry-After")));
+    } else {
+      limiter.onFailure();
+    }
+  }
+
   private static String extractErrorStatus(String statusMessage, @Nullable byte[] responseBody) {
     if (responseBody == null) {
       return "Response body missing, HTTP status message: " + statusMessage;
@@ -11,6 +11,9 @@ import io.opentelemetry.api.metrics.MeterProvider;
 import io.opentelemetry.exporter.internal.ExporterBuilderUtil;
 import io.opentelemetry.exporter.internal.TlsConfigHelper;
 import io.opentelemetry.exporter.internal.auth.Authenticator;
+import io.opentelemetry.exporter.internal.compression.Compressor;
+import io.opentelemetry.exporter.internal.compression.CompressorUtil;
+import io.opentelemetry.exporter.internal.disk.DiskBufferingConfig;
 import io.opentelemetry.exporter.internal.marshal.Marshaler;
 import io.opentelemetry.sdk.common.export.RetryPolicy;
 import java.net.URI;
@@ -18,6 +21,7 @@ import java.time.Duration;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Optional;
 import java.util.ServiceLoader;
 import java.util.StringJoiner;
 import java.util.concurrent.TimeUnit;
@@ -46,12 +50,16 @@ public final class HttpExporterBuilder<T extends Marshaler> {
   private String endpoint;
 
   private long timeoutNanos = TimeUnit.SECONDS.toNanos(DEFAULT_TIMEOUT_SECS);
-  private boolean compressionEnabled = false;
+  @Nullable private Compressor compressor;
   private boolean exportAsJson = false;
   @Nullable private Map<String, String> headers;
 
   private TlsConfigHelper tlsConfigHelper = new TlsConfigHelper();
   @Nullable private RetryPolicy retryPolicy;
+  @Nullable private DiskBufferingConfig diskBufferingConfig;
+  private int maxConcurrentRequests;
+  private int maxRequestSize;
+  @Nullable private Http2Config http2Config;
   private Supplier<MeterProvider> meterProviderSupplier = GlobalOpenTelemetry::getMeterProvider;
   @Nullable private Authenticator authenticator;
 
@@ -78,7 +86,11 @@ public final class HttpExporterBuilder<T extends Marshaler> {
   }
 
   public HttpExporterBuilder<T> setCompression(String compressionMethod) {
-    this.compressionEnabled = compressionMethod.equals("gzip");
+    return setCompression(CompressorUtil.validateAndResolveCompressor(compressionMethod));
+  }
+
+  public HttpExporterBuilder<T> setCompression(@Nullable Compressor compressor) {
+    this.compressor = compressor;
     return this;
   }
 
@@ -122,6 +134,26 @@ public final class HttpExporterBuilder<T extends Marshaler> {
     return this;
   }
 
+  public HttpExporterBuilder<T> setDiskBuffering(DiskBufferingConfig diskBufferingConfig) {
+    this.diskBufferingConfig = diskBufferingConfig;
+    return this;
+  }
+
+  public HttpExporterBuilder<T> setAdaptiveConcurrency(int maxConcurrentRequests) {
+    this.maxConcurrentRequests = maxConcurrentRequests;
+    return this;
+  }
+
+  public HttpExporterBuilder<T> setMaxRequestSize(int maxRequestSize) {
+    this.maxRequestSize = maxRequestSize;
+    return this;
+  }
+
+  public HttpExporterBuilder<T> setHttp2(Http2Config http2Config) {
+    this.http2Config = http2Config;
+    return this;
+  }
+
   public HttpExporterBuilder<T> exportAsJson() {
     this.exportAsJson = true;
     return this;
@@ -133,7 +165,7 @@ public final class HttpExporterBuilder<T extends Marshaler> {
     copy.endpoint = endpoint;
     copy.timeoutNanos = timeoutNanos;
     copy.exportAsJson = exportAsJson;
-    copy.compressionEnabled = compressionEnabled;
+    copy.compressor = compressor;
     if (headers != null) {
       copy.headers = new HashMap<>(headers);
     }
@@ -141,6 +173,10 @@ public final class HttpExporterBuilder<T extends Marshaler> {
     if (retryPolicy != null) {
       copy.retryPolicy = retryPolicy.toBuilder().build();
     }
+    copy.diskBufferingConfig = diskBufferingConfig;
+    copy.maxConcurrentRequests = maxConcurrentRequests;
+    copy.maxRequestSize = maxRequestSize;
+    copy.http2Config = http2Config;
     copy.meterProviderSupplier = meterProviderSupplier;
     copy.authenticator = authenticator;
     return copy;
@@ -154,17 +190,27 @@ public final class HttpExporterBuilder<T extends Marshaler> {
     HttpSender httpSender =
         httpSenderProvider.createSender(
             endpoint,
-            compressionEnabled,
+            compressor,
             exportAsJson ? "application/json" : "application/x-protobuf",
             timeoutNanos,
             headerSupplier,
             authenticator,
             retryPolicy,
             tlsConfigHelper.getSslContext(),
-            tlsConfigHelper.getTrustManager());
+            tlsConfigHelper.getTrustManager(),
+            http2Config);
     LOGGER.log(Level.FINE, "Using HttpSender: " + httpSender.getClass().getName());
 
-    return new HttpExporter<>(exporterName, type, httpSender, meterProviderSupplier, exportAsJson);
+    return new HttpExporter<>(
+        exporterName,
+        type,
+        httpSender,
+        meterProviderSupplier,
+        exportAsJson,
+        diskBufferingConfig,
+        maxConcurrentRequests,
+        maxRequestSize,
+        http2Config);
   }
 
   public String toString(boolean includePrefixAndSuffix) {
@@ -176,7 +222,9 @@ public final class HttpExporterBuilder<T extends Marshaler> {
     joiner.add("type=" + type);
     joiner.add("endpoint=" + endpoint);
     joiner.add("timeoutNanos=" + timeoutNanos);
-    joiner.add("compressionEnabled=" + compressionEnabled);
+    joiner.add(
+        "compressorEncoding="
+            + Optional.ofNullable(compressor).map(Compressor::getEncoding).orElse(null));
     joiner.add("exportAsJson=" + exportAsJson);
     if (headers != null) {
       StringJoiner headersJoiner = new StringJoiner(", ", "Headers{", "}");
@@ -186,6 +234,18 @@ public final class HttpExporterBuilder<T extends Marshaler> {
     if (retryPolicy != null) {
       joiner.add("retryPolicy=" + retryPolicy);
     }
+    if (diskBufferingConfig != null) {
+      joiner.add("diskBuffering=" + diskBufferingConfig);
+    }
+    if (maxConcurrentRequests > 0) {
+      joiner.add("maxConcurrentRequests=" + maxConcurrentRequests);
+    }
+    if (maxRequestSize > 0) {
+      joiner.add("maxRequestSize=" + maxRequestSize);
+    }
+    if (http2Config != null) {
+      joiner.add("http2=" + http2Config);
+    }
     // Note: omit tlsConfigHelper because we can't log the configuration in any readable way
     // Note: omit meterProviderSupplier because we can't log the configuration in any readable way
     // Note: omit authenticator because we can't log the configuration in any readable way
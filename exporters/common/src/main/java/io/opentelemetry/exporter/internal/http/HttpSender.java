@@ -9,6 +9,7 @@ import io.opentelemetry.sdk.common.CompletableResultCode;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.util.function.Consumer;
+import javax.annotation.Nullable;
 
 /**
  * An abstraction for sending HTTP requests and handling responses.
@@ -27,8 +28,11 @@ public interface HttpSender {
    * called when the request could not be executed due to cancellation, connectivity problems, or
    * timeout.
    *
+   * <p>The body is written by {@code marshaler} when the request is sent, and may be written again
+   * for a retry attempt, so senders can stream it to the connection rather than buffer it.
+   *
    * @param marshaler the request body marshaler
-   * @param contentLength the request body content length
+   * @param contentLength the request body content length, or {@code -1} if unknown
    * @param onResponse the callback to invoke with the HTTP response
    * @param onError the callback to invoke when the HTTP request could not be executed
    */
@@ -41,6 +45,33 @@ public interface HttpSender {
   /** Shutdown the sender. */
   CompletableResultCode shutdown();
 
+  /** Returns statistics of the connections used by the sender, or {@code null} if unsupported. */
+  @Nullable
+  default ConnectionStats connectionStats() {
+    return null;
+  }
+
+  /** Statistics of the connections used by a sender. */
+  interface ConnectionStats {
+
+    /**
+     * Whether the sender tracks its connections, if not {@link #openConnections()} and {@link
+     * #idleConnections()} are meaningless.
+     */
+    default boolean tracksConnections() {
+      return true;
+    }
+
+    /** The number of open connections. */
+    int openConnections();
+
+    /** The number of open connections without requests in flight. */
+    int idleConnections();
+
+    /** The number of requests in flight, i.e. HTTP/2 streams open when multiplexing. */
+    int activeRequests();
+  }
+
   /** The HTTP response. */
   interface Response {
 
@@ -52,5 +83,11 @@ public interface HttpSender {
 
     /** The HTTP response body. */
     byte[] responseBody() throws IOException;
+
+    /** The value of the HTTP response header {@code name}, or {@code null} if absent. */
+    @Nullable
+    default String header(String name) {
+      return null;
+    }
   }
 }
@@ -6,6 +6,7 @@
 package io.opentelemetry.exporter.internal.http;
 
 import io.opentelemetry.exporter.internal.auth.Authenticator;
+import io.opentelemetry.exporter.internal.compression.Compressor;
 import io.opentelemetry.sdk.common.export.RetryPolicy;
 import java.util.Map;
 import java.util.function.Supplier;
@@ -25,7 +26,7 @@ public interface HttpSenderProvider {
   /** Returns a {@link HttpSender} configured with the provided parameters. */
   HttpSender createSender(
       String endpoint,
-      boolean compressionEnabled,
+      @Nullable Compressor compressor,
       String contentType,
       long timeoutNanos,
       Supplier<Map<String, String>> headerSupplier,
@@ -33,4 +34,31 @@ public interface HttpSenderProvider {
       @Nullable RetryPolicy retryPolicy,
       @Nullable SSLContext sslContext,
       @Nullable X509TrustManager trustManager);
+
+  /**
+   * Returns a {@link HttpSender} configured with the provided parameters, sending requests over
+   * HTTP/2 if {@code http2Config} is not {@code null}. Providers not supporting HTTP/2 ignore it.
+   */
+  default HttpSender createSender(
+      String endpoint,
+      @Nullable Compressor compressor,
+      String contentType,
+      long timeoutNanos,
+      Supplier<Map<String, String>> headerSupplier,
+      @Nullable Authenticator authenticator,
+      @Nullable RetryPolicy retryPolicy,
+      @Nullable SSLContext sslContext,
+      @Nullable X509TrustManager trustManager,
+      @Nullable Http2Config http2Config) {
+    return createSender(
+        endpoint,
+        compressor,
+        contentType,
+        timeoutNanos,
+        headerSupplier,
+        authenticator,
+        retryPolicy,
+        sslContext,
+        trustManager);
+  }
 }
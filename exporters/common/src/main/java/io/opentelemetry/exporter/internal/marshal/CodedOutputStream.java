@@ -44,6 +44,10 @@ import static io.opentelemetry.exporter.internal.marshal.WireFormat.MAX_VARINT_S
 import io.opentelemetry.api.internal.ConfigUtil;
 import java.io.IOException;
 import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.function.Consumer;
+import javax.annotation.Nullable;
 
 /**
  * Protobuf wire encoder.
@@ -103,6 +107,16 @@ public abstract class CodedOutputStream {
     return cos;
   }
 
+  /**
+   * Create a new {@code CodedOutputStream} writing into direct buffers acquired from {@code pool}.
+   * Each buffer is passed to {@code sink}, flipped for reading, once it is full or the stream is
+   * flushed. The sink takes ownership of the buffer and is responsible for {@link
+   * DirectBufferPool#release(ByteBuffer) releasing} it once its content has been written.
+   */
+  static CodedOutputStream newInstance(DirectBufferPool pool, Consumer<ByteBuffer> sink) {
+    return new ByteBufferEncoder(pool, sink);
+  }
+
   // Disallow construction outside of this class.
   private CodedOutputStream() {}
 
@@ -186,6 +200,39 @@ public abstract class CodedOutputStream {
     writeByteArrayNoTag(value, 0, value.length);
   }
 
+  /**
+   * Write a {@code string} field to the stream, encoding it as UTF-8 on the fly. {@code utf8Length}
+   * must be the result of {@link #computeUtf8Length(String)} for the string.
+   */
+  final void writeStringNoTag(final String value, final int utf8Length) throws IOException {
+    writeUInt32NoTag(utf8Length);
+    int length = value.length();
+    for (int i = 0; i < length; i++) {
+      char c = value.charAt(i);
+      if (c < 0x80) {
+        write((byte) c);
+      } else if (c < 0x800) {
+        write((byte) (0xC0 | (c >>> 6)));
+        write((byte) (0x80 | (c & 0x3F)));
+      } else if (!Character.isSurrogate(c)) {
+        write((byte) (0xE0 | (c >>> 12)));
+        write((byte) (0x80 | ((c >>> 6) & 0x3F)));
+        write((byte) (0x80 | (c & 0x3F)));
+      } else if (Character.isHighSurrogate(c)
+          && i + 1 < length
+          && Character.isLowSurrogate(value.charAt(i + 1))) {
+        int codePoint = Character.toCodePoint(c, value.charAt(++i));
+        write((byte) (0xF0 | (codePoint >>> 18)));
+        write((byte) (0x80 | ((codePoint >>> 12) & 0x3F)));
+        write((byte) (0x80 | ((codePoint >>> 6) & 0x3F)));
+        write((byte) (0x80 | (codePoint & 0x3F)));
+      } else {
+        // Unpaired surrogate, replaced the same way as String.getBytes(UTF_8) does
+        write((byte) '?');
+      }
+    }
+  }
+
   // =================================================================
 
   abstract void write(byte value) throws IOException;
@@ -333,6 +380,34 @@ public abstract class CodedOutputStream {
     return computeUInt32SizeNoTag(fieldLength) + fieldLength;
   }
 
+  /**
+   * Compute the number of bytes of the UTF-8 encoding of a string, the same as the length of {@code
+   * value.getBytes(StandardCharsets.UTF_8)} without encoding it.
+   */
+  static int computeUtf8Length(final String value) {
+    int length = value.length();
+    int utf8Length = length;
+    for (int i = 0; i < length; i++) {
+      char c = value.charAt(i);
+      if (c < 0x80) {
+        continue;
+      }
+      if (c < 0x800) {
+        utf8Length += 1;
+      } else if (!Character.isSurrogate(c)) {
+        utf8Length += 2;
+      } else if (Character.isHighSurrogate(c)
+          && i + 1 < length
+          && Character.isLowSurrogate(value.charAt(i + 1))) {
+        // Two chars encoded as four bytes
+        utf8Length += 2;
+        i++;
+      }
+      // An unpaired surrogate is encoded as a single '?'
+    }
+    return utf8Length;
+  }
+
   /**
    * Encode a ZigZag-encoded 32-bit value. ZigZag encodes signed integers into values that can be
    * efficiently encoded with varint. (Otherwise, negative values must be sign-extended to 64 bits
@@ -582,4 +657,103 @@ public abstract class CodedOutputStream {
       position = 0;
     }
   }
+
+  /**
+   * An {@link CodedOutputStream} that writes into pooled direct {@link ByteBuffer}s, so the
+   * serialized message can be handed to NIO without being copied from the heap.
+   */
+  private static final class ByteBufferEncoder extends CodedOutputStream {
+    private final DirectBufferPool pool;
+    private final Consumer<ByteBuffer> sink;
+    // Acquired lazily so flushing at the end of a message does not leave an empty buffer behind.
+    @Nullable private ByteBuffer buffer;
+
+    ByteBufferEncoder(DirectBufferPool pool, Consumer<ByteBuffer> sink) {
+      this.pool = pool;
+      this.sink = sink;
+    }
+
+    @Override
+    void writeByteArrayNoTag(final byte[] value, int offset, int length) throws IOException {
+      writeUInt32NoTag(length);
+      write(value, offset, length);
+    }
+
+    @Override
+    void write(byte value) {
+      ensureAvailable(1).put(value);
+    }
+
+    @Override
+    void writeInt32NoTag(int value) {
+      if (value >= 0) {
+        writeUInt32NoTag(value);
+      } else {
+        // Must sign-extend.
+        writeUInt64NoTag(value);
+      }
+    }
+
+    @Override
+    void writeUInt32NoTag(int value) {
+      ByteBuffer target = ensureAvailable(MAX_VARINT32_SIZE);
+      while ((value & ~0x7F) != 0) {
+        target.put((byte) ((value & 0x7F) | 0x80));
+        value >>>= 7;
+      }
+      target.put((byte) value);
+    }
+
+    @Override
+    void writeFixed32NoTag(final int value) {
+      // Buffers are little-endian like the wire format.
+      ensureAvailable(FIXED32_SIZE).putInt(value);
+    }
+
+    @Override
+    void writeUInt64NoTag(long value) {
+      ByteBuffer target = ensureAvailable(MAX_VARINT_SIZE);
+      while ((value & ~0x7FL) != 0) {
+        target.put((byte) (((int) value & 0x7F) | 0x80));
+        value >>>= 7;
+      }
+      target.put((byte) value);
+    }
+
+    @Override
+    void writeFixed64NoTag(final long value) {
+      ensureAvailable(FIXED64_SIZE).putLong(value);
+    }
+
+    @Override
+    void write(byte[] value, int offset, int length) {
+      while (length > 0) {
+        ByteBuffer target = ensureAvailable(1);
+        int bytesWritten = Math.min(target.remaining(), length);
+        target.put(value, offset, bytesWritten);
+        offset += bytesWritten;
+        length -= bytesWritten;
+      }
+    }
+
+    @Override
+    void flush() {
+      if (buffer != null && buffer.position() > 0) {
+        ByteBuffer full = buffer;
+        buffer = null;
+        full.flip();
+        sink.accept(full);
+      }
+    }
+
+    private ByteBuffer ensureAvailable(int requiredSize) {
+      if (buffer != null && buffer.remaining() < requiredSize) {
+        flush();
+      }
+      if (buffer == null) {
+        buffer = pool.acquire().order(ByteOrder.LITTLE_ENDIAN);
+      }
+      return buffer;
+    }
+  }
 }
@@ -0,0 +1,71 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.exporter.internal.marshal;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.ArrayBlockingQueue;
+
+/**
+ * A bounded pool of fixed size direct {@link ByteBuffer}s used by {@link
+ * Marshaler#writeBinaryTo(DirectBufferPool, java.util.function.Consumer)} to serialize off-heap.
+ * Buffers are allocated on demand when the pool is empty, and buffers released to a full pool are
+ * dropped, so the pool bounds the retained off-heap memory without limiting concurrency. A pool
+ * is created and owned by the component writing the buffers out, which knows when a buffer can be
+ * released.
+ *
+ * <p>This class is internal and is hence not for public use. Its APIs are unstable and can change
+ * at any time.
+ */
+public final class DirectBufferPool {
+
+  private final int bufferSize;
+  private final ArrayBlockingQueue<ByteBuffer> pool;
+
+  /**
+   * Creates a pool of buffers of {@code bufferSize} bytes, retaining at most {@code
+   * maxPooledBuffers} of them.
+   */
+  public DirectBufferPool(int bufferSize, int maxPooledBuffers) {
+    if (bufferSize < WireFormat.MAX_VARINT_SIZE) {
+      throw new IllegalArgumentException("bufferSize must be >= " + WireFormat.MAX_VARINT_SIZE);
+    }
+    if (maxPooledBuffers <= 0) {
+      throw new IllegalArgumentException("maxPooledBuffers must be > 0");
+    }
+    this.bufferSize = bufferSize;
+    this.pool = new ArrayBlockingQueue<>(maxPooledBuffers);
+  }
+
+  /** Returns the capacity of the buffers of this pool. */
+  public int getBufferSize() {
+    return bufferSize;
+  }
+
+  /** Returns a cleared direct buffer, from the pool if one is available. */
+  public ByteBuffer acquire() {
+    ByteBuffer buffer = pool.poll();
+    if (buffer == null) {
+      return ByteBuffer.allocateDirect(bufferSize);
+    }
+    buffer.clear();
+    return buffer;
+  }
+
+  /**
+   * Returns {@code buffer} to the pool. It must have been acquired from this pool and must not be
+   * used after being released.
+   */
+  public void release(ByteBuffer buffer) {
+    if (buffer.isDirect() && buffer.capacity() == bufferSize) {
+      pool.offer(buffer);
+    }
+  }
+
+  // Visible for testing
+  int pooledBuffers() {
+    return pool.size();
+  }
+}
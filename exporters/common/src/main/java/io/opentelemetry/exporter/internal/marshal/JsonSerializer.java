@@ -7,6 +7,9 @@ package io.opentelemetry.exporter.internal.marshal;
 
 import com.fasterxml.jackson.core.JsonFactory;
 import com.fasterxml.jackson.core.JsonGenerator;
+import io.opentelemetry.api.internal.OtelEncodingUtils;
+import io.opentelemetry.api.trace.SpanId;
+import io.opentelemetry.api.trace.TraceId;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.nio.charset.StandardCharsets;
@@ -36,6 +39,41 @@ final class JsonSerializer extends Serializer {
     generator.writeStringField(field.getJsonName(), spanId);
   }
 
+  @Override
+  protected void writeTraceId(ProtoFieldInfo field, byte[] traceIdBytes) throws IOException {
+    writeHexId(field, traceIdBytes);
+  }
+
+  @Override
+  protected void writeSpanId(ProtoFieldInfo field, byte[] spanIdBytes) throws IOException {
+    writeHexId(field, spanIdBytes);
+  }
+
+  @Override
+  protected void writeTraceId(ProtoFieldInfo field, long traceIdHigh, long traceIdLow)
+      throws IOException {
+    char[] chars = new char[TraceId.getLength()];
+    OtelEncodingUtils.longToBase16String(traceIdHigh, chars, 0);
+    OtelEncodingUtils.longToBase16String(traceIdLow, chars, TraceId.getLength() / 2);
+    generator.writeFieldName(field.getJsonName());
+    generator.writeString(chars, 0, chars.length);
+  }
+
+  @Override
+  protected void writeSpanId(ProtoFieldInfo field, long spanId) throws IOException {
+    char[] chars = new char[SpanId.getLength()];
+    OtelEncodingUtils.longToBase16String(spanId, chars, 0);
+    generator.writeFieldName(field.getJsonName());
+    generator.writeString(chars, 0, chars.length);
+  }
+
+  private void writeHexId(ProtoFieldInfo field, byte[] idBytes) throws IOException {
+    char[] chars = new char[idBytes.length * 2];
+    OtelEncodingUtils.bytesToBase16(idBytes, chars, idBytes.length);
+    generator.writeFieldName(field.getJsonName());
+    generator.writeString(chars, 0, chars.length);
+  }
+
   @Override
   public void writeBool(ProtoFieldInfo field, boolean value) throws IOException {
     generator.writeBooleanField(field.getJsonName(), value);
@@ -108,6 +146,12 @@ final class JsonSerializer extends Serializer {
     generator.writeString(new String(utf8Bytes, StandardCharsets.UTF_8));
   }
 
+  @Override
+  protected void writeString(ProtoFieldInfo field, String string, int utf8Length)
+      throws IOException {
+    generator.writeStringField(field.getJsonName(), string);
+  }
+
   @Override
   protected void writeBytes(ProtoFieldInfo field, byte[] value) throws IOException {
     generator.writeBinaryField(field.getJsonName(), value);
@@ -165,6 +209,27 @@ final class JsonSerializer extends Serializer {
     generator.writeEndArray();
   }
 
+  @Override
+  protected void writeStartRepeated(ProtoFieldInfo field) throws IOException {
+    generator.writeArrayFieldStart(field.getJsonName());
+  }
+
+  @Override
+  protected void writeEndRepeated() throws IOException {
+    generator.writeEndArray();
+  }
+
+  @Override
+  protected void writeStartRepeatedElement(ProtoFieldInfo field, int protoMessageSize)
+      throws IOException {
+    generator.writeStartObject();
+  }
+
+  @Override
+  protected void writeEndRepeatedElement() throws IOException {
+    generator.writeEndObject();
+  }
+
   // Not a field.
   void writeMessageValue(Marshaler message) throws IOException {
     generator.writeStartObject();
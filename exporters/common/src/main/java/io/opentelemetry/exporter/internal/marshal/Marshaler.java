@@ -8,6 +8,8 @@ package io.opentelemetry.exporter.internal.marshal;
 import com.fasterxml.jackson.core.JsonGenerator;
 import java.io.IOException;
 import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.function.Consumer;
 
 /**
  * Marshaler from an SDK structure to protobuf wire format.
@@ -24,6 +26,18 @@ public abstract class Marshaler {
     }
   }
 
+  /**
+   * Marshals in proto binary format into direct buffers acquired from {@code pool}, passing each to
+   * {@code sink} as it fills up. The sink owns the buffers it receives and must {@link
+   * DirectBufferPool#release(ByteBuffer) release} them once written, e.g. to a NIO channel.
+   */
+  public final void writeBinaryTo(DirectBufferPool pool, Consumer<ByteBuffer> sink)
+      throws IOException {
+    try (Serializer serializer = new ProtoSerializer(pool, sink)) {
+      writeTo(serializer);
+    }
+  }
+
   /** Marshals into the {@link OutputStream} in proto JSON format. */
   public final void writeJsonTo(OutputStream output) throws IOException {
     try (JsonSerializer serializer = new JsonSerializer(output)) {
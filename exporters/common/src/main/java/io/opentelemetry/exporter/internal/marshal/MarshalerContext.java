@@ -0,0 +1,169 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.exporter.internal.marshal;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import javax.annotation.Nullable;
+
+/**
+ * Reusable state for marshaling with {@link StatelessMarshaler}s.
+ *
+ * <p>Computing the size of a message records the size of every nested message and string on a
+ * stack of primitives, and any object which is expensive to look up again on a data stack.
+ * Writing the message then reads them back in the same order, so that nothing is computed twice
+ * and no object tree is allocated per exported item. Once warmed up, the arrays, maps and lists
+ * held by the context are reused across requests.
+ *
+ * <p>A context is not thread safe, it is meant to be owned by a single exporting thread.
+ *
+ * <p>This class is internal and is hence not for public use. Its APIs are unstable and can change
+ * at any time.
+ */
+public final class MarshalerContext {
+
+  private int[] sizes = new int[16];
+  private int sizeReadIndex;
+  private int sizeWriteIndex;
+  private Object[] data = new Object[16];
+  private int dataReadIndex;
+  private int dataWriteIndex;
+
+  private final Pool<Map<?, ?>> mapPool = new Pool<>(IdentityHashMap::new, Map::clear);
+  private final Pool<List<?>> listPool = new Pool<>(ArrayList::new, List::clear);
+  private final Map<Key, Object> instances = new IdentityHashMap<>();
+
+  /**
+   * Reserves a slot for the size of a message whose size is not known yet, to be filled in with
+   * {@link #setSize(int, int)} once it is. Returns the index of the slot.
+   */
+  public int addSize() {
+    growSizesIfNeeded();
+    return sizeWriteIndex++;
+  }
+
+  /** Sets the size of a slot reserved with {@link #addSize()}. */
+  public void setSize(int index, int size) {
+    sizes[index] = size;
+  }
+
+  /** Records a size. */
+  public void addSize(int size) {
+    growSizesIfNeeded();
+    sizes[sizeWriteIndex++] = size;
+  }
+
+  /** Returns the next recorded size. */
+  public int getSize() {
+    return sizes[sizeReadIndex++];
+  }
+
+  private void growSizesIfNeeded() {
+    if (sizeWriteIndex == sizes.length) {
+      sizes = Arrays.copyOf(sizes, sizes.length * 2);
+    }
+  }
+
+  /** Records an object to be read back while writing. */
+  public void addData(@Nullable Object o) {
+    if (dataWriteIndex == data.length) {
+      data = Arrays.copyOf(data, data.length * 2);
+    }
+    data[dataWriteIndex++] = o;
+  }
+
+  /** Returns the next recorded object. */
+  public <T> T getData(Class<T> type) {
+    return type.cast(data[dataReadIndex++]);
+  }
+
+  /** Returns an empty identity map, kept for reuse until the context is {@link #reset()}. */
+  @SuppressWarnings("unchecked")
+  public <K, V> Map<K, V> getIdentityMap() {
+    return (Map<K, V>) mapPool.get();
+  }
+
+  /** Returns an empty list, kept for reuse until the context is {@link #reset()}. */
+  @SuppressWarnings("unchecked")
+  public <T> List<T> getList() {
+    return (List<T>) listPool.get();
+  }
+
+  /**
+   * Returns the instance kept under {@code key}, creating it with {@code supplier} the first time.
+   * Used to reuse helper objects, e.g. visitors, instead of allocating them for every message.
+   */
+  @SuppressWarnings("unchecked")
+  public <T> T getInstance(Key key, Supplier<T> supplier) {
+    Object instance = instances.get(key);
+    if (instance == null) {
+      instance = supplier.get();
+      instances.put(key, instance);
+    }
+    return (T) instance;
+  }
+
+  /** Rewinds to the first size and object, to write the message they were recorded for. */
+  public void resetReadIndex() {
+    sizeReadIndex = 0;
+    dataReadIndex = 0;
+  }
+
+  /** Forgets everything recorded so far, to compute the size of another message. */
+  public void reset() {
+    sizeReadIndex = 0;
+    sizeWriteIndex = 0;
+    Arrays.fill(data, 0, dataWriteIndex, null);
+    dataReadIndex = 0;
+    dataWriteIndex = 0;
+    mapPool.reset();
+    listPool.reset();
+  }
+
+  /** Returns a new key for {@link #getInstance(Key, Supplier)}. */
+  public static Key key() {
+    return new Key();
+  }
+
+  /** A key of an instance kept by a {@link MarshalerContext}, compared by identity. */
+  public static final class Key {
+    private Key() {}
+  }
+
+  private static final class Pool<T> {
+    private final List<T> pool = new ArrayList<>();
+    private final Supplier<T> factory;
+    private final Consumer<T> clean;
+    private int index;
+
+    Pool(Supplier<T> factory, Consumer<T> clean) {
+      this.factory = factory;
+      this.clean = clean;
+    }
+
+    T get() {
+      if (index < pool.size()) {
+        return pool.get(index++);
+      }
+      T value = factory.get();
+      pool.add(value);
+      index++;
+      return value;
+    }
+
+    void reset() {
+      for (int i = 0; i < index; i++) {
+        clean.accept(pool.get(i));
+      }
+      index = 0;
+    }
+  }
+}
@@ -273,6 +273,32 @@ public final class MarshalerUtil {
     return field.getTagSize() + SPAN_ID_VALUE_SIZE;
   }
 
+  /** Returns the size of a trace_id field given as its 16 bytes. */
+  public static int sizeTraceId(ProtoFieldInfo field, @Nullable byte[] traceIdBytes) {
+    if (traceIdBytes == null) {
+      return 0;
+    }
+    return field.getTagSize() + TRACE_ID_VALUE_SIZE;
+  }
+
+  /** Returns the size of a span_id field given as its 8 bytes. */
+  public static int sizeSpanId(ProtoFieldInfo field, @Nullable byte[] spanIdBytes) {
+    if (spanIdBytes == null) {
+      return 0;
+    }
+    return field.getTagSize() + SPAN_ID_VALUE_SIZE;
+  }
+
+  /** Returns the size of a trace_id field given as its two halves. */
+  public static int sizeTraceId(ProtoFieldInfo field, long traceIdHigh, long traceIdLow) {
+    return field.getTagSize() + TRACE_ID_VALUE_SIZE;
+  }
+
+  /** Returns the size of a span_id field given as a {@code long}. */
+  public static int sizeSpanId(ProtoFieldInfo field, long spanId) {
+    return field.getTagSize() + SPAN_ID_VALUE_SIZE;
+  }
+
   /** Converts the string to utf8 bytes for encoding. */
   public static byte[] toBytes(@Nullable String value) {
     if (value == null || value.isEmpty()) {
@@ -10,9 +10,11 @@ import io.opentelemetry.api.trace.SpanId;
 import io.opentelemetry.api.trace.TraceId;
 import java.io.IOException;
 import java.io.OutputStream;
+import java.nio.ByteBuffer;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
 
 /** Serializer for the protobuf binary wire format. */
 final class ProtoSerializer extends Serializer implements AutoCloseable {
@@ -32,6 +34,11 @@ final class ProtoSerializer extends Serializer implements AutoCloseable {
     idCache = getIdCache();
   }
 
+  ProtoSerializer(DirectBufferPool pool, Consumer<ByteBuffer> sink) {
+    this.output = CodedOutputStream.newInstance(pool, sink);
+    idCache = getIdCache();
+  }
+
   @Override
   protected void writeTraceId(ProtoFieldInfo field, String traceId) throws IOException {
     byte[] traceIdBytes =
@@ -48,6 +55,33 @@ final class ProtoSerializer extends Serializer implements AutoCloseable {
     writeBytes(field, spanIdBytes);
   }
 
+  @Override
+  protected void writeTraceId(ProtoFieldInfo field, byte[] traceIdBytes) throws IOException {
+    writeBytes(field, traceIdBytes);
+  }
+
+  @Override
+  protected void writeSpanId(ProtoFieldInfo field, byte[] spanIdBytes) throws IOException {
+    writeBytes(field, spanIdBytes);
+  }
+
+  @Override
+  protected void writeTraceId(ProtoFieldInfo field, long traceIdHigh, long traceIdLow)
+      throws IOException {
+    output.writeUInt32NoTag(field.getTag());
+    output.writeUInt32NoTag(2 * WireFormat.FIXED64_SIZE);
+    // IDs are big-endian while fixed64 is little-endian
+    output.writeFixed64NoTag(Long.reverseBytes(traceIdHigh));
+    output.writeFixed64NoTag(Long.reverseBytes(traceIdLow));
+  }
+
+  @Override
+  protected void writeSpanId(ProtoFieldInfo field, long spanId) throws IOException {
+    output.writeUInt32NoTag(field.getTag());
+    output.writeUInt32NoTag(WireFormat.FIXED64_SIZE);
+    output.writeFixed64NoTag(Long.reverseBytes(spanId));
+  }
+
   @Override
   public void writeBool(ProtoFieldInfo field, boolean value) throws IOException {
     output.writeUInt32NoTag(field.getTag());
@@ -122,6 +156,13 @@ final class ProtoSerializer extends Serializer implements AutoCloseable {
     writeBytes(field, utf8Bytes);
   }
 
+  @Override
+  protected void writeString(ProtoFieldInfo field, String string, int utf8Length)
+      throws IOException {
+    output.writeUInt32NoTag(field.getTag());
+    output.writeStringNoTag(string, utf8Length);
+  }
+
   @Override
   protected void writeBytes(ProtoFieldInfo field, byte[] value) throws IOException {
     output.writeUInt32NoTag(field.getTag());
@@ -179,6 +220,27 @@ final class ProtoSerializer extends Serializer implements AutoCloseable {
     }
   }
 
+  @Override
+  protected void writeStartRepeated(ProtoFieldInfo field) {
+    // Do nothing
+  }
+
+  @Override
+  protected void writeEndRepeated() {
+    // Do nothing
+  }
+
+  @Override
+  protected void writeStartRepeatedElement(ProtoFieldInfo field, int protoMessageSize)
+      throws IOException {
+    writeStartMessage(field, protoMessageSize);
+  }
+
+  @Override
+  protected void writeEndRepeatedElement() {
+    // Do nothing
+  }
+
   @Override
   public void writeSerializedMessage(byte[] protoSerialized, String jsonSerialized)
       throws IOException {
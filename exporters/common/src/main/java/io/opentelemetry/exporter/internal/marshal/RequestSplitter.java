@@ -0,0 +1,99 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.exporter.internal.marshal;
+
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Splits export requests whose serialized size exceeds a limit into several smaller requests, e.g.
+ * to stay below the max message size accepted by the collector.
+ *
+ * <p>This class is internal and is hence not for public use. Its APIs are unstable and can change
+ * at any time.
+ */
+public final class RequestSplitter {
+
+  /** Exports a request of {@code numItems} items. */
+  @FunctionalInterface
+  public interface RequestExporter<T> {
+    CompletableResultCode export(T request, int numItems);
+  }
+
+  /**
+   * Exports the request {@code marshal} creates for {@code items}. If its binary serialized size
+   * exceeds {@code maxRequestSize}, the items are split into requests below it which are exported
+   * concurrently, the returned result completes once all of them do. A single item larger than the
+   * limit is still exported on its own. A {@code maxRequestSize} of {@code 0} disables splitting.
+   */
+  public static <I, T extends Marshaler> CompletableResultCode export(
+      Collection<I> items,
+      Function<Collection<I>, T> marshal,
+      int maxRequestSize,
+      RequestExporter<T> exporter) {
+    return export(items, marshal, request -> {}, maxRequestSize, exporter);
+  }
+
+  /**
+   * Like {@link #export(Collection, Function, int, RequestExporter)}, additionally handing every
+   * request {@code marshal} creates to {@code release} once it is no longer used, i.e. when its
+   * export completes or when it is dropped for being too large. This allows {@code marshal} to
+   * reuse the requests.
+   */
+  public static <I, T extends Marshaler> CompletableResultCode export(
+      Collection<I> items,
+      Function<Collection<I>, T> marshal,
+      Consumer<? super T> release,
+      int maxRequestSize,
+      RequestExporter<? super T> exporter) {
+    T request = marshal.apply(items);
+    int size = request.getBinarySerializedSize();
+    if (maxRequestSize <= 0 || items.size() <= 1 || size <= maxRequestSize) {
+      return exportAndRelease(request, items.size(), release, exporter);
+    }
+    release.accept(request);
+    List<CompletableResultCode> results = new ArrayList<>();
+    split(new ArrayList<>(items), size, marshal, release, maxRequestSize, exporter, results);
+    return CompletableResultCode.ofAll(results);
+  }
+
+  private static <I, T extends Marshaler> void split(
+      List<I> items,
+      int size,
+      Function<Collection<I>, T> marshal,
+      Consumer<? super T> release,
+      int maxRequestSize,
+      RequestExporter<? super T> exporter,
+      List<CompletableResultCode> results) {
+    // Assume items are of similar size, chunks that are still too large are split again.
+    int chunks = (int) Math.min(items.size(), ((long) size + maxRequestSize - 1) / maxRequestSize);
+    int chunkLength = (items.size() + chunks - 1) / chunks;
+    for (int from = 0; from < items.size(); from += chunkLength) {
+      List<I> chunk = items.subList(from, Math.min(items.size(), from + chunkLength));
+      T request = marshal.apply(chunk);
+      int chunkSize = request.getBinarySerializedSize();
+      if (chunkSize <= maxRequestSize || chunk.size() == 1) {
+        results.add(exportAndRelease(request, chunk.size(), release, exporter));
+      } else {
+        release.accept(request);
+        split(chunk, chunkSize, marshal, release, maxRequestSize, exporter, results);
+      }
+    }
+  }
+
+  private static <T extends Marshaler> CompletableResultCode exportAndRelease(
+      T request, int numItems, Consumer<? super T> release, RequestExporter<? super T> exporter) {
+    CompletableResultCode result = exporter.export(request, numItems);
+    result.whenComplete(() -> release.accept(request));
+    return result;
+  }
+
+  private RequestSplitter() {}
+}
@@ -5,8 +5,14 @@
 
 package io.opentelemetry.exporter.internal.marshal;
 
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
 import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
 import javax.annotation.Nullable;
 
 /**
@@ -22,6 +28,7 @@ import javax.annotation.Nullable;
  * at any time.
  */
 public abstract class Serializer implements AutoCloseable {
+  private static final MarshalerContext.Key ATTRIBUTES_WRITER_KEY = MarshalerContext.key();
 
   Serializer() {}
 
@@ -35,6 +42,18 @@ public abstract class Serializer implements AutoCloseable {
 
   protected abstract void writeTraceId(ProtoFieldInfo field, String traceId) throws IOException;
 
+  /** Serializes a trace ID field given as its 16 bytes. */
+  public void serializeTraceId(ProtoFieldInfo field, @Nullable byte[] traceIdBytes)
+      throws IOException {
+    if (traceIdBytes == null) {
+      return;
+    }
+    writeTraceId(field, traceIdBytes);
+  }
+
+  protected abstract void writeTraceId(ProtoFieldInfo field, byte[] traceIdBytes)
+      throws IOException;
+
   /** Serializes a span ID field. */
   public void serializeSpanId(ProtoFieldInfo field, @Nullable String spanId) throws IOException {
     if (spanId == null) {
@@ -45,6 +64,33 @@ public abstract class Serializer implements AutoCloseable {
 
   protected abstract void writeSpanId(ProtoFieldInfo field, String spanId) throws IOException;
 
+  /** Serializes a span ID field given as its 8 bytes. */
+  public void serializeSpanId(ProtoFieldInfo field, @Nullable byte[] spanIdBytes)
+      throws IOException {
+    if (spanIdBytes == null) {
+      return;
+    }
+    writeSpanId(field, spanIdBytes);
+  }
+
+  protected abstract void writeSpanId(ProtoFieldInfo field, byte[] spanIdBytes) throws IOException;
+
+  /** Serializes a trace ID field given as its two halves. */
+  public void serializeTraceId(ProtoFieldInfo field, long traceIdHigh, long traceIdLow)
+      throws IOException {
+    writeTraceId(field, traceIdHigh, traceIdLow);
+  }
+
+  protected abstract void writeTraceId(ProtoFieldInfo field, long traceIdHigh, long traceIdLow)
+      throws IOException;
+
+  /** Serializes a span ID field given as a {@code long}. */
+  public void serializeSpanId(ProtoFieldInfo field, long spanId) throws IOException {
+    writeSpanId(field, spanId);
+  }
+
+  protected abstract void writeSpanId(ProtoFieldInfo field, long spanId) throws IOException;
+
   /** Serializes a protobuf {@code bool} field. */
   public void serializeBool(ProtoFieldInfo field, boolean value) throws IOException {
     if (!value) {
@@ -169,6 +215,35 @@ public abstract class Serializer implements AutoCloseable {
   /** Writes a protobuf {@code string} field, even if it matches the default value. */
   public abstract void writeString(ProtoFieldInfo field, byte[] utf8Bytes) throws IOException;
 
+  /**
+   * Serializes a protobuf {@code string} field, encoding it as UTF-8 while writing. The length of
+   * the encoding is read from the {@code context}, where {@link
+   * StatelessMarshalerUtil#sizeStringWithContext(ProtoFieldInfo, String, MarshalerContext)}
+   * recorded it.
+   */
+  public void serializeStringWithContext(
+      ProtoFieldInfo field, @Nullable String string, MarshalerContext context) throws IOException {
+    if (string == null || string.isEmpty()) {
+      return;
+    }
+    serializeStringOptionalWithContext(field, string, context);
+  }
+
+  /**
+   * Serializes a protobuf {@code string} field, even if it matches the default value. The length
+   * of the encoding is read from the {@code context}, where {@link
+   * StatelessMarshalerUtil#sizeStringOptionalWithContext(ProtoFieldInfo, String,
+   * MarshalerContext)} recorded it.
+   */
+  public void serializeStringOptionalWithContext(
+      ProtoFieldInfo field, String string, MarshalerContext context) throws IOException {
+    writeString(field, string, context.getSize());
+  }
+
+  /** Writes a protobuf {@code string} field whose UTF-8 encoding is {@code utf8Length} bytes. */
+  protected abstract void writeString(ProtoFieldInfo field, String string, int utf8Length)
+      throws IOException;
+
   /** Serializes a protobuf {@code bytes} field. */
   public void serializeBytes(ProtoFieldInfo field, byte[] value) throws IOException {
     if (value.length == 0) {
@@ -191,6 +266,34 @@ public abstract class Serializer implements AutoCloseable {
     writeEndMessage();
   }
 
+  /**
+   * Serializes a protobuf embedded {@code message} with a {@link StatelessMarshaler}, reading its
+   * size from the {@code context}.
+   */
+  public <T> void serializeMessageWithContext(
+      ProtoFieldInfo field, T value, StatelessMarshaler<T> marshaler, MarshalerContext context)
+      throws IOException {
+    writeStartMessage(field, context.getSize());
+    marshaler.writeTo(this, value, context);
+    writeEndMessage();
+  }
+
+  /**
+   * Serializes a protobuf embedded {@code message} with a {@link StatelessMarshaler2}, reading its
+   * size from the {@code context}.
+   */
+  public <K, V> void serializeMessageWithContext(
+      ProtoFieldInfo field,
+      K key,
+      V value,
+      StatelessMarshaler2<K, V> marshaler,
+      MarshalerContext context)
+      throws IOException {
+    writeStartMessage(field, context.getSize());
+    marshaler.writeTo(this, key, value, context);
+    writeEndMessage();
+  }
+
   protected abstract void writeStartRepeatedPrimitive(
       ProtoFieldInfo field, int protoSizePerElement, int numElements) throws IOException;
 
@@ -265,10 +368,125 @@ public abstract class Serializer implements AutoCloseable {
   public abstract void serializeRepeatedMessage(
       ProtoFieldInfo field, List<? extends Marshaler> repeatedMessage) throws IOException;
 
+  /** Serializes {@code repeated message} field with a {@link StatelessMarshaler}. */
+  public <T> void serializeRepeatedMessageWithContext(
+      ProtoFieldInfo field,
+      List<? extends T> messages,
+      StatelessMarshaler<T> marshaler,
+      MarshalerContext context)
+      throws IOException {
+    writeStartRepeated(field);
+    // Indexed to not allocate an iterator
+    for (int i = 0; i < messages.size(); i++) {
+      writeStartRepeatedElement(field, context.getSize());
+      marshaler.writeTo(this, messages.get(i), context);
+      writeEndRepeatedElement();
+    }
+    writeEndRepeated();
+  }
+
+  /** Serializes {@code repeated message} field with a {@link StatelessMarshaler}. */
+  public <T> void serializeRepeatedMessageWithContext(
+      ProtoFieldInfo field,
+      Collection<? extends T> messages,
+      StatelessMarshaler<T> marshaler,
+      MarshalerContext context)
+      throws IOException {
+    writeStartRepeated(field);
+    for (T message : messages) {
+      writeStartRepeatedElement(field, context.getSize());
+      marshaler.writeTo(this, message, context);
+      writeEndRepeatedElement();
+    }
+    writeEndRepeated();
+  }
+
+  /**
+   * Serializes {@code repeated message} field made from the entries of {@code messages} with a
+   * {@link StatelessMarshaler2}.
+   */
+  public <K, V> void serializeRepeatedMessageWithContext(
+      ProtoFieldInfo field,
+      Map<K, V> messages,
+      StatelessMarshaler2<K, V> marshaler,
+      MarshalerContext context)
+      throws IOException {
+    writeStartRepeated(field);
+    for (Map.Entry<K, V> entry : messages.entrySet()) {
+      writeStartRepeatedElement(field, context.getSize());
+      marshaler.writeTo(this, entry.getKey(), entry.getValue(), context);
+      writeEndRepeatedElement();
+    }
+    writeEndRepeated();
+  }
+
+  /**
+   * Serializes {@code repeated message} field made from {@code attributes} with a {@link
+   * StatelessMarshaler2}.
+   */
+  public void serializeRepeatedMessageWithContext(
+      ProtoFieldInfo field,
+      Attributes attributes,
+      StatelessMarshaler2<AttributeKey<?>, Object> marshaler,
+      MarshalerContext context)
+      throws IOException {
+    writeStartRepeated(field);
+    if (!attributes.isEmpty()) {
+      RepeatedElementWriter<AttributeKey<?>, Object> writer =
+          context.getInstance(ATTRIBUTES_WRITER_KEY, RepeatedElementWriter::new);
+      writer.initialize(field, this, marshaler, context);
+      try {
+        attributes.forEach(writer);
+      } catch (UncheckedIOException e) {
+        throw e.getCause();
+      }
+    }
+    writeEndRepeated();
+  }
+
+  protected abstract void writeStartRepeated(ProtoFieldInfo field) throws IOException;
+
+  protected abstract void writeEndRepeated() throws IOException;
+
+  protected abstract void writeStartRepeatedElement(ProtoFieldInfo field, int protoMessageSize)
+      throws IOException;
+
+  protected abstract void writeEndRepeatedElement() throws IOException;
+
   /** Writes the value for a message field that has been pre-serialized. */
   public abstract void writeSerializedMessage(byte[] protoSerialized, String jsonSerialized)
       throws IOException;
 
   @Override
   public abstract void close() throws IOException;
+
+  private static class RepeatedElementWriter<K, V> implements BiConsumer<K, V> {
+    @Nullable private ProtoFieldInfo field;
+    @Nullable private Serializer output;
+    @Nullable private StatelessMarshaler2<K, V> marshaler;
+    @Nullable private MarshalerContext context;
+
+    void initialize(
+        ProtoFieldInfo field,
+        Serializer output,
+        StatelessMarshaler2<K, V> marshaler,
+        MarshalerContext context) {
+      this.field = field;
+      this.output = output;
+      this.marshaler = marshaler;
+      this.context = context;
+    }
+
+    @SuppressWarnings("NullAway")
+    @Override
+    public void accept(K key, V value) {
+      try {
+        output.writeStartRepeatedElement(field, context.getSize());
+        marshaler.writeTo(output, key, value, context);
+        output.writeEndRepeatedElement();
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
+    }
+  }
 }
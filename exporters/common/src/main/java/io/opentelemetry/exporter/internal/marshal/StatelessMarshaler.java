@@ -0,0 +1,27 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.exporter.internal.marshal;
+
+import java.io.IOException;
+
+/**
+ * Marshaler from an SDK structure to protobuf wire format, which unlike {@link Marshaler} does not
+ * hold the data it marshals. Sizes computed by {@link #getBinarySerializedSize(Object,
+ * MarshalerContext)} are kept in the {@link MarshalerContext} and read back by {@link
+ * #writeTo(Serializer, Object, MarshalerContext)}, which must visit the same nested messages in
+ * the same order.
+ *
+ * <p>This class is internal and is hence not for public use. Its APIs are unstable and can change
+ * at any time.
+ */
+public interface StatelessMarshaler<T> {
+
+  /** Returns the number of bytes marshaling given value will write in proto binary format. */
+  int getBinarySerializedSize(T value, MarshalerContext context);
+
+  /** Marshal given value to the {@link Serializer}. */
+  void writeTo(Serializer output, T value, MarshalerContext context) throws IOException;
+}
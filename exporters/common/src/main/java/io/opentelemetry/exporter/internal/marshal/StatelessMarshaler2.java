@@ -0,0 +1,24 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.exporter.internal.marshal;
+
+import java.io.IOException;
+
+/**
+ * A {@link StatelessMarshaler} of a message made from two values, e.g. an attribute key and value
+ * or an entry of a map.
+ *
+ * <p>This class is internal and is hence not for public use. Its APIs are unstable and can change
+ * at any time.
+ */
+public interface StatelessMarshaler2<K, V> {
+
+  /** Returns the number of bytes marshaling given key and value will write in binary format. */
+  int getBinarySerializedSize(K key, V value, MarshalerContext context);
+
+  /** Marshal given key and value to the {@link Serializer}. */
+  void writeTo(Serializer output, K key, V value, MarshalerContext context) throws IOException;
+}
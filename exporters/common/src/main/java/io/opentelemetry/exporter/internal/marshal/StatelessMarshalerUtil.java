@@ -0,0 +1,193 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.exporter.internal.marshal;
+
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.sdk.common.InstrumentationScopeInfo;
+import io.opentelemetry.sdk.resources.Resource;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import javax.annotation.Nullable;
+
+/**
+ * Size computation utilities for {@link StatelessMarshaler}s, recording the sizes of nested
+ * messages and strings in a {@link MarshalerContext}.
+ *
+ * <p>This class is internal and is hence not for public use. Its APIs are unstable and can change
+ * at any time.
+ */
+public final class StatelessMarshalerUtil {
+  private static final MarshalerContext.Key ATTRIBUTES_SIZE_CALCULATOR_KEY = MarshalerContext.key();
+
+  /**
+   * Groups SDK items by resource and instrumentation scope, into maps and lists borrowed from the
+   * {@code context}.
+   */
+  public static <T> Map<Resource, Map<InstrumentationScopeInfo, List<T>>> groupByResourceAndScope(
+      Collection<T> dataList,
+      Function<T, Resource> getResource,
+      Function<T, InstrumentationScopeInfo> getInstrumentationScope,
+      MarshalerContext context) {
+    Map<Resource, Map<InstrumentationScopeInfo, List<T>>> result = context.getIdentityMap();
+    for (T data : dataList) {
+      Resource resource = getResource.apply(data);
+      Map<InstrumentationScopeInfo, List<T>> scopeInfoListMap = result.get(resource);
+      if (scopeInfoListMap == null) {
+        scopeInfoListMap = context.getIdentityMap();
+        result.put(resource, scopeInfoListMap);
+      }
+      InstrumentationScopeInfo instrumentationScope = getInstrumentationScope.apply(data);
+      List<T> elementList = scopeInfoListMap.get(instrumentationScope);
+      if (elementList == null) {
+        elementList = context.getList();
+        scopeInfoListMap.put(instrumentationScope, elementList);
+      }
+      elementList.add(data);
+    }
+    return result;
+  }
+
+  /** Returns the number of bytes of the UTF-8 encoding of {@code value}. */
+  public static int getUtf8Size(String value) {
+    return CodedOutputStream.computeUtf8Length(value);
+  }
+
+  /**
+   * Returns the size of a string field, recording the length of its UTF-8 encoding for {@link
+   * Serializer#serializeStringWithContext(ProtoFieldInfo, String, MarshalerContext)}.
+   */
+  public static int sizeStringWithContext(
+      ProtoFieldInfo field, @Nullable String value, MarshalerContext context) {
+    if (value == null || value.isEmpty()) {
+      return 0;
+    }
+    return sizeStringOptionalWithContext(field, value, context);
+  }
+
+  /**
+   * Returns the size of a string field which is written even if empty, recording the length of its
+   * UTF-8 encoding for {@link Serializer#serializeStringOptionalWithContext(ProtoFieldInfo, String,
+   * MarshalerContext)}.
+   */
+  public static int sizeStringOptionalWithContext(
+      ProtoFieldInfo field, String value, MarshalerContext context) {
+    int utf8Size = getUtf8Size(value);
+    context.addSize(utf8Size);
+    return field.getTagSize() + CodedOutputStream.computeLengthDelimitedFieldSize(utf8Size);
+  }
+
+  /** Returns the size of a message field, recording the size of the message. */
+  public static <T> int sizeMessageWithContext(
+      ProtoFieldInfo field, T value, StatelessMarshaler<T> marshaler, MarshalerContext context) {
+    // Reserve the slot before the nested sizes are recorded, so that it is read back first
+    int sizeIndex = context.addSize();
+    int fieldSize = marshaler.getBinarySerializedSize(value, context);
+    context.setSize(sizeIndex, fieldSize);
+    return field.getTagSize() + CodedOutputStream.computeUInt32SizeNoTag(fieldSize) + fieldSize;
+  }
+
+  /** Returns the size of a message field, recording the size of the message. */
+  public static <K, V> int sizeMessageWithContext(
+      ProtoFieldInfo field,
+      K key,
+      V value,
+      StatelessMarshaler2<K, V> marshaler,
+      MarshalerContext context) {
+    int sizeIndex = context.addSize();
+    int fieldSize = marshaler.getBinarySerializedSize(key, value, context);
+    context.setSize(sizeIndex, fieldSize);
+    return field.getTagSize() + CodedOutputStream.computeUInt32SizeNoTag(fieldSize) + fieldSize;
+  }
+
+  /** Returns the size of a repeated message field, recording the size of every message. */
+  public static <T> int sizeRepeatedMessageWithContext(
+      ProtoFieldInfo field,
+      List<? extends T> messages,
+      StatelessMarshaler<T> marshaler,
+      MarshalerContext context) {
+    int size = 0;
+    // Indexed to not allocate an iterator
+    for (int i = 0; i < messages.size(); i++) {
+      size += sizeMessageWithContext(field, messages.get(i), marshaler, context);
+    }
+    return size;
+  }
+
+  /** Returns the size of a repeated message field, recording the size of every message. */
+  public static <T> int sizeRepeatedMessageWithContext(
+      ProtoFieldInfo field,
+      Collection<? extends T> messages,
+      StatelessMarshaler<T> marshaler,
+      MarshalerContext context) {
+    int size = 0;
+    for (T message : messages) {
+      size += sizeMessageWithContext(field, message, marshaler, context);
+    }
+    return size;
+  }
+
+  /**
+   * Returns the size of a repeated message field made from the entries of {@code messages},
+   * recording the size of every message.
+   */
+  public static <K, V> int sizeRepeatedMessageWithContext(
+      ProtoFieldInfo field,
+      Map<K, V> messages,
+      StatelessMarshaler2<K, V> marshaler,
+      MarshalerContext context) {
+    int size = 0;
+    for (Map.Entry<K, V> entry : messages.entrySet()) {
+      size += sizeMessageWithContext(field, entry.getKey(), entry.getValue(), marshaler, context);
+    }
+    return size;
+  }
+
+  /**
+   * Returns the size of a repeated message field made from {@code attributes}, recording the size
+   * of every message.
+   */
+  public static int sizeRepeatedMessageWithContext(
+      ProtoFieldInfo field,
+      Attributes attributes,
+      StatelessMarshaler2<AttributeKey<?>, Object> marshaler,
+      MarshalerContext context) {
+    if (attributes.isEmpty()) {
+      return 0;
+    }
+    RepeatedElementSizeCalculator<AttributeKey<?>, Object> calculator =
+        context.getInstance(ATTRIBUTES_SIZE_CALCULATOR_KEY, RepeatedElementSizeCalculator::new);
+    calculator.initialize(field, marshaler, context);
+    attributes.forEach(calculator);
+    return calculator.size;
+  }
+
+  private static class RepeatedElementSizeCalculator<K, V> implements BiConsumer<K, V> {
+    private int size;
+    @Nullable private ProtoFieldInfo field;
+    @Nullable private StatelessMarshaler2<K, V> marshaler;
+    @Nullable private MarshalerContext context;
+
+    void initialize(
+        ProtoFieldInfo field, StatelessMarshaler2<K, V> marshaler, MarshalerContext context) {
+      this.size = 0;
+      this.field = field;
+      this.marshaler = marshaler;
+      this.context = context;
+    }
+
+    @SuppressWarnings("NullAway")
+    @Override
+    public void accept(K key, V value) {
+      size += sizeMessageWithContext(field, key, value, marshaler, context);
+    }
+  }
+
+  private StatelessMarshalerUtil() {}
+}
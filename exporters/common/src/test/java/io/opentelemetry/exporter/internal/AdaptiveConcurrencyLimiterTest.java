@@ -0,0 +1,135 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.exporter.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+
+import io.opentelemetry.sdk.testing.time.TestClock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class AdaptiveConcurrencyLimiterTest {
+
+  private static final long LATENCY_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+
+  @Mock private ScheduledExecutorService scheduler;
+
+  private final TestClock clock = TestClock.create();
+  private final List<Integer> started = new ArrayList<>();
+  private int nextId;
+
+  @Test
+  void additiveIncrease() {
+    AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(4, clock, scheduler);
+    assertThat(limiter.getLimit()).isEqualTo(1);
+
+    execute(limiter, 3);
+    // Only one request runs at the initial limit.
+    assertThat(started).containsExactly(0);
+
+    limiter.onSuccess(LATENCY_NANOS);
+    assertThat(limiter.getLimit()).isEqualTo(2);
+    assertThat(started).containsExactly(0, 1, 2);
+
+    // Grows by one for every limit successes, up to the max.
+    for (int i = 0; i < 20; i++) {
+      execute(limiter, 1);
+      limiter.onSuccess(LATENCY_NANOS);
+    }
+    assertThat(limiter.getLimit()).isEqualTo(4);
+  }
+
+  @Test
+  void multiplicativeDecrease() {
+    AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(16, clock, scheduler);
+    grow(limiter, 8);
+
+    execute(limiter, 1);
+    limiter.onOverload(-1);
+    assertThat(limiter.getLimit()).isEqualTo(4);
+
+    // Latency well above the baseline shrinks the limit too.
+    execute(limiter, 1);
+    limiter.onSuccess(LATENCY_NANOS * 10);
+    assertThat(limiter.getLimit()).isEqualTo(3);
+
+    // Other failures leave the limit alone.
+    execute(limiter, 1);
+    limiter.onFailure();
+    assertThat(limiter.getLimit()).isEqualTo(3);
+
+    for (int i = 0; i < 10; i++) {
+      execute(limiter, 1);
+      limiter.onOverload(-1);
+    }
+    assertThat(limiter.getLimit()).isEqualTo(1);
+  }
+
+  @Test
+  void pushback_PausesRequests() {
+    AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(4, clock, scheduler);
+
+    execute(limiter, 1);
+    limiter.onOverload(TimeUnit.SECONDS.toNanos(2));
+    execute(limiter, 1);
+    assertThat(started).containsExactly(0);
+
+    ArgumentCaptor<Runnable> resume = ArgumentCaptor.forClass(Runnable.class);
+    verify(scheduler).schedule(resume.capture(), eq(TimeUnit.SECONDS.toNanos(2)), any());
+
+    clock.advance(Duration.ofSeconds(2));
+    resume.getValue().run();
+    assertThat(started).containsExactly(0, 1);
+  }
+
+  @Test
+  void queueFull() {
+    AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(1, clock, scheduler);
+    // One request runs and 32 wait.
+    for (int i = 0; i < 33; i++) {
+      assertThat(limiter.execute(() -> {})).isTrue();
+    }
+    assertThat(limiter.execute(() -> {})).isFalse();
+  }
+
+  @Test
+  void shutdown_RunsQueuedRequests() {
+    AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(1, clock, scheduler);
+    execute(limiter, 3);
+    assertThat(started).containsExactly(0);
+
+    limiter.shutdown();
+    assertThat(started).containsExactly(0, 1, 2);
+    verify(scheduler).shutdown();
+    assertThat(limiter.execute(() -> {})).isFalse();
+  }
+
+  private void execute(AdaptiveConcurrencyLimiter limiter, int count) {
+    for (int i = 0; i < count; i++) {
+      int id = nextId++;
+      assertThat(limiter.execute(() -> started.add(id))).isTrue();
+    }
+  }
+
+  private void grow(AdaptiveConcurrencyLimiter limiter, int limit) {
+    while (limiter.getLimit() < limit) {
+      execute(limiter, 1);
+      limiter.onSuccess(LATENCY_NANOS);
+    }
+  }
+}
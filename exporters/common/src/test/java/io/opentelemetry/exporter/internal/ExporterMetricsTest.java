@@ -0,0 +1,100 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.exporter.internal;
+
+import static io.opentelemetry.sdk.testing.assertj.OpenTelemetryAssertions.assertThat;
+
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.sdk.metrics.SdkMeterProvider;
+import io.opentelemetry.sdk.metrics.data.MetricData;
+import io.opentelemetry.sdk.testing.exporter.InMemoryMetricReader;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class ExporterMetricsTest {
+
+  private final InMemoryMetricReader reader = InMemoryMetricReader.create();
+  private final SdkMeterProvider meterProvider =
+      SdkMeterProvider.builder().registerMetricReader(reader).build();
+
+  @AfterEach
+  void tearDown() {
+    meterProvider.close();
+  }
+
+  @Test
+  void gauges_RegisteredWithFirstRecords() {
+    ExporterMetrics metrics =
+        ExporterMetrics.createHttpProtobuf("otlp", "span", () -> meterProvider);
+    metrics.registerConcurrencyLimit(() -> 4);
+    metrics.registerConnections(() -> 3, () -> 1);
+    metrics.registerActiveRequests(() -> 5);
+    assertThat(reader.collectAllMetrics()).isEmpty();
+
+    metrics.addSeen(1);
+    assertThat(reader.collectAllMetrics())
+        .satisfiesExactlyInAnyOrder(
+            metric -> assertThat(metric).hasName("otlp.exporter.seen"),
+            metric ->
+                assertThat(metric)
+                    .hasName("otlp.exporter.concurrency.limit")
+                    .hasLongGaugeSatisfying(
+                        gauge -> gauge.hasPointsSatisfying(point -> point.hasValue(4))),
+            metric ->
+                assertThat(metric)
+                    .hasName("otlp.exporter.connections")
+                    .hasLongGaugeSatisfying(
+                        gauge ->
+                            gauge.hasPointsSatisfying(
+                                point ->
+                                    point
+                                        .hasValue(2)
+                                        .hasAttributes(
+                                            Attributes.builder()
+                                                .put("type", "span")
+                                                .put("state", "active")
+                                                .build()),
+                                point ->
+                                    point
+                                        .hasValue(1)
+                                        .hasAttributes(
+                                            Attributes.builder()
+                                                .put("type", "span")
+                                                .put("state", "idle")
+                                                .build()))),
+            metric ->
+                assertThat(metric)
+                    .hasName("otlp.exporter.requests.active")
+                    .hasLongGaugeSatisfying(
+                        gauge -> gauge.hasPointsSatisfying(point -> point.hasValue(5))));
+  }
+
+  @Test
+  void close_UnregistersGauges() {
+    ExporterMetrics metrics =
+        ExporterMetrics.createHttpProtobuf("otlp", "span", () -> meterProvider);
+    metrics.registerConcurrencyLimit(() -> 4);
+    metrics.addSeen(1);
+
+    metrics.close();
+    assertThat(reader.collectAllMetrics())
+        .extracting(MetricData::getName)
+        .containsExactly("otlp.exporter.seen");
+  }
+
+  @Test
+  void close_BeforeFirstRecords() {
+    ExporterMetrics metrics =
+        ExporterMetrics.createHttpProtobuf("otlp", "span", () -> meterProvider);
+    metrics.registerConcurrencyLimit(() -> 4);
+
+    metrics.close();
+    metrics.addSeen(1);
+    assertThat(reader.collectAllMetrics())
+        .extracting(MetricData::getName)
+        .containsExactly("otlp.exporter.seen");
+  }
+}
@@ -0,0 +1,41 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.exporter.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+class RetryUtilTest {
+
+  @Test
+  void parseRetryAfterNanos() {
+    long now = Instant.parse("2015-10-21T07:28:00Z").toEpochMilli();
+
+    assertThat(RetryUtil.parseRetryAfterNanos(null, now)).isEqualTo(-1);
+    assertThat(RetryUtil.parseRetryAfterNanos("120", now))
+        .isEqualTo(TimeUnit.SECONDS.toNanos(120));
+    assertThat(RetryUtil.parseRetryAfterNanos(" 0 ", now)).isEqualTo(0);
+    assertThat(RetryUtil.parseRetryAfterNanos("Wed, 21 Oct 2015 07:28:30 GMT", now))
+        .isEqualTo(TimeUnit.SECONDS.toNanos(30));
+    // A date in the past means right away.
+    assertThat(RetryUtil.parseRetryAfterNanos("Wed, 21 Oct 2015 07:27:00 GMT", now)).isEqualTo(0);
+    assertThat(RetryUtil.parseRetryAfterNanos("-1", now)).isEqualTo(-1);
+    assertThat(RetryUtil.parseRetryAfterNanos("soon", now)).isEqualTo(-1);
+  }
+
+  @Test
+  void parseGrpcRetryPushbackNanos() {
+    assertThat(RetryUtil.parseGrpcRetryPushbackNanos(null)).isEqualTo(-1);
+    assertThat(RetryUtil.parseGrpcRetryPushbackNanos("1500"))
+        .isEqualTo(TimeUnit.MILLISECONDS.toNanos(1500));
+    // Negative or invalid values mean the server asks not to retry.
+    assertThat(RetryUtil.parseGrpcRetryPushbackNanos("-1")).isEqualTo(Long.MAX_VALUE);
+    assertThat(RetryUtil.parseGrpcRetryPushbackNanos("soon")).isEqualTo(Long.MAX_VALUE);
+  }
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.exporter.internal.compression;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class CompressorUtilTest {
+
+  @Test
+  void validateAndResolveCompressor() {
+    assertThat(CompressorUtil.validateAndResolveCompressor("none")).isNull();
+    assertThat(CompressorUtil.validateAndResolveCompressor("gzip"))
+        .isSameAs(GzipCompressor.getInstance());
+    assertThat(CompressorUtil.validateAndResolveCompressor("gzip:1"))
+        .isInstanceOfSatisfying(
+            GzipCompressor.class,
+            compressor -> {
+              assertThat(compressor.getEncoding()).isEqualTo("gzip");
+              assertThat(compressor.getLevel()).isEqualTo(1);
+            });
+    assertThat(CompressorUtil.validateAndResolveCompressor("zstd"))
+        .isInstanceOf(ZstdCompressor.class)
+        .extracting(Compressor::getEncoding)
+        .isEqualTo("zstd");
+    assertThat(CompressorUtil.validateAndResolveCompressor("zstd:3"))
+        .isSameAs(CompressorUtil.validateAndResolveCompressor("zstd"));
+  }
+
+  @Test
+  void validateAndResolveCompressor_Invalid() {
+    assertThatThrownBy(() -> CompressorUtil.validateAndResolveCompressor("foo"))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage(
+            "Unsupported compression method. Supported compression methods include: "
+                + "gzip, zstd, none.");
+    assertThatThrownBy(() -> CompressorUtil.validateAndResolveCompressor("none:1"))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageStartingWith("Unsupported compression method.");
+    assertThatThrownBy(() -> CompressorUtil.validateAndResolveCompressor("gzip:fast"))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Invalid compression level in compression method: gzip:fast");
+    assertThatThrownBy(() -> CompressorUtil.validateAndResolveCompressor("gzip:10"))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Invalid gzip compression level: 10");
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {"gzip", "gzip:0", "gzip:1", "gzip:9"})
+  void gzip_RoundTrip(String compressionMethod) throws IOException {
+    Compressor compressor = CompressorUtil.validateAndResolveCompressor(compressionMethod);
+    assertThat(compressor).isNotNull();
+    byte[] data = "hello hello hello hello".getBytes(StandardCharsets.UTF_8);
+
+    ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+    try (OutputStream os = compressor.compress(compressed)) {
+      os.write(data);
+    }
+
+    ByteArrayOutputStream decompressed = new ByteArrayOutputStream();
+    try (InputStream is =
+        new GZIPInputStream(new ByteArrayInputStream(compressed.toByteArray()))) {
+      byte[] buf = new byte[64];
+      int read;
+      while ((read = is.read(buf)) != -1) {
+        decompressed.write(buf, 0, read);
+      }
+    }
+    assertThat(decompressed.toByteArray()).isEqualTo(data);
+  }
+}
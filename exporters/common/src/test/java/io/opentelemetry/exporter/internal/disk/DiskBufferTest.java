@@ -0,0 +1,167 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.exporter.internal.disk;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.opentelemetry.sdk.testing.time.TestClock;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class DiskBufferTest {
+
+  private static final long MAX_AGE_NANOS = Duration.ofHours(1).toNanos();
+
+  @TempDir Path directory;
+
+  private final TestClock clock = TestClock.create();
+  private final AtomicInteger droppedItems = new AtomicInteger();
+
+  @Test
+  void appendPeekRemove_InOrder() throws IOException {
+    try (DiskBuffer buffer = open(1024, 64)) {
+      assertThat(buffer.isEmpty()).isTrue();
+      assertThat(buffer.peek()).isNull();
+
+      // Spans several segments.
+      for (int i = 0; i < 10; i++) {
+        assertThat(buffer.append(payload("request-" + i), i)).isTrue();
+      }
+      assertThat(buffer.isEmpty()).isFalse();
+
+      for (int i = 0; i < 10; i++) {
+        DiskBuffer.Record record = buffer.peek();
+        assertThat(record).isNotNull();
+        assertThat(new String(record.getPayload(), StandardCharsets.UTF_8))
+            .isEqualTo("request-" + i);
+        assertThat(record.getNumItems()).isEqualTo(i);
+        // Peeking again returns the same request until it is removed.
+        assertThat(buffer.peek().getPayload()).isEqualTo(record.getPayload());
+        buffer.remove(record);
+      }
+      assertThat(buffer.peek()).isNull();
+      assertThat(buffer.isEmpty()).isTrue();
+    }
+    assertThat(droppedItems).hasValue(0);
+  }
+
+  @Test
+  void reopen_ReplaysRemainingRequests() throws IOException {
+    try (DiskBuffer buffer = open(1024, 64)) {
+      for (int i = 0; i < 5; i++) {
+        buffer.append(payload("request-" + i), 1);
+      }
+      buffer.remove(buffer.peek());
+      buffer.remove(buffer.peek());
+    }
+
+    try (DiskBuffer buffer = open(1024, 64)) {
+      assertThat(buffer.append(payload("request-5"), 1)).isTrue();
+      for (int i = 2; i < 6; i++) {
+        DiskBuffer.Record record = buffer.peek();
+        assertThat(new String(record.getPayload(), StandardCharsets.UTF_8))
+            .isEqualTo("request-" + i);
+        buffer.remove(record);
+      }
+      assertThat(buffer.peek()).isNull();
+    }
+  }
+
+  @Test
+  void reopen_DropsRequestsOfAnotherFormat() throws IOException {
+    try (DiskBuffer buffer = open("json", 1024, 64)) {
+      for (int i = 0; i < 5; i++) {
+        buffer.append(payload("request-" + i), 2);
+      }
+      buffer.remove(buffer.peek());
+    }
+
+    try (DiskBuffer buffer = open("protobuf", 1024, 64)) {
+      assertThat(buffer.peek()).isNull();
+      assertThat(buffer.totalBytes()).isEqualTo(0);
+      assertThat(droppedItems).hasValue(8);
+      assertThat(directory.toFile().list((dir, name) -> name.endsWith(".seg"))).isEmpty();
+
+      assertThat(buffer.append(payload("request-5"), 1)).isTrue();
+      assertThat(new String(buffer.peek().getPayload(), StandardCharsets.UTF_8))
+          .isEqualTo("request-5");
+    }
+  }
+
+  @Test
+  void maxBytes_DropsOldestSegments() throws IOException {
+    try (DiskBuffer buffer = open(128, 64)) {
+      // Each segment holds 2 requests of 16 + 9 bytes.
+      for (int i = 0; i < 6; i++) {
+        assertThat(buffer.append(payload("request-" + i), 1)).isTrue();
+      }
+      assertThat(buffer.totalBytes()).isLessThanOrEqualTo(128);
+      assertThat(droppedItems).hasValue(2);
+      assertThat(new String(buffer.peek().getPayload(), StandardCharsets.UTF_8))
+          .isEqualTo("request-2");
+
+      // Larger than maxBytes.
+      assertThat(buffer.append(new byte[128], 1)).isFalse();
+    }
+  }
+
+  @Test
+  void maxAge_DropsExpiredRequests() throws IOException {
+    try (DiskBuffer buffer = open(1024, 64)) {
+      buffer.append(payload("old"), 3);
+      clock.advance(Duration.ofMinutes(59));
+      buffer.append(payload("new"), 1);
+      clock.advance(Duration.ofMinutes(2));
+
+      assertThat(new String(buffer.peek().getPayload(), StandardCharsets.UTF_8)).isEqualTo("new");
+      assertThat(droppedItems).hasValue(3);
+    }
+  }
+
+  @Test
+  void directoryLocked() throws IOException {
+    try (DiskBuffer unused = open(1024, 64)) {
+      assertThatThrownBy(() -> open(1024, 64))
+          .isInstanceOf(IOException.class)
+          .hasMessageStartingWith("Directory is used by another disk buffer");
+    }
+  }
+
+  @Test
+  void closed() throws IOException {
+    DiskBuffer buffer = open(1024, 64);
+    buffer.append(payload("request"), 1);
+    DiskBuffer.Record record = buffer.peek();
+    buffer.close();
+
+    assertThat(buffer.append(payload("request"), 1)).isFalse();
+    assertThat(buffer.peek()).isNull();
+    buffer.remove(record);
+
+    try (DiskBuffer reopened = open(1024, 64)) {
+      assertThat(reopened.peek()).isNotNull();
+    }
+  }
+
+  private DiskBuffer open(long maxBytes, int segmentSize) throws IOException {
+    return open("protobuf", maxBytes, segmentSize);
+  }
+
+  private DiskBuffer open(String format, long maxBytes, int segmentSize) throws IOException {
+    return new DiskBuffer(
+        directory, format, maxBytes, MAX_AGE_NANOS, segmentSize, clock, droppedItems::addAndGet);
+  }
+
+  private static byte[] payload(String value) {
+    return value.getBytes(StandardCharsets.UTF_8);
+  }
+}
@@ -0,0 +1,54 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.exporter.internal.disk;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+
+class DiskBufferingConfigTest {
+
+  private static final Path DIRECTORY = Paths.get("otel-buffer");
+
+  @Test
+  void defaultConfig() {
+    DiskBufferingConfig config = DiskBufferingConfig.builder(DIRECTORY).build();
+
+    assertThat(config.getDirectory()).isEqualTo(DIRECTORY);
+    assertThat(config.getMaxBytes()).isEqualTo(64 * 1024 * 1024);
+    assertThat(config.getMaxAge()).isEqualTo(Duration.ofHours(6));
+    assertThat(config.toBuilder().build()).isEqualTo(config);
+  }
+
+  @Test
+  void build() {
+    DiskBufferingConfig config =
+        DiskBufferingConfig.builder(DIRECTORY)
+            .setMaxBytes(1024)
+            .setMaxAge(Duration.ofMinutes(1))
+            .build();
+
+    assertThat(config.getMaxBytes()).isEqualTo(1024);
+    assertThat(config.getMaxAge()).isEqualTo(Duration.ofMinutes(1));
+  }
+
+  @Test
+  void invalidConfig() {
+    assertThatThrownBy(() -> DiskBufferingConfig.builder(null))
+        .isInstanceOf(NullPointerException.class);
+    assertThatThrownBy(() -> DiskBufferingConfig.builder(DIRECTORY).setMaxBytes(0).build())
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> DiskBufferingConfig.builder(DIRECTORY).setMaxAge(null).build())
+        .isInstanceOf(NullPointerException.class);
+    assertThatThrownBy(
+            () -> DiskBufferingConfig.builder(DIRECTORY).setMaxAge(Duration.ZERO).build())
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+}
@@ -0,0 +1,116 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.exporter.internal.disk;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.testing.time.TestClock;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class DiskBufferingQueueTest {
+
+  @TempDir Path directory;
+
+  private final List<String> sent = new CopyOnWriteArrayList<>();
+  private final AtomicBoolean available = new AtomicBoolean();
+
+  @Test
+  void replaysInOrderOnceAvailable() throws IOException {
+    DiskBufferingQueue queue = create();
+    try {
+      assertThat(queue.hasPending()).isFalse();
+      assertThat(queue.store(payload("first"), 1)).isTrue();
+      assertThat(queue.store(payload("second"), 1)).isTrue();
+      assertThat(queue.hasPending()).isTrue();
+
+      // Failed replays stay stored.
+      queue.wakeUp();
+      await().untilAsserted(() -> assertThat(sent).containsExactly("first"));
+      assertThat(queue.hasPending()).isTrue();
+
+      available.set(true);
+      sent.clear();
+      queue.wakeUp();
+      await().untilAsserted(() -> assertThat(sent).containsExactly("first", "second"));
+      await().untilAsserted(() -> assertThat(queue.hasPending()).isFalse());
+    } finally {
+      queue.shutdown();
+    }
+  }
+
+  @Test
+  void shutdown_KeepsStoredRequests() throws IOException {
+    DiskBufferingQueue queue = create();
+    queue.store(payload("first"), 1);
+    queue.shutdown();
+
+    assertThat(queue.store(payload("second"), 1)).isFalse();
+
+    available.set(true);
+    DiskBufferingQueue reopened = create();
+    try {
+      assertThat(reopened.hasPending()).isTrue();
+      reopened.wakeUp();
+      await().untilAsserted(() -> assertThat(sent).containsExactly("first"));
+    } finally {
+      reopened.shutdown();
+    }
+  }
+
+  @Test
+  void create_DirectoryInUse() throws IOException {
+    DiskBufferingQueue queue = create();
+    try {
+      assertThat(
+              DiskBufferingQueue.create(
+                  DiskBufferingConfig.builder(directory).build(),
+                  "span",
+                  DiskBufferingQueue.FORMAT_PROTOBUF,
+                  (payload, numItems) -> CompletableResultCode.ofSuccess(),
+                  numItems -> {}))
+          .isNull();
+    } finally {
+      queue.shutdown();
+    }
+  }
+
+  private DiskBufferingQueue create() throws IOException {
+    DiskBuffer buffer =
+        new DiskBuffer(
+            directory,
+            DiskBufferingQueue.FORMAT_PROTOBUF,
+            1024,
+            Duration.ofHours(1).toNanos(),
+            64,
+            TestClock.create(),
+            i -> {});
+    return new DiskBufferingQueue(
+        "span",
+        buffer,
+        (payload, numItems) -> {
+          sent.add(new String(payload, StandardCharsets.UTF_8));
+          return available.get()
+              ? CompletableResultCode.ofSuccess()
+              : CompletableResultCode.ofFailure();
+        },
+        Executors.newSingleThreadScheduledExecutor());
+  }
+
+  private static byte[] payload(String value) {
+    return value.getBytes(StandardCharsets.UTF_8);
+  }
+}
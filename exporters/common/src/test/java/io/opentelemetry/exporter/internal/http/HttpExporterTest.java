@@ -5,9 +5,21 @@
 
 package io.opentelemetry.exporter.internal.http;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import io.opentelemetry.api.metrics.MeterProvider;
+import io.opentelemetry.exporter.internal.disk.DiskBufferingConfig;
+import io.opentelemetry.exporter.internal.marshal.Marshaler;
+import io.opentelemetry.exporter.internal.marshal.Serializer;
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 class HttpExporterTest {
 
@@ -19,4 +31,54 @@ class HttpExporterTest {
             "No HttpSenderProvider found on classpath. Please add dependency on "
                 + "opentelemetry-exporter-sender-okhttp or opentelemetry-exporter-sender-jdk");
   }
+
+  @Test
+  void export_FailsIfRequestCannotBeStored(@TempDir Path directory) {
+    HttpExporter<Marshaler> exporter =
+        new HttpExporter<>(
+            "exporter",
+            "span",
+            new FailingHttpSender(),
+            MeterProvider::noop,
+            /* exportAsJson= */ false,
+            DiskBufferingConfig.builder(directory).build(),
+            0,
+            0,
+            null);
+    try {
+      CompletableResultCode result = exporter.export(new ThrowingMarshaler(), 1);
+      assertThat(result.join(10, TimeUnit.SECONDS).isDone()).isTrue();
+      assertThat(result.isSuccess()).isFalse();
+    } finally {
+      exporter.shutdown();
+    }
+  }
+
+  private static final class FailingHttpSender implements HttpSender {
+    @Override
+    public void send(
+        Consumer<OutputStream> marshaler,
+        int contentLength,
+        Consumer<Response> onResponse,
+        Consumer<Throwable> onError) {
+      onError.accept(new IOException("Connection refused"));
+    }
+
+    @Override
+    public CompletableResultCode shutdown() {
+      return CompletableResultCode.ofSuccess();
+    }
+  }
+
+  private static final class ThrowingMarshaler extends Marshaler {
+    @Override
+    public int getBinarySerializedSize() {
+      return 1;
+    }
+
+    @Override
+    protected void writeTo(Serializer output) {
+      throw new IllegalStateException("Cannot marshal");
+    }
+  }
 }
@@ -5,14 +5,20 @@
 
 package io.opentelemetry.exporter.internal.marshal;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
 import org.junit.jupiter.api.Test;
 
 class MarshalerTest {
@@ -47,4 +53,52 @@ class MarshalerTest {
     assertThatThrownBy(() -> marshaler.writeBinaryTo(os)).isInstanceOf(IOException.class);
     assertThatThrownBy(() -> marshaler.writeJsonTo(os)).isInstanceOf(IOException.class);
   }
+
+  @Test
+  void writeBinaryTo_DirectBuffers() throws IOException {
+    ProtoFieldInfo field = ProtoFieldInfo.create(1, 10, "field");
+    byte[] utf8 = "a string spanning more than one buffer".getBytes(StandardCharsets.UTF_8);
+    Marshaler marshaler =
+        new Marshaler() {
+          @Override
+          public int getBinarySerializedSize() {
+            return 0;
+          }
+
+          @Override
+          protected void writeTo(Serializer output) throws IOException {
+            for (int i = 0; i < 100; i++) {
+              output.writeInt64(field, -i);
+              output.writeFixed32(field, i);
+              output.writeFixed64(field, Long.MAX_VALUE - i);
+              output.writeDouble(field, i / 3.0);
+              output.writeSInt32(field, -i);
+              output.writeString(field, utf8);
+            }
+          }
+        };
+    ByteArrayOutputStream expected = new ByteArrayOutputStream();
+    marshaler.writeBinaryTo(expected);
+
+    DirectBufferPool pool = new DirectBufferPool(16, 4);
+    List<ByteBuffer> buffers = new ArrayList<>();
+    marshaler.writeBinaryTo(pool, buffers::add);
+
+    ByteArrayOutputStream actual = new ByteArrayOutputStream();
+    for (ByteBuffer buffer : buffers) {
+      assertThat(buffer.isDirect()).isTrue();
+      byte[] bytes = new byte[buffer.remaining()];
+      buffer.get(bytes);
+      actual.write(bytes);
+      pool.release(buffer);
+    }
+    assertThat(actual.toByteArray()).isEqualTo(expected.toByteArray());
+    assertThat(pool.pooledBuffers()).isEqualTo(4);
+
+    // Released buffers are reused before new ones are allocated.
+    List<ByteBuffer> reused = new ArrayList<>();
+    marshaler.writeBinaryTo(pool, reused::add);
+    assertThat(pool.pooledBuffers()).isZero();
+    assertThat(reused).hasSameSizeAs(buffers);
+  }
 }
@@ -0,0 +1,128 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.exporter.internal.marshal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+class RequestSplitterTest {
+
+  private final List<List<Integer>> exported = new ArrayList<>();
+  private final List<CompletableResultCode> results = new ArrayList<>();
+
+  @Test
+  void belowLimit_NotSplit() {
+    CompletableResultCode result =
+        RequestSplitter.export(items(10, 10), SizedMarshaler::new, 100, this::export);
+
+    assertThat(exported).hasSize(1);
+    assertThat(exported.get(0)).hasSize(10);
+    results.get(0).succeed();
+    assertThat(result.isSuccess()).isTrue();
+  }
+
+  @Test
+  void disabled_NotSplit() {
+    RequestSplitter.export(items(100, 10), SizedMarshaler::new, 0, this::export);
+
+    assertThat(exported).hasSize(1);
+  }
+
+  @Test
+  void aboveLimit_Split() {
+    List<Integer> items = items(25, 10);
+    CompletableResultCode result =
+        RequestSplitter.export(items, SizedMarshaler::new, 100, this::export);
+
+    assertThat(exported).hasSize(3);
+    assertThat(exported).allSatisfy(chunk -> assertThat(sum(chunk)).isLessThanOrEqualTo(100));
+    // All items are sent once, in order.
+    assertThat(exported.stream().flatMap(List::stream).collect(Collectors.toList()))
+        .isEqualTo(items);
+
+    results.get(0).succeed();
+    results.get(1).succeed();
+    assertThat(result.isDone()).isFalse();
+    results.get(2).fail();
+    assertThat(result.isDone()).isTrue();
+    assertThat(result.isSuccess()).isFalse();
+  }
+
+  @Test
+  void unevenItems_SplitAgain() {
+    List<Integer> items = new ArrayList<>(items(9, 10));
+    items.add(0, 90);
+    RequestSplitter.export(items, SizedMarshaler::new, 100, this::export);
+
+    assertThat(exported).allSatisfy(chunk -> assertThat(sum(chunk)).isLessThanOrEqualTo(100));
+    assertThat(exported.stream().flatMap(List::stream).collect(Collectors.toList()))
+        .isEqualTo(items);
+  }
+
+  @Test
+  void singleItemAboveLimit_SentAlone() {
+    RequestSplitter.export(Arrays.asList(10, 500, 10), SizedMarshaler::new, 100, this::export);
+
+    assertThat(exported).containsExactly(Arrays.asList(10), Arrays.asList(500), Arrays.asList(10));
+  }
+
+  @Test
+  void release_OnceNoLongerUsed() {
+    List<SizedMarshaler> released = new ArrayList<>();
+    RequestSplitter.export(items(25, 10), SizedMarshaler::new, released::add, 100, this::export);
+
+    // The request above the limit is released right away, the exported ones once they complete.
+    assertThat(released).hasSize(1);
+    assertThat(released.get(0).items).hasSize(25);
+    results.get(0).succeed();
+    results.get(1).fail();
+    assertThat(released).hasSize(3);
+    results.get(2).succeed();
+    assertThat(released).hasSize(4);
+    assertThat(released.subList(1, 4))
+        .extracting(request -> request.items)
+        .containsExactlyElementsOf(exported);
+  }
+
+  private CompletableResultCode export(SizedMarshaler request, int numItems) {
+    assertThat(request.items).hasSize(numItems);
+    exported.add(request.items);
+    CompletableResultCode result = new CompletableResultCode();
+    results.add(result);
+    return result;
+  }
+
+  private static List<Integer> items(int count, int size) {
+    return IntStream.range(0, count).mapToObj(i -> size).collect(Collectors.toList());
+  }
+
+  private static int sum(List<Integer> items) {
+    return items.stream().mapToInt(Integer::intValue).sum();
+  }
+
+  /** A request as large as the sum of its items. */
+  private static final class SizedMarshaler extends MarshalerWithSize {
+
+    private final List<Integer> items;
+
+    private SizedMarshaler(Collection<Integer> items) {
+      super(sum(new ArrayList<>(items)));
+      this.items = Collections.unmodifiableList(new ArrayList<>(items));
+    }
+
+    @Override
+    protected void writeTo(Serializer output) {}
+  }
+}
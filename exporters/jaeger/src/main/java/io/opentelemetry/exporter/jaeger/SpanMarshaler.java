@@ -41,8 +41,8 @@ final class SpanMarshaler extends MarshalerWithSize {
   private static final AttributeKey<String> KEY_INSTRUMENTATION_LIBRARY_VERSION =
       AttributeKey.stringKey("otel.library.version");
 
-  private final String traceId;
-  private final String spanId;
+  private final byte[] traceId;
+  private final byte[] spanId;
   private final byte[] operationNameUtf8;
   private final TimeMarshaler startTime;
   private final TimeMarshaler duration;
@@ -60,8 +60,8 @@ final class SpanMarshaler extends MarshalerWithSize {
   }
 
   static SpanMarshaler create(SpanData span) {
-    String traceId = span.getSpanContext().getTraceId();
-    String spanId = span.getSpanContext().getSpanId();
+    byte[] traceId = span.getSpanContext().getTraceIdBytes();
+    byte[] spanId = span.getSpanContext().getSpanIdBytes();
     byte[] operationNameUtf8 = MarshalerUtil.toBytes(span.getName());
     TimeMarshaler startTime = TimeMarshaler.create(span.getStartEpochNanos());
     TimeMarshaler duration =
@@ -130,8 +130,8 @@ final class SpanMarshaler extends MarshalerWithSize {
   }
 
   SpanMarshaler(
-      String traceId,
-      String spanId,
+      byte[] traceId,
+      byte[] spanId,
       byte[] operationNameUtf8,
       TimeMarshaler startTime,
       TimeMarshaler duration,
@@ -164,8 +164,8 @@ final class SpanMarshaler extends MarshalerWithSize {
   }
 
   private static int calculateSize(
-      String traceId,
-      String spanId,
+      byte[] traceId,
+      byte[] spanId,
       byte[] operationNameUtf8,
       TimeMarshaler startTime,
       TimeMarshaler duration,
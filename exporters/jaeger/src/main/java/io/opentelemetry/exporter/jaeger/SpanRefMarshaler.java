@@ -19,8 +19,8 @@ import java.util.List;
 
 final class SpanRefMarshaler extends MarshalerWithSize {
 
-  private final String traceId;
-  private final String spanId;
+  private final byte[] traceId;
+  private final byte[] spanId;
   private final ProtoEnumInfo refType;
 
   static List<SpanRefMarshaler> createRepeated(List<LinkData> links) {
@@ -37,17 +37,17 @@ final class SpanRefMarshaler extends MarshalerWithSize {
 
   static SpanRefMarshaler create(SpanContext spanContext) {
     return new SpanRefMarshaler(
-        spanContext.getTraceId(), spanContext.getSpanId(), SpanRefType.CHILD_OF);
+        spanContext.getTraceIdBytes(), spanContext.getSpanIdBytes(), SpanRefType.CHILD_OF);
   }
 
   static SpanRefMarshaler create(LinkData link) {
     return new SpanRefMarshaler(
-        link.getSpanContext().getTraceId(),
-        link.getSpanContext().getSpanId(),
+        link.getSpanContext().getTraceIdBytes(),
+        link.getSpanContext().getSpanIdBytes(),
         SpanRefType.FOLLOWS_FROM);
   }
 
-  SpanRefMarshaler(String traceId, String spanId, ProtoEnumInfo refType) {
+  SpanRefMarshaler(byte[] traceId, byte[] spanId, ProtoEnumInfo refType) {
     super(calculateSize(traceId, spanId, refType));
     this.traceId = traceId;
     this.spanId = spanId;
@@ -61,7 +61,7 @@ final class SpanRefMarshaler extends MarshalerWithSize {
     output.serializeEnum(SpanRef.REF_TYPE, refType);
   }
 
-  private static int calculateSize(String traceId, String spanId, ProtoEnumInfo refType) {
+  private static int calculateSize(byte[] traceId, byte[] spanId, ProtoEnumInfo refType) {
     int size = 0;
     size += MarshalerUtil.sizeTraceId(SpanRef.TRACE_ID, traceId);
     size += MarshalerUtil.sizeSpanId(SpanRef.SPAN_ID, spanId);
@@ -27,6 +27,7 @@ import io.opentelemetry.api.trace.TraceFlags;
 import io.opentelemetry.api.trace.TraceId;
 import io.opentelemetry.api.trace.TraceState;
 import io.opentelemetry.exporter.internal.TlsUtil;
+import io.opentelemetry.exporter.internal.compression.GzipCompressor;
 import io.opentelemetry.exporter.internal.grpc.GrpcExporter;
 import io.opentelemetry.exporter.jaeger.proto.api_v2.Collector;
 import io.opentelemetry.exporter.jaeger.proto.api_v2.Model;
@@ -369,7 +370,7 @@ class JaegerGrpcSpanExporterTest {
   void compressionDefault() {
     JaegerGrpcSpanExporter exporter = JaegerGrpcSpanExporter.builder().build();
     try {
-      assertThat(exporter).extracting("delegate.grpcSender.compressionEnabled").isEqualTo(false);
+      assertThat(exporter).extracting("delegate.grpcSender.compressor").isNull();
     } finally {
       exporter.shutdown();
     }
@@ -380,7 +381,7 @@ class JaegerGrpcSpanExporterTest {
     JaegerGrpcSpanExporter exporter =
         JaegerGrpcSpanExporter.builder().setCompression("none").build();
     try {
-      assertThat(exporter).extracting("delegate.grpcSender.compressionEnabled").isEqualTo(false);
+      assertThat(exporter).extracting("delegate.grpcSender.compressor").isNull();
     } finally {
       exporter.shutdown();
     }
@@ -391,7 +392,9 @@ class JaegerGrpcSpanExporterTest {
     JaegerGrpcSpanExporter exporter =
         JaegerGrpcSpanExporter.builder().setCompression("gzip").build();
     try {
-      assertThat(exporter).extracting("delegate.grpcSender.compressionEnabled").isEqualTo(true);
+      assertThat(exporter)
+          .extracting("delegate.grpcSender.compressor")
+          .isEqualTo(GzipCompressor.getInstance());
     } finally {
       exporter.shutdown();
     }
@@ -402,7 +405,7 @@ class JaegerGrpcSpanExporterTest {
     JaegerGrpcSpanExporter exporter =
         JaegerGrpcSpanExporter.builder().setCompression("gzip").setCompression("none").build();
     try {
-      assertThat(exporter).extracting("delegate.grpcSender.compressionEnabled").isEqualTo(false);
+      assertThat(exporter).extracting("delegate.grpcSender.compressor").isNull();
     } finally {
       exporter.shutdown();
     }
@@ -15,7 +15,7 @@ import io.opentelemetry.api.metrics.MeterProvider;
 import io.opentelemetry.exporter.internal.grpc.GrpcExporter;
 import io.opentelemetry.exporter.internal.http.HttpExporter;
 import io.opentelemetry.exporter.internal.http.HttpExporterBuilder;
-import io.opentelemetry.exporter.internal.otlp.traces.TraceRequestMarshaler;
+import io.opentelemetry.exporter.internal.marshal.Marshaler;
 import io.opentelemetry.exporter.sender.grpc.managedchannel.internal.UpstreamGrpcSender;
 import io.opentelemetry.exporter.sender.okhttp.internal.OkHttpGrpcSender;
 import io.opentelemetry.proto.collector.trace.v1.ExportTraceServiceRequest;
@@ -66,9 +66,9 @@ public class OltpExporterBenchmark {
 
   private static ManagedChannel defaultGrpcChannel;
 
-  private static GrpcExporter<TraceRequestMarshaler> upstreamGrpcExporter;
-  private static GrpcExporter<TraceRequestMarshaler> okhttpGrpcSender;
-  private static HttpExporter<TraceRequestMarshaler> httpExporter;
+  private static GrpcExporter<Marshaler> upstreamGrpcExporter;
+  private static GrpcExporter<Marshaler> okhttpGrpcSender;
+  private static HttpExporter<Marshaler> httpExporter;
 
   @Setup(Level.Trial)
   public void setUp() {
@@ -94,7 +94,7 @@ public class OltpExporterBenchmark {
                 URI.create("http://localhost:" + server.activeLocalPort())
                     .resolve(OtlpGrpcSpanExporterBuilder.GRPC_ENDPOINT_PATH)
                     .toString(),
-                false,
+                null,
                 10,
                 Collections.emptyMap(),
                 null,
@@ -103,7 +103,7 @@ public class OltpExporterBenchmark {
             MeterProvider::noop);
 
     httpExporter =
-        new HttpExporterBuilder<TraceRequestMarshaler>(
+        new HttpExporterBuilder<Marshaler>(
                 "otlp", "span", "http://localhost:" + server.activeLocalPort() + "/v1/traces")
             .build();
   }
@@ -7,8 +7,12 @@ package io.opentelemetry.exporter.otlp.http.metrics;
 
 import io.opentelemetry.exporter.internal.http.HttpExporter;
 import io.opentelemetry.exporter.internal.http.HttpExporterBuilder;
+import io.opentelemetry.exporter.internal.marshal.Marshaler;
+import io.opentelemetry.exporter.internal.otlp.MarshalerCache;
+import io.opentelemetry.exporter.internal.otlp.metrics.LowAllocationMetricsRequestMarshaler;
 import io.opentelemetry.exporter.internal.otlp.metrics.MetricsRequestMarshaler;
 import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.common.export.MemoryMode;
 import io.opentelemetry.sdk.metrics.Aggregation;
 import io.opentelemetry.sdk.metrics.InstrumentType;
 import io.opentelemetry.sdk.metrics.data.AggregationTemporality;
@@ -17,6 +21,8 @@ import io.opentelemetry.sdk.metrics.export.AggregationTemporalitySelector;
 import io.opentelemetry.sdk.metrics.export.DefaultAggregationSelector;
 import io.opentelemetry.sdk.metrics.export.MetricExporter;
 import java.util.Collection;
+import java.util.Deque;
+import java.util.concurrent.ConcurrentLinkedDeque;
 import javax.annotation.concurrent.ThreadSafe;
 
 /**
@@ -27,20 +33,26 @@ import javax.annotation.concurrent.ThreadSafe;
 @ThreadSafe
 public final class OtlpHttpMetricExporter implements MetricExporter {
 
-  private final HttpExporterBuilder<MetricsRequestMarshaler> builder;
-  private final HttpExporter<MetricsRequestMarshaler> delegate;
+  private final HttpExporterBuilder<Marshaler> builder;
+  private final HttpExporter<Marshaler> delegate;
+  private final MarshalerCache marshalerCache = MarshalerCache.create();
+  private final Deque<LowAllocationMetricsRequestMarshaler> marshalerPool =
+      new ConcurrentLinkedDeque<>();
+  private final MemoryMode memoryMode;
   private final AggregationTemporalitySelector aggregationTemporalitySelector;
   private final DefaultAggregationSelector defaultAggregationSelector;
 
   OtlpHttpMetricExporter(
-      HttpExporterBuilder<MetricsRequestMarshaler> builder,
-      HttpExporter<MetricsRequestMarshaler> delegate,
+      HttpExporterBuilder<Marshaler> builder,
+      HttpExporter<Marshaler> delegate,
       AggregationTemporalitySelector aggregationTemporalitySelector,
-      DefaultAggregationSelector defaultAggregationSelector) {
+      DefaultAggregationSelector defaultAggregationSelector,
+      MemoryMode memoryMode) {
     this.builder = builder;
     this.delegate = delegate;
     this.aggregationTemporalitySelector = aggregationTemporalitySelector;
     this.defaultAggregationSelector = defaultAggregationSelector;
+    this.memoryMode = memoryMode;
   }
 
   /**
@@ -72,7 +84,7 @@ public final class OtlpHttpMetricExporter implements MetricExporter {
    * @since 1.29.0
    */
   public OtlpHttpMetricExporterBuilder toBuilder() {
-    return new OtlpHttpMetricExporterBuilder(builder.copy());
+    return new OtlpHttpMetricExporterBuilder(builder.copy(), memoryMode);
   }
 
   @Override
@@ -85,6 +97,11 @@ public final class OtlpHttpMetricExporter implements MetricExporter {
     return defaultAggregationSelector.getDefaultAggregation(instrumentType);
   }
 
+  @Override
+  public MemoryMode getMemoryMode() {
+    return memoryMode;
+  }
+
   /**
    * Submits all the given metrics in a single batch to the OpenTelemetry collector.
    *
@@ -93,8 +110,24 @@ public final class OtlpHttpMetricExporter implements MetricExporter {
    */
   @Override
   public CompletableResultCode export(Collection<MetricData> metrics) {
-    MetricsRequestMarshaler exportRequest = MetricsRequestMarshaler.create(metrics);
-    return delegate.export(exportRequest, metrics.size());
+    if (memoryMode == MemoryMode.REUSABLE_DATA) {
+      return delegate.export(metrics, this::reusableMarshaler, this::releaseMarshaler);
+    }
+    return delegate.export(metrics, items -> MetricsRequestMarshaler.create(items, marshalerCache));
+  }
+
+  private LowAllocationMetricsRequestMarshaler reusableMarshaler(Collection<MetricData> metrics) {
+    LowAllocationMetricsRequestMarshaler marshaler = marshalerPool.poll();
+    if (marshaler == null) {
+      marshaler = new LowAllocationMetricsRequestMarshaler();
+    }
+    marshaler.initialize(metrics);
+    return marshaler;
+  }
+
+  private void releaseMarshaler(LowAllocationMetricsRequestMarshaler marshaler) {
+    marshaler.reset();
+    marshalerPool.add(marshaler);
   }
 
   /**
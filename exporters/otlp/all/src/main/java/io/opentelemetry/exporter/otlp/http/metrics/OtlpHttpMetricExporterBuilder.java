@@ -9,9 +9,13 @@ import static io.opentelemetry.api.internal.Utils.checkArgument;
 import static java.util.Objects.requireNonNull;
 
 import io.opentelemetry.api.metrics.MeterProvider;
+import io.opentelemetry.exporter.internal.compression.CompressorUtil;
+import io.opentelemetry.exporter.internal.disk.DiskBufferingConfig;
+import io.opentelemetry.exporter.internal.http.Http2Config;
 import io.opentelemetry.exporter.internal.http.HttpExporterBuilder;
-import io.opentelemetry.exporter.internal.otlp.metrics.MetricsRequestMarshaler;
+import io.opentelemetry.exporter.internal.marshal.Marshaler;
 import io.opentelemetry.exporter.otlp.internal.OtlpUserAgent;
+import io.opentelemetry.sdk.common.export.MemoryMode;
 import io.opentelemetry.sdk.common.export.RetryPolicy;
 import io.opentelemetry.sdk.metrics.InstrumentType;
 import io.opentelemetry.sdk.metrics.export.AggregationTemporalitySelector;
@@ -34,21 +38,23 @@ public final class OtlpHttpMetricExporterBuilder {
   private static final AggregationTemporalitySelector DEFAULT_AGGREGATION_TEMPORALITY_SELECTOR =
       AggregationTemporalitySelector.alwaysCumulative();
 
-  private final HttpExporterBuilder<MetricsRequestMarshaler> delegate;
+  private final HttpExporterBuilder<Marshaler> delegate;
+  private MemoryMode memoryMode;
   private AggregationTemporalitySelector aggregationTemporalitySelector =
       DEFAULT_AGGREGATION_TEMPORALITY_SELECTOR;
 
   private DefaultAggregationSelector defaultAggregationSelector =
       DefaultAggregationSelector.getDefault();
 
-  OtlpHttpMetricExporterBuilder(HttpExporterBuilder<MetricsRequestMarshaler> delegate) {
+  OtlpHttpMetricExporterBuilder(HttpExporterBuilder<Marshaler> delegate, MemoryMode memoryMode) {
     this.delegate = delegate;
+    this.memoryMode = memoryMode;
     delegate.setMeterProvider(MeterProvider.noop());
     OtlpUserAgent.addUserAgentHeader(delegate::addHeader);
   }
 
   OtlpHttpMetricExporterBuilder() {
-    this(new HttpExporterBuilder<>("otlp", "metric", DEFAULT_ENDPOINT));
+    this(new HttpExporterBuilder<>("otlp", "metric", DEFAULT_ENDPOINT), MemoryMode.IMMUTABLE_DATA);
   }
 
   /**
@@ -83,14 +89,13 @@ public final class OtlpHttpMetricExporterBuilder {
 
   /**
    * Sets the method used to compress payloads. If unset, compression is disabled. Currently
-   * supported compression methods include "gzip" and "none".
+   * supported compression methods include "gzip", "none", and "zstd" when {@code
+   * com.github.luben:zstd-jni} is on the classpath. The level of "gzip" and "zstd" can be set with
+   * a suffix, e.g. "gzip:1" or "zstd:6".
    */
   public OtlpHttpMetricExporterBuilder setCompression(String compressionMethod) {
     requireNonNull(compressionMethod, "compressionMethod");
-    checkArgument(
-        compressionMethod.equals("gzip") || compressionMethod.equals("none"),
-        "Unsupported compression method. Supported compression methods include: gzip, none.");
-    delegate.setCompression(compressionMethod);
+    delegate.setCompression(CompressorUtil.validateAndResolveCompressor(compressionMethod));
     return this;
   }
 
@@ -173,17 +178,87 @@ public final class OtlpHttpMetricExporterBuilder {
     return this;
   }
 
+  /**
+   * Sets the disk buffering configuration. Requests failing with a retryable error, e.g. while the
+   * collector is unavailable, are then stored on disk and replayed once it accepts them again,
+   * instead of being dropped. Disk buffering is disabled by default.
+   */
+  OtlpHttpMetricExporterBuilder setDiskBuffering(DiskBufferingConfig diskBufferingConfig) {
+    requireNonNull(diskBufferingConfig, "diskBufferingConfig");
+    delegate.setDiskBuffering(diskBufferingConfig);
+    return this;
+  }
+
+  /**
+   * Sets the max number of concurrent export requests and adapts the concurrency to the collector.
+   * The limit starts at one, grows while requests succeed without added latency and shrinks when
+   * latency rises or the collector signals overload, waiting as long as it asks with {@code
+   * Retry-After} or {@code grpc-retry-pushback-ms}. Requests beyond the limit wait for their turn.
+   * The current limit is recorded by the exporter's self-metrics. Disabled by default.
+   */
+  public OtlpHttpMetricExporterBuilder setAdaptiveConcurrency(int maxConcurrentRequests) {
+    checkArgument(maxConcurrentRequests > 0, "maxConcurrentRequests must be positive");
+    delegate.setAdaptiveConcurrency(maxConcurrentRequests);
+    return this;
+  }
+
+  /**
+   * Sets the max size in bytes of the protobuf encoded export requests. Larger batches are split
+   * into several requests below it, sent concurrently, e.g. to stay below the max message size
+   * accepted by the collector. A single item larger than the limit is still sent on its own.
+   * Requests are not split by default.
+   */
+  public OtlpHttpMetricExporterBuilder setMaxRequestSize(int maxRequestSizeBytes) {
+    checkArgument(maxRequestSizeBytes > 0, "maxRequestSizeBytes must be positive");
+    delegate.setMaxRequestSize(maxRequestSizeBytes);
+    return this;
+  }
+
+  /**
+   * Sends requests over HTTP/2, multiplexing concurrent requests as streams on a single connection
+   * instead of opening a connection per concurrent request. {@code h2} is negotiated with ALPN for
+   * {@code https} endpoints, {@code h2c} is used for {@code http} endpoints. At most {@code
+   * maxConcurrentStreams} requests are in flight, and a keep-alive ping is sent every {@code
+   * pingInterval} if the HTTP client supports it, {@link Duration#ZERO} disables pings. HTTP/1.1 is
+   * used by default.
+   */
+  public OtlpHttpMetricExporterBuilder setHttp2(int maxConcurrentStreams, Duration pingInterval) {
+    checkArgument(maxConcurrentStreams > 0, "maxConcurrentStreams must be positive");
+    requireNonNull(pingInterval, "pingInterval");
+    checkArgument(!pingInterval.isNegative(), "pingInterval must be non-negative");
+    delegate.setHttp2(Http2Config.create(maxConcurrentStreams, pingInterval.toNanos()));
+    return this;
+  }
+
   OtlpHttpMetricExporterBuilder exportAsJson() {
     delegate.exportAsJson();
     return this;
   }
 
+  /**
+   * Sets the {@link MemoryMode} of the exporter. With {@link MemoryMode#REUSABLE_DATA} requests are
+   * serialized straight from the exported metrics by marshalers which are pooled and reused across
+   * exports, instead of allocating a tree of marshalers for every export. The memory mode is also
+   * reported to the {@link io.opentelemetry.sdk.metrics.export.MetricReader}, which then reuses the
+   * exported data across collections as well. Defaults to {@link MemoryMode#IMMUTABLE_DATA}.
+   */
+  OtlpHttpMetricExporterBuilder setMemoryMode(MemoryMode memoryMode) {
+    requireNonNull(memoryMode, "memoryMode");
+    this.memoryMode = memoryMode;
+    return this;
+  }
+
   /**
    * Constructs a new instance of the exporter based on the builder's values.
    *
    * @return a new exporter's instance
    */
   public OtlpHttpMetricExporter build() {
-    return new OtlpHttpMetricExporter(delegate, delegate.build(), aggregationTemporalitySelector, defaultAggregationSelector);
+    return new OtlpHttpMetricExporter(
+        delegate,
+        delegate.build(),
+        aggregationTemporalitySelector,
+        defaultAggregationSelector,
+        memoryMode);
   }
 }
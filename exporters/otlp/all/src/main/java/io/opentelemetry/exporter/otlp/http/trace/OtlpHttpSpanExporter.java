@@ -7,11 +7,17 @@ package io.opentelemetry.exporter.otlp.http.trace;
 
 import io.opentelemetry.exporter.internal.http.HttpExporter;
 import io.opentelemetry.exporter.internal.http.HttpExporterBuilder;
+import io.opentelemetry.exporter.internal.marshal.Marshaler;
+import io.opentelemetry.exporter.internal.otlp.MarshalerCache;
+import io.opentelemetry.exporter.internal.otlp.traces.LowAllocationTraceRequestMarshaler;
 import io.opentelemetry.exporter.internal.otlp.traces.TraceRequestMarshaler;
 import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.common.export.MemoryMode;
 import io.opentelemetry.sdk.trace.data.SpanData;
 import io.opentelemetry.sdk.trace.export.SpanExporter;
 import java.util.Collection;
+import java.util.Deque;
+import java.util.concurrent.ConcurrentLinkedDeque;
 import javax.annotation.concurrent.ThreadSafe;
 
 /**
@@ -22,14 +28,20 @@ import javax.annotation.concurrent.ThreadSafe;
 @ThreadSafe
 public final class OtlpHttpSpanExporter implements SpanExporter {
 
-  private final HttpExporterBuilder<TraceRequestMarshaler> builder;
-  private final HttpExporter<TraceRequestMarshaler> delegate;
+  private final HttpExporterBuilder<Marshaler> builder;
+  private final HttpExporter<Marshaler> delegate;
+  private final MarshalerCache marshalerCache = MarshalerCache.create();
+  private final Deque<LowAllocationTraceRequestMarshaler> marshalerPool =
+      new ConcurrentLinkedDeque<>();
+  private final MemoryMode memoryMode;
 
   OtlpHttpSpanExporter(
-      HttpExporterBuilder<TraceRequestMarshaler> builder,
-      HttpExporter<TraceRequestMarshaler> delegate) {
+      HttpExporterBuilder<Marshaler> builder,
+      HttpExporter<Marshaler> delegate,
+      MemoryMode memoryMode) {
     this.builder = builder;
     this.delegate = delegate;
+    this.memoryMode = memoryMode;
   }
 
   /**
@@ -61,7 +73,7 @@ public final class OtlpHttpSpanExporter implements SpanExporter {
    * @since 1.29.0
    */
   public OtlpHttpSpanExporterBuilder toBuilder() {
-    return new OtlpHttpSpanExporterBuilder(builder.copy());
+    return new OtlpHttpSpanExporterBuilder(builder.copy(), memoryMode);
   }
 
   /**
@@ -72,8 +84,24 @@ public final class OtlpHttpSpanExporter implements SpanExporter {
    */
   @Override
   public CompletableResultCode export(Collection<SpanData> spans) {
-    TraceRequestMarshaler exportRequest = TraceRequestMarshaler.create(spans);
-    return delegate.export(exportRequest, spans.size());
+    if (memoryMode == MemoryMode.REUSABLE_DATA) {
+      return delegate.export(spans, this::reusableMarshaler, this::releaseMarshaler);
+    }
+    return delegate.export(spans, items -> TraceRequestMarshaler.create(items, marshalerCache));
+  }
+
+  private LowAllocationTraceRequestMarshaler reusableMarshaler(Collection<SpanData> spans) {
+    LowAllocationTraceRequestMarshaler marshaler = marshalerPool.poll();
+    if (marshaler == null) {
+      marshaler = new LowAllocationTraceRequestMarshaler();
+    }
+    marshaler.initialize(spans);
+    return marshaler;
+  }
+
+  private void releaseMarshaler(LowAllocationTraceRequestMarshaler marshaler) {
+    marshaler.reset();
+    marshalerPool.add(marshaler);
   }
 
   /**
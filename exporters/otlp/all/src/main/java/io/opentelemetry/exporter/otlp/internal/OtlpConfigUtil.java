@@ -7,6 +7,9 @@ package io.opentelemetry.exporter.otlp.internal;
 
 import static io.opentelemetry.sdk.metrics.Aggregation.explicitBucketHistogram;
 
+import io.opentelemetry.exporter.internal.compression.CompressorUtil;
+import io.opentelemetry.exporter.internal.disk.DiskBufferingConfig;
+import io.opentelemetry.exporter.internal.http.Http2Config;
 import io.opentelemetry.sdk.autoconfigure.spi.ConfigProperties;
 import io.opentelemetry.sdk.autoconfigure.spi.ConfigurationException;
 import io.opentelemetry.sdk.common.export.RetryPolicy;
@@ -21,11 +24,13 @@ import java.io.IOException;
 import java.io.RandomAccessFile;
 import java.net.MalformedURLException;
 import java.net.URL;
+import java.nio.file.Paths;
 import java.time.Duration;
 import java.util.Locale;
 import java.util.Map;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
+import java.util.function.IntConsumer;
 import javax.annotation.Nullable;
 
 /**
@@ -94,6 +99,12 @@ public final class OtlpConfigUtil {
       compression = config.getString("otel.exporter.otlp.compression");
     }
     if (compression != null) {
+      try {
+        CompressorUtil.validateAndResolveCompressor(compression);
+      } catch (IllegalArgumentException e) {
+        throw new ConfigurationException(
+            "Invalid OTLP compression " + compression + ": " + e.getMessage(), e);
+      }
       setCompression.accept(compression);
     }
 
@@ -133,6 +144,92 @@ public final class OtlpConfigUtil {
     }
   }
 
+  /**
+   * Invoke {@code setDiskBuffering} with the configured {@link DiskBufferingConfig} for the {@code
+   * dataType}, if disk buffering is enabled. Each signal is stored in its own subdirectory of the
+   * configured directory.
+   */
+  public static void configureOtlpDiskBuffering(
+      String dataType, ConfigProperties config, Consumer<DiskBufferingConfig> setDiskBuffering) {
+    String directory = config.getString("otel.experimental.exporter.otlp.disk_buffering.directory");
+    if (directory == null) {
+      return;
+    }
+    DiskBufferingConfig.DiskBufferingConfigBuilder builder =
+        DiskBufferingConfig.builder(Paths.get(directory, dataType));
+    Long maxBytes = config.getLong("otel.experimental.exporter.otlp.disk_buffering.max_bytes");
+    if (maxBytes != null) {
+      builder.setMaxBytes(maxBytes);
+    }
+    Duration maxAge = config.getDuration("otel.experimental.exporter.otlp.disk_buffering.max_age");
+    if (maxAge != null) {
+      builder.setMaxAge(maxAge);
+    }
+    try {
+      setDiskBuffering.accept(builder.build());
+    } catch (IllegalArgumentException e) {
+      throw new ConfigurationException("Invalid OTLP disk buffering config: " + e.getMessage(), e);
+    }
+  }
+
+  /**
+   * Invoke {@code setAdaptiveConcurrency} with the configured max number of concurrent requests, if
+   * adaptive concurrency is enabled.
+   */
+  public static void configureOtlpAdaptiveConcurrency(
+      ConfigProperties config, IntConsumer setAdaptiveConcurrency) {
+    Integer maxConcurrentRequests =
+        config.getInt("otel.experimental.exporter.otlp.adaptive_concurrency.max");
+    if (maxConcurrentRequests == null) {
+      return;
+    }
+    if (maxConcurrentRequests <= 0) {
+      throw new ConfigurationException(
+          "Invalid OTLP adaptive concurrency max: " + maxConcurrentRequests);
+    }
+    setAdaptiveConcurrency.accept(maxConcurrentRequests);
+  }
+
+  /**
+   * Invoke {@code setMaxRequestSize} with the configured max request size in bytes, if requests
+   * should be split.
+   */
+  public static void configureOtlpMaxRequestSize(
+      ConfigProperties config, IntConsumer setMaxRequestSize) {
+    Integer maxRequestSize = config.getInt("otel.experimental.exporter.otlp.max_request_size");
+    if (maxRequestSize == null) {
+      return;
+    }
+    if (maxRequestSize <= 0) {
+      throw new ConfigurationException("Invalid OTLP max request size: " + maxRequestSize);
+    }
+    setMaxRequestSize.accept(maxRequestSize);
+  }
+
+  /**
+   * Invoke {@code setHttp2} with the configured max concurrent streams and keep-alive ping
+   * interval, if HTTP/2 is enabled. Only applies to the {@code http/protobuf} protocol.
+   */
+  public static void configureOtlpHttp2(
+      ConfigProperties config, BiConsumer<Integer, Duration> setHttp2) {
+    if (!config.getBoolean("otel.experimental.exporter.otlp.http2.enabled", false)) {
+      return;
+    }
+    int maxConcurrentStreams =
+        config.getInt(
+            "otel.experimental.exporter.otlp.http2.max_concurrent_streams",
+            Http2Config.DEFAULT_MAX_CONCURRENT_STREAMS);
+    if (maxConcurrentStreams <= 0) {
+      throw new ConfigurationException(
+          "Invalid OTLP HTTP/2 max concurrent streams: " + maxConcurrentStreams);
+    }
+    Duration pingInterval =
+        config.getDuration(
+            "otel.experimental.exporter.otlp.http2.ping_interval",
+            Duration.ofSeconds(Http2Config.DEFAULT_PING_INTERVAL_SECS));
+    setHttp2.accept(maxConcurrentStreams, pingInterval);
+  }
+
   /**
    * Invoke the {@code aggregationTemporalitySelectorConsumer} with the configured {@link
    * AggregationTemporality}.
@@ -0,0 +1,56 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.exporter.otlp.internal;
+
+import io.opentelemetry.exporter.internal.disk.DiskBufferingConfig;
+import io.opentelemetry.sdk.common.export.MemoryMode;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+
+/**
+ * Reflective access to the experimental options of the OTLP exporter builders, e.g. {@link
+ * io.opentelemetry.exporter.otlp.http.trace.OtlpHttpSpanExporterBuilder}.
+ *
+ * <p>This class is internal and is hence not for public use. Its APIs are unstable and can change
+ * at any time.
+ */
+public final class OtlpExporterBuilderUtil {
+
+  private OtlpExporterBuilderUtil() {}
+
+  /**
+   * Reflectively set the {@link MemoryMode} on an OTLP exporter builder.
+   *
+   * @param builder the builder of one of the OTLP span, metric or log record exporters
+   */
+  public static void setMemoryMode(Object builder, MemoryMode memoryMode) {
+    try {
+      Method method = builder.getClass().getDeclaredMethod("setMemoryMode", MemoryMode.class);
+      method.setAccessible(true);
+      method.invoke(builder, memoryMode);
+    } catch (NoSuchMethodException | InvocationTargetException | IllegalAccessException e) {
+      throw new IllegalStateException(
+          "Error setting memoryMode on " + builder.getClass().getName(), e);
+    }
+  }
+
+  /**
+   * Reflectively set the {@link DiskBufferingConfig} on an OTLP exporter builder.
+   *
+   * @param builder the builder of one of the OTLP span, metric or log record exporters
+   */
+  public static void setDiskBuffering(Object builder, DiskBufferingConfig diskBufferingConfig) {
+    try {
+      Method method =
+          builder.getClass().getDeclaredMethod("setDiskBuffering", DiskBufferingConfig.class);
+      method.setAccessible(true);
+      method.invoke(builder, diskBufferingConfig);
+    } catch (NoSuchMethodException | InvocationTargetException | IllegalAccessException e) {
+      throw new IllegalStateException(
+          "Error setting diskBuffering on " + builder.getClass().getName(), e);
+    }
+  }
+}
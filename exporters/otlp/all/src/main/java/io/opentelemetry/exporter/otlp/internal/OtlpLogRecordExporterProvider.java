@@ -43,6 +43,14 @@ public class OtlpLogRecordExporterProvider implements ConfigurableLogRecordExpor
           builder::setTrustedCertificates,
           builder::setClientTls,
           builder::setRetryPolicy);
+      OtlpConfigUtil.configureOtlpDiskBuffering(
+          DATA_TYPE_LOGS,
+          config,
+          diskBufferingConfig ->
+              OtlpExporterBuilderUtil.setDiskBuffering(builder, diskBufferingConfig));
+      OtlpConfigUtil.configureOtlpAdaptiveConcurrency(config, builder::setAdaptiveConcurrency);
+      OtlpConfigUtil.configureOtlpMaxRequestSize(config, builder::setMaxRequestSize);
+      OtlpConfigUtil.configureOtlpHttp2(config, builder::setHttp2);
 
       return builder.build();
     } else if (protocol.equals(PROTOCOL_GRPC)) {
@@ -58,6 +66,13 @@ public class OtlpLogRecordExporterProvider implements ConfigurableLogRecordExpor
           builder::setTrustedCertificates,
           builder::setClientTls,
           builder::setRetryPolicy);
+      OtlpConfigUtil.configureOtlpDiskBuffering(
+          DATA_TYPE_LOGS,
+          config,
+          diskBufferingConfig ->
+              OtlpExporterBuilderUtil.setDiskBuffering(builder, diskBufferingConfig));
+      OtlpConfigUtil.configureOtlpAdaptiveConcurrency(config, builder::setAdaptiveConcurrency);
+      OtlpConfigUtil.configureOtlpMaxRequestSize(config, builder::setMaxRequestSize);
 
       return builder.build();
     }
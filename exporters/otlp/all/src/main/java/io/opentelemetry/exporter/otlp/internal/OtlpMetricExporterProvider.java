@@ -43,6 +43,14 @@ public class OtlpMetricExporterProvider implements ConfigurableMetricExporterPro
           builder::setTrustedCertificates,
           builder::setClientTls,
           builder::setRetryPolicy);
+      OtlpConfigUtil.configureOtlpDiskBuffering(
+          DATA_TYPE_METRICS,
+          config,
+          diskBufferingConfig ->
+              OtlpExporterBuilderUtil.setDiskBuffering(builder, diskBufferingConfig));
+      OtlpConfigUtil.configureOtlpAdaptiveConcurrency(config, builder::setAdaptiveConcurrency);
+      OtlpConfigUtil.configureOtlpMaxRequestSize(config, builder::setMaxRequestSize);
+      OtlpConfigUtil.configureOtlpHttp2(config, builder::setHttp2);
       OtlpConfigUtil.configureOtlpAggregationTemporality(config, builder::setAggregationTemporalitySelector);
       OtlpConfigUtil.configureOtlpHistogramDefaultAggregation(config, builder::setDefaultAggregationSelector);
       return builder.build();
@@ -58,6 +66,13 @@ public class OtlpMetricExporterProvider implements ConfigurableMetricExporterPro
           builder::setTrustedCertificates,
           builder::setClientTls,
           builder::setRetryPolicy);
+      OtlpConfigUtil.configureOtlpDiskBuffering(
+          DATA_TYPE_METRICS,
+          config,
+          diskBufferingConfig ->
+              OtlpExporterBuilderUtil.setDiskBuffering(builder, diskBufferingConfig));
+      OtlpConfigUtil.configureOtlpAdaptiveConcurrency(config, builder::setAdaptiveConcurrency);
+      OtlpConfigUtil.configureOtlpMaxRequestSize(config, builder::setMaxRequestSize);
       OtlpConfigUtil.configureOtlpAggregationTemporality(config, builder::setAggregationTemporalitySelector);
       OtlpConfigUtil.configureOtlpHistogramDefaultAggregation(config, builder::setDefaultAggregationSelector);
       return builder.build();
@@ -44,6 +44,14 @@ public class OtlpSpanExporterProvider implements ConfigurableSpanExporterProvide
           builder::setTrustedCertificates,
           builder::setClientTls,
           builder::setRetryPolicy);
+      OtlpConfigUtil.configureOtlpDiskBuffering(
+          DATA_TYPE_TRACES,
+          config,
+          diskBufferingConfig ->
+              OtlpExporterBuilderUtil.setDiskBuffering(builder, diskBufferingConfig));
+      OtlpConfigUtil.configureOtlpAdaptiveConcurrency(config, builder::setAdaptiveConcurrency);
+      OtlpConfigUtil.configureOtlpMaxRequestSize(config, builder::setMaxRequestSize);
+      OtlpConfigUtil.configureOtlpHttp2(config, builder::setHttp2);
 
       return builder.build();
     } else if (protocol.equals(PROTOCOL_GRPC)) {
@@ -60,6 +68,13 @@ public class OtlpSpanExporterProvider implements ConfigurableSpanExporterProvide
           builder::setTrustedCertificates,
           builder::setClientTls,
           builder::setRetryPolicy);
+      OtlpConfigUtil.configureOtlpDiskBuffering(
+          DATA_TYPE_TRACES,
+          config,
+          diskBufferingConfig ->
+              OtlpExporterBuilderUtil.setDiskBuffering(builder, diskBufferingConfig));
+      OtlpConfigUtil.configureOtlpAdaptiveConcurrency(config, builder::setAdaptiveConcurrency);
+      OtlpConfigUtil.configureOtlpMaxRequestSize(config, builder::setMaxRequestSize);
 
       return builder.build();
     }
@@ -7,11 +7,17 @@ package io.opentelemetry.exporter.otlp.logs;
 
 import io.opentelemetry.exporter.internal.grpc.GrpcExporter;
 import io.opentelemetry.exporter.internal.grpc.GrpcExporterBuilder;
+import io.opentelemetry.exporter.internal.marshal.Marshaler;
+import io.opentelemetry.exporter.internal.otlp.MarshalerCache;
 import io.opentelemetry.exporter.internal.otlp.logs.LogsRequestMarshaler;
+import io.opentelemetry.exporter.internal.otlp.logs.LowAllocationLogsRequestMarshaler;
 import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.common.export.MemoryMode;
 import io.opentelemetry.sdk.logs.data.LogRecordData;
 import io.opentelemetry.sdk.logs.export.LogRecordExporter;
 import java.util.Collection;
+import java.util.Deque;
+import java.util.concurrent.ConcurrentLinkedDeque;
 import javax.annotation.concurrent.ThreadSafe;
 
 /**
@@ -22,8 +28,12 @@ import javax.annotation.concurrent.ThreadSafe;
 @ThreadSafe
 public final class OtlpGrpcLogRecordExporter implements LogRecordExporter {
 
-  private final GrpcExporterBuilder<LogsRequestMarshaler> builder;
-  private final GrpcExporter<LogsRequestMarshaler> delegate;
+  private final GrpcExporterBuilder<Marshaler> builder;
+  private final GrpcExporter<Marshaler> delegate;
+  private final MarshalerCache marshalerCache = MarshalerCache.create();
+  private final Deque<LowAllocationLogsRequestMarshaler> marshalerPool =
+      new ConcurrentLinkedDeque<>();
+  private final MemoryMode memoryMode;
 
   /**
    * Returns a new {@link OtlpGrpcLogRecordExporter} using the default values.
@@ -47,10 +57,12 @@ public final class OtlpGrpcLogRecordExporter implements LogRecordExporter {
   }
 
   OtlpGrpcLogRecordExporter(
-      GrpcExporterBuilder<LogsRequestMarshaler> builder,
-      GrpcExporter<LogsRequestMarshaler> delegate) {
+      GrpcExporterBuilder<Marshaler> builder,
+      GrpcExporter<Marshaler> delegate,
+      MemoryMode memoryMode) {
     this.builder = builder;
     this.delegate = delegate;
+    this.memoryMode = memoryMode;
   }
 
   /**
@@ -61,7 +73,7 @@ public final class OtlpGrpcLogRecordExporter implements LogRecordExporter {
    * @since 1.29.0
    */
   public OtlpGrpcLogRecordExporterBuilder toBuilder() {
-    return new OtlpGrpcLogRecordExporterBuilder(builder.copy());
+    return new OtlpGrpcLogRecordExporterBuilder(builder.copy(), memoryMode);
   }
 
   /**
@@ -72,8 +84,24 @@ public final class OtlpGrpcLogRecordExporter implements LogRecordExporter {
    */
   @Override
   public CompletableResultCode export(Collection<LogRecordData> logs) {
-    LogsRequestMarshaler request = LogsRequestMarshaler.create(logs);
-    return delegate.export(request, logs.size());
+    if (memoryMode == MemoryMode.REUSABLE_DATA) {
+      return delegate.export(logs, this::reusableMarshaler, this::releaseMarshaler);
+    }
+    return delegate.export(logs, items -> LogsRequestMarshaler.create(items, marshalerCache));
+  }
+
+  private LowAllocationLogsRequestMarshaler reusableMarshaler(Collection<LogRecordData> logs) {
+    LowAllocationLogsRequestMarshaler marshaler = marshalerPool.poll();
+    if (marshaler == null) {
+      marshaler = new LowAllocationLogsRequestMarshaler();
+    }
+    marshaler.initialize(logs);
+    return marshaler;
+  }
+
+  private void releaseMarshaler(LowAllocationLogsRequestMarshaler marshaler) {
+    marshaler.reset();
+    marshalerPool.add(marshaler);
   }
 
   @Override
@@ -11,9 +11,12 @@ import static java.util.Objects.requireNonNull;
 import io.grpc.ManagedChannel;
 import io.opentelemetry.api.GlobalOpenTelemetry;
 import io.opentelemetry.api.metrics.MeterProvider;
+import io.opentelemetry.exporter.internal.compression.CompressorUtil;
+import io.opentelemetry.exporter.internal.disk.DiskBufferingConfig;
 import io.opentelemetry.exporter.internal.grpc.GrpcExporterBuilder;
-import io.opentelemetry.exporter.internal.otlp.logs.LogsRequestMarshaler;
+import io.opentelemetry.exporter.internal.marshal.Marshaler;
 import io.opentelemetry.exporter.otlp.internal.OtlpUserAgent;
+import io.opentelemetry.sdk.common.export.MemoryMode;
 import io.opentelemetry.sdk.common.export.RetryPolicy;
 import java.net.URI;
 import java.time.Duration;
@@ -38,10 +41,12 @@ public final class OtlpGrpcLogRecordExporterBuilder {
   private static final long DEFAULT_TIMEOUT_SECS = 10;
 
   // Visible for testing
-  final GrpcExporterBuilder<LogsRequestMarshaler> delegate;
+  final GrpcExporterBuilder<Marshaler> delegate;
+  private MemoryMode memoryMode;
 
-  OtlpGrpcLogRecordExporterBuilder(GrpcExporterBuilder<LogsRequestMarshaler> delegate) {
+  OtlpGrpcLogRecordExporterBuilder(GrpcExporterBuilder<Marshaler> delegate, MemoryMode memoryMode) {
     this.delegate = delegate;
+    this.memoryMode = memoryMode;
     OtlpUserAgent.addUserAgentHeader(delegate::addHeader);
   }
 
@@ -53,7 +58,8 @@ public final class OtlpGrpcLogRecordExporterBuilder {
             DEFAULT_TIMEOUT_SECS,
             DEFAULT_ENDPOINT,
             () -> MarshalerLogsServiceGrpc::newFutureStub,
-            GRPC_ENDPOINT_PATH));
+            GRPC_ENDPOINT_PATH),
+        MemoryMode.IMMUTABLE_DATA);
   }
 
   /**
@@ -108,14 +114,14 @@ public final class OtlpGrpcLogRecordExporterBuilder {
 
   /**
    * Sets the method used to compress payloads. If unset, compression is disabled. Currently
-   * supported compression methods include "gzip" and "none".
+   * supported compression methods include "gzip", "none", and "zstd" when {@code
+   * com.github.luben:zstd-jni} is on the classpath. The level of "gzip" and "zstd" can be set with
+   * a suffix, e.g. "gzip:1" or "zstd:6". Levels are not supported with a {@link
+   * ManagedChannel}, which shares one compressor per method among all exporters.
    */
   public OtlpGrpcLogRecordExporterBuilder setCompression(String compressionMethod) {
     requireNonNull(compressionMethod, "compressionMethod");
-    checkArgument(
-        compressionMethod.equals("gzip") || compressionMethod.equals("none"),
-        "Unsupported compression method. Supported compression methods include: gzip, none.");
-    delegate.setCompression(compressionMethod);
+    delegate.setCompression(CompressorUtil.validateAndResolveCompressor(compressionMethod));
     return this;
   }
 
@@ -173,6 +179,42 @@ public final class OtlpGrpcLogRecordExporterBuilder {
     return this;
   }
 
+  /**
+   * Sets the disk buffering configuration. Requests failing with a retryable error, e.g. while the
+   * collector is unavailable, are then stored on disk and replayed once it accepts them again,
+   * instead of being dropped. Disk buffering is disabled by default.
+   */
+  OtlpGrpcLogRecordExporterBuilder setDiskBuffering(DiskBufferingConfig diskBufferingConfig) {
+    requireNonNull(diskBufferingConfig, "diskBufferingConfig");
+    delegate.setDiskBuffering(diskBufferingConfig);
+    return this;
+  }
+
+  /**
+   * Sets the max number of concurrent export requests and adapts the concurrency to the collector.
+   * The limit starts at one, grows while requests succeed without added latency and shrinks when
+   * latency rises or the collector signals overload, waiting as long as it asks with {@code
+   * Retry-After} or {@code grpc-retry-pushback-ms}. Requests beyond the limit wait for their turn.
+   * The current limit is recorded by the exporter's self-metrics. Disabled by default.
+   */
+  public OtlpGrpcLogRecordExporterBuilder setAdaptiveConcurrency(int maxConcurrentRequests) {
+    checkArgument(maxConcurrentRequests > 0, "maxConcurrentRequests must be positive");
+    delegate.setAdaptiveConcurrency(maxConcurrentRequests);
+    return this;
+  }
+
+  /**
+   * Sets the max size in bytes of the protobuf encoded export requests. Larger batches are split
+   * into several requests below it, sent concurrently, e.g. to stay below the max message size
+   * accepted by the collector. A single item larger than the limit is still sent on its own.
+   * Requests are not split by default.
+   */
+  public OtlpGrpcLogRecordExporterBuilder setMaxRequestSize(int maxRequestSizeBytes) {
+    checkArgument(maxRequestSizeBytes > 0, "maxRequestSizeBytes must be positive");
+    delegate.setMaxRequestSize(maxRequestSizeBytes);
+    return this;
+  }
+
   /**
    * Sets the {@link MeterProvider} to use to collect metrics related to export. If not set, uses
    * {@link GlobalOpenTelemetry#getMeterProvider()}.
@@ -183,12 +225,24 @@ public final class OtlpGrpcLogRecordExporterBuilder {
     return this;
   }
 
+  /**
+   * Sets the {@link MemoryMode} of the exporter. With {@link MemoryMode#REUSABLE_DATA} requests are
+   * serialized straight from the exported logs by marshalers which are pooled and reused across
+   * exports, instead of allocating a tree of marshalers for every export. Defaults to {@link
+   * MemoryMode#IMMUTABLE_DATA}.
+   */
+  OtlpGrpcLogRecordExporterBuilder setMemoryMode(MemoryMode memoryMode) {
+    requireNonNull(memoryMode, "memoryMode");
+    this.memoryMode = memoryMode;
+    return this;
+  }
+
   /**
    * Constructs a new instance of the exporter based on the builder's values.
    *
    * @return a new exporter's instance
    */
   public OtlpGrpcLogRecordExporter build() {
-    return new OtlpGrpcLogRecordExporter(delegate, delegate.build());
+    return new OtlpGrpcLogRecordExporter(delegate, delegate.build(), memoryMode);
   }
 }
@@ -7,8 +7,12 @@ package io.opentelemetry.exporter.otlp.metrics;
 
 import io.opentelemetry.exporter.internal.grpc.GrpcExporter;
 import io.opentelemetry.exporter.internal.grpc.GrpcExporterBuilder;
+import io.opentelemetry.exporter.internal.marshal.Marshaler;
+import io.opentelemetry.exporter.internal.otlp.MarshalerCache;
+import io.opentelemetry.exporter.internal.otlp.metrics.LowAllocationMetricsRequestMarshaler;
 import io.opentelemetry.exporter.internal.otlp.metrics.MetricsRequestMarshaler;
 import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.common.export.MemoryMode;
 import io.opentelemetry.sdk.metrics.Aggregation;
 import io.opentelemetry.sdk.metrics.InstrumentType;
 import io.opentelemetry.sdk.metrics.data.AggregationTemporality;
@@ -17,6 +21,8 @@ import io.opentelemetry.sdk.metrics.export.AggregationTemporalitySelector;
 import io.opentelemetry.sdk.metrics.export.DefaultAggregationSelector;
 import io.opentelemetry.sdk.metrics.export.MetricExporter;
 import java.util.Collection;
+import java.util.Deque;
+import java.util.concurrent.ConcurrentLinkedDeque;
 import javax.annotation.concurrent.ThreadSafe;
 
 /**
@@ -27,8 +33,12 @@ import javax.annotation.concurrent.ThreadSafe;
 @ThreadSafe
 public final class OtlpGrpcMetricExporter implements MetricExporter {
 
-  private final GrpcExporterBuilder<MetricsRequestMarshaler> builder;
-  private final GrpcExporter<MetricsRequestMarshaler> delegate;
+  private final GrpcExporterBuilder<Marshaler> builder;
+  private final GrpcExporter<Marshaler> delegate;
+  private final MarshalerCache marshalerCache = MarshalerCache.create();
+  private final Deque<LowAllocationMetricsRequestMarshaler> marshalerPool =
+      new ConcurrentLinkedDeque<>();
+  private final MemoryMode memoryMode;
   private final AggregationTemporalitySelector aggregationTemporalitySelector;
   private final DefaultAggregationSelector defaultAggregationSelector;
 
@@ -54,14 +64,16 @@ public final class OtlpGrpcMetricExporter implements MetricExporter {
   }
 
   OtlpGrpcMetricExporter(
-      GrpcExporterBuilder<MetricsRequestMarshaler> builder,
-      GrpcExporter<MetricsRequestMarshaler> delegate,
+      GrpcExporterBuilder<Marshaler> builder,
+      GrpcExporter<Marshaler> delegate,
       AggregationTemporalitySelector aggregationTemporalitySelector,
-      DefaultAggregationSelector defaultAggregationSelector) {
+      DefaultAggregationSelector defaultAggregationSelector,
+      MemoryMode memoryMode) {
     this.builder = builder;
     this.delegate = delegate;
     this.aggregationTemporalitySelector = aggregationTemporalitySelector;
     this.defaultAggregationSelector = defaultAggregationSelector;
+    this.memoryMode = memoryMode;
   }
 
   /**
@@ -72,7 +84,7 @@ public final class OtlpGrpcMetricExporter implements MetricExporter {
    * @since 1.29.0
    */
   public OtlpGrpcMetricExporterBuilder toBuilder() {
-    return new OtlpGrpcMetricExporterBuilder(builder.copy());
+    return new OtlpGrpcMetricExporterBuilder(builder.copy(), memoryMode);
   }
 
   @Override
@@ -85,6 +97,11 @@ public final class OtlpGrpcMetricExporter implements MetricExporter {
     return defaultAggregationSelector.getDefaultAggregation(instrumentType);
   }
 
+  @Override
+  public MemoryMode getMemoryMode() {
+    return memoryMode;
+  }
+
   /**
    * Submits all the given metrics in a single batch to the OpenTelemetry collector.
    *
@@ -93,9 +110,24 @@ public final class OtlpGrpcMetricExporter implements MetricExporter {
    */
   @Override
   public CompletableResultCode export(Collection<MetricData> metrics) {
-    MetricsRequestMarshaler request = MetricsRequestMarshaler.create(metrics);
+    if (memoryMode == MemoryMode.REUSABLE_DATA) {
+      return delegate.export(metrics, this::reusableMarshaler, this::releaseMarshaler);
+    }
+    return delegate.export(metrics, items -> MetricsRequestMarshaler.create(items, marshalerCache));
+  }
+
+  private LowAllocationMetricsRequestMarshaler reusableMarshaler(Collection<MetricData> metrics) {
+    LowAllocationMetricsRequestMarshaler marshaler = marshalerPool.poll();
+    if (marshaler == null) {
+      marshaler = new LowAllocationMetricsRequestMarshaler();
+    }
+    marshaler.initialize(metrics);
+    return marshaler;
+  }
 
-    return delegate.export(request, metrics.size());
+  private void releaseMarshaler(LowAllocationMetricsRequestMarshaler marshaler) {
+    marshaler.reset();
+    marshalerPool.add(marshaler);
   }
 
   /**
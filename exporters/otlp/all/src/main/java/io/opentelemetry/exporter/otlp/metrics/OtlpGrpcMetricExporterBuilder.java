@@ -10,9 +10,12 @@ import static java.util.Objects.requireNonNull;
 
 import io.grpc.ManagedChannel;
 import io.opentelemetry.api.metrics.MeterProvider;
+import io.opentelemetry.exporter.internal.compression.CompressorUtil;
+import io.opentelemetry.exporter.internal.disk.DiskBufferingConfig;
 import io.opentelemetry.exporter.internal.grpc.GrpcExporterBuilder;
-import io.opentelemetry.exporter.internal.otlp.metrics.MetricsRequestMarshaler;
+import io.opentelemetry.exporter.internal.marshal.Marshaler;
 import io.opentelemetry.exporter.otlp.internal.OtlpUserAgent;
+import io.opentelemetry.sdk.common.export.MemoryMode;
 import io.opentelemetry.sdk.common.export.RetryPolicy;
 import io.opentelemetry.sdk.metrics.InstrumentType;
 import io.opentelemetry.sdk.metrics.export.AggregationTemporalitySelector;
@@ -43,7 +46,8 @@ public final class OtlpGrpcMetricExporterBuilder {
       AggregationTemporalitySelector.alwaysCumulative();
 
   // Visible for testing
-  final GrpcExporterBuilder<MetricsRequestMarshaler> delegate;
+  final GrpcExporterBuilder<Marshaler> delegate;
+  private MemoryMode memoryMode;
 
   private AggregationTemporalitySelector aggregationTemporalitySelector =
       DEFAULT_AGGREGATION_TEMPORALITY_SELECTOR;
@@ -51,8 +55,9 @@ public final class OtlpGrpcMetricExporterBuilder {
   private DefaultAggregationSelector defaultAggregationSelector =
       DefaultAggregationSelector.getDefault();
 
-  OtlpGrpcMetricExporterBuilder(GrpcExporterBuilder<MetricsRequestMarshaler> delegate) {
+  OtlpGrpcMetricExporterBuilder(GrpcExporterBuilder<Marshaler> delegate, MemoryMode memoryMode) {
     this.delegate = delegate;
+    this.memoryMode = memoryMode;
     delegate.setMeterProvider(MeterProvider.noop());
     OtlpUserAgent.addUserAgentHeader(delegate::addHeader);
   }
@@ -65,7 +70,8 @@ public final class OtlpGrpcMetricExporterBuilder {
             DEFAULT_TIMEOUT_SECS,
             DEFAULT_ENDPOINT,
             () -> MarshalerMetricsServiceGrpc::newFutureStub,
-            GRPC_ENDPOINT_PATH));
+            GRPC_ENDPOINT_PATH),
+        MemoryMode.IMMUTABLE_DATA);
   }
 
   /**
@@ -120,14 +126,14 @@ public final class OtlpGrpcMetricExporterBuilder {
 
   /**
    * Sets the method used to compress payloads. If unset, compression is disabled. Currently
-   * supported compression methods include "gzip" and "none".
+   * supported compression methods include "gzip", "none", and "zstd" when {@code
+   * com.github.luben:zstd-jni} is on the classpath. The level of "gzip" and "zstd" can be set with
+   * a suffix, e.g. "gzip:1" or "zstd:6". Levels are not supported with a {@link
+   * ManagedChannel}, which shares one compressor per method among all exporters.
    */
   public OtlpGrpcMetricExporterBuilder setCompression(String compressionMethod) {
     requireNonNull(compressionMethod, "compressionMethod");
-    checkArgument(
-        compressionMethod.equals("gzip") || compressionMethod.equals("none"),
-        "Unsupported compression method. Supported compression methods include: gzip, none.");
-    delegate.setCompression(compressionMethod);
+    delegate.setCompression(CompressorUtil.validateAndResolveCompressor(compressionMethod));
     return this;
   }
 
@@ -217,6 +223,55 @@ public final class OtlpGrpcMetricExporterBuilder {
     return this;
   }
 
+  /**
+   * Sets the disk buffering configuration. Requests failing with a retryable error, e.g. while the
+   * collector is unavailable, are then stored on disk and replayed once it accepts them again,
+   * instead of being dropped. Disk buffering is disabled by default.
+   */
+  OtlpGrpcMetricExporterBuilder setDiskBuffering(DiskBufferingConfig diskBufferingConfig) {
+    requireNonNull(diskBufferingConfig, "diskBufferingConfig");
+    delegate.setDiskBuffering(diskBufferingConfig);
+    return this;
+  }
+
+  /**
+   * Sets the max number of concurrent export requests and adapts the concurrency to the collector.
+   * The limit starts at one, grows while requests succeed without added latency and shrinks when
+   * latency rises or the collector signals overload, waiting as long as it asks with {@code
+   * Retry-After} or {@code grpc-retry-pushback-ms}. Requests beyond the limit wait for their turn.
+   * The current limit is recorded by the exporter's self-metrics. Disabled by default.
+   */
+  public OtlpGrpcMetricExporterBuilder setAdaptiveConcurrency(int maxConcurrentRequests) {
+    checkArgument(maxConcurrentRequests > 0, "maxConcurrentRequests must be positive");
+    delegate.setAdaptiveConcurrency(maxConcurrentRequests);
+    return this;
+  }
+
+  /**
+   * Sets the max size in bytes of the protobuf encoded export requests. Larger batches are split
+   * into several requests below it, sent concurrently, e.g. to stay below the max message size
+   * accepted by the collector. A single item larger than the limit is still sent on its own.
+   * Requests are not split by default.
+   */
+  public OtlpGrpcMetricExporterBuilder setMaxRequestSize(int maxRequestSizeBytes) {
+    checkArgument(maxRequestSizeBytes > 0, "maxRequestSizeBytes must be positive");
+    delegate.setMaxRequestSize(maxRequestSizeBytes);
+    return this;
+  }
+
+  /**
+   * Sets the {@link MemoryMode} of the exporter. With {@link MemoryMode#REUSABLE_DATA} requests are
+   * serialized straight from the exported metrics by marshalers which are pooled and reused across
+   * exports, instead of allocating a tree of marshalers for every export. The memory mode is also
+   * reported to the {@link io.opentelemetry.sdk.metrics.export.MetricReader}, which then reuses the
+   * exported data across collections as well. Defaults to {@link MemoryMode#IMMUTABLE_DATA}.
+   */
+  OtlpGrpcMetricExporterBuilder setMemoryMode(MemoryMode memoryMode) {
+    requireNonNull(memoryMode, "memoryMode");
+    this.memoryMode = memoryMode;
+    return this;
+  }
+
   /**
    * Constructs a new instance of the exporter based on the builder's values.
    *
@@ -224,6 +279,10 @@ public final class OtlpGrpcMetricExporterBuilder {
    */
   public OtlpGrpcMetricExporter build() {
     return new OtlpGrpcMetricExporter(
-        delegate, delegate.build(), aggregationTemporalitySelector, defaultAggregationSelector);
+        delegate,
+        delegate.build(),
+        aggregationTemporalitySelector,
+        defaultAggregationSelector,
+        memoryMode);
   }
 }
@@ -7,19 +7,29 @@ package io.opentelemetry.exporter.otlp.trace;
 
 import io.opentelemetry.exporter.internal.grpc.GrpcExporter;
 import io.opentelemetry.exporter.internal.grpc.GrpcExporterBuilder;
+import io.opentelemetry.exporter.internal.marshal.Marshaler;
+import io.opentelemetry.exporter.internal.otlp.MarshalerCache;
+import io.opentelemetry.exporter.internal.otlp.traces.LowAllocationTraceRequestMarshaler;
 import io.opentelemetry.exporter.internal.otlp.traces.TraceRequestMarshaler;
 import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.common.export.MemoryMode;
 import io.opentelemetry.sdk.trace.data.SpanData;
 import io.opentelemetry.sdk.trace.export.SpanExporter;
 import java.util.Collection;
+import java.util.Deque;
+import java.util.concurrent.ConcurrentLinkedDeque;
 import javax.annotation.concurrent.ThreadSafe;
 
 /** Exports spans using OTLP via gRPC, using OpenTelemetry's protobuf model. */
 @ThreadSafe
 public final class OtlpGrpcSpanExporter implements SpanExporter {
 
-  private final GrpcExporterBuilder<TraceRequestMarshaler> builder;
-  private final GrpcExporter<TraceRequestMarshaler> delegate;
+  private final GrpcExporterBuilder<Marshaler> builder;
+  private final GrpcExporter<Marshaler> delegate;
+  private final MarshalerCache marshalerCache = MarshalerCache.create();
+  private final Deque<LowAllocationTraceRequestMarshaler> marshalerPool =
+      new ConcurrentLinkedDeque<>();
+  private final MemoryMode memoryMode;
 
   /**
    * Returns a new {@link OtlpGrpcSpanExporter} using the default values.
@@ -43,10 +53,12 @@ public final class OtlpGrpcSpanExporter implements SpanExporter {
   }
 
   OtlpGrpcSpanExporter(
-      GrpcExporterBuilder<TraceRequestMarshaler> builder,
-      GrpcExporter<TraceRequestMarshaler> delegate) {
+      GrpcExporterBuilder<Marshaler> builder,
+      GrpcExporter<Marshaler> delegate,
+      MemoryMode memoryMode) {
     this.builder = builder;
     this.delegate = delegate;
+    this.memoryMode = memoryMode;
   }
 
   /**
@@ -57,7 +69,7 @@ public final class OtlpGrpcSpanExporter implements SpanExporter {
    * @since 1.29.0
    */
   public OtlpGrpcSpanExporterBuilder toBuilder() {
-    return new OtlpGrpcSpanExporterBuilder(builder.copy());
+    return new OtlpGrpcSpanExporterBuilder(builder.copy(), memoryMode);
   }
 
   /**
@@ -68,9 +80,24 @@ public final class OtlpGrpcSpanExporter implements SpanExporter {
    */
   @Override
   public CompletableResultCode export(Collection<SpanData> spans) {
-    TraceRequestMarshaler request = TraceRequestMarshaler.create(spans);
+    if (memoryMode == MemoryMode.REUSABLE_DATA) {
+      return delegate.export(spans, this::reusableMarshaler, this::releaseMarshaler);
+    }
+    return delegate.export(spans, items -> TraceRequestMarshaler.create(items, marshalerCache));
+  }
+
+  private LowAllocationTraceRequestMarshaler reusableMarshaler(Collection<SpanData> spans) {
+    LowAllocationTraceRequestMarshaler marshaler = marshalerPool.poll();
+    if (marshaler == null) {
+      marshaler = new LowAllocationTraceRequestMarshaler();
+    }
+    marshaler.initialize(spans);
+    return marshaler;
+  }
 
-    return delegate.export(request, spans.size());
+  private void releaseMarshaler(LowAllocationTraceRequestMarshaler marshaler) {
+    marshaler.reset();
+    marshalerPool.add(marshaler);
   }
 
   /**
@@ -0,0 +1,71 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.exporter.otlp.http.trace;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.opentelemetry.exporter.internal.marshal.Marshaler;
+import io.opentelemetry.exporter.internal.otlp.traces.ResourceSpansMarshaler;
+import io.opentelemetry.exporter.otlp.internal.OtlpExporterBuilderUtil;
+import io.opentelemetry.exporter.otlp.testing.internal.AbstractHttpTelemetryExporterTest;
+import io.opentelemetry.exporter.otlp.testing.internal.FakeTelemetryUtil;
+import io.opentelemetry.exporter.otlp.testing.internal.HttpSpanExporterBuilderWrapper;
+import io.opentelemetry.exporter.otlp.testing.internal.TelemetryExporter;
+import io.opentelemetry.exporter.otlp.testing.internal.TelemetryExporterBuilder;
+import io.opentelemetry.proto.trace.v1.ResourceSpans;
+import io.opentelemetry.sdk.common.export.MemoryMode;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+/** Runs the exporter tests with requests serialized by reused low allocation marshalers. */
+class OtlpHttpSpanExporterReusableDataTest
+    extends AbstractHttpTelemetryExporterTest<SpanData, ResourceSpans> {
+
+  protected OtlpHttpSpanExporterReusableDataTest() {
+    super("span", "/v1/traces", ResourceSpans.getDefaultInstance());
+  }
+
+  @Test
+  void memoryMode_PreservedByToBuilder() {
+    OtlpHttpSpanExporter exporter = reusableDataBuilder().build();
+    try {
+      assertThat(exporter).extracting("memoryMode").isEqualTo(MemoryMode.REUSABLE_DATA);
+      OtlpHttpSpanExporter copy = exporter.toBuilder().build();
+      assertThat(copy).extracting("memoryMode").isEqualTo(MemoryMode.REUSABLE_DATA);
+      copy.shutdown();
+    } finally {
+      exporter.shutdown();
+    }
+  }
+
+  @Override
+  protected TelemetryExporterBuilder<SpanData> exporterBuilder() {
+    return new HttpSpanExporterBuilderWrapper(reusableDataBuilder());
+  }
+
+  @Override
+  protected TelemetryExporterBuilder<SpanData> toBuilder(TelemetryExporter<SpanData> exporter) {
+    return new HttpSpanExporterBuilderWrapper(
+        ((OtlpHttpSpanExporter) exporter.unwrap()).toBuilder());
+  }
+
+  @Override
+  protected SpanData generateFakeTelemetry() {
+    return FakeTelemetryUtil.generateFakeSpanData();
+  }
+
+  @Override
+  protected Marshaler[] toMarshalers(List<SpanData> telemetry) {
+    return ResourceSpansMarshaler.create(telemetry);
+  }
+
+  private static OtlpHttpSpanExporterBuilder reusableDataBuilder() {
+    OtlpHttpSpanExporterBuilder builder = OtlpHttpSpanExporter.builder();
+    OtlpExporterBuilderUtil.setMemoryMode(builder, MemoryMode.REUSABLE_DATA);
+    return builder;
+  }
+}
@@ -15,6 +15,7 @@ import static org.assertj.core.api.Assertions.assertThatCode;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import com.google.common.collect.ImmutableMap;
+import io.opentelemetry.exporter.internal.disk.DiskBufferingConfig;
 import io.opentelemetry.sdk.autoconfigure.spi.ConfigurationException;
 import io.opentelemetry.sdk.autoconfigure.spi.internal.DefaultConfigProperties;
 import io.opentelemetry.sdk.metrics.Aggregation;
@@ -22,9 +23,15 @@ import io.opentelemetry.sdk.metrics.InstrumentType;
 import io.opentelemetry.sdk.metrics.data.AggregationTemporality;
 import io.opentelemetry.sdk.metrics.export.AggregationTemporalitySelector;
 import io.opentelemetry.sdk.metrics.export.DefaultAggregationSelector;
+import java.nio.file.Paths;
+import java.time.Duration;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BiConsumer;
+import javax.annotation.Nullable;
 import org.assertj.core.api.ThrowableAssert.ThrowingCallable;
 import org.junit.jupiter.api.Test;
 
@@ -330,6 +337,171 @@ class OtlpConfigUtilTest {
     return endpoint.get();
   }
 
+  @Test
+  void configureOtlpExporterBuilder_Compression() {
+    assertThat(configureCompression(ImmutableMap.of("otel.exporter.otlp.compression", "gzip")))
+        .isEqualTo("gzip");
+    assertThat(
+            configureCompression(
+                ImmutableMap.of(
+                    "otel.exporter.otlp.compression", "none",
+                    "otel.exporter.otlp.traces.compression", "gzip:1")))
+        .isEqualTo("gzip:1");
+    assertThat(configureCompression(Collections.emptyMap())).isNull();
+
+    assertThatThrownBy(
+            () -> configureCompression(ImmutableMap.of("otel.exporter.otlp.compression", "foo")))
+        .isInstanceOf(ConfigurationException.class)
+        .hasMessageContaining("Invalid OTLP compression foo");
+    assertThatThrownBy(
+            () ->
+                configureCompression(
+                    ImmutableMap.of("otel.exporter.otlp.compression", "gzip:10")))
+        .isInstanceOf(ConfigurationException.class)
+        .hasMessageContaining("Invalid gzip compression level: 10");
+  }
+
+  @Test
+  void configureOtlpDiskBuffering() {
+    assertThat(configureDiskBuffering(Collections.emptyMap())).isNull();
+
+    DiskBufferingConfig config =
+        configureDiskBuffering(
+            ImmutableMap.of(
+                "otel.experimental.exporter.otlp.disk_buffering.directory", "/tmp/otel",
+                "otel.experimental.exporter.otlp.disk_buffering.max_bytes", "1024",
+                "otel.experimental.exporter.otlp.disk_buffering.max_age", "10m"));
+    assertThat(config).isNotNull();
+    assertThat(config.getDirectory()).isEqualTo(Paths.get("/tmp/otel", DATA_TYPE_TRACES));
+    assertThat(config.getMaxBytes()).isEqualTo(1024);
+    assertThat(config.getMaxAge()).isEqualTo(Duration.ofMinutes(10));
+
+    assertThatThrownBy(
+            () ->
+                configureDiskBuffering(
+                    ImmutableMap.of(
+                        "otel.experimental.exporter.otlp.disk_buffering.directory", "/tmp/otel",
+                        "otel.experimental.exporter.otlp.disk_buffering.max_bytes", "0")))
+        .isInstanceOf(ConfigurationException.class)
+        .hasMessageContaining("maxBytes must be greater than 0");
+  }
+
+  @Test
+  void configureOtlpAdaptiveConcurrency() {
+    AtomicInteger max = new AtomicInteger();
+    OtlpConfigUtil.configureOtlpAdaptiveConcurrency(
+        DefaultConfigProperties.createFromMap(Collections.emptyMap()), max::set);
+    assertThat(max).hasValue(0);
+
+    OtlpConfigUtil.configureOtlpAdaptiveConcurrency(
+        DefaultConfigProperties.createFromMap(
+            Collections.singletonMap(
+                "otel.experimental.exporter.otlp.adaptive_concurrency.max", "16")),
+        max::set);
+    assertThat(max).hasValue(16);
+
+    assertThatThrownBy(
+            () ->
+                OtlpConfigUtil.configureOtlpAdaptiveConcurrency(
+                    DefaultConfigProperties.createFromMap(
+                        Collections.singletonMap(
+                            "otel.experimental.exporter.otlp.adaptive_concurrency.max", "0")),
+                    max::set))
+        .isInstanceOf(ConfigurationException.class)
+        .hasMessage("Invalid OTLP adaptive concurrency max: 0");
+  }
+
+  @Test
+  void configureOtlpMaxRequestSize() {
+    AtomicInteger max = new AtomicInteger();
+    OtlpConfigUtil.configureOtlpMaxRequestSize(
+        DefaultConfigProperties.createFromMap(Collections.emptyMap()), max::set);
+    assertThat(max).hasValue(0);
+
+    OtlpConfigUtil.configureOtlpMaxRequestSize(
+        DefaultConfigProperties.createFromMap(
+            Collections.singletonMap(
+                "otel.experimental.exporter.otlp.max_request_size", "4194304")),
+        max::set);
+    assertThat(max).hasValue(4194304);
+
+    assertThatThrownBy(
+            () ->
+                OtlpConfigUtil.configureOtlpMaxRequestSize(
+                    DefaultConfigProperties.createFromMap(
+                        Collections.singletonMap(
+                            "otel.experimental.exporter.otlp.max_request_size", "-1")),
+                    max::set))
+        .isInstanceOf(ConfigurationException.class)
+        .hasMessage("Invalid OTLP max request size: -1");
+  }
+
+  @Test
+  void configureOtlpHttp2() {
+    AtomicInteger maxStreams = new AtomicInteger();
+    AtomicReference<Duration> pingInterval = new AtomicReference<>();
+    BiConsumer<Integer, Duration> setHttp2 =
+        (streams, interval) -> {
+          maxStreams.set(streams);
+          pingInterval.set(interval);
+        };
+
+    OtlpConfigUtil.configureOtlpHttp2(
+        DefaultConfigProperties.createFromMap(Collections.emptyMap()), setHttp2);
+    assertThat(pingInterval.get()).isNull();
+
+    OtlpConfigUtil.configureOtlpHttp2(
+        DefaultConfigProperties.createFromMap(
+            Collections.singletonMap("otel.experimental.exporter.otlp.http2.enabled", "true")),
+        setHttp2);
+    assertThat(maxStreams).hasValue(100);
+    assertThat(pingInterval).hasValue(Duration.ofSeconds(30));
+
+    Map<String, String> properties = new HashMap<>();
+    properties.put("otel.experimental.exporter.otlp.http2.enabled", "true");
+    properties.put("otel.experimental.exporter.otlp.http2.max_concurrent_streams", "16");
+    properties.put("otel.experimental.exporter.otlp.http2.ping_interval", "0");
+    OtlpConfigUtil.configureOtlpHttp2(DefaultConfigProperties.createFromMap(properties), setHttp2);
+    assertThat(maxStreams).hasValue(16);
+    assertThat(pingInterval).hasValue(Duration.ZERO);
+
+    properties.put("otel.experimental.exporter.otlp.http2.max_concurrent_streams", "0");
+    assertThatThrownBy(
+            () ->
+                OtlpConfigUtil.configureOtlpHttp2(
+                    DefaultConfigProperties.createFromMap(properties), setHttp2))
+        .isInstanceOf(ConfigurationException.class)
+        .hasMessage("Invalid OTLP HTTP/2 max concurrent streams: 0");
+  }
+
+  /** Configure and return the disk buffering config for traces using the given properties. */
+  @Nullable
+  private static DiskBufferingConfig configureDiskBuffering(Map<String, String> properties) {
+    AtomicReference<DiskBufferingConfig> config = new AtomicReference<>();
+    OtlpConfigUtil.configureOtlpDiskBuffering(
+        DATA_TYPE_TRACES, DefaultConfigProperties.createFromMap(properties), config::set);
+    return config.get();
+  }
+
+  /** Configure and return the compression for traces using the given properties. */
+  @Nullable
+  private static String configureCompression(Map<String, String> properties) {
+    AtomicReference<String> compression = new AtomicReference<>();
+
+    OtlpConfigUtil.configureOtlpExporterBuilder(
+        DATA_TYPE_TRACES,
+        DefaultConfigProperties.createFromMap(properties),
+        value -> {},
+        (value1, value2) -> {},
+        compression::set,
+        value -> {},
+        value -> {},
+        (value1, value2) -> {},
+        value -> {});
+
+    return compression.get();
+  }
+
   @Test
   void configureOtlpAggregationTemporality() {
     assertThatThrownBy(
@@ -0,0 +1,73 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.exporter.otlp.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.opentelemetry.exporter.internal.marshal.Marshaler;
+import io.opentelemetry.exporter.internal.otlp.metrics.ResourceMetricsMarshaler;
+import io.opentelemetry.exporter.otlp.internal.OtlpExporterBuilderUtil;
+import io.opentelemetry.exporter.otlp.testing.internal.AbstractGrpcTelemetryExporterTest;
+import io.opentelemetry.exporter.otlp.testing.internal.FakeTelemetryUtil;
+import io.opentelemetry.exporter.otlp.testing.internal.TelemetryExporter;
+import io.opentelemetry.exporter.otlp.testing.internal.TelemetryExporterBuilder;
+import io.opentelemetry.proto.metrics.v1.ResourceMetrics;
+import io.opentelemetry.sdk.common.export.MemoryMode;
+import io.opentelemetry.sdk.metrics.data.MetricData;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+/** Runs the exporter tests with requests serialized by reused low allocation marshalers. */
+class OtlpGrpcMetricExporterReusableDataTest
+    extends AbstractGrpcTelemetryExporterTest<MetricData, ResourceMetrics> {
+
+  OtlpGrpcMetricExporterReusableDataTest() {
+    super("metric", ResourceMetrics.getDefaultInstance());
+  }
+
+  @Test
+  void memoryMode() {
+    OtlpGrpcMetricExporter exporter = reusableDataBuilder().build();
+    OtlpGrpcMetricExporter copy = exporter.toBuilder().build();
+    OtlpGrpcMetricExporter defaultExporter = OtlpGrpcMetricExporter.builder().build();
+    try {
+      // Reported to the reader so that it reuses the exported data too.
+      assertThat(exporter.getMemoryMode()).isEqualTo(MemoryMode.REUSABLE_DATA);
+      assertThat(copy.getMemoryMode()).isEqualTo(MemoryMode.REUSABLE_DATA);
+      assertThat(defaultExporter.getMemoryMode()).isEqualTo(MemoryMode.IMMUTABLE_DATA);
+    } finally {
+      exporter.shutdown();
+      copy.shutdown();
+      defaultExporter.shutdown();
+    }
+  }
+
+  @Override
+  protected TelemetryExporterBuilder<MetricData> exporterBuilder() {
+    return TelemetryExporterBuilder.wrap(reusableDataBuilder());
+  }
+
+  @Override
+  protected TelemetryExporterBuilder<MetricData> toBuilder(TelemetryExporter<MetricData> exporter) {
+    return TelemetryExporterBuilder.wrap(((OtlpGrpcMetricExporter) exporter.unwrap()).toBuilder());
+  }
+
+  @Override
+  protected MetricData generateFakeTelemetry() {
+    return FakeTelemetryUtil.generateFakeMetricData();
+  }
+
+  @Override
+  protected Marshaler[] toMarshalers(List<MetricData> telemetry) {
+    return ResourceMetricsMarshaler.create(telemetry);
+  }
+
+  private static OtlpGrpcMetricExporterBuilder reusableDataBuilder() {
+    OtlpGrpcMetricExporterBuilder builder = OtlpGrpcMetricExporter.builder();
+    OtlpExporterBuilderUtil.setMemoryMode(builder, MemoryMode.REUSABLE_DATA);
+    return builder;
+  }
+}
@@ -6,6 +6,7 @@
 package io.opentelemetry.exporter.otlp.trace;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import io.grpc.ManagedChannel;
 import io.grpc.inprocess.InProcessChannelBuilder;
@@ -41,6 +42,25 @@ class OtlpGrpcNettySpanExporterTest
     }
   }
 
+  @Test
+  @SuppressWarnings("deprecation") // testing deprecated feature
+  void compressionLevel_Unsupported() {
+    ManagedChannel channel = InProcessChannelBuilder.forName("test").build();
+    try {
+      assertThatThrownBy(
+              () ->
+                  OtlpGrpcSpanExporter.builder()
+                      .setChannel(channel)
+                      .setCompression("gzip:1")
+                      .build())
+          .isInstanceOf(IllegalArgumentException.class)
+          .hasMessageStartingWith(
+              "Compression levels are not supported by the gRPC ManagedChannel sender");
+    } finally {
+      channel.shutdownNow();
+    }
+  }
+
   @Override
   protected TelemetryExporterBuilder<SpanData> exporterBuilder() {
     return ManagedChannelTelemetryExporterBuilder.wrap(
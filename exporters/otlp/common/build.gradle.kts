@@ -34,6 +34,7 @@ dependencies {
   jmhImplementation("com.fasterxml.jackson.core:jackson-core")
   jmhImplementation("io.opentelemetry.proto:opentelemetry-proto")
   jmhImplementation("io.grpc:grpc-netty")
+  jmhImplementation("com.github.luben:zstd-jni")
 }
 
 wire {
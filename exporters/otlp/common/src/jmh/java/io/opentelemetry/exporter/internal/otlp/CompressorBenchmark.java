@@ -0,0 +1,69 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.exporter.internal.otlp;
+
+import io.opentelemetry.exporter.internal.compression.Compressor;
+import io.opentelemetry.exporter.internal.compression.CompressorUtil;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the cost of the supported compression methods on the metrics request of {@link
+ * GrpcGzipBenchmark}. The compressed size is reported as the {@code compressedBytes} counter to
+ * weigh it against the CPU time.
+ */
+@BenchmarkMode({Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CompressorBenchmark {
+
+  @Param({"gzip", "gzip:1", "gzip:9", "zstd", "zstd:1", "zstd:9"})
+  private String compressionMethod;
+
+  private Compressor compressor;
+
+  /** Secondary result reporting the size of the compressed request. */
+  @AuxCounters(AuxCounters.Type.EVENTS)
+  @State(Scope.Thread)
+  public static class CompressedSize {
+    // Not accumulated, the request and so its compressed size are the same on each invocation
+    public long compressedBytes;
+  }
+
+  @Setup
+  public void setup() {
+    compressor =
+        Objects.requireNonNull(CompressorUtil.validateAndResolveCompressor(compressionMethod));
+  }
+
+  @Benchmark
+  public ByteArrayOutputStream compress(CompressedSize size) throws IOException {
+    ByteArrayOutputStream baos = new ByteArrayOutputStream();
+    OutputStream os = compressor.compress(baos);
+    GrpcGzipBenchmark.METRICS_REQUEST.writeTo(os);
+    os.close();
+    size.compressedBytes = baos.size();
+    return baos;
+  }
+}
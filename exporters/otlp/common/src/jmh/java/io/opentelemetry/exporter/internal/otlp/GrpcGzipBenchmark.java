@@ -45,7 +45,8 @@ import org.openjdk.jmh.annotations.Warmup;
 @Fork(1)
 public class GrpcGzipBenchmark {
 
-  private static final ExportMetricsServiceRequest METRICS_REQUEST;
+  // Visible to CompressorBenchmark
+  static final ExportMetricsServiceRequest METRICS_REQUEST;
   private static final Codec GZIP_CODEC = new Codec.Gzip();
   private static final Codec IDENTITY_CODEC = Codec.Identity.NONE;
 
@@ -5,6 +5,7 @@
 
 package io.opentelemetry.exporter.internal.otlp;
 
+import io.opentelemetry.exporter.internal.otlp.traces.LowAllocationTraceRequestMarshaler;
 import io.opentelemetry.exporter.internal.otlp.traces.TraceRequestMarshaler;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
@@ -50,4 +51,33 @@ public class RequestMarshalBenchmarks {
     requestMarshaler.writeJsonTo(customOutput);
     return customOutput;
   }
+
+  @Benchmark
+  @Threads(1)
+  public ByteArrayOutputStream marshalStateless(RequestMarshalState state) throws IOException {
+    LowAllocationTraceRequestMarshaler requestMarshaler = state.lowAllocationMarshaler;
+    requestMarshaler.initialize(state.spanDataList);
+    try {
+      ByteArrayOutputStream customOutput =
+          new ByteArrayOutputStream(requestMarshaler.getBinarySerializedSize());
+      requestMarshaler.writeBinaryTo(customOutput);
+      return customOutput;
+    } finally {
+      requestMarshaler.reset();
+    }
+  }
+
+  @Benchmark
+  @Threads(1)
+  public ByteArrayOutputStream marshalStatelessJson(RequestMarshalState state) throws IOException {
+    LowAllocationTraceRequestMarshaler requestMarshaler = state.lowAllocationMarshaler;
+    requestMarshaler.initialize(state.spanDataList);
+    try {
+      ByteArrayOutputStream customOutput = new ByteArrayOutputStream();
+      requestMarshaler.writeJsonTo(customOutput);
+      return customOutput;
+    } finally {
+      requestMarshaler.reset();
+    }
+  }
 }
@@ -11,6 +11,7 @@ import io.opentelemetry.api.trace.SpanContext;
 import io.opentelemetry.api.trace.SpanKind;
 import io.opentelemetry.api.trace.TraceFlags;
 import io.opentelemetry.api.trace.TraceState;
+import io.opentelemetry.exporter.internal.otlp.traces.LowAllocationTraceRequestMarshaler;
 import io.opentelemetry.sdk.common.InstrumentationScopeInfo;
 import io.opentelemetry.sdk.resources.Resource;
 import io.opentelemetry.sdk.testing.trace.TestSpanData;
@@ -68,6 +69,9 @@ public class RequestMarshalState {
 
   List<SpanData> spanDataList;
 
+  final LowAllocationTraceRequestMarshaler lowAllocationMarshaler =
+      new LowAllocationTraceRequestMarshaler();
+
   @Setup
   public void setup() {
     spanDataList = new ArrayList<>(numSpans);
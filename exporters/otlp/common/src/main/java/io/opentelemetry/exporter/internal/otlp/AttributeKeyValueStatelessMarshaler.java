@@ -0,0 +1,218 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.exporter.internal.otlp;
+
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.AttributeType;
+import io.opentelemetry.api.internal.InternalAttributeKeyImpl;
+import io.opentelemetry.exporter.internal.marshal.CodedOutputStream;
+import io.opentelemetry.exporter.internal.marshal.MarshalerContext;
+import io.opentelemetry.exporter.internal.marshal.MarshalerUtil;
+import io.opentelemetry.exporter.internal.marshal.Serializer;
+import io.opentelemetry.exporter.internal.marshal.StatelessMarshaler;
+import io.opentelemetry.exporter.internal.marshal.StatelessMarshaler2;
+import io.opentelemetry.exporter.internal.marshal.StatelessMarshalerUtil;
+import io.opentelemetry.proto.common.v1.internal.AnyValue;
+import io.opentelemetry.proto.common.v1.internal.ArrayValue;
+import io.opentelemetry.proto.common.v1.internal.KeyValue;
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * A Marshaler of an attribute key and value into a {@link KeyValue}, without keeping them. See
+ * {@link KeyValueMarshaler}.
+ *
+ * <p>This class is internal and is hence not for public use. Its APIs are unstable and can change
+ * at any time.
+ */
+public final class AttributeKeyValueStatelessMarshaler
+    implements StatelessMarshaler2<AttributeKey<?>, Object> {
+  public static final AttributeKeyValueStatelessMarshaler INSTANCE =
+      new AttributeKeyValueStatelessMarshaler();
+
+  private AttributeKeyValueStatelessMarshaler() {}
+
+  @Override
+  public void writeTo(
+      Serializer output, AttributeKey<?> attributeKey, Object value, MarshalerContext context)
+      throws IOException {
+    if (attributeKey instanceof InternalAttributeKeyImpl) {
+      output.serializeString(
+          KeyValue.KEY, ((InternalAttributeKeyImpl<?>) attributeKey).getKeyUtf8());
+    } else {
+      output.serializeStringWithContext(KeyValue.KEY, attributeKey.getKey(), context);
+    }
+    output.serializeMessageWithContext(
+        KeyValue.VALUE,
+        attributeKey.getType(),
+        value,
+        AnyValueStatelessMarshaler.INSTANCE,
+        context);
+  }
+
+  @Override
+  public int getBinarySerializedSize(
+      AttributeKey<?> attributeKey, Object value, MarshalerContext context) {
+    int size = 0;
+    if (attributeKey instanceof InternalAttributeKeyImpl) {
+      size +=
+          MarshalerUtil.sizeBytes(
+              KeyValue.KEY, ((InternalAttributeKeyImpl<?>) attributeKey).getKeyUtf8());
+    } else {
+      size +=
+          StatelessMarshalerUtil.sizeStringWithContext(
+              KeyValue.KEY, attributeKey.getKey(), context);
+    }
+    size +=
+        StatelessMarshalerUtil.sizeMessageWithContext(
+            KeyValue.VALUE,
+            attributeKey.getType(),
+            value,
+            AnyValueStatelessMarshaler.INSTANCE,
+            context);
+    return size;
+  }
+
+  private static final class AnyValueStatelessMarshaler
+      implements StatelessMarshaler2<AttributeType, Object> {
+    static final AnyValueStatelessMarshaler INSTANCE = new AnyValueStatelessMarshaler();
+
+    // Do not call serialize* methods because we always have to write the message tag even if the
+    // value is empty since it's a oneof.
+    @SuppressWarnings("unchecked")
+    @Override
+    public void writeTo(
+        Serializer output, AttributeType attributeType, Object value, MarshalerContext context)
+        throws IOException {
+      switch (attributeType) {
+        case STRING:
+          output.serializeStringOptionalWithContext(AnyValue.STRING_VALUE, (String) value, context);
+          return;
+        case LONG:
+          output.writeInt64(AnyValue.INT_VALUE, (long) value);
+          return;
+        case BOOLEAN:
+          output.writeBool(AnyValue.BOOL_VALUE, (boolean) value);
+          return;
+        case DOUBLE:
+          output.writeDouble(AnyValue.DOUBLE_VALUE, (double) value);
+          return;
+        case STRING_ARRAY:
+        case LONG_ARRAY:
+        case BOOLEAN_ARRAY:
+        case DOUBLE_ARRAY:
+          output.serializeMessageWithContext(
+              AnyValue.ARRAY_VALUE,
+              attributeType,
+              (List<Object>) value,
+              ArrayValueStatelessMarshaler.INSTANCE,
+              context);
+          return;
+      }
+      // Error prone ensures the switch statement is complete, otherwise only can happen with
+      // unaligned versions which are not supported.
+      throw new IllegalArgumentException("Unsupported attribute type.");
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public int getBinarySerializedSize(
+        AttributeType attributeType, Object value, MarshalerContext context) {
+      switch (attributeType) {
+        case STRING:
+          return StatelessMarshalerUtil.sizeStringOptionalWithContext(
+              AnyValue.STRING_VALUE, (String) value, context);
+        case LONG:
+          return AnyValue.INT_VALUE.getTagSize()
+              + CodedOutputStream.computeInt64SizeNoTag((long) value);
+        case BOOLEAN:
+          return AnyValue.BOOL_VALUE.getTagSize()
+              + CodedOutputStream.computeBoolSizeNoTag((boolean) value);
+        case DOUBLE:
+          return AnyValue.DOUBLE_VALUE.getTagSize()
+              + CodedOutputStream.computeDoubleSizeNoTag((double) value);
+        case STRING_ARRAY:
+        case LONG_ARRAY:
+        case BOOLEAN_ARRAY:
+        case DOUBLE_ARRAY:
+          return StatelessMarshalerUtil.sizeMessageWithContext(
+              AnyValue.ARRAY_VALUE,
+              attributeType,
+              (List<Object>) value,
+              ArrayValueStatelessMarshaler.INSTANCE,
+              context);
+      }
+      throw new IllegalArgumentException("Unsupported attribute type.");
+    }
+  }
+
+  private static final class ArrayValueStatelessMarshaler
+      implements StatelessMarshaler2<AttributeType, List<Object>> {
+    static final ArrayValueStatelessMarshaler INSTANCE = new ArrayValueStatelessMarshaler();
+
+    @Override
+    public void writeTo(
+        Serializer output,
+        AttributeType attributeType,
+        List<Object> values,
+        MarshalerContext context)
+        throws IOException {
+      output.serializeRepeatedMessageWithContext(
+          ArrayValue.VALUES, values, elementMarshaler(attributeType), context);
+    }
+
+    @Override
+    public int getBinarySerializedSize(
+        AttributeType attributeType, List<Object> values, MarshalerContext context) {
+      return StatelessMarshalerUtil.sizeRepeatedMessageWithContext(
+          ArrayValue.VALUES, values, elementMarshaler(attributeType), context);
+    }
+
+    private static StatelessMarshaler<Object> elementMarshaler(AttributeType attributeType) {
+      switch (attributeType) {
+        case STRING_ARRAY:
+          return ElementStatelessMarshaler.STRING;
+        case LONG_ARRAY:
+          return ElementStatelessMarshaler.LONG;
+        case BOOLEAN_ARRAY:
+          return ElementStatelessMarshaler.BOOLEAN;
+        case DOUBLE_ARRAY:
+          return ElementStatelessMarshaler.DOUBLE;
+        default:
+          throw new IllegalArgumentException("Unsupported attribute type.");
+      }
+    }
+  }
+
+  /** Marshals an element of an array value into an {@link AnyValue} of its scalar type. */
+  private static final class ElementStatelessMarshaler implements StatelessMarshaler<Object> {
+    static final ElementStatelessMarshaler STRING =
+        new ElementStatelessMarshaler(AttributeType.STRING);
+    static final ElementStatelessMarshaler LONG = new ElementStatelessMarshaler(AttributeType.LONG);
+    static final ElementStatelessMarshaler BOOLEAN =
+        new ElementStatelessMarshaler(AttributeType.BOOLEAN);
+    static final ElementStatelessMarshaler DOUBLE =
+        new ElementStatelessMarshaler(AttributeType.DOUBLE);
+
+    private final AttributeType attributeType;
+
+    private ElementStatelessMarshaler(AttributeType attributeType) {
+      this.attributeType = attributeType;
+    }
+
+    @Override
+    public void writeTo(Serializer output, Object value, MarshalerContext context)
+        throws IOException {
+      AnyValueStatelessMarshaler.INSTANCE.writeTo(output, attributeType, value, context);
+    }
+
+    @Override
+    public int getBinarySerializedSize(Object value, MarshalerContext context) {
+      return AnyValueStatelessMarshaler.INSTANCE.getBinarySerializedSize(
+          attributeType, value, context);
+    }
+  }
+}
@@ -35,29 +35,47 @@ public final class InstrumentationScopeMarshaler extends MarshalerWithSize {
     if (cached == null) {
       // Since WeakConcurrentMap doesn't support computeIfAbsent, we may end up doing the conversion
       // a few times until the cache gets filled which is fine.
-      byte[] name = MarshalerUtil.toBytes(scopeInfo.getName());
-      byte[] version = MarshalerUtil.toBytes(scopeInfo.getVersion());
-      KeyValueMarshaler[] attributes = KeyValueMarshaler.createRepeated(scopeInfo.getAttributes());
+      cached = serialize(scopeInfo, MarshalerCache.disabled());
+      SCOPE_MARSHALER_CACHE.put(scopeInfo, cached);
+    }
+    return cached;
+  }
 
-      RealInstrumentationScopeMarshaler realMarshaler =
-          new RealInstrumentationScopeMarshaler(name, version, attributes);
+  /**
+   * Returns a Marshaler for InstrumentationScopeInfo, reusing the serialized form of an equal scope
+   * from {@code cache}.
+   */
+  public static InstrumentationScopeMarshaler create(
+      InstrumentationScopeInfo scopeInfo, MarshalerCache cache) {
+    if (cache.isDisabled()) {
+      return create(scopeInfo);
+    }
+    return cache.getInstrumentationScopeMarshaler(scopeInfo, s -> serialize(s, cache));
+  }
 
-      ByteArrayOutputStream binaryBos =
-          new ByteArrayOutputStream(realMarshaler.getBinarySerializedSize());
+  private static InstrumentationScopeMarshaler serialize(
+      InstrumentationScopeInfo scopeInfo, MarshalerCache cache) {
+    byte[] name = cache.toBytes(scopeInfo.getName());
+    byte[] version = cache.toBytes(scopeInfo.getVersion());
+    KeyValueMarshaler[] attributes =
+        KeyValueMarshaler.createRepeated(scopeInfo.getAttributes(), cache);
 
-      try {
-        realMarshaler.writeBinaryTo(binaryBos);
-      } catch (IOException e) {
-        throw new UncheckedIOException(
-            "Serialization error, this is likely a bug in OpenTelemetry.", e);
-      }
+    RealInstrumentationScopeMarshaler realMarshaler =
+        new RealInstrumentationScopeMarshaler(name, version, attributes);
 
-      String json = MarshalerUtil.preserializeJsonFields(realMarshaler);
+    ByteArrayOutputStream binaryBos =
+        new ByteArrayOutputStream(realMarshaler.getBinarySerializedSize());
 
-      cached = new InstrumentationScopeMarshaler(binaryBos.toByteArray(), json);
-      SCOPE_MARSHALER_CACHE.put(scopeInfo, cached);
+    try {
+      realMarshaler.writeBinaryTo(binaryBos);
+    } catch (IOException e) {
+      throw new UncheckedIOException(
+          "Serialization error, this is likely a bug in OpenTelemetry.", e);
     }
-    return cached;
+
+    String json = MarshalerUtil.preserializeJsonFields(realMarshaler);
+
+    return new InstrumentationScopeMarshaler(binaryBos.toByteArray(), json);
   }
 
   private InstrumentationScopeMarshaler(byte[] binary, String json) {
@@ -7,7 +7,6 @@ package io.opentelemetry.exporter.internal.otlp;
 
 import io.opentelemetry.api.common.AttributeKey;
 import io.opentelemetry.api.common.Attributes;
-import io.opentelemetry.api.internal.InternalAttributeKeyImpl;
 import io.opentelemetry.exporter.internal.marshal.CodedOutputStream;
 import io.opentelemetry.exporter.internal.marshal.Marshaler;
 import io.opentelemetry.exporter.internal.marshal.MarshalerUtil;
@@ -28,7 +27,6 @@ import java.util.function.BiConsumer;
  * at any time.
  */
 public final class KeyValueMarshaler extends MarshalerWithSize {
-  private static final byte[] EMPTY_BYTES = new byte[0];
   private static final KeyValueMarshaler[] EMPTY_REPEATED = new KeyValueMarshaler[0];
 
   /**
@@ -37,6 +35,15 @@ public final class KeyValueMarshaler extends MarshalerWithSize {
    */
   @SuppressWarnings("AvoidObjectArrays")
   public static KeyValueMarshaler[] createRepeated(Attributes attributes) {
+    return createRepeated(attributes, MarshalerCache.disabled());
+  }
+
+  /**
+   * Returns Marshalers for the given Attributes, taking the encoded keys and short string values
+   * from {@code cache} when present.
+   */
+  @SuppressWarnings("AvoidObjectArrays")
+  public static KeyValueMarshaler[] createRepeated(Attributes attributes, MarshalerCache cache) {
     if (attributes.isEmpty()) {
       return EMPTY_REPEATED;
     }
@@ -49,7 +56,7 @@ public final class KeyValueMarshaler extends MarshalerWithSize {
           // 这里的Object o其实就是属性值
           @Override
           public void accept(AttributeKey<?> attributeKey, Object o) {
-            attributeMarshalers[index++] = KeyValueMarshaler.create(attributeKey, o);
+            attributeMarshalers[index++] = KeyValueMarshaler.create(attributeKey, o, cache);
           }
         });
     return attributeMarshalers;
@@ -59,18 +66,12 @@ public final class KeyValueMarshaler extends MarshalerWithSize {
   private final Marshaler value;
 
   @SuppressWarnings("unchecked")
-  private static KeyValueMarshaler create(AttributeKey<?> attributeKey, Object value) {
-    byte[] keyUtf8;
-    if (attributeKey.getKey().isEmpty()) {
-      keyUtf8 = EMPTY_BYTES;
-    } else if (attributeKey instanceof InternalAttributeKeyImpl) {
-      keyUtf8 = ((InternalAttributeKeyImpl<?>) attributeKey).getKeyUtf8();
-    } else {
-      keyUtf8 = attributeKey.getKey().getBytes(StandardCharsets.UTF_8);
-    }
+  private static KeyValueMarshaler create(
+      AttributeKey<?> attributeKey, Object value, MarshalerCache cache) {
+    byte[] keyUtf8 = cache.getKeyUtf8(attributeKey);
     switch (attributeKey.getType()) {
       case STRING:
-        return new KeyValueMarshaler(keyUtf8, new StringAnyValueMarshaler(MarshalerUtil.toBytes((String) value)));
+        return new KeyValueMarshaler(keyUtf8, new StringAnyValueMarshaler(cache.getValueUtf8((String) value)));
       case LONG:
         return new KeyValueMarshaler(keyUtf8, new Int64AnyValueMarshaler((long) value));
       case BOOLEAN:
@@ -0,0 +1,220 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.exporter.internal.otlp;
+
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.internal.GuardedBy;
+import io.opentelemetry.api.internal.InternalAttributeKeyImpl;
+import io.opentelemetry.exporter.internal.marshal.MarshalerUtil;
+import io.opentelemetry.sdk.common.InstrumentationScopeInfo;
+import io.opentelemetry.sdk.resources.Resource;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import javax.annotation.Nullable;
+
+/**
+ * Bounded cache of encoded data that repeats across exports, owned by a single exporter. It holds
+ * the pre-serialized {@link Resource} and {@link InstrumentationScopeInfo} messages, looked up by
+ * equality rather than identity, the UTF-8 encoding of attribute keys, span and instrument names
+ * and schema URLs, and, in a separate map, the UTF-8 encoding of short attribute string values.
+ * Values that don't repeat, such as ids, then only evict other values rather than the names.
+ *
+ * <p>Lookups don't lock, so concurrent exports don't contend on the cache. Each map evicts with the
+ * clock algorithm, an approximation of LRU: a hit only marks its entry as referenced, and a full
+ * map replaces the first entry not referenced since the clock hand last passed it. New entries are
+ * only added when no other export is adding one to the same map, a miss doesn't wait for the lock.
+ *
+ * <p>This class is internal and is hence not for public use. Its APIs are unstable and can change
+ * at any time.
+ */
+public final class MarshalerCache {
+
+  private static final int MAX_RESOURCES = 16;
+  private static final int MAX_SCOPES = 256;
+  private static final int MAX_STRINGS = 4096;
+  // Longer strings are unlikely to repeat, encoding them directly keeps them out of the cache.
+  private static final int MAX_STRING_LENGTH = 128;
+  private static final int MAX_VALUES = 1024;
+  // Attribute values this long are mostly unique, e.g. URLs or statements.
+  private static final int MAX_VALUE_LENGTH = 64;
+
+  private static final MarshalerCache DISABLED = new MarshalerCache(0, 0, 0, 0, 0, 0);
+
+  private final BoundedMap<Resource, ResourceMarshaler> resources;
+  private final BoundedMap<InstrumentationScopeInfo, InstrumentationScopeMarshaler> scopes;
+  private final BoundedMap<String, byte[]> strings;
+  private final int maxStringLength;
+  private final BoundedMap<String, byte[]> values;
+  private final int maxValueLength;
+
+  /** Returns a new {@link MarshalerCache} with the default bounds. */
+  public static MarshalerCache create() {
+    return new MarshalerCache(
+        MAX_RESOURCES, MAX_SCOPES, MAX_STRINGS, MAX_STRING_LENGTH, MAX_VALUES, MAX_VALUE_LENGTH);
+  }
+
+  /**
+   * Returns a {@link MarshalerCache} which caches nothing, resources and scopes then fall back to
+   * the process wide caches of {@link ResourceMarshaler} and {@link InstrumentationScopeMarshaler}.
+   */
+  public static MarshalerCache disabled() {
+    return DISABLED;
+  }
+
+  // Visible for testing
+  MarshalerCache(
+      int maxResources,
+      int maxScopes,
+      int maxStrings,
+      int maxStringLength,
+      int maxValues,
+      int maxValueLength) {
+    this.resources = new BoundedMap<>(maxResources);
+    this.scopes = new BoundedMap<>(maxScopes);
+    this.strings = new BoundedMap<>(maxStrings);
+    this.maxStringLength = maxStringLength;
+    this.values = new BoundedMap<>(maxValues);
+    this.maxValueLength = maxValueLength;
+  }
+
+  boolean isDisabled() {
+    return this == DISABLED;
+  }
+
+  ResourceMarshaler getResourceMarshaler(
+      Resource resource, Function<Resource, ResourceMarshaler> factory) {
+    return resources.computeIfAbsent(resource, factory);
+  }
+
+  InstrumentationScopeMarshaler getInstrumentationScopeMarshaler(
+      InstrumentationScopeInfo scopeInfo,
+      Function<InstrumentationScopeInfo, InstrumentationScopeMarshaler> factory) {
+    return scopes.computeIfAbsent(scopeInfo, factory);
+  }
+
+  /** Returns the UTF-8 encoding of the key of {@code attributeKey}. */
+  byte[] getKeyUtf8(AttributeKey<?> attributeKey) {
+    if (attributeKey instanceof InternalAttributeKeyImpl) {
+      // SDK keys already carry their encoding.
+      return ((InternalAttributeKeyImpl<?>) attributeKey).getKeyUtf8();
+    }
+    return toBytes(attributeKey.getKey());
+  }
+
+  /**
+   * Returns the UTF-8 encoding of {@code value}, reusing a previous encoding of an equal string
+   * when it is short enough to be cached. Must only be used for strings with a low cardinality,
+   * such as names, see the class documentation. The returned array must not be modified.
+   */
+  public byte[] toBytes(@Nullable String value) {
+    if (value == null || value.isEmpty() || value.length() > maxStringLength) {
+      return MarshalerUtil.toBytes(value);
+    }
+    return strings.computeIfAbsent(value, MarshalerUtil::toBytes);
+  }
+
+  /**
+   * Returns the UTF-8 encoding of the attribute string {@code value}, reusing a previous encoding
+   * of an equal value when it is short enough to be cached. The returned array must not be
+   * modified.
+   */
+  byte[] getValueUtf8(String value) {
+    if (value.isEmpty() || value.length() > maxValueLength) {
+      return MarshalerUtil.toBytes(value);
+    }
+    return values.computeIfAbsent(value, MarshalerUtil::toBytes);
+  }
+
+  private static final class BoundedMap<K, V> {
+
+    private final int maxEntries;
+    @Nullable private final ConcurrentHashMap<K, Entry<K, V>> map;
+    private final ReentrantLock lock = new ReentrantLock();
+
+    // Guarded by lock
+    private final List<Entry<K, V>> clock;
+    private int hand;
+
+    BoundedMap(int maxEntries) {
+      this.maxEntries = maxEntries;
+      this.map = maxEntries == 0 ? null : new ConcurrentHashMap<>();
+      this.clock = maxEntries == 0 ? Collections.emptyList() : new ArrayList<>(maxEntries);
+    }
+
+    V computeIfAbsent(K key, Function<K, V> factory) {
+      if (map == null) {
+        return factory.apply(key);
+      }
+      Entry<K, V> entry = map.get(key);
+      if (entry != null) {
+        entry.markReferenced();
+        return entry.value;
+      }
+      // Computed without locking, a concurrent export may compute the same value which is fine.
+      V value = factory.apply(key);
+      if (!lock.tryLock()) {
+        return value;
+      }
+      try {
+        Entry<K, V> previous = map.get(key);
+        if (previous != null) {
+          return previous.value;
+        }
+        Entry<K, V> added = new Entry<>(key, value);
+        if (clock.size() < maxEntries) {
+          clock.add(added);
+        } else {
+          clock.set(evict(), added);
+        }
+        map.put(key, added);
+      } finally {
+        lock.unlock();
+      }
+      return value;
+    }
+
+    // Returns the slot of the first entry not referenced since the hand last passed it, clearing
+    // the references it passes, so at most one full turn is needed.
+    @GuardedBy("lock")
+    private int evict() {
+      while (true) {
+        int slot = hand;
+        hand = hand + 1 == maxEntries ? 0 : hand + 1;
+        Entry<K, V> entry = clock.get(slot);
+        if (entry.referenced) {
+          entry.referenced = false;
+        } else {
+          map.remove(entry.key);
+          return slot;
+        }
+      }
+    }
+  }
+
+  private static final class Entry<K, V> {
+
+    private final K key;
+    private final V value;
+    // Racy on purpose, a lost update only affects which entry is evicted.
+    private volatile boolean referenced;
+
+    private Entry(K key, V value) {
+      this.key = key;
+      this.value = value;
+    }
+
+    void markReferenced() {
+      // Hits are much more frequent than evictions, avoid writing to a shared line on every hit.
+      if (!referenced) {
+        referenced = true;
+      }
+    }
+  }
+}
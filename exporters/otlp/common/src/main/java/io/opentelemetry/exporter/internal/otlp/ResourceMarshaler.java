@@ -34,26 +34,42 @@ public final class ResourceMarshaler extends MarshalerWithSize {
     if (cached == null) {
       // Since WeakConcurrentMap doesn't support computeIfAbsent, we may end up doing the conversion
       // a few times until the cache gets filled which is fine.
+      cached = serialize(resource, MarshalerCache.disabled());
+      RESOURCE_MARSHALER_CACHE.put(resource, cached);
+    }
+    return cached;
+  }
 
-      RealResourceMarshaler realMarshaler =
-          new RealResourceMarshaler(KeyValueMarshaler.createRepeated(resource.getAttributes()));
-
-      ByteArrayOutputStream binaryBos =
-          new ByteArrayOutputStream(realMarshaler.getBinarySerializedSize());
+  /**
+   * Returns a Marshaler for Resource, reusing the serialized form of an equal resource from {@code
+   * cache}.
+   */
+  public static ResourceMarshaler create(
+      io.opentelemetry.sdk.resources.Resource resource, MarshalerCache cache) {
+    if (cache.isDisabled()) {
+      return create(resource);
+    }
+    return cache.getResourceMarshaler(resource, r -> serialize(r, cache));
+  }
 
-      try {
-        realMarshaler.writeBinaryTo(binaryBos);
-      } catch (IOException e) {
-        throw new UncheckedIOException(
-            "Serialization error, this is likely a bug in OpenTelemetry.", e);
-      }
+  private static ResourceMarshaler serialize(
+      io.opentelemetry.sdk.resources.Resource resource, MarshalerCache cache) {
+    RealResourceMarshaler realMarshaler =
+        new RealResourceMarshaler(KeyValueMarshaler.createRepeated(resource.getAttributes(), cache));
 
-      String json = MarshalerUtil.preserializeJsonFields(realMarshaler);
+    ByteArrayOutputStream binaryBos =
+        new ByteArrayOutputStream(realMarshaler.getBinarySerializedSize());
 
-      cached = new ResourceMarshaler(binaryBos.toByteArray(), json);
-      RESOURCE_MARSHALER_CACHE.put(resource, cached);
+    try {
+      realMarshaler.writeBinaryTo(binaryBos);
+    } catch (IOException e) {
+      throw new UncheckedIOException(
+          "Serialization error, this is likely a bug in OpenTelemetry.", e);
     }
-    return cached;
+
+    String json = MarshalerUtil.preserializeJsonFields(realMarshaler);
+
+    return new ResourceMarshaler(binaryBos.toByteArray(), json);
   }
 
   private ResourceMarshaler(byte[] binary, String json) {
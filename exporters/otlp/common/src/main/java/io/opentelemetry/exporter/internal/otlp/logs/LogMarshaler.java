@@ -15,6 +15,7 @@ import io.opentelemetry.exporter.internal.marshal.MarshalerWithSize;
 import io.opentelemetry.exporter.internal.marshal.ProtoEnumInfo;
 import io.opentelemetry.exporter.internal.marshal.Serializer;
 import io.opentelemetry.exporter.internal.otlp.KeyValueMarshaler;
+import io.opentelemetry.exporter.internal.otlp.MarshalerCache;
 import io.opentelemetry.exporter.internal.otlp.StringAnyValueMarshaler;
 import io.opentelemetry.proto.logs.v1.internal.LogRecord;
 import io.opentelemetry.proto.logs.v1.internal.SeverityNumber;
@@ -37,9 +38,9 @@ final class LogMarshaler extends MarshalerWithSize {
   @Nullable private final String traceId;
   @Nullable private final String spanId;
 
-  static LogMarshaler create(LogRecordData logRecordData) {
+  static LogMarshaler create(LogRecordData logRecordData, MarshalerCache cache) {
     KeyValueMarshaler[] attributeMarshalers =
-        KeyValueMarshaler.createRepeated(logRecordData.getAttributes());
+        KeyValueMarshaler.createRepeated(logRecordData.getAttributes(), cache);
 
     // For now, map all the bodies to String AnyValue.
     StringAnyValueMarshaler anyValueMarshaler =
@@ -204,7 +205,7 @@ final class LogMarshaler extends MarshalerWithSize {
   }
 
   /** Vendored {@link Byte#toUnsignedInt(byte)} to support Android. */
-  private static int toUnsignedInt(byte x) {
+  static int toUnsignedInt(byte x) {
     return ((int) x) & 0xff;
   }
 }
@@ -0,0 +1,116 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.exporter.internal.otlp.logs;
+
+import io.opentelemetry.api.trace.SpanContext;
+import io.opentelemetry.exporter.internal.marshal.MarshalerContext;
+import io.opentelemetry.exporter.internal.marshal.MarshalerUtil;
+import io.opentelemetry.exporter.internal.marshal.Serializer;
+import io.opentelemetry.exporter.internal.marshal.StatelessMarshaler;
+import io.opentelemetry.exporter.internal.marshal.StatelessMarshalerUtil;
+import io.opentelemetry.exporter.internal.otlp.AttributeKeyValueStatelessMarshaler;
+import io.opentelemetry.exporter.internal.otlp.StringAnyValueStatelessMarshaler;
+import io.opentelemetry.proto.logs.v1.internal.LogRecord;
+import io.opentelemetry.sdk.logs.data.LogRecordData;
+import java.io.IOException;
+
+/** See {@link LogMarshaler}. */
+final class LogStatelessMarshaler implements StatelessMarshaler<LogRecordData> {
+  static final LogStatelessMarshaler INSTANCE = new LogStatelessMarshaler();
+
+  private LogStatelessMarshaler() {}
+
+  @Override
+  public void writeTo(Serializer output, LogRecordData log, MarshalerContext context)
+      throws IOException {
+    output.serializeFixed64(LogRecord.TIME_UNIX_NANO, log.getTimestampEpochNanos());
+
+    output.serializeFixed64(
+        LogRecord.OBSERVED_TIME_UNIX_NANO, log.getObservedTimestampEpochNanos());
+
+    output.serializeEnum(
+        LogRecord.SEVERITY_NUMBER, LogMarshaler.toProtoSeverityNumber(log.getSeverity()));
+
+    output.serializeStringWithContext(LogRecord.SEVERITY_TEXT, log.getSeverityText(), context);
+
+    // For now, map all the bodies to String AnyValue.
+    output.serializeMessageWithContext(
+        LogRecord.BODY,
+        log.getBody().asString(),
+        StringAnyValueStatelessMarshaler.INSTANCE,
+        context);
+
+    output.serializeRepeatedMessageWithContext(
+        LogRecord.ATTRIBUTES,
+        log.getAttributes(),
+        AttributeKeyValueStatelessMarshaler.INSTANCE,
+        context);
+    output.serializeUInt32(
+        LogRecord.DROPPED_ATTRIBUTES_COUNT,
+        log.getTotalAttributeCount() - log.getAttributes().size());
+
+    SpanContext spanContext = log.getSpanContext();
+    output.serializeFixed32(
+        LogRecord.FLAGS, LogMarshaler.toUnsignedInt(spanContext.getTraceFlags().asByte()));
+    if (spanContext.getTraceIdHigh() != 0 || spanContext.getTraceIdLow() != 0) {
+      output.serializeTraceId(
+          LogRecord.TRACE_ID, spanContext.getTraceIdHigh(), spanContext.getTraceIdLow());
+    }
+    if (spanContext.getSpanIdAsLong() != 0) {
+      output.serializeSpanId(LogRecord.SPAN_ID, spanContext.getSpanIdAsLong());
+    }
+  }
+
+  @Override
+  public int getBinarySerializedSize(LogRecordData log, MarshalerContext context) {
+    int size = 0;
+    size += MarshalerUtil.sizeFixed64(LogRecord.TIME_UNIX_NANO, log.getTimestampEpochNanos());
+
+    size +=
+        MarshalerUtil.sizeFixed64(
+            LogRecord.OBSERVED_TIME_UNIX_NANO, log.getObservedTimestampEpochNanos());
+
+    size +=
+        MarshalerUtil.sizeEnum(
+            LogRecord.SEVERITY_NUMBER, LogMarshaler.toProtoSeverityNumber(log.getSeverity()));
+
+    size +=
+        StatelessMarshalerUtil.sizeStringWithContext(
+            LogRecord.SEVERITY_TEXT, log.getSeverityText(), context);
+
+    size +=
+        StatelessMarshalerUtil.sizeMessageWithContext(
+            LogRecord.BODY,
+            log.getBody().asString(),
+            StringAnyValueStatelessMarshaler.INSTANCE,
+            context);
+
+    size +=
+        StatelessMarshalerUtil.sizeRepeatedMessageWithContext(
+            LogRecord.ATTRIBUTES,
+            log.getAttributes(),
+            AttributeKeyValueStatelessMarshaler.INSTANCE,
+            context);
+    size +=
+        MarshalerUtil.sizeUInt32(
+            LogRecord.DROPPED_ATTRIBUTES_COUNT,
+            log.getTotalAttributeCount() - log.getAttributes().size());
+
+    SpanContext spanContext = log.getSpanContext();
+    size +=
+        MarshalerUtil.sizeFixed32(
+            LogRecord.FLAGS, LogMarshaler.toUnsignedInt(spanContext.getTraceFlags().asByte()));
+    if (spanContext.getTraceIdHigh() != 0 || spanContext.getTraceIdLow() != 0) {
+      size +=
+          MarshalerUtil.sizeTraceId(
+              LogRecord.TRACE_ID, spanContext.getTraceIdHigh(), spanContext.getTraceIdLow());
+    }
+    if (spanContext.getSpanIdAsLong() != 0) {
+      size += MarshalerUtil.sizeSpanId(LogRecord.SPAN_ID, spanContext.getSpanIdAsLong());
+    }
+    return size;
+  }
+}
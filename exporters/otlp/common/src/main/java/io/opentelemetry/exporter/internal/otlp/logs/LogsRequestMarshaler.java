@@ -9,6 +9,7 @@ import io.opentelemetry.exporter.internal.marshal.Marshaler;
 import io.opentelemetry.exporter.internal.marshal.MarshalerUtil;
 import io.opentelemetry.exporter.internal.marshal.MarshalerWithSize;
 import io.opentelemetry.exporter.internal.marshal.Serializer;
+import io.opentelemetry.exporter.internal.otlp.MarshalerCache;
 import io.opentelemetry.proto.collector.logs.v1.internal.ExportLogsServiceRequest;
 import io.opentelemetry.sdk.logs.data.LogRecordData;
 import io.opentelemetry.sdk.trace.data.SpanData;
@@ -30,7 +31,15 @@ public final class LogsRequestMarshaler extends MarshalerWithSize {
    * SpanData} into a serialized OTLP ExportLogsServiceRequest.
    */
   public static LogsRequestMarshaler create(Collection<LogRecordData> logs) {
-    return new LogsRequestMarshaler(ResourceLogsMarshaler.create(logs));
+    return create(logs, MarshalerCache.disabled());
+  }
+
+  /**
+   * Returns a {@link LogsRequestMarshaler} like {@link #create(Collection)}, reusing the encoded
+   * resources, scopes and strings held by the exporter's {@code cache}.
+   */
+  public static LogsRequestMarshaler create(Collection<LogRecordData> logs, MarshalerCache cache) {
+    return new LogsRequestMarshaler(ResourceLogsMarshaler.create(logs, cache));
   }
 
   private LogsRequestMarshaler(ResourceLogsMarshaler[] resourceLogsMarshalers) {
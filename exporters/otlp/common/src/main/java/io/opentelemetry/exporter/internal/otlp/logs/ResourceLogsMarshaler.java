@@ -10,6 +10,7 @@ import io.opentelemetry.exporter.internal.marshal.MarshalerUtil;
 import io.opentelemetry.exporter.internal.marshal.MarshalerWithSize;
 import io.opentelemetry.exporter.internal.marshal.Serializer;
 import io.opentelemetry.exporter.internal.otlp.InstrumentationScopeMarshaler;
+import io.opentelemetry.exporter.internal.otlp.MarshalerCache;
 import io.opentelemetry.exporter.internal.otlp.ResourceMarshaler;
 import io.opentelemetry.proto.logs.v1.internal.ResourceLogs;
 import io.opentelemetry.sdk.common.InstrumentationScopeInfo;
@@ -34,8 +35,18 @@ public final class ResourceLogsMarshaler extends MarshalerWithSize {
   /** Returns Marshalers of ResourceLogs created by grouping the provided logRecords. */
   @SuppressWarnings("AvoidObjectArrays")
   public static ResourceLogsMarshaler[] create(Collection<LogRecordData> logs) {
+    return create(logs, MarshalerCache.disabled());
+  }
+
+  /**
+   * Returns Marshalers of ResourceLogs created by grouping the provided logRecords, reusing encoded
+   * data from {@code cache}.
+   */
+  @SuppressWarnings("AvoidObjectArrays")
+  public static ResourceLogsMarshaler[] create(
+      Collection<LogRecordData> logs, MarshalerCache cache) {
     Map<Resource, Map<InstrumentationScopeInfo, List<Marshaler>>> resourceAndScopeMap =
-        groupByResourceAndScope(logs);
+        groupByResourceAndScope(logs, cache);
 
     ResourceLogsMarshaler[] resourceLogsMarshalers =
         new ResourceLogsMarshaler[resourceAndScopeMap.size()];
@@ -49,14 +60,14 @@ public final class ResourceLogsMarshaler extends MarshalerWithSize {
           entry.getValue().entrySet()) {
         instrumentationLibrarySpansMarshalers[posInstrumentation++] =
             new InstrumentationScopeLogsMarshaler(
-                InstrumentationScopeMarshaler.create(entryIs.getKey()),
-                MarshalerUtil.toBytes(entryIs.getKey().getSchemaUrl()),
+                InstrumentationScopeMarshaler.create(entryIs.getKey(), cache),
+                cache.toBytes(entryIs.getKey().getSchemaUrl()),
                 entryIs.getValue());
       }
       resourceLogsMarshalers[posResource++] =
           new ResourceLogsMarshaler(
-              ResourceMarshaler.create(entry.getKey()),
-              MarshalerUtil.toBytes(entry.getKey().getSchemaUrl()),
+              ResourceMarshaler.create(entry.getKey(), cache),
+              cache.toBytes(entry.getKey().getSchemaUrl()),
               instrumentationLibrarySpansMarshalers);
     }
 
@@ -94,11 +105,11 @@ public final class ResourceLogsMarshaler extends MarshalerWithSize {
   }
 
   private static Map<Resource, Map<InstrumentationScopeInfo, List<Marshaler>>>
-      groupByResourceAndScope(Collection<LogRecordData> logs) {
+      groupByResourceAndScope(Collection<LogRecordData> logs, MarshalerCache cache) {
     return MarshalerUtil.groupByResourceAndScope(
         logs,
         LogRecordData::getResource,
         LogRecordData::getInstrumentationScopeInfo,
-        LogMarshaler::create);
+        log -> LogMarshaler.create(log, cache));
   }
 }
@@ -0,0 +1,67 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.exporter.internal.otlp.logs;
+
+import io.opentelemetry.exporter.internal.marshal.MarshalerContext;
+import io.opentelemetry.exporter.internal.marshal.MarshalerUtil;
+import io.opentelemetry.exporter.internal.marshal.Serializer;
+import io.opentelemetry.exporter.internal.marshal.StatelessMarshaler2;
+import io.opentelemetry.exporter.internal.marshal.StatelessMarshalerUtil;
+import io.opentelemetry.exporter.internal.otlp.ResourceMarshaler;
+import io.opentelemetry.proto.logs.v1.internal.ResourceLogs;
+import io.opentelemetry.sdk.common.InstrumentationScopeInfo;
+import io.opentelemetry.sdk.resources.Resource;
+import io.opentelemetry.sdk.logs.data.LogRecordData;
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+
+/** See {@link ResourceLogsMarshaler}. */
+final class ResourceLogsStatelessMarshaler
+    implements StatelessMarshaler2<Resource, Map<InstrumentationScopeInfo, List<LogRecordData>>> {
+  static final ResourceLogsStatelessMarshaler INSTANCE = new ResourceLogsStatelessMarshaler();
+
+  private ResourceLogsStatelessMarshaler() {}
+
+  @Override
+  public void writeTo(
+      Serializer output,
+      Resource resource,
+      Map<InstrumentationScopeInfo, List<LogRecordData>> scopeMap,
+      MarshalerContext context)
+      throws IOException {
+    output.serializeMessage(ResourceLogs.RESOURCE, context.getData(ResourceMarshaler.class));
+    output.serializeRepeatedMessageWithContext(
+        ResourceLogs.SCOPE_LOGS,
+        scopeMap,
+        InstrumentationScopeLogsStatelessMarshaler.INSTANCE,
+        context);
+    output.serializeStringWithContext(ResourceLogs.SCHEMA_URL, resource.getSchemaUrl(), context);
+  }
+
+  @Override
+  public int getBinarySerializedSize(
+      Resource resource,
+      Map<InstrumentationScopeInfo, List<LogRecordData>> scopeMap,
+      MarshalerContext context) {
+    // Pre-serialized and cached, kept to not look it up again while writing
+    ResourceMarshaler resourceMarshaler = ResourceMarshaler.create(resource);
+    context.addData(resourceMarshaler);
+
+    int size = 0;
+    size += MarshalerUtil.sizeMessage(ResourceLogs.RESOURCE, resourceMarshaler);
+    size +=
+        StatelessMarshalerUtil.sizeRepeatedMessageWithContext(
+            ResourceLogs.SCOPE_LOGS,
+            scopeMap,
+            InstrumentationScopeLogsStatelessMarshaler.INSTANCE,
+            context);
+    size +=
+        StatelessMarshalerUtil.sizeStringWithContext(
+            ResourceLogs.SCHEMA_URL, resource.getSchemaUrl(), context);
+    return size;
+  }
+}
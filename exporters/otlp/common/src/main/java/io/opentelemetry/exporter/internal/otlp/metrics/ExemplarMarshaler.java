@@ -11,6 +11,7 @@ import io.opentelemetry.exporter.internal.marshal.MarshalerWithSize;
 import io.opentelemetry.exporter.internal.marshal.ProtoFieldInfo;
 import io.opentelemetry.exporter.internal.marshal.Serializer;
 import io.opentelemetry.exporter.internal.otlp.KeyValueMarshaler;
+import io.opentelemetry.exporter.internal.otlp.MarshalerCache;
 import io.opentelemetry.sdk.metrics.data.DoubleExemplarData;
 import io.opentelemetry.sdk.metrics.data.ExemplarData;
 import io.opentelemetry.sdk.metrics.data.LongExemplarData;
@@ -28,18 +29,19 @@ final class ExemplarMarshaler extends MarshalerWithSize {
 
   private final KeyValueMarshaler[] filteredAttributeMarshalers;
 
-  static ExemplarMarshaler[] createRepeated(List<? extends ExemplarData> exemplars) {
+  static ExemplarMarshaler[] createRepeated(
+      List<? extends ExemplarData> exemplars, MarshalerCache cache) {
     int numExemplars = exemplars.size();
     ExemplarMarshaler[] marshalers = new ExemplarMarshaler[numExemplars];
     for (int i = 0; i < numExemplars; i++) {
-      marshalers[i] = ExemplarMarshaler.create(exemplars.get(i));
+      marshalers[i] = ExemplarMarshaler.create(exemplars.get(i), cache);
     }
     return marshalers;
   }
 
-  private static ExemplarMarshaler create(ExemplarData exemplar) {
+  private static ExemplarMarshaler create(ExemplarData exemplar, MarshalerCache cache) {
     KeyValueMarshaler[] attributeMarshalers =
-        KeyValueMarshaler.createRepeated(exemplar.getFilteredAttributes());
+        KeyValueMarshaler.createRepeated(exemplar.getFilteredAttributes(), cache);
 
     ProtoFieldInfo valueField;
     if (exemplar instanceof LongExemplarData) {
@@ -0,0 +1,80 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.exporter.internal.otlp.metrics;
+
+import io.opentelemetry.api.trace.SpanContext;
+import io.opentelemetry.exporter.internal.marshal.MarshalerContext;
+import io.opentelemetry.exporter.internal.marshal.MarshalerUtil;
+import io.opentelemetry.exporter.internal.marshal.Serializer;
+import io.opentelemetry.exporter.internal.marshal.StatelessMarshaler;
+import io.opentelemetry.exporter.internal.marshal.StatelessMarshalerUtil;
+import io.opentelemetry.exporter.internal.otlp.AttributeKeyValueStatelessMarshaler;
+import io.opentelemetry.proto.metrics.v1.internal.Exemplar;
+import io.opentelemetry.sdk.metrics.data.DoubleExemplarData;
+import io.opentelemetry.sdk.metrics.data.ExemplarData;
+import io.opentelemetry.sdk.metrics.data.LongExemplarData;
+import java.io.IOException;
+
+/** See {@link ExemplarMarshaler}. */
+final class ExemplarStatelessMarshaler implements StatelessMarshaler<ExemplarData> {
+  static final ExemplarStatelessMarshaler INSTANCE = new ExemplarStatelessMarshaler();
+
+  private ExemplarStatelessMarshaler() {}
+
+  @Override
+  public void writeTo(Serializer output, ExemplarData exemplar, MarshalerContext context)
+      throws IOException {
+    output.serializeFixed64(Exemplar.TIME_UNIX_NANO, exemplar.getEpochNanos());
+    if (exemplar instanceof LongExemplarData) {
+      output.serializeFixed64Optional(Exemplar.AS_INT, ((LongExemplarData) exemplar).getValue());
+    } else {
+      assert exemplar instanceof DoubleExemplarData;
+      output.serializeDoubleOptional(
+          Exemplar.AS_DOUBLE, ((DoubleExemplarData) exemplar).getValue());
+    }
+    SpanContext spanContext = exemplar.getSpanContext();
+    if (spanContext.isValid()) {
+      output.serializeSpanId(Exemplar.SPAN_ID, spanContext.getSpanIdAsLong());
+      output.serializeTraceId(
+          Exemplar.TRACE_ID, spanContext.getTraceIdHigh(), spanContext.getTraceIdLow());
+    }
+    output.serializeRepeatedMessageWithContext(
+        Exemplar.FILTERED_ATTRIBUTES,
+        exemplar.getFilteredAttributes(),
+        AttributeKeyValueStatelessMarshaler.INSTANCE,
+        context);
+  }
+
+  @Override
+  public int getBinarySerializedSize(ExemplarData exemplar, MarshalerContext context) {
+    int size = 0;
+    size += MarshalerUtil.sizeFixed64(Exemplar.TIME_UNIX_NANO, exemplar.getEpochNanos());
+    if (exemplar instanceof LongExemplarData) {
+      size +=
+          MarshalerUtil.sizeFixed64Optional(
+              Exemplar.AS_INT, ((LongExemplarData) exemplar).getValue());
+    } else {
+      assert exemplar instanceof DoubleExemplarData;
+      size +=
+          MarshalerUtil.sizeDoubleOptional(
+              Exemplar.AS_DOUBLE, ((DoubleExemplarData) exemplar).getValue());
+    }
+    SpanContext spanContext = exemplar.getSpanContext();
+    if (spanContext.isValid()) {
+      size += MarshalerUtil.sizeSpanId(Exemplar.SPAN_ID, spanContext.getSpanIdAsLong());
+      size +=
+          MarshalerUtil.sizeTraceId(
+              Exemplar.TRACE_ID, spanContext.getTraceIdHigh(), spanContext.getTraceIdLow());
+    }
+    size +=
+        StatelessMarshalerUtil.sizeRepeatedMessageWithContext(
+            Exemplar.FILTERED_ATTRIBUTES,
+            exemplar.getFilteredAttributes(),
+            AttributeKeyValueStatelessMarshaler.INSTANCE,
+            context);
+    return size;
+  }
+}
@@ -0,0 +1,47 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.exporter.internal.otlp.metrics;
+
+import io.opentelemetry.exporter.internal.marshal.MarshalerContext;
+import io.opentelemetry.exporter.internal.marshal.MarshalerUtil;
+import io.opentelemetry.exporter.internal.marshal.Serializer;
+import io.opentelemetry.exporter.internal.marshal.StatelessMarshaler;
+import io.opentelemetry.proto.metrics.v1.internal.ExponentialHistogramDataPoint;
+import io.opentelemetry.sdk.internal.PrimitiveLongList;
+import io.opentelemetry.sdk.metrics.data.ExponentialHistogramBuckets;
+import java.io.IOException;
+
+/** See {@link ExponentialHistogramBucketsMarshaler}. */
+final class ExponentialHistogramBucketsStatelessMarshaler
+    implements StatelessMarshaler<ExponentialHistogramBuckets> {
+  static final ExponentialHistogramBucketsStatelessMarshaler INSTANCE =
+      new ExponentialHistogramBucketsStatelessMarshaler();
+
+  private ExponentialHistogramBucketsStatelessMarshaler() {}
+
+  @Override
+  public void writeTo(
+      Serializer output, ExponentialHistogramBuckets buckets, MarshalerContext context)
+      throws IOException {
+    output.serializeSInt32(ExponentialHistogramDataPoint.Buckets.OFFSET, buckets.getOffset());
+    output.serializeRepeatedUInt64(
+        ExponentialHistogramDataPoint.Buckets.BUCKET_COUNTS,
+        PrimitiveLongList.toArray(buckets.getBucketCounts()));
+  }
+
+  @Override
+  public int getBinarySerializedSize(
+      ExponentialHistogramBuckets buckets, MarshalerContext context) {
+    int size = 0;
+    size +=
+        MarshalerUtil.sizeSInt32(ExponentialHistogramDataPoint.Buckets.OFFSET, buckets.getOffset());
+    size +=
+        MarshalerUtil.sizeRepeatedUInt64(
+            ExponentialHistogramDataPoint.Buckets.BUCKET_COUNTS,
+            PrimitiveLongList.toArray(buckets.getBucketCounts()));
+    return size;
+  }
+}
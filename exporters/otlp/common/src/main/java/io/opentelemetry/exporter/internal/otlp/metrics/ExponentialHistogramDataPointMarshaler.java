@@ -9,6 +9,7 @@ import io.opentelemetry.exporter.internal.marshal.MarshalerUtil;
 import io.opentelemetry.exporter.internal.marshal.MarshalerWithSize;
 import io.opentelemetry.exporter.internal.marshal.Serializer;
 import io.opentelemetry.exporter.internal.otlp.KeyValueMarshaler;
+import io.opentelemetry.exporter.internal.otlp.MarshalerCache;
 import io.opentelemetry.proto.metrics.v1.internal.ExponentialHistogramDataPoint;
 import io.opentelemetry.sdk.metrics.data.ExponentialHistogramPointData;
 import java.io.IOException;
@@ -82,9 +83,10 @@ public class ExponentialHistogramDataPointMarshaler extends MarshalerWithSize {
     this.exemplars = exemplarMarshalers;
   }
 
-  static ExponentialHistogramDataPointMarshaler create(ExponentialHistogramPointData point) {
-    KeyValueMarshaler[] attributes = KeyValueMarshaler.createRepeated(point.getAttributes());
-    ExemplarMarshaler[] exemplars = ExemplarMarshaler.createRepeated(point.getExemplars());
+  static ExponentialHistogramDataPointMarshaler create(
+      ExponentialHistogramPointData point, MarshalerCache cache) {
+    KeyValueMarshaler[] attributes = KeyValueMarshaler.createRepeated(point.getAttributes(), cache);
+    ExemplarMarshaler[] exemplars = ExemplarMarshaler.createRepeated(point.getExemplars(), cache);
 
     ExponentialHistogramBucketsMarshaler positiveBuckets =
         ExponentialHistogramBucketsMarshaler.create(point.getPositiveBuckets());
@@ -109,12 +111,12 @@ public class ExponentialHistogramDataPointMarshaler extends MarshalerWithSize {
   }
 
   static ExponentialHistogramDataPointMarshaler[] createRepeated(
-      Collection<ExponentialHistogramPointData> points) {
+      Collection<ExponentialHistogramPointData> points, MarshalerCache cache) {
     ExponentialHistogramDataPointMarshaler[] marshalers =
         new ExponentialHistogramDataPointMarshaler[points.size()];
     int index = 0;
     for (ExponentialHistogramPointData point : points) {
-      marshalers[index++] = ExponentialHistogramDataPointMarshaler.create(point);
+      marshalers[index++] = ExponentialHistogramDataPointMarshaler.create(point, cache);
     }
     return marshalers;
   }
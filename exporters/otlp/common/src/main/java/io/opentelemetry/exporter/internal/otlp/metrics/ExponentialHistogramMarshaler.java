@@ -9,6 +9,7 @@ import io.opentelemetry.exporter.internal.marshal.MarshalerUtil;
 import io.opentelemetry.exporter.internal.marshal.MarshalerWithSize;
 import io.opentelemetry.exporter.internal.marshal.ProtoEnumInfo;
 import io.opentelemetry.exporter.internal.marshal.Serializer;
+import io.opentelemetry.exporter.internal.otlp.MarshalerCache;
 import io.opentelemetry.proto.metrics.v1.internal.ExponentialHistogram;
 import io.opentelemetry.sdk.metrics.data.ExponentialHistogramData;
 import java.io.IOException;
@@ -21,9 +22,10 @@ public class ExponentialHistogramMarshaler extends MarshalerWithSize {
   private final ExponentialHistogramDataPointMarshaler[] dataPoints;
   private final ProtoEnumInfo aggregationTemporality;
 
-  static ExponentialHistogramMarshaler create(ExponentialHistogramData histogramData) {
+  static ExponentialHistogramMarshaler create(
+      ExponentialHistogramData histogramData, MarshalerCache cache) {
     ExponentialHistogramDataPointMarshaler[] dataPoints =
-        ExponentialHistogramDataPointMarshaler.createRepeated(histogramData.getPoints());
+        ExponentialHistogramDataPointMarshaler.createRepeated(histogramData.getPoints(), cache);
     return new ExponentialHistogramMarshaler(
         dataPoints,
         MetricsMarshalerUtil.mapToTemporality(histogramData.getAggregationTemporality()));
@@ -8,6 +8,7 @@ package io.opentelemetry.exporter.internal.otlp.metrics;
 import io.opentelemetry.exporter.internal.marshal.MarshalerUtil;
 import io.opentelemetry.exporter.internal.marshal.MarshalerWithSize;
 import io.opentelemetry.exporter.internal.marshal.Serializer;
+import io.opentelemetry.exporter.internal.otlp.MarshalerCache;
 import io.opentelemetry.proto.metrics.v1.internal.Gauge;
 import io.opentelemetry.sdk.metrics.data.GaugeData;
 import io.opentelemetry.sdk.metrics.data.PointData;
@@ -16,9 +17,9 @@ import java.io.IOException;
 final class GaugeMarshaler extends MarshalerWithSize {
   private final NumberDataPointMarshaler[] dataPoints;
 
-  static GaugeMarshaler create(GaugeData<? extends PointData> gauge) {
+  static GaugeMarshaler create(GaugeData<? extends PointData> gauge, MarshalerCache cache) {
     NumberDataPointMarshaler[] dataPointMarshalers =
-        NumberDataPointMarshaler.createRepeated(gauge.getPoints());
+        NumberDataPointMarshaler.createRepeated(gauge.getPoints(), cache);
 
     return new GaugeMarshaler(dataPointMarshalers);
   }
@@ -9,6 +9,7 @@ import io.opentelemetry.exporter.internal.marshal.MarshalerUtil;
 import io.opentelemetry.exporter.internal.marshal.MarshalerWithSize;
 import io.opentelemetry.exporter.internal.marshal.Serializer;
 import io.opentelemetry.exporter.internal.otlp.KeyValueMarshaler;
+import io.opentelemetry.exporter.internal.otlp.MarshalerCache;
 import io.opentelemetry.proto.metrics.v1.internal.HistogramDataPoint;
 import io.opentelemetry.sdk.internal.PrimitiveLongList;
 import io.opentelemetry.sdk.metrics.data.HistogramPointData;
@@ -30,19 +31,21 @@ final class HistogramDataPointMarshaler extends MarshalerWithSize {
   private final ExemplarMarshaler[] exemplars;
   private final KeyValueMarshaler[] attributes;
 
-  static HistogramDataPointMarshaler[] createRepeated(Collection<HistogramPointData> points) {
+  static HistogramDataPointMarshaler[] createRepeated(
+      Collection<HistogramPointData> points, MarshalerCache cache) {
     HistogramDataPointMarshaler[] marshalers = new HistogramDataPointMarshaler[points.size()];
     int index = 0;
     for (HistogramPointData point : points) {
-      marshalers[index++] = HistogramDataPointMarshaler.create(point);
+      marshalers[index++] = HistogramDataPointMarshaler.create(point, cache);
     }
     return marshalers;
   }
 
-  static HistogramDataPointMarshaler create(HistogramPointData point) {
+  static HistogramDataPointMarshaler create(HistogramPointData point, MarshalerCache cache) {
     KeyValueMarshaler[] attributeMarshalers =
-        KeyValueMarshaler.createRepeated(point.getAttributes());
-    ExemplarMarshaler[] exemplarMarshalers = ExemplarMarshaler.createRepeated(point.getExemplars());
+        KeyValueMarshaler.createRepeated(point.getAttributes(), cache);
+    ExemplarMarshaler[] exemplarMarshalers =
+        ExemplarMarshaler.createRepeated(point.getExemplars(), cache);
 
     return new HistogramDataPointMarshaler(
         point.getStartEpochNanos(),
@@ -9,6 +9,7 @@ import io.opentelemetry.exporter.internal.marshal.MarshalerUtil;
 import io.opentelemetry.exporter.internal.marshal.MarshalerWithSize;
 import io.opentelemetry.exporter.internal.marshal.ProtoEnumInfo;
 import io.opentelemetry.exporter.internal.marshal.Serializer;
+import io.opentelemetry.exporter.internal.otlp.MarshalerCache;
 import io.opentelemetry.proto.metrics.v1.internal.Histogram;
 import io.opentelemetry.sdk.metrics.data.HistogramData;
 import java.io.IOException;
@@ -17,9 +18,9 @@ final class HistogramMarshaler extends MarshalerWithSize {
   private final HistogramDataPointMarshaler[] dataPoints;
   private final ProtoEnumInfo aggregationTemporality;
 
-  static HistogramMarshaler create(HistogramData histogram) {
+  static HistogramMarshaler create(HistogramData histogram, MarshalerCache cache) {
     HistogramDataPointMarshaler[] dataPointMarshalers =
-        HistogramDataPointMarshaler.createRepeated(histogram.getPoints());
+        HistogramDataPointMarshaler.createRepeated(histogram.getPoints(), cache);
     return new HistogramMarshaler(
         dataPointMarshalers,
         MetricsMarshalerUtil.mapToTemporality(histogram.getAggregationTemporality()));
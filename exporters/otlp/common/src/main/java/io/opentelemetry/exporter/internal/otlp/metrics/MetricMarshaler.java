@@ -10,6 +10,7 @@ import io.opentelemetry.exporter.internal.marshal.MarshalerUtil;
 import io.opentelemetry.exporter.internal.marshal.MarshalerWithSize;
 import io.opentelemetry.exporter.internal.marshal.ProtoFieldInfo;
 import io.opentelemetry.exporter.internal.marshal.Serializer;
+import io.opentelemetry.exporter.internal.otlp.MarshalerCache;
 import io.opentelemetry.proto.metrics.v1.internal.Metric;
 import io.opentelemetry.sdk.metrics.data.MetricData;
 import java.io.IOException;
@@ -22,41 +23,41 @@ final class MetricMarshaler extends MarshalerWithSize {
   private final Marshaler dataMarshaler;
   private final ProtoFieldInfo dataField;
 
-  static Marshaler create(MetricData metric) {
-    // TODO(anuraaga): Cache these as they should be effectively singleton.
-    byte[] name = MarshalerUtil.toBytes(metric.getName());
-    byte[] description = MarshalerUtil.toBytes(metric.getDescription());
-    byte[] unit = MarshalerUtil.toBytes(metric.getUnit());
+  static Marshaler create(MetricData metric, MarshalerCache cache) {
+    byte[] name = cache.toBytes(metric.getName());
+    byte[] description = cache.toBytes(metric.getDescription());
+    byte[] unit = cache.toBytes(metric.getUnit());
 
     Marshaler dataMarshaler = null;
     ProtoFieldInfo dataField = null;
     switch (metric.getType()) {
       case LONG_GAUGE:
-        dataMarshaler = GaugeMarshaler.create(metric.getLongGaugeData());
+        dataMarshaler = GaugeMarshaler.create(metric.getLongGaugeData(), cache);
         dataField = Metric.GAUGE;
         break;
       case DOUBLE_GAUGE:
-        dataMarshaler = GaugeMarshaler.create(metric.getDoubleGaugeData());
+        dataMarshaler = GaugeMarshaler.create(metric.getDoubleGaugeData(), cache);
         dataField = Metric.GAUGE;
         break;
       case LONG_SUM:
-        dataMarshaler = SumMarshaler.create(metric.getLongSumData());
+        dataMarshaler = SumMarshaler.create(metric.getLongSumData(), cache);
         dataField = Metric.SUM;
         break;
       case DOUBLE_SUM:
-        dataMarshaler = SumMarshaler.create(metric.getDoubleSumData());
+        dataMarshaler = SumMarshaler.create(metric.getDoubleSumData(), cache);
         dataField = Metric.SUM;
         break;
       case SUMMARY:
-        dataMarshaler = SummaryMarshaler.create(metric.getSummaryData());
+        dataMarshaler = SummaryMarshaler.create(metric.getSummaryData(), cache);
         dataField = Metric.SUMMARY;
         break;
       case HISTOGRAM:
-        dataMarshaler = HistogramMarshaler.create(metric.getHistogramData());
+        dataMarshaler = HistogramMarshaler.create(metric.getHistogramData(), cache);
         dataField = Metric.HISTOGRAM;
         break;
       case EXPONENTIAL_HISTOGRAM:
-        dataMarshaler = ExponentialHistogramMarshaler.create(metric.getExponentialHistogramData());
+        dataMarshaler =
+            ExponentialHistogramMarshaler.create(metric.getExponentialHistogramData(), cache);
         dataField = Metric.EXPONENTIAL_HISTOGRAM;
     }
 
@@ -0,0 +1,149 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.exporter.internal.otlp.metrics;
+
+import io.opentelemetry.exporter.internal.marshal.MarshalerContext;
+import io.opentelemetry.exporter.internal.marshal.Serializer;
+import io.opentelemetry.exporter.internal.marshal.StatelessMarshaler;
+import io.opentelemetry.exporter.internal.marshal.StatelessMarshalerUtil;
+import io.opentelemetry.proto.metrics.v1.internal.Metric;
+import io.opentelemetry.sdk.metrics.data.MetricData;
+import io.opentelemetry.sdk.metrics.data.MetricDataType;
+import java.io.IOException;
+
+/** See {@link MetricMarshaler}. */
+final class MetricStatelessMarshaler implements StatelessMarshaler<MetricData> {
+  static final MetricStatelessMarshaler INSTANCE = new MetricStatelessMarshaler();
+
+  private MetricStatelessMarshaler() {}
+
+  @Override
+  public void writeTo(Serializer output, MetricData metric, MarshalerContext context)
+      throws IOException {
+    if (!isSupported(metric.getType())) {
+      // Someone not using BOM to align versions as we require. Just skip the metric.
+      return;
+    }
+    output.serializeStringWithContext(Metric.NAME, metric.getName(), context);
+    output.serializeStringWithContext(Metric.DESCRIPTION, metric.getDescription(), context);
+    output.serializeStringWithContext(Metric.UNIT, metric.getUnit(), context);
+
+    switch (metric.getType()) {
+      case LONG_GAUGE:
+        output.serializeMessageWithContext(
+            Metric.GAUGE, metric.getLongGaugeData(), GaugeStatelessMarshaler.INSTANCE, context);
+        break;
+      case DOUBLE_GAUGE:
+        output.serializeMessageWithContext(
+            Metric.GAUGE, metric.getDoubleGaugeData(), GaugeStatelessMarshaler.INSTANCE, context);
+        break;
+      case LONG_SUM:
+        output.serializeMessageWithContext(
+            Metric.SUM, metric.getLongSumData(), SumStatelessMarshaler.INSTANCE, context);
+        break;
+      case DOUBLE_SUM:
+        output.serializeMessageWithContext(
+            Metric.SUM, metric.getDoubleSumData(), SumStatelessMarshaler.INSTANCE, context);
+        break;
+      case SUMMARY:
+        output.serializeMessageWithContext(
+            Metric.SUMMARY, metric.getSummaryData(), SummaryStatelessMarshaler.INSTANCE, context);
+        break;
+      case HISTOGRAM:
+        output.serializeMessageWithContext(
+            Metric.HISTOGRAM,
+            metric.getHistogramData(),
+            HistogramStatelessMarshaler.INSTANCE,
+            context);
+        break;
+      case EXPONENTIAL_HISTOGRAM:
+        output.serializeMessageWithContext(
+            Metric.EXPONENTIAL_HISTOGRAM,
+            metric.getExponentialHistogramData(),
+            ExponentialHistogramStatelessMarshaler.INSTANCE,
+            context);
+        break;
+    }
+  }
+
+  @Override
+  public int getBinarySerializedSize(MetricData metric, MarshalerContext context) {
+    if (!isSupported(metric.getType())) {
+      return 0;
+    }
+    int size = 0;
+    size += StatelessMarshalerUtil.sizeStringWithContext(Metric.NAME, metric.getName(), context);
+    size +=
+        StatelessMarshalerUtil.sizeStringWithContext(
+            Metric.DESCRIPTION, metric.getDescription(), context);
+    size += StatelessMarshalerUtil.sizeStringWithContext(Metric.UNIT, metric.getUnit(), context);
+
+    switch (metric.getType()) {
+      case LONG_GAUGE:
+        size +=
+            StatelessMarshalerUtil.sizeMessageWithContext(
+                Metric.GAUGE, metric.getLongGaugeData(), GaugeStatelessMarshaler.INSTANCE, context);
+        break;
+      case DOUBLE_GAUGE:
+        size +=
+            StatelessMarshalerUtil.sizeMessageWithContext(
+                Metric.GAUGE,
+                metric.getDoubleGaugeData(),
+                GaugeStatelessMarshaler.INSTANCE,
+                context);
+        break;
+      case LONG_SUM:
+        size +=
+            StatelessMarshalerUtil.sizeMessageWithContext(
+                Metric.SUM, metric.getLongSumData(), SumStatelessMarshaler.INSTANCE, context);
+        break;
+      case DOUBLE_SUM:
+        size +=
+            StatelessMarshalerUtil.sizeMessageWithContext(
+                Metric.SUM, metric.getDoubleSumData(), SumStatelessMarshaler.INSTANCE, context);
+        break;
+      case SUMMARY:
+        size +=
+            StatelessMarshalerUtil.sizeMessageWithContext(
+                Metric.SUMMARY,
+                metric.getSummaryData(),
+                SummaryStatelessMarshaler.INSTANCE,
+                context);
+        break;
+      case HISTOGRAM:
+        size +=
+            StatelessMarshalerUtil.sizeMessageWithContext(
+                Metric.HISTOGRAM,
+                metric.getHistogramData(),
+                HistogramStatelessMarshaler.INSTANCE,
+                context);
+        break;
+      case EXPONENTIAL_HISTOGRAM:
+        size +=
+            StatelessMarshalerUtil.sizeMessageWithContext(
+                Metric.EXPONENTIAL_HISTOGRAM,
+                metric.getExponentialHistogramData(),
+                ExponentialHistogramStatelessMarshaler.INSTANCE,
+                context);
+        break;
+    }
+    return size;
+  }
+
+  private static boolean isSupported(MetricDataType type) {
+    switch (type) {
+      case LONG_GAUGE:
+      case DOUBLE_GAUGE:
+      case LONG_SUM:
+      case DOUBLE_SUM:
+      case SUMMARY:
+      case HISTOGRAM:
+      case EXPONENTIAL_HISTOGRAM:
+        return true;
+    }
+    return false;
+  }
+}
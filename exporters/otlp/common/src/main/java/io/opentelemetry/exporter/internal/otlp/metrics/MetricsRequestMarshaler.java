@@ -9,6 +9,7 @@ import io.opentelemetry.exporter.internal.marshal.Marshaler;
 import io.opentelemetry.exporter.internal.marshal.MarshalerUtil;
 import io.opentelemetry.exporter.internal.marshal.MarshalerWithSize;
 import io.opentelemetry.exporter.internal.marshal.Serializer;
+import io.opentelemetry.exporter.internal.otlp.MarshalerCache;
 import io.opentelemetry.proto.collector.metrics.v1.internal.ExportMetricsServiceRequest;
 import io.opentelemetry.sdk.metrics.data.MetricData;
 import java.io.IOException;
@@ -29,7 +30,16 @@ public final class MetricsRequestMarshaler extends MarshalerWithSize {
    * MetricData} into a serialized OTLP ExportMetricsServiceRequest.
    */
   public static MetricsRequestMarshaler create(Collection<MetricData> metricDataList) {
-    return new MetricsRequestMarshaler(ResourceMetricsMarshaler.create(metricDataList));
+    return create(metricDataList, MarshalerCache.disabled());
+  }
+
+  /**
+   * Returns a {@link MetricsRequestMarshaler} like {@link #create(Collection)}, reusing the encoded
+   * resources, scopes and strings held by the exporter's {@code cache}.
+   */
+  public static MetricsRequestMarshaler create(
+      Collection<MetricData> metricDataList, MarshalerCache cache) {
+    return new MetricsRequestMarshaler(ResourceMetricsMarshaler.create(metricDataList, cache));
   }
 
   private MetricsRequestMarshaler(ResourceMetricsMarshaler[] resourceMetricsMarshalers) {
@@ -10,6 +10,7 @@ import io.opentelemetry.exporter.internal.marshal.MarshalerWithSize;
 import io.opentelemetry.exporter.internal.marshal.ProtoFieldInfo;
 import io.opentelemetry.exporter.internal.marshal.Serializer;
 import io.opentelemetry.exporter.internal.otlp.KeyValueMarshaler;
+import io.opentelemetry.exporter.internal.otlp.MarshalerCache;
 import io.opentelemetry.proto.metrics.v1.internal.NumberDataPoint;
 import io.opentelemetry.sdk.metrics.data.DoublePointData;
 import io.opentelemetry.sdk.metrics.data.LongPointData;
@@ -27,20 +28,22 @@ final class NumberDataPointMarshaler extends MarshalerWithSize {
   private final ExemplarMarshaler[] exemplars;
   private final KeyValueMarshaler[] attributes;
 
-  static NumberDataPointMarshaler[] createRepeated(Collection<? extends PointData> points) {
+  static NumberDataPointMarshaler[] createRepeated(
+      Collection<? extends PointData> points, MarshalerCache cache) {
     int numPoints = points.size();
     NumberDataPointMarshaler[] marshalers = new NumberDataPointMarshaler[numPoints];
     int index = 0;
     for (PointData point : points) {
-      marshalers[index++] = NumberDataPointMarshaler.create(point);
+      marshalers[index++] = NumberDataPointMarshaler.create(point, cache);
     }
     return marshalers;
   }
 
-  static NumberDataPointMarshaler create(PointData point) {
-    ExemplarMarshaler[] exemplarMarshalers = ExemplarMarshaler.createRepeated(point.getExemplars());
+  static NumberDataPointMarshaler create(PointData point, MarshalerCache cache) {
+    ExemplarMarshaler[] exemplarMarshalers =
+        ExemplarMarshaler.createRepeated(point.getExemplars(), cache);
     KeyValueMarshaler[] attributeMarshalers =
-        KeyValueMarshaler.createRepeated(point.getAttributes());
+        KeyValueMarshaler.createRepeated(point.getAttributes(), cache);
 
     ProtoFieldInfo valueField;
     if (point instanceof LongPointData) {
@@ -0,0 +1,80 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.exporter.internal.otlp.metrics;
+
+import io.opentelemetry.exporter.internal.marshal.MarshalerContext;
+import io.opentelemetry.exporter.internal.marshal.MarshalerUtil;
+import io.opentelemetry.exporter.internal.marshal.Serializer;
+import io.opentelemetry.exporter.internal.marshal.StatelessMarshaler;
+import io.opentelemetry.exporter.internal.marshal.StatelessMarshalerUtil;
+import io.opentelemetry.exporter.internal.otlp.AttributeKeyValueStatelessMarshaler;
+import io.opentelemetry.proto.metrics.v1.internal.NumberDataPoint;
+import io.opentelemetry.sdk.metrics.data.DoublePointData;
+import io.opentelemetry.sdk.metrics.data.LongPointData;
+import io.opentelemetry.sdk.metrics.data.PointData;
+import java.io.IOException;
+
+/** See {@link NumberDataPointMarshaler}. */
+final class NumberDataPointStatelessMarshaler implements StatelessMarshaler<PointData> {
+  static final NumberDataPointStatelessMarshaler INSTANCE = new NumberDataPointStatelessMarshaler();
+
+  private NumberDataPointStatelessMarshaler() {}
+
+  @Override
+  public void writeTo(Serializer output, PointData point, MarshalerContext context)
+      throws IOException {
+    output.serializeFixed64(NumberDataPoint.START_TIME_UNIX_NANO, point.getStartEpochNanos());
+    output.serializeFixed64(NumberDataPoint.TIME_UNIX_NANO, point.getEpochNanos());
+    if (point instanceof LongPointData) {
+      output.serializeFixed64Optional(NumberDataPoint.AS_INT, ((LongPointData) point).getValue());
+    } else {
+      assert point instanceof DoublePointData;
+      output.serializeDoubleOptional(
+          NumberDataPoint.AS_DOUBLE, ((DoublePointData) point).getValue());
+    }
+    output.serializeRepeatedMessageWithContext(
+        NumberDataPoint.EXEMPLARS,
+        point.getExemplars(),
+        ExemplarStatelessMarshaler.INSTANCE,
+        context);
+    output.serializeRepeatedMessageWithContext(
+        NumberDataPoint.ATTRIBUTES,
+        point.getAttributes(),
+        AttributeKeyValueStatelessMarshaler.INSTANCE,
+        context);
+  }
+
+  @Override
+  public int getBinarySerializedSize(PointData point, MarshalerContext context) {
+    int size = 0;
+    size +=
+        MarshalerUtil.sizeFixed64(NumberDataPoint.START_TIME_UNIX_NANO, point.getStartEpochNanos());
+    size += MarshalerUtil.sizeFixed64(NumberDataPoint.TIME_UNIX_NANO, point.getEpochNanos());
+    if (point instanceof LongPointData) {
+      size +=
+          MarshalerUtil.sizeFixed64Optional(
+              NumberDataPoint.AS_INT, ((LongPointData) point).getValue());
+    } else {
+      assert point instanceof DoublePointData;
+      size +=
+          MarshalerUtil.sizeDoubleOptional(
+              NumberDataPoint.AS_DOUBLE, ((DoublePointData) point).getValue());
+    }
+    size +=
+        StatelessMarshalerUtil.sizeRepeatedMessageWithContext(
+            NumberDataPoint.EXEMPLARS,
+            point.getExemplars(),
+            ExemplarStatelessMarshaler.INSTANCE,
+            context);
+    size +=
+        StatelessMarshalerUtil.sizeRepeatedMessageWithContext(
+            NumberDataPoint.ATTRIBUTES,
+            point.getAttributes(),
+            AttributeKeyValueStatelessMarshaler.INSTANCE,
+            context);
+    return size;
+  }
+}
@@ -10,6 +10,7 @@ import io.opentelemetry.exporter.internal.marshal.MarshalerUtil;
 import io.opentelemetry.exporter.internal.marshal.MarshalerWithSize;
 import io.opentelemetry.exporter.internal.marshal.Serializer;
 import io.opentelemetry.exporter.internal.otlp.InstrumentationScopeMarshaler;
+import io.opentelemetry.exporter.internal.otlp.MarshalerCache;
 import io.opentelemetry.exporter.internal.otlp.ResourceMarshaler;
 import io.opentelemetry.proto.metrics.v1.internal.ResourceMetrics;
 import io.opentelemetry.sdk.common.InstrumentationScopeInfo;
@@ -34,8 +35,18 @@ public final class ResourceMetricsMarshaler extends MarshalerWithSize {
   /** Returns Marshalers of ResourceMetrics created by grouping the provided metricData. */
   @SuppressWarnings("AvoidObjectArrays")
   public static ResourceMetricsMarshaler[] create(Collection<MetricData> metricDataList) {
+    return create(metricDataList, MarshalerCache.disabled());
+  }
+
+  /**
+   * Returns Marshalers of ResourceMetrics created by grouping the provided metricData, reusing
+   * encoded data from {@code cache}.
+   */
+  @SuppressWarnings("AvoidObjectArrays")
+  public static ResourceMetricsMarshaler[] create(
+      Collection<MetricData> metricDataList, MarshalerCache cache) {
     Map<Resource, Map<InstrumentationScopeInfo, List<Marshaler>>> resourceAndScopeMap =
-        groupByResourceAndScope(metricDataList);
+        groupByResourceAndScope(metricDataList, cache);
 
     ResourceMetricsMarshaler[] resourceMetricsMarshalers =
         new ResourceMetricsMarshaler[resourceAndScopeMap.size()];
@@ -49,14 +60,14 @@ public final class ResourceMetricsMarshaler extends MarshalerWithSize {
           entry.getValue().entrySet()) {
         instrumentationLibrarySpansMarshalers[posInstrumentation++] =
             new InstrumentationScopeMetricsMarshaler(
-                InstrumentationScopeMarshaler.create(entryIs.getKey()),
-                MarshalerUtil.toBytes(entryIs.getKey().getSchemaUrl()),
+                InstrumentationScopeMarshaler.create(entryIs.getKey(), cache),
+                cache.toBytes(entryIs.getKey().getSchemaUrl()),
                 entryIs.getValue());
       }
       resourceMetricsMarshalers[posResource++] =
           new ResourceMetricsMarshaler(
-              ResourceMarshaler.create(entry.getKey()),
-              MarshalerUtil.toBytes(entry.getKey().getSchemaUrl()),
+              ResourceMarshaler.create(entry.getKey(), cache),
+              cache.toBytes(entry.getKey().getSchemaUrl()),
               instrumentationLibrarySpansMarshalers);
     }
 
@@ -95,13 +106,13 @@ public final class ResourceMetricsMarshaler extends MarshalerWithSize {
   }
 
   private static Map<Resource, Map<InstrumentationScopeInfo, List<Marshaler>>>
-      groupByResourceAndScope(Collection<MetricData> metricDataList) {
+      groupByResourceAndScope(Collection<MetricData> metricDataList, MarshalerCache cache) {
     return MarshalerUtil.groupByResourceAndScope(
         metricDataList,
         // TODO(anuraaga): Replace with an internal SdkData type of interface that exposes these
         // two.
         MetricData::getResource,
         MetricData::getInstrumentationScopeInfo,
-        MetricMarshaler::create);
+        metric -> MetricMarshaler.create(metric, cache));
   }
 }
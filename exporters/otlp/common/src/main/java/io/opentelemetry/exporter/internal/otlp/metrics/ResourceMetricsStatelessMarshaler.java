@@ -0,0 +1,67 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.exporter.internal.otlp.metrics;
+
+import io.opentelemetry.exporter.internal.marshal.MarshalerContext;
+import io.opentelemetry.exporter.internal.marshal.MarshalerUtil;
+import io.opentelemetry.exporter.internal.marshal.Serializer;
+import io.opentelemetry.exporter.internal.marshal.StatelessMarshaler2;
+import io.opentelemetry.exporter.internal.marshal.StatelessMarshalerUtil;
+import io.opentelemetry.exporter.internal.otlp.ResourceMarshaler;
+import io.opentelemetry.proto.metrics.v1.internal.ResourceMetrics;
+import io.opentelemetry.sdk.common.InstrumentationScopeInfo;
+import io.opentelemetry.sdk.resources.Resource;
+import io.opentelemetry.sdk.metrics.data.MetricData;
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+
+/** See {@link ResourceMetricsMarshaler}. */
+final class ResourceMetricsStatelessMarshaler
+    implements StatelessMarshaler2<Resource, Map<InstrumentationScopeInfo, List<MetricData>>> {
+  static final ResourceMetricsStatelessMarshaler INSTANCE = new ResourceMetricsStatelessMarshaler();
+
+  private ResourceMetricsStatelessMarshaler() {}
+
+  @Override
+  public void writeTo(
+      Serializer output,
+      Resource resource,
+      Map<InstrumentationScopeInfo, List<MetricData>> scopeMap,
+      MarshalerContext context)
+      throws IOException {
+    output.serializeMessage(ResourceMetrics.RESOURCE, context.getData(ResourceMarshaler.class));
+    output.serializeRepeatedMessageWithContext(
+        ResourceMetrics.SCOPE_METRICS,
+        scopeMap,
+        InstrumentationScopeMetricsStatelessMarshaler.INSTANCE,
+        context);
+    output.serializeStringWithContext(ResourceMetrics.SCHEMA_URL, resource.getSchemaUrl(), context);
+  }
+
+  @Override
+  public int getBinarySerializedSize(
+      Resource resource,
+      Map<InstrumentationScopeInfo, List<MetricData>> scopeMap,
+      MarshalerContext context) {
+    // Pre-serialized and cached, kept to not look it up again while writing
+    ResourceMarshaler resourceMarshaler = ResourceMarshaler.create(resource);
+    context.addData(resourceMarshaler);
+
+    int size = 0;
+    size += MarshalerUtil.sizeMessage(ResourceMetrics.RESOURCE, resourceMarshaler);
+    size +=
+        StatelessMarshalerUtil.sizeRepeatedMessageWithContext(
+            ResourceMetrics.SCOPE_METRICS,
+            scopeMap,
+            InstrumentationScopeMetricsStatelessMarshaler.INSTANCE,
+            context);
+    size +=
+        StatelessMarshalerUtil.sizeStringWithContext(
+            ResourceMetrics.SCHEMA_URL, resource.getSchemaUrl(), context);
+    return size;
+  }
+}
@@ -9,6 +9,7 @@ import io.opentelemetry.exporter.internal.marshal.MarshalerUtil;
 import io.opentelemetry.exporter.internal.marshal.MarshalerWithSize;
 import io.opentelemetry.exporter.internal.marshal.ProtoEnumInfo;
 import io.opentelemetry.exporter.internal.marshal.Serializer;
+import io.opentelemetry.exporter.internal.otlp.MarshalerCache;
 import io.opentelemetry.proto.metrics.v1.internal.Sum;
 import io.opentelemetry.sdk.metrics.data.PointData;
 import io.opentelemetry.sdk.metrics.data.SumData;
@@ -19,9 +20,9 @@ final class SumMarshaler extends MarshalerWithSize {
   private final ProtoEnumInfo aggregationTemporality;
   private final boolean isMonotonic;
 
-  static SumMarshaler create(SumData<? extends PointData> sum) {
+  static SumMarshaler create(SumData<? extends PointData> sum, MarshalerCache cache) {
     NumberDataPointMarshaler[] dataPointMarshalers =
-        NumberDataPointMarshaler.createRepeated(sum.getPoints());
+        NumberDataPointMarshaler.createRepeated(sum.getPoints(), cache);
 
     return new SumMarshaler(
         dataPointMarshalers,
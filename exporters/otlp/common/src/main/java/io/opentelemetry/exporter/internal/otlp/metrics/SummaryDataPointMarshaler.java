@@ -9,6 +9,7 @@ import io.opentelemetry.exporter.internal.marshal.MarshalerUtil;
 import io.opentelemetry.exporter.internal.marshal.MarshalerWithSize;
 import io.opentelemetry.exporter.internal.marshal.Serializer;
 import io.opentelemetry.exporter.internal.otlp.KeyValueMarshaler;
+import io.opentelemetry.exporter.internal.otlp.MarshalerCache;
 import io.opentelemetry.proto.metrics.v1.internal.SummaryDataPoint;
 import io.opentelemetry.sdk.metrics.data.SummaryPointData;
 import java.io.IOException;
@@ -22,20 +23,21 @@ final class SummaryDataPointMarshaler extends MarshalerWithSize {
   private final ValueAtQuantileMarshaler[] quantileValues;
   private final KeyValueMarshaler[] attributes;
 
-  static SummaryDataPointMarshaler[] createRepeated(Collection<SummaryPointData> points) {
+  static SummaryDataPointMarshaler[] createRepeated(
+      Collection<SummaryPointData> points, MarshalerCache cache) {
     SummaryDataPointMarshaler[] marshalers = new SummaryDataPointMarshaler[points.size()];
     int index = 0;
     for (SummaryPointData point : points) {
-      marshalers[index++] = SummaryDataPointMarshaler.create(point);
+      marshalers[index++] = SummaryDataPointMarshaler.create(point, cache);
     }
     return marshalers;
   }
 
-  static SummaryDataPointMarshaler create(SummaryPointData point) {
+  static SummaryDataPointMarshaler create(SummaryPointData point, MarshalerCache cache) {
     ValueAtQuantileMarshaler[] quantileMarshalers =
         ValueAtQuantileMarshaler.createRepeated(point.getValues());
     KeyValueMarshaler[] attributeMarshalers =
-        KeyValueMarshaler.createRepeated(point.getAttributes());
+        KeyValueMarshaler.createRepeated(point.getAttributes(), cache);
 
     return new SummaryDataPointMarshaler(
         point.getStartEpochNanos(),
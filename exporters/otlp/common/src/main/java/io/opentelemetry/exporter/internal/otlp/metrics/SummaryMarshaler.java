@@ -8,6 +8,7 @@ package io.opentelemetry.exporter.internal.otlp.metrics;
 import io.opentelemetry.exporter.internal.marshal.MarshalerUtil;
 import io.opentelemetry.exporter.internal.marshal.MarshalerWithSize;
 import io.opentelemetry.exporter.internal.marshal.Serializer;
+import io.opentelemetry.exporter.internal.otlp.MarshalerCache;
 import io.opentelemetry.proto.metrics.v1.internal.Summary;
 import io.opentelemetry.sdk.metrics.data.SummaryData;
 import java.io.IOException;
@@ -15,9 +16,9 @@ import java.io.IOException;
 final class SummaryMarshaler extends MarshalerWithSize {
   private final SummaryDataPointMarshaler[] dataPoints;
 
-  static SummaryMarshaler create(SummaryData summary) {
+  static SummaryMarshaler create(SummaryData summary, MarshalerCache cache) {
     SummaryDataPointMarshaler[] dataPointMarshalers =
-        SummaryDataPointMarshaler.createRepeated(summary.getPoints());
+        SummaryDataPointMarshaler.createRepeated(summary.getPoints(), cache);
     return new SummaryMarshaler(dataPointMarshalers);
   }
 
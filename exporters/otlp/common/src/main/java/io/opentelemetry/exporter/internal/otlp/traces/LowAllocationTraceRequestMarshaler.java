@@ -0,0 +1,82 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.exporter.internal.otlp.traces;
+
+import io.opentelemetry.exporter.internal.marshal.Marshaler;
+import io.opentelemetry.exporter.internal.marshal.MarshalerContext;
+import io.opentelemetry.exporter.internal.marshal.Serializer;
+import io.opentelemetry.exporter.internal.marshal.StatelessMarshalerUtil;
+import io.opentelemetry.proto.collector.trace.v1.internal.ExportTraceServiceRequest;
+import io.opentelemetry.sdk.common.InstrumentationScopeInfo;
+import io.opentelemetry.sdk.resources.Resource;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import java.io.IOException;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * {@link Marshaler} to convert SDK {@link SpanData} to OTLP ExportTraceServiceRequest, writing
+ * straight from the {@link SpanData} instead of building a tree of marshalers like {@link
+ * TraceRequestMarshaler}. Sizes are computed once into a {@link MarshalerContext} which, like the
+ * marshaler itself, is reused across requests.
+ *
+ * <p>An instance holds a single request at a time: {@link #initialize(Collection)} it with a batch,
+ * serialize it, then {@link #reset()} it once the request is no longer used. The OTLP exporters use
+ * these with {@link io.opentelemetry.sdk.common.export.MemoryMode#REUSABLE_DATA}, keeping a pool of
+ * instances so that concurrent exports don't share one.
+ *
+ * <p>This class is internal and is hence not for public use. Its APIs are unstable and can change
+ * at any time.
+ */
+public final class LowAllocationTraceRequestMarshaler extends Marshaler {
+
+  private final MarshalerContext context = new MarshalerContext();
+
+  private Map<Resource, Map<InstrumentationScopeInfo, List<SpanData>>> resourceAndScopeMap =
+      Collections.emptyMap();
+  private int size;
+
+  /** Prepares the marshaler to convert {@code spanDataList}. */
+  public void initialize(Collection<SpanData> spanDataList) {
+    resourceAndScopeMap =
+        StatelessMarshalerUtil.groupByResourceAndScope(
+            spanDataList,
+            SpanData::getResource,
+            SpanData::getInstrumentationScopeInfo,
+            context);
+    size =
+        StatelessMarshalerUtil.sizeRepeatedMessageWithContext(
+            ExportTraceServiceRequest.RESOURCE_SPANS,
+            resourceAndScopeMap,
+            ResourceSpansStatelessMarshaler.INSTANCE,
+            context);
+  }
+
+  /** Releases the spans of the last batch, keeping the buffers for the next one. */
+  public void reset() {
+    resourceAndScopeMap = Collections.emptyMap();
+    size = 0;
+    context.reset();
+  }
+
+  @Override
+  public int getBinarySerializedSize() {
+    return size;
+  }
+
+  @Override
+  public void writeTo(Serializer output) throws IOException {
+    // Read the sizes from the start, the request may be serialized more than once
+    context.resetReadIndex();
+    output.serializeRepeatedMessageWithContext(
+        ExportTraceServiceRequest.RESOURCE_SPANS,
+        resourceAndScopeMap,
+        ResourceSpansStatelessMarshaler.INSTANCE,
+        context);
+  }
+}
@@ -9,6 +9,7 @@ import io.opentelemetry.exporter.internal.marshal.MarshalerUtil;
 import io.opentelemetry.exporter.internal.marshal.MarshalerWithSize;
 import io.opentelemetry.exporter.internal.marshal.Serializer;
 import io.opentelemetry.exporter.internal.otlp.InstrumentationScopeMarshaler;
+import io.opentelemetry.exporter.internal.otlp.MarshalerCache;
 import io.opentelemetry.exporter.internal.otlp.ResourceMarshaler;
 import io.opentelemetry.proto.trace.v1.internal.ResourceSpans;
 import io.opentelemetry.sdk.common.InstrumentationScopeInfo;
@@ -33,8 +34,18 @@ public final class ResourceSpansMarshaler extends MarshalerWithSize {
   /** Returns Marshalers of ResourceSpans created by grouping the provided SpanData. */
   @SuppressWarnings("AvoidObjectArrays")
   public static ResourceSpansMarshaler[] create(Collection<SpanData> spanDataList) {
+    return create(spanDataList, MarshalerCache.disabled());
+  }
+
+  /**
+   * Returns Marshalers of ResourceSpans created by grouping the provided SpanData, reusing encoded
+   * data from {@code cache}.
+   */
+  @SuppressWarnings("AvoidObjectArrays")
+  public static ResourceSpansMarshaler[] create(
+      Collection<SpanData> spanDataList, MarshalerCache cache) {
     // 将SpanList数据通过Resource和Scope进行分组
-    Map<Resource, Map<InstrumentationScopeInfo, List<SpanMarshaler>>> resourceAndScopeMap = groupByResourceAndScope(spanDataList);
+    Map<Resource, Map<InstrumentationScopeInfo, List<SpanMarshaler>>> resourceAndScopeMap = groupByResourceAndScope(spanDataList, cache);
 
     ResourceSpansMarshaler[] resourceSpansMarshalers = new ResourceSpansMarshaler[resourceAndScopeMap.size()];
     int posResource = 0;
@@ -44,14 +55,14 @@ public final class ResourceSpansMarshaler extends MarshalerWithSize {
       for (Map.Entry<InstrumentationScopeInfo, List<SpanMarshaler>> entryIs : entry.getValue().entrySet()) {
         instrumentationScopeSpansMarshalers[posInstrumentation++] =
             new InstrumentationScopeSpansMarshaler(
-                InstrumentationScopeMarshaler.create(entryIs.getKey()),
-                MarshalerUtil.toBytes(entryIs.getKey().getSchemaUrl()),
+                InstrumentationScopeMarshaler.create(entryIs.getKey(), cache),
+                cache.toBytes(entryIs.getKey().getSchemaUrl()),
                 entryIs.getValue());
       }
       resourceSpansMarshalers[posResource++] =
           new ResourceSpansMarshaler(
-              ResourceMarshaler.create(entry.getKey()),
-              MarshalerUtil.toBytes(entry.getKey().getSchemaUrl()),
+              ResourceMarshaler.create(entry.getKey(), cache),
+              cache.toBytes(entry.getKey().getSchemaUrl()),
               instrumentationScopeSpansMarshalers);
     }
     return resourceSpansMarshalers;
@@ -88,13 +99,13 @@ public final class ResourceSpansMarshaler extends MarshalerWithSize {
   }
 
   private static Map<Resource, Map<InstrumentationScopeInfo, List<SpanMarshaler>>>
-      groupByResourceAndScope(Collection<SpanData> spanDataList) {
+      groupByResourceAndScope(Collection<SpanData> spanDataList, MarshalerCache cache) {
     return MarshalerUtil.groupByResourceAndScope(
         spanDataList,
         // TODO(anuraaga): Replace with an internal SdkData type of interface that exposes these
         // two.
         SpanData::getResource,
         SpanData::getInstrumentationScopeInfo,
-        SpanMarshaler::create);
+        spanData -> SpanMarshaler.create(spanData, cache));
   }
 }
@@ -0,0 +1,67 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.exporter.internal.otlp.traces;
+
+import io.opentelemetry.exporter.internal.marshal.MarshalerContext;
+import io.opentelemetry.exporter.internal.marshal.MarshalerUtil;
+import io.opentelemetry.exporter.internal.marshal.Serializer;
+import io.opentelemetry.exporter.internal.marshal.StatelessMarshaler2;
+import io.opentelemetry.exporter.internal.marshal.StatelessMarshalerUtil;
+import io.opentelemetry.exporter.internal.otlp.ResourceMarshaler;
+import io.opentelemetry.proto.trace.v1.internal.ResourceSpans;
+import io.opentelemetry.sdk.common.InstrumentationScopeInfo;
+import io.opentelemetry.sdk.resources.Resource;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+
+/** See {@link ResourceSpansMarshaler}. */
+final class ResourceSpansStatelessMarshaler
+    implements StatelessMarshaler2<Resource, Map<InstrumentationScopeInfo, List<SpanData>>> {
+  static final ResourceSpansStatelessMarshaler INSTANCE = new ResourceSpansStatelessMarshaler();
+
+  private ResourceSpansStatelessMarshaler() {}
+
+  @Override
+  public void writeTo(
+      Serializer output,
+      Resource resource,
+      Map<InstrumentationScopeInfo, List<SpanData>> scopeMap,
+      MarshalerContext context)
+      throws IOException {
+    output.serializeMessage(ResourceSpans.RESOURCE, context.getData(ResourceMarshaler.class));
+    output.serializeRepeatedMessageWithContext(
+        ResourceSpans.SCOPE_SPANS,
+        scopeMap,
+        InstrumentationScopeSpansStatelessMarshaler.INSTANCE,
+        context);
+    output.serializeStringWithContext(ResourceSpans.SCHEMA_URL, resource.getSchemaUrl(), context);
+  }
+
+  @Override
+  public int getBinarySerializedSize(
+      Resource resource,
+      Map<InstrumentationScopeInfo, List<SpanData>> scopeMap,
+      MarshalerContext context) {
+    // Pre-serialized and cached, kept to not look it up again while writing
+    ResourceMarshaler resourceMarshaler = ResourceMarshaler.create(resource);
+    context.addData(resourceMarshaler);
+
+    int size = 0;
+    size += MarshalerUtil.sizeMessage(ResourceSpans.RESOURCE, resourceMarshaler);
+    size +=
+        StatelessMarshalerUtil.sizeRepeatedMessageWithContext(
+            ResourceSpans.SCOPE_SPANS,
+            scopeMap,
+            InstrumentationScopeSpansStatelessMarshaler.INSTANCE,
+            context);
+    size +=
+        StatelessMarshalerUtil.sizeStringWithContext(
+            ResourceSpans.SCHEMA_URL, resource.getSchemaUrl(), context);
+    return size;
+  }
+}
@@ -9,6 +9,7 @@ import io.opentelemetry.exporter.internal.marshal.MarshalerUtil;
 import io.opentelemetry.exporter.internal.marshal.MarshalerWithSize;
 import io.opentelemetry.exporter.internal.marshal.Serializer;
 import io.opentelemetry.exporter.internal.otlp.KeyValueMarshaler;
+import io.opentelemetry.exporter.internal.otlp.MarshalerCache;
 import io.opentelemetry.proto.trace.v1.internal.Span;
 import io.opentelemetry.sdk.trace.data.EventData;
 import java.io.IOException;
@@ -21,7 +22,7 @@ final class SpanEventMarshaler extends MarshalerWithSize {
   private final KeyValueMarshaler[] attributeMarshalers;
   private final int droppedAttributesCount;
 
-  static SpanEventMarshaler[] createRepeated(List<EventData> events) {
+  static SpanEventMarshaler[] createRepeated(List<EventData> events, MarshalerCache cache) {
     if (events.isEmpty()) {
       return EMPTY;
     }
@@ -29,18 +30,18 @@ final class SpanEventMarshaler extends MarshalerWithSize {
     SpanEventMarshaler[] result = new SpanEventMarshaler[events.size()];
     int pos = 0;
     for (EventData event : events) {
-      result[pos++] = create(event);
+      result[pos++] = create(event, cache);
     }
 
     return result;
   }
 
   // Visible for testing
-  static SpanEventMarshaler create(EventData event) {
+  static SpanEventMarshaler create(EventData event, MarshalerCache cache) {
     return new SpanEventMarshaler(
         event.getEpochNanos(),
         MarshalerUtil.toBytes(event.getName()),
-        KeyValueMarshaler.createRepeated(event.getAttributes()),
+        KeyValueMarshaler.createRepeated(event.getAttributes(), cache),
         event.getTotalAttributeCount() - event.getAttributes().size());
   }
 
@@ -12,6 +12,7 @@ import io.opentelemetry.exporter.internal.marshal.MarshalerUtil;
 import io.opentelemetry.exporter.internal.marshal.MarshalerWithSize;
 import io.opentelemetry.exporter.internal.marshal.Serializer;
 import io.opentelemetry.exporter.internal.otlp.KeyValueMarshaler;
+import io.opentelemetry.exporter.internal.otlp.MarshalerCache;
 import io.opentelemetry.proto.trace.v1.internal.Span;
 import io.opentelemetry.sdk.trace.data.LinkData;
 import java.io.IOException;
@@ -21,13 +22,13 @@ import java.util.List;
 final class SpanLinkMarshaler extends MarshalerWithSize {
   private static final SpanLinkMarshaler[] EMPTY = new SpanLinkMarshaler[0];
   private static final byte[] EMPTY_BYTES = new byte[0];
-  private final String traceId;
-  private final String spanId;
+  private final byte[] traceId;
+  private final byte[] spanId;
   private final byte[] traceStateUtf8;
   private final KeyValueMarshaler[] attributeMarshalers;
   private final int droppedAttributesCount;
 
-  static SpanLinkMarshaler[] createRepeated(List<LinkData> links) {
+  static SpanLinkMarshaler[] createRepeated(List<LinkData> links, MarshalerCache cache) {
     if (links.isEmpty()) {
       return EMPTY;
     }
@@ -35,30 +36,30 @@ final class SpanLinkMarshaler extends MarshalerWithSize {
     SpanLinkMarshaler[] result = new SpanLinkMarshaler[links.size()];
     int pos = 0;
     for (LinkData link : links) {
-      result[pos++] = create(link);
+      result[pos++] = create(link, cache);
     }
 
     return result;
   }
 
   // Visible for testing
-  static SpanLinkMarshaler create(LinkData link) {
+  static SpanLinkMarshaler create(LinkData link, MarshalerCache cache) {
     TraceState traceState = link.getSpanContext().getTraceState();
     byte[] traceStateUtf8 =
         traceState.isEmpty()
             ? EMPTY_BYTES
             : encodeTraceState(traceState).getBytes(StandardCharsets.UTF_8);
     return new SpanLinkMarshaler(
-        link.getSpanContext().getTraceId(),
-        link.getSpanContext().getSpanId(),
+        link.getSpanContext().getTraceIdBytes(),
+        link.getSpanContext().getSpanIdBytes(),
         traceStateUtf8,
-        KeyValueMarshaler.createRepeated(link.getAttributes()),
+        KeyValueMarshaler.createRepeated(link.getAttributes(), cache),
         link.getTotalAttributeCount() - link.getAttributes().size());
   }
 
   private SpanLinkMarshaler(
-      String traceId,
-      String spanId,
+      byte[] traceId,
+      byte[] spanId,
       byte[] traceStateUtf8,
       KeyValueMarshaler[] attributeMarshalers,
       int droppedAttributesCount) {
@@ -82,8 +83,8 @@ final class SpanLinkMarshaler extends MarshalerWithSize {
   }
 
   private static int calculateSize(
-      String traceId,
-      String spanId,
+      byte[] traceId,
+      byte[] spanId,
       byte[] traceStateUtf8,
       KeyValueMarshaler[] attributeMarshalers,
       int droppedAttributesCount) {
@@ -0,0 +1,71 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.exporter.internal.otlp.traces;
+
+import io.opentelemetry.api.trace.SpanContext;
+import io.opentelemetry.exporter.internal.marshal.MarshalerContext;
+import io.opentelemetry.exporter.internal.marshal.MarshalerUtil;
+import io.opentelemetry.exporter.internal.marshal.Serializer;
+import io.opentelemetry.exporter.internal.marshal.StatelessMarshaler;
+import io.opentelemetry.exporter.internal.marshal.StatelessMarshalerUtil;
+import io.opentelemetry.exporter.internal.otlp.AttributeKeyValueStatelessMarshaler;
+import io.opentelemetry.proto.trace.v1.internal.Span;
+import io.opentelemetry.sdk.trace.data.LinkData;
+import java.io.IOException;
+
+/** See {@link SpanLinkMarshaler}. */
+final class SpanLinkStatelessMarshaler implements StatelessMarshaler<LinkData> {
+  static final SpanLinkStatelessMarshaler INSTANCE = new SpanLinkStatelessMarshaler();
+
+  private SpanLinkStatelessMarshaler() {}
+
+  @Override
+  public void writeTo(Serializer output, LinkData link, MarshalerContext context)
+      throws IOException {
+    SpanContext spanContext = link.getSpanContext();
+    output.serializeTraceId(
+        Span.Link.TRACE_ID, spanContext.getTraceIdHigh(), spanContext.getTraceIdLow());
+    output.serializeSpanId(Span.Link.SPAN_ID, spanContext.getSpanIdAsLong());
+    output.serializeStringWithContext(
+        Span.Link.TRACE_STATE,
+        SpanStatelessMarshaler.getEncodedTraceState(spanContext.getTraceState(), context),
+        context);
+    output.serializeRepeatedMessageWithContext(
+        Span.Link.ATTRIBUTES,
+        link.getAttributes(),
+        AttributeKeyValueStatelessMarshaler.INSTANCE,
+        context);
+    output.serializeUInt32(
+        Span.Link.DROPPED_ATTRIBUTES_COUNT,
+        link.getTotalAttributeCount() - link.getAttributes().size());
+  }
+
+  @Override
+  public int getBinarySerializedSize(LinkData link, MarshalerContext context) {
+    SpanContext spanContext = link.getSpanContext();
+    int size = 0;
+    size +=
+        MarshalerUtil.sizeTraceId(
+            Span.Link.TRACE_ID, spanContext.getTraceIdHigh(), spanContext.getTraceIdLow());
+    size += MarshalerUtil.sizeSpanId(Span.Link.SPAN_ID, spanContext.getSpanIdAsLong());
+    size +=
+        StatelessMarshalerUtil.sizeStringWithContext(
+            Span.Link.TRACE_STATE,
+            SpanStatelessMarshaler.addEncodedTraceState(spanContext.getTraceState(), context),
+            context);
+    size +=
+        StatelessMarshalerUtil.sizeRepeatedMessageWithContext(
+            Span.Link.ATTRIBUTES,
+            link.getAttributes(),
+            AttributeKeyValueStatelessMarshaler.INSTANCE,
+            context);
+    size +=
+        MarshalerUtil.sizeUInt32(
+            Span.Link.DROPPED_ATTRIBUTES_COUNT,
+            link.getTotalAttributeCount() - link.getAttributes().size());
+    return size;
+  }
+}
@@ -14,6 +14,7 @@ import io.opentelemetry.exporter.internal.marshal.MarshalerWithSize;
 import io.opentelemetry.exporter.internal.marshal.ProtoEnumInfo;
 import io.opentelemetry.exporter.internal.marshal.Serializer;
 import io.opentelemetry.exporter.internal.otlp.KeyValueMarshaler;
+import io.opentelemetry.exporter.internal.otlp.MarshalerCache;
 import io.opentelemetry.proto.trace.v1.internal.Span;
 import io.opentelemetry.sdk.trace.data.SpanData;
 import java.io.IOException;
@@ -22,10 +23,10 @@ import javax.annotation.Nullable;
 
 final class SpanMarshaler extends MarshalerWithSize {
   private static final byte[] EMPTY_BYTES = new byte[0];
-  private final String traceId;
+  private final byte[] traceId;
   private final byte[] traceStateUtf8;
-  private final String spanId;
-  @Nullable private final String parentSpanId;
+  private final byte[] spanId;
+  @Nullable private final byte[] parentSpanId;
   private final byte[] nameUtf8;
   private final ProtoEnumInfo spanKind;
   private final long startEpochNanos;
@@ -39,14 +40,15 @@ final class SpanMarshaler extends MarshalerWithSize {
   private final SpanStatusMarshaler spanStatusMarshaler;
 
   // Because SpanMarshaler is always part of a repeated field, it cannot return "null".
-  static SpanMarshaler create(SpanData spanData) {
+  static SpanMarshaler create(SpanData spanData, MarshalerCache cache) {
     // 这里其实是将UnsafeAttributes本质是一个HashMap存储的属性数据转换为由数组存储
-    KeyValueMarshaler[] attributeMarshalers = KeyValueMarshaler.createRepeated(spanData.getAttributes());
-    SpanEventMarshaler[] spanEventMarshalers = SpanEventMarshaler.createRepeated(spanData.getEvents());
-    SpanLinkMarshaler[] spanLinkMarshalers = SpanLinkMarshaler.createRepeated(spanData.getLinks());
+    KeyValueMarshaler[] attributeMarshalers = KeyValueMarshaler.createRepeated(spanData.getAttributes(), cache);
+    SpanEventMarshaler[] spanEventMarshalers = SpanEventMarshaler.createRepeated(spanData.getEvents(), cache);
+    SpanLinkMarshaler[] spanLinkMarshalers = SpanLinkMarshaler.createRepeated(spanData.getLinks(), cache);
 
-    String parentSpanId = spanData.getParentSpanContext().isValid()
-            ? spanData.getParentSpanContext().getSpanId()
+    // IDs are taken in binary form, which SDK spans keep them in, rather than as hex strings
+    byte[] parentSpanId = spanData.getParentSpanContext().isValid()
+            ? spanData.getParentSpanContext().getSpanIdBytes()
             : null;
 
     TraceState traceState = spanData.getSpanContext().getTraceState();
@@ -54,11 +56,11 @@ final class SpanMarshaler extends MarshalerWithSize {
             : encodeTraceState(traceState).getBytes(StandardCharsets.UTF_8);
 
     return new SpanMarshaler(
-        spanData.getSpanContext().getTraceId(),
-        spanData.getSpanContext().getSpanId(),
+        spanData.getSpanContext().getTraceIdBytes(),
+        spanData.getSpanContext().getSpanIdBytes(),
         traceStateUtf8,
         parentSpanId,
-        MarshalerUtil.toBytes(spanData.getName()),
+        cache.toBytes(spanData.getName()),
         toProtoSpanKind(spanData.getKind()),
         spanData.getStartEpochNanos(),
         spanData.getEndEpochNanos(),
@@ -72,10 +74,10 @@ final class SpanMarshaler extends MarshalerWithSize {
   }
 
   private SpanMarshaler(
-      String traceId,
-      String spanId,
+      byte[] traceId,
+      byte[] spanId,
       byte[] traceStateUtf8,
-      @Nullable String parentSpanId,
+      @Nullable byte[] parentSpanId,
       byte[] nameUtf8,
       ProtoEnumInfo spanKind,
       long startEpochNanos,
@@ -147,10 +149,10 @@ final class SpanMarshaler extends MarshalerWithSize {
   }
 
   private static int calculateSize(
-      String traceId,
-      String spanId,
+      byte[] traceId,
+      byte[] spanId,
       byte[] traceStateUtf8,
-      @Nullable String parentSpanId,
+      @Nullable byte[] parentSpanId,
       byte[] nameUtf8,
       ProtoEnumInfo spanKind,
       long startEpochNanos,
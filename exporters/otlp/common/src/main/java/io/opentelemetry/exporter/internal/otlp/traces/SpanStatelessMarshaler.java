@@ -0,0 +1,146 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.exporter.internal.otlp.traces;
+
+import static io.opentelemetry.api.trace.propagation.internal.W3CTraceContextEncoding.encodeTraceState;
+
+import io.opentelemetry.api.trace.SpanContext;
+import io.opentelemetry.api.trace.TraceState;
+import io.opentelemetry.exporter.internal.marshal.MarshalerContext;
+import io.opentelemetry.exporter.internal.marshal.MarshalerUtil;
+import io.opentelemetry.exporter.internal.marshal.Serializer;
+import io.opentelemetry.exporter.internal.marshal.StatelessMarshaler;
+import io.opentelemetry.exporter.internal.marshal.StatelessMarshalerUtil;
+import io.opentelemetry.exporter.internal.otlp.AttributeKeyValueStatelessMarshaler;
+import io.opentelemetry.proto.trace.v1.internal.Span;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import java.io.IOException;
+import javax.annotation.Nullable;
+
+/** See {@link SpanMarshaler}. */
+final class SpanStatelessMarshaler implements StatelessMarshaler<SpanData> {
+  static final SpanStatelessMarshaler INSTANCE = new SpanStatelessMarshaler();
+
+  private SpanStatelessMarshaler() {}
+
+  @Override
+  public void writeTo(Serializer output, SpanData span, MarshalerContext context)
+      throws IOException {
+    SpanContext spanContext = span.getSpanContext();
+    output.serializeTraceId(
+        Span.TRACE_ID, spanContext.getTraceIdHigh(), spanContext.getTraceIdLow());
+    output.serializeSpanId(Span.SPAN_ID, spanContext.getSpanIdAsLong());
+    output.serializeStringWithContext(
+        Span.TRACE_STATE, getEncodedTraceState(spanContext.getTraceState(), context), context);
+    SpanContext parentSpanContext = span.getParentSpanContext();
+    if (parentSpanContext.isValid()) {
+      output.serializeSpanId(Span.PARENT_SPAN_ID, parentSpanContext.getSpanIdAsLong());
+    }
+    output.serializeStringWithContext(Span.NAME, span.getName(), context);
+
+    output.serializeEnum(Span.KIND, SpanMarshaler.toProtoSpanKind(span.getKind()));
+
+    output.serializeFixed64(Span.START_TIME_UNIX_NANO, span.getStartEpochNanos());
+    output.serializeFixed64(Span.END_TIME_UNIX_NANO, span.getEndEpochNanos());
+
+    output.serializeRepeatedMessageWithContext(
+        Span.ATTRIBUTES,
+        span.getAttributes(),
+        AttributeKeyValueStatelessMarshaler.INSTANCE,
+        context);
+    output.serializeUInt32(
+        Span.DROPPED_ATTRIBUTES_COUNT,
+        span.getTotalAttributeCount() - span.getAttributes().size());
+
+    output.serializeRepeatedMessageWithContext(
+        Span.EVENTS, span.getEvents(), SpanEventStatelessMarshaler.INSTANCE, context);
+    output.serializeUInt32(
+        Span.DROPPED_EVENTS_COUNT, span.getTotalRecordedEvents() - span.getEvents().size());
+
+    output.serializeRepeatedMessageWithContext(
+        Span.LINKS, span.getLinks(), SpanLinkStatelessMarshaler.INSTANCE, context);
+    output.serializeUInt32(
+        Span.DROPPED_LINKS_COUNT, span.getTotalRecordedLinks() - span.getLinks().size());
+
+    output.serializeMessageWithContext(
+        Span.STATUS, span.getStatus(), SpanStatusStatelessMarshaler.INSTANCE, context);
+  }
+
+  @Override
+  public int getBinarySerializedSize(SpanData span, MarshalerContext context) {
+    SpanContext spanContext = span.getSpanContext();
+    int size = 0;
+    size +=
+        MarshalerUtil.sizeTraceId(
+            Span.TRACE_ID, spanContext.getTraceIdHigh(), spanContext.getTraceIdLow());
+    size += MarshalerUtil.sizeSpanId(Span.SPAN_ID, spanContext.getSpanIdAsLong());
+    size +=
+        StatelessMarshalerUtil.sizeStringWithContext(
+            Span.TRACE_STATE, addEncodedTraceState(spanContext.getTraceState(), context), context);
+    SpanContext parentSpanContext = span.getParentSpanContext();
+    if (parentSpanContext.isValid()) {
+      size += MarshalerUtil.sizeSpanId(Span.PARENT_SPAN_ID, parentSpanContext.getSpanIdAsLong());
+    }
+    size += StatelessMarshalerUtil.sizeStringWithContext(Span.NAME, span.getName(), context);
+
+    size += MarshalerUtil.sizeEnum(Span.KIND, SpanMarshaler.toProtoSpanKind(span.getKind()));
+
+    size += MarshalerUtil.sizeFixed64(Span.START_TIME_UNIX_NANO, span.getStartEpochNanos());
+    size += MarshalerUtil.sizeFixed64(Span.END_TIME_UNIX_NANO, span.getEndEpochNanos());
+
+    size +=
+        StatelessMarshalerUtil.sizeRepeatedMessageWithContext(
+            Span.ATTRIBUTES,
+            span.getAttributes(),
+            AttributeKeyValueStatelessMarshaler.INSTANCE,
+            context);
+    size +=
+        MarshalerUtil.sizeUInt32(
+            Span.DROPPED_ATTRIBUTES_COUNT,
+            span.getTotalAttributeCount() - span.getAttributes().size());
+
+    size +=
+        StatelessMarshalerUtil.sizeRepeatedMessageWithContext(
+            Span.EVENTS, span.getEvents(), SpanEventStatelessMarshaler.INSTANCE, context);
+    size +=
+        MarshalerUtil.sizeUInt32(
+            Span.DROPPED_EVENTS_COUNT, span.getTotalRecordedEvents() - span.getEvents().size());
+
+    size +=
+        StatelessMarshalerUtil.sizeRepeatedMessageWithContext(
+            Span.LINKS, span.getLinks(), SpanLinkStatelessMarshaler.INSTANCE, context);
+    size +=
+        MarshalerUtil.sizeUInt32(
+            Span.DROPPED_LINKS_COUNT, span.getTotalRecordedLinks() - span.getLinks().size());
+
+    size +=
+        StatelessMarshalerUtil.sizeMessageWithContext(
+            Span.STATUS, span.getStatus(), SpanStatusStatelessMarshaler.INSTANCE, context);
+    return size;
+  }
+
+  /**
+   * Encodes a non-empty trace state and records it to be read back by {@link
+   * #getEncodedTraceState(TraceState, MarshalerContext)}, returns {@code null} for an empty one.
+   */
+  @Nullable
+  static String addEncodedTraceState(TraceState traceState, MarshalerContext context) {
+    if (traceState.isEmpty()) {
+      return null;
+    }
+    String encoded = encodeTraceState(traceState);
+    context.addData(encoded);
+    return encoded;
+  }
+
+  @Nullable
+  static String getEncodedTraceState(TraceState traceState, MarshalerContext context) {
+    if (traceState.isEmpty()) {
+      return null;
+    }
+    return context.getData(String.class);
+  }
+}
@@ -19,16 +19,20 @@ final class SpanStatusMarshaler extends MarshalerWithSize {
   private final byte[] descriptionUtf8;
 
   static SpanStatusMarshaler create(StatusData status) {
-    ProtoEnumInfo protoStatusCode = Status.StatusCode.STATUS_CODE_UNSET;
-    if (status.getStatusCode() == StatusCode.OK) {
-      protoStatusCode = Status.StatusCode.STATUS_CODE_OK;
-    } else if (status.getStatusCode() == StatusCode.ERROR) {
-      protoStatusCode = Status.StatusCode.STATUS_CODE_ERROR;
-    }
+    ProtoEnumInfo protoStatusCode = toProtoStatusCode(status.getStatusCode());
     byte[] description = MarshalerUtil.toBytes(status.getDescription());
     return new SpanStatusMarshaler(protoStatusCode, description);
   }
 
+  static ProtoEnumInfo toProtoStatusCode(StatusCode statusCode) {
+    if (statusCode == StatusCode.OK) {
+      return Status.StatusCode.STATUS_CODE_OK;
+    } else if (statusCode == StatusCode.ERROR) {
+      return Status.StatusCode.STATUS_CODE_ERROR;
+    }
+    return Status.StatusCode.STATUS_CODE_UNSET;
+  }
+
   private SpanStatusMarshaler(ProtoEnumInfo protoStatusCode, byte[] descriptionUtf8) {
     super(computeSize(protoStatusCode, descriptionUtf8));
     this.protoStatusCode = protoStatusCode;
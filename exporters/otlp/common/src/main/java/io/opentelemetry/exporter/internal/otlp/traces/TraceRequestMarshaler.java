@@ -9,6 +9,7 @@ import io.opentelemetry.exporter.internal.marshal.Marshaler;
 import io.opentelemetry.exporter.internal.marshal.MarshalerUtil;
 import io.opentelemetry.exporter.internal.marshal.MarshalerWithSize;
 import io.opentelemetry.exporter.internal.marshal.Serializer;
+import io.opentelemetry.exporter.internal.otlp.MarshalerCache;
 import io.opentelemetry.proto.collector.trace.v1.internal.ExportTraceServiceRequest;
 import io.opentelemetry.sdk.trace.data.SpanData;
 import java.io.IOException;
@@ -29,7 +30,16 @@ public final class TraceRequestMarshaler extends MarshalerWithSize {
    * SpanData} into a serialized OTLP ExportTraceServiceRequest.
    */
   public static TraceRequestMarshaler create(Collection<SpanData> spanDataList) {
-    return new TraceRequestMarshaler(ResourceSpansMarshaler.create(spanDataList));
+    return create(spanDataList, MarshalerCache.disabled());
+  }
+
+  /**
+   * Returns a {@link TraceRequestMarshaler} like {@link #create(Collection)}, reusing the encoded
+   * resources, scopes and strings held by the exporter's {@code cache}.
+   */
+  public static TraceRequestMarshaler create(
+      Collection<SpanData> spanDataList, MarshalerCache cache) {
+    return new TraceRequestMarshaler(ResourceSpansMarshaler.create(spanDataList, cache));
   }
 
   private TraceRequestMarshaler(ResourceSpansMarshaler[] resourceSpansMarshalers) {
@@ -0,0 +1,162 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.exporter.internal.otlp;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.trace.SpanContext;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.api.trace.TraceFlags;
+import io.opentelemetry.api.trace.TraceState;
+import io.opentelemetry.exporter.internal.marshal.Marshaler;
+import io.opentelemetry.exporter.internal.otlp.traces.TraceRequestMarshaler;
+import io.opentelemetry.sdk.common.InstrumentationScopeInfo;
+import io.opentelemetry.sdk.resources.Resource;
+import io.opentelemetry.sdk.testing.trace.TestSpanData;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.data.StatusData;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class MarshalerCacheTest {
+
+  @Test
+  void toBytes_reusesShortStrings() {
+    MarshalerCache cache = MarshalerCache.create();
+
+    byte[] first = cache.toBytes("http.method");
+    assertThat(first).isEqualTo("http.method".getBytes(StandardCharsets.UTF_8));
+    assertThat(cache.toBytes("http.method")).isSameAs(first);
+    assertThat(cache.toBytes(null)).isEmpty();
+    assertThat(cache.toBytes("")).isEmpty();
+  }
+
+  @Test
+  void toBytes_doesNotCacheLongStrings() {
+    MarshalerCache cache = new MarshalerCache(1, 1, 10, 4, 0, 0);
+
+    assertThat(cache.toBytes("short")).isNotSameAs(cache.toBytes("short"));
+    assertThat(cache.toBytes("abcd")).isSameAs(cache.toBytes("abcd"));
+  }
+
+  @Test
+  void toBytes_evictsEntriesNotReferencedSinceLastSweep() {
+    MarshalerCache cache = new MarshalerCache(1, 1, 2, 16, 0, 0);
+
+    byte[] a = cache.toBytes("a");
+    byte[] b = cache.toBytes("b");
+    assertThat(cache.toBytes("a")).isSameAs(a);
+
+    // Full, "a" was used since it was added so "b" makes room for "c".
+    byte[] c = cache.toBytes("c");
+    assertThat(cache.toBytes("c")).isSameAs(c);
+    assertThat(cache.toBytes("a")).isSameAs(a);
+    assertThat(cache.toBytes("b")).isNotSameAs(b);
+  }
+
+  @Test
+  void getValueUtf8_reusesShortValues() {
+    MarshalerCache cache = new MarshalerCache(1, 1, 1, 16, 2, 4);
+
+    byte[] get = cache.getValueUtf8("GET");
+    assertThat(get).isEqualTo("GET".getBytes(StandardCharsets.UTF_8));
+    assertThat(cache.getValueUtf8("GET")).isSameAs(get);
+    assertThat(cache.getValueUtf8("")).isEmpty();
+    assertThat(cache.getValueUtf8("POST /")).isNotSameAs(cache.getValueUtf8("POST /"));
+
+    // Values don't evict names.
+    byte[] name = cache.toBytes("name");
+    cache.getValueUtf8("1");
+    cache.getValueUtf8("2");
+    cache.getValueUtf8("3");
+    assertThat(cache.toBytes("name")).isSameAs(name);
+  }
+
+  @Test
+  void disabled() {
+    MarshalerCache cache = MarshalerCache.disabled();
+
+    assertThat(cache.toBytes("value")).isNotSameAs(cache.toBytes("value"));
+    assertThat(cache.getValueUtf8("value")).isNotSameAs(cache.getValueUtf8("value"));
+    Resource resource = Resource.builder().put("one", 1).build();
+    // Falls back to the identity cache of ResourceMarshaler.
+    assertThat(ResourceMarshaler.create(resource, cache))
+        .isSameAs(ResourceMarshaler.create(resource));
+  }
+
+  @Test
+  void resourceAndScope_cachedByEquality() {
+    MarshalerCache cache = MarshalerCache.create();
+
+    assertThat(ResourceMarshaler.create(Resource.builder().put("one", 1).build(), cache))
+        .isSameAs(ResourceMarshaler.create(Resource.builder().put("one", 1).build(), cache));
+    assertThat(
+            InstrumentationScopeMarshaler.create(
+                InstrumentationScopeInfo.builder("scope").setVersion("1.0").build(), cache))
+        .isSameAs(
+            InstrumentationScopeMarshaler.create(
+                InstrumentationScopeInfo.builder("scope").setVersion("1.0").build(), cache));
+  }
+
+  @Test
+  void traceRequest_sameOutput() {
+    MarshalerCache cache = MarshalerCache.create();
+    List<SpanData> spans =
+        Arrays.asList(
+            span(Attributes.builder().put("string", "value").put("strings", "a", "b").build()),
+            span(
+                Attributes.builder()
+                    .put(AttributeKey.stringKey("string"), "value")
+                    .put("long", 1L)
+                    .build()));
+
+    byte[] expected = toByteArray(TraceRequestMarshaler.create(spans));
+    // Second export reads everything from the cache.
+    assertThat(toByteArray(TraceRequestMarshaler.create(spans, cache))).isEqualTo(expected);
+    assertThat(toByteArray(TraceRequestMarshaler.create(spans, cache))).isEqualTo(expected);
+  }
+
+  private static SpanData span(Attributes attributes) {
+    return TestSpanData.builder()
+        .setResource(Resource.builder().put("service.name", "cache-test").build())
+        .setInstrumentationScopeInfo(InstrumentationScopeInfo.create("scope"))
+        .setHasEnded(true)
+        .setSpanContext(
+            SpanContext.create(
+                "7b2e170db4df2d593ddb4ddf2ddf2d59",
+                "170d3ddb4d23e81f",
+                TraceFlags.getSampled(),
+                TraceState.getDefault()))
+        .setParentSpanContext(SpanContext.getInvalid())
+        .setName("GET /api/endpoint")
+        .setKind(SpanKind.SERVER)
+        .setStartEpochNanos(12345)
+        .setEndEpochNanos(12349)
+        .setAttributes(attributes)
+        .setTotalAttributeCount(attributes.size())
+        .setLinks(Collections.emptyList())
+        .setStatus(StatusData.unset())
+        .build();
+  }
+
+  private static byte[] toByteArray(Marshaler marshaler) {
+    ByteArrayOutputStream bos = new ByteArrayOutputStream();
+    try {
+      marshaler.writeBinaryTo(bos);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    return bos.toByteArray();
+  }
+}
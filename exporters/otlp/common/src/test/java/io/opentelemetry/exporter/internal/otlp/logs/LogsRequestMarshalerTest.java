@@ -21,6 +21,7 @@ import io.opentelemetry.api.trace.TraceFlags;
 import io.opentelemetry.api.trace.TraceId;
 import io.opentelemetry.api.trace.TraceState;
 import io.opentelemetry.exporter.internal.marshal.Marshaler;
+import io.opentelemetry.exporter.internal.otlp.MarshalerCache;
 import io.opentelemetry.proto.common.v1.AnyValue;
 import io.opentelemetry.proto.common.v1.InstrumentationScope;
 import io.opentelemetry.proto.common.v1.KeyValue;
@@ -116,7 +117,8 @@ class LogsRequestMarshalerTest {
                     .setTotalAttributeCount(2)
                     .setTimestamp(12345, TimeUnit.NANOSECONDS)
                     .setObservedTimestamp(6789, TimeUnit.NANOSECONDS)
-                    .build()));
+                    .build(),
+                MarshalerCache.disabled()));
 
     assertThat(logRecord.getTraceId().toByteArray()).isEqualTo(TRACE_ID_BYTES);
     assertThat(logRecord.getSpanId().toByteArray()).isEqualTo(SPAN_ID_BYTES);
@@ -146,7 +148,8 @@ class LogsRequestMarshalerTest {
                         InstrumentationScopeInfo.builder("instrumentation").setVersion("1").build())
                     .setTimestamp(12345, TimeUnit.NANOSECONDS)
                     .setObservedTimestamp(6789, TimeUnit.NANOSECONDS)
-                    .build()));
+                    .build(),
+                MarshalerCache.disabled()));
 
     assertThat(logRecord.getTraceId()).isEmpty();
     assertThat(logRecord.getSpanId()).isEmpty();
@@ -0,0 +1,106 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.exporter.internal.otlp.logs;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.logs.Severity;
+import io.opentelemetry.api.trace.SpanContext;
+import io.opentelemetry.api.trace.TraceFlags;
+import io.opentelemetry.api.trace.TraceState;
+import io.opentelemetry.exporter.internal.marshal.Marshaler;
+import io.opentelemetry.sdk.common.InstrumentationScopeInfo;
+import io.opentelemetry.sdk.logs.data.LogRecordData;
+import io.opentelemetry.sdk.resources.Resource;
+import io.opentelemetry.sdk.testing.logs.TestLogRecordData;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+class LowAllocationLogsRequestMarshalerTest {
+
+  private static final Resource RESOURCE =
+      Resource.builder().put("one", 1).setSchemaUrl("http://url").build();
+  private static final InstrumentationScopeInfo SCOPE =
+      InstrumentationScopeInfo.builder("testLib")
+          .setVersion("1.0")
+          .setSchemaUrl("http://url")
+          .setAttributes(Attributes.builder().put("key", "value").build())
+          .build();
+  private static final SpanContext SPAN_CONTEXT =
+      SpanContext.create(
+          "7b2e170db4df2d593ddb4ddf2ddf2d59",
+          "170d3ddb4d23e81f",
+          TraceFlags.getSampled(),
+          TraceState.getDefault());
+
+  @Test
+  void matchesLogsRequestMarshaler() {
+    List<LogRecordData> logs =
+        Arrays.asList(
+            TestLogRecordData.builder()
+                .setResource(RESOURCE)
+                .setInstrumentationScopeInfo(SCOPE)
+                .setBody("Hello world from this log... ✓")
+                .setSeverity(Severity.INFO)
+                .setSeverityText("INFO")
+                .setSpanContext(SPAN_CONTEXT)
+                .setAttributes(
+                    Attributes.builder()
+                        .put(AttributeKey.booleanKey("key"), true)
+                        .put("strings", "a", "b")
+                        .build())
+                .setTotalAttributeCount(3)
+                .setTimestamp(12345, TimeUnit.NANOSECONDS)
+                .setObservedTimestamp(6789, TimeUnit.NANOSECONDS)
+                .build(),
+            TestLogRecordData.builder()
+                .setResource(Resource.empty())
+                .setInstrumentationScopeInfo(InstrumentationScopeInfo.create("other"))
+                .setTimestamp(12345, TimeUnit.NANOSECONDS)
+                .build());
+
+    LogsRequestMarshaler expected = LogsRequestMarshaler.create(logs);
+    LowAllocationLogsRequestMarshaler actual = new LowAllocationLogsRequestMarshaler();
+    actual.initialize(logs);
+
+    assertThat(actual.getBinarySerializedSize()).isEqualTo(expected.getBinarySerializedSize());
+    assertThat(toByteArray(actual)).isEqualTo(toByteArray(expected));
+    assertThat(toJson(actual)).isEqualTo(toJson(expected));
+
+    actual.reset();
+    actual.initialize(logs.subList(1, 2));
+    assertThat(toByteArray(actual))
+        .isEqualTo(toByteArray(LogsRequestMarshaler.create(logs.subList(1, 2))));
+  }
+
+  private static byte[] toByteArray(Marshaler marshaler) {
+    ByteArrayOutputStream bos = new ByteArrayOutputStream();
+    try {
+      marshaler.writeBinaryTo(bos);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    return bos.toByteArray();
+  }
+
+  private static String toJson(Marshaler marshaler) {
+    ByteArrayOutputStream bos = new ByteArrayOutputStream();
+    try {
+      marshaler.writeJsonTo(bos);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    return new String(bos.toByteArray(), StandardCharsets.UTF_8);
+  }
+}
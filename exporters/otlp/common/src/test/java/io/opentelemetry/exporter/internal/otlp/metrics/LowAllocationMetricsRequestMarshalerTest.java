@@ -0,0 +1,192 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.exporter.internal.otlp.metrics;
+
+import static io.opentelemetry.api.common.AttributeKey.stringKey;
+import static java.util.Collections.singletonList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.google.common.collect.ImmutableList;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.trace.SpanContext;
+import io.opentelemetry.api.trace.TraceFlags;
+import io.opentelemetry.api.trace.TraceState;
+import io.opentelemetry.exporter.internal.marshal.Marshaler;
+import io.opentelemetry.sdk.common.InstrumentationScopeInfo;
+import io.opentelemetry.sdk.metrics.data.AggregationTemporality;
+import io.opentelemetry.sdk.metrics.data.MetricData;
+import io.opentelemetry.sdk.metrics.internal.data.ImmutableDoubleExemplarData;
+import io.opentelemetry.sdk.metrics.internal.data.ImmutableDoublePointData;
+import io.opentelemetry.sdk.metrics.internal.data.ImmutableExponentialHistogramBuckets;
+import io.opentelemetry.sdk.metrics.internal.data.ImmutableExponentialHistogramData;
+import io.opentelemetry.sdk.metrics.internal.data.ImmutableExponentialHistogramPointData;
+import io.opentelemetry.sdk.metrics.internal.data.ImmutableGaugeData;
+import io.opentelemetry.sdk.metrics.internal.data.ImmutableHistogramData;
+import io.opentelemetry.sdk.metrics.internal.data.ImmutableHistogramPointData;
+import io.opentelemetry.sdk.metrics.internal.data.ImmutableLongExemplarData;
+import io.opentelemetry.sdk.metrics.internal.data.ImmutableLongPointData;
+import io.opentelemetry.sdk.metrics.internal.data.ImmutableMetricData;
+import io.opentelemetry.sdk.metrics.internal.data.ImmutableSumData;
+import io.opentelemetry.sdk.metrics.internal.data.ImmutableSummaryData;
+import io.opentelemetry.sdk.metrics.internal.data.ImmutableSummaryPointData;
+import io.opentelemetry.sdk.metrics.internal.data.ImmutableValueAtQuantile;
+import io.opentelemetry.sdk.resources.Resource;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class LowAllocationMetricsRequestMarshalerTest {
+
+  private static final Attributes KV_ATTR = Attributes.of(stringKey("k"), "v");
+  private static final Resource RESOURCE =
+      Resource.builder().put("one", 1).setSchemaUrl("http://url").build();
+  private static final InstrumentationScopeInfo SCOPE =
+      InstrumentationScopeInfo.builder("testLib").setVersion("1.0").build();
+  private static final SpanContext SPAN_CONTEXT =
+      SpanContext.create(
+          "00000000000000000000000000000001",
+          "0000000000000002",
+          TraceFlags.getDefault(),
+          TraceState.getDefault());
+
+  @Test
+  void matchesMetricsRequestMarshaler() {
+    List<MetricData> metrics =
+        ImmutableList.of(
+            ImmutableMetricData.createLongSum(
+                RESOURCE,
+                SCOPE,
+                "long_sum",
+                "description",
+                "1",
+                ImmutableSumData.create(
+                    /* isMonotonic= */ true,
+                    AggregationTemporality.CUMULATIVE,
+                    ImmutableList.of(
+                        ImmutableLongPointData.create(
+                            123,
+                            456,
+                            KV_ATTR,
+                            5,
+                            singletonList(
+                                ImmutableLongExemplarData.create(
+                                    Attributes.of(stringKey("test"), "value"),
+                                    2,
+                                    SPAN_CONTEXT,
+                                    1))),
+                        ImmutableLongPointData.create(123, 456, Attributes.empty(), 0)))),
+            ImmutableMetricData.createDoubleGauge(
+                RESOURCE,
+                SCOPE,
+                "gauge",
+                "",
+                "",
+                ImmutableGaugeData.create(
+                    singletonList(ImmutableDoublePointData.create(123, 456, KV_ATTR, 5.1)))),
+            ImmutableMetricData.createDoubleSummary(
+                Resource.empty(),
+                InstrumentationScopeInfo.empty(),
+                "summary",
+                "description",
+                "ms",
+                ImmutableSummaryData.create(
+                    singletonList(
+                        ImmutableSummaryPointData.create(
+                            321,
+                            654,
+                            KV_ATTR,
+                            9,
+                            18.3,
+                            ImmutableList.of(
+                                ImmutableValueAtQuantile.create(0.0, 1.1),
+                                ImmutableValueAtQuantile.create(1.0, 20.3)))))),
+            ImmutableMetricData.createDoubleHistogram(
+                RESOURCE,
+                SCOPE,
+                "histogram",
+                "description",
+                "ms",
+                ImmutableHistogramData.create(
+                    AggregationTemporality.DELTA,
+                    ImmutableList.of(
+                        ImmutableHistogramPointData.create(
+                            123,
+                            456,
+                            Attributes.empty(),
+                            15.3,
+                            /* hasMin= */ true,
+                            3.3,
+                            /* hasMax= */ true,
+                            12.0,
+                            ImmutableList.of(1.0),
+                            ImmutableList.of(1L, 5L),
+                            singletonList(
+                                ImmutableDoubleExemplarData.create(
+                                    Attributes.empty(), 2, SPAN_CONTEXT, 1.5)))))),
+            ImmutableMetricData.createExponentialHistogram(
+                RESOURCE,
+                SCOPE,
+                "exponential_histogram",
+                "description",
+                "ms",
+                ImmutableExponentialHistogramData.create(
+                    AggregationTemporality.CUMULATIVE,
+                    ImmutableList.of(
+                        ImmutableExponentialHistogramPointData.create(
+                            0,
+                            123.4,
+                            1,
+                            /* hasMin= */ true,
+                            3.3,
+                            /* hasMax= */ true,
+                            80.1,
+                            ImmutableExponentialHistogramBuckets.create(
+                                0, 1, ImmutableList.of(1L, 0L, 2L)),
+                            ImmutableExponentialHistogramBuckets.create(
+                                0, 0, Collections.emptyList()),
+                            123,
+                            456,
+                            KV_ATTR,
+                            Collections.emptyList())))));
+
+    MetricsRequestMarshaler expected = MetricsRequestMarshaler.create(metrics);
+    LowAllocationMetricsRequestMarshaler actual = new LowAllocationMetricsRequestMarshaler();
+    actual.initialize(metrics);
+
+    assertThat(actual.getBinarySerializedSize()).isEqualTo(expected.getBinarySerializedSize());
+    assertThat(toByteArray(actual)).isEqualTo(toByteArray(expected));
+    assertThat(toJson(actual)).isEqualTo(toJson(expected));
+
+    actual.reset();
+    actual.initialize(metrics.subList(0, 1));
+    assertThat(toByteArray(actual))
+        .isEqualTo(toByteArray(MetricsRequestMarshaler.create(metrics.subList(0, 1))));
+  }
+
+  private static byte[] toByteArray(Marshaler marshaler) {
+    ByteArrayOutputStream bos = new ByteArrayOutputStream();
+    try {
+      marshaler.writeBinaryTo(bos);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    return bos.toByteArray();
+  }
+
+  private static String toJson(Marshaler marshaler) {
+    ByteArrayOutputStream bos = new ByteArrayOutputStream();
+    try {
+      marshaler.writeJsonTo(bos);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    return new String(bos.toByteArray(), StandardCharsets.UTF_8);
+  }
+}
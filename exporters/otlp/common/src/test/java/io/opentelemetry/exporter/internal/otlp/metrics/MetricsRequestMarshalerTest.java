@@ -22,6 +22,7 @@ import io.opentelemetry.api.trace.SpanContext;
 import io.opentelemetry.api.trace.TraceFlags;
 import io.opentelemetry.api.trace.TraceState;
 import io.opentelemetry.exporter.internal.marshal.Marshaler;
+import io.opentelemetry.exporter.internal.otlp.MarshalerCache;
 import io.opentelemetry.proto.collector.metrics.v1.ExportMetricsServiceRequest;
 import io.opentelemetry.proto.common.v1.AnyValue;
 import io.opentelemetry.proto.common.v1.InstrumentationScope;
@@ -1032,7 +1033,9 @@ class MetricsRequestMarshalerTest {
     return points.stream()
         .map(
             point ->
-                parse(NumberDataPoint.getDefaultInstance(), NumberDataPointMarshaler.create(point)))
+                parse(
+                    NumberDataPoint.getDefaultInstance(),
+                    NumberDataPointMarshaler.create(point, MarshalerCache.disabled())))
         .collect(Collectors.toList());
   }
 
@@ -1041,7 +1044,8 @@ class MetricsRequestMarshalerTest {
         .map(
             point ->
                 parse(
-                    SummaryDataPoint.getDefaultInstance(), SummaryDataPointMarshaler.create(point)))
+                    SummaryDataPoint.getDefaultInstance(),
+                    SummaryDataPointMarshaler.create(point, MarshalerCache.disabled())))
         .collect(Collectors.toList());
   }
 
@@ -1052,7 +1056,7 @@ class MetricsRequestMarshalerTest {
             point ->
                 parse(
                     HistogramDataPoint.getDefaultInstance(),
-                    HistogramDataPointMarshaler.create(point)))
+                    HistogramDataPointMarshaler.create(point, MarshalerCache.disabled())))
         .collect(Collectors.toList());
   }
 
@@ -1063,12 +1067,14 @@ class MetricsRequestMarshalerTest {
             point ->
                 parse(
                     ExponentialHistogramDataPoint.getDefaultInstance(),
-                    ExponentialHistogramDataPointMarshaler.create(point)))
+                    ExponentialHistogramDataPointMarshaler.create(
+                        point, MarshalerCache.disabled())))
         .collect(Collectors.toList());
   }
 
   private static Metric toProtoMetric(MetricData metricData) {
-    return parse(Metric.getDefaultInstance(), MetricMarshaler.create(metricData));
+    return parse(
+        Metric.getDefaultInstance(), MetricMarshaler.create(metricData, MarshalerCache.disabled()));
   }
 
   private static List<ResourceMetrics> toProtoResourceMetrics(
@@ -0,0 +1,177 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.exporter.internal.otlp.traces;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.trace.SpanContext;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.api.trace.TraceFlags;
+import io.opentelemetry.api.trace.TraceState;
+import io.opentelemetry.exporter.internal.marshal.Marshaler;
+import io.opentelemetry.sdk.common.InstrumentationScopeInfo;
+import io.opentelemetry.sdk.resources.Resource;
+import io.opentelemetry.sdk.testing.trace.TestSpanData;
+import io.opentelemetry.sdk.trace.data.EventData;
+import io.opentelemetry.sdk.trace.data.LinkData;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.data.StatusData;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class LowAllocationTraceRequestMarshalerTest {
+
+  private static final Resource RESOURCE1 =
+      Resource.builder().put("one", 1).setSchemaUrl("http://url").build();
+  private static final Resource RESOURCE2 = Resource.builder().put("two", "二").build();
+  private static final InstrumentationScopeInfo SCOPE1 =
+      InstrumentationScopeInfo.builder("testLib")
+          .setVersion("1.0")
+          .setSchemaUrl("http://url")
+          .setAttributes(Attributes.builder().put("key", "value").build())
+          .build();
+  private static final InstrumentationScopeInfo SCOPE2 = InstrumentationScopeInfo.create("other");
+  private static final SpanContext SPAN_CONTEXT =
+      SpanContext.create(
+          "7b2e170db4df2d593ddb4ddf2ddf2d59",
+          "170d3ddb4d23e81f",
+          TraceFlags.getSampled(),
+          TraceState.builder().put("foo", "bar").put("baz", "qux").build());
+  private static final SpanContext PARENT_SPAN_CONTEXT =
+      SpanContext.create(
+          "7b2e170db4df2d593ddb4ddf2ddf2d59",
+          "0000000000000001",
+          TraceFlags.getSampled(),
+          TraceState.getDefault());
+
+  @Test
+  void matchesTraceRequestMarshaler() {
+    List<SpanData> spans =
+        Arrays.asList(
+            span(RESOURCE1, SCOPE1, SpanContext.getInvalid(), StatusData.unset()),
+            span(RESOURCE1, SCOPE2, PARENT_SPAN_CONTEXT, StatusData.ok()),
+            span(
+                RESOURCE2,
+                SCOPE1,
+                PARENT_SPAN_CONTEXT,
+                StatusData.create(StatusCode.ERROR, "ünicode ✓ 𝄞")),
+            span(RESOURCE1, SCOPE1, PARENT_SPAN_CONTEXT, StatusData.error()));
+
+    assertMatches(spans);
+  }
+
+  @Test
+  void emptyRequest() {
+    assertMatches(Collections.emptyList());
+  }
+
+  @Test
+  void reusedAcrossRequests() {
+    List<SpanData> first =
+        Collections.singletonList(
+            span(RESOURCE1, SCOPE1, SpanContext.getInvalid(), StatusData.unset()));
+    List<SpanData> second =
+        Arrays.asList(
+            span(RESOURCE2, SCOPE2, PARENT_SPAN_CONTEXT, StatusData.ok()),
+            span(RESOURCE1, SCOPE1, PARENT_SPAN_CONTEXT, StatusData.error()));
+
+    LowAllocationTraceRequestMarshaler marshaler = new LowAllocationTraceRequestMarshaler();
+    marshaler.initialize(first);
+    assertThat(toByteArray(marshaler)).isEqualTo(toByteArray(TraceRequestMarshaler.create(first)));
+    marshaler.reset();
+
+    marshaler.initialize(second);
+    byte[] expected = toByteArray(TraceRequestMarshaler.create(second));
+    assertThat(marshaler.getBinarySerializedSize()).isEqualTo(expected.length);
+    // Serializing twice reads the same precomputed sizes
+    assertThat(toByteArray(marshaler)).isEqualTo(expected);
+    assertThat(toByteArray(marshaler)).isEqualTo(expected);
+    marshaler.reset();
+
+    assertThat(marshaler.getBinarySerializedSize()).isZero();
+  }
+
+  private static void assertMatches(List<SpanData> spans) {
+    TraceRequestMarshaler expected = TraceRequestMarshaler.create(spans);
+    LowAllocationTraceRequestMarshaler actual = new LowAllocationTraceRequestMarshaler();
+    actual.initialize(spans);
+
+    assertThat(actual.getBinarySerializedSize()).isEqualTo(expected.getBinarySerializedSize());
+    assertThat(toByteArray(actual)).isEqualTo(toByteArray(expected));
+    assertThat(toJson(actual)).isEqualTo(toJson(expected));
+  }
+
+  private static SpanData span(
+      Resource resource,
+      InstrumentationScopeInfo scope,
+      SpanContext parentSpanContext,
+      StatusData status) {
+    return TestSpanData.builder()
+        .setResource(resource)
+        .setInstrumentationScopeInfo(scope)
+        .setHasEnded(true)
+        .setSpanContext(SPAN_CONTEXT)
+        .setParentSpanContext(parentSpanContext)
+        .setName("GET /api/endpoint")
+        .setKind(SpanKind.SERVER)
+        .setStartEpochNanos(12345)
+        .setEndEpochNanos(12349)
+        .setAttributes(
+            Attributes.builder()
+                .put("key", true)
+                .put("string", "string")
+                .put("unicode", "日本語")
+                .put("empty", "")
+                .put("int", 100L)
+                .put("double", 100.3)
+                .put("string_array", "string1", "string2")
+                .put("long_array", 12L, 23L)
+                .put("double_array", 12.3, 23.1)
+                .put("boolean_array", true, false)
+                .build())
+        .setTotalAttributeCount(11)
+        .setEvents(
+            Arrays.asList(
+                EventData.create(12347, "my_event", Attributes.empty()),
+                EventData.create(12348, "my_event_2", Attributes.builder().put("a", 1).build(), 3)))
+        .setTotalRecordedEvents(3)
+        .setLinks(
+            Arrays.asList(
+                LinkData.create(PARENT_SPAN_CONTEXT),
+                LinkData.create(SPAN_CONTEXT, Attributes.builder().put("b", "c").build(), 2)))
+        .setTotalRecordedLinks(3)
+        .setStatus(status)
+        .build();
+  }
+
+  private static byte[] toByteArray(Marshaler marshaler) {
+    ByteArrayOutputStream bos = new ByteArrayOutputStream();
+    try {
+      marshaler.writeBinaryTo(bos);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    return bos.toByteArray();
+  }
+
+  private static String toJson(Marshaler marshaler) {
+    ByteArrayOutputStream bos = new ByteArrayOutputStream();
+    try {
+      marshaler.writeJsonTo(bos);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    return new String(bos.toByteArray(), StandardCharsets.UTF_8);
+  }
+}
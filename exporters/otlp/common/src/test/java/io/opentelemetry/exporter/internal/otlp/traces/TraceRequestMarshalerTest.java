@@ -27,6 +27,7 @@ import io.opentelemetry.api.trace.TraceFlags;
 import io.opentelemetry.api.trace.TraceId;
 import io.opentelemetry.api.trace.TraceState;
 import io.opentelemetry.exporter.internal.marshal.Marshaler;
+import io.opentelemetry.exporter.internal.otlp.MarshalerCache;
 import io.opentelemetry.proto.common.v1.AnyValue;
 import io.opentelemetry.proto.common.v1.ArrayValue;
 import io.opentelemetry.proto.common.v1.InstrumentationScope;
@@ -143,7 +144,8 @@ class TraceRequestMarshalerTest {
                     .setLinks(Collections.singletonList(LinkData.create(SPAN_CONTEXT)))
                     .setTotalRecordedLinks(2)
                     .setStatus(StatusData.ok())
-                    .build()));
+                    .build(),
+                MarshalerCache.disabled()));
 
     assertThat(span.getTraceId().toByteArray()).isEqualTo(TRACE_ID_BYTES);
     assertThat(span.getSpanId().toByteArray()).isEqualTo(SPAN_ID_BYTES);
@@ -272,7 +274,8 @@ class TraceRequestMarshalerTest {
             parse(
                 Span.Event.getDefaultInstance(),
                 SpanEventMarshaler.create(
-                    EventData.create(12345, "test_without_attributes", Attributes.empty()))))
+                    EventData.create(12345, "test_without_attributes", Attributes.empty()),
+                    MarshalerCache.disabled())))
         .isEqualTo(
             Span.Event.newBuilder()
                 .setTimeUnixNano(12345)
@@ -290,7 +293,8 @@ class TraceRequestMarshalerTest {
                         12345,
                         "test_with_attributes",
                         Attributes.of(stringKey("key_string"), "string"),
-                        5))))
+                        5),
+                    MarshalerCache.disabled())))
         .isEqualTo(
             Span.Event.newBuilder()
                 .setTimeUnixNano(12345)
@@ -309,7 +313,7 @@ class TraceRequestMarshalerTest {
     assertThat(
             parse(
                 Span.Link.getDefaultInstance(),
-                SpanLinkMarshaler.create(LinkData.create(SPAN_CONTEXT))))
+                SpanLinkMarshaler.create(LinkData.create(SPAN_CONTEXT), MarshalerCache.disabled())))
         .isEqualTo(
             Span.Link.newBuilder()
                 .setTraceId(ByteString.copyFrom(TRACE_ID_BYTES))
@@ -325,7 +329,8 @@ class TraceRequestMarshalerTest {
                 Span.Link.getDefaultInstance(),
                 SpanLinkMarshaler.create(
                     LinkData.create(
-                        SPAN_CONTEXT, Attributes.of(stringKey("key_string"), "string"), 5))))
+                        SPAN_CONTEXT, Attributes.of(stringKey("key_string"), "string"), 5),
+                    MarshalerCache.disabled())))
         .isEqualTo(
             Span.Link.newBuilder()
                 .setTraceId(ByteString.copyFrom(TRACE_ID_BYTES))
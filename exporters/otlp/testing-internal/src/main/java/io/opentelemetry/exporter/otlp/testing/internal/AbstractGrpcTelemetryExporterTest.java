@@ -24,6 +24,7 @@ import com.linecorp.armeria.testing.junit5.server.SelfSignedCertificateExtension
 import com.linecorp.armeria.testing.junit5.server.ServerExtension;
 import io.github.netmikey.logunit.api.LogCapturer;
 import io.opentelemetry.exporter.internal.TlsUtil;
+import io.opentelemetry.exporter.internal.compression.GzipCompressor;
 import io.opentelemetry.exporter.internal.grpc.GrpcExporter;
 import io.opentelemetry.exporter.internal.marshal.Marshaler;
 import io.opentelemetry.internal.testing.slf4j.SuppressLogger;
@@ -252,8 +253,8 @@ public abstract class AbstractGrpcTelemetryExporterTest<T, U extends Message> {
           .extracting("delegate.grpcSender")
           .matches(sender -> sender.getClass().getSimpleName().equals("OkHttpGrpcSender"));
       assertThat(exporter.unwrap())
-          .extracting("delegate.grpcSender.compressionEnabled")
-          .isEqualTo(false);
+          .extracting("delegate.grpcSender.compressor")
+          .isNull();
     } finally {
       exporter.shutdown();
     }
@@ -269,8 +270,8 @@ public abstract class AbstractGrpcTelemetryExporterTest<T, U extends Message> {
           .extracting("delegate.grpcSender")
           .matches(sender -> sender.getClass().getSimpleName().equals("OkHttpGrpcSender"));
       assertThat(exporter.unwrap())
-          .extracting("delegate.grpcSender.compressionEnabled")
-          .isEqualTo(true);
+          .extracting("delegate.grpcSender.compressor")
+          .isEqualTo(GzipCompressor.getInstance());
     } finally {
       exporter.shutdown();
     }
@@ -787,7 +788,7 @@ public abstract class AbstractGrpcTelemetryExporterTest<T, U extends Message> {
                   + "timeoutNanos="
                   + TimeUnit.SECONDS.toNanos(10)
                   + ", "
-                  + "compressionEnabled=false, "
+                  + "compressorEncoding=null, "
                   + "headers=Headers\\{User-Agent=OBFUSCATED\\}"
                   + ".*" // Maybe additional grpcChannel field
                   + "\\}");
@@ -824,7 +825,7 @@ public abstract class AbstractGrpcTelemetryExporterTest<T, U extends Message> {
                   + "timeoutNanos="
                   + TimeUnit.SECONDS.toNanos(5)
                   + ", "
-                  + "compressionEnabled=true, "
+                  + "compressorEncoding=gzip, "
                   + "headers=Headers\\{.*foo=OBFUSCATED.*\\}, "
                   + "retryPolicy=RetryPolicy\\{maxAttempts=2, initialBackoff=PT0\\.05S, maxBackoff=PT3S, backoffMultiplier=1\\.3\\}"
                   + ".*" // Maybe additional grpcChannel field
@@ -8,6 +8,7 @@ package io.opentelemetry.exporter.sender.grpc.managedchannel.internal;
 import com.google.common.util.concurrent.FutureCallback;
 import com.google.common.util.concurrent.Futures;
 import com.google.common.util.concurrent.MoreExecutors;
+import io.grpc.Metadata;
 import io.grpc.Status;
 import io.opentelemetry.exporter.internal.grpc.GrpcResponse;
 import io.opentelemetry.exporter.internal.grpc.GrpcSender;
@@ -26,6 +27,9 @@ import org.checkerframework.checker.nullness.qual.Nullable;
  */
 public final class UpstreamGrpcSender<T extends Marshaler> implements GrpcSender<T> {
 
+  private static final Metadata.Key<String> GRPC_RETRY_PUSHBACK_MS =
+      Metadata.Key.of("grpc-retry-pushback-ms", Metadata.ASCII_STRING_MARSHALLER);
+
   private final MarshalerServiceStub<T, ?, ?> stub;
   private final long timeoutNanos;
 
@@ -52,8 +56,13 @@ public final class UpstreamGrpcSender<T extends Marshaler> implements GrpcSender
           @Override
           public void onFailure(Throwable t) {
             Status status = Status.fromThrowable(t);
+            Metadata trailers = Status.trailersFromThrowable(t);
             onError.accept(
-                GrpcResponse.create(status.getCode().value(), status.getDescription()), t);
+                GrpcResponse.create(
+                    status.getCode().value(),
+                    status.getDescription(),
+                    trailers == null ? null : trailers.get(GRPC_RETRY_PUSHBACK_MS)),
+                t);
           }
         },
         MoreExecutors.directExecutor());
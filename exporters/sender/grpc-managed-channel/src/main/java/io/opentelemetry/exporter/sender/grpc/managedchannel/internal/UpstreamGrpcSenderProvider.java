@@ -8,13 +8,18 @@ package io.opentelemetry.exporter.sender.grpc.managedchannel.internal;
 import io.grpc.Channel;
 import io.grpc.ClientInterceptors;
 import io.grpc.Codec;
+import io.grpc.CompressorRegistry;
 import io.grpc.Metadata;
 import io.grpc.stub.MetadataUtils;
+import io.opentelemetry.exporter.internal.compression.Compressor;
+import io.opentelemetry.exporter.internal.compression.CompressorUtil;
 import io.opentelemetry.exporter.internal.grpc.GrpcSender;
 import io.opentelemetry.exporter.internal.grpc.GrpcSenderProvider;
 import io.opentelemetry.exporter.internal.grpc.MarshalerServiceStub;
 import io.opentelemetry.exporter.internal.marshal.Marshaler;
 import io.opentelemetry.sdk.common.export.RetryPolicy;
+import java.io.IOException;
+import java.io.OutputStream;
 import java.net.URI;
 import java.util.Map;
 import java.util.function.BiFunction;
@@ -35,7 +40,7 @@ public class UpstreamGrpcSenderProvider implements GrpcSenderProvider {
   public <T extends Marshaler> GrpcSender<T> createSender(
       URI endpoint,
       String endpointPath,
-      boolean compressionEnabled,
+      @Nullable Compressor compressor,
       long timeoutNanos,
       Map<String, String> headers,
       @Nullable Object managedChannel,
@@ -59,13 +64,46 @@ public class UpstreamGrpcSenderProvider implements GrpcSenderProvider {
         ClientInterceptors.intercept(
             (Channel) managedChannel, MetadataUtils.newAttachHeadersInterceptor(metadata));
 
-    Codec codec = compressionEnabled ? new Codec.Gzip() : Codec.Identity.NONE;
+    String compression = Codec.Identity.NONE.getMessageEncoding();
+    if (compressor != null) {
+      // gRPC looks compressors up by encoding in the registry of the channel, which is owned by the
+      // user and by default shared by all channels. It holds a single compressor per encoding, so
+      // only the default level of each encoding can be used. Register ours unless gRPC already
+      // supports the encoding, as it does gzip.
+      String encoding = compressor.getEncoding();
+      if (compressor != CompressorUtil.validateAndResolveCompressor(encoding)) {
+        throw new IllegalArgumentException(
+            "Compression levels are not supported by the gRPC ManagedChannel sender, got "
+                + compressor);
+      }
+      CompressorRegistry registry = CompressorRegistry.getDefaultInstance();
+      if (registry.lookupCompressor(encoding) == null) {
+        registry.register(new CompressorAdapter(compressor));
+      }
+      compression = encoding;
+    }
     MarshalerServiceStub<T, ?, ?> stub =
-        stubFactory
-            .get()
-            .apply(channel, authorityOverride)
-            .withCompression(codec.getMessageEncoding());
+        stubFactory.get().apply(channel, authorityOverride).withCompression(compression);
 
     return new UpstreamGrpcSender<>(stub, timeoutNanos);
   }
+
+  private static final class CompressorAdapter implements io.grpc.Compressor {
+
+    private final Compressor compressor;
+
+    private CompressorAdapter(Compressor compressor) {
+      this.compressor = compressor;
+    }
+
+    @Override
+    public String getMessageEncoding() {
+      return compressor.getEncoding();
+    }
+
+    @Override
+    public OutputStream compress(OutputStream os) throws IOException {
+      return compressor.compress(os);
+    }
+  }
 }
@@ -5,10 +5,13 @@
 
 package io.opentelemetry.exporter.sender.jdk.internal;
 
+import io.opentelemetry.exporter.internal.RetryUtil;
+import io.opentelemetry.exporter.internal.compression.Compressor;
+import io.opentelemetry.exporter.internal.http.Http2Config;
 import io.opentelemetry.exporter.internal.http.HttpSender;
 import io.opentelemetry.sdk.common.CompletableResultCode;
 import io.opentelemetry.sdk.common.export.RetryPolicy;
-import java.io.ByteArrayOutputStream;
+import io.opentelemetry.sdk.internal.JavaVersionSpecific;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.net.URI;
@@ -16,19 +19,18 @@ import java.net.URISyntaxException;
 import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
-import java.nio.ByteBuffer;
 import java.time.Duration;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
-import java.util.zip.GZIPOutputStream;
 import javax.annotation.Nullable;
 import javax.net.ssl.SSLContext;
 
@@ -42,39 +44,65 @@ public final class JdkHttpSender implements HttpSender {
 
   private static final Set<Integer> retryableStatusCodes = Set.of(429, 502, 503, 504);
 
-  private static final ThreadLocal<NoCopyByteArrayOutputStream> threadLocalBaos =
-      ThreadLocal.withInitial(NoCopyByteArrayOutputStream::new);
-  private static final ThreadLocal<ByteBufferPool> threadLocalByteBufPool =
-      ThreadLocal.withInitial(ByteBufferPool::new);
+  // Bytes are handed to the client in chunks of this size as the request is marshaled, with at
+  // most MAX_PENDING_CHUNKS waiting to be written to the connection.
+  private static final int CHUNK_SIZE = 16 * 1024;
+  private static final int MAX_PENDING_CHUNKS = 4;
 
-  private final ExecutorService executorService = Executors.newFixedThreadPool(5);
+  private static final int MAX_PLATFORM_THREADS = 5;
+
+  // Runs the blocking send loops, on virtual threads where available.
+  private final ExecutorService executorService;
   private final HttpClient client;
   private final URI uri;
-  private final boolean compressionEnabled;
+  @Nullable private final Compressor compressor;
   private final String contentType;
   private final long timeoutNanos;
   private final Supplier<Map<String, String>> headerSupplier;
   @Nullable private final RetryPolicy retryPolicy;
+  // Limits the requests in flight, i.e. streams on the connection, when using HTTP/2.
+  @Nullable private final Semaphore streamPermits;
+  private final AtomicInteger activeRequests = new AtomicInteger();
 
   JdkHttpSender(
       String endpoint,
-      boolean compressionEnabled,
+      @Nullable Compressor compressor,
       String contentType,
       long timeoutNanos,
       Supplier<Map<String, String>> headerSupplier,
       @Nullable RetryPolicy retryPolicy,
-      @Nullable SSLContext sslContext) {
-    HttpClient.Builder builder = HttpClient.newBuilder().executor(executorService);
+      @Nullable SSLContext sslContext,
+      @Nullable Http2Config http2Config) {
+    // The client keeps its default executor: export threads block while the client drains their
+    // request body, so they must not share a pool.
+    HttpClient.Builder builder = HttpClient.newBuilder();
     if (sslContext != null) {
       builder.sslContext(sslContext);
     }
+    if (http2Config != null) {
+      // h2 is negotiated with ALPN for https, http connections are upgraded to h2c. The client
+      // multiplexes requests on one connection per host and keeps it alive on its own, it has no
+      // option for keep-alive pings.
+      builder.version(HttpClient.Version.HTTP_2);
+      this.streamPermits = new Semaphore(http2Config.getMaxConcurrentStreams());
+      this.executorService =
+          JavaVersionSpecific.get()
+              .newBlockingTaskExecutor(
+                  "otel-jdk-http-sender",
+                  Math.max(MAX_PLATFORM_THREADS, http2Config.getMaxConcurrentStreams()));
+    } else {
+      this.streamPermits = null;
+      this.executorService =
+          JavaVersionSpecific.get()
+              .newBlockingTaskExecutor("otel-jdk-http-sender", MAX_PLATFORM_THREADS);
+    }
     this.client = builder.build();
     try {
       this.uri = new URI(endpoint);
     } catch (URISyntaxException e) {
       throw new IllegalArgumentException(e);
     }
-    this.compressionEnabled = compressionEnabled;
+    this.compressor = compressor;
     this.contentType = contentType;
     this.timeoutNanos = timeoutNanos;
     this.headerSupplier = headerSupplier;
@@ -88,7 +116,7 @@ public final class JdkHttpSender implements HttpSender {
       Consumer<Response> onResponse,
       Consumer<Throwable> onError) {
     CompletableFuture<HttpResponse<byte[]>> unused =
-        CompletableFuture.supplyAsync(() -> sendInternal(marshaler), executorService)
+        CompletableFuture.supplyAsync(() -> sendInternal(marshaler, contentLength), executorService)
             .whenComplete(
                 (httpResponse, throwable) -> {
                   if (throwable != null) {
@@ -99,48 +127,44 @@ public final class JdkHttpSender implements HttpSender {
                 });
   }
 
-  private HttpResponse<byte[]> sendInternal(Consumer<OutputStream> marshaler) {
+  private HttpResponse<byte[]> sendInternal(Consumer<OutputStream> marshaler, int contentLength) {
     long startTimeNanos = System.nanoTime();
     HttpRequest.Builder requestBuilder =
         HttpRequest.newBuilder().uri(uri).timeout(Duration.ofNanos(timeoutNanos));
     headerSupplier.get().forEach(requestBuilder::setHeader);
     requestBuilder.header("Content-Type", contentType);
-
-    NoCopyByteArrayOutputStream os = threadLocalBaos.get();
-    os.reset();
-    if (compressionEnabled) {
-      requestBuilder.header("Content-Encoding", "gzip");
-      try (GZIPOutputStream gzos = new GZIPOutputStream(os)) {
-        marshaler.accept(gzos);
-      } catch (IOException e) {
-        throw new IllegalStateException(e);
-      }
-    } else {
-      marshaler.accept(os);
+    if (compressor != null) {
+      requestBuilder.header("Content-Encoding", compressor.getEncoding());
     }
 
-    ByteBufferPool byteBufferPool = threadLocalByteBufPool.get();
-    requestBuilder.POST(new BodyPublisher(os.buf(), os.size(), byteBufferPool::getBuffer));
-
     // If no retry policy, short circuit
     if (retryPolicy == null) {
-      return sendRequest(requestBuilder, byteBufferPool);
+      return sendRequest(requestBuilder, marshaler, contentLength);
     }
 
     long attempt = 0;
     long nextBackoffNanos = retryPolicy.getInitialBackoff().toNanos();
     do {
       requestBuilder.timeout(Duration.ofNanos(timeoutNanos - (System.nanoTime() - startTimeNanos)));
-      HttpResponse<byte[]> httpResponse = sendRequest(requestBuilder, byteBufferPool);
+      HttpResponse<byte[]> httpResponse = sendRequest(requestBuilder, marshaler, contentLength);
       attempt++;
       if (attempt >= retryPolicy.getMaxAttempts()
           || !retryableStatusCodes.contains(httpResponse.statusCode())) {
         return httpResponse;
       }
 
-      // Compute and sleep for backoff
-      long upperBoundNanos = Math.min(nextBackoffNanos, retryPolicy.getMaxBackoff().toNanos());
-      long backoffNanos = ThreadLocalRandom.current().nextLong(upperBoundNanos);
+      // Compute and sleep for backoff, unless the server asked for a delay
+      long maxBackoffNanos = retryPolicy.getMaxBackoff().toNanos();
+      long backoffNanos =
+          RetryUtil.parseRetryAfterNanos(
+              httpResponse.headers().firstValue("Retry-After").orElse(null));
+      if (backoffNanos > maxBackoffNanos) {
+        return httpResponse;
+      }
+      if (backoffNanos < 0) {
+        long upperBoundNanos = Math.min(nextBackoffNanos, maxBackoffNanos);
+        backoffNanos = ThreadLocalRandom.current().nextLong(upperBoundNanos);
+      }
       nextBackoffNanos = (long) (nextBackoffNanos * retryPolicy.getBackoffMultiplier());
       try {
         TimeUnit.NANOSECONDS.sleep(backoffNanos);
@@ -154,28 +178,60 @@ public final class JdkHttpSender implements HttpSender {
     } while (true);
   }
 
+  /**
+   * Sends a single attempt, marshaling the body on the calling thread while the client writes it to
+   * the connection. The body is marshaled again for every attempt instead of being kept in memory.
+   */
   private HttpResponse<byte[]> sendRequest(
-      HttpRequest.Builder requestBuilder, ByteBufferPool byteBufferPool) {
-    try {
-      return client.send(requestBuilder.build(), HttpResponse.BodyHandlers.ofByteArray());
-    } catch (IOException | InterruptedException e) {
-      if (e instanceof InterruptedException) {
+      HttpRequest.Builder requestBuilder, Consumer<OutputStream> marshaler, int contentLength) {
+    if (streamPermits != null) {
+      try {
+        streamPermits.acquire();
+      } catch (InterruptedException e) {
         Thread.currentThread().interrupt();
+        throw new IllegalStateException(e);
       }
-      // TODO: is throwable retryable?
-      throw new IllegalStateException(e);
+    }
+    activeRequests.incrementAndGet();
+    try {
+      return sendRequestInternal(requestBuilder, marshaler, contentLength);
     } finally {
-      byteBufferPool.resetPool();
+      activeRequests.decrementAndGet();
+      if (streamPermits != null) {
+        streamPermits.release();
+      }
     }
   }
 
-  private static class NoCopyByteArrayOutputStream extends ByteArrayOutputStream {
-    NoCopyByteArrayOutputStream() {
-      super(retryableStatusCodes.size());
+  private HttpResponse<byte[]> sendRequestInternal(
+      HttpRequest.Builder requestBuilder, Consumer<OutputStream> marshaler, int contentLength) {
+    // Compressed size is unknown up front, send it chunked.
+    StreamingBodyPublisher body =
+        new StreamingBodyPublisher(
+            compressor != null ? -1 : contentLength, CHUNK_SIZE, MAX_PENDING_CHUNKS);
+    CompletableFuture<HttpResponse<byte[]>> responseFuture =
+        client
+            .sendAsync(requestBuilder.POST(body).build(), HttpResponse.BodyHandlers.ofByteArray())
+            // A response may arrive before the whole body is written, unblock the marshaler.
+            .whenComplete((response, throwable) -> body.abort());
+
+    try (OutputStream os =
+        compressor != null ? compressor.compress(body.outputStream()) : body.outputStream()) {
+      marshaler.accept(os);
+    } catch (IOException | RuntimeException e) {
+      // Also reached when the request completed early, in which case this is a no-op.
+      body.fail(e);
     }
 
-    private byte[] buf() {
-      return buf;
+    try {
+      return responseFuture.get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      responseFuture.cancel(true);
+      throw new IllegalStateException(e);
+    } catch (ExecutionException e) {
+      // TODO: is throwable retryable?
+      throw new IllegalStateException(e.getCause());
     }
   }
 
@@ -195,33 +251,39 @@ public final class JdkHttpSender implements HttpSender {
       public byte[] responseBody() {
         return response.body();
       }
+
+      @Override
+      @Nullable
+      public String header(String name) {
+        return response.headers().firstValue(name).orElse(null);
+      }
     };
   }
 
-  private static class ByteBufferPool {
-
-    // TODO: make configurable?
-    private static final int BUF_SIZE = 16 * 1024;
+  @Override
+  public ConnectionStats connectionStats() {
+    return new ConnectionStats() {
+      // The client does not expose its connections.
+      @Override
+      public boolean tracksConnections() {
+        return false;
+      }
 
-    private final ConcurrentLinkedQueue<ByteBuffer> pool = new ConcurrentLinkedQueue<>();
-    private final ConcurrentLinkedQueue<ByteBuffer> out = new ConcurrentLinkedQueue<>();
+      @Override
+      public int openConnections() {
+        return 0;
+      }
 
-    private ByteBuffer getBuffer() {
-      ByteBuffer buffer = pool.poll();
-      if (buffer == null) {
-        buffer = ByteBuffer.allocate(BUF_SIZE);
+      @Override
+      public int idleConnections() {
+        return 0;
       }
-      out.offer(buffer);
-      return buffer;
-    }
 
-    private void resetPool() {
-      ByteBuffer buf = out.poll();
-      while (buf != null) {
-        pool.offer(buf);
-        buf = out.poll();
+      @Override
+      public int activeRequests() {
+        return activeRequests.get();
       }
-    }
+    };
   }
 
   @Override
@@ -6,6 +6,8 @@
 package io.opentelemetry.exporter.sender.jdk.internal;
 
 import io.opentelemetry.exporter.internal.auth.Authenticator;
+import io.opentelemetry.exporter.internal.compression.Compressor;
+import io.opentelemetry.exporter.internal.http.Http2Config;
 import io.opentelemetry.exporter.internal.http.HttpSender;
 import io.opentelemetry.exporter.internal.http.HttpSenderProvider;
 import io.opentelemetry.sdk.common.export.RetryPolicy;
@@ -26,7 +28,7 @@ public final class JdkHttpSenderProvider implements HttpSenderProvider {
   @Override
   public HttpSender createSender(
       String endpoint,
-      boolean compressionEnabled,
+      @Nullable Compressor compressor,
       String contentType,
       long timeoutNanos,
       Supplier<Map<String, String>> headerSupplier,
@@ -34,13 +36,39 @@ public final class JdkHttpSenderProvider implements HttpSenderProvider {
       @Nullable RetryPolicy retryPolicy,
       @Nullable SSLContext sslContext,
       @Nullable X509TrustManager trustManager) {
+    return createSender(
+        endpoint,
+        compressor,
+        contentType,
+        timeoutNanos,
+        headerSupplier,
+        authenticator,
+        retryPolicy,
+        sslContext,
+        trustManager,
+        null);
+  }
+
+  @Override
+  public HttpSender createSender(
+      String endpoint,
+      @Nullable Compressor compressor,
+      String contentType,
+      long timeoutNanos,
+      Supplier<Map<String, String>> headerSupplier,
+      @Nullable Authenticator authenticator,
+      @Nullable RetryPolicy retryPolicy,
+      @Nullable SSLContext sslContext,
+      @Nullable X509TrustManager trustManager,
+      @Nullable Http2Config http2Config) {
     return new JdkHttpSender(
         endpoint,
-        compressionEnabled,
+        compressor,
         contentType,
         timeoutNanos,
         headerSupplier,
         retryPolicy,
-        sslContext);
+        sslContext,
+        http2Config);
   }
 }
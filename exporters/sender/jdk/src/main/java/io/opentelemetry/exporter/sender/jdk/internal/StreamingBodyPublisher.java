@@ -0,0 +1,308 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.exporter.sender.jdk.internal;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.net.http.HttpRequest;
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.Flow;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import javax.annotation.Nullable;
+
+/**
+ * A {@link HttpRequest.BodyPublisher} fed by a producer thread writing to {@link #outputStream()}.
+ * Bytes are handed to the HTTP client in fixed size chunks as they are written, and the producer
+ * blocks once {@code maxPendingChunks} chunks are waiting for demand, so the memory used by a
+ * request is bounded by the chunk size rather than by the size of the request.
+ *
+ * <p>A publisher is good for a single request attempt: the body is written once, so a second
+ * subscription is rejected.
+ */
+final class StreamingBodyPublisher implements HttpRequest.BodyPublisher {
+
+  private final long contentLength;
+  private final int chunkSize;
+  private final int maxPendingChunks;
+
+  // Not a monitor, so that a producer on a virtual thread blocking for demand doesn't pin its
+  // carrier thread
+  private final ReentrantLock lock = new ReentrantLock();
+  // Signaled once pending chunks are taken or dropped
+  private final Condition notFull = lock.newCondition();
+  private final Queue<ByteBuffer> pending = new ArrayDeque<>();
+
+  // Guarded by lock
+  @Nullable private Flow.Subscriber<? super ByteBuffer> subscriber;
+  private long demand;
+  private boolean draining;
+  private boolean completed;
+  private boolean terminated;
+  private boolean cancelled;
+  @Nullable private Throwable error;
+
+  /**
+   * Creates a publisher of a body of {@code contentLength} bytes, or of unknown length if negative,
+   * in which case the body is sent with chunked transfer encoding.
+   */
+  StreamingBodyPublisher(long contentLength, int chunkSize, int maxPendingChunks) {
+    this.contentLength = contentLength;
+    this.chunkSize = chunkSize;
+    this.maxPendingChunks = maxPendingChunks;
+  }
+
+  @Override
+  public long contentLength() {
+    return contentLength;
+  }
+
+  @Override
+  public void subscribe(Flow.Subscriber<? super ByteBuffer> subscriber) {
+    boolean alreadySubscribed;
+    lock.lock();
+    try {
+      alreadySubscribed = this.subscriber != null;
+      if (!alreadySubscribed) {
+        this.subscriber = subscriber;
+      }
+    } finally {
+      lock.unlock();
+    }
+    if (alreadySubscribed) {
+      subscriber.onSubscribe(
+          new Flow.Subscription() {
+            @Override
+            public void request(long n) {}
+
+            @Override
+            public void cancel() {}
+          });
+      subscriber.onError(new IllegalStateException("Streaming body can only be sent once"));
+      return;
+    }
+    subscriber.onSubscribe(new Subscription());
+    drain();
+  }
+
+  /** Returns the stream the body is written to. It must be closed once the body is complete. */
+  OutputStream outputStream() {
+    return new ChunkedOutputStream();
+  }
+
+  /** Fails the body with {@code t}, e.g. when the producer could not write it. */
+  void fail(Throwable t) {
+    lock.lock();
+    try {
+      if (completed) {
+        return;
+      }
+      completed = true;
+      error = t;
+    } finally {
+      lock.unlock();
+    }
+    drain();
+  }
+
+  /**
+   * Unblocks the producer and drops unsent chunks, used once the request completes before the body
+   * was fully consumed.
+   */
+  void abort() {
+    lock.lock();
+    try {
+      cancelled = true;
+      pending.clear();
+      notFull.signalAll();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  private void publish(ByteBuffer chunk) throws IOException {
+    lock.lock();
+    try {
+      while (pending.size() >= maxPendingChunks && !cancelled && error == null) {
+        try {
+          notFull.await();
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+          throw new InterruptedIOException("Interrupted while sending request body");
+        }
+      }
+      if (cancelled) {
+        throw new IOException("Request completed before the body was sent");
+      }
+      if (error != null) {
+        throw new IOException("Request body failed", error);
+      }
+      pending.add(chunk);
+    } finally {
+      lock.unlock();
+    }
+    drain();
+  }
+
+  private void complete() {
+    lock.lock();
+    try {
+      completed = true;
+    } finally {
+      lock.unlock();
+    }
+    drain();
+  }
+
+  // Delivers pending chunks and the terminal signal, serializing calls to the subscriber between
+  // the producer and the HTTP client threads requesting more.
+  private void drain() {
+    Flow.Subscriber<? super ByteBuffer> subscriber;
+    lock.lock();
+    try {
+      if (draining || this.subscriber == null) {
+        return;
+      }
+      draining = true;
+      subscriber = this.subscriber;
+    } finally {
+      lock.unlock();
+    }
+    while (true) {
+      ByteBuffer next = null;
+      Throwable failure = null;
+      lock.lock();
+      try {
+        if (cancelled || terminated) {
+          draining = false;
+          return;
+        }
+        if (error != null || (completed && pending.isEmpty())) {
+          // A failed body is not worth sending any further
+          terminated = true;
+          failure = error;
+          pending.clear();
+        } else if (demand > 0 && !pending.isEmpty()) {
+          next = pending.poll();
+          demand--;
+          notFull.signalAll();
+        } else {
+          draining = false;
+          return;
+        }
+      } finally {
+        lock.unlock();
+      }
+      if (next != null) {
+        subscriber.onNext(next);
+        continue;
+      }
+      if (failure != null) {
+        subscriber.onError(failure);
+      } else {
+        subscriber.onComplete();
+      }
+      lock.lock();
+      try {
+        draining = false;
+      } finally {
+        lock.unlock();
+      }
+      return;
+    }
+  }
+
+  private final class Subscription implements Flow.Subscription {
+
+    @Override
+    public void request(long n) {
+      lock.lock();
+      try {
+        if (n <= 0) {
+          if (!completed) {
+            completed = true;
+            error = new IllegalArgumentException("Subscription request must be >= 0");
+          }
+          pending.clear();
+          notFull.signalAll();
+        } else {
+          demand = demand + n < 0 ? Long.MAX_VALUE : demand + n;
+        }
+      } finally {
+        lock.unlock();
+      }
+      drain();
+    }
+
+    @Override
+    public void cancel() {
+      abort();
+    }
+  }
+
+  private final class ChunkedOutputStream extends OutputStream {
+
+    @Nullable private ByteBuffer chunk;
+    private boolean closed;
+
+    @Override
+    public void write(int b) throws IOException {
+      currentChunk().put((byte) b);
+      flushIfFull();
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+      while (len > 0) {
+        ByteBuffer current = currentChunk();
+        int toWrite = Math.min(current.remaining(), len);
+        current.put(b, off, toWrite);
+        off += toWrite;
+        len -= toWrite;
+        flushIfFull();
+      }
+    }
+
+    @Override
+    public void close() throws IOException {
+      if (closed) {
+        return;
+      }
+      closed = true;
+      if (chunk != null && chunk.position() > 0) {
+        publishChunk();
+      }
+      complete();
+    }
+
+    private ByteBuffer currentChunk() throws IOException {
+      if (closed) {
+        throw new IOException("Stream closed");
+      }
+      if (chunk == null) {
+        // The HTTP client does not tell when it is done with a chunk, so they are not reused.
+        chunk = ByteBuffer.allocate(chunkSize);
+      }
+      return chunk;
+    }
+
+    private void flushIfFull() throws IOException {
+      if (chunk != null && !chunk.hasRemaining()) {
+        publishChunk();
+      }
+    }
+
+    private void publishChunk() throws IOException {
+      ByteBuffer full = chunk;
+      chunk = null;
+      full.flip();
+      publish(full);
+    }
+  }
+}
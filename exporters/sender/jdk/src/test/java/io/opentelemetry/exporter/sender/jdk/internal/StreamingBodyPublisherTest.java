@@ -0,0 +1,307 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.exporter.sender.jdk.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.opentelemetry.exporter.internal.compression.GzipCompressor;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.zip.GZIPInputStream;
+import javax.annotation.Nullable;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class StreamingBodyPublisherTest {
+
+  private static final int CHUNK_SIZE = 4;
+  private static final int MAX_PENDING_CHUNKS = 2;
+
+  private ExecutorService producer;
+
+  @BeforeEach
+  void setUp() {
+    producer = Executors.newSingleThreadExecutor();
+  }
+
+  @AfterEach
+  void tearDown() {
+    producer.shutdownNow();
+  }
+
+  @Test
+  void contentLength() {
+    assertThat(new StreamingBodyPublisher(10, CHUNK_SIZE, MAX_PENDING_CHUNKS).contentLength())
+        .isEqualTo(10);
+    assertThat(new StreamingBodyPublisher(-1, CHUNK_SIZE, MAX_PENDING_CHUNKS).contentLength())
+        .isEqualTo(-1);
+  }
+
+  @Test
+  void publishesChunksInOrder() throws Exception {
+    StreamingBodyPublisher publisher =
+        new StreamingBodyPublisher(10, CHUNK_SIZE, MAX_PENDING_CHUNKS);
+    TestSubscriber subscriber = new TestSubscriber(Long.MAX_VALUE);
+    publisher.subscribe(subscriber);
+
+    try (OutputStream os = publisher.outputStream()) {
+      os.write(new byte[] {0, 1, 2, 3, 4, 5});
+      os.write(6);
+      os.write(new byte[] {7, 8, 9});
+    }
+
+    assertThat(subscriber.awaitTermination()).isTrue();
+    assertThat(subscriber.error).isNull();
+    assertThat(subscriber.chunkSizes).containsExactly(4, 4, 2);
+    assertThat(subscriber.bytes()).containsExactly(0, 1, 2, 3, 4, 5, 6, 7, 8, 9);
+  }
+
+  @Test
+  void producerBlocksAtMaxPendingChunks() throws Exception {
+    StreamingBodyPublisher publisher =
+        new StreamingBodyPublisher(16, CHUNK_SIZE, MAX_PENDING_CHUNKS);
+    TestSubscriber subscriber = new TestSubscriber(0);
+    publisher.subscribe(subscriber);
+
+    Future<?> body = producer.submit(() -> writeBody(publisher.outputStream(), 16));
+
+    // Two chunks are pending, the third one waits for demand
+    assertThatThrownBy(() -> body.get(100, TimeUnit.MILLISECONDS))
+        .isInstanceOf(TimeoutException.class);
+    assertThat(subscriber.chunkSizes).isEmpty();
+
+    subscriber.request(1);
+    assertThat(subscriber.chunkSizes).containsExactly(4);
+    // The fourth chunk waits for demand again
+    assertThatThrownBy(() -> body.get(100, TimeUnit.MILLISECONDS))
+        .isInstanceOf(TimeoutException.class);
+
+    subscriber.request(Long.MAX_VALUE);
+    body.get(5, TimeUnit.SECONDS);
+    assertThat(subscriber.awaitTermination()).isTrue();
+    assertThat(subscriber.error).isNull();
+    assertThat(subscriber.bytes()).isEqualTo(expectedBody(16));
+  }
+
+  @Test
+  void abortUnblocksProducer() {
+    StreamingBodyPublisher publisher =
+        new StreamingBodyPublisher(16, CHUNK_SIZE, MAX_PENDING_CHUNKS);
+    TestSubscriber subscriber = new TestSubscriber(0);
+    publisher.subscribe(subscriber);
+
+    Future<?> body = producer.submit(() -> writeBody(publisher.outputStream(), 16));
+    assertThatThrownBy(() -> body.get(100, TimeUnit.MILLISECONDS))
+        .isInstanceOf(TimeoutException.class);
+
+    // As done once the response arrives before the body was consumed
+    publisher.abort();
+
+    assertThatThrownBy(() -> body.get(5, TimeUnit.SECONDS))
+        .isInstanceOf(ExecutionException.class)
+        .hasCauseInstanceOf(IOException.class)
+        .hasRootCauseMessage("Request completed before the body was sent");
+    // Unsent chunks are dropped
+    subscriber.request(Long.MAX_VALUE);
+    assertThat(subscriber.chunkSizes).isEmpty();
+  }
+
+  @Test
+  void cancelUnblocksProducer() {
+    StreamingBodyPublisher publisher =
+        new StreamingBodyPublisher(16, CHUNK_SIZE, MAX_PENDING_CHUNKS);
+    TestSubscriber subscriber = new TestSubscriber(0);
+    publisher.subscribe(subscriber);
+
+    Future<?> body = producer.submit(() -> writeBody(publisher.outputStream(), 16));
+    assertThatThrownBy(() -> body.get(100, TimeUnit.MILLISECONDS))
+        .isInstanceOf(TimeoutException.class);
+
+    subscriber.subscription.cancel();
+
+    assertThatThrownBy(() -> body.get(5, TimeUnit.SECONDS))
+        .isInstanceOf(ExecutionException.class)
+        .hasCauseInstanceOf(IOException.class);
+  }
+
+  @Test
+  void secondSubscriptionFails() throws Exception {
+    StreamingBodyPublisher publisher =
+        new StreamingBodyPublisher(2, CHUNK_SIZE, MAX_PENDING_CHUNKS);
+    TestSubscriber first = new TestSubscriber(Long.MAX_VALUE);
+    publisher.subscribe(first);
+
+    TestSubscriber second = new TestSubscriber(Long.MAX_VALUE);
+    publisher.subscribe(second);
+
+    assertThat(second.awaitTermination()).isTrue();
+    assertThat(second.error)
+        .isInstanceOf(IllegalStateException.class)
+        .hasMessage("Streaming body can only be sent once");
+
+    // The first subscription is not affected
+    writeBody(publisher.outputStream(), 2);
+    assertThat(first.awaitTermination()).isTrue();
+    assertThat(first.error).isNull();
+    assertThat(first.bytes()).isEqualTo(expectedBody(2));
+    assertThat(second.chunkSizes).isEmpty();
+  }
+
+  @Test
+  void nonPositiveRequestFailsBody() throws Exception {
+    StreamingBodyPublisher publisher =
+        new StreamingBodyPublisher(16, CHUNK_SIZE, MAX_PENDING_CHUNKS);
+    TestSubscriber subscriber = new TestSubscriber(0);
+    publisher.subscribe(subscriber);
+
+    Future<?> body = producer.submit(() -> writeBody(publisher.outputStream(), 16));
+    assertThatThrownBy(() -> body.get(100, TimeUnit.MILLISECONDS))
+        .isInstanceOf(TimeoutException.class);
+
+    subscriber.request(0);
+
+    assertThat(subscriber.awaitTermination()).isTrue();
+    assertThat(subscriber.error)
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Subscription request must be >= 0");
+    assertThat(subscriber.chunkSizes).isEmpty();
+    // The producer doesn't wait for demand that never comes
+    assertThatThrownBy(() -> body.get(5, TimeUnit.SECONDS))
+        .isInstanceOf(ExecutionException.class)
+        .hasCauseInstanceOf(IOException.class)
+        .hasRootCauseInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  void failDeliversError() throws Exception {
+    StreamingBodyPublisher publisher =
+        new StreamingBodyPublisher(16, CHUNK_SIZE, MAX_PENDING_CHUNKS);
+    TestSubscriber subscriber = new TestSubscriber(0);
+    publisher.subscribe(subscriber);
+
+    OutputStream os = publisher.outputStream();
+    os.write(expectedBody(8));
+    IOException failure = new IOException("Marshaling failed");
+    publisher.fail(failure);
+
+    // Pending chunks are dropped rather than sent ahead of the error
+    assertThat(subscriber.awaitTermination()).isTrue();
+    assertThat(subscriber.error).isSameAs(failure);
+    assertThat(subscriber.chunkSizes).isEmpty();
+    assertThatThrownBy(() -> os.write(expectedBody(8)))
+        .isInstanceOf(IOException.class)
+        .hasCause(failure);
+  }
+
+  @Test
+  void compressedBodyIsChunked() throws Exception {
+    StreamingBodyPublisher publisher = new StreamingBodyPublisher(-1, 16, MAX_PENDING_CHUNKS);
+    TestSubscriber subscriber = new TestSubscriber(Long.MAX_VALUE);
+    publisher.subscribe(subscriber);
+
+    byte[] expected = new byte[10_000];
+    for (int i = 0; i < expected.length; i++) {
+      expected[i] = (byte) (i % 7 == 0 ? i : 'a');
+    }
+    try (OutputStream os = GzipCompressor.getInstance().compress(publisher.outputStream())) {
+      os.write(expected);
+    }
+
+    assertThat(subscriber.awaitTermination()).isTrue();
+    assertThat(subscriber.error).isNull();
+    assertThat(subscriber.chunkSizes.size()).isGreaterThan(1);
+    assertThat(subscriber.chunkSizes.subList(0, subscriber.chunkSizes.size() - 1))
+        .containsOnly(16);
+    try (InputStream is = new GZIPInputStream(new ByteArrayInputStream(subscriber.bytes()))) {
+      assertThat(is.readAllBytes()).isEqualTo(expected);
+    }
+  }
+
+  private static Void writeBody(OutputStream os, int length) throws IOException {
+    try (OutputStream body = os) {
+      body.write(expectedBody(length));
+    }
+    return null;
+  }
+
+  private static byte[] expectedBody(int length) {
+    byte[] body = new byte[length];
+    for (int i = 0; i < length; i++) {
+      body[i] = (byte) i;
+    }
+    return body;
+  }
+
+  private static final class TestSubscriber implements Flow.Subscriber<ByteBuffer> {
+
+    private final long initialDemand;
+    private final ByteArrayOutputStream received = new ByteArrayOutputStream();
+    private final List<Integer> chunkSizes = new CopyOnWriteArrayList<>();
+    private final CountDownLatch terminated = new CountDownLatch(1);
+
+    @Nullable private Flow.Subscription subscription;
+    @Nullable private volatile Throwable error;
+
+    private TestSubscriber(long initialDemand) {
+      this.initialDemand = initialDemand;
+    }
+
+    @Override
+    public void onSubscribe(Flow.Subscription subscription) {
+      this.subscription = subscription;
+      if (initialDemand > 0) {
+        subscription.request(initialDemand);
+      }
+    }
+
+    @Override
+    public synchronized void onNext(ByteBuffer item) {
+      chunkSizes.add(item.remaining());
+      byte[] bytes = new byte[item.remaining()];
+      item.get(bytes);
+      received.write(bytes, 0, bytes.length);
+    }
+
+    @Override
+    public void onError(Throwable throwable) {
+      error = throwable;
+      terminated.countDown();
+    }
+
+    @Override
+    public void onComplete() {
+      terminated.countDown();
+    }
+
+    void request(long n) {
+      subscription.request(n);
+    }
+
+    synchronized byte[] bytes() {
+      return received.toByteArray();
+    }
+
+    boolean awaitTermination() throws InterruptedException {
+      return terminated.await(5, TimeUnit.SECONDS);
+    }
+  }
+}
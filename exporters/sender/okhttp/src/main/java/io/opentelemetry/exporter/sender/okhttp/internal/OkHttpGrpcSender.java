@@ -24,6 +24,7 @@
 package io.opentelemetry.exporter.sender.okhttp.internal;
 
 import io.opentelemetry.exporter.internal.RetryUtil;
+import io.opentelemetry.exporter.internal.compression.Compressor;
 import io.opentelemetry.exporter.internal.grpc.GrpcExporterUtil;
 import io.opentelemetry.exporter.internal.grpc.GrpcResponse;
 import io.opentelemetry.exporter.internal.grpc.GrpcSender;
@@ -61,16 +62,17 @@ public final class OkHttpGrpcSender<T extends Marshaler> implements GrpcSender<T
 
   private static final String GRPC_STATUS = "grpc-status";
   private static final String GRPC_MESSAGE = "grpc-message";
+  private static final String GRPC_RETRY_PUSHBACK_MS = "grpc-retry-pushback-ms";
 
   private final OkHttpClient client;
   private final HttpUrl url;
   private final Headers headers;
-  private final boolean compressionEnabled;
+  @Nullable private final Compressor compressor;
 
   /** Creates a new {@link OkHttpGrpcSender}. */
   public OkHttpGrpcSender(
       String endpoint,
-      boolean compressionEnabled,
+      @Nullable Compressor compressor,
       long timeoutNanos,
       Map<String, String> headers,
       @Nullable RetryPolicy retryPolicy,
@@ -97,19 +99,19 @@ public final class OkHttpGrpcSender<T extends Marshaler> implements GrpcSender<T
     Headers.Builder headersBuilder = new Headers.Builder();
     headers.forEach(headersBuilder::add);
     headersBuilder.add("te", "trailers");
-    if (compressionEnabled) {
-      headersBuilder.add("grpc-encoding", "gzip");
+    if (compressor != null) {
+      headersBuilder.add("grpc-encoding", compressor.getEncoding());
     }
     this.headers = headersBuilder.build();
     this.url = HttpUrl.get(endpoint);
-    this.compressionEnabled = compressionEnabled;
+    this.compressor = compressor;
   }
 
   @Override
   public void send(T request, Runnable onSuccess, BiConsumer<GrpcResponse, Throwable> onError) {
     Request.Builder requestBuilder = new Request.Builder().url(url).headers(headers);
 
-    RequestBody requestBody = new GrpcRequestBody(request, compressionEnabled);
+    RequestBody requestBody = new GrpcRequestBody(request, compressor);
     requestBuilder.post(requestBody);
 
     client
@@ -153,7 +155,8 @@ public final class OkHttpGrpcSender<T extends Marshaler> implements GrpcSender<T
                   statusCode = GrpcExporterUtil.GRPC_STATUS_UNKNOWN;
                 }
                 onError.accept(
-                    GrpcResponse.create(statusCode, errorMessage),
+                    GrpcResponse.create(
+                        statusCode, errorMessage, grpcMetadata(response, GRPC_RETRY_PUSHBACK_MS)),
                     new IllegalStateException(errorMessage));
               }
             });
@@ -174,6 +177,19 @@ public final class OkHttpGrpcSender<T extends Marshaler> implements GrpcSender<T
     return grpcStatus;
   }
 
+  @Nullable
+  private static String grpcMetadata(Response response, String name) {
+    String value = response.header(name);
+    if (value == null) {
+      try {
+        value = response.trailers().get(name);
+      } catch (IOException e) {
+        // Fall through
+      }
+    }
+    return value;
+  }
+
   private static String grpcMessage(Response response) {
     String message = response.header(GRPC_MESSAGE);
     if (message == null) {
@@ -6,6 +6,7 @@
 package io.opentelemetry.exporter.sender.okhttp.internal;
 
 import io.grpc.Channel;
+import io.opentelemetry.exporter.internal.compression.Compressor;
 import io.opentelemetry.exporter.internal.grpc.GrpcSender;
 import io.opentelemetry.exporter.internal.grpc.GrpcSenderProvider;
 import io.opentelemetry.exporter.internal.grpc.MarshalerServiceStub;
@@ -31,7 +32,7 @@ public class OkHttpGrpcSenderProvider implements GrpcSenderProvider {
   public <T extends Marshaler> GrpcSender<T> createSender(
       URI endpoint,
       String endpointPath,
-      boolean compressionEnabled,
+      @Nullable Compressor compressor,
       long timeoutNanos,
       Map<String, String> headers,
       @Nullable Object managedChannel,
@@ -41,7 +42,7 @@ public class OkHttpGrpcSenderProvider implements GrpcSenderProvider {
       @Nullable X509TrustManager trustManager) {
     return new OkHttpGrpcSender<>(
         endpoint.resolve(endpointPath).toString(),
-        compressionEnabled,
+        compressor,
         timeoutNanos,
         headers,
         retryPolicy,
@@ -7,13 +7,18 @@ package io.opentelemetry.exporter.sender.okhttp.internal;
 
 import io.opentelemetry.exporter.internal.RetryUtil;
 import io.opentelemetry.exporter.internal.auth.Authenticator;
+import io.opentelemetry.exporter.internal.compression.Compressor;
+import io.opentelemetry.exporter.internal.http.Http2Config;
 import io.opentelemetry.exporter.internal.http.HttpSender;
 import io.opentelemetry.sdk.common.CompletableResultCode;
 import io.opentelemetry.sdk.common.export.RetryPolicy;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
 import javax.annotation.Nullable;
@@ -21,14 +26,16 @@ import javax.net.ssl.SSLContext;
 import javax.net.ssl.X509TrustManager;
 import okhttp3.Call;
 import okhttp3.Callback;
+import okhttp3.ConnectionPool;
+import okhttp3.Dispatcher;
 import okhttp3.HttpUrl;
 import okhttp3.MediaType;
 import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
 import okhttp3.Request;
 import okhttp3.RequestBody;
 import okhttp3.ResponseBody;
 import okio.BufferedSink;
-import okio.GzipSink;
 import okio.Okio;
 
 /**
@@ -41,26 +48,43 @@ public final class OkHttpHttpSender implements HttpSender {
 
   private final OkHttpClient client;
   private final HttpUrl url;
-  private final boolean compressionEnabled;
+  @Nullable private final Compressor compressor;
   private final Supplier<Map<String, String>> headerSupplier;
   private final MediaType mediaType;
 
   /** Create a sender. */
   public OkHttpHttpSender(
       String endpoint,
-      boolean compressionEnabled,
+      @Nullable Compressor compressor,
       String contentType,
       long timeoutNanos,
       Supplier<Map<String, String>> headerSupplier,
       @Nullable Authenticator authenticator,
       @Nullable RetryPolicy retryPolicy,
       @Nullable SSLContext sslContext,
-      @Nullable X509TrustManager trustManager) {
+      @Nullable X509TrustManager trustManager,
+      @Nullable Http2Config http2Config) {
+    this.url = HttpUrl.get(endpoint);
+    Dispatcher dispatcher = OkHttpUtil.newDispatcher();
     OkHttpClient.Builder builder =
         new OkHttpClient.Builder()
-            .dispatcher(OkHttpUtil.newDispatcher())
+            .dispatcher(dispatcher)
             .callTimeout(Duration.ofNanos(timeoutNanos));
 
+    if (http2Config != null) {
+      // All requests go to one host, they share a single multiplexed connection.
+      dispatcher.setMaxRequests(http2Config.getMaxConcurrentStreams());
+      dispatcher.setMaxRequestsPerHost(http2Config.getMaxConcurrentStreams());
+      builder
+          .connectionPool(new ConnectionPool(1, 5, TimeUnit.MINUTES))
+          // h2 is negotiated with ALPN for https, h2c needs prior knowledge.
+          .protocols(
+              url.isHttps()
+                  ? Arrays.asList(Protocol.HTTP_2, Protocol.HTTP_1_1)
+                  : Collections.singletonList(Protocol.H2_PRIOR_KNOWLEDGE))
+          .pingInterval(Duration.ofNanos(http2Config.getPingIntervalNanos()));
+    }
+
     if (authenticator != null) {
       Authenticator finalAuthenticator = authenticator;
       // Generate and attach OkHttp Authenticator implementation
@@ -79,8 +103,7 @@ public final class OkHttpHttpSender implements HttpSender {
       builder.sslSocketFactory(sslContext.getSocketFactory(), trustManager);
     }
     this.client = builder.build();
-    this.url = HttpUrl.get(endpoint);
-    this.compressionEnabled = compressionEnabled;
+    this.compressor = compressor;
     this.mediaType = MediaType.parse(contentType);
     this.headerSupplier = headerSupplier;
   }
@@ -94,9 +117,9 @@ public final class OkHttpHttpSender implements HttpSender {
     Request.Builder requestBuilder = new Request.Builder().url(url);
     headerSupplier.get().forEach(requestBuilder::addHeader);
     RequestBody body = new RawRequestBody(marshaler, contentLength, mediaType);
-    if (compressionEnabled) {
-      requestBuilder.addHeader("Content-Encoding", "gzip");
-      requestBuilder.post(new GzipRequestBody(body));
+    if (compressor != null) {
+      requestBuilder.addHeader("Content-Encoding", compressor.getEncoding());
+      requestBuilder.post(new CompressedRequestBody(compressor, body));
     } else {
       requestBuilder.post(body);
     }
@@ -129,12 +152,38 @@ public final class OkHttpHttpSender implements HttpSender {
                         public byte[] responseBody() throws IOException {
                           return body.bytes();
                         }
+
+                        @Override
+                        @Nullable
+                        public String header(String name) {
+                          return response.header(name);
+                        }
                       });
                 }
               }
             });
   }
 
+  @Override
+  public ConnectionStats connectionStats() {
+    return new ConnectionStats() {
+      @Override
+      public int openConnections() {
+        return client.connectionPool().connectionCount();
+      }
+
+      @Override
+      public int idleConnections() {
+        return client.connectionPool().idleConnectionCount();
+      }
+
+      @Override
+      public int activeRequests() {
+        return client.dispatcher().runningCallsCount();
+      }
+    };
+  }
+
   @Override
   public CompletableResultCode shutdown() {
     client.dispatcher().cancelAll();
@@ -176,10 +225,12 @@ public final class OkHttpHttpSender implements HttpSender {
     }
   }
 
-  private static class GzipRequestBody extends RequestBody {
+  private static class CompressedRequestBody extends RequestBody {
+    private final Compressor compressor;
     private final RequestBody requestBody;
 
-    private GzipRequestBody(RequestBody requestBody) {
+    private CompressedRequestBody(Compressor compressor, RequestBody requestBody) {
+      this.compressor = compressor;
       this.requestBody = requestBody;
     }
 
@@ -195,9 +246,10 @@ public final class OkHttpHttpSender implements HttpSender {
 
     @Override
     public void writeTo(BufferedSink bufferedSink) throws IOException {
-      BufferedSink gzipSink = Okio.buffer(new GzipSink(bufferedSink));
-      requestBody.writeTo(gzipSink);
-      gzipSink.close();
+      BufferedSink compressedSink =
+          Okio.buffer(Okio.sink(compressor.compress(bufferedSink.outputStream())));
+      requestBody.writeTo(compressedSink);
+      compressedSink.close();
     }
   }
 }
@@ -5,6 +5,7 @@
 
 package io.opentelemetry.exporter.sender.okhttp.internal;
 
+import io.opentelemetry.exporter.internal.RetryUtil;
 import io.opentelemetry.sdk.common.export.RetryPolicy;
 import java.io.IOException;
 import java.net.SocketTimeoutException;
@@ -23,6 +24,9 @@ import okhttp3.Response;
  */
 public final class RetryInterceptor implements Interceptor {
 
+  private static final String GRPC_RETRY_PUSHBACK_MS = "grpc-retry-pushback-ms";
+  private static final String RETRY_AFTER = "Retry-After";
+
   private final RetryPolicy retryPolicy;
   private final Function<Response, Boolean> isRetryable;
   private final Function<IOException, Boolean> isRetryableException;
@@ -59,13 +63,19 @@ public final class RetryInterceptor implements Interceptor {
     IOException exception = null;
     int attempt = 0;
     long nextBackoffNanos = retryPolicy.getInitialBackoff().toNanos();
+    long maxBackoffNanos = retryPolicy.getMaxBackoff().toNanos();
+    long serverDelayNanos = -1;
     do {
       if (attempt > 0) {
-        // Compute and sleep for backoff
+        // Compute and sleep for backoff, unless the server asked for a delay
         // https://github.com/grpc/proposal/blob/master/A6-client-retries.md#exponential-backoff
-        long upperBoundNanos = Math.min(nextBackoffNanos, retryPolicy.getMaxBackoff().toNanos());
-        long backoffNanos = randomLong.get(upperBoundNanos);
+        long backoffNanos = serverDelayNanos;
+        if (backoffNanos < 0) {
+          long upperBoundNanos = Math.min(nextBackoffNanos, maxBackoffNanos);
+          backoffNanos = randomLong.get(upperBoundNanos);
+        }
         nextBackoffNanos = (long) (nextBackoffNanos * retryPolicy.getBackoffMultiplier());
+        serverDelayNanos = -1;
         try {
           sleeper.sleep(backoffNanos);
         } catch (InterruptedException e) {
@@ -84,8 +94,15 @@ public final class RetryInterceptor implements Interceptor {
       } catch (IOException e) {
         exception = e;
       }
-      if (response != null && !Boolean.TRUE.equals(isRetryable.apply(response))) {
-        return response;
+      if (response != null) {
+        if (!Boolean.TRUE.equals(isRetryable.apply(response))) {
+          return response;
+        }
+        serverDelayNanos = serverDelayNanos(response);
+        if (serverDelayNanos > maxBackoffNanos) {
+          // Also the case when the server asks not to retry.
+          return response;
+        }
       }
       if (exception != null && !Boolean.TRUE.equals(isRetryableException.apply(exception))) {
         throw exception;
@@ -98,6 +115,15 @@ public final class RetryInterceptor implements Interceptor {
     throw exception;
   }
 
+  // The delay requested by the server with grpc-retry-pushback-ms or Retry-After, or -1.
+  private static long serverDelayNanos(Response response) {
+    String pushbackMs = response.header(GRPC_RETRY_PUSHBACK_MS);
+    if (pushbackMs != null) {
+      return RetryUtil.parseGrpcRetryPushbackNanos(pushbackMs);
+    }
+    return RetryUtil.parseRetryAfterNanos(response.header(RETRY_AFTER));
+  }
+
   // Visible for testing
   static boolean isRetryableException(IOException e) {
     if (!(e instanceof SocketTimeoutException)) {
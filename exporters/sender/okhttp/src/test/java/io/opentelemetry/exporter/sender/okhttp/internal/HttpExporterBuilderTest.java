@@ -5,11 +5,19 @@
 
 package io.opentelemetry.exporter.sender.okhttp.internal;
 
+import static org.assertj.core.api.Assertions.as;
 import static org.assertj.core.api.Assertions.assertThat;
 
+import io.opentelemetry.exporter.internal.compression.GzipCompressor;
+import io.opentelemetry.exporter.internal.http.Http2Config;
 import io.opentelemetry.exporter.internal.http.HttpExporter;
 import io.opentelemetry.exporter.internal.http.HttpExporterBuilder;
+import io.opentelemetry.exporter.internal.http.HttpSender;
 import io.opentelemetry.exporter.internal.marshal.Marshaler;
+import java.util.concurrent.TimeUnit;
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
+import org.assertj.core.api.InstanceOfAssertFactories;
 import org.junit.jupiter.api.Test;
 
 class HttpExporterBuilderTest {
@@ -28,8 +36,8 @@ class HttpExporterBuilderTest {
                   assertThat(otlp)
                       .extracting("httpSender")
                       .isInstanceOf(OkHttpHttpSender.class)
-                      .extracting("compressionEnabled")
-                      .isEqualTo(false));
+                      .extracting("compressor")
+                      .isNull());
     } finally {
       exporter.shutdown();
     }
@@ -46,8 +54,8 @@ class HttpExporterBuilderTest {
                   assertThat(otlp)
                       .extracting("httpSender")
                       .isInstanceOf(OkHttpHttpSender.class)
-                      .extracting("compressionEnabled")
-                      .isEqualTo(false));
+                      .extracting("compressor")
+                      .isNull());
     } finally {
       exporter.shutdown();
     }
@@ -64,8 +72,8 @@ class HttpExporterBuilderTest {
                   assertThat(otlp)
                       .extracting("httpSender")
                       .isInstanceOf(OkHttpHttpSender.class)
-                      .extracting("compressionEnabled")
-                      .isEqualTo(true));
+                      .extracting("compressor")
+                      .isEqualTo(GzipCompressor.getInstance()));
     } finally {
       exporter.shutdown();
     }
@@ -83,8 +91,59 @@ class HttpExporterBuilderTest {
                   assertThat(otlp)
                       .extracting("httpSender")
                       .isInstanceOf(OkHttpHttpSender.class)
-                      .extracting("compressionEnabled")
-                      .isEqualTo(false));
+                      .extracting("compressor")
+                      .isNull());
+    } finally {
+      exporter.shutdown();
+    }
+  }
+
+  @Test
+  void http2() {
+    HttpExporter<Marshaler> exporter =
+        builder.setHttp2(Http2Config.create(16, TimeUnit.SECONDS.toNanos(10))).build();
+    try {
+      assertThat(exporter)
+          .extracting("httpSender")
+          .isInstanceOfSatisfying(
+              OkHttpHttpSender.class,
+              sender -> {
+                assertThat(sender)
+                    .extracting("client", as(InstanceOfAssertFactories.type(OkHttpClient.class)))
+                    .satisfies(
+                        client -> {
+                          // h2c for http endpoints
+                          assertThat(client.protocols())
+                              .containsExactly(Protocol.H2_PRIOR_KNOWLEDGE);
+                          assertThat(client.pingIntervalMillis()).isEqualTo(10_000);
+                          assertThat(client.dispatcher().getMaxRequestsPerHost()).isEqualTo(16);
+                        });
+                HttpSender.ConnectionStats stats = sender.connectionStats();
+                assertThat(stats.openConnections()).isEqualTo(0);
+                assertThat(stats.idleConnections()).isEqualTo(0);
+                assertThat(stats.activeRequests()).isEqualTo(0);
+              });
+    } finally {
+      exporter.shutdown();
+    }
+  }
+
+  @Test
+  void http2_Tls() {
+    HttpExporter<Marshaler> exporter =
+        builder
+            .setEndpoint("https://localhost:4318/v1/traces")
+            .setHttp2(Http2Config.create(16, 0))
+            .build();
+    try {
+      assertThat(exporter)
+          .extracting("httpSender.client", as(InstanceOfAssertFactories.type(OkHttpClient.class)))
+          .satisfies(
+              client -> {
+                // h2 negotiated with ALPN
+                assertThat(client.protocols()).containsExactly(Protocol.HTTP_2, Protocol.HTTP_1_1);
+                assertThat(client.pingIntervalMillis()).isEqualTo(0);
+              });
     } finally {
       exporter.shutdown();
     }
@@ -20,6 +20,7 @@ import static org.mockito.internal.verification.VerificationModeFactory.times;
 
 import com.linecorp.armeria.common.HttpResponse;
 import com.linecorp.armeria.common.HttpStatus;
+import com.linecorp.armeria.common.ResponseHeaders;
 import com.linecorp.armeria.testing.junit5.server.mock.MockWebServerExtension;
 import io.opentelemetry.sdk.common.export.RetryPolicy;
 import java.io.IOException;
@@ -140,6 +141,47 @@ class RetryInterceptorTest {
     }
   }
 
+  @Test
+  void retryAfter() throws Exception {
+    server.enqueue(
+        HttpResponse.of(ResponseHeaders.of(HttpStatus.SERVICE_UNAVAILABLE, "Retry-After", "1")));
+    server.enqueue(HttpResponse.of(HttpStatus.OK));
+
+    try (Response response = sendRequest()) {
+      assertThat(response.isSuccessful()).isTrue();
+    }
+
+    // The server delay replaces the random backoff.
+    verifyNoInteractions(random);
+    verify(sleeper).sleep(TimeUnit.SECONDS.toNanos(1));
+  }
+
+  @Test
+  void retryPushback_BeyondMaxBackoff() throws Exception {
+    server.enqueue(
+        HttpResponse.of(
+            ResponseHeaders.of(HttpStatus.SERVICE_UNAVAILABLE, "grpc-retry-pushback-ms", "5000")));
+
+    try (Response response = sendRequest()) {
+      assertThat(response.code()).isEqualTo(503);
+    }
+
+    verify(sleeper, never()).sleep(anyLong());
+  }
+
+  @Test
+  void retryPushback_Negative() throws Exception {
+    server.enqueue(
+        HttpResponse.of(
+            ResponseHeaders.of(HttpStatus.SERVICE_UNAVAILABLE, "grpc-retry-pushback-ms", "-1")));
+
+    try (Response response = sendRequest()) {
+      assertThat(response.code()).isEqualTo(503);
+    }
+
+    verify(sleeper, never()).sleep(anyLong());
+  }
+
   @Test
   void connectTimeout() throws Exception {
     client = connectTimeoutClient();
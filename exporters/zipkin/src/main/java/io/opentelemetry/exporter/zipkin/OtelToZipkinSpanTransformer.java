@@ -12,6 +12,7 @@ import static java.util.concurrent.TimeUnit.NANOSECONDS;
 import io.opentelemetry.api.common.AttributeKey;
 import io.opentelemetry.api.common.AttributeType;
 import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.trace.SpanContext;
 import io.opentelemetry.api.trace.SpanKind;
 import io.opentelemetry.api.trace.StatusCode;
 import io.opentelemetry.sdk.common.InstrumentationScopeInfo;
@@ -82,10 +83,12 @@ final class OtelToZipkinSpanTransformer {
     long startTimestamp = toEpochMicros(spanData.getStartEpochNanos());
     long endTimestamp = toEpochMicros(spanData.getEndEpochNanos());
 
+    // Pass the IDs in binary form, so that Zipkin doesn't have to parse them back from hex
+    SpanContext spanContext = spanData.getSpanContext();
     Span.Builder spanBuilder =
         Span.newBuilder()
-            .traceId(spanData.getTraceId())
-            .id(spanData.getSpanId())
+            .traceId(spanContext.getTraceIdHigh(), spanContext.getTraceIdLow())
+            .id(spanContext.getSpanIdAsLong())
             .kind(toSpanKind(spanData))
             .name(spanData.getName())
             .timestamp(toEpochMicros(spanData.getStartEpochNanos()))
@@ -94,7 +97,7 @@ final class OtelToZipkinSpanTransformer {
             .remoteEndpoint(getRemoteEndpoint(spanData));
 
     if (spanData.getParentSpanContext().isValid()) {
-      spanBuilder.parentId(spanData.getParentSpanId());
+      spanBuilder.parentId(spanData.getParentSpanContext().getSpanIdAsLong());
     }
 
     Attributes spanAttributes = spanData.getAttributes();
@@ -0,0 +1,42 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.extension.incubator.metrics;
+
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.context.Context;
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * A {@link ExtendedDoubleCounter} bound to a fixed set of {@link Attributes}, returned by {@link
+ * ExtendedDoubleCounter#bind(Attributes)}.
+ *
+ * <p>Recording through a bound counter skips resolving the attributes to a series on every call.
+ * The series stays allocated until {@link #unbind()} is called.
+ */
+@ThreadSafe
+public interface BoundDoubleCounter {
+
+  /**
+   * Records a value with the bound attributes.
+   *
+   * @param value The increment amount. MUST be non-negative.
+   */
+  void add(double value);
+
+  /**
+   * Records a value with the bound attributes.
+   *
+   * @param value The increment amount. MUST be non-negative.
+   * @param context The explicit context to associate with this measurement.
+   */
+  void add(double value, Context context);
+
+  /**
+   * Releases the bound series. The counter MUST NOT be used after calling this method. Calling it
+   * more than once has no effect.
+   */
+  void unbind();
+}
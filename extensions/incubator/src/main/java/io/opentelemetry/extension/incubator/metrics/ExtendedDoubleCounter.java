@@ -0,0 +1,26 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.extension.incubator.metrics;
+
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.metrics.DoubleCounter;
+import javax.annotation.concurrent.ThreadSafe;
+
+/** Extended {@link DoubleCounter} with experimental APIs. */
+@ThreadSafe
+public interface ExtendedDoubleCounter extends DoubleCounter {
+
+  /**
+   * Binds the counter to a fixed set of attributes. Recording through the returned {@link
+   * BoundDoubleCounter} is equivalent to calling {@link #add(double, Attributes)} with the same
+   * {@code attributes}, but avoids looking up the series for them on every call.
+   *
+   * @param attributes The attributes to associate with all values recorded through the bound
+   *     counter.
+   * @return a counter bound to {@code attributes}.
+   */
+  BoundDoubleCounter bind(Attributes attributes);
+}
@@ -12,6 +12,14 @@ import java.util.List;
 /** Extended {@link DoubleCounterBuilder} with experimental APIs. */
 public interface ExtendedDoubleCounterBuilder extends DoubleCounterBuilder {
 
+  /**
+   * Builds and returns a DoubleCounter instrument with the configuration.
+   *
+   * @return The DoubleCounter instrument, which supports {@link ExtendedDoubleCounter#bind}.
+   */
+  @Override
+  ExtendedDoubleCounter build();
+
   /**
    * Specify the attribute advice, which suggests the recommended set of attribute keys to be used
    * for this counter.
@@ -12,6 +12,14 @@ import java.util.List;
 /** Extended {@link LongCounterBuilder} with experimental APIs. */
 public interface ExtendedLongCounterBuilder extends LongCounterBuilder {
 
+  /**
+   * Builds and returns a LongCounter instrument with the configuration.
+   *
+   * @return The LongCounter instrument, which supports {@link ExtendedLongCounter#bind}.
+   */
+  @Override
+  ExtendedLongCounter build();
+
   /**
    * Specify the attribute advice, which suggests the recommended set of attribute keys to be used
    * for this counter.
@@ -0,0 +1,123 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk;
+
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.logs.SdkLoggerProvider;
+import io.opentelemetry.sdk.logs.export.BatchLogRecordProcessor;
+import io.opentelemetry.sdk.logs.export.LogRecordExporter;
+import io.opentelemetry.sdk.metrics.InstrumentType;
+import io.opentelemetry.sdk.metrics.SdkMeterProvider;
+import io.opentelemetry.sdk.metrics.data.AggregationTemporality;
+import io.opentelemetry.sdk.metrics.data.MetricData;
+import io.opentelemetry.sdk.metrics.export.MetricExporter;
+import io.opentelemetry.sdk.metrics.export.PeriodicMetricReader;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.export.BatchSpanProcessor;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the time to start and shut down SDK pipelines with batch processors and a periodic
+ * metric reader, and the number of platform threads they hold while running. On Java 21+, compare
+ * with {@code -Dotel.java.virtual.threads.enabled=true} to run the workers on virtual threads.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class SdkStartupBenchmark {
+
+  private static final ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+
+  @State(Scope.Thread)
+  @AuxCounters(AuxCounters.Type.EVENTS)
+  public static class Footprint {
+    private int baselineThreads;
+
+    /** Platform threads started by the pipelines, summed over all startups. */
+    public long platformThreads;
+
+    @Setup(Level.Iteration)
+    public void setup() {
+      baselineThreads = threads.getThreadCount();
+      platformThreads = 0;
+    }
+  }
+
+  @Param({"1", "4"})
+  private int pipelines;
+
+  @Benchmark
+  public void startAndShutdown(Footprint footprint) {
+    List<OpenTelemetrySdk> sdks = new ArrayList<>(pipelines);
+    for (int i = 0; i < pipelines; i++) {
+      sdks.add(
+          OpenTelemetrySdk.builder()
+              .setTracerProvider(
+                  SdkTracerProvider.builder()
+                      .addSpanProcessor(
+                          BatchSpanProcessor.builder(SpanExporter.composite()).build())
+                      .build())
+              .setLoggerProvider(
+                  SdkLoggerProvider.builder()
+                      .addLogRecordProcessor(
+                          BatchLogRecordProcessor.builder(LogRecordExporter.composite()).build())
+                      .build())
+              .setMeterProvider(
+                  SdkMeterProvider.builder()
+                      .registerMetricReader(PeriodicMetricReader.create(new NoopMetricExporter()))
+                      .build())
+              .build());
+    }
+    footprint.platformThreads += Math.max(0, threads.getThreadCount() - footprint.baselineThreads);
+    for (OpenTelemetrySdk sdk : sdks) {
+      sdk.shutdown().join(10, TimeUnit.SECONDS);
+    }
+  }
+
+  private static final class NoopMetricExporter implements MetricExporter {
+
+    @Override
+    public AggregationTemporality getAggregationTemporality(InstrumentType instrumentType) {
+      return AggregationTemporality.CUMULATIVE;
+    }
+
+    @Override
+    public CompletableResultCode export(Collection<MetricData> metrics) {
+      return CompletableResultCode.ofSuccess();
+    }
+
+    @Override
+    public CompletableResultCode flush() {
+      return CompletableResultCode.ofSuccess();
+    }
+
+    @Override
+    public CompletableResultCode shutdown() {
+      return CompletableResultCode.ofSuccess();
+    }
+  }
+}
@@ -10,7 +10,7 @@ apply<OtelVersionClassPlugin>()
 description = "OpenTelemetry SDK Common"
 otelJava.moduleName.set("io.opentelemetry.sdk.common")
 
-val mrJarVersions = listOf(9)
+val mrJarVersions = listOf(9, 21)
 
 dependencies {
   api(project(":api:all"))
@@ -37,6 +37,14 @@ for (version in mrJarVersions) {
       sourceCompatibility = "$version"
       targetCompatibility = "$version"
       options.release.set(version)
+      if (version > 17) {
+        // Newer than the toolchain the rest of the project is built with
+        javaCompiler.set(
+          javaToolchains.compilerFor {
+            languageVersion.set(JavaLanguageVersion.of(version))
+          },
+        )
+      }
     }
   }
 
@@ -49,6 +57,10 @@ for (version in mrJarVersions) {
   dependencies {
     // Common to reference classes in main sourceset from Java 9 one (e.g., to return a common interface)
     add("java${version}Implementation", files(sourceSets.main.get().output.classesDirs))
+    // And classes of lower versions, e.g., to extend the Java 9 implementation from the Java 21 one
+    for (lowerVersion in mrJarVersions.filter { it < version }) {
+      add("java${version}Implementation", files(sourceSets["java$lowerVersion"].output.classesDirs))
+    }
   }
 }
 
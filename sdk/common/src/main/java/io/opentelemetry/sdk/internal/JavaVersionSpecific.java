@@ -22,6 +22,9 @@
 
 package io.opentelemetry.sdk.internal;
 
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -61,4 +64,22 @@ public class JavaVersionSpecific {
   public long currentTimeNanos() {
     return TimeUnit.MILLISECONDS.toNanos(System.currentTimeMillis());
   }
+
+  /**
+   * Returns a {@link ThreadFactory} for threads running background work of the SDK, e.g. the loops
+   * of batch processors, named with {@code namePrefix}. Threads are daemon platform threads, or
+   * virtual threads on Java 21+ if enabled with {@code otel.java.virtual.threads.enabled=true}.
+   */
+  public ThreadFactory newWorkerThreadFactory(String namePrefix) {
+    return new DaemonThreadFactory(namePrefix);
+  }
+
+  /**
+   * Returns an {@link ExecutorService} for tasks which block on I/O, e.g. sending export requests.
+   * Tasks run on a pool of {@code maxPlatformThreads} daemon threads, or each on its own virtual
+   * thread on Java 21+ if enabled with {@code otel.java.virtual.threads.enabled=true}.
+   */
+  public ExecutorService newBlockingTaskExecutor(String namePrefix, int maxPlatformThreads) {
+    return Executors.newFixedThreadPool(maxPlatformThreads, new DaemonThreadFactory(namePrefix));
+  }
 }
@@ -0,0 +1,22 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.internal;
+
+import io.opentelemetry.api.internal.ConfigUtil;
+
+final class CurrentJavaVersionSpecific {
+
+  static JavaVersionSpecific get() {
+    // Virtual threads are opt-in, code blocking while holding a monitor pins their carrier thread
+    // until Java 24.
+    if (Boolean.parseBoolean(ConfigUtil.getString("otel.java.virtual.threads.enabled", "false"))) {
+      return new Java21VersionSpecific();
+    }
+    return new Java9VersionSpecific();
+  }
+
+  private CurrentJavaVersionSpecific() {}
+}
@@ -0,0 +1,34 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.internal;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Implementation of {@link JavaVersionSpecific} using Java 21 APIs, used if {@code
+ * otel.java.virtual.threads.enabled=true}. Background work runs on virtual threads, so parked
+ * workers of idle pipelines do not hold platform threads.
+ */
+class Java21VersionSpecific extends Java9VersionSpecific {
+
+  @Override
+  String name() {
+    return "Java 21+";
+  }
+
+  @Override
+  public ThreadFactory newWorkerThreadFactory(String namePrefix) {
+    // Virtual threads are always daemon threads.
+    return Thread.ofVirtual().name(namePrefix + "-", 1).factory();
+  }
+
+  @Override
+  public ExecutorService newBlockingTaskExecutor(String namePrefix, int maxPlatformThreads) {
+    return Executors.newThreadPerTaskExecutor(newWorkerThreadFactory(namePrefix));
+  }
+}
@@ -0,0 +1,39 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+class JavaVersionSpecificTest {
+
+  @Test
+  void newWorkerThreadFactory() {
+    Thread thread =
+        JavaVersionSpecific.get().newWorkerThreadFactory("otel-worker").newThread(() -> {});
+
+    assertThat(thread.isDaemon()).isTrue();
+    assertThat(thread.getName()).isEqualTo("otel-worker-1");
+  }
+
+  @Test
+  void newBlockingTaskExecutor() throws Exception {
+    ExecutorService executor =
+        JavaVersionSpecific.get().newBlockingTaskExecutor("otel-blocking", 2);
+    try {
+      Future<Thread> thread = executor.submit(Thread::currentThread);
+
+      assertThat(thread.get(10, TimeUnit.SECONDS).isDaemon()).isTrue();
+      assertThat(thread.get().getName()).startsWith("otel-blocking-");
+    } finally {
+      executor.shutdown();
+    }
+  }
+}
@@ -12,22 +12,26 @@ import io.opentelemetry.api.metrics.Meter;
 import io.opentelemetry.api.metrics.MeterProvider;
 import io.opentelemetry.context.Context;
 import io.opentelemetry.sdk.common.CompletableResultCode;
-import io.opentelemetry.sdk.internal.DaemonThreadFactory;
+import io.opentelemetry.sdk.internal.JavaVersionSpecific;
+import io.opentelemetry.sdk.internal.ThrowableUtil;
 import io.opentelemetry.sdk.logs.LogRecordProcessor;
 import io.opentelemetry.sdk.logs.ReadWriteLogRecord;
 import io.opentelemetry.sdk.logs.data.LogRecordData;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Queue;
 import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.logging.Level;
 import java.util.logging.Logger;
+import javax.annotation.Nullable;
 
 /**
  * Implementation of the {@link LogRecordProcessor} that batches logs exported by the SDK then
@@ -38,6 +42,12 @@ import java.util.logging.Logger;
  * when there are {@code maxExportBatchSize} pending logs or {@code scheduleDelayNanos} has passed
  * since the last export finished.
  *
+ * <p>By default the worker waits for each export to complete before draining the queue again. With
+ * {@code maxConcurrentExports} greater than one, it keeps draining into new batches while up to
+ * that many exports are in flight. Once the limit is reached it waits up to the exporter timeout
+ * for an export to complete, and otherwise drops the batch. An export counts as in flight until it
+ * completes, even once its timeout has passed.
+ *
  * @since 1.27.0
  */
 public final class BatchLogRecordProcessor implements LogRecordProcessor {
@@ -71,7 +81,8 @@ public final class BatchLogRecordProcessor implements LogRecordProcessor {
       long scheduleDelayNanos,
       int maxQueueSize,
       int maxExportBatchSize,
-      long exporterTimeoutNanos) {
+      long exporterTimeoutNanos,
+      int maxConcurrentExports) {
     this.worker =
         new Worker(
             logRecordExporter,
@@ -79,8 +90,10 @@ public final class BatchLogRecordProcessor implements LogRecordProcessor {
             scheduleDelayNanos,
             maxExportBatchSize,
             exporterTimeoutNanos,
+            maxConcurrentExports,
             new ArrayBlockingQueue<>(maxQueueSize)); // TODO: use JcTools.newFixedSizeQueue(..)
-    Thread workerThread = new DaemonThreadFactory(WORKER_THREAD_NAME).newThread(worker);
+    Thread workerThread =
+        JavaVersionSpecific.get().newWorkerThreadFactory(WORKER_THREAD_NAME).newThread(worker);
     workerThread.start();
   }
 
@@ -141,6 +154,12 @@ public final class BatchLogRecordProcessor implements LogRecordProcessor {
     private final long exporterTimeoutNanos;
 
     private long nextExportTime;
+    // One permit per export allowed in flight, released once an export completes, even after its
+    // timeout has passed. Null if exports do not run concurrently.
+    @Nullable private final Semaphore exportPermits;
+    // Concurrent exports that haven't completed, oldest first, awaited by flushes. Only accessed by
+    // the worker thread.
+    private final ArrayDeque<PendingExport> pendingExports = new ArrayDeque<>();
 
     private final Queue<ReadWriteLogRecord> queue;
     // When waiting on the logs queue, exporter thread sets this atomic to the number of more
@@ -161,11 +180,13 @@ public final class BatchLogRecordProcessor implements LogRecordProcessor {
         long scheduleDelayNanos,
         int maxExportBatchSize,
         long exporterTimeoutNanos,
+        int maxConcurrentExports,
         Queue<ReadWriteLogRecord> queue) {
       this.logRecordExporter = logRecordExporter;
       this.scheduleDelayNanos = scheduleDelayNanos;
       this.maxExportBatchSize = maxExportBatchSize;
       this.exporterTimeoutNanos = exporterTimeoutNanos;
+      this.exportPermits = maxConcurrentExports > 1 ? new Semaphore(maxConcurrentExports) : null;
       this.queue = queue;
       this.signal = new ArrayBlockingQueue<>(1);
       Meter meter = meterProvider.meterBuilder("io.opentelemetry.sdk.logs").build();
@@ -237,6 +258,7 @@ public final class BatchLogRecordProcessor implements LogRecordProcessor {
         }
       }
       exportCurrentBatch();
+      awaitPendingExports();
       CompletableResultCode flushResult = flushRequested.get();
       if (flushResult != null) {
         flushResult.succeed();
@@ -287,20 +309,88 @@ public final class BatchLogRecordProcessor implements LogRecordProcessor {
         return;
       }
 
+      Semaphore exportPermits = this.exportPermits;
+      if (exportPermits != null && !acquireExportPermit(exportPermits)) {
+        // No export completed within the exporter timeout, drop the batch so the worker keeps
+        // serving flushes and shutdown even when the exporter never completes its results
+        processedLogsCounter.add(batch.size(), droppedAttrs);
+        logger.log(Level.FINE, "Dropped batch, too many exports in flight");
+        batch.clear();
+        return;
+      }
+      boolean exporting = false;
       try {
-        CompletableResultCode result =
-            logRecordExporter.export(Collections.unmodifiableList(batch));
-        result.join(exporterTimeoutNanos, TimeUnit.NANOSECONDS);
-        if (result.isSuccess()) {
-          processedLogsCounter.add(batch.size(), exportedAttrs);
+        // With concurrent exports the exporter gets its own copy, as the batch is refilled while
+        // the export is in flight
+        List<LogRecordData> logs =
+            exportPermits == null
+                ? Collections.unmodifiableList(batch)
+                : Collections.unmodifiableList(new ArrayList<>(batch));
+        CompletableResultCode result = logRecordExporter.export(logs);
+        exporting = true;
+        int exportedLogs = batch.size();
+        result.whenComplete(
+            () -> {
+              if (exportPermits != null) {
+                exportPermits.release();
+              }
+              if (result.isSuccess()) {
+                processedLogsCounter.add(exportedLogs, exportedAttrs);
+              } else {
+                logger.log(Level.FINE, "Exporter failed");
+              }
+            });
+        if (exportPermits == null) {
+          result.join(exporterTimeoutNanos, TimeUnit.NANOSECONDS);
         } else {
-          logger.log(Level.FINE, "Exporter failed");
+          pendingExports.removeIf(pending -> pending.result.isDone());
+          pendingExports.add(new PendingExport(result, System.nanoTime() + exporterTimeoutNanos));
         }
-      } catch (RuntimeException e) {
-        logger.log(Level.WARNING, "Exporter threw an Exception", e);
+      } catch (Throwable t) {
+        ThrowableUtil.propagateIfFatal(t);
+        logger.log(Level.WARNING, "Exporter threw an Exception", t);
       } finally {
+        if (!exporting && exportPermits != null) {
+          exportPermits.release();
+        }
         batch.clear();
       }
     }
+
+    // Back-pressure: waits up to the exporter timeout for one of the in flight exports to
+    // complete.
+    private boolean acquireExportPermit(Semaphore exportPermits) {
+      if (exportPermits.tryAcquire()) {
+        return true;
+      }
+      try {
+        return exportPermits.tryAcquire(exporterTimeoutNanos, TimeUnit.NANOSECONDS);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        return false;
+      }
+    }
+
+    // Waits until the concurrent exports have completed or their timeout has passed. Timed out
+    // exports are not awaited again, but stay in flight until they complete.
+    private void awaitPendingExports() {
+      PendingExport pending;
+      while ((pending = pendingExports.poll()) != null) {
+        long timeoutNanos = pending.deadlineNanos - System.nanoTime();
+        if (timeoutNanos > 0) {
+          pending.result.join(timeoutNanos, TimeUnit.NANOSECONDS);
+        }
+      }
+    }
+  }
+
+  private static final class PendingExport {
+    private final CompletableResultCode result;
+    private final long deadlineNanos;
+
+    private PendingExport(CompletableResultCode result, long deadlineNanos) {
+      this.result = result;
+      this.deadlineNanos = deadlineNanos;
+    }
   }
 }
@@ -20,13 +20,16 @@ import io.opentelemetry.internal.testing.slf4j.SuppressLogger;
 import io.opentelemetry.sdk.common.CompletableResultCode;
 import io.opentelemetry.sdk.logs.SdkLoggerProvider;
 import io.opentelemetry.sdk.logs.data.LogRecordData;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import javax.annotation.Nullable;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -77,6 +80,8 @@ class BatchLogRecordProcessorTest {
         .isEqualTo(
             TimeUnit.MILLISECONDS.toNanos(
                 BatchLogRecordProcessorBuilder.DEFAULT_EXPORT_TIMEOUT_MILLIS));
+    assertThat(builder.getMaxConcurrentExports())
+        .isEqualTo(BatchLogRecordProcessorBuilder.DEFAULT_MAX_CONCURRENT_EXPORTS);
   }
 
   @Test
@@ -110,6 +115,10 @@ class BatchLogRecordProcessorTest {
             () -> BatchLogRecordProcessor.builder(mockLogRecordExporter).setExporterTimeout(null))
         .isInstanceOf(NullPointerException.class)
         .hasMessage("timeout");
+    assertThatThrownBy(
+            () -> BatchLogRecordProcessor.builder(mockLogRecordExporter).setMaxConcurrentExports(0))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("maxConcurrentExports must be positive.");
   }
 
   @Test
@@ -199,6 +208,92 @@ class BatchLogRecordProcessorTest {
     assertThat(exported.size()).isEqualTo(2);
   }
 
+  @Test
+  @Timeout(10)
+  void concurrentExports() {
+    List<CompletableResultCode> results = new CopyOnWriteArrayList<>();
+    when(mockLogRecordExporter.export(anyList()))
+        .then(
+            invocation -> {
+              CompletableResultCode result = new CompletableResultCode();
+              results.add(result);
+              return result;
+            });
+    BatchLogRecordProcessor batchLogRecordProcessor =
+        BatchLogRecordProcessor.builder(mockLogRecordExporter)
+            .setMaxConcurrentExports(2)
+            .setMaxExportBatchSize(1)
+            .setScheduleDelay(10, TimeUnit.SECONDS)
+            .build();
+    SdkLoggerProvider sdkLoggerProvider =
+        SdkLoggerProvider.builder().addLogRecordProcessor(batchLogRecordProcessor).build();
+
+    emitLog(sdkLoggerProvider, LOG_MESSAGE_1);
+    emitLog(sdkLoggerProvider, LOG_MESSAGE_2);
+    // The second batch is exported while the first export is still in flight
+    await().untilAsserted(() -> assertThat(results).hasSize(2));
+
+    emitLog(sdkLoggerProvider, LOG_MESSAGE_1);
+    CompletableResultCode flushResult = batchLogRecordProcessor.forceFlush();
+    // No third export until one of the in flight exports completes
+    assertThat(results).hasSize(2);
+    assertThat(flushResult.isDone()).isFalse();
+
+    results.get(0).succeed();
+    await().untilAsserted(() -> assertThat(results).hasSize(3));
+    // Flushing waits for all exports to complete
+    assertThat(flushResult.isDone()).isFalse();
+
+    results.get(1).succeed();
+    results.get(2).succeed();
+    assertThat(flushResult.join(5, TimeUnit.SECONDS).isSuccess()).isTrue();
+    sdkLoggerProvider.shutdown();
+  }
+
+  @Test
+  @Timeout(10)
+  void concurrentExports_TimedOutExportsStayInFlight() {
+    List<CompletableResultCode> results = new CopyOnWriteArrayList<>();
+    when(mockLogRecordExporter.export(anyList()))
+        .then(
+            invocation -> {
+              CompletableResultCode result = new CompletableResultCode();
+              results.add(result);
+              return result;
+            });
+    BatchLogRecordProcessor batchLogRecordProcessor =
+        BatchLogRecordProcessor.builder(mockLogRecordExporter)
+            .setMaxConcurrentExports(2)
+            .setMaxExportBatchSize(1)
+            .setExporterTimeout(100, TimeUnit.MILLISECONDS)
+            .setScheduleDelay(10, TimeUnit.SECONDS)
+            .build();
+    SdkLoggerProvider sdkLoggerProvider =
+        SdkLoggerProvider.builder().addLogRecordProcessor(batchLogRecordProcessor).build();
+
+    emitLog(sdkLoggerProvider, LOG_MESSAGE_1);
+    emitLog(sdkLoggerProvider, LOG_MESSAGE_2);
+    await().untilAsserted(() -> assertThat(results).hasSize(2));
+
+    emitLog(sdkLoggerProvider, LOG_MESSAGE_1);
+    // Both exports are past their timeout but still in flight, so the third batch is dropped
+    await()
+        .during(Duration.ofMillis(300))
+        .atMost(Duration.ofSeconds(1))
+        .untilAsserted(() -> assertThat(results).hasSize(2));
+    // The hung exports don't block the worker
+    assertThat(batchLogRecordProcessor.forceFlush().join(5, TimeUnit.SECONDS).isSuccess())
+        .isTrue();
+
+    results.get(0).succeed();
+    emitLog(sdkLoggerProvider, LOG_MESSAGE_2);
+    await().untilAsserted(() -> assertThat(results).hasSize(3));
+
+    results.get(1).succeed();
+    results.get(2).succeed();
+    sdkLoggerProvider.shutdown();
+  }
+
   @Test
   void emitLogsToMultipleExporters() {
     WaitingLogRecordExporter waitingLogRecordExporter1 =
@@ -327,6 +422,35 @@ class BatchLogRecordProcessorTest {
         .satisfiesExactly(logRecordData -> assertThat(logRecordData).hasBody(LOG_MESSAGE_2));
   }
 
+  @Test
+  @Timeout(5)
+  @SuppressLogger(BatchLogRecordProcessor.class)
+  void exporterThrowsNonRuntimeException() {
+    AtomicInteger exports = new AtomicInteger();
+    when(mockLogRecordExporter.export(anyList()))
+        .thenAnswer(
+            invocation -> {
+              exports.incrementAndGet();
+              throw new Exception("No export for you.");
+            });
+    SdkLoggerProvider sdkLoggerProvider =
+        SdkLoggerProvider.builder()
+            .addLogRecordProcessor(
+                BatchLogRecordProcessor.builder(mockLogRecordExporter)
+                    .setMaxConcurrentExports(2)
+                    .setMaxExportBatchSize(1)
+                    .setScheduleDelay(10, TimeUnit.SECONDS)
+                    .build())
+            .build();
+
+    // Failed exports don't stay in flight, so the worker keeps exporting past the limit
+    emitLog(sdkLoggerProvider, LOG_MESSAGE_1);
+    emitLog(sdkLoggerProvider, LOG_MESSAGE_2);
+    emitLog(sdkLoggerProvider, LOG_MESSAGE_1);
+    await().untilAsserted(() -> assertThat(exports).hasValue(3));
+    sdkLoggerProvider.shutdown();
+  }
+
   @Test
   @Timeout(5)
   public void continuesIfExporterTimesOut() throws InterruptedException {
@@ -5,7 +5,9 @@
 
 package io.opentelemetry.sdk.metrics.internal.aggregator;
 
+import io.opentelemetry.sdk.common.export.MemoryMode;
 import io.opentelemetry.sdk.metrics.internal.exemplar.ExemplarReservoir;
+import java.util.Arrays;
 import java.util.Collections;
 
 /** The types of histogram aggregation to benchmark. */
@@ -15,15 +17,37 @@ public enum HistogramAggregationParam {
       new DoubleExplicitBucketHistogramAggregator(
           ExplicitBucketHistogramUtils.createBoundaryArray(
               ExplicitBucketHistogramUtils.DEFAULT_HISTOGRAM_BUCKET_BOUNDARIES),
-          ExemplarReservoir::doubleNoSamples)),
+          ExemplarReservoir::doubleNoSamples,
+          MemoryMode.IMMUTABLE_DATA)),
+  EXPLICIT_DEFAULT_BUCKET_STRIPED(
+      new DoubleExplicitBucketHistogramAggregator(
+          ExplicitBucketHistogramUtils.createBoundaryArray(
+              ExplicitBucketHistogramUtils.DEFAULT_HISTOGRAM_BUCKET_BOUNDARIES),
+          ExemplarReservoir::doubleNoSamples,
+          MemoryMode.IMMUTABLE_DATA,
+          /* striped= */ true)),
   EXPLICIT_SINGLE_BUCKET(
       new DoubleExplicitBucketHistogramAggregator(
           ExplicitBucketHistogramUtils.createBoundaryArray(Collections.emptyList()),
-          ExemplarReservoir::doubleNoSamples)),
+          ExemplarReservoir::doubleNoSamples,
+          MemoryMode.IMMUTABLE_DATA)),
   EXPONENTIAL_SMALL_CIRCULAR_BUFFER(
       new DoubleBase2ExponentialHistogramAggregator(ExemplarReservoir::doubleNoSamples, 20, 0)),
   EXPONENTIAL_CIRCULAR_BUFFER(
-      new DoubleBase2ExponentialHistogramAggregator(ExemplarReservoir::doubleNoSamples, 160, 0));
+      new DoubleBase2ExponentialHistogramAggregator(ExemplarReservoir::doubleNoSamples, 160, 0)),
+  EXPONENTIAL_CIRCULAR_BUFFER_STRIPED(
+      new DoubleBase2ExponentialHistogramAggregator(
+          ExemplarReservoir::doubleNoSamples, 160, 0, /* striped= */ true)),
+  QUANTILE_SKETCH_SUMMARY(
+      new DoubleQuantileSketchSummaryAggregator(
+          DoubleQuantileSketch.scaleForRelativeAccuracy(0.01),
+          2048,
+          Arrays.asList(0.5, 0.9, 0.99, 0.999))),
+  QUANTILE_SKETCH_EXPONENTIAL(
+      new DoubleQuantileSketchExponentialHistogramAggregator(
+          ExemplarReservoir::doubleNoSamples,
+          DoubleQuantileSketch.scaleForRelativeAccuracy(0.01),
+          2048));
 
   private final Aggregator<?, ?> aggregator;
 
@@ -50,6 +50,30 @@ public class HistogramBenchmark {
     }
   }
 
+  /** A single series recorded into by all benchmark threads, as with a hot latency histogram. */
+  @State(Scope.Benchmark)
+  public static class SharedState {
+    @Param HistogramValueGenerator valueGen;
+    @Param HistogramAggregationParam aggregation;
+    private AggregatorHandle<?, ?> aggregatorHandle;
+    // Per thread, so threads only contend on the handle
+    private ThreadLocal<DoubleSupplier> valueSupplier;
+
+    @Setup(Level.Trial)
+    public final void setup() {
+      aggregatorHandle = aggregation.getAggregator().createHandle();
+      valueSupplier = ThreadLocal.withInitial(valueGen::supplier);
+    }
+
+    public void record() {
+      DoubleSupplier values = valueSupplier.get();
+      // Record a number of samples.
+      for (int i = 0; i < 2000; i++) {
+        this.aggregatorHandle.recordDouble(values.getAsDouble());
+      }
+    }
+  }
+
   @Benchmark
   @Threads(value = 10)
   public void aggregate_10Threads(ThreadState threadState) {
@@ -67,4 +91,22 @@ public class HistogramBenchmark {
   public void aggregate_1Threads(ThreadState threadState) {
     threadState.record();
   }
+
+  @Benchmark
+  @Threads(value = 10)
+  public void aggregateShared_10Threads(SharedState sharedState) {
+    sharedState.record();
+  }
+
+  @Benchmark
+  @Threads(value = 5)
+  public void aggregateShared_5Threads(SharedState sharedState) {
+    sharedState.record();
+  }
+
+  @Benchmark
+  @Threads(value = 1)
+  public void aggregateShared_1Threads(SharedState sharedState) {
+    sharedState.record();
+  }
 }
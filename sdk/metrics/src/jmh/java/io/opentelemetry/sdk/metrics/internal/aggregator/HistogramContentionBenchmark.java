@@ -0,0 +1,91 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.metrics.internal.aggregator;
+
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.sdk.common.export.MemoryMode;
+import io.opentelemetry.sdk.metrics.internal.exemplar.ExemplarReservoir;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the cost of recording into a single explicit bucket histogram series shared by all
+ * benchmark threads, comparing the lock based handle with the striped one.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Measurement(iterations = 10, time = 1)
+@Warmup(iterations = 5, time = 1)
+@Fork(1)
+public class HistogramContentionBenchmark {
+
+  @State(Scope.Benchmark)
+  public static class BenchmarkState {
+    @Param({"false", "true"})
+    boolean striped;
+
+    private AggregatorHandle<?, ?> aggregatorHandle;
+
+    @Setup(Level.Trial)
+    public final void setup() {
+      aggregatorHandle =
+          new DoubleExplicitBucketHistogramAggregator(
+                  ExplicitBucketHistogramUtils.createBoundaryArray(
+                      ExplicitBucketHistogramUtils.DEFAULT_HISTOGRAM_BUCKET_BOUNDARIES),
+                  ExemplarReservoir::doubleNoSamples,
+                  MemoryMode.IMMUTABLE_DATA,
+                  striped)
+              .createHandle();
+    }
+
+    @TearDown(Level.Iteration)
+    public final void tearDown() {
+      aggregatorHandle.aggregateThenMaybeReset(0, 1, Attributes.empty(), /* reset= */ true);
+    }
+
+    public void record() {
+      aggregatorHandle.recordDouble(ThreadLocalRandom.current().nextDouble(0, 10_000));
+    }
+  }
+
+  @Benchmark
+  @Threads(value = 1)
+  public void record_1Thread(BenchmarkState benchmarkState) {
+    benchmarkState.record();
+  }
+
+  @Benchmark
+  @Threads(value = 4)
+  public void record_4Threads(BenchmarkState benchmarkState) {
+    benchmarkState.record();
+  }
+
+  @Benchmark
+  @Threads(value = 16)
+  public void record_16Threads(BenchmarkState benchmarkState) {
+    benchmarkState.record();
+  }
+
+  @Benchmark
+  @Threads(value = 64)
+  public void record_64Threads(BenchmarkState benchmarkState) {
+    benchmarkState.record();
+  }
+}
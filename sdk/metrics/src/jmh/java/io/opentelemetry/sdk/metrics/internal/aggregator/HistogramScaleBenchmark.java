@@ -61,4 +61,10 @@ public class HistogramScaleBenchmark {
   public void scaleUp(ThreadState threadState) {
     threadState.record();
   }
+
+  @Benchmark
+  @Threads(value = 4)
+  public void scaleUp_4Threads(ThreadState threadState) {
+    threadState.record();
+  }
 }
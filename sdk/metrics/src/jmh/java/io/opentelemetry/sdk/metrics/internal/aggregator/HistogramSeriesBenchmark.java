@@ -0,0 +1,66 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.metrics.internal.aggregator;
+
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.sdk.metrics.data.PointData;
+import java.util.concurrent.TimeUnit;
+import java.util.function.DoubleSupplier;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the cost of a series of histogram aggregations, from creating its handle to collecting
+ * it after a number of recordings.
+ *
+ * <p>Run with {@code -prof gc}, the {@code gc.alloc.rate.norm} metric is the memory allocated per
+ * series, buckets and collected point included. Compared with HistogramBenchmark, which records
+ * into long-lived handles, this covers the cost of growing buckets as a series starts.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Measurement(iterations = 10, time = 1)
+@Warmup(iterations = 5, time = 1)
+@Fork(1)
+public class HistogramSeriesBenchmark {
+
+  @State(Scope.Thread)
+  public static class ThreadState {
+    @Param HistogramValueGenerator valueGen;
+    @Param HistogramAggregationParam aggregation;
+
+    @Param({"10", "2000"})
+    int recordings;
+
+    private DoubleSupplier valueSupplier;
+
+    @Setup
+    public final void setup() {
+      valueSupplier = valueGen.supplier();
+    }
+  }
+
+  @Benchmark
+  @Threads(value = 1)
+  public PointData newSeries(ThreadState threadState) {
+    AggregatorHandle<?, ?> aggregatorHandle =
+        threadState.aggregation.getAggregator().createHandle();
+    for (int i = 0; i < threadState.recordings; i++) {
+      aggregatorHandle.recordDouble(threadState.valueSupplier.getAsDouble());
+    }
+    return aggregatorHandle.aggregateThenMaybeReset(0, 1, Attributes.empty(), /* reset= */ true);
+  }
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.metrics.internal.exemplar;
+
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanContext;
+import io.opentelemetry.api.trace.TraceFlags;
+import io.opentelemetry.api.trace.TraceState;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.sdk.common.Clock;
+import io.opentelemetry.sdk.internal.RandomSupplier;
+import io.opentelemetry.sdk.metrics.data.DoubleExemplarData;
+import io.opentelemetry.sdk.metrics.internal.aggregator.ExplicitBucketHistogramUtils;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the cost of offering sampled measurements to an exemplar reservoir shared by all
+ * benchmark threads, comparing the synchronized cells with the lock-free ones. Run with {@code
+ * -prof gc} to check offering does not allocate.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Measurement(iterations = 10, time = 1)
+@Warmup(iterations = 5, time = 1)
+@Fork(1)
+public class ExemplarReservoirContentionBenchmark {
+
+  @State(Scope.Benchmark)
+  public static class BenchmarkState {
+    @Param({"false", "true"})
+    boolean lockFree;
+
+    @Param({"histogram", "random"})
+    String reservoirType;
+
+    private ExemplarReservoir<DoubleExemplarData> reservoir;
+    private final Attributes attributes = Attributes.of(AttributeKey.stringKey("key"), "value");
+    private final Context context =
+        Context.root()
+            .with(
+                Span.wrap(
+                    SpanContext.create(
+                        "ff000000000000000000000000000041",
+                        "ff00000000000041",
+                        TraceFlags.getSampled(),
+                        TraceState.getDefault())));
+
+    @Setup(Level.Trial)
+    public final void setup() {
+      Function<Clock, ReservoirCell> cellFactory =
+          lockFree ? ReservoirCell::create : ReservoirCell::createSynchronized;
+      reservoir =
+          reservoirType.equals("histogram")
+              ? new HistogramExemplarReservoir(
+                  Clock.getDefault(),
+                  ExplicitBucketHistogramUtils.DEFAULT_HISTOGRAM_BUCKET_BOUNDARIES,
+                  cellFactory)
+              : RandomFixedSizeExemplarReservoir.createDouble(
+                  Clock.getDefault(), 4, RandomSupplier.platformDefault(), cellFactory);
+    }
+
+    @TearDown(Level.Iteration)
+    public final void tearDown() {
+      reservoir.collectAndReset(Attributes.empty());
+    }
+
+    public void offer() {
+      reservoir.offerDoubleMeasurement(
+          ThreadLocalRandom.current().nextDouble(0, 10_000), attributes, context);
+    }
+  }
+
+  @Benchmark
+  @Threads(value = 1)
+  public void offer_1Thread(BenchmarkState benchmarkState) {
+    benchmarkState.offer();
+  }
+
+  @Benchmark
+  @Threads(value = 4)
+  public void offer_4Threads(BenchmarkState benchmarkState) {
+    benchmarkState.offer();
+  }
+
+  @Benchmark
+  @Threads(value = 16)
+  public void offer_16Threads(BenchmarkState benchmarkState) {
+    benchmarkState.offer();
+  }
+}
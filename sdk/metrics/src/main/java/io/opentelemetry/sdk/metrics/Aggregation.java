@@ -11,6 +11,7 @@ import io.opentelemetry.sdk.metrics.internal.view.DefaultAggregation;
 import io.opentelemetry.sdk.metrics.internal.view.DropAggregation;
 import io.opentelemetry.sdk.metrics.internal.view.ExplicitBucketHistogramAggregation;
 import io.opentelemetry.sdk.metrics.internal.view.LastValueAggregation;
+import io.opentelemetry.sdk.metrics.internal.view.QuantileSketchAggregation;
 import io.opentelemetry.sdk.metrics.internal.view.SumAggregation;
 import java.util.List;
 
@@ -93,4 +94,44 @@ public interface Aggregation {
   static Aggregation base2ExponentialBucketHistogram(int maxBuckets, int maxScale) {
     return Base2ExponentialHistogramAggregation.create(maxBuckets, maxScale);
   }
+
+  /**
+   * Aggregates measurements into a {@link MetricDataType#SUMMARY} of quantiles estimated with a
+   * mergeable quantile sketch, using the default {@code relativeAccuracy} of 1%, {@code maxBuckets}
+   * and quantiles {@code 0.5, 0.9, 0.99, 0.999}.
+   *
+   * @since 1.32.0
+   */
+  static Aggregation quantileSketch() {
+    return QuantileSketchAggregation.getDefault();
+  }
+
+  /**
+   * Aggregates measurements into a {@link MetricDataType#SUMMARY} of quantiles estimated with a
+   * mergeable quantile sketch, using bounded memory per series.
+   *
+   * @param relativeAccuracy the max relative error of quantile estimates, between {@code 1e-6} and
+   *     {@code 0.5}. The finer the accuracy, the more buckets are needed to cover a range of
+   *     values.
+   * @param maxBuckets the max number of positive buckets and negative buckets. Once values span
+   *     more buckets, the lowest are collapsed, degrading the accuracy of the lowest quantiles.
+   * @param quantiles the quantiles to report, between {@code 0} and {@code 1}.
+   * @since 1.32.0
+   */
+  static Aggregation quantileSketch(
+      double relativeAccuracy, int maxBuckets, List<Double> quantiles) {
+    return QuantileSketchAggregation.create(relativeAccuracy, maxBuckets, quantiles);
+  }
+
+  /**
+   * Aggregates measurements with a mergeable quantile sketch exported as a base-2 {@link
+   * MetricDataType#EXPONENTIAL_HISTOGRAM}, whose fixed scale is fine enough for quantiles to be
+   * estimated from its buckets within {@code relativeAccuracy}.
+   *
+   * @see #quantileSketch(double, int, List)
+   * @since 1.32.0
+   */
+  static Aggregation quantileSketchExponentialHistogram(double relativeAccuracy, int maxBuckets) {
+    return QuantileSketchAggregation.createExponentialHistogram(relativeAccuracy, maxBuckets);
+  }
 }
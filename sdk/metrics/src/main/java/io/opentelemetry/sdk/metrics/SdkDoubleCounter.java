@@ -7,14 +7,16 @@ package io.opentelemetry.sdk.metrics;
 
 import io.opentelemetry.api.common.AttributeKey;
 import io.opentelemetry.api.common.Attributes;
-import io.opentelemetry.api.metrics.DoubleCounter;
 import io.opentelemetry.api.metrics.ObservableDoubleCounter;
 import io.opentelemetry.api.metrics.ObservableDoubleMeasurement;
 import io.opentelemetry.context.Context;
+import io.opentelemetry.extension.incubator.metrics.BoundDoubleCounter;
+import io.opentelemetry.extension.incubator.metrics.ExtendedDoubleCounter;
 import io.opentelemetry.extension.incubator.metrics.ExtendedDoubleCounterBuilder;
 import io.opentelemetry.sdk.internal.ThrottlingLogger;
 import io.opentelemetry.sdk.metrics.internal.descriptor.Advice;
 import io.opentelemetry.sdk.metrics.internal.descriptor.InstrumentDescriptor;
+import io.opentelemetry.sdk.metrics.internal.state.BoundStorageHandle;
 import io.opentelemetry.sdk.metrics.internal.state.MeterProviderSharedState;
 import io.opentelemetry.sdk.metrics.internal.state.MeterSharedState;
 import io.opentelemetry.sdk.metrics.internal.state.WriteableMetricStorage;
@@ -23,7 +25,7 @@ import java.util.function.Consumer;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
-final class SdkDoubleCounter extends AbstractInstrument implements DoubleCounter {
+final class SdkDoubleCounter extends AbstractInstrument implements ExtendedDoubleCounter {
   private static final Logger logger = Logger.getLogger(SdkDoubleCounter.class.getName());
 
   private final ThrottlingLogger throttlingLogger = new ThrottlingLogger(logger);
@@ -37,11 +39,7 @@ final class SdkDoubleCounter extends AbstractInstrument implements DoubleCounter
   @Override
   public void add(double increment, Attributes attributes, Context context) {
     if (increment < 0) {
-      throttlingLogger.log(
-          Level.WARNING,
-          "Counters can only increase. Instrument "
-              + getDescriptor().getName()
-              + " has recorded a negative value.");
+      logNegativeIncrement();
       return;
     }
     storage.recordDouble(increment, attributes, context);
@@ -57,6 +55,47 @@ final class SdkDoubleCounter extends AbstractInstrument implements DoubleCounter
     add(increment, Attributes.empty());
   }
 
+  @Override
+  public BoundDoubleCounter bind(Attributes attributes) {
+    return new SdkBoundDoubleCounter(storage.bind(attributes));
+  }
+
+  private void logNegativeIncrement() {
+    throttlingLogger.log(
+        Level.WARNING,
+        "Counters can only increase. Instrument "
+            + getDescriptor().getName()
+            + " has recorded a negative value.");
+  }
+
+  private final class SdkBoundDoubleCounter implements BoundDoubleCounter {
+
+    private final BoundStorageHandle handle;
+
+    private SdkBoundDoubleCounter(BoundStorageHandle handle) {
+      this.handle = handle;
+    }
+
+    @Override
+    public void add(double increment) {
+      add(increment, Context.current());
+    }
+
+    @Override
+    public void add(double increment, Context context) {
+      if (increment < 0) {
+        logNegativeIncrement();
+        return;
+      }
+      handle.recordDouble(increment, context);
+    }
+
+    @Override
+    public void unbind() {
+      handle.release();
+    }
+  }
+
   static final class SdkDoubleCounterBuilder extends AbstractInstrumentBuilder<SdkDoubleCounterBuilder> implements ExtendedDoubleCounterBuilder {
 
     SdkDoubleCounterBuilder(
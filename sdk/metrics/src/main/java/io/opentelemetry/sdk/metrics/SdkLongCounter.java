@@ -8,13 +8,15 @@ package io.opentelemetry.sdk.metrics;
 import io.opentelemetry.api.common.AttributeKey;
 import io.opentelemetry.api.common.Attributes;
 import io.opentelemetry.api.metrics.DoubleCounterBuilder;
-import io.opentelemetry.api.metrics.LongCounter;
 import io.opentelemetry.api.metrics.ObservableLongCounter;
 import io.opentelemetry.api.metrics.ObservableLongMeasurement;
 import io.opentelemetry.context.Context;
+import io.opentelemetry.extension.incubator.metrics.BoundLongCounter;
+import io.opentelemetry.extension.incubator.metrics.ExtendedLongCounter;
 import io.opentelemetry.extension.incubator.metrics.ExtendedLongCounterBuilder;
 import io.opentelemetry.sdk.internal.ThrottlingLogger;
 import io.opentelemetry.sdk.metrics.internal.descriptor.InstrumentDescriptor;
+import io.opentelemetry.sdk.metrics.internal.state.BoundStorageHandle;
 import io.opentelemetry.sdk.metrics.internal.state.MeterProviderSharedState;
 import io.opentelemetry.sdk.metrics.internal.state.MeterSharedState;
 import io.opentelemetry.sdk.metrics.internal.state.WriteableMetricStorage;
@@ -23,7 +25,7 @@ import java.util.function.Consumer;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
-final class SdkLongCounter extends AbstractInstrument implements LongCounter {
+final class SdkLongCounter extends AbstractInstrument implements ExtendedLongCounter {
 
   private static final Logger logger = Logger.getLogger(SdkLongCounter.class.getName());
 
@@ -38,7 +40,7 @@ final class SdkLongCounter extends AbstractInstrument implements LongCounter {
   @Override
   public void add(long increment, Attributes attributes, Context context) {
     if (increment < 0) {
-      throttlingLogger.log(Level.WARNING, "Counters can only increase. Instrument " + getDescriptor().getName() + " has recorded a negative value.");
+      logNegativeIncrement();
       return;
     }
     // 这里先是调用MultiWritableMetricStorage再调用DefaultSynchronousMetricStorage
@@ -55,6 +57,47 @@ final class SdkLongCounter extends AbstractInstrument implements LongCounter {
     add(increment, Attributes.empty());
   }
 
+  @Override
+  public BoundLongCounter bind(Attributes attributes) {
+    return new SdkBoundLongCounter(storage.bind(attributes));
+  }
+
+  private void logNegativeIncrement() {
+    throttlingLogger.log(
+        Level.WARNING,
+        "Counters can only increase. Instrument "
+            + getDescriptor().getName()
+            + " has recorded a negative value.");
+  }
+
+  private final class SdkBoundLongCounter implements BoundLongCounter {
+
+    private final BoundStorageHandle handle;
+
+    private SdkBoundLongCounter(BoundStorageHandle handle) {
+      this.handle = handle;
+    }
+
+    @Override
+    public void add(long increment) {
+      add(increment, Context.current());
+    }
+
+    @Override
+    public void add(long increment, Context context) {
+      if (increment < 0) {
+        logNegativeIncrement();
+        return;
+      }
+      handle.recordLong(increment, context);
+    }
+
+    @Override
+    public void unbind() {
+      handle.release();
+    }
+  }
+
   static final class SdkLongCounterBuilder extends AbstractInstrumentBuilder<SdkLongCounterBuilder> implements ExtendedLongCounterBuilder {
 
     SdkLongCounterBuilder(MeterProviderSharedState meterProviderSharedState, MeterSharedState meterSharedState, String name) {
@@ -20,6 +20,7 @@ import io.opentelemetry.sdk.metrics.internal.SdkMeterProviderUtil;
 import io.opentelemetry.sdk.metrics.internal.exemplar.ExemplarFilter;
 import io.opentelemetry.sdk.metrics.internal.export.CardinalityLimitSelector;
 import io.opentelemetry.sdk.metrics.internal.export.RegisteredReader;
+import io.opentelemetry.sdk.metrics.internal.state.CallbackExecutor;
 import io.opentelemetry.sdk.metrics.internal.state.MeterProviderSharedState;
 import io.opentelemetry.sdk.metrics.internal.view.RegisteredView;
 import io.opentelemetry.sdk.metrics.internal.view.ViewRegistry;
@@ -30,9 +31,14 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.logging.Logger;
+import javax.annotation.Nullable;
 
 /**
  * SDK implementation for {@link MeterProvider}.
@@ -49,6 +55,8 @@ public final class SdkMeterProvider implements MeterProvider, Closeable {
   private final List<MetricProducer> metricProducers;
   private final MeterProviderSharedState sharedState;
   private final ComponentRegistry<SdkMeter> registry;
+  private final List<ForkJoinPool> collectionPools = new ArrayList<>();
+  @Nullable private final CallbackExecutor callbackExecutor;
   private final AtomicBoolean isClosed = new AtomicBoolean(false);
 
   /** Returns a new {@link SdkMeterProviderBuilder} for {@link SdkMeterProvider}. */
@@ -57,7 +65,8 @@ public final class SdkMeterProvider implements MeterProvider, Closeable {
   }
 
   SdkMeterProvider(List<RegisteredView> registeredViews, IdentityHashMap<MetricReader, CardinalityLimitSelector> metricReaders,
-      List<MetricProducer> metricProducers, Clock clock, Resource resource, ExemplarFilter exemplarFilter) {
+      List<MetricProducer> metricProducers, Clock clock, Resource resource, ExemplarFilter exemplarFilter,
+      int collectionParallelism, int callbackParallelism, long callbackTimeoutNanos, boolean reuseLastCallbackValues) {
     long startEpochNanos = clock.now();   // 调用SystemClock.now()其实就是获取当前时间戳
     this.registeredViews = registeredViews;
     // 这里进行了一次封装，其实就是将PeriodicMetricReader和新生成的ViewRegistry封装到RegisteredReader
@@ -69,11 +78,26 @@ public final class SdkMeterProvider implements MeterProvider, Closeable {
     // clock传入的是SystemClock，exemplarFilter传入的一般默认为TraceBasedExemplarFilter
     this.sharedState = MeterProviderSharedState.create(clock, resource, exemplarFilter, startEpochNanos);
     // 每次通过SdkMeterBuilder构建Meter时会根据名称生成InstrumentationScopeInfo，然后缓存下来
-    this.registry = new ComponentRegistry<>(instrumentationLibraryInfo -> new SdkMeter(sharedState, instrumentationLibraryInfo, registeredReaders));
+    // 配置了回调超时或并发时，异步instrument的回调在独立的有界线程池中执行
+    if (callbackParallelism > 1 || callbackTimeoutNanos > 0) {
+      this.callbackExecutor = CallbackExecutor.create(callbackParallelism, callbackTimeoutNanos, reuseLastCallbackValues);
+    } else {
+      this.callbackExecutor = null;
+    }
+    CallbackExecutor callbackExecutor = this.callbackExecutor;
+    this.registry = new ComponentRegistry<>(instrumentationLibraryInfo ->
+        new SdkMeter(sharedState, instrumentationLibraryInfo, registeredReaders, callbackExecutor));
     for (RegisteredReader registeredReader : registeredReaders) {
       List<MetricProducer> readerMetricProducers = new ArrayList<>(metricProducers);
       // 这里的MetricProducer是LeasedMetricProducer
-      readerMetricProducers.add(new LeasedMetricProducer(registry, sharedState, registeredReader));
+      // 开启并行采集时，每个reader使用独立的有界ForkJoinPool，不同reader的并发采集互不影响
+      ForkJoinPool collectionPool = null;
+      if (collectionParallelism > 1) {
+        collectionPool = newCollectionPool(collectionParallelism);
+        collectionPools.add(collectionPool);
+      }
+      readerMetricProducers.add(
+          new LeasedMetricProducer(registry, sharedState, registeredReader, collectionPool));
       /*
        * 这里比较重要，确定了PeriodicMetricReader中持有的CollectionRegistration为SdkCollectionRegistration
        * 且这里调用RegisteredReader的getReader获取到的是PeriodicMetricReader，这里实际是调用的PeriodicMetricReader的register
@@ -82,6 +106,9 @@ public final class SdkMeterProvider implements MeterProvider, Closeable {
       registeredReader.getReader().register(new SdkCollectionRegistration(readerMetricProducers, sharedState));
       registeredReader.setLastCollectEpochNanos(startEpochNanos);
     }
+    if (callbackExecutor != null) {
+      callbackExecutor.registerMetrics(this);
+    }
   }
 
   @Override
@@ -137,7 +164,29 @@ public final class SdkMeterProvider implements MeterProvider, Closeable {
     for (RegisteredReader info : registeredReaders) {
       results.add(info.getReader().shutdown());
     }
-    return CompletableResultCode.ofAll(results);
+    // Readers may collect a last time when shutting down
+    return CompletableResultCode.ofAll(results)
+        .whenComplete(
+            () -> {
+              collectionPools.forEach(ForkJoinPool::shutdown);
+              if (callbackExecutor != null) {
+                callbackExecutor.shutdown();
+              }
+            });
+  }
+
+  private static ForkJoinPool newCollectionPool(int parallelism) {
+    return new ForkJoinPool(
+        parallelism,
+        pool -> {
+          ForkJoinWorkerThread thread =
+              ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+          thread.setName("otel-metrics-collect-" + thread.getPoolIndex());
+          thread.setDaemon(true);
+          return thread;
+        },
+        null,
+        /* asyncMode= */ false);
   }
 
   /** Close the meter provider. Calls {@link #shutdown()} and blocks waiting for it to complete. */
@@ -168,14 +217,17 @@ public final class SdkMeterProvider implements MeterProvider, Closeable {
     private final ComponentRegistry<SdkMeter> registry;
     private final MeterProviderSharedState sharedState;
     private final RegisteredReader registeredReader;
+    @Nullable private final ForkJoinPool collectionPool;
 
     LeasedMetricProducer(
         ComponentRegistry<SdkMeter> registry,
         MeterProviderSharedState sharedState,
-        RegisteredReader registeredReader) {
+        RegisteredReader registeredReader,
+        @Nullable ForkJoinPool collectionPool) {
       this.registry = registry;
       this.sharedState = sharedState;
       this.registeredReader = registeredReader;
+      this.collectionPool = collectionPool;
     }
 
     @Override
@@ -183,8 +235,27 @@ public final class SdkMeterProvider implements MeterProvider, Closeable {
       Collection<SdkMeter> meters = registry.getComponents();
       List<MetricData> result = new ArrayList<>();
       long collectTime = sharedState.getClock().now();
-      for (SdkMeter meter : meters) {
-        result.addAll(meter.collectAll(registeredReader, collectTime));
+      if (collectionPool != null && meters.size() > 1) {
+        // Meters are collected concurrently, results are merged in the order of the meters
+        List<ForkJoinTask<Collection<MetricData>>> tasks = new ArrayList<>(meters.size());
+        for (SdkMeter meter : meters) {
+          ForkJoinTask<Collection<MetricData>> task =
+              ForkJoinTask.adapt(() -> meter.collectAll(registeredReader, collectTime));
+          try {
+            collectionPool.execute(task);
+          } catch (RejectedExecutionException e) {
+            // The provider is shut down, collect on this thread
+            task.invoke();
+          }
+          tasks.add(task);
+        }
+        for (ForkJoinTask<Collection<MetricData>> task : tasks) {
+          result.addAll(task.join());
+        }
+      } else {
+        for (SdkMeter meter : meters) {
+          result.addAll(meter.collectAll(registeredReader, collectTime));
+        }
       }
       registeredReader.setLastCollectEpochNanos(collectTime);
       return Collections.unmodifiableCollection(result);
@@ -5,6 +5,8 @@
 
 package io.opentelemetry.sdk.metrics;
 
+import static io.opentelemetry.api.internal.Utils.checkArgument;
+
 import io.opentelemetry.sdk.common.Clock;
 import io.opentelemetry.sdk.metrics.export.MetricProducer;
 import io.opentelemetry.sdk.metrics.export.MetricReader;
@@ -12,8 +14,10 @@ import io.opentelemetry.sdk.metrics.internal.SdkMeterProviderUtil;
 import io.opentelemetry.sdk.metrics.internal.debug.SourceInfo;
 import io.opentelemetry.sdk.metrics.internal.exemplar.ExemplarFilter;
 import io.opentelemetry.sdk.metrics.internal.export.CardinalityLimitSelector;
+import io.opentelemetry.sdk.metrics.internal.state.CallbackExecutor;
 import io.opentelemetry.sdk.metrics.internal.view.RegisteredView;
 import io.opentelemetry.sdk.resources.Resource;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.IdentityHashMap;
 import java.util.List;
@@ -39,6 +43,11 @@ public final class SdkMeterProviderBuilder {
   private final List<MetricProducer> metricProducers = new ArrayList<>();
   private final List<RegisteredView> registeredViews = new ArrayList<>();
   private ExemplarFilter exemplarFilter = DEFAULT_EXEMPLAR_FILTER;
+  private int collectionParallelism = 1;
+  // 0 if not set, defaults to 1 or, with a callback timeout, to more threads
+  private int callbackParallelism;
+  private long callbackTimeoutNanos;
+  private boolean reuseLastCallbackValues;
 
   SdkMeterProviderBuilder() {}
 
@@ -83,6 +92,55 @@ public final class SdkMeterProviderBuilder {
     return this;
   }
 
+  /**
+   * Sets the number of threads collecting the meters of each {@link MetricReader} in parallel. By
+   * default, meters are collected one after the other on the thread of the reader. Parallel
+   * collection shortens collection when there are many meters, at the cost of invoking callbacks
+   * of asynchronous instruments on the collection threads.
+   *
+   * <p>Note: not currently stable but available for experimental use via {@link
+   * SdkMeterProviderUtil#setCollectionParallelism(SdkMeterProviderBuilder, int)}.
+   */
+  SdkMeterProviderBuilder setCollectionParallelism(int collectionParallelism) {
+    checkArgument(collectionParallelism >= 1, "collectionParallelism must be positive");
+    this.collectionParallelism = collectionParallelism;
+    return this;
+  }
+
+  /**
+   * Sets the number of threads running the callbacks of asynchronous instruments in parallel. By
+   * default, callbacks run one after the other on the collecting thread, or on {@value
+   * CallbackExecutor#DEFAULT_PARALLELISM_WITH_TIMEOUT} threads if a callback timeout is set. With a
+   * callback timeout, more than one thread is required so that a callback which doesn't complete
+   * doesn't hold back the others.
+   *
+   * <p>Note: not currently stable but available for experimental use via {@link
+   * SdkMeterProviderUtil#setCallbackParallelism(SdkMeterProviderBuilder, int)}.
+   */
+  SdkMeterProviderBuilder setCallbackParallelism(int callbackParallelism) {
+    checkArgument(callbackParallelism >= 1, "callbackParallelism must be positive");
+    this.callbackParallelism = callbackParallelism;
+    return this;
+  }
+
+  /**
+   * Sets how long a collection waits for the callbacks of asynchronous instruments. Callbacks are
+   * then run on separate threads, those not completing in time are skipped for the collection. If
+   * {@code reuseLastValues} is set, the values of their last completed run are reported instead.
+   * Unless set otherwise, callbacks run on {@value
+   * CallbackExecutor#DEFAULT_PARALLELISM_WITH_TIMEOUT} threads.
+   *
+   * <p>Note: not currently stable but available for experimental use via {@link
+   * SdkMeterProviderUtil#setCallbackTimeout(SdkMeterProviderBuilder, Duration, boolean)}.
+   */
+  SdkMeterProviderBuilder setCallbackTimeout(Duration timeout, boolean reuseLastValues) {
+    Objects.requireNonNull(timeout, "timeout");
+    checkArgument(!timeout.isNegative() && !timeout.isZero(), "timeout must be positive");
+    this.callbackTimeoutNanos = timeout.toNanos();
+    this.reuseLastCallbackValues = reuseLastValues;
+    return this;
+  }
+
   /**
    * Register a {@link View}.
    *
@@ -116,6 +174,7 @@ public final class SdkMeterProviderBuilder {
             view,
             view.getAttributesProcessor(),
             view.getCardinalityLimit(),
+            view.getMaxIdleCollections(),
             SourceInfo.fromCurrentStack()));
     return this;
   }
@@ -150,6 +209,24 @@ public final class SdkMeterProviderBuilder {
 
   /** Returns an {@link SdkMeterProvider} built with the configuration of this builder. */
   public SdkMeterProvider build() {
-    return new SdkMeterProvider(registeredViews, metricReaders, metricProducers, clock, resource, exemplarFilter);
+    int callbackParallelism = this.callbackParallelism;
+    if (callbackTimeoutNanos > 0) {
+      checkArgument(
+          callbackParallelism != 1, "callbackParallelism must be greater than 1 with a timeout");
+      if (callbackParallelism == 0) {
+        callbackParallelism = CallbackExecutor.DEFAULT_PARALLELISM_WITH_TIMEOUT;
+      }
+    }
+    return new SdkMeterProvider(
+        registeredViews,
+        metricReaders,
+        metricProducers,
+        clock,
+        resource,
+        exemplarFilter,
+        collectionParallelism,
+        callbackParallelism,
+        callbackTimeoutNanos,
+        reuseLastCallbackValues);
   }
 }
@@ -29,8 +29,9 @@ public abstract class View {
   }
 
   static View create(@Nullable String name, @Nullable String description, Aggregation aggregation,
-      AttributesProcessor attributesProcessor, int cardinalityLimit) {
-    return new AutoValue_View(name, description, aggregation, attributesProcessor, cardinalityLimit);
+      AttributesProcessor attributesProcessor, int cardinalityLimit, int maxIdleCollections) {
+    return new AutoValue_View(name, description, aggregation, attributesProcessor, cardinalityLimit,
+        maxIdleCollections);
   }
 
   View() {}
@@ -58,6 +59,12 @@ public abstract class View {
   /** Returns the cardinality limit for this view. */
   abstract int getCardinalityLimit();
 
+  /**
+   * Returns the number of consecutive collections without recordings after which a series is
+   * evicted, {@code 0} if series are never evicted.
+   */
+  abstract int getMaxIdleCollections();
+
   @Override
   public final String toString() {
     StringJoiner joiner = new StringJoiner(", ", "View{", "}");
@@ -70,6 +77,9 @@ public abstract class View {
     joiner.add("aggregation=" + getAggregation());
     joiner.add("attributesProcessor=" + getAttributesProcessor());
     joiner.add("cardinalityLimit=" + getCardinalityLimit());
+    if (getMaxIdleCollections() > 0) {
+      joiner.add("maxIdleCollections=" + getMaxIdleCollections());
+    }
     return joiner.toString();
   }
 }
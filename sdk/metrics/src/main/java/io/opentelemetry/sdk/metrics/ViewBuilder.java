@@ -28,6 +28,7 @@ public final class ViewBuilder {
   private Aggregation aggregation = Aggregation.defaultAggregation();
   private AttributesProcessor processor = AttributesProcessor.noop();
   private int cardinalityLimit = MetricStorage.DEFAULT_MAX_CARDINALITY;
+  private int maxIdleCollections = 0;
 
   ViewBuilder() {}
 
@@ -117,8 +118,28 @@ public final class ViewBuilder {
     return this;
   }
 
+  /**
+   * Set the number of consecutive collections without recordings after which a series is evicted,
+   * freeing its slot towards the cardinality limit. Only applies to synchronous instruments with
+   * CUMULATIVE temporality. A series recorded again after being evicted starts over, with the time
+   * of the preceding collection as start time.
+   *
+   * <p>Note: not currently stable but the number of collections can be configured via {@link
+   * SdkMeterProviderUtil#setMaxIdleCollections(ViewBuilder, int)}.
+   *
+   * @param maxIdleCollections the number of collections, {@code 0} if series are never evicted
+   */
+  ViewBuilder setMaxIdleCollections(int maxIdleCollections) {
+    if (maxIdleCollections < 0) {
+      throw new IllegalArgumentException("maxIdleCollections must be >= 0");
+    }
+    this.maxIdleCollections = maxIdleCollections;
+    return this;
+  }
+
   /** Returns a {@link View} with the configuration of this builder. */
   public View build() {
-    return View.create(name, description, aggregation, processor, cardinalityLimit);
+    return View.create(
+        name, description, aggregation, processor, cardinalityLimit, maxIdleCollections);
   }
 }
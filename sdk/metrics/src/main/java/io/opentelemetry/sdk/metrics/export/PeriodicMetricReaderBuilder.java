@@ -8,7 +8,7 @@ package io.opentelemetry.sdk.metrics.export;
 import static io.opentelemetry.api.internal.Utils.checkArgument;
 import static java.util.Objects.requireNonNull;
 
-import io.opentelemetry.sdk.internal.DaemonThreadFactory;
+import io.opentelemetry.sdk.internal.JavaVersionSpecific;
 import java.time.Duration;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
@@ -63,7 +63,10 @@ public final class PeriodicMetricReaderBuilder {
   public PeriodicMetricReader build() {
     ScheduledExecutorService executor = this.executor;
     if (executor == null) {
-      executor = Executors.newScheduledThreadPool(1, new DaemonThreadFactory("PeriodicMetricReader"));
+      // Runs on a virtual thread on Java 21+ when enabled, like the batch processor workers.
+      executor =
+          Executors.newScheduledThreadPool(
+              1, JavaVersionSpecific.get().newWorkerThreadFactory("PeriodicMetricReader"));
     }
     return new PeriodicMetricReader(metricExporter, intervalNanos, executor);
   }
@@ -15,6 +15,7 @@ import io.opentelemetry.sdk.metrics.internal.view.AttributesProcessor;
 import io.opentelemetry.sdk.metrics.internal.view.StringPredicates;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.time.Duration;
 import java.util.function.Predicate;
 
 /**
@@ -41,6 +42,66 @@ public final class SdkMeterProviderUtil {
     }
   }
 
+  /**
+   * Reflectively set the number of threads collecting the meters of each {@link MetricReader} in
+   * parallel on the {@link SdkMeterProviderBuilder}.
+   *
+   * @param sdkMeterProviderBuilder the builder
+   */
+  public static void setCollectionParallelism(
+      SdkMeterProviderBuilder sdkMeterProviderBuilder, int collectionParallelism) {
+    try {
+      Method method =
+          SdkMeterProviderBuilder.class.getDeclaredMethod("setCollectionParallelism", int.class);
+      method.setAccessible(true);
+      method.invoke(sdkMeterProviderBuilder, collectionParallelism);
+    } catch (NoSuchMethodException | IllegalAccessException | InvocationTargetException e) {
+      throw new IllegalStateException(
+          "Error calling setCollectionParallelism on SdkMeterProviderBuilder", e);
+    }
+  }
+
+  /**
+   * Reflectively set the number of threads running the callbacks of asynchronous instruments in
+   * parallel on the {@link SdkMeterProviderBuilder}.
+   *
+   * @param sdkMeterProviderBuilder the builder
+   */
+  public static void setCallbackParallelism(
+      SdkMeterProviderBuilder sdkMeterProviderBuilder, int callbackParallelism) {
+    try {
+      Method method =
+          SdkMeterProviderBuilder.class.getDeclaredMethod("setCallbackParallelism", int.class);
+      method.setAccessible(true);
+      method.invoke(sdkMeterProviderBuilder, callbackParallelism);
+    } catch (NoSuchMethodException | IllegalAccessException | InvocationTargetException e) {
+      throw new IllegalStateException(
+          "Error calling setCallbackParallelism on SdkMeterProviderBuilder", e);
+    }
+  }
+
+  /**
+   * Reflectively set how long collections wait for the callbacks of asynchronous instruments on
+   * the {@link SdkMeterProviderBuilder}.
+   *
+   * @param sdkMeterProviderBuilder the builder
+   * @param reuseLastValues whether to report the values of the last completed run of callbacks
+   *     which do not complete in time
+   */
+  public static void setCallbackTimeout(
+      SdkMeterProviderBuilder sdkMeterProviderBuilder, Duration timeout, boolean reuseLastValues) {
+    try {
+      Method method =
+          SdkMeterProviderBuilder.class.getDeclaredMethod(
+              "setCallbackTimeout", Duration.class, boolean.class);
+      method.setAccessible(true);
+      method.invoke(sdkMeterProviderBuilder, timeout, reuseLastValues);
+    } catch (NoSuchMethodException | IllegalAccessException | InvocationTargetException e) {
+      throw new IllegalStateException(
+          "Error calling setCallbackTimeout on SdkMeterProviderBuilder", e);
+    }
+  }
+
   /**
    * Reflectively add a {@link MetricReader} with the {@link CardinalityLimitSelector} to the {@link
    * SdkMeterProviderBuilder}.
@@ -114,6 +175,21 @@ public final class SdkMeterProviderUtil {
     }
   }
 
+  /**
+   * Reflectively set the {@code maxIdleCollections} on the {@link ViewBuilder}.
+   *
+   * @param viewBuilder the builder
+   */
+  public static void setMaxIdleCollections(ViewBuilder viewBuilder, int maxIdleCollections) {
+    try {
+      Method method = ViewBuilder.class.getDeclaredMethod("setMaxIdleCollections", int.class);
+      method.setAccessible(true);
+      method.invoke(viewBuilder, maxIdleCollections);
+    } catch (NoSuchMethodException | InvocationTargetException | IllegalAccessException e) {
+      throw new IllegalStateException("Error setting maxIdleCollections on ViewBuilder", e);
+    }
+  }
+
   /** Reflectively reset the {@link SdkMeterProvider}, clearing all registered instruments. */
   public static void resetForTest(SdkMeterProvider sdkMeterProvider) {
     try {
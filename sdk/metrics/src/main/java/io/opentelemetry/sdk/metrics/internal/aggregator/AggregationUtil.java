@@ -26,6 +26,7 @@ public class AggregationUtil {
   private static final String AGGREGATION_EXPLICIT_BUCKET_HISTOGRAM = "explicit_bucket_histogram";
   private static final String AGGREGATION_BASE2_EXPONENTIAL_HISTOGRAM =
       "base2_exponential_bucket_histogram";
+  private static final String AGGREGATION_QUANTILE_SKETCH = "quantile_sketch";
 
   static {
     aggregationByName = new HashMap<>();
@@ -37,6 +38,7 @@ public class AggregationUtil {
         AGGREGATION_EXPLICIT_BUCKET_HISTOGRAM, Aggregation.explicitBucketHistogram());
     aggregationByName.put(
         AGGREGATION_BASE2_EXPONENTIAL_HISTOGRAM, Aggregation.base2ExponentialBucketHistogram());
+    aggregationByName.put(AGGREGATION_QUANTILE_SKETCH, Aggregation.quantileSketch());
 
     nameByAggregation = new HashMap<>();
     nameByAggregation.put(Aggregation.defaultAggregation().getClass(), AGGREGATION_DEFAULT);
@@ -48,6 +50,7 @@ public class AggregationUtil {
     nameByAggregation.put(
         Aggregation.base2ExponentialBucketHistogram().getClass(),
         AGGREGATION_BASE2_EXPONENTIAL_HISTOGRAM);
+    nameByAggregation.put(Aggregation.quantileSketch().getClass(), AGGREGATION_QUANTILE_SKETCH);
   }
 
   private AggregationUtil() {}
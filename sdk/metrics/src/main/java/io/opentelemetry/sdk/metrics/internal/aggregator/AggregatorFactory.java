@@ -5,6 +5,7 @@
 
 package io.opentelemetry.sdk.metrics.internal.aggregator;
 
+import io.opentelemetry.sdk.common.export.MemoryMode;
 import io.opentelemetry.sdk.metrics.data.ExemplarData;
 import io.opentelemetry.sdk.metrics.data.PointData;
 import io.opentelemetry.sdk.metrics.internal.descriptor.InstrumentDescriptor;
@@ -26,15 +27,19 @@ public interface AggregatorFactory {
    * @param instrumentDescriptor the descriptor of the {@code Instrument} that will record
    *     measurements.
    * @param exemplarFilter the filter on which measurements should turn into exemplars
+   * @param memoryMode the {@link MemoryMode} of the reader, determining whether the aggregator may
+   *     reuse the points it produces across collections
    * @return a new {@link Aggregator}. {@link Aggregator#drop()} indicates no measurements should be
    *     recorded.
    */
   <T extends PointData, U extends ExemplarData> Aggregator<T, U> createAggregator(
-      InstrumentDescriptor instrumentDescriptor, ExemplarFilter exemplarFilter);
+      InstrumentDescriptor instrumentDescriptor,
+      ExemplarFilter exemplarFilter,
+      MemoryMode memoryMode);
 
   /**
    * Determine if the {@link Aggregator} produced by {@link #createAggregator(InstrumentDescriptor,
-   * ExemplarFilter)} is compatible with the {@code instrumentDescriptor}.
+   * ExemplarFilter, MemoryMode)} is compatible with the {@code instrumentDescriptor}.
    */
   boolean isCompatibleWithInstrument(InstrumentDescriptor instrumentDescriptor);
 }
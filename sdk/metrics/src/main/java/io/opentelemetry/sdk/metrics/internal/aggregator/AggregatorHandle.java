@@ -11,6 +11,7 @@ import io.opentelemetry.sdk.metrics.data.ExemplarData;
 import io.opentelemetry.sdk.metrics.data.PointData;
 import io.opentelemetry.sdk.metrics.internal.exemplar.ExemplarReservoir;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
 import javax.annotation.concurrent.ThreadSafe;
 
 /**
@@ -26,9 +27,36 @@ import javax.annotation.concurrent.ThreadSafe;
 @ThreadSafe
 public abstract class AggregatorHandle<T extends PointData, U extends ExemplarData> {
 
+  @SuppressWarnings("rawtypes")
+  private static final AtomicIntegerFieldUpdater<AggregatorHandle> VALUES_RECORDED =
+      AtomicIntegerFieldUpdater.newUpdater(AggregatorHandle.class, "valuesRecorded");
+
+  @SuppressWarnings("rawtypes")
+  private static final AtomicIntegerFieldUpdater<AggregatorHandle> RECORDED_SINCE_IDLE_CHECK =
+      AtomicIntegerFieldUpdater.newUpdater(AggregatorHandle.class, "recordedSinceIdleCheck");
+
+  private static final int ACTIVE = 0;
+  private static final int EVICTING = 1;
+  private static final int EVICTED = 2;
+
   // A reservoir of sampled exemplars for this time period.
   private final ExemplarReservoir<U> exemplarReservoir;
 
+  // 1 if a value has been recorded since the last call to resetRecordedValues()
+  private volatile int valuesRecorded = 0;
+
+  // The following are only maintained for cumulative series evicted once idle, see
+  // DefaultSynchronousMetricStorage.
+
+  // 1 if a value has been recorded since the last call to updateIdleCollections()
+  private volatile int recordedSinceIdleCheck = 0;
+  // Only accessed by the collecting thread
+  private int idleCollections = 0;
+  // One of ACTIVE, EVICTING or EVICTED
+  private volatile int evictionState = ACTIVE;
+  // The start of the series, if after the start of the storage
+  private volatile long seriesStartEpochNanos = 0;
+
   protected AggregatorHandle(ExemplarReservoir<U> exemplarReservoir) {
     this.exemplarReservoir = exemplarReservoir;
   }
@@ -68,6 +96,7 @@ public abstract class AggregatorHandle<T extends PointData, U extends ExemplarDa
    */
   public final void recordLong(long value) {
     doRecordLong(value);
+    markRecorded();
   }
 
   /**
@@ -93,6 +122,112 @@ public abstract class AggregatorHandle<T extends PointData, U extends ExemplarDa
    */
   public final void recordDouble(double value) {
     doRecordDouble(value);
+    markRecorded();
+  }
+
+  private void markRecorded() {
+    // Only write when the flag flips to avoid invalidating the cache line on every recording
+    if (valuesRecorded == 0) {
+      valuesRecorded = 1;
+    }
+    if (recordedSinceIdleCheck == 0) {
+      recordedSinceIdleCheck = 1;
+    }
+  }
+
+  /**
+   * Returns {@code true} if a value has been recorded since the last call to {@link
+   * #resetRecordedValues()}.
+   */
+  public final boolean hasRecordedValues() {
+    return valuesRecorded != 0;
+  }
+
+  /**
+   * Sets the flag returned by {@link #hasRecordedValues()} ahead of recording a value. Returns
+   * {@code true} if it was not set, which is the case for a single call between calls to {@link
+   * #resetRecordedValues()}, even with concurrent recordings.
+   */
+  public final boolean tryMarkRecorded() {
+    return valuesRecorded == 0 && VALUES_RECORDED.compareAndSet(this, 0, 1);
+  }
+
+  /**
+   * Clears the flag returned by {@link #hasRecordedValues()}, and returns its previous value.
+   *
+   * <p>Must only be called while no values are recorded into this handle, e.g. by the collecting
+   * thread once the DELTA storage has swapped out the holder of the handle and waited for the
+   * records in progress on it. Reading and clearing the flag along with {@link
+   * #aggregateThenMaybeReset(long, long, Attributes, boolean)} is then atomic with respect to
+   * recording: a value is neither left flagged for the next collection after being aggregated, nor
+   * recorded without being flagged.
+   */
+  public final boolean resetRecordedValues() {
+    return VALUES_RECORDED.getAndSet(this, 0) != 0;
+  }
+
+  /**
+   * Returns the number of consecutive calls to this method, including this one, without values
+   * recorded in between. Called by the collecting thread on each collection of the series.
+   */
+  public final int updateIdleCollections() {
+    if (RECORDED_SINCE_IDLE_CHECK.getAndSet(this, 0) != 0) {
+      idleCollections = 0;
+    } else {
+      idleCollections++;
+    }
+    return idleCollections;
+  }
+
+  /**
+   * Marks the handle as being evicted, which must be followed by {@link #endEviction(boolean)}.
+   * Returns {@code false} if a value has been recorded since the last call to {@link
+   * #updateIdleCollections()}, in which case the handle must not be evicted.
+   *
+   * <p>Recordings racing with the eviction wait in {@link #awaitEvicted()} for it to complete, so
+   * that either the handle is kept, or they record again into the handle replacing it.
+   */
+  public final boolean beginEviction() {
+    evictionState = EVICTING;
+    return recordedSinceIdleCheck == 0;
+  }
+
+  /** Completes the eviction started by {@link #beginEviction()}. */
+  public final void endEviction(boolean evicted) {
+    if (evicted) {
+      evictionState = EVICTED;
+    } else {
+      idleCollections = 0;
+      evictionState = ACTIVE;
+    }
+  }
+
+  /**
+   * Returns {@code true} if this handle has been evicted, in which case values recorded into it are
+   * lost and must be recorded again. Called after recording, waits for an eviction in progress to
+   * complete.
+   *
+   * <p>The wait spins without backing off, as an eviction only spans the removal of the handle from
+   * the map of its storage by the collecting thread, between {@link #beginEviction()} and {@link
+   * #endEviction(boolean)}, and the handle stays {@code EVICTING} for no longer than that.
+   */
+  public final boolean awaitEvicted() {
+    int state = evictionState;
+    // Thread.onSpinWait() would be preferable but requires Java 9
+    while (state == EVICTING) {
+      state = evictionState;
+    }
+    return state == EVICTED;
+  }
+
+  /** Sets the start of the series, for series created after the start of the storage. */
+  public final void setSeriesStartEpochNanos(long seriesStartEpochNanos) {
+    this.seriesStartEpochNanos = seriesStartEpochNanos;
+  }
+
+  /** Returns the start of the series, {@code 0} if it started along with the storage. */
+  public final long getSeriesStartEpochNanos() {
+    return seriesStartEpochNanos;
   }
 
   /**
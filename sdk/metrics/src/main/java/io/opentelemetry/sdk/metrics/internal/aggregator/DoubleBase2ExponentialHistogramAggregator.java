@@ -7,6 +7,7 @@ package io.opentelemetry.sdk.metrics.internal.aggregator;
 
 import com.google.auto.value.AutoValue;
 import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.internal.GuardedBy;
 import io.opentelemetry.sdk.common.InstrumentationScopeInfo;
 import io.opentelemetry.sdk.metrics.data.AggregationTemporality;
 import io.opentelemetry.sdk.metrics.data.DoubleExemplarData;
@@ -24,6 +25,7 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Supplier;
 import javax.annotation.Nullable;
 
@@ -39,6 +41,7 @@ public final class DoubleBase2ExponentialHistogramAggregator
   private final Supplier<ExemplarReservoir<DoubleExemplarData>> reservoirSupplier;
   private final int maxBuckets;
   private final int maxScale;
+  private final boolean striped;
 
   /**
    * Constructs an exponential histogram aggregator.
@@ -49,13 +52,32 @@ public final class DoubleBase2ExponentialHistogramAggregator
       Supplier<ExemplarReservoir<DoubleExemplarData>> reservoirSupplier,
       int maxBuckets,
       int maxScale) {
+    this(reservoirSupplier, maxBuckets, maxScale, /* striped= */ false);
+  }
+
+  /**
+   * Constructs an exponential histogram aggregator.
+   *
+   * @param reservoirSupplier Supplier of exemplar reservoirs per-stream.
+   * @param striped Whether handles spread recordings over per-core stripes, each with its own
+   *     buckets and scale, trading memory per series for less contention between recording threads.
+   */
+  public DoubleBase2ExponentialHistogramAggregator(
+      Supplier<ExemplarReservoir<DoubleExemplarData>> reservoirSupplier,
+      int maxBuckets,
+      int maxScale,
+      boolean striped) {
     this.reservoirSupplier = reservoirSupplier;
     this.maxBuckets = maxBuckets;
     this.maxScale = maxScale;
+    this.striped = striped;
   }
 
   @Override
   public AggregatorHandle<ExponentialHistogramPointData, DoubleExemplarData> createHandle() {
+    if (striped) {
+      return new StripedHandle(reservoirSupplier.get(), maxBuckets, maxScale);
+    }
     return new Handle(reservoirSupplier.get(), maxBuckets, maxScale);
   }
 
@@ -207,6 +229,244 @@ public final class DoubleBase2ExponentialHistogramAggregator
     }
   }
 
+  /**
+   * A {@link Handle} alternative which spreads recordings over stripes, each with its own lock,
+   * buckets and scale, selected by the id of the recording thread. Rescaling only blocks the
+   * threads of one stripe. Stripes are merged at a common scale when aggregating.
+   */
+  static final class StripedHandle
+      extends AggregatorHandle<ExponentialHistogramPointData, DoubleExemplarData> {
+    // Never more stripes than this, bounding the memory used per series
+    private static final int MAX_STRIPES = 64;
+    private static final int NUM_STRIPES =
+        Math.min(MAX_STRIPES, nextPowerOfTwo(Runtime.getRuntime().availableProcessors()));
+
+    private final int maxBuckets;
+    private final int maxScale;
+    private final Stripe[] stripes;
+
+    // Serializes aggregations
+    private final ReentrantLock aggregateLock = new ReentrantLock();
+
+    StripedHandle(ExemplarReservoir<DoubleExemplarData> reservoir, int maxBuckets, int maxScale) {
+      this(reservoir, maxBuckets, maxScale, NUM_STRIPES);
+    }
+
+    // Visible for testing
+    StripedHandle(
+        ExemplarReservoir<DoubleExemplarData> reservoir,
+        int maxBuckets,
+        int maxScale,
+        int numStripes) {
+      super(reservoir);
+      this.maxBuckets = maxBuckets;
+      this.maxScale = maxScale;
+      this.stripes = new Stripe[nextPowerOfTwo(numStripes)];
+      for (int i = 0; i < stripes.length; i++) {
+        stripes[i] = new Stripe(maxBuckets, maxScale);
+      }
+    }
+
+    @Override
+    protected ExponentialHistogramPointData doAggregateThenMaybeReset(
+        long startEpochNanos,
+        long epochNanos,
+        Attributes attributes,
+        List<DoubleExemplarData> exemplars,
+        boolean reset) {
+      aggregateLock.lock();
+      try {
+        int scale = maxScale;
+        double sum = 0;
+        long zeroCount = 0;
+        double min = Double.MAX_VALUE;
+        double max = -1;
+        long count = 0;
+        DoubleBase2ExponentialHistogramBuckets positiveBuckets = null;
+        DoubleBase2ExponentialHistogramBuckets negativeBuckets = null;
+        for (Stripe stripe : stripes) {
+          stripe.lock.lock();
+          try {
+            if (stripe.count == 0) {
+              continue;
+            }
+            scale = Math.min(scale, stripe.scale);
+            sum += stripe.sum;
+            zeroCount += stripe.zeroCount;
+            min = Math.min(min, stripe.min);
+            max = Math.max(max, stripe.max);
+            count += stripe.count;
+            if (stripe.positiveBuckets != null) {
+              if (positiveBuckets == null) {
+                positiveBuckets = new DoubleBase2ExponentialHistogramBuckets(maxScale, maxBuckets);
+              }
+              positiveBuckets.merge(stripe.positiveBuckets);
+            }
+            if (stripe.negativeBuckets != null) {
+              if (negativeBuckets == null) {
+                negativeBuckets = new DoubleBase2ExponentialHistogramBuckets(maxScale, maxBuckets);
+              }
+              negativeBuckets.merge(stripe.negativeBuckets);
+            }
+            if (reset) {
+              stripe.reset();
+            }
+          } finally {
+            stripe.lock.unlock();
+          }
+        }
+        // Positive and negative buckets share the scale of the point
+        if (positiveBuckets != null) {
+          scale = Math.min(scale, positiveBuckets.getScale());
+        }
+        if (negativeBuckets != null) {
+          scale = Math.min(scale, negativeBuckets.getScale());
+        }
+        return ImmutableExponentialHistogramPointData.create(
+            scale,
+            sum,
+            zeroCount,
+            count > 0,
+            min,
+            count > 0,
+            max,
+            atScale(positiveBuckets, scale),
+            atScale(negativeBuckets, scale),
+            startEpochNanos,
+            epochNanos,
+            attributes,
+            exemplars);
+      } finally {
+        aggregateLock.unlock();
+      }
+    }
+
+    private static ExponentialHistogramBuckets atScale(
+        @Nullable DoubleBase2ExponentialHistogramBuckets buckets, int scale) {
+      if (buckets == null) {
+        return EmptyExponentialHistogramBuckets.get(scale);
+      }
+      buckets.downscale(buckets.getScale() - scale);
+      return buckets;
+    }
+
+    @Override
+    protected void doRecordDouble(double value) {
+      // ignore NaN and infinity
+      if (!Double.isFinite(value)) {
+        return;
+      }
+      // Thread ids are assigned sequentially, so consecutive threads land on distinct stripes
+      Stripe stripe = stripes[(int) Thread.currentThread().getId() & (stripes.length - 1)];
+      stripe.lock.lock();
+      try {
+        stripe.record(value);
+      } finally {
+        stripe.lock.unlock();
+      }
+    }
+
+    @Override
+    protected void doRecordLong(long value) {
+      doRecordDouble((double) value);
+    }
+
+    private static int nextPowerOfTwo(int value) {
+      return value <= 1 ? 1 : Integer.highestOneBit(value - 1) << 1;
+    }
+
+    private static final class Stripe {
+      private final ReentrantLock lock = new ReentrantLock();
+      private final int maxBuckets;
+      private final int maxScale;
+
+      @GuardedBy("lock")
+      @Nullable
+      private DoubleBase2ExponentialHistogramBuckets positiveBuckets;
+
+      @GuardedBy("lock")
+      @Nullable
+      private DoubleBase2ExponentialHistogramBuckets negativeBuckets;
+
+      @GuardedBy("lock")
+      private long zeroCount;
+
+      @GuardedBy("lock")
+      private double sum;
+
+      @GuardedBy("lock")
+      private double min = Double.MAX_VALUE;
+
+      @GuardedBy("lock")
+      private double max = -1;
+
+      @GuardedBy("lock")
+      private long count;
+
+      @GuardedBy("lock")
+      private int scale;
+
+      private Stripe(int maxBuckets, int maxScale) {
+        this.maxBuckets = maxBuckets;
+        this.maxScale = maxScale;
+        this.scale = maxScale;
+      }
+
+      @GuardedBy("lock")
+      private void record(double value) {
+        sum += value;
+        min = Math.min(min, value);
+        max = Math.max(max, value);
+        count++;
+
+        int c = Double.compare(value, 0);
+        DoubleBase2ExponentialHistogramBuckets buckets;
+        if (c == 0) {
+          zeroCount++;
+          return;
+        } else if (c > 0) {
+          if (positiveBuckets == null) {
+            positiveBuckets = new DoubleBase2ExponentialHistogramBuckets(scale, maxBuckets);
+          }
+          buckets = positiveBuckets;
+        } else {
+          if (negativeBuckets == null) {
+            negativeBuckets = new DoubleBase2ExponentialHistogramBuckets(scale, maxBuckets);
+          }
+          buckets = negativeBuckets;
+        }
+
+        if (!buckets.record(value)) {
+          int by = buckets.getScaleReduction(value);
+          if (positiveBuckets != null) {
+            positiveBuckets.downscale(by);
+          }
+          if (negativeBuckets != null) {
+            negativeBuckets.downscale(by);
+          }
+          scale -= by;
+          buckets.record(value);
+        }
+      }
+
+      @GuardedBy("lock")
+      private void reset() {
+        sum = 0;
+        zeroCount = 0;
+        min = Double.MAX_VALUE;
+        max = -1;
+        count = 0;
+        scale = maxScale;
+        if (positiveBuckets != null) {
+          positiveBuckets.clear(maxScale);
+        }
+        if (negativeBuckets != null) {
+          negativeBuckets.clear(maxScale);
+        }
+      }
+    }
+  }
+
   @AutoValue
   abstract static class EmptyExponentialHistogramBuckets implements ExponentialHistogramBuckets {
 
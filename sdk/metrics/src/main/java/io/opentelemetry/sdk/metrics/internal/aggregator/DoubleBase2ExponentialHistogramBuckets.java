@@ -126,6 +126,38 @@ final class DoubleBase2ExponentialHistogramBuckets implements ExponentialHistogr
     this.base2ExponentialHistogramIndexer = Base2ExponentialHistogramIndexer.get(this.scale);
   }
 
+  /**
+   * Adds the counts of {@code other} to these buckets, downscaling them as required to fit both
+   * within the max number of buckets.
+   */
+  void merge(DoubleBase2ExponentialHistogramBuckets other) {
+    if (other.scale < this.scale) {
+      downscale(this.scale - other.scale);
+    }
+    if (other.counts.isEmpty()) {
+      return;
+    }
+    int by = other.scale - this.scale;
+    long newStart = other.counts.getIndexStart() >> by;
+    long newEnd = other.counts.getIndexEnd() >> by;
+    if (!counts.isEmpty()) {
+      newStart = Math.min(newStart, counts.getIndexStart());
+      newEnd = Math.max(newEnd, counts.getIndexEnd());
+    }
+    int scaleReduction = getScaleReduction(newStart, newEnd);
+    downscale(scaleReduction);
+    by += scaleReduction;
+
+    for (int i = other.counts.getIndexStart(); i <= other.counts.getIndexEnd(); i++) {
+      long count = other.counts.get(i);
+      if (count > 0 && !counts.increment(i >> by, count)) {
+        // Theoretically won't happen unless there's an overflow on index
+        throw new IllegalStateException("Failed to merge buckets.");
+      }
+    }
+    this.totalCount += other.totalCount;
+  }
+
   @Override
   public int getScale() {
     return scale;
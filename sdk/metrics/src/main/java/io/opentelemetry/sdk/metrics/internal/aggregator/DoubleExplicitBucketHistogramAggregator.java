@@ -8,6 +8,7 @@ package io.opentelemetry.sdk.metrics.internal.aggregator;
 import io.opentelemetry.api.common.Attributes;
 import io.opentelemetry.api.internal.GuardedBy;
 import io.opentelemetry.sdk.common.InstrumentationScopeInfo;
+import io.opentelemetry.sdk.common.export.MemoryMode;
 import io.opentelemetry.sdk.internal.PrimitiveLongList;
 import io.opentelemetry.sdk.metrics.data.AggregationTemporality;
 import io.opentelemetry.sdk.metrics.data.DoubleExemplarData;
@@ -16,6 +17,7 @@ import io.opentelemetry.sdk.metrics.data.MetricData;
 import io.opentelemetry.sdk.metrics.internal.data.ImmutableHistogramData;
 import io.opentelemetry.sdk.metrics.internal.data.ImmutableHistogramPointData;
 import io.opentelemetry.sdk.metrics.internal.data.ImmutableMetricData;
+import io.opentelemetry.sdk.metrics.internal.data.MutableHistogramPointData;
 import io.opentelemetry.sdk.metrics.internal.descriptor.MetricDescriptor;
 import io.opentelemetry.sdk.metrics.internal.exemplar.ExemplarReservoir;
 import io.opentelemetry.sdk.resources.Resource;
@@ -26,6 +28,7 @@ import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Supplier;
+import javax.annotation.Nullable;
 
 /**
  * Aggregator that generates explicit bucket histograms.
@@ -41,16 +44,40 @@ public final class DoubleExplicitBucketHistogramAggregator
   private final List<Double> boundaryList;
 
   private final Supplier<ExemplarReservoir<DoubleExemplarData>> reservoirSupplier;
+  private final MemoryMode memoryMode;
+  private final boolean striped;
 
   /**
    * Constructs an explicit bucket histogram aggregator.
    *
    * @param boundaries Bucket boundaries, in-order.
    * @param reservoirSupplier Supplier of exemplar reservoirs per-stream.
+   * @param memoryMode The memory mode of the reader, determining whether points are reused.
    */
   public DoubleExplicitBucketHistogramAggregator(
-      double[] boundaries, Supplier<ExemplarReservoir<DoubleExemplarData>> reservoirSupplier) {
+      double[] boundaries,
+      Supplier<ExemplarReservoir<DoubleExemplarData>> reservoirSupplier,
+      MemoryMode memoryMode) {
+    this(boundaries, reservoirSupplier, memoryMode, /* striped= */ false);
+  }
+
+  /**
+   * Constructs an explicit bucket histogram aggregator.
+   *
+   * @param boundaries Bucket boundaries, in-order.
+   * @param reservoirSupplier Supplier of exemplar reservoirs per-stream.
+   * @param memoryMode The memory mode of the reader, determining whether points are reused.
+   * @param striped Whether handles spread recordings over per-core stripes, trading memory per
+   *     series for less contention when many threads record into the same series.
+   */
+  public DoubleExplicitBucketHistogramAggregator(
+      double[] boundaries,
+      Supplier<ExemplarReservoir<DoubleExemplarData>> reservoirSupplier,
+      MemoryMode memoryMode,
+      boolean striped) {
     this.boundaries = boundaries;
+    this.memoryMode = memoryMode;
+    this.striped = striped;
 
     List<Double> boundaryList = new ArrayList<>(this.boundaries.length);
     for (double v : this.boundaries) {
@@ -62,7 +89,11 @@ public final class DoubleExplicitBucketHistogramAggregator
 
   @Override
   public AggregatorHandle<HistogramPointData, DoubleExemplarData> createHandle() {
-    return new Handle(this.boundaryList, this.boundaries, reservoirSupplier.get());
+    if (striped) {
+      return new StripedHandle(
+          this.boundaryList, this.boundaries, reservoirSupplier.get(), memoryMode);
+    }
+    return new Handle(this.boundaryList, this.boundaries, reservoirSupplier.get(), memoryMode);
   }
 
   @Override
@@ -104,10 +135,14 @@ public final class DoubleExplicitBucketHistogramAggregator
 
     private final ReentrantLock lock = new ReentrantLock();
 
+    // Only used when memoryMode is REUSABLE_DATA
+    @Nullable private final MutableHistogramPointData reusablePoint;
+
     Handle(
         List<Double> boundaryList,
         double[] boundaries,
-        ExemplarReservoir<DoubleExemplarData> reservoir) {
+        ExemplarReservoir<DoubleExemplarData> reservoir,
+        MemoryMode memoryMode) {
       super(reservoir);
       this.boundaryList = boundaryList;
       this.boundaries = boundaries;
@@ -116,6 +151,11 @@ public final class DoubleExplicitBucketHistogramAggregator
       this.min = Double.MAX_VALUE;
       this.max = -1;
       this.count = 0;
+      if (memoryMode == MemoryMode.REUSABLE_DATA) {
+        this.reusablePoint = new MutableHistogramPointData(counts.length);
+      } else {
+        this.reusablePoint = null;
+      }
     }
 
     @Override
@@ -123,18 +163,34 @@ public final class DoubleExplicitBucketHistogramAggregator
         List<DoubleExemplarData> exemplars, boolean reset) {
       lock.lock();
       try {
-        HistogramPointData pointData = ImmutableHistogramPointData.create(
-                startEpochNanos,
-                epochNanos,
-                attributes,
-                sum,
-                this.count > 0,
-                this.min,
-                this.count > 0,
-                this.max,
-                boundaryList,
-                PrimitiveLongList.wrap(Arrays.copyOf(counts, counts.length)),
-                exemplars);
+        HistogramPointData pointData;
+        if (reusablePoint != null) {
+          pointData = reusablePoint.set(
+              startEpochNanos,
+              epochNanos,
+              attributes,
+              sum,
+              this.count > 0,
+              this.min,
+              this.count > 0,
+              this.max,
+              boundaryList,
+              counts,
+              exemplars);
+        } else {
+          pointData = ImmutableHistogramPointData.create(
+              startEpochNanos,
+              epochNanos,
+              attributes,
+              sum,
+              this.count > 0,
+              this.min,
+              this.count > 0,
+              this.max,
+              boundaryList,
+              PrimitiveLongList.wrap(Arrays.copyOf(counts, counts.length)),
+              exemplars);
+        }
         if (reset) {
           this.sum = 0;
           this.min = Double.MAX_VALUE;
@@ -169,4 +225,186 @@ public final class DoubleExplicitBucketHistogramAggregator
       doRecordDouble((double) value);
     }
   }
+
+  /**
+   * A {@link Handle} alternative which spreads recordings over stripes, each with its own lock and
+   * bucket counts, selected by the id of the recording thread. Stripes are merged when aggregating.
+   */
+  static final class StripedHandle
+      extends AggregatorHandle<HistogramPointData, DoubleExemplarData> {
+    // Never more stripes than this, bounding the memory used per series
+    private static final int MAX_STRIPES = 64;
+    private static final int NUM_STRIPES =
+        Math.min(MAX_STRIPES, nextPowerOfTwo(Runtime.getRuntime().availableProcessors()));
+
+    // read-only
+    private final List<Double> boundaryList;
+    // read-only
+    private final double[] boundaries;
+
+    private final Stripe[] stripes;
+
+    // Serializes aggregations, which merge the stripes into the fields below
+    private final ReentrantLock aggregateLock = new ReentrantLock();
+
+    @GuardedBy("aggregateLock")
+    private final long[] mergedCounts;
+
+    // Only used when memoryMode is REUSABLE_DATA
+    @Nullable private final MutableHistogramPointData reusablePoint;
+
+    StripedHandle(
+        List<Double> boundaryList,
+        double[] boundaries,
+        ExemplarReservoir<DoubleExemplarData> reservoir,
+        MemoryMode memoryMode) {
+      this(boundaryList, boundaries, reservoir, memoryMode, NUM_STRIPES);
+    }
+
+    // Visible for testing
+    StripedHandle(
+        List<Double> boundaryList,
+        double[] boundaries,
+        ExemplarReservoir<DoubleExemplarData> reservoir,
+        MemoryMode memoryMode,
+        int numStripes) {
+      super(reservoir);
+      this.boundaryList = boundaryList;
+      this.boundaries = boundaries;
+      this.stripes = new Stripe[nextPowerOfTwo(numStripes)];
+      for (int i = 0; i < stripes.length; i++) {
+        stripes[i] = new Stripe(boundaries.length + 1);
+      }
+      this.mergedCounts = new long[boundaries.length + 1];
+      if (memoryMode == MemoryMode.REUSABLE_DATA) {
+        this.reusablePoint = new MutableHistogramPointData(mergedCounts.length);
+      } else {
+        this.reusablePoint = null;
+      }
+    }
+
+    @Override
+    protected HistogramPointData doAggregateThenMaybeReset(
+        long startEpochNanos,
+        long epochNanos,
+        Attributes attributes,
+        List<DoubleExemplarData> exemplars,
+        boolean reset) {
+      aggregateLock.lock();
+      try {
+        double sum = 0;
+        double min = Double.MAX_VALUE;
+        double max = -1;
+        long count = 0;
+        Arrays.fill(mergedCounts, 0);
+        for (Stripe stripe : stripes) {
+          stripe.lock.lock();
+          try {
+            if (stripe.count == 0) {
+              continue;
+            }
+            sum += stripe.sum;
+            min = Math.min(min, stripe.min);
+            max = Math.max(max, stripe.max);
+            count += stripe.count;
+            for (int i = 0; i < mergedCounts.length; i++) {
+              mergedCounts[i] += stripe.counts[i];
+            }
+            if (reset) {
+              stripe.reset();
+            }
+          } finally {
+            stripe.lock.unlock();
+          }
+        }
+        if (reusablePoint != null) {
+          return reusablePoint.set(
+              startEpochNanos,
+              epochNanos,
+              attributes,
+              sum,
+              count > 0,
+              min,
+              count > 0,
+              max,
+              boundaryList,
+              mergedCounts,
+              exemplars);
+        }
+        return ImmutableHistogramPointData.create(
+            startEpochNanos,
+            epochNanos,
+            attributes,
+            sum,
+            count > 0,
+            min,
+            count > 0,
+            max,
+            boundaryList,
+            PrimitiveLongList.wrap(Arrays.copyOf(mergedCounts, mergedCounts.length)),
+            exemplars);
+      } finally {
+        aggregateLock.unlock();
+      }
+    }
+
+    @Override
+    protected void doRecordDouble(double value) {
+      int bucketIndex = ExplicitBucketHistogramUtils.findBucketIndex(this.boundaries, value);
+
+      // Thread ids are assigned sequentially, so consecutive threads land on distinct stripes
+      Stripe stripe = stripes[(int) Thread.currentThread().getId() & (stripes.length - 1)];
+      stripe.lock.lock();
+      try {
+        stripe.sum += value;
+        stripe.min = Math.min(stripe.min, value);
+        stripe.max = Math.max(stripe.max, value);
+        stripe.count++;
+        stripe.counts[bucketIndex]++;
+      } finally {
+        stripe.lock.unlock();
+      }
+    }
+
+    @Override
+    protected void doRecordLong(long value) {
+      doRecordDouble((double) value);
+    }
+
+    private static int nextPowerOfTwo(int value) {
+      return value <= 1 ? 1 : Integer.highestOneBit(value - 1) << 1;
+    }
+
+    private static final class Stripe {
+      private final ReentrantLock lock = new ReentrantLock();
+
+      @GuardedBy("lock")
+      private double sum;
+
+      @GuardedBy("lock")
+      private double min = Double.MAX_VALUE;
+
+      @GuardedBy("lock")
+      private double max = -1;
+
+      @GuardedBy("lock")
+      private long count;
+
+      @GuardedBy("lock")
+      private final long[] counts;
+
+      private Stripe(int buckets) {
+        this.counts = new long[buckets];
+      }
+
+      @GuardedBy("lock")
+      private void reset() {
+        sum = 0;
+        min = Double.MAX_VALUE;
+        max = -1;
+        count = 0;
+        Arrays.fill(counts, 0);
+      }
+    }
+  }
 }
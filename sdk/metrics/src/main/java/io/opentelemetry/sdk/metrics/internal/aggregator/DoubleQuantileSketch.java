@@ -0,0 +1,333 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.metrics.internal.aggregator;
+
+import io.opentelemetry.sdk.internal.PrimitiveLongList;
+import io.opentelemetry.sdk.metrics.data.ExponentialHistogramBuckets;
+import io.opentelemetry.sdk.metrics.internal.data.ImmutableExponentialHistogramBuckets;
+import java.util.Arrays;
+
+/**
+ * A mergeable quantile sketch with relative accuracy guarantees and bounded memory, after <a
+ * href="https://arxiv.org/abs/1908.10693">DDSketch</a>.
+ *
+ * <p>Values are counted in the buckets of a base2 exponential histogram at a fixed scale, chosen so
+ * that any value within a bucket estimates all others within the relative accuracy. Unlike {@link
+ * DoubleBase2ExponentialHistogramBuckets}, the scale is never reduced to fit values within the max
+ * number of buckets. Instead the lowest buckets are collapsed into the lowest remaining one, which
+ * keeps the relative accuracy of high quantiles, at the expense of the lowest ones. Since the
+ * buckets are those of an exponential histogram, the sketch can be exported as one as well.
+ *
+ * <p>This class is not thread-safe.
+ *
+ * <p>This class is internal and is hence not for public use. Its APIs are unstable and can change
+ * at any time.
+ */
+final class DoubleQuantileSketch {
+
+  private static final double LN_2 = Math.log(2);
+
+  private final int scale;
+  private final Base2ExponentialHistogramIndexer indexer;
+  // The estimate of a bucket relative to its lower boundary, the one with the lowest relative error
+  // to both boundaries
+  private final double estimateFactor;
+  // Buckets of the absolute value of positive and negative values
+  private final Store positiveStore;
+  private final Store negativeStore;
+  private long zeroCount;
+  private long count;
+  private double sum;
+  private double min = Double.MAX_VALUE;
+  private double max = -Double.MAX_VALUE;
+
+  /**
+   * Creates a sketch at the given {@code scale}, see {@link #scaleForRelativeAccuracy(double)}, and
+   * with at most {@code maxBuckets} buckets for positive values, and negative ones.
+   */
+  DoubleQuantileSketch(int scale, int maxBuckets) {
+    this.scale = scale;
+    this.indexer = Base2ExponentialHistogramIndexer.get(scale);
+    double base = Math.pow(2, Math.pow(2, -scale));
+    this.estimateFactor = 2 * base / (1 + base);
+    this.positiveStore = new Store(maxBuckets);
+    this.negativeStore = new Store(maxBuckets);
+  }
+
+  /**
+   * Returns the lowest scale at which estimating values by their bucket has a relative error of at
+   * most {@code relativeAccuracy}.
+   */
+  static int scaleForRelativeAccuracy(double relativeAccuracy) {
+    // Buckets have a relative width of base = 2^(2^-scale), the estimate of their value has a
+    // relative error of (base - 1) / (base + 1)
+    double maxBase = (1 + relativeAccuracy) / (1 - relativeAccuracy);
+    return (int) Math.ceil(-Math.log(Math.log(maxBase) / LN_2) / LN_2);
+  }
+
+  void record(double value) {
+    // ignore NaN and infinity
+    if (!Double.isFinite(value)) {
+      return;
+    }
+    sum += value;
+    min = Math.min(min, value);
+    max = Math.max(max, value);
+    count++;
+    if (value > 0) {
+      positiveStore.add(indexer.computeIndex(value), 1);
+    } else if (value < 0) {
+      negativeStore.add(indexer.computeIndex(value), 1);
+    } else {
+      zeroCount++;
+    }
+  }
+
+  /** Adds the values recorded by {@code other}, which must have the same scale, to this sketch. */
+  void merge(DoubleQuantileSketch other) {
+    if (other.scale != scale) {
+      // This should never happen without an SDK bug
+      throw new IllegalArgumentException(
+          "Cannot merge sketch of scale " + other.scale + " into scale " + scale + ".");
+    }
+    if (other.count == 0) {
+      return;
+    }
+    sum += other.sum;
+    min = Math.min(min, other.min);
+    max = Math.max(max, other.max);
+    count += other.count;
+    zeroCount += other.zeroCount;
+    positiveStore.merge(other.positiveStore);
+    negativeStore.merge(other.negativeStore);
+  }
+
+  /** Resets the sketch, keeping the memory allocated for buckets. */
+  void clear() {
+    sum = 0;
+    min = Double.MAX_VALUE;
+    max = -Double.MAX_VALUE;
+    count = 0;
+    zeroCount = 0;
+    positiveStore.clear();
+    negativeStore.clear();
+  }
+
+  /**
+   * Returns an estimate of the value at {@code quantile}, within the relative accuracy of the
+   * sketch unless its buckets were collapsed, or {@link Double#NaN} if no values were recorded.
+   * Quantiles {@code 0} and {@code 1} return the exact min and max.
+   */
+  double getValueAtQuantile(double quantile) {
+    if (count == 0) {
+      return Double.NaN;
+    }
+    if (quantile <= 0) {
+      return min;
+    }
+    if (quantile >= 1) {
+      return max;
+    }
+    long rank = (long) (quantile * (count - 1));
+    double value;
+    if (rank < negativeStore.totalCount) {
+      // Negative values are ordered from the highest absolute value down
+      value = -estimate(negativeStore.getIndexAtRank(negativeStore.totalCount - 1 - rank));
+    } else if (rank < negativeStore.totalCount + zeroCount) {
+      value = 0;
+    } else {
+      value = estimate(positiveStore.getIndexAtRank(rank - negativeStore.totalCount - zeroCount));
+    }
+    // The estimate may lie outside the recorded values within the first and last buckets
+    return Math.min(max, Math.max(min, value));
+  }
+
+  private double estimate(int index) {
+    // The lower boundary of bucket index is base^index = 2^(index * 2^-scale)
+    return Math.exp(Math.scalb(index * LN_2, -scale)) * estimateFactor;
+  }
+
+  int getScale() {
+    return scale;
+  }
+
+  long getCount() {
+    return count;
+  }
+
+  long getZeroCount() {
+    return zeroCount;
+  }
+
+  double getSum() {
+    return sum;
+  }
+
+  double getMin() {
+    return min;
+  }
+
+  double getMax() {
+    return max;
+  }
+
+  ExponentialHistogramBuckets getPositiveBuckets() {
+    return positiveStore.toBuckets(scale);
+  }
+
+  ExponentialHistogramBuckets getNegativeBuckets() {
+    return negativeStore.toBuckets(scale);
+  }
+
+  /** Returns the number of buckets allocated, for estimating the memory used by the sketch. */
+  int getBucketCapacity() {
+    return positiveStore.counts.length + negativeStore.counts.length;
+  }
+
+  /**
+   * Dense bucket counts, growing on demand up to {@code maxBuckets}. Once the range of recorded
+   * indexes exceeds it, the lowest buckets are collapsed into the lowest remaining one.
+   */
+  private static final class Store {
+    private static final long[] EMPTY = new long[0];
+    private static final int INITIAL_CAPACITY = 32;
+
+    private final int maxBuckets;
+    // counts[i] is the count of bucket offset + i
+    private long[] counts = EMPTY;
+    private int offset;
+    // The range of buckets with counts, only valid if totalCount > 0
+    private int minIndex;
+    private int maxIndex;
+    private long totalCount;
+
+    private Store(int maxBuckets) {
+      this.maxBuckets = maxBuckets;
+    }
+
+    private void add(int index, long count) {
+      if (totalCount == 0) {
+        minIndex = index;
+        maxIndex = index;
+        if (counts.length == 0) {
+          counts = new long[Math.min(INITIAL_CAPACITY, maxBuckets)];
+        }
+        offset = index - counts.length / 2;
+      } else if (index < minIndex) {
+        if (maxIndex - index >= maxBuckets) {
+          // Collapse into the lowest bucket
+          index = maxIndex - maxBuckets + 1;
+        }
+        if (index < minIndex) {
+          extendRange(index, maxIndex);
+          minIndex = index;
+        }
+      } else if (index > maxIndex) {
+        if (index - minIndex >= maxBuckets) {
+          collapseBelow(index - maxBuckets + 1);
+        }
+        extendRange(minIndex, index);
+        maxIndex = index;
+      }
+      counts[index - offset] += count;
+      totalCount += count;
+    }
+
+    /** Moves the counts of buckets below {@code newMinIndex} to bucket {@code newMinIndex}. */
+    private void collapseBelow(int newMinIndex) {
+      long collapsed = 0;
+      int end = Math.min(maxIndex, newMinIndex - 1);
+      for (int index = minIndex; index <= end; index++) {
+        collapsed += counts[index - offset];
+        counts[index - offset] = 0;
+      }
+      if (newMinIndex > maxIndex) {
+        // All buckets collapsed, move the range to the new bucket
+        minIndex = newMinIndex;
+        maxIndex = newMinIndex;
+        offset = newMinIndex - counts.length / 2;
+        counts[newMinIndex - offset] = collapsed;
+        return;
+      }
+      minIndex = newMinIndex;
+      counts[newMinIndex - offset] += collapsed;
+    }
+
+    /** Makes room for buckets {@code from} to {@code to}, a superset of the current range. */
+    private void extendRange(int from, int to) {
+      if (from >= offset && to < offset + counts.length) {
+        return;
+      }
+      int length = to - from + 1;
+      long[] newCounts = counts;
+      if (length > counts.length) {
+        newCounts = new long[Math.min(maxBuckets, Math.max(length, 2 * counts.length))];
+      }
+      // Center the range, leaving room to grow in both directions
+      int newOffset = from - (newCounts.length - length) / 2;
+      long[] oldCounts = counts;
+      int srcPos = minIndex - offset;
+      int destPos = minIndex - newOffset;
+      int rangeLength = maxIndex - minIndex + 1;
+      if (newCounts == oldCounts) {
+        System.arraycopy(oldCounts, srcPos, newCounts, destPos, rangeLength);
+        // Clear the part of the old range not overwritten
+        if (destPos > srcPos) {
+          Arrays.fill(newCounts, srcPos, Math.min(destPos, srcPos + rangeLength), 0);
+        } else {
+          Arrays.fill(newCounts, Math.max(destPos + rangeLength, srcPos), srcPos + rangeLength, 0);
+        }
+      } else {
+        System.arraycopy(oldCounts, srcPos, newCounts, destPos, rangeLength);
+      }
+      counts = newCounts;
+      offset = newOffset;
+    }
+
+    private void merge(Store other) {
+      if (other.totalCount == 0) {
+        return;
+      }
+      for (int index = other.minIndex; index <= other.maxIndex; index++) {
+        long count = other.counts[index - other.offset];
+        if (count > 0) {
+          add(index, count);
+        }
+      }
+    }
+
+    /** Returns the index of the bucket holding the value of 0-based {@code rank}. */
+    private int getIndexAtRank(long rank) {
+      long cumulativeCount = 0;
+      for (int index = minIndex; index < maxIndex; index++) {
+        cumulativeCount += counts[index - offset];
+        if (cumulativeCount > rank) {
+          return index;
+        }
+      }
+      return maxIndex;
+    }
+
+    private void clear() {
+      if (totalCount > 0) {
+        Arrays.fill(counts, minIndex - offset, maxIndex - offset + 1, 0);
+      }
+      totalCount = 0;
+    }
+
+    private ExponentialHistogramBuckets toBuckets(int scale) {
+      if (totalCount == 0) {
+        return DoubleBase2ExponentialHistogramAggregator.EmptyExponentialHistogramBuckets.get(
+            scale);
+      }
+      return ImmutableExponentialHistogramBuckets.create(
+          scale,
+          minIndex,
+          PrimitiveLongList.wrap(
+              Arrays.copyOfRange(counts, minIndex - offset, maxIndex - offset + 1)));
+    }
+  }
+}
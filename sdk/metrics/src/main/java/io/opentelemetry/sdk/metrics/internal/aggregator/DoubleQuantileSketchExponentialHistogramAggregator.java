@@ -0,0 +1,127 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.metrics.internal.aggregator;
+
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.sdk.common.InstrumentationScopeInfo;
+import io.opentelemetry.sdk.metrics.data.AggregationTemporality;
+import io.opentelemetry.sdk.metrics.data.DoubleExemplarData;
+import io.opentelemetry.sdk.metrics.data.ExponentialHistogramPointData;
+import io.opentelemetry.sdk.metrics.data.MetricData;
+import io.opentelemetry.sdk.metrics.internal.data.ImmutableExponentialHistogramData;
+import io.opentelemetry.sdk.metrics.internal.data.ImmutableExponentialHistogramPointData;
+import io.opentelemetry.sdk.metrics.internal.data.ImmutableMetricData;
+import io.opentelemetry.sdk.metrics.internal.descriptor.MetricDescriptor;
+import io.opentelemetry.sdk.metrics.internal.exemplar.ExemplarReservoir;
+import io.opentelemetry.sdk.resources.Resource;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Aggregator that generates base2 exponential histograms from a {@link DoubleQuantileSketch}.
+ *
+ * <p>Unlike {@link DoubleBase2ExponentialHistogramAggregator}, the scale is fixed by the relative
+ * accuracy of the sketch. Once values span more than the max number of buckets, the lowest buckets
+ * are collapsed into the lowest remaining one instead of reducing the scale.
+ *
+ * <p>This class is internal and is hence not for public use. Its APIs are unstable and can change
+ * at any time.
+ */
+public final class DoubleQuantileSketchExponentialHistogramAggregator
+    implements Aggregator<ExponentialHistogramPointData, DoubleExemplarData> {
+
+  private final Supplier<ExemplarReservoir<DoubleExemplarData>> reservoirSupplier;
+  private final int scale;
+  private final int maxBuckets;
+
+  /**
+   * Constructs a quantile sketch exponential histogram aggregator.
+   *
+   * @param reservoirSupplier Supplier of exemplar reservoirs per-stream.
+   * @param scale the scale of the sketch buckets, see {@link
+   *     DoubleQuantileSketchSummaryAggregator#scaleForRelativeAccuracy(double)}.
+   * @param maxBuckets the max number of positive buckets and negative buckets.
+   */
+  public DoubleQuantileSketchExponentialHistogramAggregator(
+      Supplier<ExemplarReservoir<DoubleExemplarData>> reservoirSupplier,
+      int scale,
+      int maxBuckets) {
+    this.reservoirSupplier = reservoirSupplier;
+    this.scale = scale;
+    this.maxBuckets = maxBuckets;
+  }
+
+  @Override
+  public AggregatorHandle<ExponentialHistogramPointData, DoubleExemplarData> createHandle() {
+    return new Handle(reservoirSupplier.get(), scale, maxBuckets);
+  }
+
+  @Override
+  public MetricData toMetricData(
+      Resource resource,
+      InstrumentationScopeInfo instrumentationScopeInfo,
+      MetricDescriptor metricDescriptor,
+      Collection<ExponentialHistogramPointData> points,
+      AggregationTemporality temporality) {
+    return ImmutableMetricData.createExponentialHistogram(
+        resource,
+        instrumentationScopeInfo,
+        metricDescriptor.getName(),
+        metricDescriptor.getDescription(),
+        metricDescriptor.getSourceInstrument().getUnit(),
+        ImmutableExponentialHistogramData.create(temporality, points));
+  }
+
+  static final class Handle
+      extends AggregatorHandle<ExponentialHistogramPointData, DoubleExemplarData> {
+    private final DoubleQuantileSketch sketch;
+
+    Handle(ExemplarReservoir<DoubleExemplarData> reservoir, int scale, int maxBuckets) {
+      super(reservoir);
+      this.sketch = new DoubleQuantileSketch(scale, maxBuckets);
+    }
+
+    @Override
+    protected synchronized ExponentialHistogramPointData doAggregateThenMaybeReset(
+        long startEpochNanos,
+        long epochNanos,
+        Attributes attributes,
+        List<DoubleExemplarData> exemplars,
+        boolean reset) {
+      long count = sketch.getCount();
+      ExponentialHistogramPointData point =
+          ImmutableExponentialHistogramPointData.create(
+              sketch.getScale(),
+              sketch.getSum(),
+              sketch.getZeroCount(),
+              count > 0,
+              count > 0 ? sketch.getMin() : 0,
+              count > 0,
+              count > 0 ? sketch.getMax() : 0,
+              sketch.getPositiveBuckets(),
+              sketch.getNegativeBuckets(),
+              startEpochNanos,
+              epochNanos,
+              attributes,
+              exemplars);
+      if (reset) {
+        sketch.clear();
+      }
+      return point;
+    }
+
+    @Override
+    protected synchronized void doRecordDouble(double value) {
+      sketch.record(value);
+    }
+
+    @Override
+    protected void doRecordLong(long value) {
+      doRecordDouble((double) value);
+    }
+  }
+}
@@ -0,0 +1,130 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.metrics.internal.aggregator;
+
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.sdk.common.InstrumentationScopeInfo;
+import io.opentelemetry.sdk.metrics.data.AggregationTemporality;
+import io.opentelemetry.sdk.metrics.data.DoubleExemplarData;
+import io.opentelemetry.sdk.metrics.data.MetricData;
+import io.opentelemetry.sdk.metrics.data.SummaryPointData;
+import io.opentelemetry.sdk.metrics.data.ValueAtQuantile;
+import io.opentelemetry.sdk.metrics.internal.data.ImmutableMetricData;
+import io.opentelemetry.sdk.metrics.internal.data.ImmutableSummaryData;
+import io.opentelemetry.sdk.metrics.internal.data.ImmutableSummaryPointData;
+import io.opentelemetry.sdk.metrics.internal.data.ImmutableValueAtQuantile;
+import io.opentelemetry.sdk.metrics.internal.descriptor.MetricDescriptor;
+import io.opentelemetry.sdk.metrics.internal.exemplar.ExemplarReservoir;
+import io.opentelemetry.sdk.resources.Resource;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Aggregator that generates summaries of the quantiles of measurements, estimated with a {@link
+ * DoubleQuantileSketch}.
+ *
+ * <p>Summaries do not carry exemplars, none are sampled.
+ *
+ * <p>This class is internal and is hence not for public use. Its APIs are unstable and can change
+ * at any time.
+ */
+public final class DoubleQuantileSketchSummaryAggregator
+    implements Aggregator<SummaryPointData, DoubleExemplarData> {
+
+  private final int scale;
+  private final int maxBuckets;
+  private final double[] quantiles;
+
+  /**
+   * Constructs a quantile sketch summary aggregator.
+   *
+   * @param scale the scale of the sketch buckets, see {@link #scaleForRelativeAccuracy(double)}.
+   * @param maxBuckets the max number of positive buckets and negative buckets.
+   * @param quantiles the quantiles to report, between {@code 0} and {@code 1}.
+   */
+  public DoubleQuantileSketchSummaryAggregator(int scale, int maxBuckets, List<Double> quantiles) {
+    this.scale = scale;
+    this.maxBuckets = maxBuckets;
+    this.quantiles = new double[quantiles.size()];
+    for (int i = 0; i < quantiles.size(); i++) {
+      this.quantiles[i] = quantiles.get(i);
+    }
+  }
+
+  /**
+   * Returns the scale of sketches estimating quantiles with a relative error of at most {@code
+   * relativeAccuracy}.
+   */
+  public static int scaleForRelativeAccuracy(double relativeAccuracy) {
+    return DoubleQuantileSketch.scaleForRelativeAccuracy(relativeAccuracy);
+  }
+
+  @Override
+  public AggregatorHandle<SummaryPointData, DoubleExemplarData> createHandle() {
+    return new Handle(scale, maxBuckets, quantiles);
+  }
+
+  @Override
+  public MetricData toMetricData(
+      Resource resource,
+      InstrumentationScopeInfo instrumentationScopeInfo,
+      MetricDescriptor metricDescriptor,
+      Collection<SummaryPointData> points,
+      AggregationTemporality temporality) {
+    return ImmutableMetricData.createDoubleSummary(
+        resource,
+        instrumentationScopeInfo,
+        metricDescriptor.getName(),
+        metricDescriptor.getDescription(),
+        metricDescriptor.getSourceInstrument().getUnit(),
+        ImmutableSummaryData.create(points));
+  }
+
+  static final class Handle extends AggregatorHandle<SummaryPointData, DoubleExemplarData> {
+    private final DoubleQuantileSketch sketch;
+    private final double[] quantiles;
+
+    Handle(int scale, int maxBuckets, double[] quantiles) {
+      super(ExemplarReservoir.doubleNoSamples());
+      this.sketch = new DoubleQuantileSketch(scale, maxBuckets);
+      this.quantiles = quantiles;
+    }
+
+    @Override
+    protected synchronized SummaryPointData doAggregateThenMaybeReset(
+        long startEpochNanos,
+        long epochNanos,
+        Attributes attributes,
+        List<DoubleExemplarData> exemplars,
+        boolean reset) {
+      List<ValueAtQuantile> values = new ArrayList<>(quantiles.length);
+      if (sketch.getCount() > 0) {
+        for (double quantile : quantiles) {
+          values.add(
+              ImmutableValueAtQuantile.create(quantile, sketch.getValueAtQuantile(quantile)));
+        }
+      }
+      SummaryPointData point =
+          ImmutableSummaryPointData.create(
+              startEpochNanos, epochNanos, attributes, sketch.getCount(), sketch.getSum(), values);
+      if (reset) {
+        sketch.clear();
+      }
+      return point;
+    }
+
+    @Override
+    protected synchronized void doRecordDouble(double value) {
+      sketch.record(value);
+    }
+
+    @Override
+    protected void doRecordLong(long value) {
+      doRecordDouble((double) value);
+    }
+  }
+}
@@ -7,6 +7,7 @@ package io.opentelemetry.sdk.metrics.internal.aggregator;
 
 import io.opentelemetry.api.common.Attributes;
 import io.opentelemetry.sdk.common.InstrumentationScopeInfo;
+import io.opentelemetry.sdk.common.export.MemoryMode;
 import io.opentelemetry.sdk.metrics.data.AggregationTemporality;
 import io.opentelemetry.sdk.metrics.data.LongExemplarData;
 import io.opentelemetry.sdk.metrics.data.LongPointData;
@@ -25,6 +26,7 @@ import io.opentelemetry.sdk.resources.Resource;
 import java.util.Collection;
 import java.util.List;
 import java.util.function.Supplier;
+import javax.annotation.Nullable;
 
 /**
  * Sum aggregator that keeps values as {@code long}s.
@@ -35,18 +37,20 @@ import java.util.function.Supplier;
 public final class LongSumAggregator extends AbstractSumAggregator<LongPointData, LongExemplarData> {
 
   private final Supplier<ExemplarReservoir<LongExemplarData>> reservoirSupplier;
+  private final MemoryMode memoryMode;
 
   public LongSumAggregator(InstrumentDescriptor instrumentDescriptor,
-      Supplier<ExemplarReservoir<LongExemplarData>> reservoirSupplier) {
+      Supplier<ExemplarReservoir<LongExemplarData>> reservoirSupplier, MemoryMode memoryMode) {
     super(instrumentDescriptor);
     this.reservoirSupplier = reservoirSupplier;
+    this.memoryMode = memoryMode;
   }
 
   @Override
   public AggregatorHandle<LongPointData, LongExemplarData> createHandle() {
     // 这里是调用具体Aggregation中createAggregator方法创建的函数表达式得到实际的ExemplarReservoir
     // 函数表达式也是通过调用ExemplarReservoir中的static方法来创建的，传入了具体的ExemplarFilter
-    return new Handle(reservoirSupplier.get());
+    return new Handle(reservoirSupplier.get(), memoryMode);
   }
 
   @Override
@@ -118,8 +122,16 @@ public final class LongSumAggregator extends AbstractSumAggregator<LongPointData
   static final class Handle extends AggregatorHandle<LongPointData, LongExemplarData> {
     private final LongAdder current = AdderUtil.createLongAdder();
 
-    Handle(ExemplarReservoir<LongExemplarData> exemplarReservoir) {
+    // Only used when memoryMode is REUSABLE_DATA
+    @Nullable private final MutableLongPointData reusablePoint;
+
+    Handle(ExemplarReservoir<LongExemplarData> exemplarReservoir, MemoryMode memoryMode) {
       super(exemplarReservoir);
+      if (memoryMode == MemoryMode.REUSABLE_DATA) {
+        reusablePoint = new MutableLongPointData();
+      } else {
+        reusablePoint = null;
+      }
     }
 
     @Override
@@ -130,6 +142,10 @@ public final class LongSumAggregator extends AbstractSumAggregator<LongPointData
         List<LongExemplarData> exemplars,
         boolean reset) {
       long value = reset ? this.current.sumThenReset() : this.current.sum();
+      if (reusablePoint != null) {
+        reusablePoint.set(startEpochNanos, epochNanos, attributes, value, exemplars);
+        return reusablePoint;
+      }
       return ImmutableLongPointData.create(startEpochNanos, epochNanos, attributes, value, exemplars);
     }
 
@@ -0,0 +1,246 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.metrics.internal.data;
+
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.sdk.internal.PrimitiveLongList;
+import io.opentelemetry.sdk.metrics.data.DoubleExemplarData;
+import io.opentelemetry.sdk.metrics.data.HistogramPointData;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * A mutable {@link HistogramPointData}
+ *
+ * <p>The bucket counts are kept in a primitive array sized at construction time and exposed
+ * through {@link PrimitiveLongList#wrap(long[])}, so resetting the point does not allocate.
+ *
+ * <p>This class is internal and is hence not for public use. Its APIs are unstable and can change
+ * at any time.
+ *
+ * <p>This class is not thread-safe.
+ */
+public final class MutableHistogramPointData implements HistogramPointData {
+
+  private long startEpochNanos;
+  private long epochNanos;
+  private Attributes attributes = Attributes.empty();
+  private double sum;
+  private long count;
+  private boolean hasMin;
+  private double min;
+  private boolean hasMax;
+  private double max;
+  private List<Double> boundaries = Collections.emptyList();
+  private final long[] counts;
+  private final List<Long> countsList;
+  private List<DoubleExemplarData> exemplars = Collections.emptyList();
+
+  /**
+   * Creates a point able to hold {@code buckets} bucket counts, which is one more than the number
+   * of boundaries.
+   */
+  public MutableHistogramPointData(int buckets) {
+    this.counts = new long[buckets];
+    this.countsList = PrimitiveLongList.wrap(this.counts);
+  }
+
+  @Override
+  public long getStartEpochNanos() {
+    return startEpochNanos;
+  }
+
+  @Override
+  public long getEpochNanos() {
+    return epochNanos;
+  }
+
+  @Override
+  public Attributes getAttributes() {
+    return attributes;
+  }
+
+  @Override
+  public double getSum() {
+    return sum;
+  }
+
+  @Override
+  public long getCount() {
+    return count;
+  }
+
+  @Override
+  public boolean hasMin() {
+    return hasMin;
+  }
+
+  @Override
+  public double getMin() {
+    return min;
+  }
+
+  @Override
+  public boolean hasMax() {
+    return hasMax;
+  }
+
+  @Override
+  public double getMax() {
+    return max;
+  }
+
+  @Override
+  public List<Double> getBoundaries() {
+    return boundaries;
+  }
+
+  @Override
+  public List<Long> getCounts() {
+    return countsList;
+  }
+
+  @Override
+  public List<DoubleExemplarData> getExemplars() {
+    return exemplars;
+  }
+
+  /**
+   * Sets all {@link MutableHistogramPointData} values. The {@code counts} are copied into the
+   * backing array of this point, and {@link #getCount()} is computed from them.
+   *
+   * @throws IllegalArgumentException if {@code counts} does not match the size of this point or
+   *     {@code boundaries}
+   */
+  @SuppressWarnings("TooManyParameters")
+  public MutableHistogramPointData set(
+      long startEpochNanos,
+      long epochNanos,
+      Attributes attributes,
+      double sum,
+      boolean hasMin,
+      double min,
+      boolean hasMax,
+      double max,
+      List<Double> boundaries,
+      long[] counts,
+      List<DoubleExemplarData> exemplars) {
+    if (this.counts.length != boundaries.size() + 1) {
+      throw new IllegalArgumentException(
+          "invalid boundaries: size should be "
+              + (this.counts.length - 1)
+              + " instead of "
+              + boundaries.size());
+    }
+    if (this.counts.length != counts.length) {
+      throw new IllegalArgumentException(
+          "invalid counts: size should be " + this.counts.length + " instead of " + counts.length);
+    }
+
+    long totalCount = 0;
+    for (int i = 0; i < counts.length; i++) {
+      this.counts[i] = counts[i];
+      totalCount += counts[i];
+    }
+    this.startEpochNanos = startEpochNanos;
+    this.epochNanos = epochNanos;
+    this.attributes = attributes;
+    this.sum = sum;
+    this.count = totalCount;
+    this.hasMin = hasMin;
+    this.min = min;
+    this.hasMax = hasMax;
+    this.max = max;
+    this.boundaries = boundaries;
+    this.exemplars = exemplars;
+    return this;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (!(o instanceof MutableHistogramPointData)) {
+      return false;
+    }
+    MutableHistogramPointData that = (MutableHistogramPointData) o;
+    return startEpochNanos == that.startEpochNanos
+        && epochNanos == that.epochNanos
+        && Double.doubleToLongBits(sum) == Double.doubleToLongBits(that.sum)
+        && count == that.count
+        && hasMin == that.hasMin
+        && Double.doubleToLongBits(min) == Double.doubleToLongBits(that.min)
+        && hasMax == that.hasMax
+        && Double.doubleToLongBits(max) == Double.doubleToLongBits(that.max)
+        && Objects.equals(attributes, that.attributes)
+        && Objects.equals(boundaries, that.boundaries)
+        && Arrays.equals(counts, that.counts)
+        && Objects.equals(exemplars, that.exemplars);
+  }
+
+  @Override
+  public int hashCode() {
+    int hashcode = 1;
+    hashcode *= 1000003;
+    hashcode ^= (int) ((startEpochNanos >>> 32) ^ startEpochNanos);
+    hashcode *= 1000003;
+    hashcode ^= (int) ((epochNanos >>> 32) ^ epochNanos);
+    hashcode *= 1000003;
+    hashcode ^= attributes.hashCode();
+    hashcode *= 1000003;
+    hashcode ^= (int) ((Double.doubleToLongBits(sum) >>> 32) ^ Double.doubleToLongBits(sum));
+    hashcode *= 1000003;
+    hashcode ^= (int) ((count >>> 32) ^ count);
+    hashcode *= 1000003;
+    hashcode ^= hasMin ? 1231 : 1237;
+    hashcode *= 1000003;
+    hashcode ^= (int) ((Double.doubleToLongBits(min) >>> 32) ^ Double.doubleToLongBits(min));
+    hashcode *= 1000003;
+    hashcode ^= hasMax ? 1231 : 1237;
+    hashcode *= 1000003;
+    hashcode ^= (int) ((Double.doubleToLongBits(max) >>> 32) ^ Double.doubleToLongBits(max));
+    hashcode *= 1000003;
+    hashcode ^= boundaries.hashCode();
+    hashcode *= 1000003;
+    hashcode ^= Arrays.hashCode(counts);
+    hashcode *= 1000003;
+    hashcode ^= exemplars.hashCode();
+    return hashcode;
+  }
+
+  @Override
+  public String toString() {
+    return "MutableHistogramPointData{"
+        + "startEpochNanos="
+        + startEpochNanos
+        + ", epochNanos="
+        + epochNanos
+        + ", attributes="
+        + attributes
+        + ", sum="
+        + sum
+        + ", count="
+        + count
+        + ", hasMin="
+        + hasMin
+        + ", min="
+        + min
+        + ", hasMax="
+        + hasMax
+        + ", max="
+        + max
+        + ", boundaries="
+        + boundaries
+        + ", counts="
+        + Arrays.toString(counts)
+        + ", exemplars="
+        + exemplars
+        + '}';
+  }
+}
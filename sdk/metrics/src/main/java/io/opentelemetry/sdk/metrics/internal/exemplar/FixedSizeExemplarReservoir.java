@@ -13,6 +13,7 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.function.BiFunction;
+import java.util.function.Function;
 
 /** Base for fixed-size reservoir sampling of Exemplars. */
 abstract class FixedSizeExemplarReservoir<T extends ExemplarData> implements ExemplarReservoir<T> {
@@ -22,15 +23,19 @@ abstract class FixedSizeExemplarReservoir<T extends ExemplarData> implements Exe
   private final BiFunction<ReservoirCell, Attributes, T> mapAndResetCell;
   private volatile boolean hasMeasurements = false;
 
-  /** Instantiates an exemplar reservoir of fixed size. */
+  /**
+   * Instantiates an exemplar reservoir of fixed size, with cells created by {@code cellFactory},
+   * e.g. {@link ReservoirCell#create(Clock)}.
+   */
   FixedSizeExemplarReservoir(
       Clock clock,
       int size,
       ReservoirCellSelector reservoirCellSelector,
-      BiFunction<ReservoirCell, Attributes, T> mapAndResetCell) {
+      BiFunction<ReservoirCell, Attributes, T> mapAndResetCell,
+      Function<Clock, ReservoirCell> cellFactory) {
     this.storage = new ReservoirCell[size];
     for (int i = 0; i < size; ++i) {
-      this.storage[i] = new ReservoirCell(clock);
+      this.storage[i] = cellFactory.apply(clock);
     }
     this.reservoirCellSelector = reservoirCellSelector;
     this.mapAndResetCell = mapAndResetCell;
@@ -39,8 +44,10 @@ abstract class FixedSizeExemplarReservoir<T extends ExemplarData> implements Exe
   @Override
   public void offerLongMeasurement(long value, Attributes attributes, Context context) {
     int bucket = reservoirCellSelector.reservoirCellIndexFor(storage, value, attributes, context);
-    if (bucket != -1) {
-      this.storage[bucket].recordLongMeasurement(value, attributes, context);
+    if (bucket != -1
+        && this.storage[bucket].recordLongMeasurement(value, attributes, context)
+        && !hasMeasurements) {
+      // Only written when unset, to not contend on the field for every measurement.
       this.hasMeasurements = true;
     }
   }
@@ -48,8 +55,10 @@ abstract class FixedSizeExemplarReservoir<T extends ExemplarData> implements Exe
   @Override
   public void offerDoubleMeasurement(double value, Attributes attributes, Context context) {
     int bucket = reservoirCellSelector.reservoirCellIndexFor(storage, value, attributes, context);
-    if (bucket != -1) {
-      this.storage[bucket].recordDoubleMeasurement(value, attributes, context);
+    if (bucket != -1
+        && this.storage[bucket].recordDoubleMeasurement(value, attributes, context)
+        && !hasMeasurements) {
+      // Only written when unset, to not contend on the field for every measurement.
       this.hasMeasurements = true;
     }
   }
@@ -11,16 +11,23 @@ import io.opentelemetry.sdk.common.Clock;
 import io.opentelemetry.sdk.metrics.data.DoubleExemplarData;
 import io.opentelemetry.sdk.metrics.internal.aggregator.ExplicitBucketHistogramUtils;
 import java.util.List;
+import java.util.function.Function;
 
 /** A reservoir that records the latest measurement for each histogram bucket. */
 class HistogramExemplarReservoir extends FixedSizeExemplarReservoir<DoubleExemplarData> {
 
   HistogramExemplarReservoir(Clock clock, List<Double> boundaries) {
+    this(clock, boundaries, ReservoirCell::create);
+  }
+
+  HistogramExemplarReservoir(
+      Clock clock, List<Double> boundaries, Function<Clock, ReservoirCell> cellFactory) {
     super(
         clock,
         boundaries.size() + 1,
         new HistogramCellSelector(boundaries),
-        ReservoirCell::getAndResetDouble);
+        ReservoirCell::getAndResetDouble,
+        cellFactory);
   }
 
   @Override
@@ -0,0 +1,173 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.metrics.internal.exemplar;
+
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanContext;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.sdk.common.Clock;
+import io.opentelemetry.sdk.metrics.data.DoubleExemplarData;
+import io.opentelemetry.sdk.metrics.data.LongExemplarData;
+import io.opentelemetry.sdk.metrics.internal.data.ImmutableDoubleExemplarData;
+import io.opentelemetry.sdk.metrics.internal.data.ImmutableLongExemplarData;
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+import javax.annotation.Nullable;
+
+/**
+ * A {@link ReservoirCell} publishing its state with a version number instead of a lock.
+ *
+ * <p>The version is odd while the cell is being written. A measurement claims the cell by moving
+ * the version from even to odd with a single CAS, writes the plain fields and publishes them by
+ * moving the version to the next even value. A measurement finding the cell claimed by a concurrent
+ * one is dropped rather than waiting, the cell only keeps one of them anyway. Collection claims the
+ * cell the same way, spinning until the short write in progress is published. While it waits,
+ * measurements are dropped so a constant stream of them cannot starve collection.
+ */
+final class LockFreeReservoirCell extends ReservoirCell {
+
+  private static final AtomicLongFieldUpdater<LockFreeReservoirCell> VERSION =
+      AtomicLongFieldUpdater.newUpdater(LockFreeReservoirCell.class, "version");
+
+  private final Clock clock;
+
+  // Guarded by version: only accessed by the thread which moved it to an odd value.
+  @Nullable private Attributes attributes;
+  private SpanContext spanContext = SpanContext.getInvalid();
+  private long recordTime;
+
+  // Cell stores either long or double values, but must not store both
+  private long longValue;
+  private double doubleValue;
+
+  private volatile long version;
+  private volatile boolean collecting;
+
+  LockFreeReservoirCell(Clock clock) {
+    this.clock = clock;
+  }
+
+  @Override
+  boolean recordLongMeasurement(long value, Attributes attributes, Context context) {
+    long claimed = collecting ? -1 : tryClaim();
+    if (claimed < 0) {
+      return false;
+    }
+    try {
+      this.longValue = value;
+      offerMeasurement(attributes, context);
+    } finally {
+      version = claimed + 1;
+    }
+    return true;
+  }
+
+  @Override
+  boolean recordDoubleMeasurement(double value, Attributes attributes, Context context) {
+    long claimed = collecting ? -1 : tryClaim();
+    if (claimed < 0) {
+      return false;
+    }
+    try {
+      this.doubleValue = value;
+      offerMeasurement(attributes, context);
+    } finally {
+      version = claimed + 1;
+    }
+    return true;
+  }
+
+  private void offerMeasurement(Attributes attributes, Context context) {
+    this.attributes = attributes;
+    this.recordTime = clock.now();
+    Span current = Span.fromContext(context);
+    if (current.getSpanContext().isValid()) {
+      this.spanContext = current.getSpanContext();
+    }
+  }
+
+  @Override
+  @Nullable
+  LongExemplarData getAndResetLong(Attributes pointAttributes) {
+    long claimed = claim();
+    try {
+      Attributes attributes = this.attributes;
+      if (attributes == null) {
+        return null;
+      }
+      LongExemplarData result =
+          ImmutableLongExemplarData.create(
+              filtered(attributes, pointAttributes), recordTime, spanContext, longValue);
+      clear();
+      return result;
+    } finally {
+      version = claimed + 1;
+    }
+  }
+
+  @Override
+  @Nullable
+  DoubleExemplarData getAndResetDouble(Attributes pointAttributes) {
+    long claimed = claim();
+    try {
+      Attributes attributes = this.attributes;
+      if (attributes == null) {
+        return null;
+      }
+      DoubleExemplarData result =
+          ImmutableDoubleExemplarData.create(
+              filtered(attributes, pointAttributes), recordTime, spanContext, doubleValue);
+      clear();
+      return result;
+    } finally {
+      version = claimed + 1;
+    }
+  }
+
+  @Override
+  void reset() {
+    long claimed = claim();
+    try {
+      clear();
+    } finally {
+      version = claimed + 1;
+    }
+  }
+
+  private void clear() {
+    this.attributes = null;
+    this.longValue = 0;
+    this.doubleValue = 0;
+    this.spanContext = SpanContext.getInvalid();
+    this.recordTime = 0;
+  }
+
+  /** Claims the cell if it is not claimed, returning the claimed odd version or {@code -1}. */
+  private long tryClaim() {
+    long current = version;
+    if ((current & 1) != 0 || !VERSION.compareAndSet(this, current, current + 1)) {
+      return -1;
+    }
+    return current + 1;
+  }
+
+  /** Claims the cell, waiting for a concurrent claim to be released. */
+  private long claim() {
+    long claimed = tryClaim();
+    if (claimed >= 0) {
+      return claimed;
+    }
+    collecting = true;
+    try {
+      while ((claimed = tryClaim()) < 0) {
+        Thread.yield();
+      }
+      return claimed;
+    } finally {
+      collecting = false;
+    }
+  }
+}
@@ -15,6 +15,7 @@ import io.opentelemetry.sdk.metrics.internal.concurrent.AdderUtil;
 import io.opentelemetry.sdk.metrics.internal.concurrent.LongAdder;
 import java.util.Random;
 import java.util.function.BiFunction;
+import java.util.function.Function;
 import java.util.function.Supplier;
 
 /**
@@ -32,18 +33,29 @@ class RandomFixedSizeExemplarReservoir<T extends ExemplarData>
       Clock clock,
       int size,
       Supplier<Random> randomSupplier,
-      BiFunction<ReservoirCell, Attributes, T> mapAndResetCell) {
-    super(clock, size, new RandomCellSelector(randomSupplier), mapAndResetCell);
+      BiFunction<ReservoirCell, Attributes, T> mapAndResetCell,
+      Function<Clock, ReservoirCell> cellFactory) {
+    super(clock, size, new RandomCellSelector(randomSupplier), mapAndResetCell, cellFactory);
   }
 
   static RandomFixedSizeExemplarReservoir<LongExemplarData> createLong(
       Clock clock, int size, Supplier<Random> randomSupplier) {
-    return new RandomFixedSizeExemplarReservoir<>(clock, size, randomSupplier, ReservoirCell::getAndResetLong);
+    return new RandomFixedSizeExemplarReservoir<>(
+        clock, size, randomSupplier, ReservoirCell::getAndResetLong, ReservoirCell::create);
   }
 
   static RandomFixedSizeExemplarReservoir<DoubleExemplarData> createDouble(
       Clock clock, int size, Supplier<Random> randomSupplier) {
-    return new RandomFixedSizeExemplarReservoir<>(clock, size, randomSupplier, ReservoirCell::getAndResetDouble);
+    return createDouble(clock, size, randomSupplier, ReservoirCell::create);
+  }
+
+  static RandomFixedSizeExemplarReservoir<DoubleExemplarData> createDouble(
+      Clock clock,
+      int size,
+      Supplier<Random> randomSupplier,
+      Function<Clock, ReservoirCell> cellFactory) {
+    return new RandomFixedSizeExemplarReservoir<>(
+        clock, size, randomSupplier, ReservoirCell::getAndResetDouble, cellFactory);
   }
 
   static class RandomCellSelector implements ReservoirCellSelector {
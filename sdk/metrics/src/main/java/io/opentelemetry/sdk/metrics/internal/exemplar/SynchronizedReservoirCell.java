@@ -0,0 +1,98 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.metrics.internal.exemplar;
+
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanContext;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.sdk.common.Clock;
+import io.opentelemetry.sdk.metrics.data.DoubleExemplarData;
+import io.opentelemetry.sdk.metrics.data.LongExemplarData;
+import io.opentelemetry.sdk.metrics.internal.data.ImmutableDoubleExemplarData;
+import io.opentelemetry.sdk.metrics.internal.data.ImmutableLongExemplarData;
+import javax.annotation.Nullable;
+
+/**
+ * A {@link ReservoirCell} guarding its state with the cell's monitor. Every measurement recorded
+ * waits for concurrent measurements and collection of the cell.
+ */
+class SynchronizedReservoirCell extends ReservoirCell {
+  private final Clock clock;
+  @Nullable private Attributes attributes;
+  private SpanContext spanContext = SpanContext.getInvalid();
+  private long recordTime;
+
+  // Cell stores either long or double values, but must not store both
+  private long longValue;
+  private double doubleValue;
+
+  SynchronizedReservoirCell(Clock clock) {
+    this.clock = clock;
+  }
+
+  @Override
+  synchronized boolean recordLongMeasurement(long value, Attributes attributes, Context context) {
+    this.longValue = value;
+    offerMeasurement(attributes, context);
+    return true;
+  }
+
+  @Override
+  synchronized boolean recordDoubleMeasurement(
+      double value, Attributes attributes, Context context) {
+    this.doubleValue = value;
+    offerMeasurement(attributes, context);
+    return true;
+  }
+
+  private void offerMeasurement(Attributes attributes, Context context) {
+    this.attributes = attributes;
+    // Note: It may make sense in the future to attempt to pull this from an active span.
+    this.recordTime = clock.now();
+    Span current = Span.fromContext(context);
+    if (current.getSpanContext().isValid()) {
+      this.spanContext = current.getSpanContext();
+    }
+  }
+
+  @Override
+  @Nullable
+  synchronized LongExemplarData getAndResetLong(Attributes pointAttributes) {
+    Attributes attributes = this.attributes;
+    if (attributes == null) {
+      return null;
+    }
+    LongExemplarData result =
+        ImmutableLongExemplarData.create(
+            filtered(attributes, pointAttributes), recordTime, spanContext, longValue);
+    reset();
+    return result;
+  }
+
+  @Override
+  @Nullable
+  synchronized DoubleExemplarData getAndResetDouble(Attributes pointAttributes) {
+    Attributes attributes = this.attributes;
+    if (attributes == null) {
+      return null;
+    }
+    DoubleExemplarData result =
+        ImmutableDoubleExemplarData.create(
+            filtered(attributes, pointAttributes), recordTime, spanContext, doubleValue);
+    reset();
+    return result;
+  }
+
+  @Override
+  synchronized void reset() {
+    this.attributes = null;
+    this.longValue = 0;
+    this.doubleValue = 0;
+    this.spanContext = SpanContext.getInvalid();
+    this.recordTime = 0;
+  }
+}
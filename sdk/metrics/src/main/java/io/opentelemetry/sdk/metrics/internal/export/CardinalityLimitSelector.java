@@ -36,4 +36,14 @@ public interface CardinalityLimitSelector {
    * series) for the metric.
    */
   int getCardinalityLimit(InstrumentType instrumentType);
+
+  /**
+   * Return the default number of consecutive collections without recordings after which a series
+   * of a metric from instruments of type {@code instrumentType} is evicted, freeing its slot
+   * towards the cardinality limit. Only applies to synchronous instruments with CUMULATIVE
+   * temporality. Defaults to {@code 0}, series are never evicted.
+   */
+  default int getMaxIdleCollections(InstrumentType instrumentType) {
+    return 0;
+  }
 }
@@ -104,7 +104,8 @@ final class AsynchronousMetricStorage<T extends PointData, U extends ExemplarDat
     View view = registeredView.getView();
     MetricDescriptor metricDescriptor = MetricDescriptor.create(view, registeredView.getViewSourceInfo(), instrumentDescriptor);
     // 这里从RegisteredView获取的Aggregation默认是DefaultAggregation
-    Aggregator<T, U> aggregator = ((AggregatorFactory) view.getAggregation()).createAggregator(instrumentDescriptor, ExemplarFilter.alwaysOff());
+    Aggregator<T, U> aggregator = ((AggregatorFactory) view.getAggregation()).createAggregator(instrumentDescriptor,
+        ExemplarFilter.alwaysOff(), registeredReader.getReader().getMemoryMode());
     return new AsynchronousMetricStorage<>(registeredReader, metricDescriptor,
         aggregator, registeredView.getViewAttributesProcessor(),
         registeredView.getCardinalityLimit());
@@ -112,9 +113,10 @@ final class AsynchronousMetricStorage<T extends PointData, U extends ExemplarDat
 
   /**
    * Record callback measurement from {@link ObservableLongMeasurement} or {@link
-   * ObservableDoubleMeasurement}.
+   * ObservableDoubleMeasurement}. Callbacks of the same instrument may record concurrently when
+   * they are run in parallel, see {@link CallbackExecutor}.
    */
-  void record(Measurement measurement) {
+  synchronized void record(Measurement measurement) {
     Context context = Context.current();
     Attributes processedAttributes = attributesProcessor.process(measurement.attributes(), context);
     long start = aggregationTemporality == AggregationTemporality.DELTA ? registeredReader.getLastCollectEpochNanos() : measurement.startEpochNanos();
@@ -167,7 +169,7 @@ final class AsynchronousMetricStorage<T extends PointData, U extends ExemplarDat
   }
 
   @Override
-  public MetricData collect(Resource resource, InstrumentationScopeInfo instrumentationScopeInfo, long startEpochNanos, long epochNanos) {
+  public synchronized MetricData collect(Resource resource, InstrumentationScopeInfo instrumentationScopeInfo, long startEpochNanos, long epochNanos) {
     if (memoryMode == REUSABLE_DATA) {
       // Collect can not run concurrently for same reader, hence we safely assume
       // the previous collect result has been used and done with
@@ -0,0 +1,322 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.metrics.internal.state;
+
+import static java.util.Objects.requireNonNull;
+
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.internal.GuardedBy;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import javax.annotation.Nullable;
+
+/**
+ * A concurrent open-addressing hash map from {@link Attributes} to values, used by metric storage
+ * to look up the handle of a series.
+ *
+ * <p>Keys, values and the hash of each key are kept in flat arrays, so an entry costs no more than
+ * its three slots, and lookups compare cached hashes before calling {@link Attributes#equals}.
+ * Reads are lock-free, while writes are serialized by a lock, since series are created and removed
+ * far less often than they are looked up. The table grows on demand up to the capacity needed for
+ * the expected maximum size, typically the cardinality limit of the storage.
+ *
+ * <p>A slot, once assigned to a key, is never reassigned to another key until the table is
+ * rebuilt. Removing a key only clears its value, which lets readers match the key and hash of a
+ * slot without synchronization. Rebuilds drop removed keys, and happen when too many slots are
+ * assigned.
+ *
+ * <p>This class is internal and is hence not for public use. Its APIs are unstable and can change
+ * at any time.
+ *
+ * @param <V> The map value type
+ */
+public final class AttributesConcurrentMap<V> {
+  private static final int MIN_CAPACITY = 16;
+  private static final int MAX_CAPACITY = 1 << 30;
+
+  private final Object lock = new Object();
+
+  private volatile Table<V> table;
+
+  // Only written while holding the lock
+  private final AtomicInteger size = new AtomicInteger();
+
+  /** Creates a map with the default initial capacity. */
+  public AttributesConcurrentMap() {
+    this(MIN_CAPACITY);
+  }
+
+  /**
+   * Creates a map with an initial capacity holding {@code expectedSize} entries without rebuilding.
+   */
+  public AttributesConcurrentMap(int expectedSize) {
+    this.table = new Table<>(capacityFor(Math.max(0, expectedSize)));
+  }
+
+  /** Returns the value mapped to {@code key}, or {@code null} if there is no such mapping. */
+  @Nullable
+  public V get(Attributes key) {
+    requireNonNull(key, "key");
+    Table<V> table = this.table;
+    int index = table.indexOf(key, hash(key));
+    return index < 0 ? null : table.values.get(index);
+  }
+
+  /** Returns {@code true} if there is a mapping for {@code key}. */
+  public boolean containsKey(Attributes key) {
+    return get(key) != null;
+  }
+
+  /** Returns the number of mappings. */
+  public int size() {
+    return size.get();
+  }
+
+  /** Returns {@code true} if there are no mappings. */
+  public boolean isEmpty() {
+    return size.get() == 0;
+  }
+
+  /**
+   * Maps {@code key} to {@code value} unless already mapped.
+   *
+   * @return The value previously mapped to {@code key}, or {@code null} if {@code value} was added
+   */
+  @Nullable
+  public V putIfAbsent(Attributes key, V value) {
+    requireNonNull(key, "key");
+    requireNonNull(value, "value");
+    V existing = get(key);
+    if (existing != null) {
+      return existing;
+    }
+    synchronized (lock) {
+      int hash = hash(key);
+      int index = table.indexOf(key, hash);
+      if (index >= 0) {
+        existing = table.values.get(index);
+        if (existing != null) {
+          return existing;
+        }
+      }
+      insert(key, hash, index, value);
+      return null;
+    }
+  }
+
+  /**
+   * Returns the value mapped to {@code key}, first mapping it to the value computed by {@code
+   * mappingFunction} if there is no such mapping. The function is called at most once, while
+   * holding the write lock of the map.
+   */
+  public V computeIfAbsent(
+      Attributes key, Function<? super Attributes, ? extends V> mappingFunction) {
+    requireNonNull(key, "key");
+    V existing = get(key);
+    if (existing != null) {
+      return existing;
+    }
+    synchronized (lock) {
+      int hash = hash(key);
+      int index = table.indexOf(key, hash);
+      if (index >= 0) {
+        existing = table.values.get(index);
+        if (existing != null) {
+          return existing;
+        }
+      }
+      V value = requireNonNull(mappingFunction.apply(key), "value");
+      insert(key, hash, index, value);
+      return value;
+    }
+  }
+
+  /**
+   * If {@code key} is mapped, replaces its value with the one computed by {@code
+   * remappingFunction}, removing the mapping if the computed value is {@code null}. The function is
+   * called while holding the write lock of the map.
+   *
+   * @return The new value mapped to {@code key}, or {@code null} if there is none
+   */
+  @Nullable
+  public V computeIfPresent(
+      Attributes key, BiFunction<? super Attributes, ? super V, ? extends V> remappingFunction) {
+    requireNonNull(key, "key");
+    synchronized (lock) {
+      Table<V> table = this.table;
+      int index = table.indexOf(key, hash(key));
+      if (index < 0) {
+        return null;
+      }
+      V existing = table.values.get(index);
+      if (existing == null) {
+        return null;
+      }
+      V value = remappingFunction.apply(key, existing);
+      table.values.set(index, value);
+      if (value == null) {
+        size.decrementAndGet();
+      }
+      return value;
+    }
+  }
+
+  /**
+   * Removes the mapping for {@code key}.
+   *
+   * @return The value previously mapped to {@code key}, or {@code null} if there was none
+   */
+  @Nullable
+  public V remove(Attributes key) {
+    requireNonNull(key, "key");
+    synchronized (lock) {
+      Table<V> table = this.table;
+      int index = table.indexOf(key, hash(key));
+      if (index < 0) {
+        return null;
+      }
+      V existing = table.values.get(index);
+      if (existing != null) {
+        table.values.set(index, null);
+        size.decrementAndGet();
+      }
+      return existing;
+    }
+  }
+
+  /**
+   * Calls {@code action} for each mapping. Mappings added or removed concurrently may or may not be
+   * visited.
+   */
+  public void forEach(BiConsumer<? super Attributes, ? super V> action) {
+    Table<V> table = this.table;
+    for (int i = 0; i < table.hashes.length; i++) {
+      Attributes key = table.keys.get(i);
+      if (key == null) {
+        continue;
+      }
+      V value = table.values.get(i);
+      if (value != null) {
+        action.accept(key, value);
+      }
+    }
+  }
+
+  /**
+   * Adds a mapping for {@code key}. {@code index} is the slot already assigned to {@code key}, or a
+   * negative value if there is none.
+   */
+  @GuardedBy("lock")
+  private void insert(Attributes key, int hash, int index, V value) {
+    if (index >= 0) {
+      table.values.set(index, value);
+      size.incrementAndGet();
+      return;
+    }
+    if (table.assignedSlots + 1 > table.threshold) {
+      rebuild(size.get() + 1);
+    }
+    Table<V> current = this.table;
+    index = current.freeSlot(hash);
+    // Publish the key last, readers seeing it also see its hash and value
+    current.hashes[index] = hash;
+    current.values.set(index, value);
+    current.keys.set(index, key);
+    current.assignedSlots++;
+    size.incrementAndGet();
+  }
+
+  /**
+   * Replaces the table with one holding only the mapped keys, growing it if {@code minSize} entries
+   * would use more than two thirds of the slots under the load factor, so that a table full of
+   * live keys isn't rebuilt again right away.
+   */
+  @GuardedBy("lock")
+  private void rebuild(int minSize) {
+    Table<V> oldTable = this.table;
+    Table<V> newTable =
+        new Table<>(Math.max(oldTable.hashes.length, capacityFor(minSize + (minSize >>> 1))));
+    for (int i = 0; i < oldTable.hashes.length; i++) {
+      Attributes key = oldTable.keys.get(i);
+      V value = oldTable.values.get(i);
+      if (key != null && value != null) {
+        int index = newTable.freeSlot(oldTable.hashes[i]);
+        newTable.hashes[index] = oldTable.hashes[i];
+        newTable.values.set(index, value);
+        newTable.keys.set(index, key);
+        newTable.assignedSlots++;
+      }
+    }
+    this.table = newTable;
+  }
+
+  private static int hash(Attributes key) {
+    int hash = key.hashCode();
+    // Spread the high bits, since only the low bits select the slot
+    return hash ^ (hash >>> 16);
+  }
+
+  /** Returns the power of two capacity keeping {@code size} entries under the load factor. */
+  private static int capacityFor(int size) {
+    int capacity = MIN_CAPACITY;
+    while (capacity < MAX_CAPACITY && Table.thresholdFor(capacity) < size) {
+      capacity <<= 1;
+    }
+    return capacity;
+  }
+
+  private static final class Table<V> {
+    // Written before the key of the slot is published, never changed afterwards
+    private final int[] hashes;
+    private final AtomicReferenceArray<Attributes> keys;
+    private final AtomicReferenceArray<V> values;
+    private final int mask;
+    private final int threshold;
+
+    // Number of slots assigned to a key, including the ones whose value was removed. Only accessed
+    // while holding the lock of the map.
+    private int assignedSlots;
+
+    private Table(int capacity) {
+      this.hashes = new int[capacity];
+      this.keys = new AtomicReferenceArray<>(capacity);
+      this.values = new AtomicReferenceArray<>(capacity);
+      this.mask = capacity - 1;
+      this.threshold = thresholdFor(capacity);
+    }
+
+    private static int thresholdFor(int capacity) {
+      // Load factor of 0.75
+      return capacity - (capacity >>> 2);
+    }
+
+    /** Returns the slot assigned to {@code key}, or -1 if there is none. */
+    private int indexOf(Attributes key, int hash) {
+      for (int i = hash & mask, probes = 0; probes <= mask; i = (i + 1) & mask, probes++) {
+        Attributes candidate = keys.get(i);
+        if (candidate == null) {
+          return -1;
+        }
+        if (hashes[i] == hash && (candidate == key || candidate.equals(key))) {
+          return i;
+        }
+      }
+      return -1;
+    }
+
+    /** Returns the first unassigned slot for {@code hash}. The table must not be full. */
+    private int freeSlot(int hash) {
+      int i = hash & mask;
+      while (keys.get(i) != null) {
+        i = (i + 1) & mask;
+      }
+      return i;
+    }
+  }
+}
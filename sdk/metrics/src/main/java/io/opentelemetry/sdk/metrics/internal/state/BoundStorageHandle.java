@@ -0,0 +1,33 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.metrics.internal.state;
+
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.context.Context;
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * Records measurements into a {@link WriteableMetricStorage} for a fixed set of {@link
+ * Attributes}, as returned by {@link WriteableMetricStorage#bind(Attributes)}.
+ *
+ * <p>This class is internal and is hence not for public use. Its APIs are unstable and can change
+ * at any time.
+ */
+@ThreadSafe
+public interface BoundStorageHandle {
+
+  /** Records a measurement with the bound attributes. */
+  void recordLong(long value, Context context);
+
+  /** Records a measurement with the bound attributes. */
+  void recordDouble(double value, Context context);
+
+  /**
+   * Releases the series held by this handle. The handle must not be used after it is released.
+   * Calling this method more than once has no effect.
+   */
+  void release();
+}
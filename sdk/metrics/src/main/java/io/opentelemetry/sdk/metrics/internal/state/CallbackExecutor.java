@@ -0,0 +1,281 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.metrics.internal.state;
+
+import io.opentelemetry.api.metrics.DoubleHistogram;
+import io.opentelemetry.api.metrics.LongCounter;
+import io.opentelemetry.api.metrics.Meter;
+import io.opentelemetry.api.metrics.MeterProvider;
+import io.opentelemetry.sdk.internal.JavaVersionSpecific;
+import io.opentelemetry.sdk.internal.ThrottlingLogger;
+import io.opentelemetry.sdk.metrics.internal.export.RegisteredReader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Runs the callbacks of asynchronous instruments on a bounded pool of threads instead of the
+ * collecting thread, so that a slow callback does not hold back the others. Callbacks which do not
+ * complete within the timeout of starting are skipped for the collection, their measurements are
+ * dropped, or replaced with the values of their last completed run if configured. Callbacks which
+ * could not start within the timeout, as all threads were busy, are cancelled and skipped the same
+ * way. A callback still running from a previous collection is skipped as well.
+ *
+ * <p>The duration of callbacks and the number of skipped callbacks are reported with the {@code
+ * otel.sdk.metrics.callback.duration} histogram, and the {@code otel.sdk.metrics.callback.timeouts}
+ * and {@code otel.sdk.metrics.callback.not_started} counters once {@link
+ * #registerMetrics(MeterProvider)} is called.
+ *
+ * <p>This class is internal and is hence not for public use. Its APIs are unstable and can change
+ * at any time.
+ */
+public final class CallbackExecutor {
+
+  private static final Logger logger = Logger.getLogger(CallbackExecutor.class.getName());
+
+  private static final double NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+
+  /**
+   * The number of threads running callbacks if only a timeout is configured. A single thread would
+   * leave the other callbacks waiting behind one which doesn't complete.
+   */
+  public static final int DEFAULT_PARALLELISM_WITH_TIMEOUT = 4;
+
+  private final ThrottlingLogger throttlingLogger = new ThrottlingLogger(logger);
+  private final ExecutorService executor;
+  private final long timeoutNanos;
+  private final boolean reuseLastValues;
+
+  private volatile DoubleHistogram callbackDuration =
+      MeterProvider.noop().get("noop").histogramBuilder("noop").build();
+  private volatile LongCounter callbackTimeouts =
+      MeterProvider.noop().get("noop").counterBuilder("noop").build();
+  private volatile LongCounter callbacksNotStarted =
+      MeterProvider.noop().get("noop").counterBuilder("noop").build();
+
+  /**
+   * Creates a {@link CallbackExecutor} running up to {@code parallelism} callbacks at once.
+   *
+   * @param timeoutNanos how long a collection waits for callbacks, {@code 0} to wait until they
+   *     complete
+   * @param reuseLastValues whether to record the values of the last completed run of callbacks
+   *     which did not complete in time
+   */
+  public static CallbackExecutor create(
+      int parallelism, long timeoutNanos, boolean reuseLastValues) {
+    return new CallbackExecutor(
+        Executors.newFixedThreadPool(
+            parallelism,
+            JavaVersionSpecific.get().newWorkerThreadFactory("otel-metrics-callback")),
+        timeoutNanos,
+        reuseLastValues);
+  }
+
+  // Visible for testing
+  CallbackExecutor(ExecutorService executor, long timeoutNanos, boolean reuseLastValues) {
+    this.executor = executor;
+    this.timeoutNanos = timeoutNanos;
+    this.reuseLastValues = reuseLastValues;
+  }
+
+  /** Reports the duration and timeouts of callbacks with instruments of {@code meterProvider}. */
+  public void registerMetrics(MeterProvider meterProvider) {
+    Meter meter = meterProvider.get("io.opentelemetry.sdk.metrics");
+    callbackDuration =
+        meter
+            .histogramBuilder("otel.sdk.metrics.callback.duration")
+            .setDescription("Duration of asynchronous instrument callbacks")
+            .setUnit("s")
+            .build();
+    callbackTimeouts =
+        meter
+            .counterBuilder("otel.sdk.metrics.callback.timeouts")
+            .setDescription(
+                "Asynchronous instrument callbacks skipped because they did not complete in time")
+            .setUnit("1")
+            .build();
+    callbacksNotStarted =
+        meter
+            .counterBuilder("otel.sdk.metrics.callback.not_started")
+            .setDescription(
+                "Asynchronous instrument callbacks skipped because no thread was free to start "
+                    + "them in time")
+            .setUnit("1")
+            .build();
+  }
+
+  /** Invokes {@code callbacks} for {@code reader}, returns once they completed or timed out. */
+  void invokeCallbacks(
+      List<CallbackRegistration> callbacks,
+      RegisteredReader reader,
+      long startEpochNanos,
+      long epochNanos) {
+    List<CallbackRegistration> started = new ArrayList<>(callbacks.size());
+    List<CallbackInvocation> invocations = new ArrayList<>(callbacks.size());
+    List<Future<?>> futures = new ArrayList<>(callbacks.size());
+    for (CallbackRegistration callback : callbacks) {
+      if (!callback.hasStorages()) {
+        continue;
+      }
+      CallbackInvocation invocation =
+          callback.tryStartCallback(reader, startEpochNanos, epochNanos, reuseLastValues);
+      if (invocation == null) {
+        skip(
+            callback,
+            "is still running from a previous collection",
+            callbackTimeouts,
+            reader,
+            startEpochNanos,
+            epochNanos);
+        continue;
+      }
+      Runnable task =
+          () -> {
+            long start = System.nanoTime();
+            callback.runCallback(invocation);
+            callbackDuration.record((System.nanoTime() - start) / NANOS_PER_SECOND);
+          };
+      Future<?> future;
+      try {
+        future = executor.submit(task);
+      } catch (RejectedExecutionException e) {
+        // Shut down, run on the collecting thread
+        task.run();
+        future = null;
+      }
+      started.add(callback);
+      invocations.add(invocation);
+      futures.add(future);
+    }
+
+    // Callbacks are timed from when they start. Those which did not start within the timeout, as
+    // all threads were busy, are not awaited.
+    long startDeadline = System.nanoTime() + timeoutNanos;
+    boolean interrupted = false;
+    for (int i = 0; i < started.size(); i++) {
+      CallbackRegistration callback = started.get(i);
+      CallbackInvocation invocation = invocations.get(i);
+      Future<?> future = futures.get(i);
+      boolean complete = true;
+      if (future != null && !interrupted) {
+        try {
+          if (timeoutNanos > 0) {
+            complete = awaitCallback(future, invocation, startDeadline);
+          } else {
+            future.get();
+          }
+        } catch (InterruptedException e) {
+          interrupted = true;
+        } catch (ExecutionException e) {
+          // Not expected, callback exceptions are handled when running them
+          throttlingLogger.log(
+              Level.WARNING, "An exception occurred invoking callback for " + callback + ".", e);
+        }
+      }
+      if (interrupted) {
+        // Stop waiting, the remaining callbacks are skipped
+        complete = future == null || future.isDone();
+      }
+      boolean notStarted = false;
+      if (!complete) {
+        notStarted = !interrupted && !invocation.startedBefore(startDeadline);
+        if (future.cancel(false)) {
+          // Never ran, so it won't reset itself
+          callback.cancelCallback();
+        }
+      }
+      // Each invocation records for itself, finishing one doesn't affect the callbacks sharing
+      // its observable measurements which are still awaited
+      callback.finishCallback(invocation, complete);
+      if (interrupted && !complete) {
+        skip(
+            callback,
+            "was not awaited since the collection was interrupted",
+            callbackTimeouts,
+            reader,
+            startEpochNanos,
+            epochNanos);
+      } else if (notStarted) {
+        skip(
+            callback,
+            "did not start within "
+                + TimeUnit.NANOSECONDS.toMillis(timeoutNanos)
+                + "ms as all callback threads were busy",
+            callbacksNotStarted,
+            reader,
+            startEpochNanos,
+            epochNanos);
+      } else if (!complete) {
+        skip(
+            callback,
+            "did not complete within " + TimeUnit.NANOSECONDS.toMillis(timeoutNanos) + "ms",
+            callbackTimeouts,
+            reader,
+            startEpochNanos,
+            epochNanos);
+      }
+    }
+    if (interrupted) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  // Waits for the callback of invocation until the timeout has passed since it started. A callback
+  // which did not start by startDeadline is not awaited.
+  private boolean awaitCallback(
+      Future<?> future, CallbackInvocation invocation, long startDeadline)
+      throws InterruptedException, ExecutionException {
+    long deadline = startDeadline;
+    while (true) {
+      try {
+        future.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        return true;
+      } catch (TimeoutException e) {
+        if (!invocation.startedBefore(startDeadline)) {
+          return false;
+        }
+        long runDeadline = invocation.getStartNanos() + timeoutNanos;
+        if (runDeadline - System.nanoTime() <= 0) {
+          return false;
+        }
+        deadline = runDeadline;
+      }
+    }
+  }
+
+  private void skip(
+      CallbackRegistration callback,
+      String reason,
+      LongCounter counter,
+      RegisteredReader reader,
+      long startEpochNanos,
+      long epochNanos) {
+    counter.add(1);
+    throttlingLogger.log(
+        Level.WARNING,
+        callback
+            + " "
+            + reason
+            + ", its measurements are "
+            + (reuseLastValues ? "reused from its last run." : "dropped."));
+    if (reuseLastValues) {
+      callback.reuseLastValues(reader, startEpochNanos, epochNanos);
+    }
+  }
+
+  /** Stops the threads running callbacks, once running callbacks complete. */
+  public void shutdown() {
+    executor.shutdown();
+  }
+}
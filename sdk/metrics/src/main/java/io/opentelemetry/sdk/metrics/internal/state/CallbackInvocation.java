@@ -0,0 +1,136 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.metrics.internal.state;
+
+import io.opentelemetry.api.internal.GuardedBy;
+import io.opentelemetry.sdk.metrics.internal.export.RegisteredReader;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import javax.annotation.Nullable;
+
+/**
+ * A run of the callback of a {@link CallbackRegistration} on a {@link CallbackExecutor}, for a
+ * single collection.
+ *
+ * <p>Measurements recorded by the callback are attributed to the invocation running on the
+ * recording thread, rather than to state of the {@link SdkObservableMeasurement}, which may be
+ * shared by several callbacks running at once. They are buffered by the invocation and only
+ * recorded to the storages once the callback completed in time, so that a callback which times out
+ * reports none of its values rather than part of them. Once the invocation is finished, the
+ * measurements of a callback which is still running are dropped instead of being recorded for a
+ * later collection. Measurements recorded from other threads than the one running the callback are
+ * dropped as well.
+ */
+final class CallbackInvocation {
+
+  private static final ThreadLocal<CallbackInvocation> current = new ThreadLocal<>();
+
+  private final RegisteredReader reader;
+  private final long startEpochNanos;
+  private final long epochNanos;
+
+  private final boolean rememberValues;
+
+  // The values recorded to each observable measurement, only accessed while holding the lock of
+  // this invocation
+  private final Map<SdkObservableMeasurement, List<Measurement>> recordedValues =
+      new IdentityHashMap<>();
+
+  @GuardedBy("this")
+  private boolean finished;
+
+  // Set once the callback starts running, startNanos is written first
+  private volatile boolean started;
+  private volatile long startNanos;
+
+  CallbackInvocation(
+      RegisteredReader reader, long startEpochNanos, long epochNanos, boolean rememberValues) {
+    this.reader = reader;
+    this.startEpochNanos = startEpochNanos;
+    this.epochNanos = epochNanos;
+    this.rememberValues = rememberValues;
+  }
+
+  /** Returns the invocation whose callback is running on the current thread, if any. */
+  @Nullable
+  static CallbackInvocation current() {
+    return current.get();
+  }
+
+  /** Runs {@code callback} on the current thread, its measurements are recorded for this run. */
+  void run(Runnable callback) {
+    startNanos = System.nanoTime();
+    started = true;
+    current.set(this);
+    try {
+      callback.run();
+    } finally {
+      current.remove();
+    }
+  }
+
+  RegisteredReader getReader() {
+    return reader;
+  }
+
+  long getStartEpochNanos() {
+    return startEpochNanos;
+  }
+
+  long getEpochNanos() {
+    return epochNanos;
+  }
+
+  /**
+   * Returns {@code true} if the invocation is finished, in which case measurements must be dropped.
+   * Must be called while holding the lock of this invocation, until the measurement is recorded.
+   */
+  @GuardedBy("this")
+  boolean isFinished() {
+    return finished;
+  }
+
+  /** Returns {@code true} if the values of the callback are kept once it completed in time. */
+  boolean remembersValues() {
+    return rememberValues;
+  }
+
+  /** Returns {@code true} if the callback started running no later than {@code deadlineNanos}. */
+  boolean startedBefore(long deadlineNanos) {
+    return started && startNanos - deadlineNanos <= 0;
+  }
+
+  /** Returns the {@link System#nanoTime()} the callback started running at. */
+  long getStartNanos() {
+    return startNanos;
+  }
+
+  /** Buffers {@code measurement} recorded to {@code observableMeasurement}. */
+  @GuardedBy("this")
+  void record(SdkObservableMeasurement observableMeasurement, Measurement measurement) {
+    recordedValues
+        .computeIfAbsent(observableMeasurement, unused -> new ArrayList<>())
+        .add(measurement);
+  }
+
+  /**
+   * Finishes the invocation, dropping the measurements recorded from now on. Returns the values
+   * buffered for each of {@code observableMeasurements}.
+   */
+  synchronized List<List<Measurement>> finish(
+      List<SdkObservableMeasurement> observableMeasurements) {
+    finished = true;
+    List<List<Measurement>> values = new ArrayList<>(observableMeasurements.size());
+    for (SdkObservableMeasurement observableMeasurement : observableMeasurements) {
+      List<Measurement> measurementValues = recordedValues.get(observableMeasurement);
+      values.add(measurementValues == null ? Collections.emptyList() : measurementValues);
+    }
+    return values;
+  }
+}
@@ -12,8 +12,10 @@ import io.opentelemetry.sdk.internal.ThrottlingLogger;
 import io.opentelemetry.sdk.metrics.internal.descriptor.InstrumentDescriptor;
 import io.opentelemetry.sdk.metrics.internal.export.RegisteredReader;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.logging.Level;
 import java.util.logging.Logger;
+import javax.annotation.Nullable;
 
 /**
  * A registered callback.
@@ -29,6 +31,10 @@ public final class CallbackRegistration {
   private final Runnable callback;
   private final List<InstrumentDescriptor> instrumentDescriptors;
   private final boolean hasStorages;
+  // Whether the callback is running on a CallbackExecutor
+  private final AtomicBoolean running = new AtomicBoolean();
+  // The values recorded to each observable measurement by the last completed callback
+  @Nullable private volatile List<List<Measurement>> lastValues;
 
   private CallbackRegistration(List<SdkObservableMeasurement> observableMeasurements, Runnable callback) {
     this.observableMeasurements = observableMeasurements;
@@ -88,4 +94,81 @@ public final class CallbackRegistration {
       observableMeasurements.forEach(SdkObservableMeasurement::unsetActiveReader);
     }
   }
+
+  boolean hasStorages() {
+    return hasStorages;
+  }
+
+  /**
+   * Starts an invocation of the callback for {@code reader} to run on another thread, returns
+   * {@code null} if the callback is still running from a previous collection. The invocation must
+   * be passed to {@link #runCallback(CallbackInvocation)} and {@link
+   * #finishCallback(CallbackInvocation, boolean)}.
+   */
+  @Nullable
+  CallbackInvocation tryStartCallback(
+      RegisteredReader reader, long startEpochNanos, long epochNanos, boolean rememberValues) {
+    if (!running.compareAndSet(false, true)) {
+      return null;
+    }
+    return new CallbackInvocation(reader, startEpochNanos, epochNanos, rememberValues);
+  }
+
+  /** Runs the callback for {@code invocation}, started by {@link #tryStartCallback}. */
+  void runCallback(CallbackInvocation invocation) {
+    try {
+      invocation.run(callback);
+    } catch (Throwable e) {
+      propagateIfFatal(e);
+      throttlingLogger.log(Level.WARNING, "An exception occurred invoking callback for " + this + ".", e);
+    } finally {
+      running.set(false);
+    }
+  }
+
+  /** Resets the callback started by {@link #tryStartCallback} whose invocation never ran. */
+  void cancelCallback() {
+    running.set(false);
+  }
+
+  /**
+   * Stops recording the measurements of {@code invocation}, whose callback may still be running if
+   * it did not {@code complete} in time. The values buffered by a completed callback are recorded
+   * to the storages, and remembered if the invocation asks for it. Those of an incomplete callback
+   * are dropped.
+   */
+  void finishCallback(CallbackInvocation invocation, boolean complete) {
+    List<List<Measurement>> values = invocation.finish(observableMeasurements);
+    if (!complete) {
+      return;
+    }
+    for (int i = 0; i < observableMeasurements.size(); i++) {
+      observableMeasurements
+          .get(i)
+          .recordValues(
+              invocation.getReader(),
+              invocation.getStartEpochNanos(),
+              invocation.getEpochNanos(),
+              values.get(i));
+    }
+    if (invocation.remembersValues()) {
+      lastValues = values;
+    }
+  }
+
+  /**
+   * Records the values of the last completed callback again for {@code reader}, in place of a
+   * callback which did not complete in time.
+   */
+  void reuseLastValues(RegisteredReader reader, long startEpochNanos, long epochNanos) {
+    List<List<Measurement>> values = lastValues;
+    if (values == null) {
+      return;
+    }
+    for (int i = 0; i < observableMeasurements.size(); i++) {
+      observableMeasurements
+          .get(i)
+          .recordValues(reader, startEpochNanos, epochNanos, values.get(i));
+    }
+  }
 }
@@ -5,9 +5,12 @@
 
 package io.opentelemetry.sdk.metrics.internal.state;
 
+import static io.opentelemetry.sdk.common.export.MemoryMode.REUSABLE_DATA;
+
 import io.opentelemetry.api.common.Attributes;
 import io.opentelemetry.context.Context;
 import io.opentelemetry.sdk.common.InstrumentationScopeInfo;
+import io.opentelemetry.sdk.common.export.MemoryMode;
 import io.opentelemetry.sdk.internal.ThrottlingLogger;
 import io.opentelemetry.sdk.metrics.data.AggregationTemporality;
 import io.opentelemetry.sdk.metrics.data.ExemplarData;
@@ -21,11 +24,15 @@ import io.opentelemetry.sdk.metrics.internal.export.RegisteredReader;
 import io.opentelemetry.sdk.metrics.internal.view.AttributesProcessor;
 import io.opentelemetry.sdk.resources.Resource;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 import java.util.Queue;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -46,29 +53,83 @@ public final class DefaultSynchronousMetricStorage<T extends PointData, U extend
   private final MetricDescriptor metricDescriptor;
   private final AggregationTemporality aggregationTemporality;
   private final Aggregator<T, U> aggregator;
-  private final ConcurrentHashMap<Attributes, AggregatorHandle<T, U>> aggregatorHandles = new ConcurrentHashMap<>();
+
+  /**
+   * The holders of the handles, indexed by {@link AggregatorHolder#index}. For DELTA temporality
+   * there are two, an active and a standby one, swapped on each collection so that series recorded
+   * in every interval stay resident in both maps instead of being removed and re-inserted.
+   */
+  private final List<AggregatorHolder<T, U>> holders;
+
+  // The holder measurements are currently recorded into
+  private volatile AggregatorHolder<T, U> aggregatorHolder;
+
   private final AttributesProcessor attributesProcessor;
 
   /**
    * This field is set to 1 less than the actual intended cardinality limit, allowing the last slot
-   * to be filled by the {@link MetricStorage#CARDINALITY_OVERFLOW} series.
+   * to be filled by the {@link MetricStorage#CARDINALITY_OVERFLOW} series. For DELTA temporality,
+   * it bounds the series recorded since the holder was last collected, see {@link
+   * #isAtCardinalityLimit(AggregatorHolder)}.
    */
   private final int maxCardinality;
 
+  /**
+   * For CUMULATIVE temporality, the number of consecutive collections without recordings after
+   * which a series is evicted, freeing its slot towards the cardinality limit. {@code 0} if series
+   * are never evicted, which is always the case for DELTA temporality, where series without
+   * recordings are removed on each collection.
+   */
+  private final int maxIdleCollections;
+
   private final ConcurrentLinkedQueue<AggregatorHandle<T, U>> aggregatorHandlePool = new ConcurrentLinkedQueue<>();
 
+  private final MemoryMode memoryMode;
+
+  // Only populated if memoryMode == REUSABLE_DATA
+  private final ArrayList<T> reusableResultList = new ArrayList<>();
+
+  /**
+   * Number of {@link BoundStorageHandle}s holding on to each series. Bound series are never removed
+   * from the maps of the holders. Always incremented before the handles of a series are looked up,
+   * and checked from within {@code compute} calls when removing them, so that binding and DELTA
+   * collection of a series are atomic with respect to each other.
+   */
+  private final ConcurrentHashMap<Attributes, Integer> boundSeries = new ConcurrentHashMap<>();
+
   DefaultSynchronousMetricStorage(
       RegisteredReader registeredReader,
       MetricDescriptor metricDescriptor,
       Aggregator<T, U> aggregator,
       AttributesProcessor attributesProcessor,
       int maxCardinality) {
+    this(registeredReader, metricDescriptor, aggregator, attributesProcessor, maxCardinality, 0);
+  }
+
+  DefaultSynchronousMetricStorage(
+      RegisteredReader registeredReader,
+      MetricDescriptor metricDescriptor,
+      Aggregator<T, U> aggregator,
+      AttributesProcessor attributesProcessor,
+      int maxCardinality,
+      int maxIdleCollections) {
     this.registeredReader = registeredReader;
     this.metricDescriptor = metricDescriptor;
     this.aggregationTemporality = registeredReader.getReader().getAggregationTemporality(metricDescriptor.getSourceInstrument().getType());
+    this.memoryMode = registeredReader.getReader().getMemoryMode();
     this.aggregator = aggregator;
     this.attributesProcessor = attributesProcessor;
     this.maxCardinality = maxCardinality - 1;
+    this.maxIdleCollections =
+        aggregationTemporality == AggregationTemporality.CUMULATIVE ? maxIdleCollections : 0;
+    AggregatorHolder<T, U> activeHolder = new AggregatorHolder<>(0, 0);
+    if (aggregationTemporality == AggregationTemporality.DELTA) {
+      // The standby holder starts out marked as being collected
+      this.holders = Arrays.asList(activeHolder, new AggregatorHolder<>(1, 1));
+    } else {
+      this.holders = Collections.singletonList(activeHolder);
+    }
+    this.aggregatorHolder = activeHolder;
   }
 
   // Visible for testing
@@ -78,55 +139,190 @@ public final class DefaultSynchronousMetricStorage<T extends PointData, U extend
 
   @Override
   public void recordLong(long value, Attributes attributes, Context context) {
-    AggregatorHandle<T, U> handle = getAggregatorHandle(attributes, context);
-    handle.recordLong(value, attributes, context);
+    AggregatorHolder<T, U> holder = acquireHolderForRecord();
+    try {
+      AggregatorHandle<T, U> handle;
+      do {
+        handle = getAggregatorHandle(holder, attributes, context);
+        handle.recordLong(value, attributes, context);
+        // Record again into the replacing handle if the series was evicted meanwhile, which also
+        // offers the measurement again to the exemplar reservoir of the replacing handle
+      } while (maxIdleCollections > 0 && handle.awaitEvicted());
+    } finally {
+      releaseHolderForRecord(holder);
+    }
   }
 
   @Override
   public void recordDouble(double value, Attributes attributes, Context context) {
     if (Double.isNaN(value)) {
-      logger.log(
-          Level.FINE,
-          "Instrument "
-              + metricDescriptor.getSourceInstrument().getName()
-              + " has recorded measurement Not-a-Number (NaN) value with attributes "
-              + attributes
-              + ". Dropping measurement.");
+      logNaN(attributes);
       return;
     }
-    // 其实这里会为每个创建一个Handle
-    AggregatorHandle<T, U> handle = getAggregatorHandle(attributes, context);
-    handle.recordDouble(value, attributes, context);
+    AggregatorHolder<T, U> holder = acquireHolderForRecord();
+    try {
+      // 其实这里会为每个创建一个Handle
+      AggregatorHandle<T, U> handle;
+      do {
+        handle = getAggregatorHandle(holder, attributes, context);
+        handle.recordDouble(value, attributes, context);
+        // Record again into the replacing handle if the series was evicted meanwhile, which also
+        // offers the measurement again to the exemplar reservoir of the replacing handle
+      } while (maxIdleCollections > 0 && handle.awaitEvicted());
+    } finally {
+      releaseHolderForRecord(holder);
+    }
+  }
+
+  /**
+   * Returns the holder to record into, which must be passed to {@link
+   * #releaseHolderForRecord(AggregatorHolder)} once the measurement has been recorded.
+   *
+   * <p>For DELTA temporality, each record in progress adds 2 to {@link
+   * AggregatorHolder#activeRecordingThreads}, while collection adds 1 to the holder it swaps out.
+   * An odd count thus means the holder is being collected, and the record retries with the holder
+   * that replaced it.
+   */
+  private AggregatorHolder<T, U> acquireHolderForRecord() {
+    if (aggregationTemporality != AggregationTemporality.DELTA) {
+      return aggregatorHolder;
+    }
+    while (true) {
+      AggregatorHolder<T, U> holder = this.aggregatorHolder;
+      int recordsInProgress = holder.activeRecordingThreads.addAndGet(2);
+      if (recordsInProgress % 2 == 0) {
+        return holder;
+      }
+      // Collection is in progress, re-read the volatile aggregatorHolder
+      holder.activeRecordingThreads.addAndGet(-2);
+    }
+  }
+
+  private void releaseHolderForRecord(AggregatorHolder<T, U> holder) {
+    if (aggregationTemporality == AggregationTemporality.DELTA) {
+      holder.activeRecordingThreads.addAndGet(-2);
+    }
+  }
+
+  private void logNaN(Attributes attributes) {
+    logger.log(
+        Level.FINE,
+        "Instrument "
+            + metricDescriptor.getSourceInstrument().getName()
+            + " has recorded measurement Not-a-Number (NaN) value with attributes "
+            + attributes
+            + ". Dropping measurement.");
+  }
+
+  @Override
+  public BoundStorageHandle bind(Attributes attributes) {
+    Objects.requireNonNull(attributes, "attributes");
+    if (attributesProcessor.usesContext()) {
+      // The series depends on the context of each measurement, so it can't be resolved up front
+      return new DelegatingBoundStorageHandle(this, attributes);
+    }
+    Attributes processedAttributes = attributesProcessor.process(attributes, Context.root());
+    for (AggregatorHolder<T, U> holder : holders) {
+      // Bound series are pinned in every holder even while idle, so they are bounded as well
+      if (!holder.aggregatorHandles.containsKey(processedAttributes)
+          && (isAtCardinalityLimit(holder) || boundSeries.size() >= maxCardinality)) {
+        logger.log(Level.WARNING, "Instrument " + metricDescriptor.getSourceInstrument().getName() + " has exceeded the maximum allowed cardinality (" + maxCardinality + ").");
+        processedAttributes = MetricStorage.CARDINALITY_OVERFLOW;
+        break;
+      }
+    }
+    boundSeries.merge(processedAttributes, 1, Integer::sum);
+    // Pin the series in every holder, the bound handle records into the one currently active
+    List<AggregatorHandle<T, U>> handles = new ArrayList<>(holders.size());
+    for (AggregatorHolder<T, U> holder : holders) {
+      handles.add(getOrCreateHandle(holder.aggregatorHandles, processedAttributes));
+    }
+    return new BoundHandle(attributes, processedAttributes, handles);
+  }
+
+  private AggregatorHandle<T, U> getOrCreateHandle(
+      AttributesConcurrentMap<AggregatorHandle<T, U>> aggregatorHandles,
+      Attributes attributes) {
+    return aggregatorHandles.computeIfAbsent(attributes, unused -> newAggregatorHandle());
+  }
+
+  /** Returns a handle from the pool if available, else a new one. */
+  private AggregatorHandle<T, U> newAggregatorHandle() {
+    AggregatorHandle<T, U> newHandle = aggregatorHandlePool.poll();
+    // 初始时aggregatorHandlePool是空列表
+    if (newHandle == null) {
+      // 这里会根据具体的aggregator创建具体的AggregatorHandle
+      // 其实Handle中持有的是调用具体的Aggregator的createAggregator方法创建的Supplier<ExemplarReservoir<LongExemplarData>>
+      newHandle = aggregator.createHandle();
+    }
+    if (maxIdleCollections > 0) {
+      // A series may be evicted and created again, its cumulative value then starts over
+      newHandle.setSeriesStartEpochNanos(registeredReader.getLastCollectEpochNanos());
+    }
+    return newHandle;
+  }
+
+  private void unbind(Attributes processedAttributes) {
+    boundSeries.computeIfPresent(
+        processedAttributes, (unused, count) -> count == 1 ? null : count - 1);
   }
 
-  private AggregatorHandle<T, U> getAggregatorHandle(Attributes attributes, Context context) {
+  private AggregatorHandle<T, U> getAggregatorHandle(
+      AggregatorHolder<T, U> holder, Attributes attributes, Context context) {
     Objects.requireNonNull(attributes, "attributes");
+    AttributesConcurrentMap<AggregatorHandle<T, U>> aggregatorHandles = holder.aggregatorHandles;
     // 其实这里的attributesProcessor默认是NoopAttributesProcessor，什么事情都没有干
     attributes = attributesProcessor.process(attributes, context);
     AggregatorHandle<T, U> handle = aggregatorHandles.get(attributes);
     if (handle != null) {
-      return handle;
+      if (aggregationTemporality != AggregationTemporality.DELTA || handle.hasRecordedValues()) {
+        return handle;
+      }
+      // For DELTA, recording into the resident handle of an idle series makes it count towards
+      // the limit just like a new series
+      if (!isAtCardinalityLimit(holder)) {
+        return markActive(holder, handle);
+      }
     }
     // maxCardinality默认是1999，实在构建SdkMeterProvider就已经生成了
-    if (aggregatorHandles.size() >= maxCardinality) {
+    if (isAtCardinalityLimit(holder)) {
       logger.log(Level.WARNING, "Instrument " + metricDescriptor.getSourceInstrument().getName() + " has exceeded the maximum allowed cardinality (" + maxCardinality + ").");
       // Return handle for overflow series, first checking if a handle already exists for it
       attributes = MetricStorage.CARDINALITY_OVERFLOW;
       handle = aggregatorHandles.get(attributes);
       if (handle != null) {
-        return handle;
+        return markActive(holder, handle);
       }
     }
-    // Get handle from pool if available, else create a new one.
-    AggregatorHandle<T, U> newHandle = aggregatorHandlePool.poll();
-    // 初始时aggregatorHandlePool是空列表
-    if (newHandle == null) {
-      // 这里会根据具体的aggregator创建具体的AggregatorHandle
-      // 其实Handle中持有的是调用具体的Aggregator的createAggregator方法创建的Supplier<ExemplarReservoir<LongExemplarData>>
-      newHandle = aggregator.createHandle();
-    }
+    AggregatorHandle<T, U> newHandle = newAggregatorHandle();
     handle = aggregatorHandles.putIfAbsent(attributes, newHandle);
-    return handle != null ? handle : newHandle;
+    return markActive(holder, handle != null ? handle : newHandle);
+  }
+
+  /**
+   * Returns {@code true} if no more series can be recorded into {@code holder}. For DELTA
+   * temporality, only series recorded since the holder was last collected count towards the limit.
+   * The handles of series recorded in the previous interval of the holder stay resident in its map,
+   * but are not counted until they are recorded into again, so that attribute churn across
+   * intervals doesn't cause overflow.
+   */
+  private boolean isAtCardinalityLimit(AggregatorHolder<T, U> holder) {
+    if (aggregationTemporality == AggregationTemporality.DELTA) {
+      return holder.activeSeries.get() >= maxCardinality;
+    }
+    return holder.aggregatorHandles.size() >= maxCardinality;
+  }
+
+  /**
+   * For DELTA temporality, counts the series of {@code handle} as recorded since {@code holder} was
+   * last collected, unless it already is. Returns {@code handle}.
+   */
+  private AggregatorHandle<T, U> markActive(
+      AggregatorHolder<T, U> holder, AggregatorHandle<T, U> handle) {
+    if (aggregationTemporality == AggregationTemporality.DELTA && handle.tryMarkRecorded()) {
+      holder.activeSeries.incrementAndGet();
+    }
+    return handle;
   }
 
   @Override
@@ -135,15 +331,44 @@ public final class DefaultSynchronousMetricStorage<T extends PointData, U extend
     // AggregationTemporality.CUMULATIVE表示整个生命周期的指标的聚合
     boolean reset = aggregationTemporality == AggregationTemporality.DELTA;
     long start = aggregationTemporality == AggregationTemporality.DELTA ? registeredReader.getLastCollectEpochNanos() : startEpochNanos;
+    AggregatorHolder<T, U> holder = reset ? swapHolders() : this.aggregatorHolder;
+    AttributesConcurrentMap<AggregatorHandle<T, U>> aggregatorHandles = holder.aggregatorHandles;
     // Grab aggregated points.
-    List<T> points = new ArrayList<>(aggregatorHandles.size());
+    List<T> points;
+    if (memoryMode == REUSABLE_DATA) {
+      // Collect can not run concurrently for same reader, hence we safely assume
+      // the previous collect result has been used and done with
+      reusableResultList.clear();
+      points = reusableResultList;
+    } else {
+      points = new ArrayList<>(aggregatorHandles.size());
+    }
     aggregatorHandles.forEach(
         (attributes, handle) -> {
+          if (maxIdleCollections > 0 && evictIfIdle(aggregatorHandles, attributes, handle)) {
+            return;
+          }
           // 这里是调用具体的Aggregator的doAggregateThenMaybeReset方法将指标数据封装成具体的PointData数据
           // 注意reset参数很总要，涉及到是否要重置指标数据
-          T point = handle.aggregateThenMaybeReset(start, epochNanos, attributes, reset);
-          if (reset) {
-            aggregatorHandles.remove(attributes, handle);
+          // Handles with no recordings since the last collection are skipped. For DELTA, the
+          // holder has been swapped out and its records in progress have completed, so the flag
+          // is reset along with the aggregation without racing with recordings.
+          boolean recorded = reset ? handle.resetRecordedValues() : handle.hasRecordedValues();
+          T point =
+              recorded
+                  ? handle.aggregateThenMaybeReset(
+                      Math.max(start, handle.getSeriesStartEpochNanos()),
+                      epochNanos,
+                      attributes,
+                      reset)
+                  : null;
+          // For DELTA, handles of series recorded since the last collection of this holder stay
+          // resident, only idle ones are removed, regardless of the memory mode. No value can be
+          // recorded into them until the holder is swapped in again, by which time they are out
+          // of its map. Bound series are kept, since bound handles keep recording into them.
+          if (reset
+              && point == null
+              && removeUnboundHandle(aggregatorHandles, attributes, handle)) {
             // Return the aggregator to the pool.
             aggregatorHandlePool.offer(handle);
           }
@@ -151,6 +376,11 @@ public final class DefaultSynchronousMetricStorage<T extends PointData, U extend
             points.add(point);
           }
         });
+    if (reset) {
+      // The flags of the remaining handles have been reset, their series are idle until the holder
+      // is swapped in again
+      holder.activeSeries.set(0);
+    }
     // Trim pool down if needed. pool.size() will only exceed maxCardinality if new handles are
     // created during collection.
     int toDelete = aggregatorHandlePool.size() - (maxCardinality + 1);
@@ -165,8 +395,132 @@ public final class DefaultSynchronousMetricStorage<T extends PointData, U extend
     return aggregator.toMetricData(resource, instrumentationScopeInfo, metricDescriptor, points, aggregationTemporality);
   }
 
+  /**
+   * Makes the standby holder active, and waits for the records in progress on the previously active
+   * holder to complete. Returns the previously active holder, which no longer receives measurements
+   * until the next call.
+   */
+  private AggregatorHolder<T, U> swapHolders() {
+    AggregatorHolder<T, U> holder = this.aggregatorHolder;
+    AggregatorHolder<T, U> standbyHolder = holders.get(1 - holder.index);
+    // Clear the mark set when the standby holder was swapped out, then publish it
+    standbyHolder.activeRecordingThreads.addAndGet(-1);
+    this.aggregatorHolder = standbyHolder;
+    // Mark the holder as being collected, which makes records re-read this.aggregatorHolder.
+    // Records in progress are done once the count drops to 1.
+    int recordsInProgress = holder.activeRecordingThreads.addAndGet(1);
+    while (recordsInProgress > 1) {
+      recordsInProgress = holder.activeRecordingThreads.get();
+    }
+    return holder;
+  }
+
+  /**
+   * Removes the {@code handle} for {@code attributes}, unless a {@link BoundStorageHandle} holds on
+   * to it. Returns {@code true} if the handle was removed.
+   */
+  private boolean removeUnboundHandle(
+      AttributesConcurrentMap<AggregatorHandle<T, U>> aggregatorHandles,
+      Attributes attributes,
+      AggregatorHandle<T, U> handle) {
+    return aggregatorHandles.computeIfPresent(
+            attributes,
+            (key, current) -> current == handle && !boundSeries.containsKey(key) ? null : current)
+        == null;
+  }
+
+  /**
+   * Evicts the CUMULATIVE series of {@code handle} if it has no recordings for {@link
+   * #maxIdleCollections} collections, unless a {@link BoundStorageHandle} holds on to it. Returns
+   * {@code true} if the series was evicted. Evicted handles are not returned to the pool, since
+   * they still hold the cumulative value of the series.
+   */
+  private boolean evictIfIdle(
+      AttributesConcurrentMap<AggregatorHandle<T, U>> aggregatorHandles,
+      Attributes attributes,
+      AggregatorHandle<T, U> handle) {
+    if (handle.updateIdleCollections() < maxIdleCollections) {
+      return false;
+    }
+    // Recordings into the handle from now on wait for the outcome, and are recorded again if it is
+    // evicted
+    boolean evicted =
+        handle.beginEviction() && removeUnboundHandle(aggregatorHandles, attributes, handle);
+    handle.endEviction(evicted);
+    return evicted;
+  }
+
   @Override
   public MetricDescriptor getMetricDescriptor() {
     return metricDescriptor;
   }
+
+  /** A {@link BoundStorageHandle} which records directly into the handle of a series. */
+  private final class BoundHandle implements BoundStorageHandle {
+    // The attributes as passed by the user, offered to the exemplar reservoir
+    private final Attributes attributes;
+    // The attributes identifying the series in the maps of the holders
+    private final Attributes processedAttributes;
+    // The handle of the series in each holder, indexed by AggregatorHolder.index
+    private final List<AggregatorHandle<T, U>> handles;
+    private final AtomicBoolean released = new AtomicBoolean();
+
+    private BoundHandle(
+        Attributes attributes,
+        Attributes processedAttributes,
+        List<AggregatorHandle<T, U>> handles) {
+      this.attributes = attributes;
+      this.processedAttributes = processedAttributes;
+      this.handles = handles;
+    }
+
+    @Override
+    public void recordLong(long value, Context context) {
+      AggregatorHolder<T, U> holder = acquireHolderForRecord();
+      try {
+        markActive(holder, handles.get(holder.index)).recordLong(value, attributes, context);
+      } finally {
+        releaseHolderForRecord(holder);
+      }
+    }
+
+    @Override
+    public void recordDouble(double value, Context context) {
+      if (Double.isNaN(value)) {
+        logNaN(attributes);
+        return;
+      }
+      AggregatorHolder<T, U> holder = acquireHolderForRecord();
+      try {
+        markActive(holder, handles.get(holder.index)).recordDouble(value, attributes, context);
+      } finally {
+        releaseHolderForRecord(holder);
+      }
+    }
+
+    @Override
+    public void release() {
+      if (released.compareAndSet(false, true)) {
+        unbind(processedAttributes);
+      }
+    }
+  }
+
+  private static final class AggregatorHolder<T extends PointData, U extends ExemplarData> {
+    private final int index;
+    // Grows on demand, up to the capacity needed for the cardinality limit
+    private final AttributesConcurrentMap<AggregatorHandle<T, U>> aggregatorHandles =
+        new AttributesConcurrentMap<>();
+    // Twice the number of records in progress, plus 1 while the holder is being collected. Only
+    // maintained for DELTA temporality.
+    private final AtomicInteger activeRecordingThreads;
+    // Number of series recorded since the holder was last collected, counted towards the
+    // cardinality limit. Only maintained for DELTA temporality.
+    private final AtomicInteger activeSeries = new AtomicInteger();
+
+    private AggregatorHolder(int index, int activeRecordingThreads) {
+      this.index = index;
+      this.activeRecordingThreads = new AtomicInteger(activeRecordingThreads);
+    }
+  }
 }
@@ -0,0 +1,38 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.metrics.internal.state;
+
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.context.Context;
+
+/**
+ * A {@link BoundStorageHandle} which does not hold on to a series, and instead records into the
+ * storage with the bound attributes on every call. Used by storages which can not resolve the
+ * series up front.
+ */
+final class DelegatingBoundStorageHandle implements BoundStorageHandle {
+
+  private final WriteableMetricStorage storage;
+  private final Attributes attributes;
+
+  DelegatingBoundStorageHandle(WriteableMetricStorage storage, Attributes attributes) {
+    this.storage = storage;
+    this.attributes = attributes;
+  }
+
+  @Override
+  public void recordLong(long value, Context context) {
+    storage.recordLong(value, attributes, context);
+  }
+
+  @Override
+  public void recordDouble(double value, Context context) {
+    storage.recordDouble(value, attributes, context);
+  }
+
+  @Override
+  public void release() {}
+}
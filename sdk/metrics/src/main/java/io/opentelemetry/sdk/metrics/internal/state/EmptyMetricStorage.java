@@ -16,6 +16,18 @@ import io.opentelemetry.sdk.resources.Resource;
 final class EmptyMetricStorage implements SynchronousMetricStorage {
   static final EmptyMetricStorage INSTANCE = new EmptyMetricStorage();
 
+  private static final BoundStorageHandle NOOP_BOUND_HANDLE =
+      new BoundStorageHandle() {
+        @Override
+        public void recordLong(long value, Context context) {}
+
+        @Override
+        public void recordDouble(double value, Context context) {}
+
+        @Override
+        public void release() {}
+      };
+
   private EmptyMetricStorage() {}
 
   private final MetricDescriptor descriptor = MetricDescriptor.create("", "", "");
@@ -39,4 +51,9 @@ final class EmptyMetricStorage implements SynchronousMetricStorage {
 
   @Override
   public void recordDouble(double value, Attributes attributes, Context context) {}
+
+  @Override
+  public BoundStorageHandle bind(Attributes attributes) {
+    return NOOP_BOUND_HANDLE;
+  }
 }
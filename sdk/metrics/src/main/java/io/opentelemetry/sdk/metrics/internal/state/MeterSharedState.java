@@ -20,6 +20,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.function.Function;
+import javax.annotation.Nullable;
 
 /**
  * State for a {@code Meter}.
@@ -40,14 +41,27 @@ public class MeterSharedState {
 
   private final InstrumentationScopeInfo instrumentationScopeInfo;
 
-  private MeterSharedState(InstrumentationScopeInfo instrumentationScopeInfo, List<RegisteredReader> registeredReaders) {
+  @Nullable private final CallbackExecutor callbackExecutor;
+
+  private MeterSharedState(InstrumentationScopeInfo instrumentationScopeInfo, List<RegisteredReader> registeredReaders,
+      @Nullable CallbackExecutor callbackExecutor) {
     this.instrumentationScopeInfo = instrumentationScopeInfo;
+    this.callbackExecutor = callbackExecutor;
     // 这里其实是遍历从SdkMeter中调用传入的registeredReaders，然后为每个RegisteredReader生成一个MetricStorageRegistry
     this.readerStorageRegistries = registeredReaders.stream().collect(toMap(Function.identity(), unused -> new MetricStorageRegistry()));
   }
 
   public static MeterSharedState create(InstrumentationScopeInfo instrumentationScopeInfo, List<RegisteredReader> registeredReaders) {
-    return new MeterSharedState(instrumentationScopeInfo, registeredReaders);
+    return new MeterSharedState(instrumentationScopeInfo, registeredReaders, null);
+  }
+
+  /**
+   * Creates a {@link MeterSharedState} invoking the callbacks of asynchronous instruments with
+   * {@code callbackExecutor}, or on the collecting thread if {@code null}.
+   */
+  public static MeterSharedState create(InstrumentationScopeInfo instrumentationScopeInfo, List<RegisteredReader> registeredReaders,
+      @Nullable CallbackExecutor callbackExecutor) {
+    return new MeterSharedState(instrumentationScopeInfo, registeredReaders, callbackExecutor);
   }
 
   /**
@@ -92,8 +106,12 @@ public class MeterSharedState {
     synchronized (collectLock) {
       // 这里通过调用CallbackRegistration的invokeCallback，真正调用通过buildWithCallback方法注册进来的异步方法
       // 也就是调用生成的SdkObservableMeasurement的record方法，这里其实生成points数据，并并存储到对应的MetricStorage中
-      for (CallbackRegistration callbackRegistration : currentRegisteredCallbacks) {
-        callbackRegistration.invokeCallback(registeredReader, meterProviderSharedState.getStartEpochNanos(), epochNanos);
+      if (callbackExecutor != null) {
+        callbackExecutor.invokeCallbacks(currentRegisteredCallbacks, registeredReader, meterProviderSharedState.getStartEpochNanos(), epochNanos);
+      } else {
+        for (CallbackRegistration callbackRegistration : currentRegisteredCallbacks) {
+          callbackRegistration.invokeCallback(registeredReader, meterProviderSharedState.getStartEpochNanos(), epochNanos);
+        }
       }
 
       /*
@@ -29,4 +29,42 @@ class MultiWritableMetricStorage implements WriteableMetricStorage {
       storage.recordDouble(value, attributes, context);
     }
   }
+
+  @Override
+  public BoundStorageHandle bind(Attributes attributes) {
+    BoundStorageHandle[] handles = new BoundStorageHandle[storages.size()];
+    for (int i = 0; i < handles.length; i++) {
+      handles[i] = storages.get(i).bind(attributes);
+    }
+    return new MultiBoundStorageHandle(handles);
+  }
+
+  private static final class MultiBoundStorageHandle implements BoundStorageHandle {
+    private final BoundStorageHandle[] handles;
+
+    private MultiBoundStorageHandle(BoundStorageHandle[] handles) {
+      this.handles = handles;
+    }
+
+    @Override
+    public void recordLong(long value, Context context) {
+      for (BoundStorageHandle handle : handles) {
+        handle.recordLong(value, context);
+      }
+    }
+
+    @Override
+    public void recordDouble(double value, Context context) {
+      for (BoundStorageHandle handle : handles) {
+        handle.recordDouble(value, context);
+      }
+    }
+
+    @Override
+    public void release() {
+      for (BoundStorageHandle handle : handles) {
+        handle.release();
+      }
+    }
+  }
 }
@@ -9,6 +9,7 @@ import static io.opentelemetry.sdk.metrics.internal.state.ImmutableMeasurement.c
 import static io.opentelemetry.sdk.metrics.internal.state.ImmutableMeasurement.createLong;
 
 import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.internal.GuardedBy;
 import io.opentelemetry.api.metrics.ObservableDoubleMeasurement;
 import io.opentelemetry.api.metrics.ObservableLongMeasurement;
 import io.opentelemetry.sdk.common.InstrumentationScopeInfo;
@@ -40,11 +41,22 @@ public final class SdkObservableMeasurement implements ObservableLongMeasurement
   /** Only used when {@code activeReader}'s memoryMode is {@link MemoryMode#REUSABLE_DATA}. */
   private final MutableMeasurement mutableMeasurement = new MutableMeasurement();
 
-  // These fields are set before invoking callbacks. They allow measurements to be recorded to the
-  // storages for correct reader, and with the correct time.
-  @Nullable private volatile RegisteredReader activeReader;
-  private volatile long startEpochNanos;
-  private volatile long epochNanos;
+  // These fields are set before invoking callbacks on the collecting thread. They allow
+  // measurements to be recorded to the storages for correct reader, and with the correct time.
+  // Callbacks run by a CallbackExecutor buffer their measurements in their CallbackInvocation
+  // instead, which records them once the callback completed. The lock serializes recordings of
+  // callbacks running at once.
+  private final Object lock = new Object();
+
+  @GuardedBy("lock")
+  @Nullable
+  private RegisteredReader activeReader;
+
+  @GuardedBy("lock")
+  private long startEpochNanos;
+
+  @GuardedBy("lock")
+  private long epochNanos;
 
   private SdkObservableMeasurement(InstrumentationScopeInfo instrumentationScopeInfo,
       InstrumentDescriptor instrumentDescriptor,
@@ -80,16 +92,47 @@ public final class SdkObservableMeasurement implements ObservableLongMeasurement
    */
   public void setActiveReader(
       RegisteredReader registeredReader, long startEpochNanos, long epochNanos) {
-    this.activeReader = registeredReader;
-    this.startEpochNanos = startEpochNanos;
-    this.epochNanos = epochNanos;
+    synchronized (lock) {
+      this.activeReader = registeredReader;
+      this.startEpochNanos = startEpochNanos;
+      this.epochNanos = epochNanos;
+    }
   }
 
   /**
    * Unset the active reader. Called after {@link #setActiveReader(RegisteredReader, long, long)}.
+   * Measurements recorded once this returns are dropped.
    */
   public void unsetActiveReader() {
-    this.activeReader = null;
+    synchronized (lock) {
+      this.activeReader = null;
+    }
+  }
+
+  /**
+   * Records {@code values} buffered by a {@link CallbackInvocation} to the storages of {@code
+   * registeredReader}, at the given time.
+   */
+  void recordValues(
+      RegisteredReader registeredReader,
+      long startEpochNanos,
+      long epochNanos,
+      List<Measurement> values) {
+    synchronized (lock) {
+      for (Measurement value : values) {
+        if (value.hasLongValue()) {
+          doRecordLong(
+              registeredReader, startEpochNanos, epochNanos, value.longValue(), value.attributes());
+        } else {
+          doRecordDouble(
+              registeredReader,
+              startEpochNanos,
+              epochNanos,
+              value.doubleValue(),
+              value.attributes());
+        }
+      }
+    }
   }
 
   InstrumentDescriptor getInstrumentDescriptor() {
@@ -107,19 +150,26 @@ public final class SdkObservableMeasurement implements ObservableLongMeasurement
 
   @Override
   public void record(long value, Attributes attributes) {
-    if (activeReader == null) {
-      logNoActiveReader();
+    CallbackInvocation invocation = CallbackInvocation.current();
+    if (invocation != null) {
+      // Checked and buffered atomically with respect to the invocation being finished
+      synchronized (invocation) {
+        if (invocation.isFinished()) {
+          logInvocationFinished();
+          return;
+        }
+        invocation.record(this, createLong(0, 0, value, attributes));
+      }
       return;
     }
-    Measurement measurement;
-    MemoryMode memoryMode = activeReader.getReader().getMemoryMode();
-    if (Objects.requireNonNull(memoryMode) == MemoryMode.IMMUTABLE_DATA) {
-      measurement = createLong(startEpochNanos, epochNanos, value, attributes);
-    } else {
-      MutableMeasurement.setLongMeasurement(mutableMeasurement, startEpochNanos, epochNanos, value, attributes);
-      measurement = mutableMeasurement;
+    synchronized (lock) {
+      RegisteredReader activeReader = this.activeReader;
+      if (activeReader == null) {
+        logNoActiveReader();
+        return;
+      }
+      doRecordLong(activeReader, startEpochNanos, epochNanos, value, attributes);
     }
-    doRecord(measurement);
   }
 
   @Override
@@ -129,23 +179,72 @@ public final class SdkObservableMeasurement implements ObservableLongMeasurement
 
   @Override
   public void record(double value, Attributes attributes) {
-    if (activeReader == null) {
-      logNoActiveReader();
+    CallbackInvocation invocation = CallbackInvocation.current();
+    if (invocation != null) {
+      synchronized (invocation) {
+        if (invocation.isFinished()) {
+          logInvocationFinished();
+          return;
+        }
+        if (Double.isNaN(value)) {
+          logNaN(attributes);
+          return;
+        }
+        invocation.record(this, createDouble(0, 0, value, attributes));
+      }
       return;
     }
-    if (Double.isNaN(value)) {
-      logger.log(
-          Level.FINE,
-          "Instrument "
-              + instrumentDescriptor.getName()
-              + " has recorded measurement Not-a-Number (NaN) value with attributes "
-              + attributes
-              + ". Dropping measurement.");
-      return;
+    synchronized (lock) {
+      RegisteredReader activeReader = this.activeReader;
+      if (activeReader == null) {
+        logNoActiveReader();
+        return;
+      }
+      if (Double.isNaN(value)) {
+        logNaN(attributes);
+        return;
+      }
+      doRecordDouble(activeReader, startEpochNanos, epochNanos, value, attributes);
+    }
+  }
+
+  private void logNaN(Attributes attributes) {
+    logger.log(
+        Level.FINE,
+        "Instrument "
+            + instrumentDescriptor.getName()
+            + " has recorded measurement Not-a-Number (NaN) value with attributes "
+            + attributes
+            + ". Dropping measurement.");
+  }
+
+  @GuardedBy("lock")
+  private void doRecordLong(
+      RegisteredReader reader,
+      long startEpochNanos,
+      long epochNanos,
+      long value,
+      Attributes attributes) {
+    Measurement measurement;
+    MemoryMode memoryMode = reader.getReader().getMemoryMode();
+    if (Objects.requireNonNull(memoryMode) == MemoryMode.IMMUTABLE_DATA) {
+      measurement = createLong(startEpochNanos, epochNanos, value, attributes);
+    } else {
+      MutableMeasurement.setLongMeasurement(mutableMeasurement, startEpochNanos, epochNanos, value, attributes);
+      measurement = mutableMeasurement;
     }
+    doRecord(reader, measurement);
+  }
 
+  @GuardedBy("lock")
+  private void doRecordDouble(
+      RegisteredReader reader,
+      long startEpochNanos,
+      long epochNanos,
+      double value,
+      Attributes attributes) {
     Measurement measurement;
-    MemoryMode memoryMode = activeReader.getReader().getMemoryMode();
+    MemoryMode memoryMode = reader.getReader().getMemoryMode();
     if (Objects.requireNonNull(memoryMode) == MemoryMode.IMMUTABLE_DATA) {
       measurement = createDouble(startEpochNanos, epochNanos, value, attributes);
     } else {
@@ -153,12 +252,10 @@ public final class SdkObservableMeasurement implements ObservableLongMeasurement
           mutableMeasurement, startEpochNanos, epochNanos, value, attributes);
       measurement = mutableMeasurement;
     }
-
-    doRecord(measurement);
+    doRecord(reader, measurement);
   }
 
-  private void doRecord(Measurement measurement) {
-    RegisteredReader activeReader = this.activeReader;
+  private void doRecord(RegisteredReader activeReader, Measurement measurement) {
     for (AsynchronousMetricStorage<?, ?> storage : storages) {
       if (storage.getRegisteredReader().equals(activeReader)) {
         storage.record(measurement);
@@ -166,6 +263,14 @@ public final class SdkObservableMeasurement implements ObservableLongMeasurement
     }
   }
 
+  private void logInvocationFinished() {
+    throttlingLogger.log(
+        Level.FINE,
+        "Measurement recorded for instrument "
+            + instrumentDescriptor.getName()
+            + " by a callback no longer awaited by the collection. Dropping measurement.");
+  }
+
   private void logNoActiveReader() {
     throttlingLogger.log(
         Level.FINE,
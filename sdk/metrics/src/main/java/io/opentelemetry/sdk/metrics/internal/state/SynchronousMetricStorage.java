@@ -49,11 +49,13 @@ public interface SynchronousMetricStorage extends MetricStorage, WriteableMetric
      *   HISTOGRAM:ExplicitBucketHistogramAggregation
      *   OBSERVABLE_GAUGE:LastValueAggregation
      */
-    Aggregator<T, U> aggregator = ((AggregatorFactory) view.getAggregation()).createAggregator(instrumentDescriptor, exemplarFilter);
+    Aggregator<T, U> aggregator = ((AggregatorFactory) view.getAggregation()).createAggregator(instrumentDescriptor,
+        exemplarFilter, registeredReader.getReader().getMemoryMode());
     // We won't be storing this metric.
     if (Aggregator.drop() == aggregator) {
       return empty();
     }
-    return new DefaultSynchronousMetricStorage<>(registeredReader, metricDescriptor, aggregator, registeredView.getViewAttributesProcessor(), registeredView.getCardinalityLimit());
+    return new DefaultSynchronousMetricStorage<>(registeredReader, metricDescriptor, aggregator, registeredView.getViewAttributesProcessor(), registeredView.getCardinalityLimit(),
+        registeredView.getMaxIdleCollections());
   }
 }
@@ -22,4 +22,13 @@ public interface WriteableMetricStorage {
 
   /** Records a measurement. */
   void recordDouble(double value, Attributes attributes, Context context);
+
+  /**
+   * Binds {@code attributes} to a handle which records measurements without resolving the series
+   * for {@code attributes} on every call. The returned handle must be released once it is no longer
+   * used.
+   */
+  default BoundStorageHandle bind(Attributes attributes) {
+    return new DelegatingBoundStorageHandle(this, attributes);
+  }
 }
@@ -8,6 +8,7 @@ package io.opentelemetry.sdk.metrics.internal.view;
 import static io.opentelemetry.api.internal.Utils.checkArgument;
 
 import io.opentelemetry.sdk.common.Clock;
+import io.opentelemetry.sdk.common.export.MemoryMode;
 import io.opentelemetry.sdk.internal.RandomSupplier;
 import io.opentelemetry.sdk.metrics.Aggregation;
 import io.opentelemetry.sdk.metrics.data.ExemplarData;
@@ -23,6 +24,9 @@ import io.opentelemetry.sdk.metrics.internal.exemplar.ExemplarReservoir;
 /**
  * Exponential bucket histogram aggregation configuration.
  *
+ * <p>Points are allocated on each collection regardless of the {@link MemoryMode} of the reader,
+ * since their buckets can be rescaled between collections.
+ *
  * <p>This class is internal and is hence not for public use. Its APIs are unstable and can change
  * at any time.
  */
@@ -32,14 +36,17 @@ public final class Base2ExponentialHistogramAggregation implements Aggregation,
   private static final int DEFAULT_MAX_SCALE = 20;
 
   private static final Aggregation DEFAULT =
-      new Base2ExponentialHistogramAggregation(DEFAULT_MAX_BUCKETS, DEFAULT_MAX_SCALE);
+      new Base2ExponentialHistogramAggregation(
+          DEFAULT_MAX_BUCKETS, DEFAULT_MAX_SCALE, /* striped= */ false);
 
   private final int maxBuckets;
   private final int maxScale;
+  private final boolean striped;
 
-  private Base2ExponentialHistogramAggregation(int maxBuckets, int maxScale) {
+  private Base2ExponentialHistogramAggregation(int maxBuckets, int maxScale, boolean striped) {
     this.maxBuckets = maxBuckets;
     this.maxScale = maxScale;
+    this.striped = striped;
   }
 
   public static Aggregation getDefault() {
@@ -60,13 +67,29 @@ public final class Base2ExponentialHistogramAggregation implements Aggregation,
   public static Aggregation create(int maxBuckets, int maxScale) {
     checkArgument(maxBuckets >= 1, "maxBuckets must be > 0");
     checkArgument(maxScale <= 20 && maxScale >= -10, "maxScale must be -10 <= x <= 20");
-    return new Base2ExponentialHistogramAggregation(maxBuckets, maxScale);
+    return new Base2ExponentialHistogramAggregation(maxBuckets, maxScale, /* striped= */ false);
+  }
+
+  /**
+   * Returns an exponential histogram aggregation whose series spread recordings over per-core
+   * stripes, each with its own buckets and scale, merged at collection. Reduces contention on
+   * series recorded into by many threads at once, at the cost of memory per series proportional
+   * to the number of cores.
+   *
+   * @see #create(int, int)
+   */
+  public static Aggregation createStriped(int maxBuckets, int maxScale) {
+    checkArgument(maxBuckets >= 1, "maxBuckets must be > 0");
+    checkArgument(maxScale <= 20 && maxScale >= -10, "maxScale must be -10 <= x <= 20");
+    return new Base2ExponentialHistogramAggregation(maxBuckets, maxScale, /* striped= */ true);
   }
 
   @Override
   @SuppressWarnings("unchecked")
   public <T extends PointData, U extends ExemplarData> Aggregator<T, U> createAggregator(
-      InstrumentDescriptor instrumentDescriptor, ExemplarFilter exemplarFilter) {
+      InstrumentDescriptor instrumentDescriptor,
+      ExemplarFilter exemplarFilter,
+      MemoryMode memoryMode) {
     return (Aggregator<T, U>)
         new DoubleBase2ExponentialHistogramAggregator(
             () ->
@@ -77,7 +100,8 @@ public final class Base2ExponentialHistogramAggregation implements Aggregation,
                         Runtime.getRuntime().availableProcessors(),
                         RandomSupplier.platformDefault())),
             maxBuckets,
-            maxScale);
+            maxScale,
+            striped);
   }
 
   @Override
@@ -97,6 +121,7 @@ public final class Base2ExponentialHistogramAggregation implements Aggregation,
         + maxBuckets
         + ",maxScale="
         + maxScale
+        + (striped ? ",striped" : "")
         + "}";
   }
 }
@@ -5,6 +5,7 @@
 
 package io.opentelemetry.sdk.metrics.internal.view;
 
+import io.opentelemetry.sdk.common.export.MemoryMode;
 import io.opentelemetry.sdk.internal.ThrottlingLogger;
 import io.opentelemetry.sdk.metrics.Aggregation;
 import io.opentelemetry.sdk.metrics.data.ExemplarData;
@@ -60,7 +61,9 @@ public final class DefaultAggregation implements Aggregation, AggregatorFactory
 
   @Override
   public <T extends PointData, U extends ExemplarData> Aggregator<T, U> createAggregator(
-      InstrumentDescriptor instrumentDescriptor, ExemplarFilter exemplarFilter) {
+      InstrumentDescriptor instrumentDescriptor,
+      ExemplarFilter exemplarFilter,
+      MemoryMode memoryMode) {
     /*
      * 首先通过resolve方法从InstrumentDescriptor中存储的InstrumentType类型来创建具体的Aggregation
      * 然后再调用具体的Aggregation的createAggregator方法
@@ -72,7 +75,7 @@ public final class DefaultAggregation implements Aggregation, AggregatorFactory
      *   OBSERVABLE_GAUGE:LastValueAggregation
      */
     return ((AggregatorFactory) resolve(instrumentDescriptor, /* withAdvice= */ true))
-        .createAggregator(instrumentDescriptor, exemplarFilter);
+        .createAggregator(instrumentDescriptor, exemplarFilter, memoryMode);
   }
 
   @Override
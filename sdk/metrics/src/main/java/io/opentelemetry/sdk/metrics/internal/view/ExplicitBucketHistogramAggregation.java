@@ -6,6 +6,7 @@
 package io.opentelemetry.sdk.metrics.internal.view;
 
 import io.opentelemetry.sdk.common.Clock;
+import io.opentelemetry.sdk.common.export.MemoryMode;
 import io.opentelemetry.sdk.metrics.Aggregation;
 import io.opentelemetry.sdk.metrics.data.ExemplarData;
 import io.opentelemetry.sdk.metrics.data.PointData;
@@ -34,22 +35,33 @@ import java.util.List;
  */
 public final class ExplicitBucketHistogramAggregation implements Aggregation, AggregatorFactory {
 
-  private static final Aggregation DEFAULT = new ExplicitBucketHistogramAggregation(ExplicitBucketHistogramUtils.DEFAULT_HISTOGRAM_BUCKET_BOUNDARIES);
+  private static final Aggregation DEFAULT = new ExplicitBucketHistogramAggregation(ExplicitBucketHistogramUtils.DEFAULT_HISTOGRAM_BUCKET_BOUNDARIES, /* striped= */ false);
 
   public static Aggregation getDefault() {
     return DEFAULT;
   }
 
   public static Aggregation create(List<Double> bucketBoundaries) {
-    return new ExplicitBucketHistogramAggregation(bucketBoundaries);
+    return new ExplicitBucketHistogramAggregation(bucketBoundaries, /* striped= */ false);
+  }
+
+  /**
+   * Returns an explicit bucket histogram aggregation whose series spread recordings over per-core
+   * stripes, merged at collection. Reduces contention on series recorded into by many threads at
+   * once, at the cost of memory per series proportional to the number of cores.
+   */
+  public static Aggregation createStriped(List<Double> bucketBoundaries) {
+    return new ExplicitBucketHistogramAggregation(bucketBoundaries, /* striped= */ true);
   }
 
   // 定义了bucket桶的边界
   private final List<Double> bucketBoundaries;
   private final double[] bucketBoundaryArray;
+  private final boolean striped;
 
-  private ExplicitBucketHistogramAggregation(List<Double> bucketBoundaries) {
+  private ExplicitBucketHistogramAggregation(List<Double> bucketBoundaries, boolean striped) {
     this.bucketBoundaries = bucketBoundaries;
+    this.striped = striped;
     // We need to fail here if our bucket boundaries are ill-configured.
     this.bucketBoundaryArray = ExplicitBucketHistogramUtils.createBoundaryArray(bucketBoundaries);
   }
@@ -57,11 +69,15 @@ public final class ExplicitBucketHistogramAggregation implements Aggregation, Ag
   @Override
   @SuppressWarnings("unchecked")
   public <T extends PointData, U extends ExemplarData> Aggregator<T, U> createAggregator(
-      InstrumentDescriptor instrumentDescriptor, ExemplarFilter exemplarFilter) {
+      InstrumentDescriptor instrumentDescriptor,
+      ExemplarFilter exemplarFilter,
+      MemoryMode memoryMode) {
     return (Aggregator<T, U>) new DoubleExplicitBucketHistogramAggregator(bucketBoundaryArray,
             () -> ExemplarReservoir.filtered(
                     exemplarFilter,
-                    ExemplarReservoir.histogramBucketReservoir(Clock.getDefault(), bucketBoundaries)));
+                    ExemplarReservoir.histogramBucketReservoir(Clock.getDefault(), bucketBoundaries)),
+            memoryMode,
+            striped);
   }
 
   @Override
@@ -77,6 +93,9 @@ public final class ExplicitBucketHistogramAggregation implements Aggregation, Ag
 
   @Override
   public String toString() {
-    return "ExplicitBucketHistogramAggregation(" + bucketBoundaries.toString() + ")";
+    return "ExplicitBucketHistogramAggregation("
+        + bucketBoundaries.toString()
+        + (striped ? ", striped" : "")
+        + ")";
   }
 }
@@ -0,0 +1,159 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.metrics.internal.view;
+
+import static io.opentelemetry.api.internal.Utils.checkArgument;
+
+import io.opentelemetry.sdk.common.Clock;
+import io.opentelemetry.sdk.common.export.MemoryMode;
+import io.opentelemetry.sdk.internal.RandomSupplier;
+import io.opentelemetry.sdk.metrics.Aggregation;
+import io.opentelemetry.sdk.metrics.data.ExemplarData;
+import io.opentelemetry.sdk.metrics.data.MetricDataType;
+import io.opentelemetry.sdk.metrics.data.PointData;
+import io.opentelemetry.sdk.metrics.internal.aggregator.Aggregator;
+import io.opentelemetry.sdk.metrics.internal.aggregator.AggregatorFactory;
+import io.opentelemetry.sdk.metrics.internal.aggregator.DoubleQuantileSketchExponentialHistogramAggregator;
+import io.opentelemetry.sdk.metrics.internal.aggregator.DoubleQuantileSketchSummaryAggregator;
+import io.opentelemetry.sdk.metrics.internal.descriptor.InstrumentDescriptor;
+import io.opentelemetry.sdk.metrics.internal.exemplar.ExemplarFilter;
+import io.opentelemetry.sdk.metrics.internal.exemplar.ExemplarReservoir;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import javax.annotation.Nullable;
+
+/**
+ * Quantile sketch aggregation configuration.
+ *
+ * <p>{@link MemoryMode#REUSABLE_DATA} is not supported: the aggregators create new immutable
+ * summary or exponential histogram points on every collection, whichever memory mode the reader
+ * asks for.
+ *
+ * <p>This class is internal and is hence not for public use. Its APIs are unstable and can change
+ * at any time.
+ */
+public final class QuantileSketchAggregation implements Aggregation, AggregatorFactory {
+
+  private static final double DEFAULT_RELATIVE_ACCURACY = 0.01;
+  private static final int DEFAULT_MAX_BUCKETS = 2048;
+  private static final List<Double> DEFAULT_QUANTILES =
+      Collections.unmodifiableList(Arrays.asList(0.5, 0.9, 0.99, 0.999));
+
+  // Bounds the memory of a series, 2 * 16384 longs
+  private static final int MAX_BUCKETS_LIMIT = 16384;
+
+  private static final Aggregation DEFAULT =
+      new QuantileSketchAggregation(
+          DEFAULT_RELATIVE_ACCURACY, DEFAULT_MAX_BUCKETS, DEFAULT_QUANTILES);
+
+  private final double relativeAccuracy;
+  private final int maxBuckets;
+  // null if exported as exponential histograms
+  @Nullable private final List<Double> quantiles;
+  private final int scale;
+
+  private QuantileSketchAggregation(
+      double relativeAccuracy, int maxBuckets, @Nullable List<Double> quantiles) {
+    this.relativeAccuracy = relativeAccuracy;
+    this.maxBuckets = maxBuckets;
+    this.quantiles = quantiles;
+    this.scale = DoubleQuantileSketchSummaryAggregator.scaleForRelativeAccuracy(relativeAccuracy);
+  }
+
+  public static Aggregation getDefault() {
+    return DEFAULT;
+  }
+
+  /**
+   * Aggregates measurements into a {@link MetricDataType#SUMMARY} of the given {@code quantiles},
+   * estimated with a quantile sketch.
+   *
+   * @param relativeAccuracy the max relative error of quantile estimates, between {@code 1e-6} and
+   *     {@code 0.5}. The finer the accuracy, the more buckets are needed to cover a range of
+   *     values.
+   * @param maxBuckets the max number of positive buckets and negative buckets. Once values span
+   *     more buckets, the lowest are collapsed, degrading the accuracy of the lowest quantiles.
+   * @param quantiles the quantiles to report, between {@code 0} and {@code 1}.
+   * @return the aggregation
+   */
+  public static Aggregation create(
+      double relativeAccuracy, int maxBuckets, List<Double> quantiles) {
+    validate(relativeAccuracy, maxBuckets);
+    checkArgument(!quantiles.isEmpty(), "quantiles must not be empty");
+    for (Double quantile : quantiles) {
+      checkArgument(
+          quantile != null && quantile >= 0 && quantile <= 1, "quantiles must be 0 <= x <= 1");
+    }
+    return new QuantileSketchAggregation(
+        relativeAccuracy, maxBuckets, Collections.unmodifiableList(new ArrayList<>(quantiles)));
+  }
+
+  /**
+   * Aggregates measurements into an {@link MetricDataType#EXPONENTIAL_HISTOGRAM} at the scale of a
+   * quantile sketch, so that quantiles can be estimated from the exported buckets.
+   *
+   * @see #create(double, int, List)
+   */
+  public static Aggregation createExponentialHistogram(double relativeAccuracy, int maxBuckets) {
+    validate(relativeAccuracy, maxBuckets);
+    return new QuantileSketchAggregation(relativeAccuracy, maxBuckets, null);
+  }
+
+  private static void validate(double relativeAccuracy, int maxBuckets) {
+    checkArgument(
+        relativeAccuracy >= 1e-6 && relativeAccuracy <= 0.5,
+        "relativeAccuracy must be 1e-6 <= x <= 0.5");
+    checkArgument(
+        maxBuckets >= 1 && maxBuckets <= MAX_BUCKETS_LIMIT,
+        "maxBuckets must be 0 < x <= " + MAX_BUCKETS_LIMIT);
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public <T extends PointData, U extends ExemplarData> Aggregator<T, U> createAggregator(
+      InstrumentDescriptor instrumentDescriptor,
+      ExemplarFilter exemplarFilter,
+      MemoryMode memoryMode) {
+    if (quantiles != null) {
+      return (Aggregator<T, U>)
+          new DoubleQuantileSketchSummaryAggregator(scale, maxBuckets, quantiles);
+    }
+    return (Aggregator<T, U>)
+        new DoubleQuantileSketchExponentialHistogramAggregator(
+            () ->
+                ExemplarReservoir.filtered(
+                    exemplarFilter,
+                    ExemplarReservoir.doubleFixedSizeReservoir(
+                        Clock.getDefault(),
+                        Runtime.getRuntime().availableProcessors(),
+                        RandomSupplier.platformDefault())),
+            scale,
+            maxBuckets);
+  }
+
+  @Override
+  public boolean isCompatibleWithInstrument(InstrumentDescriptor instrumentDescriptor) {
+    switch (instrumentDescriptor.getType()) {
+      case COUNTER:
+      case HISTOGRAM:
+        return true;
+      default:
+        return false;
+    }
+  }
+
+  @Override
+  public String toString() {
+    return "QuantileSketchAggregation{relativeAccuracy="
+        + relativeAccuracy
+        + ",maxBuckets="
+        + maxBuckets
+        + (quantiles == null ? ",exponentialHistogram" : ",quantiles=" + quantiles)
+        + "}";
+  }
+}
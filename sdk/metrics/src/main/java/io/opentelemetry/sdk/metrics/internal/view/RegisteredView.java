@@ -31,7 +31,14 @@ public abstract class RegisteredView {
   public static RegisteredView create(InstrumentSelector selector, View view,
       AttributesProcessor viewAttributesProcessor, int cardinalityLimit,
       SourceInfo viewSourceInfo) {
-    return new AutoValue_RegisteredView(selector, view, viewAttributesProcessor, cardinalityLimit, viewSourceInfo);
+    return create(selector, view, viewAttributesProcessor, cardinalityLimit, 0, viewSourceInfo);
+  }
+
+  public static RegisteredView create(InstrumentSelector selector, View view,
+      AttributesProcessor viewAttributesProcessor, int cardinalityLimit, int maxIdleCollections,
+      SourceInfo viewSourceInfo) {
+    return new AutoValue_RegisteredView(selector, view, viewAttributesProcessor, cardinalityLimit,
+        maxIdleCollections, viewSourceInfo);
   }
 
   RegisteredView() {}
@@ -60,6 +67,12 @@ public abstract class RegisteredView {
    */
   public abstract int getCardinalityLimit();
 
+  /**
+   * The number of consecutive collections without recordings after which a series with CUMULATIVE
+   * temporality is evicted, {@code 0} if series are never evicted.
+   */
+  public abstract int getMaxIdleCollections();
+
   /**
    * The {@link SourceInfo} from where the view was registered.
    * 默认设置的NoSourceInfo.INSTANCE
@@ -77,6 +77,7 @@ public final class ViewRegistry {
                   .build(),
               AttributesProcessor.noop(),
               cardinalityLimitSelector.getCardinalityLimit(instrumentType),
+              cardinalityLimitSelector.getMaxIdleCollections(instrumentType),
               SourceInfo.noSourceInfo()));
     }
     this.registeredViews = registeredViews;
@@ -243,6 +244,7 @@ public final class ViewRegistry {
         instrumentDefaultView.getView(),
         new AdviceAttributesProcessor(requireNonNull(advice.getAttributes())),
         instrumentDefaultView.getCardinalityLimit(),
+        instrumentDefaultView.getMaxIdleCollections(),
         instrumentDefaultView.getViewSourceInfo());
   }
 }
@@ -34,6 +34,15 @@ class AggregationTest {
     assertThat(Aggregation.base2ExponentialBucketHistogram(1, 0))
         .asString()
         .isEqualTo("Base2ExponentialHistogramAggregation{maxBuckets=1,maxScale=0}");
+    assertThat(Aggregation.quantileSketch())
+        .asString()
+        .isEqualTo(
+            "QuantileSketchAggregation{relativeAccuracy=0.01,maxBuckets=2048,"
+                + "quantiles=[0.5, 0.9, 0.99, 0.999]}");
+    assertThat(Aggregation.quantileSketchExponentialHistogram(0.05, 160))
+        .asString()
+        .isEqualTo(
+            "QuantileSketchAggregation{relativeAccuracy=0.05,maxBuckets=160,exponentialHistogram}");
   }
 
   @Test
@@ -95,6 +104,14 @@ class AggregationTest {
     assertThat(exponentialHistogram.isCompatibleWithInstrument(observableGauge)).isFalse();
     assertThat(exponentialHistogram.isCompatibleWithInstrument(histogram)).isTrue();
 
+    AggregatorFactory quantileSketch = ((AggregatorFactory) Aggregation.quantileSketch());
+    assertThat(quantileSketch.isCompatibleWithInstrument(counter)).isTrue();
+    assertThat(quantileSketch.isCompatibleWithInstrument(observableCounter)).isFalse();
+    assertThat(quantileSketch.isCompatibleWithInstrument(upDownCounter)).isFalse();
+    assertThat(quantileSketch.isCompatibleWithInstrument(observableUpDownCounter)).isFalse();
+    assertThat(quantileSketch.isCompatibleWithInstrument(observableGauge)).isFalse();
+    assertThat(quantileSketch.isCompatibleWithInstrument(histogram)).isTrue();
+
     AggregatorFactory lastValue = ((AggregatorFactory) Aggregation.lastValue());
     assertThat(lastValue.isCompatibleWithInstrument(counter)).isFalse();
     assertThat(lastValue.isCompatibleWithInstrument(observableCounter)).isFalse();
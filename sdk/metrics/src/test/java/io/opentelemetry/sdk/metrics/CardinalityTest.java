@@ -7,6 +7,7 @@ package io.opentelemetry.sdk.metrics;
 
 import static io.opentelemetry.sdk.metrics.internal.state.MetricStorage.DEFAULT_MAX_CARDINALITY;
 import static io.opentelemetry.sdk.testing.assertj.OpenTelemetryAssertions.assertThat;
+import static io.opentelemetry.sdk.testing.assertj.OpenTelemetryAssertions.attributeEntry;
 
 import io.opentelemetry.api.common.AttributeKey;
 import io.opentelemetry.api.common.Attributes;
@@ -640,6 +641,67 @@ class CardinalityTest {
    * that the {@link MetricStorage#CARDINALITY_OVERFLOW} series has a value equal of {@code
    * expectedOverflowValue}.
    */
+  /**
+   * Validate eviction of idle series configured via {@link
+   * CardinalityLimitSelector#getMaxIdleCollections(InstrumentType)}, and view configuration via
+   * {@link ViewBuilder#setMaxIdleCollections(int)}.
+   */
+  @Test
+  void readerAndViewMaxIdleCollectionsConfiguration() {
+    CardinalityLimitSelector cardinalityLimitSelector =
+        new CardinalityLimitSelector() {
+          @Override
+          public int getCardinalityLimit(InstrumentType instrumentType) {
+            return 3;
+          }
+
+          @Override
+          public int getMaxIdleCollections(InstrumentType instrumentType) {
+            return 1;
+          }
+        };
+    SdkMeterProviderBuilder builder = SdkMeterProvider.builder();
+    SdkMeterProviderUtil.registerMetricReaderWithCardinalitySelector(
+        builder, deltaReader, cardinalityLimitSelector);
+    SdkMeterProviderUtil.registerMetricReaderWithCardinalitySelector(
+        builder, cumulativeReader, cardinalityLimitSelector);
+    ViewBuilder viewBuilder = View.builder();
+    SdkMeterProviderUtil.setCardinalityLimit(viewBuilder, 3);
+    SdkMeterProviderUtil.setMaxIdleCollections(viewBuilder, 2);
+    builder.registerView(
+        InstrumentSelector.builder().setName("counter2").build(), viewBuilder.build());
+    meter = builder.build().get(CardinalityTest.class.getName());
+
+    LongCounter counter1 = meter.counterBuilder("counter1").build();
+    LongCounter counter2 = meter.counterBuilder("counter2").build();
+    for (int i = 0; i < 2; i++) {
+      counter1.add(1, Attributes.builder().put("key", i).build());
+      counter2.add(1, Attributes.builder().put("key", i).build());
+    }
+    assertThat(cumulativeReader.collectAllMetrics()).hasSize(2);
+
+    // Both series are idle for 1 collection, counter1 series are evicted
+    assertThat(cumulativeReader.collectAllMetrics())
+        .satisfiesExactly(metricData -> assertThat(metricData).hasName("counter2"));
+
+    // New series take the slots freed by the evicted ones instead of overflowing
+    for (int i = 2; i < 4; i++) {
+      counter1.add(1, Attributes.builder().put("key", i).build());
+    }
+    // counter2 series are idle for 2 collections and evicted
+    assertThat(cumulativeReader.collectAllMetrics())
+        .satisfiesExactly(
+            metricData ->
+                assertThat(metricData)
+                    .hasName("counter1")
+                    .hasLongSumSatisfying(
+                        sum ->
+                            sum.isCumulative()
+                                .hasPointsSatisfying(
+                                    point -> point.hasAttributes(attributeEntry("key", 2)),
+                                    point -> point.hasAttributes(attributeEntry("key", 3)))));
+  }
+
   private static <T extends PointData> void pointsAssert(
       Data<T> data,
       int expectedNumPoints,
@@ -14,6 +14,8 @@ import io.github.netmikey.logunit.api.LogCapturer;
 import io.opentelemetry.api.common.Attributes;
 import io.opentelemetry.api.metrics.DoubleCounter;
 import io.opentelemetry.api.metrics.Meter;
+import io.opentelemetry.extension.incubator.metrics.BoundDoubleCounter;
+import io.opentelemetry.extension.incubator.metrics.ExtendedDoubleCounter;
 import io.opentelemetry.internal.testing.slf4j.SuppressLogger;
 import io.opentelemetry.sdk.common.InstrumentationScopeInfo;
 import io.opentelemetry.sdk.metrics.internal.state.DefaultSynchronousMetricStorage;
@@ -175,6 +177,58 @@ class SdkDoubleCounterTest {
     assertThat(sdkMeterReader.collectAllMetrics()).hasSize(0);
   }
 
+  @Test
+  void bind_RecordsIntoSeries() {
+    long startTime = testClock.now();
+    ExtendedDoubleCounter counter =
+        (ExtendedDoubleCounter) sdkMeter.counterBuilder("testCounter").ofDoubles().build();
+    BoundDoubleCounter bound = counter.bind(Attributes.builder().put("K", "V").build());
+    bound.add(12.1);
+    counter.add(21.1, Attributes.builder().put("K", "V").build());
+    testClock.advance(Duration.ofNanos(SECOND_NANOS));
+    assertThat(sdkMeterReader.collectAllMetrics())
+        .satisfiesExactly(
+            metric ->
+                assertThat(metric)
+                    .hasName("testCounter")
+                    .hasDoubleSumSatisfying(
+                        sum ->
+                            sum.isMonotonic()
+                                .isCumulative()
+                                .hasPointsSatisfying(
+                                    point ->
+                                        point
+                                            .hasStartEpochNanos(startTime)
+                                            .hasEpochNanos(testClock.now())
+                                            .hasAttributes(attributeEntry("K", "V"))
+                                            .hasValue(33.2))));
+
+    // Unbinding is idempotent and keeps the series.
+    bound.unbind();
+    bound.unbind();
+    counter.add(12.1, Attributes.builder().put("K", "V").build());
+    assertThat(sdkMeterReader.collectAllMetrics())
+        .satisfiesExactly(
+            metric ->
+                assertThat(metric)
+                    .hasDoubleSumSatisfying(
+                        sum ->
+                            sum.hasPointsSatisfying(
+                                point -> point.hasAttributes(attributeEntry("K", "V")))));
+  }
+
+  @Test
+  @SuppressLogger(SdkDoubleCounter.class)
+  void bind_Monotonicity() {
+    ExtendedDoubleCounter counter =
+        (ExtendedDoubleCounter) sdkMeter.counterBuilder("testCounter").ofDoubles().build();
+    BoundDoubleCounter bound = counter.bind(Attributes.empty());
+    bound.add(-45.77);
+    assertThat(sdkMeterReader.collectAllMetrics()).hasSize(0);
+    logs.assertContains(
+        "Counters can only increase. Instrument testCounter has recorded a negative value.");
+  }
+
   @Test
   void stressTest() {
     DoubleCounter doubleCounter = sdkMeter.counterBuilder("testCounter").ofDoubles().build();
@@ -9,6 +9,7 @@ import static io.opentelemetry.api.common.AttributeKey.stringKey;
 import static io.opentelemetry.sdk.testing.assertj.OpenTelemetryAssertions.assertThat;
 import static io.opentelemetry.sdk.testing.assertj.OpenTelemetryAssertions.attributeEntry;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
 
 import io.github.netmikey.logunit.api.LogCapturer;
 import io.opentelemetry.api.common.Attributes;
@@ -257,6 +258,69 @@ class SdkDoubleHistogramTest {
                                                         .hasCounts(Collections.emptyList())))));
   }
 
+  @Test
+  void collectMetrics_QuantileSketchAggregation() {
+    SdkMeterProvider sdkMeterProvider =
+        SdkMeterProvider.builder()
+            .setResource(RESOURCE)
+            .setClock(testClock)
+            .registerMetricReader(sdkMeterReader)
+            .registerView(
+                InstrumentSelector.builder().setType(InstrumentType.HISTOGRAM).build(),
+                View.builder()
+                    .setAggregation(
+                        Aggregation.quantileSketch(0.01, 160, Arrays.asList(0.0, 0.5, 0.99, 1.0)))
+                    .build())
+            .build();
+    DoubleHistogram doubleHistogram =
+        sdkMeterProvider
+            .get(SdkDoubleHistogramTest.class.getName())
+            .histogramBuilder("testHistogram")
+            .setDescription("description")
+            .setUnit("ms")
+            .build();
+    testClock.advance(Duration.ofNanos(SECOND_NANOS));
+    for (int i = 1; i <= 100; i++) {
+      doubleHistogram.record(i);
+    }
+    assertThat(sdkMeterReader.collectAllMetrics())
+        .satisfiesExactly(
+            metric ->
+                assertThat(metric)
+                    .hasResource(RESOURCE)
+                    .hasInstrumentationScope(INSTRUMENTATION_SCOPE_INFO)
+                    .hasName("testHistogram")
+                    .hasDescription("description")
+                    .hasUnit("ms")
+                    .hasSummarySatisfying(
+                        summary ->
+                            summary.hasPointsSatisfying(
+                                point ->
+                                    point
+                                        .hasStartEpochNanos(testClock.now() - SECOND_NANOS)
+                                        .hasEpochNanos(testClock.now())
+                                        .hasAttributes(Attributes.empty())
+                                        .hasCount(100)
+                                        .hasSum(5050)
+                                        .hasValuesSatisfying(
+                                            value -> value.hasQuantile(0.0).hasValue(1),
+                                            value ->
+                                                value
+                                                    .hasQuantile(0.5)
+                                                    .satisfies(
+                                                        v ->
+                                                            assertThat(v.getValue())
+                                                                .isCloseTo(50, within(0.5))),
+                                            value ->
+                                                value
+                                                    .hasQuantile(0.99)
+                                                    .satisfies(
+                                                        v ->
+                                                            assertThat(v.getValue())
+                                                                .isCloseTo(99, within(0.99))),
+                                            value -> value.hasQuantile(1.0).hasValue(100)))));
+  }
+
   @Test
   @SuppressLogger(SdkDoubleHistogram.class)
   void doubleHistogramRecord_NonNegativeCheck() {
@@ -14,6 +14,8 @@ import io.github.netmikey.logunit.api.LogCapturer;
 import io.opentelemetry.api.common.Attributes;
 import io.opentelemetry.api.metrics.LongCounter;
 import io.opentelemetry.api.metrics.Meter;
+import io.opentelemetry.extension.incubator.metrics.BoundLongCounter;
+import io.opentelemetry.extension.incubator.metrics.ExtendedLongCounter;
 import io.opentelemetry.internal.testing.slf4j.SuppressLogger;
 import io.opentelemetry.sdk.common.InstrumentationScopeInfo;
 import io.opentelemetry.sdk.resources.Resource;
@@ -164,6 +166,58 @@ class SdkLongCounterTest {
         "Counters can only increase. Instrument testCounter has recorded a negative value.");
   }
 
+  @Test
+  void bind_RecordsIntoSeries() {
+    long startTime = testClock.now();
+    ExtendedLongCounter counter =
+        (ExtendedLongCounter) sdkMeter.counterBuilder("testCounter").build();
+    BoundLongCounter bound = counter.bind(Attributes.builder().put("K", "V").build());
+    bound.add(12);
+    counter.add(21, Attributes.builder().put("K", "V").build());
+    testClock.advance(Duration.ofNanos(SECOND_NANOS));
+    assertThat(sdkMeterReader.collectAllMetrics())
+        .satisfiesExactly(
+            metric ->
+                assertThat(metric)
+                    .hasName("testCounter")
+                    .hasLongSumSatisfying(
+                        sum ->
+                            sum.isMonotonic()
+                                .isCumulative()
+                                .hasPointsSatisfying(
+                                    point ->
+                                        point
+                                            .hasStartEpochNanos(startTime)
+                                            .hasEpochNanos(testClock.now())
+                                            .hasAttributes(attributeEntry("K", "V"))
+                                            .hasValue(33))));
+
+    // Unbinding is idempotent and keeps the series.
+    bound.unbind();
+    bound.unbind();
+    counter.add(12, Attributes.builder().put("K", "V").build());
+    assertThat(sdkMeterReader.collectAllMetrics())
+        .satisfiesExactly(
+            metric ->
+                assertThat(metric)
+                    .hasLongSumSatisfying(
+                        sum ->
+                            sum.hasPointsSatisfying(
+                                point -> point.hasAttributes(attributeEntry("K", "V")))));
+  }
+
+  @Test
+  @SuppressLogger(SdkLongCounter.class)
+  void bind_Monotonicity() {
+    ExtendedLongCounter counter =
+        (ExtendedLongCounter) sdkMeter.counterBuilder("testCounter").build();
+    BoundLongCounter bound = counter.bind(Attributes.empty());
+    bound.add(-45);
+    assertThat(sdkMeterReader.collectAllMetrics()).hasSize(0);
+    logs.assertContains(
+        "Counters can only increase. Instrument testCounter has recorded a negative value.");
+  }
+
   @Test
   void stressTest() {
     LongCounter longCounter = sdkMeter.counterBuilder("testCounter").build();
@@ -7,6 +7,7 @@ package io.opentelemetry.sdk.metrics;
 
 import static io.opentelemetry.sdk.testing.assertj.OpenTelemetryAssertions.assertThat;
 import static io.opentelemetry.sdk.testing.assertj.OpenTelemetryAssertions.attributeEntry;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.when;
 
@@ -37,8 +38,11 @@ import io.opentelemetry.sdk.testing.exporter.InMemoryMetricReader;
 import io.opentelemetry.sdk.testing.time.TestClock;
 import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
@@ -553,6 +557,168 @@ class SdkMeterProviderTest {
     }
   }
 
+  @Test
+  void collectAllMetrics_Parallel()
+      throws ExecutionException, InterruptedException, TimeoutException {
+    InMemoryMetricReader reader1 = InMemoryMetricReader.create();
+    InMemoryMetricReader reader2 = InMemoryMetricReader.create();
+    SdkMeterProviderUtil.setCollectionParallelism(sdkMeterProviderBuilder, 4);
+    SdkMeterProvider meterProvider =
+        sdkMeterProviderBuilder.registerMetricReader(reader1).registerMetricReader(reader2).build();
+    List<String> callbackThreads = Collections.synchronizedList(new ArrayList<>());
+    for (int i = 0; i < 20; i++) {
+      Meter meter = meterProvider.get("meter" + i);
+      meter.counterBuilder("counter").build().add(i);
+      meter
+          .counterBuilder("async-counter")
+          .buildWithCallback(
+              measurement -> {
+                callbackThreads.add(Thread.currentThread().getName());
+                measurement.record(1);
+              });
+    }
+
+    // Concurrent collections of different readers
+    ExecutorService executorService = Executors.newFixedThreadPool(2);
+    try {
+      Future<Collection<MetricData>> metrics1 = executorService.submit(reader1::collectAllMetrics);
+      Future<Collection<MetricData>> metrics2 = executorService.submit(reader2::collectAllMetrics);
+      for (Future<Collection<MetricData>> metrics : Arrays.asList(metrics1, metrics2)) {
+        assertThat(metrics.get(10, TimeUnit.SECONDS))
+            .hasSize(40)
+            .filteredOn(metricData -> metricData.getName().equals("counter"))
+            .allSatisfy(
+                metricData ->
+                    assertThat(metricData)
+                        .hasLongSumSatisfying(
+                            sum ->
+                                sum.hasPointsSatisfying(
+                                    point ->
+                                        point.hasValue(
+                                            Long.parseLong(
+                                                metricData
+                                                    .getInstrumentationScopeInfo()
+                                                    .getName()
+                                                    .substring("meter".length()))))));
+      }
+    } finally {
+      executorService.shutdown();
+    }
+    // The collecting thread may run some meters itself while waiting for the others
+    assertThat(callbackThreads)
+        .hasSize(40)
+        .anySatisfy(name -> assertThat(name).startsWith("otel-metrics-collect-"));
+    meterProvider.shutdown().join(10, TimeUnit.SECONDS);
+  }
+
+  @Test
+  void collectionParallelism_Invalid() {
+    assertThatThrownBy(
+            () -> SdkMeterProviderUtil.setCollectionParallelism(sdkMeterProviderBuilder, 0))
+        .isInstanceOf(IllegalStateException.class)
+        .hasRootCauseInstanceOf(IllegalArgumentException.class)
+        .hasRootCauseMessage("collectionParallelism must be positive");
+  }
+
+  @Test
+  void callbackTimeout() {
+    InMemoryMetricReader reader = InMemoryMetricReader.create();
+    SdkMeterProviderUtil.setCallbackParallelism(sdkMeterProviderBuilder, 2);
+    SdkMeterProviderUtil.setCallbackTimeout(sdkMeterProviderBuilder, Duration.ofMillis(100), false);
+    SdkMeterProvider meterProvider = sdkMeterProviderBuilder.registerMetricReader(reader).build();
+    CountDownLatch release = new CountDownLatch(1);
+    Meter meter = meterProvider.get("meter");
+    meter
+        .gaugeBuilder("slow")
+        .buildWithCallback(
+            measurement -> {
+              try {
+                release.await(10, TimeUnit.SECONDS);
+              } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+              }
+              measurement.record(1);
+            });
+    meter.gaugeBuilder("fast").buildWithCallback(measurement -> measurement.record(2));
+
+    try {
+      assertThat(reader.collectAllMetrics())
+          .anySatisfy(metric -> assertThat(metric).hasName("fast"))
+          .noneSatisfy(metric -> assertThat(metric).hasName("slow"));
+      // Still running, skipped again
+      assertThat(reader.collectAllMetrics())
+          .anySatisfy(metric -> assertThat(metric).hasName("fast"))
+          .noneSatisfy(metric -> assertThat(metric).hasName("slow"))
+          .anySatisfy(
+              metric ->
+                  assertThat(metric)
+                      .hasName("otel.sdk.metrics.callback.timeouts")
+                      .hasLongSumSatisfying(
+                          sum ->
+                              sum.hasPointsSatisfying(
+                                  point ->
+                                      point.satisfies(
+                                          data -> assertThat(data.getValue()).isPositive()))))
+          .anySatisfy(
+              metric ->
+                  assertThat(metric)
+                      .hasName("otel.sdk.metrics.callback.duration")
+                      .hasHistogramSatisfying(
+                          histogram ->
+                              histogram.hasPointsSatisfying(
+                                  point ->
+                                      point.satisfies(
+                                          data -> assertThat(data.getCount()).isPositive()))));
+    } finally {
+      release.countDown();
+      meterProvider.shutdown().join(10, TimeUnit.SECONDS);
+    }
+  }
+
+  @Test
+  void callbackTimeout_HungCallbackDoesNotHoldBackOthers() {
+    InMemoryMetricReader reader = InMemoryMetricReader.create();
+    // Only a timeout, callbacks run on the default number of threads
+    SdkMeterProviderUtil.setCallbackTimeout(sdkMeterProviderBuilder, Duration.ofMillis(100), false);
+    SdkMeterProvider meterProvider = sdkMeterProviderBuilder.registerMetricReader(reader).build();
+    CountDownLatch release = new CountDownLatch(1);
+    Meter meter = meterProvider.get("meter");
+    meter
+        .gaugeBuilder("hung")
+        .buildWithCallback(
+            measurement -> {
+              try {
+                release.await(10, TimeUnit.SECONDS);
+              } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+              }
+              measurement.record(1);
+            });
+    meter.gaugeBuilder("healthy").buildWithCallback(measurement -> measurement.record(2));
+
+    try {
+      for (int i = 0; i < 3; i++) {
+        assertThat(reader.collectAllMetrics())
+            .anySatisfy(metric -> assertThat(metric).hasName("healthy"))
+            .noneSatisfy(metric -> assertThat(metric).hasName("hung"))
+            .noneSatisfy(
+                metric -> assertThat(metric).hasName("otel.sdk.metrics.callback.not_started"));
+      }
+    } finally {
+      release.countDown();
+      meterProvider.shutdown().join(10, TimeUnit.SECONDS);
+    }
+  }
+
+  @Test
+  void callbackTimeout_SingleThread() {
+    SdkMeterProviderUtil.setCallbackParallelism(sdkMeterProviderBuilder, 1);
+    SdkMeterProviderUtil.setCallbackTimeout(sdkMeterProviderBuilder, Duration.ofMillis(100), false);
+    assertThatThrownBy(sdkMeterProviderBuilder::build)
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("callbackParallelism must be greater than 1 with a timeout");
+  }
+
   @Test
   void viewSdk_filterAttributes() {
     InMemoryMetricReader reader = InMemoryMetricReader.create();
@@ -28,6 +28,7 @@ class ViewTest {
                 .setDescription("description")
                 .setAggregation(Aggregation.sum())
                 .setCardinalityLimit(10)
+                .setMaxIdleCollections(5)
                 .setAttributeFilter(new HashSet<>(Arrays.asList("key1", "key2")))
                 .build()
                 .toString())
@@ -37,7 +38,8 @@ class ViewTest {
                 + "description=description, "
                 + "aggregation=SumAggregation, "
                 + "attributesProcessor=AttributeKeyFilteringProcessor{nameFilter=SetIncludesPredicate{set=[key1, key2]}}, "
-                + "cardinalityLimit=10"
+                + "cardinalityLimit=10, "
+                + "maxIdleCollections=5"
                 + "}");
   }
 }
@@ -24,6 +24,7 @@ class AggregationUtilTest {
     assertThat(AggregationUtil.forName("drop")).isEqualTo(Aggregation.drop());
     assertThat(AggregationUtil.forName("base2_exponential_bucket_histogram"))
         .isEqualTo(Aggregation.base2ExponentialBucketHistogram());
+    assertThat(AggregationUtil.forName("quantile_sketch")).isEqualTo(Aggregation.quantileSketch());
     assertThatThrownBy(() -> AggregationUtil.forName("foo"))
         .isInstanceOf(IllegalArgumentException.class)
         .hasMessageContaining("Unrecognized aggregation name foo");
@@ -40,6 +41,8 @@ class AggregationUtilTest {
         .isEqualTo("explicit_bucket_histogram");
     assertThat(AggregationUtil.aggregationName(Aggregation.base2ExponentialBucketHistogram()))
         .isEqualTo("base2_exponential_bucket_histogram");
+    assertThat(AggregationUtil.aggregationName(Aggregation.quantileSketch()))
+        .isEqualTo("quantile_sketch");
     assertThatThrownBy(() -> AggregationUtil.aggregationName(new Aggregation() {}))
         .isInstanceOf(IllegalStateException.class)
         .hasMessageContaining("Unrecognized aggregation");
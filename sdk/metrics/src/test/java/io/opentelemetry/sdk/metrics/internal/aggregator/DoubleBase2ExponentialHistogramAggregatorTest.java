@@ -440,4 +440,100 @@ class DoubleBase2ExponentialHistogramAggregatorTest {
                 valueToIndex(point.getScale(), 1) - point.getPositiveBuckets().getOffset()))
         .isEqualTo(numberOfUpdates);
   }
+
+  @Test
+  void createHandle_Striped() {
+    assertThat(
+            new DoubleBase2ExponentialHistogramAggregator(
+                    ExemplarReservoir::doubleNoSamples, 160, MAX_SCALE, /* striped= */ true)
+                .createHandle())
+        .isInstanceOf(DoubleBase2ExponentialHistogramAggregator.StripedHandle.class);
+  }
+
+  @Test
+  void aggregateThenMaybeReset_Striped() {
+    AggregatorHandle<ExponentialHistogramPointData, DoubleExemplarData> aggregatorHandle =
+        new DoubleBase2ExponentialHistogramAggregator.StripedHandle(
+            ExemplarReservoir.doubleNoSamples(), 160, MAX_SCALE, 4);
+    ExponentialHistogramPointData point =
+        Objects.requireNonNull(
+            aggregatorHandle.aggregateThenMaybeReset(0, 1, Attributes.empty(), /* reset= */ true));
+    assertThat(point.getCount()).isEqualTo(0);
+    assertThat(point.hasMin()).isFalse();
+    assertThat(point.hasMax()).isFalse();
+    assertThat(point.getScale()).isEqualTo(MAX_SCALE);
+    assertThat(point.getPositiveBuckets())
+        .isInstanceOf(
+            DoubleBase2ExponentialHistogramAggregator.EmptyExponentialHistogramBuckets.class);
+    assertThat(point.getNegativeBuckets().getScale()).isEqualTo(MAX_SCALE);
+
+    AggregatorHandle<ExponentialHistogramPointData, DoubleExemplarData> handle =
+        aggregator.createHandle();
+    for (double value : new double[] {0, 0.5, 1.0, 12.0, 15.213, -13.2, -2.01, 1e6}) {
+      aggregatorHandle.recordDouble(value);
+      handle.recordDouble(value);
+    }
+    assertThat(aggregatorHandle.aggregateThenMaybeReset(0, 1, Attributes.empty(), true))
+        .isEqualTo(handle.aggregateThenMaybeReset(0, 1, Attributes.empty(), true));
+    assertThat(aggregatorHandle.aggregateThenMaybeReset(0, 1, Attributes.empty(), true))
+        .satisfies(
+            emptyPoint -> {
+              assertThat(emptyPoint.getCount()).isEqualTo(0);
+              // The scale is restored once reset.
+              assertThat(emptyPoint.getScale()).isEqualTo(MAX_SCALE);
+            });
+  }
+
+  @Test
+  void testMultithreadedUpdates_Striped() throws InterruptedException {
+    // Each thread records into its own stripe at its own scale, merged at collection.
+    AggregatorHandle<ExponentialHistogramPointData, DoubleExemplarData> aggregatorHandle =
+        new DoubleBase2ExponentialHistogramAggregator.StripedHandle(
+            ExemplarReservoir.doubleNoSamples(), 160, MAX_SCALE, 8);
+    ImmutableList<Double> updates = ImmutableList.of(0D, 0.1D, -0.1D, 1D, -1D, 100D);
+    int numberOfThreads = updates.size();
+    int numberOfUpdates = 10000;
+    ThreadPoolExecutor executor =
+        (ThreadPoolExecutor) Executors.newFixedThreadPool(numberOfThreads);
+
+    executor.invokeAll(
+        updates.stream()
+            .map(
+                v ->
+                    Executors.callable(
+                        () -> {
+                          for (int j = 0; j < numberOfUpdates; j++) {
+                            aggregatorHandle.recordDouble(v);
+                            if (ThreadLocalRandom.current().nextInt(10) == 0) {
+                              aggregatorHandle.aggregateThenMaybeReset(
+                                  0, 1, Attributes.empty(), /* reset= */ false);
+                            }
+                          }
+                        }))
+            .collect(Collectors.toList()));
+
+    ExponentialHistogramPointData point =
+        Objects.requireNonNull(
+            aggregatorHandle.aggregateThenMaybeReset(0, 1, Attributes.empty(), /* reset= */ false));
+    assertThat(point.getCount()).isEqualTo(numberOfUpdates * 6L);
+    assertThat(point.getZeroCount()).isEqualTo(numberOfUpdates);
+    assertThat(point.getSum()).isCloseTo(100.0D * 10000, Offset.offset(0.0001)); // float error
+    assertThat(point.getMin()).isEqualTo(-1D);
+    assertThat(point.getMax()).isEqualTo(100D);
+    // Same scale as a single handle recording all values.
+    assertThat(point.getScale()).isEqualTo(3);
+    assertThat(point.getPositiveBuckets().getScale()).isEqualTo(3);
+    assertThat(point.getNegativeBuckets().getScale()).isEqualTo(3);
+    List<Long> posCounts = point.getPositiveBuckets().getBucketCounts();
+    int posOffset = point.getPositiveBuckets().getOffset();
+    assertThat(point.getPositiveBuckets().getTotalCount()).isEqualTo(numberOfUpdates * 3);
+    assertThat(posCounts.get(valueToIndex(3, 0.1) - posOffset)).isEqualTo(numberOfUpdates);
+    assertThat(posCounts.get(valueToIndex(3, 1) - posOffset)).isEqualTo(numberOfUpdates);
+    assertThat(posCounts.get(valueToIndex(3, 100) - posOffset)).isEqualTo(numberOfUpdates);
+    List<Long> negCounts = point.getNegativeBuckets().getBucketCounts();
+    int negOffset = point.getNegativeBuckets().getOffset();
+    assertThat(point.getNegativeBuckets().getTotalCount()).isEqualTo(numberOfUpdates * 2);
+    assertThat(negCounts.get(valueToIndex(3, 0.1) - negOffset)).isEqualTo(numberOfUpdates);
+    assertThat(negCounts.get(valueToIndex(3, 1) - negOffset)).isEqualTo(numberOfUpdates);
+  }
 }
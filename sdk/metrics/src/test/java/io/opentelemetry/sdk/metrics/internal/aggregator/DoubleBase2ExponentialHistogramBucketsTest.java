@@ -55,6 +55,46 @@ class DoubleBase2ExponentialHistogramBucketsTest {
     assertThatThrownBy(() -> b.downscale(-1)).isInstanceOf(IllegalStateException.class);
   }
 
+  @Test
+  void merge_Valid() {
+    DoubleBase2ExponentialHistogramBuckets a = newBuckets();
+    a.downscale(20);
+    a.record(1);
+    a.record(2);
+    DoubleBase2ExponentialHistogramBuckets b = newBuckets();
+    b.record(1);
+    DoubleBase2ExponentialHistogramBuckets c = newBuckets();
+    c.downscale(20);
+    c.record(4);
+    c.record(8);
+
+    // Finer buckets are brought to the coarser scale.
+    a.merge(b);
+    a.merge(c);
+    assertThat(a.getScale()).isEqualTo(0);
+    assertThat(a.getTotalCount()).isEqualTo(5);
+    assertThat(a.getOffset()).isEqualTo(-1);
+    assertThat(a.getBucketCounts()).isEqualTo(Arrays.asList(2L, 1L, 1L, 1L));
+
+    DoubleBase2ExponentialHistogramBuckets merged = newBuckets();
+    merged.merge(a);
+    assertThat(merged).isEqualTo(a);
+  }
+
+  @Test
+  void merge_Downscales() {
+    DoubleBase2ExponentialHistogramBuckets a = new DoubleBase2ExponentialHistogramBuckets(0, 4);
+    a.record(1);
+    DoubleBase2ExponentialHistogramBuckets b = new DoubleBase2ExponentialHistogramBuckets(0, 4);
+    b.record(64);
+
+    a.merge(b);
+    assertThat(a.getScale()).isEqualTo(-1);
+    assertThat(a.getTotalCount()).isEqualTo(2);
+    assertThat(a.getOffset()).isEqualTo(-1);
+    assertThat(a.getBucketCounts()).isEqualTo(Arrays.asList(1L, 0L, 0L, 1L));
+  }
+
   @Test
   void equalsAndHashCode() {
     DoubleBase2ExponentialHistogramBuckets a = newBuckets();
@@ -14,6 +14,7 @@ import io.opentelemetry.api.trace.TraceFlags;
 import io.opentelemetry.api.trace.TraceState;
 import io.opentelemetry.context.Context;
 import io.opentelemetry.sdk.common.InstrumentationScopeInfo;
+import io.opentelemetry.sdk.common.export.MemoryMode;
 import io.opentelemetry.sdk.metrics.data.AggregationTemporality;
 import io.opentelemetry.sdk.metrics.data.DoubleExemplarData;
 import io.opentelemetry.sdk.metrics.data.HistogramPointData;
@@ -21,6 +22,7 @@ import io.opentelemetry.sdk.metrics.data.MetricData;
 import io.opentelemetry.sdk.metrics.data.MetricDataType;
 import io.opentelemetry.sdk.metrics.internal.data.ImmutableDoubleExemplarData;
 import io.opentelemetry.sdk.metrics.internal.data.ImmutableHistogramPointData;
+import io.opentelemetry.sdk.metrics.internal.data.MutableHistogramPointData;
 import io.opentelemetry.sdk.metrics.internal.descriptor.MetricDescriptor;
 import io.opentelemetry.sdk.metrics.internal.exemplar.ExemplarReservoir;
 import io.opentelemetry.sdk.resources.Resource;
@@ -52,7 +54,10 @@ class DoubleExplicitBucketHistogramAggregatorTest {
   private static final MetricDescriptor METRIC_DESCRIPTOR =
       MetricDescriptor.create("name", "description", "unit");
   private static final DoubleExplicitBucketHistogramAggregator aggregator =
-      new DoubleExplicitBucketHistogramAggregator(boundaries, ExemplarReservoir::doubleNoSamples);
+      new DoubleExplicitBucketHistogramAggregator(
+          boundaries,
+          ExemplarReservoir::doubleNoSamples,
+          MemoryMode.IMMUTABLE_DATA);
 
   @Test
   void createHandle() {
@@ -84,6 +89,37 @@ class DoubleExplicitBucketHistogramAggregatorTest {
                 Arrays.asList(1L, 1L, 1L, 1L)));
   }
 
+  @Test
+  void aggregateThenMaybeReset_ReusableData() {
+    DoubleExplicitBucketHistogramAggregator reusableAggregator =
+        new DoubleExplicitBucketHistogramAggregator(
+            boundaries, ExemplarReservoir::doubleNoSamples, MemoryMode.REUSABLE_DATA);
+    AggregatorHandle<HistogramPointData, DoubleExemplarData> aggregatorHandle =
+        reusableAggregator.createHandle();
+
+    aggregatorHandle.recordLong(20);
+    aggregatorHandle.recordLong(2000);
+    HistogramPointData first =
+        aggregatorHandle.aggregateThenMaybeReset(0, 1, Attributes.empty(), /* reset= */ true);
+    assertThat(first).isInstanceOf(MutableHistogramPointData.class);
+    assertThat(first.getSum()).isEqualTo(2020);
+    assertThat(first.getCount()).isEqualTo(2);
+    assertThat(first.getMin()).isEqualTo(20);
+    assertThat(first.getMax()).isEqualTo(2000);
+    assertThat(first.getBoundaries()).isEqualTo(boundariesList);
+    assertThat(first.getCounts()).containsExactly(0L, 1L, 0L, 1L);
+
+    aggregatorHandle.recordLong(5);
+    HistogramPointData second =
+        aggregatorHandle.aggregateThenMaybeReset(1, 2, Attributes.empty(), /* reset= */ true);
+    assertThat(second).isSameAs(first);
+    assertThat(second.getStartEpochNanos()).isEqualTo(1);
+    assertThat(second.getEpochNanos()).isEqualTo(2);
+    assertThat(second.getSum()).isEqualTo(5);
+    assertThat(second.getCount()).isEqualTo(1);
+    assertThat(second.getCounts()).containsExactly(1L, 0L, 0L, 0L);
+  }
+
   @Test
   void aggregateThenMaybeReset_WithExemplars() {
     Attributes attributes = Attributes.builder().put("test", "value").build();
@@ -100,7 +136,10 @@ class DoubleExplicitBucketHistogramAggregatorTest {
     List<DoubleExemplarData> exemplars = Collections.singletonList(exemplar);
     Mockito.when(reservoir.collectAndReset(Attributes.empty())).thenReturn(exemplars);
     DoubleExplicitBucketHistogramAggregator aggregator =
-        new DoubleExplicitBucketHistogramAggregator(boundaries, () -> reservoir);
+        new DoubleExplicitBucketHistogramAggregator(
+            boundaries,
+            () -> reservoir,
+            MemoryMode.IMMUTABLE_DATA);
     AggregatorHandle<HistogramPointData, DoubleExemplarData> aggregatorHandle =
         aggregator.createHandle();
     aggregatorHandle.recordDouble(0, attributes, Context.root());
@@ -278,4 +317,107 @@ class DoubleExplicitBucketHistogramAggregatorTest {
                 boundariesList,
                 Arrays.asList(50000L, 50000L, 0L, 0L)));
   }
+
+  @Test
+  void createHandle_Striped() {
+    assertThat(
+            new DoubleExplicitBucketHistogramAggregator(
+                    boundaries,
+                    ExemplarReservoir::doubleNoSamples,
+                    MemoryMode.IMMUTABLE_DATA,
+                    /* striped= */ true)
+                .createHandle())
+        .isInstanceOf(DoubleExplicitBucketHistogramAggregator.StripedHandle.class);
+  }
+
+  @Test
+  void aggregateThenMaybeReset_Striped() {
+    AggregatorHandle<HistogramPointData, DoubleExemplarData> aggregatorHandle =
+        new DoubleExplicitBucketHistogramAggregator.StripedHandle(
+            boundariesList,
+            boundaries,
+            ExemplarReservoir.doubleNoSamples(),
+            MemoryMode.IMMUTABLE_DATA,
+            4);
+    assertThat(aggregatorHandle.aggregateThenMaybeReset(0, 1, Attributes.empty(), true))
+        .isEqualTo(
+            ImmutableHistogramPointData.create(
+                0,
+                1,
+                Attributes.empty(),
+                0,
+                /* hasMin= */ false,
+                Double.MAX_VALUE,
+                /* hasMax= */ false,
+                -1,
+                boundariesList,
+                Arrays.asList(0L, 0L, 0L, 0L)));
+
+    aggregatorHandle.recordLong(20);
+    aggregatorHandle.recordLong(5);
+    aggregatorHandle.recordLong(150);
+    aggregatorHandle.recordLong(2000);
+    assertThat(aggregatorHandle.aggregateThenMaybeReset(0, 1, Attributes.empty(), true))
+        .isEqualTo(
+            ImmutableHistogramPointData.create(
+                0,
+                1,
+                Attributes.empty(),
+                2175,
+                /* hasMin= */ true,
+                5d,
+                /* hasMax= */ true,
+                2000d,
+                boundariesList,
+                Arrays.asList(1L, 1L, 1L, 1L)));
+    assertThat(aggregatorHandle.aggregateThenMaybeReset(0, 1, Attributes.empty(), true))
+        .satisfies(point -> assertThat(point.getCount()).isEqualTo(0));
+  }
+
+  @Test
+  void testMultithreadedUpdates_Striped() throws InterruptedException {
+    AggregatorHandle<HistogramPointData, DoubleExemplarData> aggregatorHandle =
+        new DoubleExplicitBucketHistogramAggregator.StripedHandle(
+            boundariesList,
+            boundaries,
+            ExemplarReservoir.doubleNoSamples(),
+            MemoryMode.IMMUTABLE_DATA,
+            4);
+    ImmutableList<Long> updates = ImmutableList.of(1L, 2L, 3L, 5L, 7L, 11L, 13L, 17L, 19L, 23L);
+    int numberOfThreads = updates.size();
+    int numberOfUpdates = 10000;
+    ThreadPoolExecutor executor =
+        (ThreadPoolExecutor) Executors.newFixedThreadPool(numberOfThreads);
+
+    executor.invokeAll(
+        updates.stream()
+            .map(
+                v ->
+                    Executors.callable(
+                        () -> {
+                          for (int j = 0; j < numberOfUpdates; j++) {
+                            aggregatorHandle.recordLong(v);
+                            if (ThreadLocalRandom.current().nextInt(10) == 0) {
+                              aggregatorHandle.aggregateThenMaybeReset(
+                                  0, 1, Attributes.empty(), /* reset= */ false);
+                            }
+                          }
+                        }))
+            .collect(Collectors.toList()));
+
+    assertThat(
+            aggregatorHandle.aggregateThenMaybeReset(0, 1, Attributes.empty(), /* reset= */ false))
+        .isEqualTo(
+            ImmutableHistogramPointData.create(
+                0,
+                1,
+                Attributes.empty(),
+                1010000,
+                /* hasMin= */ true,
+                1d,
+                /* hasMax= */ true,
+                23d,
+                boundariesList,
+                Arrays.asList(50000L, 50000L, 0L, 0L)));
+  }
 }
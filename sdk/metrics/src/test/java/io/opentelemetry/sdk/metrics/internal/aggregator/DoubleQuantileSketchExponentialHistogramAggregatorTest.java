@@ -0,0 +1,105 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.metrics.internal.aggregator;
+
+import static io.opentelemetry.sdk.testing.assertj.OpenTelemetryAssertions.assertThat;
+
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.sdk.common.InstrumentationScopeInfo;
+import io.opentelemetry.sdk.metrics.data.AggregationTemporality;
+import io.opentelemetry.sdk.metrics.data.DoubleExemplarData;
+import io.opentelemetry.sdk.metrics.data.ExponentialHistogramPointData;
+import io.opentelemetry.sdk.metrics.data.MetricData;
+import io.opentelemetry.sdk.metrics.internal.descriptor.MetricDescriptor;
+import io.opentelemetry.sdk.metrics.internal.exemplar.ExemplarReservoir;
+import io.opentelemetry.sdk.resources.Resource;
+import java.util.Collections;
+import org.junit.jupiter.api.Test;
+
+class DoubleQuantileSketchExponentialHistogramAggregatorTest {
+
+  private static final Resource RESOURCE = Resource.getDefault();
+  private static final InstrumentationScopeInfo INSTRUMENTATION_SCOPE_INFO =
+      InstrumentationScopeInfo.empty();
+  private static final MetricDescriptor METRIC_DESCRIPTOR =
+      MetricDescriptor.create("name", "description", "unit");
+  private static final int SCALE = 6;
+  private static final DoubleQuantileSketchExponentialHistogramAggregator aggregator =
+      new DoubleQuantileSketchExponentialHistogramAggregator(
+          ExemplarReservoir::doubleNoSamples, SCALE, 64);
+
+  @Test
+  void createHandle() {
+    AggregatorHandle<ExponentialHistogramPointData, DoubleExemplarData> aggregatorHandle =
+        aggregator.createHandle();
+    assertThat(aggregatorHandle)
+        .isInstanceOf(DoubleQuantileSketchExponentialHistogramAggregator.Handle.class);
+    ExponentialHistogramPointData point =
+        aggregatorHandle.aggregateThenMaybeReset(0, 1, Attributes.empty(), /* reset= */ true);
+    assertThat(point.getScale()).isEqualTo(SCALE);
+    assertThat(point.getPositiveBuckets())
+        .isInstanceOf(
+            DoubleBase2ExponentialHistogramAggregator.EmptyExponentialHistogramBuckets.class);
+    assertThat(point.getPositiveBuckets().getScale()).isEqualTo(SCALE);
+    assertThat(point.hasMin()).isFalse();
+    assertThat(point.hasMax()).isFalse();
+  }
+
+  @Test
+  void aggregateThenMaybeReset_FixedScale() {
+    AggregatorHandle<ExponentialHistogramPointData, DoubleExemplarData> aggregatorHandle =
+        aggregator.createHandle();
+    // Values spanning more than 64 buckets, the lowest are collapsed instead of downscaling
+    aggregatorHandle.recordDouble(0.5);
+    aggregatorHandle.recordDouble(1000);
+    aggregatorHandle.recordDouble(-1);
+    aggregatorHandle.recordLong(0);
+
+    ExponentialHistogramPointData point =
+        aggregatorHandle.aggregateThenMaybeReset(0, 1, Attributes.empty(), /* reset= */ true);
+    assertThat(point.getScale()).isEqualTo(SCALE);
+    assertThat(point.getSum()).isEqualTo(999.5);
+    assertThat(point.getCount()).isEqualTo(4);
+    assertThat(point.getZeroCount()).isEqualTo(1);
+    assertThat(point.getMin()).isEqualTo(-1);
+    assertThat(point.getMax()).isEqualTo(1000);
+    assertThat(point.getPositiveBuckets().getTotalCount()).isEqualTo(2);
+    assertThat(point.getPositiveBuckets().getBucketCounts())
+        .hasSize(64)
+        .startsWith(1L)
+        .endsWith(1L);
+    assertThat(point.getNegativeBuckets().getTotalCount()).isEqualTo(1);
+
+    point = aggregatorHandle.aggregateThenMaybeReset(1, 2, Attributes.empty(), /* reset= */ true);
+    assertThat(point.getCount()).isEqualTo(0);
+    assertThat(point.getPositiveBuckets().getTotalCount()).isEqualTo(0);
+  }
+
+  @Test
+  void toMetricData() {
+    AggregatorHandle<ExponentialHistogramPointData, DoubleExemplarData> aggregatorHandle =
+        aggregator.createHandle();
+    aggregatorHandle.recordDouble(1);
+
+    MetricData metricData =
+        aggregator.toMetricData(
+            RESOURCE,
+            INSTRUMENTATION_SCOPE_INFO,
+            METRIC_DESCRIPTOR,
+            Collections.singletonList(
+                aggregatorHandle.aggregateThenMaybeReset(
+                    0, 100, Attributes.empty(), /* reset= */ true)),
+            AggregationTemporality.DELTA);
+    assertThat(metricData)
+        .hasName("name")
+        .hasExponentialHistogramSatisfying(
+            histogram ->
+                histogram
+                    .isDelta()
+                    .hasPointsSatisfying(
+                        point -> point.hasScale(SCALE).hasCount(1).hasSum(1).hasZeroCount(0)));
+  }
+}
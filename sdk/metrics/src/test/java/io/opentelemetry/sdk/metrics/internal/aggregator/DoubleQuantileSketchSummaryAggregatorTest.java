@@ -0,0 +1,110 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.metrics.internal.aggregator;
+
+import static io.opentelemetry.sdk.testing.assertj.OpenTelemetryAssertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.sdk.common.InstrumentationScopeInfo;
+import io.opentelemetry.sdk.metrics.data.AggregationTemporality;
+import io.opentelemetry.sdk.metrics.data.DoubleExemplarData;
+import io.opentelemetry.sdk.metrics.data.MetricData;
+import io.opentelemetry.sdk.metrics.data.SummaryPointData;
+import io.opentelemetry.sdk.metrics.internal.descriptor.MetricDescriptor;
+import io.opentelemetry.sdk.resources.Resource;
+import java.util.Arrays;
+import java.util.Collections;
+import org.junit.jupiter.api.Test;
+
+class DoubleQuantileSketchSummaryAggregatorTest {
+
+  private static final Resource RESOURCE = Resource.getDefault();
+  private static final InstrumentationScopeInfo INSTRUMENTATION_SCOPE_INFO =
+      InstrumentationScopeInfo.empty();
+  private static final MetricDescriptor METRIC_DESCRIPTOR =
+      MetricDescriptor.create("name", "description", "unit");
+  private static final DoubleQuantileSketchSummaryAggregator aggregator =
+      new DoubleQuantileSketchSummaryAggregator(
+          DoubleQuantileSketchSummaryAggregator.scaleForRelativeAccuracy(0.01),
+          2048,
+          Arrays.asList(0.5, 0.99, 1.0));
+
+  @Test
+  void createHandle() {
+    assertThat(aggregator.createHandle())
+        .isInstanceOf(DoubleQuantileSketchSummaryAggregator.Handle.class);
+  }
+
+  @Test
+  void aggregateThenMaybeReset() {
+    AggregatorHandle<SummaryPointData, DoubleExemplarData> aggregatorHandle =
+        aggregator.createHandle();
+    for (int i = 1; i <= 1000; i++) {
+      aggregatorHandle.recordLong(i);
+    }
+    aggregatorHandle.recordDouble(Double.NaN);
+
+    SummaryPointData point =
+        aggregatorHandle.aggregateThenMaybeReset(0, 1, Attributes.empty(), /* reset= */ true);
+    assertThat(point.getCount()).isEqualTo(1000);
+    assertThat(point.getSum()).isEqualTo(500500);
+    assertThat(point.getExemplars()).isEmpty();
+    assertThat(point.getValues()).hasSize(3);
+    assertThat(point.getValues().get(0).getQuantile()).isEqualTo(0.5);
+    assertThat(point.getValues().get(0).getValue()).isCloseTo(500, within(5.0));
+    assertThat(point.getValues().get(1).getQuantile()).isEqualTo(0.99);
+    assertThat(point.getValues().get(1).getValue()).isCloseTo(990, within(9.9));
+    assertThat(point.getValues().get(2).getValue()).isEqualTo(1000);
+
+    // Reset, no values without measurements
+    point = aggregatorHandle.aggregateThenMaybeReset(1, 2, Attributes.empty(), /* reset= */ true);
+    assertThat(point.getCount()).isEqualTo(0);
+    assertThat(point.getValues()).isEmpty();
+
+    aggregatorHandle.recordDouble(7.5);
+    point = aggregatorHandle.aggregateThenMaybeReset(2, 3, Attributes.empty(), /* reset= */ false);
+    assertThat(point.getCount()).isEqualTo(1);
+    assertThat(point.getValues().get(0).getValue()).isEqualTo(7.5);
+    point = aggregatorHandle.aggregateThenMaybeReset(2, 4, Attributes.empty(), /* reset= */ false);
+    assertThat(point.getCount()).isEqualTo(1);
+  }
+
+  @Test
+  void toMetricData() {
+    AggregatorHandle<SummaryPointData, DoubleExemplarData> aggregatorHandle =
+        aggregator.createHandle();
+    aggregatorHandle.recordDouble(10);
+    aggregatorHandle.recordDouble(20);
+
+    MetricData metricData =
+        aggregator.toMetricData(
+            RESOURCE,
+            INSTRUMENTATION_SCOPE_INFO,
+            METRIC_DESCRIPTOR,
+            Collections.singletonList(
+                aggregatorHandle.aggregateThenMaybeReset(
+                    0, 100, Attributes.empty(), /* reset= */ true)),
+            AggregationTemporality.CUMULATIVE);
+    assertThat(metricData)
+        .hasName("name")
+        .hasDescription("description")
+        .hasUnit("unit")
+        .hasSummarySatisfying(
+            summary ->
+                summary.hasPointsSatisfying(
+                    point ->
+                        point
+                            .hasStartEpochNanos(0)
+                            .hasEpochNanos(100)
+                            .hasCount(2)
+                            .hasSum(30)
+                            .hasValuesSatisfying(
+                                value -> value.hasQuantile(0.5),
+                                value -> value.hasQuantile(0.99),
+                                value -> value.hasQuantile(1.0).hasValue(20))));
+  }
+}
@@ -0,0 +1,171 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.metrics.internal.aggregator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+import io.opentelemetry.sdk.metrics.data.ExponentialHistogramBuckets;
+import java.util.Arrays;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class DoubleQuantileSketchTest {
+
+  private static final double[] QUANTILES = {0.01, 0.1, 0.25, 0.5, 0.75, 0.9, 0.99, 0.999};
+
+  @ParameterizedTest
+  @ValueSource(doubles = {0.5, 0.1, 0.01, 0.001, 1e-6})
+  void scaleForRelativeAccuracy(double relativeAccuracy) {
+    int scale = DoubleQuantileSketch.scaleForRelativeAccuracy(relativeAccuracy);
+    double base = Math.pow(2, Math.pow(2, -scale));
+    double coarserBase = Math.pow(2, Math.pow(2, -(scale - 1)));
+    assertThat((base - 1) / (base + 1)).isLessThanOrEqualTo(relativeAccuracy);
+    assertThat((coarserBase - 1) / (coarserBase + 1)).isGreaterThan(relativeAccuracy);
+  }
+
+  @Test
+  void empty() {
+    DoubleQuantileSketch sketch = new DoubleQuantileSketch(6, 160);
+    assertThat(sketch.getCount()).isEqualTo(0);
+    assertThat(sketch.getValueAtQuantile(0.5)).isNaN();
+    assertThat(sketch.getPositiveBuckets().getTotalCount()).isEqualTo(0);
+    assertThat(sketch.getPositiveBuckets().getScale()).isEqualTo(6);
+    assertThat(sketch.getBucketCapacity()).isEqualTo(0);
+  }
+
+  @Test
+  void record_IgnoresNonFinite() {
+    DoubleQuantileSketch sketch = new DoubleQuantileSketch(6, 160);
+    sketch.record(Double.NaN);
+    sketch.record(Double.POSITIVE_INFINITY);
+    sketch.record(Double.NEGATIVE_INFINITY);
+    assertThat(sketch.getCount()).isEqualTo(0);
+  }
+
+  @Test
+  void getValueAtQuantile_MinMax() {
+    DoubleQuantileSketch sketch = new DoubleQuantileSketch(6, 160);
+    sketch.record(3.5);
+    sketch.record(-2);
+    sketch.record(0);
+    sketch.record(10);
+    assertThat(sketch.getValueAtQuantile(0)).isEqualTo(-2);
+    assertThat(sketch.getValueAtQuantile(1)).isEqualTo(10);
+    assertThat(sketch.getValueAtQuantile(0.5)).isEqualTo(0);
+    assertThat(sketch.getCount()).isEqualTo(4);
+    assertThat(sketch.getZeroCount()).isEqualTo(1);
+    assertThat(sketch.getSum()).isEqualTo(11.5);
+  }
+
+  @ParameterizedTest
+  @ValueSource(doubles = {0.05, 0.01, 0.001})
+  void getValueAtQuantile_WithinRelativeAccuracy(double relativeAccuracy) {
+    Random random = new Random(0);
+    double[] values = new double[100_000];
+    for (int i = 0; i < values.length; i++) {
+      // Log-normal, the shape of typical latencies, with some negative values
+      values[i] = Math.exp(random.nextGaussian() * 2 + 3) * (random.nextInt(10) == 0 ? -1 : 1);
+    }
+    int scale = DoubleQuantileSketch.scaleForRelativeAccuracy(relativeAccuracy);
+    DoubleQuantileSketch sketch = new DoubleQuantileSketch(scale, 16384);
+    for (double value : values) {
+      sketch.record(value);
+    }
+
+    Arrays.sort(values);
+    for (double quantile : QUANTILES) {
+      double expected = values[(int) (quantile * (values.length - 1))];
+      assertThat(sketch.getValueAtQuantile(quantile))
+          .isCloseTo(expected, within(Math.abs(expected) * relativeAccuracy));
+    }
+  }
+
+  @Test
+  void record_CollapsesLowestBuckets() {
+    DoubleQuantileSketch sketch = new DoubleQuantileSketch(6, 64);
+    for (int i = 0; i < 1000; i++) {
+      sketch.record(0.001 * (i + 1));
+    }
+    for (int i = 0; i < 1000; i++) {
+      sketch.record(1e6 + i);
+    }
+
+    // Bounded memory, lowest values are attributed to the lowest remaining bucket
+    assertThat(sketch.getBucketCapacity()).isLessThanOrEqualTo(2 * 64);
+    ExponentialHistogramBuckets buckets = sketch.getPositiveBuckets();
+    assertThat(buckets.getBucketCounts()).hasSizeLessThanOrEqualTo(64);
+    assertThat(buckets.getTotalCount()).isEqualTo(2000);
+    assertThat(buckets.getBucketCounts().get(0)).isEqualTo(1000);
+    // High quantiles keep their accuracy
+    assertThat(sketch.getValueAtQuantile(0.99)).isCloseTo(1e6 + 979, within(1e6 * 0.01));
+    assertThat(sketch.getValueAtQuantile(0)).isEqualTo(0.001);
+    assertThat(sketch.getValueAtQuantile(1)).isEqualTo(1e6 + 999);
+
+    // Values below the retained range go to its lowest bucket
+    sketch.record(1e-9);
+    assertThat(sketch.getPositiveBuckets().getBucketCounts().get(0)).isEqualTo(1001);
+    assertThat(sketch.getPositiveBuckets().getOffset()).isEqualTo(buckets.getOffset());
+  }
+
+  @Test
+  void merge() {
+    Random random = new Random(0);
+    DoubleQuantileSketch sketch1 = new DoubleQuantileSketch(6, 2048);
+    DoubleQuantileSketch sketch2 = new DoubleQuantileSketch(6, 2048);
+    DoubleQuantileSketch all = new DoubleQuantileSketch(6, 2048);
+    for (int i = 0; i < 10_000; i++) {
+      double value = random.nextGaussian() * 100;
+      (i % 2 == 0 ? sketch1 : sketch2).record(value);
+      all.record(value);
+    }
+
+    sketch1.merge(sketch2);
+
+    assertThat(sketch1.getCount()).isEqualTo(all.getCount());
+    assertThat(sketch1.getSum()).isCloseTo(all.getSum(), within(1e-6));
+    assertThat(sketch1.getMin()).isEqualTo(all.getMin());
+    assertThat(sketch1.getMax()).isEqualTo(all.getMax());
+    assertThat(sketch1.getPositiveBuckets()).isEqualTo(all.getPositiveBuckets());
+    assertThat(sketch1.getNegativeBuckets()).isEqualTo(all.getNegativeBuckets());
+    for (double quantile : QUANTILES) {
+      assertThat(sketch1.getValueAtQuantile(quantile)).isEqualTo(all.getValueAtQuantile(quantile));
+    }
+  }
+
+  @Test
+  void merge_DifferentScale_Throws() {
+    assertThatThrownBy(
+            () -> new DoubleQuantileSketch(6, 160).merge(new DoubleQuantileSketch(5, 160)))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Cannot merge sketch of scale 5 into scale 6.");
+  }
+
+  @Test
+  void clear() {
+    DoubleQuantileSketch sketch = new DoubleQuantileSketch(6, 160);
+    sketch.record(1);
+    sketch.record(-1);
+    sketch.record(0);
+    int capacity = sketch.getBucketCapacity();
+
+    sketch.clear();
+    assertThat(sketch.getCount()).isEqualTo(0);
+    assertThat(sketch.getZeroCount()).isEqualTo(0);
+    assertThat(sketch.getSum()).isEqualTo(0);
+    assertThat(sketch.getPositiveBuckets().getTotalCount()).isEqualTo(0);
+    assertThat(sketch.getNegativeBuckets().getTotalCount()).isEqualTo(0);
+    // Keeps the memory allocated for buckets
+    assertThat(sketch.getBucketCapacity()).isEqualTo(capacity);
+
+    sketch.record(1000);
+    assertThat(sketch.getPositiveBuckets().getTotalCount()).isEqualTo(1);
+    assertThat(sketch.getValueAtQuantile(0.5)).isEqualTo(1000);
+  }
+}
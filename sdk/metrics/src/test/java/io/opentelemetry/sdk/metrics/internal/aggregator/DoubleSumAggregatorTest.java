@@ -15,6 +15,7 @@ import io.opentelemetry.api.trace.TraceFlags;
 import io.opentelemetry.api.trace.TraceState;
 import io.opentelemetry.context.Context;
 import io.opentelemetry.sdk.common.InstrumentationScopeInfo;
+import io.opentelemetry.sdk.common.export.MemoryMode;
 import io.opentelemetry.sdk.metrics.InstrumentType;
 import io.opentelemetry.sdk.metrics.InstrumentValueType;
 import io.opentelemetry.sdk.metrics.data.AggregationTemporality;
@@ -57,7 +58,8 @@ class DoubleSumAggregatorTest {
               InstrumentType.COUNTER,
               InstrumentValueType.DOUBLE,
               Advice.empty()),
-          ExemplarReservoir::doubleNoSamples);
+          ExemplarReservoir::doubleNoSamples,
+          MemoryMode.IMMUTABLE_DATA);
 
   @Test
   void createHandle() {
@@ -143,7 +145,8 @@ class DoubleSumAggregatorTest {
                 InstrumentType.COUNTER,
                 InstrumentValueType.DOUBLE,
                 Advice.empty()),
-            () -> reservoir);
+            () -> reservoir,
+            MemoryMode.IMMUTABLE_DATA);
     AggregatorHandle<DoublePointData, DoubleExemplarData> aggregatorHandle =
         aggregator.createHandle();
     aggregatorHandle.recordDouble(0, attributes, Context.root());
@@ -177,7 +180,8 @@ class DoubleSumAggregatorTest {
                     instrumentType,
                     InstrumentValueType.LONG,
                     Advice.empty()),
-                ExemplarReservoir::doubleNoSamples);
+                ExemplarReservoir::doubleNoSamples,
+                MemoryMode.IMMUTABLE_DATA);
 
         DoublePointData diffed =
             aggregator.diff(
@@ -13,6 +13,7 @@ import io.opentelemetry.api.trace.SpanContext;
 import io.opentelemetry.api.trace.TraceFlags;
 import io.opentelemetry.api.trace.TraceState;
 import io.opentelemetry.sdk.common.InstrumentationScopeInfo;
+import io.opentelemetry.sdk.common.export.MemoryMode;
 import io.opentelemetry.sdk.metrics.data.AggregationTemporality;
 import io.opentelemetry.sdk.metrics.data.LongExemplarData;
 import io.opentelemetry.sdk.metrics.data.LongPointData;
@@ -37,7 +38,7 @@ class LongLastValueAggregatorTest {
   private static final MetricDescriptor METRIC_DESCRIPTOR =
       MetricDescriptor.create("name", "description", "unit");
   private static final LongLastValueAggregator aggregator =
-      new LongLastValueAggregator(ExemplarReservoir::longNoSamples);
+      new LongLastValueAggregator(ExemplarReservoir::longNoSamples, MemoryMode.IMMUTABLE_DATA);
 
   @Test
   void createHandle() {
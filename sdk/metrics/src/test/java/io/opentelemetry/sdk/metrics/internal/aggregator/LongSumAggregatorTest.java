@@ -15,6 +15,7 @@ import io.opentelemetry.api.trace.TraceFlags;
 import io.opentelemetry.api.trace.TraceState;
 import io.opentelemetry.context.Context;
 import io.opentelemetry.sdk.common.InstrumentationScopeInfo;
+import io.opentelemetry.sdk.common.export.MemoryMode;
 import io.opentelemetry.sdk.metrics.InstrumentType;
 import io.opentelemetry.sdk.metrics.InstrumentValueType;
 import io.opentelemetry.sdk.metrics.data.AggregationTemporality;
@@ -56,7 +57,8 @@ class LongSumAggregatorTest {
               InstrumentType.COUNTER,
               InstrumentValueType.LONG,
               Advice.empty()),
-          ExemplarReservoir::longNoSamples);
+          ExemplarReservoir::longNoSamples,
+          MemoryMode.IMMUTABLE_DATA);
 
   @Test
   void createHandle() {
@@ -139,7 +141,8 @@ class LongSumAggregatorTest {
                 InstrumentType.COUNTER,
                 InstrumentValueType.LONG,
                 Advice.empty()),
-            () -> reservoir);
+            () -> reservoir,
+            MemoryMode.IMMUTABLE_DATA);
     AggregatorHandle<LongPointData, LongExemplarData> aggregatorHandle = aggregator.createHandle();
     aggregatorHandle.recordLong(0, attributes, Context.root());
     assertThat(
@@ -171,7 +174,8 @@ class LongSumAggregatorTest {
                     instrumentType,
                     InstrumentValueType.LONG,
                     Advice.empty()),
-                ExemplarReservoir::longNoSamples);
+                ExemplarReservoir::longNoSamples,
+                MemoryMode.IMMUTABLE_DATA);
 
         LongPointData diffed =
             aggregator.diff(
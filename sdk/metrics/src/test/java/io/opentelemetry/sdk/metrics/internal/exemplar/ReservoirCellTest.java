@@ -0,0 +1,124 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.metrics.internal.exemplar;
+
+import static io.opentelemetry.sdk.testing.assertj.OpenTelemetryAssertions.assertThat;
+
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanContext;
+import io.opentelemetry.api.trace.TraceFlags;
+import io.opentelemetry.api.trace.TraceState;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.sdk.common.Clock;
+import io.opentelemetry.sdk.metrics.data.DoubleExemplarData;
+import io.opentelemetry.sdk.metrics.data.LongExemplarData;
+import io.opentelemetry.sdk.testing.time.TestClock;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+class ReservoirCellTest {
+
+  private static final AttributeKey<Long> KEY = AttributeKey.longKey("key");
+  private static final AttributeKey<Long> VALUE = AttributeKey.longKey("value");
+
+  private static Stream<Arguments> cellFactories() {
+    return Stream.of(
+        Arguments.of((Function<Clock, ReservoirCell>) ReservoirCell::create),
+        Arguments.of((Function<Clock, ReservoirCell>) ReservoirCell::createSynchronized));
+  }
+
+  @ParameterizedTest
+  @MethodSource("cellFactories")
+  void recordLong_GetAndReset(Function<Clock, ReservoirCell> cellFactory) {
+    TestClock clock = TestClock.create();
+    ReservoirCell cell = cellFactory.apply(clock);
+    assertThat(cell.getAndResetLong(Attributes.empty())).isNull();
+
+    SpanContext spanContext =
+        SpanContext.create(
+            "ff000000000000000000000000000041",
+            "ff00000000000041",
+            TraceFlags.getSampled(),
+            TraceState.getDefault());
+    Context context = Context.root().with(Span.wrap(spanContext));
+    assertThat(cell.recordLongMeasurement(1, Attributes.of(KEY, 1L, VALUE, 1L), context)).isTrue();
+
+    LongExemplarData exemplar = cell.getAndResetLong(Attributes.of(KEY, 1L));
+    assertThat(exemplar).isNotNull();
+    assertThat(exemplar.getValue()).isEqualTo(1);
+    assertThat(exemplar.getEpochNanos()).isEqualTo(clock.now());
+    assertThat(exemplar.getSpanContext()).isEqualTo(spanContext);
+    // Point attributes are filtered out
+    assertThat(exemplar.getFilteredAttributes()).isEqualTo(Attributes.of(VALUE, 1L));
+    assertThat(cell.getAndResetLong(Attributes.empty())).isNull();
+  }
+
+  @ParameterizedTest
+  @MethodSource("cellFactories")
+  void recordDouble_KeepsLatest(Function<Clock, ReservoirCell> cellFactory) {
+    ReservoirCell cell = cellFactory.apply(TestClock.create());
+    cell.recordDoubleMeasurement(1.1, Attributes.of(VALUE, 1L), Context.root());
+    cell.recordDoubleMeasurement(2.2, Attributes.of(VALUE, 2L), Context.root());
+
+    DoubleExemplarData exemplar = cell.getAndResetDouble(Attributes.empty());
+    assertThat(exemplar).isNotNull();
+    assertThat(exemplar.getValue()).isEqualTo(2.2);
+    assertThat(exemplar.getFilteredAttributes()).isEqualTo(Attributes.of(VALUE, 2L));
+    assertThat(exemplar.getSpanContext()).isEqualTo(SpanContext.getInvalid());
+
+    cell.recordDoubleMeasurement(3.3, Attributes.empty(), Context.root());
+    cell.reset();
+    assertThat(cell.getAndResetDouble(Attributes.empty())).isNull();
+  }
+
+  @ParameterizedTest
+  @MethodSource("cellFactories")
+  void concurrentRecords_Consistent(Function<Clock, ReservoirCell> cellFactory)
+      throws InterruptedException {
+    ReservoirCell cell = cellFactory.apply(Clock.getDefault());
+    Attributes[] attributes = new Attributes[16];
+    for (int i = 0; i < attributes.length; i++) {
+      attributes[i] = Attributes.of(VALUE, (long) i);
+    }
+    AtomicBoolean stop = new AtomicBoolean();
+    List<Thread> threads = new ArrayList<>();
+    for (int t = 0; t < 4; t++) {
+      Thread thread =
+          new Thread(
+              () -> {
+                for (int i = 0; !stop.get(); i = (i + 1) % attributes.length) {
+                  cell.recordDoubleMeasurement(i, attributes[i], Context.root());
+                }
+              });
+      thread.start();
+      threads.add(thread);
+    }
+
+    try {
+      for (int i = 0; i < 10_000; i++) {
+        DoubleExemplarData exemplar = cell.getAndResetDouble(Attributes.empty());
+        if (exemplar != null) {
+          // The value and attributes come from the same measurement
+          assertThat(exemplar.getFilteredAttributes().get(VALUE))
+              .isEqualTo((long) exemplar.getValue());
+        }
+      }
+    } finally {
+      stop.set(true);
+      for (Thread thread : threads) {
+        thread.join();
+      }
+    }
+  }
+}
@@ -0,0 +1,137 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.metrics.internal.state;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class AttributesConcurrentMapTest {
+
+  private static final AttributeKey<Long> KEY = AttributeKey.longKey("key");
+
+  private AttributesConcurrentMap<Integer> map;
+
+  @BeforeEach
+  void setup() {
+    map = new AttributesConcurrentMap<>();
+  }
+
+  @Test
+  void putIfAbsentAndGet() {
+    assertThat(map.putIfAbsent(attributes(1), 1)).isNull();
+    assertThat(map.putIfAbsent(attributes(1), 2)).isEqualTo(1);
+    assertThat(map.get(attributes(1))).isEqualTo(1);
+    assertThat(map.get(attributes(2))).isNull();
+    assertThat(map.containsKey(attributes(1))).isTrue();
+    assertThat(map.containsKey(attributes(2))).isFalse();
+  }
+
+  @Test
+  void computeIfAbsent() {
+    AtomicInteger calls = new AtomicInteger();
+    assertThat(map.computeIfAbsent(attributes(1), unused -> calls.incrementAndGet())).isEqualTo(1);
+    assertThat(map.computeIfAbsent(attributes(1), unused -> calls.incrementAndGet())).isEqualTo(1);
+    assertThat(calls).hasValue(1);
+    assertThatThrownBy(() -> map.computeIfAbsent(attributes(2), unused -> null))
+        .isInstanceOf(NullPointerException.class);
+    assertThat(map.size()).isEqualTo(1);
+  }
+
+  @Test
+  void computeIfPresent() {
+    assertThat(map.computeIfPresent(attributes(1), (key, value) -> value + 1)).isNull();
+    map.putIfAbsent(attributes(1), 1);
+    assertThat(map.computeIfPresent(attributes(1), (key, value) -> value + 1)).isEqualTo(2);
+    assertThat(map.get(attributes(1))).isEqualTo(2);
+    // Returning null removes the mapping
+    assertThat(map.computeIfPresent(attributes(1), (key, value) -> null)).isNull();
+    assertThat(map.get(attributes(1))).isNull();
+    assertThat(map.isEmpty()).isTrue();
+  }
+
+  @Test
+  void remove() {
+    map.putIfAbsent(attributes(1), 1);
+    assertThat(map.remove(attributes(1))).isEqualTo(1);
+    assertThat(map.remove(attributes(1))).isNull();
+    assertThat(map.get(attributes(1))).isNull();
+    assertThat(map.size()).isEqualTo(0);
+
+    // The slot of a removed key is reused when it is added back
+    map.putIfAbsent(attributes(1), 2);
+    assertThat(map.get(attributes(1))).isEqualTo(2);
+    assertThat(map.size()).isEqualTo(1);
+  }
+
+  @Test
+  void growsAndRebuilds() {
+    for (int i = 0; i < 1000; i++) {
+      map.putIfAbsent(attributes(i), i);
+    }
+    assertThat(map.size()).isEqualTo(1000);
+    for (int i = 0; i < 1000; i++) {
+      assertThat(map.get(attributes(i))).isEqualTo(i);
+    }
+
+    // Churn through distinct keys, so that rebuilds drop the removed ones
+    for (int i = 1000; i < 10_000; i++) {
+      map.putIfAbsent(attributes(i), i);
+      map.remove(attributes(i - 1000));
+    }
+    assertThat(map.size()).isEqualTo(1000);
+    Map<Attributes, Integer> entries = new HashMap<>();
+    map.forEach(entries::put);
+    assertThat(entries)
+        .isEqualTo(
+            IntStream.range(9_000, 10_000)
+                .boxed()
+                .collect(Collectors.toMap(AttributesConcurrentMapTest::attributes, i -> i)));
+  }
+
+  @Test
+  void concurrentInserts() throws Exception {
+    int numThreads = 8;
+    int numKeys = 2000;
+    ExecutorService executor = Executors.newFixedThreadPool(numThreads);
+    try {
+      Future<?>[] futures = new Future<?>[numThreads];
+      for (int t = 0; t < numThreads; t++) {
+        futures[t] =
+            executor.submit(
+                () -> {
+                  for (int i = 0; i < numKeys; i++) {
+                    int value = i;
+                    assertThat(map.computeIfAbsent(attributes(i), unused -> value))
+                        .isEqualTo(value);
+                  }
+                });
+      }
+      for (Future<?> future : futures) {
+        future.get();
+      }
+    } finally {
+      executor.shutdown();
+    }
+    assertThat(map.size()).isEqualTo(numKeys);
+  }
+
+  private static Attributes attributes(long value) {
+    return Attributes.of(KEY, value);
+  }
+}
@@ -0,0 +1,356 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.metrics.internal.state;
+
+import static io.opentelemetry.sdk.metrics.internal.state.ImmutableMeasurement.createLong;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.internal.testing.slf4j.SuppressLogger;
+import io.opentelemetry.sdk.common.InstrumentationScopeInfo;
+import io.opentelemetry.sdk.common.export.MemoryMode;
+import io.opentelemetry.sdk.metrics.InstrumentType;
+import io.opentelemetry.sdk.metrics.InstrumentValueType;
+import io.opentelemetry.sdk.metrics.export.MetricReader;
+import io.opentelemetry.sdk.metrics.internal.descriptor.Advice;
+import io.opentelemetry.sdk.metrics.internal.descriptor.InstrumentDescriptor;
+import io.opentelemetry.sdk.metrics.internal.export.RegisteredReader;
+import io.opentelemetry.sdk.metrics.internal.view.ViewRegistry;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+@MockitoSettings(strictness = Strictness.LENIENT)
+@SuppressLogger(CallbackExecutor.class)
+@ExtendWith(MockitoExtension.class)
+class CallbackExecutorTest {
+
+  private static final InstrumentationScopeInfo INSTRUMENTATION_SCOPE_INFO =
+      InstrumentationScopeInfo.create("meter");
+  private static final InstrumentDescriptor INSTRUMENT =
+      InstrumentDescriptor.create(
+          "long-counter",
+          "description",
+          "unit",
+          InstrumentType.OBSERVABLE_COUNTER,
+          InstrumentValueType.LONG,
+          Advice.empty());
+  private static final long TIMEOUT_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+
+  @Mock private MetricReader reader;
+  @Mock private AsynchronousMetricStorage<?, ?> storage1;
+  @Mock private AsynchronousMetricStorage<?, ?> storage2;
+
+  private final ExecutorService executorService = Executors.newFixedThreadPool(2);
+  private final CountDownLatch release = new CountDownLatch(1);
+  private RegisteredReader registeredReader;
+  private SdkObservableMeasurement measurement1;
+  private SdkObservableMeasurement measurement2;
+
+  @BeforeEach
+  void setup() {
+    when(reader.getMemoryMode()).thenReturn(MemoryMode.IMMUTABLE_DATA);
+    registeredReader = RegisteredReader.create(reader, ViewRegistry.create());
+    when(storage1.getRegisteredReader()).thenReturn(registeredReader);
+    when(storage2.getRegisteredReader()).thenReturn(registeredReader);
+    measurement1 =
+        SdkObservableMeasurement.create(
+            INSTRUMENTATION_SCOPE_INFO, INSTRUMENT, Collections.singletonList(storage1));
+    measurement2 =
+        SdkObservableMeasurement.create(
+            INSTRUMENTATION_SCOPE_INFO, INSTRUMENT, Collections.singletonList(storage2));
+  }
+
+  @AfterEach
+  void tearDown() {
+    release.countDown();
+    executorService.shutdown();
+  }
+
+  @Test
+  void invokeCallbacks_Parallel() {
+    CallbackExecutor callbackExecutor = new CallbackExecutor(executorService, 0, false);
+    List<String> threads = new CopyOnWriteArrayList<>();
+    CountDownLatch bothRunning = new CountDownLatch(2);
+    CallbackRegistration callback1 =
+        CallbackRegistration.create(
+            Collections.singletonList(measurement1),
+            () -> {
+              threads.add(Thread.currentThread().getName());
+              bothRunning.countDown();
+              await(bothRunning);
+              measurement1.record(1);
+            });
+    CallbackRegistration callback2 =
+        CallbackRegistration.create(
+            Collections.singletonList(measurement2),
+            () -> {
+              threads.add(Thread.currentThread().getName());
+              bothRunning.countDown();
+              await(bothRunning);
+              measurement2.record(2);
+            });
+
+    callbackExecutor.invokeCallbacks(Arrays.asList(callback1, callback2), registeredReader, 0, 1);
+
+    assertThat(threads).hasSize(2).doesNotContain(Thread.currentThread().getName());
+    verify(storage1).record(createLong(0, 1, 1, Attributes.empty()));
+    verify(storage2).record(createLong(0, 1, 2, Attributes.empty()));
+  }
+
+  @Test
+  void invokeCallbacks_Timeout() throws InterruptedException {
+    CallbackExecutor callbackExecutor = new CallbackExecutor(executorService, TIMEOUT_NANOS, false);
+    CountDownLatch recorded = new CountDownLatch(1);
+    AtomicInteger invocations = new AtomicInteger();
+    CallbackRegistration slowCallback =
+        CallbackRegistration.create(
+            Collections.singletonList(measurement1),
+            () -> {
+              invocations.incrementAndGet();
+              await(release);
+              measurement1.record(1);
+              recorded.countDown();
+            });
+    CallbackRegistration callback =
+        CallbackRegistration.create(
+            Collections.singletonList(measurement2), () -> measurement2.record(2));
+
+    callbackExecutor.invokeCallbacks(
+        Arrays.asList(slowCallback, callback), registeredReader, 0, 1);
+    verify(storage2).record(createLong(0, 1, 2, Attributes.empty()));
+
+    // Still running, skipped
+    callbackExecutor.invokeCallbacks(
+        Arrays.asList(slowCallback, callback), registeredReader, 1, 2);
+    verify(storage2).record(createLong(1, 2, 2, Attributes.empty()));
+    assertThat(invocations).hasValue(1);
+
+    // Recorded once no longer awaited, dropped
+    release.countDown();
+    assertThat(recorded.await(10, TimeUnit.SECONDS)).isTrue();
+    verify(storage1, never()).record(any());
+  }
+
+  @Test
+  void invokeCallbacks_SharedMeasurement() {
+    CallbackExecutor callbackExecutor = new CallbackExecutor(executorService, 0, false);
+    CountDownLatch fastRecorded = new CountDownLatch(1);
+    CallbackRegistration fastCallback =
+        CallbackRegistration.create(
+            Collections.singletonList(measurement1),
+            () -> {
+              measurement1.record(1);
+              fastRecorded.countDown();
+            });
+    CallbackRegistration slowCallback =
+        CallbackRegistration.create(
+            Collections.singletonList(measurement1),
+            () -> {
+              await(fastRecorded);
+              sleep(100);
+              measurement1.record(2);
+            });
+
+    // Finishing the fast callback doesn't drop the measurements of the slow one
+    callbackExecutor.invokeCallbacks(
+        Arrays.asList(fastCallback, slowCallback), registeredReader, 0, 1);
+
+    verify(storage1).record(createLong(0, 1, 1, Attributes.empty()));
+    verify(storage1).record(createLong(0, 1, 2, Attributes.empty()));
+  }
+
+  @Test
+  void invokeCallbacks_Timeout_NotRecordedInLaterCollection() {
+    CallbackExecutor callbackExecutor = new CallbackExecutor(executorService, TIMEOUT_NANOS, false);
+    CountDownLatch recorded = new CountDownLatch(1);
+    CallbackRegistration slowCallback =
+        CallbackRegistration.create(
+            Collections.singletonList(measurement1),
+            () -> {
+              await(release);
+              measurement1.record(1);
+              recorded.countDown();
+            });
+    CallbackRegistration callback =
+        CallbackRegistration.create(
+            Collections.singletonList(measurement1),
+            () -> {
+              release.countDown();
+              await(recorded);
+              measurement1.record(2);
+            });
+
+    callbackExecutor.invokeCallbacks(
+        Collections.singletonList(slowCallback), registeredReader, 0, 1);
+
+    // The timed out callback records while another callback of its measurement runs for the next
+    // collection, its measurement is dropped
+    callbackExecutor.invokeCallbacks(Collections.singletonList(callback), registeredReader, 1, 2);
+
+    verify(storage1).record(createLong(1, 2, 2, Attributes.empty()));
+    verify(storage1, never()).record(createLong(1, 2, 1, Attributes.empty()));
+    verify(storage1, never()).record(createLong(0, 1, 1, Attributes.empty()));
+  }
+
+  @Test
+  void invokeCallbacks_Timeout_ReuseLastValues() {
+    CallbackExecutor callbackExecutor = new CallbackExecutor(executorService, TIMEOUT_NANOS, true);
+    AtomicInteger invocations = new AtomicInteger();
+    CallbackRegistration callback =
+        CallbackRegistration.create(
+            Collections.singletonList(measurement1),
+            () -> {
+              if (invocations.incrementAndGet() > 1) {
+                await(release);
+              }
+              measurement1.record(10, Attributes.builder().put("key", "value").build());
+            });
+
+    callbackExecutor.invokeCallbacks(Collections.singletonList(callback), registeredReader, 0, 1);
+    verify(storage1).record(createLong(0, 1, 10, Attributes.builder().put("key", "value").build()));
+
+    // Timed out, the last values are recorded at the time of this collection
+    callbackExecutor.invokeCallbacks(Collections.singletonList(callback), registeredReader, 1, 2);
+    verify(storage1).record(createLong(1, 2, 10, Attributes.builder().put("key", "value").build()));
+
+    // Still running, the last values are recorded again
+    callbackExecutor.invokeCallbacks(Collections.singletonList(callback), registeredReader, 2, 3);
+    verify(storage1).record(createLong(2, 3, 10, Attributes.builder().put("key", "value").build()));
+    assertThat(invocations).hasValue(2);
+  }
+
+  @Test
+  void invokeCallbacks_Timeout_DropsPartialValues() {
+    CallbackExecutor callbackExecutor = new CallbackExecutor(executorService, TIMEOUT_NANOS, false);
+    CallbackRegistration callback =
+        CallbackRegistration.create(
+            Collections.singletonList(measurement1),
+            () -> {
+              measurement1.record(1, Attributes.builder().put("key", "a").build());
+              await(release);
+              measurement1.record(1, Attributes.builder().put("key", "b").build());
+            });
+
+    // Timed out after recording part of its values, none of them are recorded
+    callbackExecutor.invokeCallbacks(Collections.singletonList(callback), registeredReader, 0, 1);
+
+    verify(storage1, never()).record(any());
+  }
+
+  @Test
+  void invokeCallbacks_Timeout_ReuseLastValues_DropsPartialValues() {
+    CallbackExecutor callbackExecutor = new CallbackExecutor(executorService, TIMEOUT_NANOS, true);
+    AtomicInteger invocations = new AtomicInteger();
+    CallbackRegistration callback =
+        CallbackRegistration.create(
+            Collections.singletonList(measurement1),
+            () -> {
+              int invocation = invocations.incrementAndGet();
+              measurement1.record(invocation, Attributes.builder().put("key", "a").build());
+              if (invocation > 1) {
+                await(release);
+              }
+              measurement1.record(invocation, Attributes.builder().put("key", "b").build());
+            });
+
+    callbackExecutor.invokeCallbacks(Collections.singletonList(callback), registeredReader, 0, 1);
+    verify(storage1).record(createLong(0, 1, 1, Attributes.builder().put("key", "a").build()));
+    verify(storage1).record(createLong(0, 1, 1, Attributes.builder().put("key", "b").build()));
+
+    // Timed out, only the values of the last completed run are recorded
+    callbackExecutor.invokeCallbacks(Collections.singletonList(callback), registeredReader, 1, 2);
+    verify(storage1).record(createLong(1, 2, 1, Attributes.builder().put("key", "a").build()));
+    verify(storage1).record(createLong(1, 2, 1, Attributes.builder().put("key", "b").build()));
+    verify(storage1, never())
+        .record(createLong(1, 2, 2, Attributes.builder().put("key", "a").build()));
+  }
+
+  @Test
+  void invokeCallbacks_NotStarted() throws InterruptedException {
+    ExecutorService singleThread = Executors.newSingleThreadExecutor();
+    try {
+      CallbackExecutor callbackExecutor = new CallbackExecutor(singleThread, TIMEOUT_NANOS, false);
+      CountDownLatch hungDone = new CountDownLatch(1);
+      CallbackRegistration hungCallback =
+          CallbackRegistration.create(
+              Collections.singletonList(measurement1),
+              () -> {
+                await(release);
+                hungDone.countDown();
+              });
+      AtomicInteger invocations = new AtomicInteger();
+      CallbackRegistration callback =
+          CallbackRegistration.create(
+              Collections.singletonList(measurement2),
+              () -> measurement2.record(invocations.incrementAndGet()));
+
+      // The hung callback holds the only thread, the other one can't start and is cancelled
+      callbackExecutor.invokeCallbacks(
+          Arrays.asList(hungCallback, callback), registeredReader, 0, 1);
+      callbackExecutor.invokeCallbacks(
+          Arrays.asList(hungCallback, callback), registeredReader, 1, 2);
+      verify(storage2, never()).record(any());
+
+      // Cancelled callbacks are not considered running, and never run late
+      release.countDown();
+      assertThat(hungDone.await(10, TimeUnit.SECONDS)).isTrue();
+      callbackExecutor.invokeCallbacks(Collections.singletonList(callback), registeredReader, 2, 3);
+      verify(storage2).record(createLong(2, 3, 1, Attributes.empty()));
+      assertThat(invocations).hasValue(1);
+    } finally {
+      singleThread.shutdown();
+    }
+  }
+
+  @Test
+  void invokeCallbacks_Shutdown() {
+    CallbackExecutor callbackExecutor = new CallbackExecutor(executorService, TIMEOUT_NANOS, false);
+    callbackExecutor.shutdown();
+    CallbackRegistration callback =
+        CallbackRegistration.create(
+            Collections.singletonList(measurement1), () -> measurement1.record(1));
+
+    // Run on the collecting thread
+    callbackExecutor.invokeCallbacks(Collections.singletonList(callback), registeredReader, 0, 1);
+
+    verify(storage1).record(createLong(0, 1, 1, Attributes.empty()));
+  }
+
+  private static void sleep(long millis) {
+    try {
+      Thread.sleep(millis);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private static void await(CountDownLatch latch) {
+    try {
+      latch.await(10, TimeUnit.SECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
@@ -18,12 +18,16 @@ import io.opentelemetry.api.common.Attributes;
 import io.opentelemetry.context.Context;
 import io.opentelemetry.internal.testing.slf4j.SuppressLogger;
 import io.opentelemetry.sdk.common.InstrumentationScopeInfo;
+import io.opentelemetry.sdk.common.export.MemoryMode;
 import io.opentelemetry.sdk.metrics.Aggregation;
 import io.opentelemetry.sdk.metrics.InstrumentType;
 import io.opentelemetry.sdk.metrics.InstrumentValueType;
+import io.opentelemetry.sdk.metrics.data.AggregationTemporality;
+import io.opentelemetry.sdk.metrics.data.DoublePointData;
 import io.opentelemetry.sdk.metrics.data.LongExemplarData;
 import io.opentelemetry.sdk.metrics.data.LongPointData;
 import io.opentelemetry.sdk.metrics.data.MetricData;
+import io.opentelemetry.sdk.metrics.data.PointData;
 import io.opentelemetry.sdk.metrics.internal.aggregator.Aggregator;
 import io.opentelemetry.sdk.metrics.internal.aggregator.AggregatorFactory;
 import io.opentelemetry.sdk.metrics.internal.aggregator.EmptyMetricData;
@@ -37,6 +41,7 @@ import io.opentelemetry.sdk.metrics.internal.view.ViewRegistry;
 import io.opentelemetry.sdk.resources.Resource;
 import io.opentelemetry.sdk.testing.exporter.InMemoryMetricReader;
 import io.opentelemetry.sdk.testing.time.TestClock;
+import java.util.concurrent.CountDownLatch;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.RegisterExtension;
 import org.slf4j.event.Level;
@@ -70,7 +75,8 @@ public class SynchronousMetricStorageTest {
   private final Aggregator<LongPointData, LongExemplarData> aggregator =
       spy(
           ((AggregatorFactory) Aggregation.sum())
-              .createAggregator(DESCRIPTOR, ExemplarFilter.alwaysOff()));
+              .createAggregator(
+                  DESCRIPTOR, ExemplarFilter.alwaysOff(), MemoryMode.IMMUTABLE_DATA));
   private final AttributesProcessor attributesProcessor = AttributesProcessor.noop();
 
   @Test
@@ -178,35 +184,171 @@ public class SynchronousMetricStorageTest {
                 sum.isDelta()
                     .hasPointsSatisfying(
                         point -> point.hasStartEpochNanos(0).hasEpochNanos(10).hasValue(3)));
-    assertThat(storage.getAggregatorHandlePool()).hasSize(1);
+    // The handle stays resident in the holder that was swapped out
+    assertThat(storage.getAggregatorHandlePool()).hasSize(0);
     deltaReader.setLastCollectEpochNanos(10);
 
     // Record measurement and collect at time 30
     storage.recordDouble(3, Attributes.empty(), Context.current());
-    // AggregatorHandle should be returned to the pool on reset so shouldn't create additional
-    // handles
-    verify(aggregator, times(1)).createHandle();
-    assertThat(storage.getAggregatorHandlePool()).hasSize(0);
+    // Recorded in the standby holder, which has no handle for the series yet
+    verify(aggregator, times(2)).createHandle();
     assertThat(storage.collect(RESOURCE, INSTRUMENTATION_SCOPE_INFO, 0, 30))
         .hasDoubleSumSatisfying(
             sum ->
                 sum.isDelta()
                     .hasPointsSatisfying(
                         point -> point.hasStartEpochNanos(10).hasEpochNanos(30).hasValue(3)));
-    assertThat(storage.getAggregatorHandlePool()).hasSize(1);
+    assertThat(storage.getAggregatorHandlePool()).hasSize(0);
     deltaReader.setLastCollectEpochNanos(30);
 
     // Record measurement and collect at time 35
     storage.recordDouble(2, Attributes.empty(), Context.current());
-    verify(aggregator, times(1)).createHandle();
-    assertThat(storage.getAggregatorHandlePool()).hasSize(0);
+    // Both holders have a handle for the series, so shouldn't create additional handles
+    verify(aggregator, times(2)).createHandle();
     assertThat(storage.collect(RESOURCE, INSTRUMENTATION_SCOPE_INFO, 0, 35))
         .hasDoubleSumSatisfying(
             sum ->
                 sum.isDelta()
                     .hasPointsSatisfying(
                         point -> point.hasStartEpochNanos(30).hasEpochNanos(35).hasValue(2)));
+    assertThat(storage.getAggregatorHandlePool()).hasSize(0);
+    deltaReader.setLastCollectEpochNanos(35);
+
+    // Collect at time 40 without recording, the idle handle is returned to the pool
+    assertThat(storage.collect(RESOURCE, INSTRUMENTATION_SCOPE_INFO, 0, 40))
+        .isEqualTo(EmptyMetricData.getInstance());
+    assertThat(storage.getAggregatorHandlePool()).hasSize(1);
+  }
+
+  @Test
+  void bind_DeltaKeepsBoundSeries() {
+    DefaultSynchronousMetricStorage<?, ?> storage =
+        new DefaultSynchronousMetricStorage<>(
+            deltaReader, METRIC_DESCRIPTOR, aggregator, attributesProcessor, CARDINALITY_LIMIT);
+
+    // Binding pins the series in both holders
+    BoundStorageHandle handle = storage.bind(Attributes.empty());
+    verify(aggregator, times(2)).createHandle();
+
+    // Record through the bound handle and collect at time 10
+    handle.recordDouble(3, Context.current());
+    assertThat(storage.collect(RESOURCE, INSTRUMENTATION_SCOPE_INFO, 0, 10))
+        .hasDoubleSumSatisfying(
+            sum ->
+                sum.isDelta()
+                    .hasPointsSatisfying(
+                        point -> point.hasStartEpochNanos(0).hasEpochNanos(10).hasValue(3)));
+    deltaReader.setLastCollectEpochNanos(10);
+
+    // Collect at time 20 without recording, the bound series is idle but kept
+    assertThat(storage.collect(RESOURCE, INSTRUMENTATION_SCOPE_INFO, 0, 20))
+        .isEqualTo(EmptyMetricData.getInstance());
+    assertThat(storage.getAggregatorHandlePool()).hasSize(0);
+    deltaReader.setLastCollectEpochNanos(20);
+
+    // Record through the bound handle and the storage, and collect at time 30
+    handle.recordDouble(4, Context.current());
+    storage.recordDouble(1, Attributes.empty(), Context.current());
+    verify(aggregator, times(2)).createHandle();
+    assertThat(storage.collect(RESOURCE, INSTRUMENTATION_SCOPE_INFO, 0, 30))
+        .hasDoubleSumSatisfying(
+            sum ->
+                sum.isDelta()
+                    .hasPointsSatisfying(
+                        point -> point.hasStartEpochNanos(20).hasEpochNanos(30).hasValue(5)));
+    deltaReader.setLastCollectEpochNanos(30);
+
+    // Once released, the idle series is removed from each holder when it is collected
+    handle.release();
+    assertThat(storage.collect(RESOURCE, INSTRUMENTATION_SCOPE_INFO, 0, 40))
+        .isEqualTo(EmptyMetricData.getInstance());
     assertThat(storage.getAggregatorHandlePool()).hasSize(1);
+    deltaReader.setLastCollectEpochNanos(40);
+    assertThat(storage.collect(RESOURCE, INSTRUMENTATION_SCOPE_INFO, 0, 50))
+        .isEqualTo(EmptyMetricData.getInstance());
+    assertThat(storage.getAggregatorHandlePool()).hasSize(2);
+  }
+
+  @Test
+  void recordAndCollect_CumulativeEvictsIdleSeries() {
+    DefaultSynchronousMetricStorage<?, ?> storage =
+        new DefaultSynchronousMetricStorage<>(
+            cumulativeReader, METRIC_DESCRIPTOR, aggregator, attributesProcessor, 3, 2);
+    Attributes idle = Attributes.builder().put("key", "idle").build();
+    Attributes active = Attributes.builder().put("key", "active").build();
+    Attributes other = Attributes.builder().put("key", "other").build();
+
+    // Record both series and collect at time 10
+    storage.recordDouble(3, idle, Context.current());
+    storage.recordDouble(1, active, Context.current());
+    assertThat(storage.collect(RESOURCE, INSTRUMENTATION_SCOPE_INFO, 0, 10))
+        .hasDoubleSumSatisfying(
+            sum -> sum.isCumulative().hasPointsSatisfying(point -> {}, point -> {}));
+    cumulativeReader.setLastCollectEpochNanos(10);
+
+    // Idle for 1 collection, still reported
+    storage.recordDouble(1, active, Context.current());
+    assertThat(storage.collect(RESOURCE, INSTRUMENTATION_SCOPE_INFO, 0, 20))
+        .hasDoubleSumSatisfying(
+            sum ->
+                sum.hasPointsSatisfying(
+                    point -> point.hasAttributes(idle).hasStartEpochNanos(0).hasValue(3),
+                    point -> point.hasAttributes(active).hasStartEpochNanos(0).hasValue(2)));
+    cumulativeReader.setLastCollectEpochNanos(20);
+
+    // Idle for 2 collections, evicted
+    storage.recordDouble(1, active, Context.current());
+    assertThat(storage.collect(RESOURCE, INSTRUMENTATION_SCOPE_INFO, 0, 30))
+        .hasDoubleSumSatisfying(
+            sum ->
+                sum.hasPointsSatisfying(
+                    point -> point.hasAttributes(active).hasStartEpochNanos(0).hasValue(3)));
+    cumulativeReader.setLastCollectEpochNanos(30);
+
+    // The slot of the evicted series is available again, and the series starts over once recorded
+    storage.recordDouble(1, other, Context.current());
+    storage.recordDouble(2, idle, Context.current());
+    assertThat(storage.collect(RESOURCE, INSTRUMENTATION_SCOPE_INFO, 0, 40))
+        .hasDoubleSumSatisfying(
+            sum ->
+                sum.hasPointsSatisfying(
+                    point -> point.hasAttributes(active).hasStartEpochNanos(0).hasValue(3),
+                    point -> point.hasAttributes(other).hasStartEpochNanos(30).hasValue(1),
+                    point ->
+                        point
+                            .hasAttributes(MetricStorage.CARDINALITY_OVERFLOW)
+                            .hasStartEpochNanos(30)
+                            .hasValue(2)));
+    // Evicted handles still hold their cumulative value and are not reused
+    assertThat(storage.getAggregatorHandlePool()).hasSize(0);
+  }
+
+  @Test
+  void bind_CumulativeKeepsBoundSeries() {
+    DefaultSynchronousMetricStorage<?, ?> storage =
+        new DefaultSynchronousMetricStorage<>(
+            cumulativeReader,
+            METRIC_DESCRIPTOR,
+            aggregator,
+            attributesProcessor,
+            CARDINALITY_LIMIT,
+            1);
+    BoundStorageHandle handle = storage.bind(Attributes.empty());
+    handle.recordDouble(3, Context.current());
+    assertThat(storage.collect(RESOURCE, INSTRUMENTATION_SCOPE_INFO, 0, 10))
+        .hasDoubleSumSatisfying(sum -> sum.hasPointsSatisfying(point -> point.hasValue(3)));
+
+    // The bound series is idle but kept
+    assertThat(storage.collect(RESOURCE, INSTRUMENTATION_SCOPE_INFO, 0, 20))
+        .hasDoubleSumSatisfying(sum -> sum.hasPointsSatisfying(point -> point.hasValue(3)));
+    handle.recordDouble(1, Context.current());
+    assertThat(storage.collect(RESOURCE, INSTRUMENTATION_SCOPE_INFO, 0, 30))
+        .hasDoubleSumSatisfying(sum -> sum.hasPointsSatisfying(point -> point.hasValue(4)));
+
+    // Once released, the idle series is evicted
+    handle.release();
+    assertThat(storage.collect(RESOURCE, INSTRUMENTATION_SCOPE_INFO, 0, 40))
+        .isEqualTo(EmptyMetricData.getInstance());
   }
 
   @Test
@@ -305,16 +447,16 @@ public class SynchronousMetricStorageTest {
                                   assertThat(point.getEpochNanos()).isEqualTo(10);
                                   assertThat(point.getValue()).isEqualTo(3);
                                 })));
-    assertThat(storage.getAggregatorHandlePool()).hasSize(CARDINALITY_LIMIT - 1);
+    // Handles of recorded series stay resident
+    assertThat(storage.getAggregatorHandlePool()).hasSize(0);
     assertThat(logs.getEvents()).isEmpty();
     deltaReader.setLastCollectEpochNanos(10);
 
-    // Record measurement for additional attribute, should not exceed limit due to reset
+    // Record measurement for additional attribute, recorded in the standby holder
     storage.recordDouble(
         3, Attributes.builder().put("key", "value" + CARDINALITY_LIMIT).build(), Context.current());
-    // Should use handle returned to pool instead of creating new ones
-    verify(aggregator, times(CARDINALITY_LIMIT - 1)).createHandle();
-    assertThat(storage.getAggregatorHandlePool()).hasSize(CARDINALITY_LIMIT - 2);
+    verify(aggregator, times(CARDINALITY_LIMIT)).createHandle();
+    assertThat(storage.getAggregatorHandlePool()).hasSize(0);
     assertThat(storage.collect(RESOURCE, INSTRUMENTATION_SCOPE_INFO, 0, 20))
         .hasDoubleSumSatisfying(
             sum ->
@@ -329,7 +471,7 @@ public class SynchronousMetricStorageTest {
                                     Attributes.builder()
                                         .put("key", "value" + CARDINALITY_LIMIT)
                                         .build())));
-    assertThat(storage.getAggregatorHandlePool()).hasSize(CARDINALITY_LIMIT - 1);
+    assertThat(storage.getAggregatorHandlePool()).hasSize(0);
     assertThat(logs.getEvents()).isEmpty();
     deltaReader.setLastCollectEpochNanos(20);
 
@@ -339,8 +481,8 @@ public class SynchronousMetricStorageTest {
       storage.recordDouble(
           3, Attributes.builder().put("key", "value" + i).build(), Context.current());
     }
-    // Should use handles returned to pool instead of creating new ones
-    verify(aggregator, times(CARDINALITY_LIMIT)).createHandle();
+    // Series recorded at time 10 are still resident, only the overflow series is created
+    verify(aggregator, times(CARDINALITY_LIMIT + 1)).createHandle();
     assertThat(storage.getAggregatorHandlePool()).hasSize(0);
     assertThat(storage.collect(RESOURCE, INSTRUMENTATION_SCOPE_INFO, 0, 30))
         .hasDoubleSumSatisfying(
@@ -367,7 +509,238 @@ public class SynchronousMetricStorageTest {
                                     assertThat(point.getAttributes())
                                         .isEqualTo(MetricStorage.CARDINALITY_OVERFLOW))));
 
-    assertThat(storage.getAggregatorHandlePool()).hasSize(CARDINALITY_LIMIT);
+    assertThat(storage.getAggregatorHandlePool()).hasSize(0);
+    logs.assertContains("Instrument name has exceeded the maximum allowed cardinality");
+    deltaReader.setLastCollectEpochNanos(30);
+
+    // Collect at time 40 without recording, removing the idle series of the standby holder
+    assertThat(storage.collect(RESOURCE, INSTRUMENTATION_SCOPE_INFO, 0, 40))
+        .isEqualTo(EmptyMetricData.getInstance());
+    assertThat(storage.getAggregatorHandlePool()).hasSize(1);
+  }
+
+  @Test
+  void recordAndCollect_DeltaAttributeChurnDoesNotOverflow() {
+    DefaultSynchronousMetricStorage<?, ?> storage =
+        new DefaultSynchronousMetricStorage<>(
+            deltaReader, METRIC_DESCRIPTOR, aggregator, attributesProcessor, CARDINALITY_LIMIT);
+
+    // Record a new set of CARDINALITY_LIMIT - 1 series in each interval. The resident handles of
+    // the series recorded in the previous interval of each holder don't count towards the limit.
+    for (int interval = 1; interval <= 5; interval++) {
+      for (int i = 0; i < CARDINALITY_LIMIT - 1; i++) {
+        storage.recordDouble(
+            1,
+            Attributes.builder().put("key", "value" + interval + "-" + i).build(),
+            Context.current());
+      }
+      assertThat(storage.collect(RESOURCE, INSTRUMENTATION_SCOPE_INFO, 0, interval * 10L))
+          .hasDoubleSumSatisfying(
+              sum ->
+                  sum.satisfies(
+                      sumData ->
+                          assertThat(sumData.getPoints())
+                              .hasSize(CARDINALITY_LIMIT - 1)
+                              .noneMatch(
+                                  point ->
+                                      point
+                                          .getAttributes()
+                                          .equals(MetricStorage.CARDINALITY_OVERFLOW))));
+      deltaReader.setLastCollectEpochNanos(interval * 10L);
+    }
+    assertThat(logs.getEvents()).isEmpty();
+
+    // Recording into the resident handles of idle series counts towards the limit again
+    for (int i = 0; i < CARDINALITY_LIMIT - 1; i++) {
+      storage.recordDouble(
+          1, Attributes.builder().put("key", "value" + i).build(), Context.current());
+    }
+    storage.recordDouble(1, Attributes.builder().put("key", "value4-0").build(), Context.current());
+    assertThat(storage.collect(RESOURCE, INSTRUMENTATION_SCOPE_INFO, 0, 60))
+        .hasDoubleSumSatisfying(
+            sum ->
+                sum.satisfies(
+                    sumData ->
+                        assertThat(sumData.getPoints())
+                            .hasSize(CARDINALITY_LIMIT)
+                            .satisfiesOnlyOnce(
+                                point ->
+                                    assertThat(point.getAttributes())
+                                        .isEqualTo(MetricStorage.CARDINALITY_OVERFLOW))));
     logs.assertContains("Instrument name has exceeded the maximum allowed cardinality");
   }
+
+  @Test
+  void recordAndCollect_DeltaReusableData() {
+    RegisteredReader reusableDeltaReader =
+        RegisteredReader.create(
+            InMemoryMetricReader.builder()
+                .setAggregationTemporalitySelector(unused -> AggregationTemporality.DELTA)
+                .setMemoryMode(MemoryMode.REUSABLE_DATA)
+                .build(),
+            ViewRegistry.create());
+    Aggregator<LongPointData, LongExemplarData> reusableAggregator =
+        spy(
+            ((AggregatorFactory) Aggregation.sum())
+                .createAggregator(
+                    DESCRIPTOR, ExemplarFilter.alwaysOff(), MemoryMode.REUSABLE_DATA));
+    DefaultSynchronousMetricStorage<?, ?> storage =
+        new DefaultSynchronousMetricStorage<>(
+            reusableDeltaReader,
+            METRIC_DESCRIPTOR,
+            reusableAggregator,
+            attributesProcessor,
+            CARDINALITY_LIMIT);
+
+    // Record measurement and collect at time 10
+    storage.recordDouble(3, Attributes.empty(), Context.current());
+    verify(reusableAggregator, times(1)).createHandle();
+    MetricData metricData = storage.collect(RESOURCE, INSTRUMENTATION_SCOPE_INFO, 0, 10);
+    assertThat(metricData)
+        .hasDoubleSumSatisfying(
+            sum ->
+                sum.isDelta()
+                    .hasPointsSatisfying(
+                        point -> point.hasStartEpochNanos(0).hasEpochNanos(10).hasValue(3)));
+    PointData firstPoint = metricData.getData().getPoints().iterator().next();
+    // Handles are kept in the map rather than returned to the pool
+    assertThat(storage.getAggregatorHandlePool()).hasSize(0);
+    reusableDeltaReader.setLastCollectEpochNanos(10);
+
+    // Series without recordings since the last collection are not reported
+    assertThat(storage.collect(RESOURCE, INSTRUMENTATION_SCOPE_INFO, 0, 20))
+        .isEqualTo(EmptyMetricData.getInstance());
+    reusableDeltaReader.setLastCollectEpochNanos(20);
+
+    // Record measurement and collect at time 30, reusing the handle and its point
+    storage.recordDouble(5, Attributes.empty(), Context.current());
+    verify(reusableAggregator, times(1)).createHandle();
+    metricData = storage.collect(RESOURCE, INSTRUMENTATION_SCOPE_INFO, 0, 30);
+    assertThat(metricData)
+        .hasDoubleSumSatisfying(
+            sum ->
+                sum.isDelta()
+                    .hasPointsSatisfying(
+                        point -> point.hasStartEpochNanos(20).hasEpochNanos(30).hasValue(5)));
+    assertThat(metricData.getData().getPoints().iterator().next()).isSameAs(firstPoint);
+  }
+
+  @Test
+  void recordAndCollect_CumulativeReusableData() {
+    RegisteredReader reusableCumulativeReader =
+        RegisteredReader.create(
+            InMemoryMetricReader.builder().setMemoryMode(MemoryMode.REUSABLE_DATA).build(),
+            ViewRegistry.create());
+    Aggregator<LongPointData, LongExemplarData> reusableAggregator =
+        ((AggregatorFactory) Aggregation.sum())
+            .createAggregator(DESCRIPTOR, ExemplarFilter.alwaysOff(), MemoryMode.REUSABLE_DATA);
+    DefaultSynchronousMetricStorage<?, ?> storage =
+        new DefaultSynchronousMetricStorage<>(
+            reusableCumulativeReader,
+            METRIC_DESCRIPTOR,
+            reusableAggregator,
+            attributesProcessor,
+            CARDINALITY_LIMIT);
+
+    storage.recordDouble(3, Attributes.empty(), Context.current());
+    MetricData metricData = storage.collect(RESOURCE, INSTRUMENTATION_SCOPE_INFO, 0, 10);
+    assertThat(metricData)
+        .hasDoubleSumSatisfying(
+            sum ->
+                sum.isCumulative()
+                    .hasPointsSatisfying(
+                        point -> point.hasStartEpochNanos(0).hasEpochNanos(10).hasValue(3)));
+    PointData firstPoint = metricData.getData().getPoints().iterator().next();
+
+    storage.recordDouble(2, Attributes.empty(), Context.current());
+    metricData = storage.collect(RESOURCE, INSTRUMENTATION_SCOPE_INFO, 0, 20);
+    assertThat(metricData)
+        .hasDoubleSumSatisfying(
+            sum ->
+                sum.isCumulative()
+                    .hasPointsSatisfying(
+                        point -> point.hasStartEpochNanos(0).hasEpochNanos(20).hasValue(5)));
+    assertThat(metricData.getData().getPoints().iterator().next()).isSameAs(firstPoint);
+  }
+
+  @Test
+  void recordAndCollect_DeltaConcurrentRecordsAreNotLost() throws InterruptedException {
+    DefaultSynchronousMetricStorage<?, ?> storage =
+        new DefaultSynchronousMetricStorage<>(
+            deltaReader, METRIC_DESCRIPTOR, aggregator, attributesProcessor, CARDINALITY_LIMIT);
+    BoundStorageHandle handle = storage.bind(Attributes.builder().put("key", "bound").build());
+    int numThreads = 4;
+    int numRecords = 10_000;
+    CountDownLatch done = new CountDownLatch(numThreads);
+    for (int i = 0; i < numThreads; i++) {
+      Attributes attributes = Attributes.builder().put("key", "value" + i).build();
+      new Thread(
+              () -> {
+                for (int j = 0; j < numRecords; j++) {
+                  storage.recordDouble(1, attributes, Context.current());
+                  handle.recordDouble(1, Context.current());
+                }
+                done.countDown();
+              })
+          .start();
+    }
+
+    // Collect repeatedly while recording, then once more after all threads are done
+    double total = 0;
+    long epochNanos = 0;
+    while (done.getCount() > 0) {
+      total += sumOf(storage.collect(RESOURCE, INSTRUMENTATION_SCOPE_INFO, 0, ++epochNanos));
+    }
+    done.await();
+    total += sumOf(storage.collect(RESOURCE, INSTRUMENTATION_SCOPE_INFO, 0, ++epochNanos));
+    total += sumOf(storage.collect(RESOURCE, INSTRUMENTATION_SCOPE_INFO, 0, ++epochNanos));
+
+    assertThat(total).isEqualTo(2.0 * numThreads * numRecords);
+  }
+
+  @Test
+  void recordAndCollect_CumulativeEvictionConcurrentRecordsAreNotLost() {
+    DefaultSynchronousMetricStorage<?, ?> storage =
+        new DefaultSynchronousMetricStorage<>(
+            cumulativeReader, METRIC_DESCRIPTOR, aggregator, attributesProcessor, 2, 1);
+    int numThreads = 4;
+    int numRecords = 10_000;
+    CountDownLatch done = new CountDownLatch(numThreads);
+    for (int i = 0; i < numThreads; i++) {
+      new Thread(
+              () -> {
+                for (int j = 0; j < numRecords; j++) {
+                  storage.recordDouble(1, Attributes.empty(), Context.current());
+                }
+                done.countDown();
+              })
+          .start();
+    }
+
+    // The series is evicted whenever a collection finds it idle, and starts over once recorded
+    // again. Sum up the last value reported before each eviction, until all threads are done and
+    // the series is evicted a last time.
+    double total = 0;
+    double last = 0;
+    long epochNanos = 0;
+    do {
+      MetricData metricData =
+          storage.collect(RESOURCE, INSTRUMENTATION_SCOPE_INFO, 0, ++epochNanos);
+      cumulativeReader.setLastCollectEpochNanos(epochNanos);
+      if (metricData.isEmpty()) {
+        total += last;
+        last = 0;
+      } else {
+        last = sumOf(metricData);
+      }
+    } while (done.getCount() > 0 || last > 0);
+
+    assertThat(total).isEqualTo((double) numThreads * numRecords);
+  }
+
+  private static double sumOf(MetricData metricData) {
+    return metricData.getDoubleSumData().getPoints().stream()
+        .mapToDouble(DoublePointData::getValue)
+        .sum();
+  }
 }
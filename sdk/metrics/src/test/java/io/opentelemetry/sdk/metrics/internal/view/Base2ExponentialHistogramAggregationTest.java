@@ -30,4 +30,15 @@ class Base2ExponentialHistogramAggregationTest {
         .isInstanceOf(IllegalArgumentException.class)
         .hasMessage("maxScale must be -10 <= x <= 20");
   }
+
+  @Test
+  void striped() {
+    assertThat(Base2ExponentialHistogramAggregation.createStriped(10, 20))
+        .hasToString("Base2ExponentialHistogramAggregation{maxBuckets=10,maxScale=20,striped}");
+    assertThat(Base2ExponentialHistogramAggregation.create(10, 20))
+        .hasToString("Base2ExponentialHistogramAggregation{maxBuckets=10,maxScale=20}");
+    assertThatThrownBy(() -> Base2ExponentialHistogramAggregation.createStriped(0, 20))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("maxBuckets must be > 0");
+  }
 }
@@ -40,4 +40,16 @@ class ExplicitBucketHistogramAggregationTest {
         .isInstanceOf(IllegalArgumentException.class)
         .hasMessage("Bucket boundaries must be in increasing order: 2.0 >= 1.0");
   }
+
+  @Test
+  void striped() {
+    assertThat(ExplicitBucketHistogramAggregation.createStriped(Arrays.asList(1.0)))
+        .hasToString("ExplicitBucketHistogramAggregation([1.0], striped)");
+    assertThat(ExplicitBucketHistogramAggregation.create(Arrays.asList(1.0)))
+        .hasToString("ExplicitBucketHistogramAggregation([1.0])");
+    assertThatThrownBy(
+            () -> ExplicitBucketHistogramAggregation.createStriped(Arrays.asList(2.0, 1.0)))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Bucket boundaries must be in increasing order: 2.0 >= 1.0");
+  }
 }
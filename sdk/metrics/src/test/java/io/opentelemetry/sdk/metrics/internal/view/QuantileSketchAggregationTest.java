@@ -0,0 +1,84 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.metrics.internal.view;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.opentelemetry.sdk.common.export.MemoryMode;
+import io.opentelemetry.sdk.metrics.InstrumentType;
+import io.opentelemetry.sdk.metrics.InstrumentValueType;
+import io.opentelemetry.sdk.metrics.internal.aggregator.AggregatorFactory;
+import io.opentelemetry.sdk.metrics.internal.aggregator.DoubleQuantileSketchExponentialHistogramAggregator;
+import io.opentelemetry.sdk.metrics.internal.aggregator.DoubleQuantileSketchSummaryAggregator;
+import io.opentelemetry.sdk.metrics.internal.descriptor.Advice;
+import io.opentelemetry.sdk.metrics.internal.descriptor.InstrumentDescriptor;
+import io.opentelemetry.sdk.metrics.internal.exemplar.ExemplarFilter;
+import java.util.Arrays;
+import java.util.Collections;
+import org.junit.jupiter.api.Test;
+
+class QuantileSketchAggregationTest {
+
+  private static final InstrumentDescriptor HISTOGRAM =
+      InstrumentDescriptor.create(
+          "histogram",
+          "description",
+          "unit",
+          InstrumentType.HISTOGRAM,
+          InstrumentValueType.DOUBLE,
+          Advice.empty());
+
+  @Test
+  void goodConfig() {
+    assertThat(QuantileSketchAggregation.getDefault())
+        .hasToString(
+            "QuantileSketchAggregation{relativeAccuracy=0.01,maxBuckets=2048,"
+                + "quantiles=[0.5, 0.9, 0.99, 0.999]}");
+    assertThat(QuantileSketchAggregation.create(0.001, 160, Arrays.asList(0.0, 0.5, 1.0)))
+        .hasToString(
+            "QuantileSketchAggregation{relativeAccuracy=0.001,maxBuckets=160,"
+                + "quantiles=[0.0, 0.5, 1.0]}");
+  }
+
+  @Test
+  void invalidConfig_Throws() {
+    assertThatThrownBy(
+            () -> QuantileSketchAggregation.create(0, 160, Collections.singletonList(0.5)))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("relativeAccuracy must be 1e-6 <= x <= 0.5");
+    assertThatThrownBy(() -> QuantileSketchAggregation.createExponentialHistogram(0.6, 160))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("relativeAccuracy must be 1e-6 <= x <= 0.5");
+    assertThatThrownBy(() -> QuantileSketchAggregation.createExponentialHistogram(0.01, 0))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("maxBuckets must be 0 < x <= 16384");
+    assertThatThrownBy(() -> QuantileSketchAggregation.createExponentialHistogram(0.01, 16385))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("maxBuckets must be 0 < x <= 16384");
+    assertThatThrownBy(() -> QuantileSketchAggregation.create(0.01, 160, Collections.emptyList()))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("quantiles must not be empty");
+    assertThatThrownBy(
+            () -> QuantileSketchAggregation.create(0.01, 160, Collections.singletonList(1.5)))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("quantiles must be 0 <= x <= 1");
+  }
+
+  @Test
+  void createAggregator() {
+    assertThat(
+            ((AggregatorFactory) QuantileSketchAggregation.getDefault())
+                .createAggregator(
+                    HISTOGRAM, ExemplarFilter.alwaysOff(), MemoryMode.IMMUTABLE_DATA))
+        .isInstanceOf(DoubleQuantileSketchSummaryAggregator.class);
+    assertThat(
+            ((AggregatorFactory) QuantileSketchAggregation.createExponentialHistogram(0.01, 160))
+                .createAggregator(
+                    HISTOGRAM, ExemplarFilter.alwaysOff(), MemoryMode.IMMUTABLE_DATA))
+        .isInstanceOf(DoubleQuantileSketchExponentialHistogramAggregator.class);
+  }
+}
@@ -41,6 +41,9 @@ public class BatchSpanProcessorMultiThreadBenchmark {
     @Param({"0"})
     private int delayMs;
 
+    @Param({"false", "true"})
+    private boolean shardedQueue;
+
     private long exportedSpans;
     private long droppedSpans;
 
@@ -50,7 +53,11 @@ public class BatchSpanProcessorMultiThreadBenchmark {
       MeterProvider meterProvider =
           SdkMeterProvider.builder().registerMetricReader(collector).build();
       SpanExporter exporter = new DelayingSpanExporter(delayMs);
-      processor = BatchSpanProcessor.builder(exporter).setMeterProvider(meterProvider).build();
+      processor =
+          BatchSpanProcessor.builder(exporter)
+              .setMeterProvider(meterProvider)
+              .setShardedQueue(shardedQueue)
+              .build();
       tracer =
           SdkTracerProvider.builder().addSpanProcessor(processor).build().get("benchmarkTracer");
     }
@@ -19,23 +19,40 @@ enum RandomIdGenerator implements IdGenerator {
 
   @Override
   public String generateSpanId() {
+    return SpanId.fromLong(generateSpanIdAsLong());
+  }
+
+  @Override
+  public String generateTraceId() {
+    return TraceId.fromLongs(generateTraceIdHigh(), generateTraceIdLow());
+  }
+
+  /** Generates a new valid span ID in binary form. */
+  long generateSpanIdAsLong() {
     long id;
     Random random = randomSupplier.get();
     do {
       id = random.nextLong();
     } while (id == INVALID_ID);
-    return SpanId.fromLong(id);
+    return id;
   }
 
-  @Override
-  public String generateTraceId() {
+  /**
+   * Generates the higher 64 bits of a new trace ID. Together with {@link #generateTraceIdLow()},
+   * forms a valid trace ID in binary form.
+   */
+  long generateTraceIdHigh() {
+    return randomSupplier.get().nextLong();
+  }
+
+  /** Generates the lower 64 bits of a new trace ID, which are never all zeros. */
+  long generateTraceIdLow() {
+    long id;
     Random random = randomSupplier.get();
-    long idHi = random.nextLong();
-    long idLo;
     do {
-      idLo = random.nextLong();
-    } while (idLo == INVALID_ID);
-    return TraceId.fromLongs(idHi, idLo);
+      id = random.nextLong();
+    } while (id == INVALID_ID);
+    return id;
   }
 
   @Override
@@ -12,12 +12,14 @@ import static io.opentelemetry.api.common.AttributeKey.stringKey;
 
 import io.opentelemetry.api.common.AttributeKey;
 import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.internal.BinarySpanContext;
 import io.opentelemetry.api.internal.ImmutableSpanContext;
 import io.opentelemetry.api.trace.Span;
 import io.opentelemetry.api.trace.SpanBuilder;
 import io.opentelemetry.api.trace.SpanContext;
 import io.opentelemetry.api.trace.SpanKind;
 import io.opentelemetry.api.trace.TraceFlags;
+import io.opentelemetry.api.trace.TraceId;
 import io.opentelemetry.api.trace.TraceState;
 import io.opentelemetry.context.Context;
 import io.opentelemetry.sdk.common.InstrumentationScopeInfo;
@@ -170,17 +172,39 @@ final class SdkSpanBuilder implements SpanBuilder {
     // 如果parentContext为空或从parentContext中获取不到opentelemetry-trace-span-key，返回PropagatedSpan.INVALID
     Span parentSpan = Span.fromContext(parentContext);
     SpanContext parentSpanContext = parentSpan.getSpanContext();
-    String traceId;
     IdGenerator idGenerator = tracerSharedState.getIdGenerator();
+    // The default generator produces binary IDs, kept as is by the span context so that the hex
+    // span ID is only rendered if asked for. The hex trace ID is still needed by the sampler, but
+    // is only rendered once per trace, child spans reuse the one of their parent.
+    boolean binaryIds = idGenerator == RandomIdGenerator.INSTANCE;
+    String traceId;
+    long traceIdHigh = 0;
+    long traceIdLow = 0;
+    String spanId = null;
+    long spanIdLong = 0;
     // 通过IdGenerator生成spanId
-    String spanId = idGenerator.generateSpanId();
+    if (binaryIds) {
+      spanIdLong = RandomIdGenerator.INSTANCE.generateSpanIdAsLong();
+    } else {
+      spanId = idGenerator.generateSpanId();
+    }
     // 如果没有父Span则生成一个新的traceId，否则获取父span的traceId
     if (!parentSpanContext.isValid()) {
       // New root span.
-      traceId = idGenerator.generateTraceId();
+      if (binaryIds) {
+        traceIdHigh = RandomIdGenerator.INSTANCE.generateTraceIdHigh();
+        traceIdLow = RandomIdGenerator.INSTANCE.generateTraceIdLow();
+        traceId = TraceId.fromLongs(traceIdHigh, traceIdLow);
+      } else {
+        traceId = idGenerator.generateTraceId();
+      }
     } else {
       // New child span.
       traceId = parentSpanContext.getTraceId();
+      if (binaryIds) {
+        traceIdHigh = parentSpanContext.getTraceIdHigh();
+        traceIdLow = parentSpanContext.getTraceIdLow();
+      }
     }
     List<LinkData> immutableLinks = links == null ? Collections.emptyList() : Collections.unmodifiableList(links);
     // Avoid any possibility to modify the links list by adding links to the Builder after the
@@ -191,14 +215,26 @@ final class SdkSpanBuilder implements SpanBuilder {
     SamplingDecision samplingDecision = samplingResult.getDecision();
 
     TraceState samplingResultTraceState = samplingResult.getUpdatedTraceState(parentSpanContext.getTraceState());
-    SpanContext spanContext = ImmutableSpanContext.create(
-            traceId,
-            spanId,
-            // 与采样相关：TraceFlags.getSampled()返回true，TraceFlags.getDefault()返回false
-            isSampled(samplingDecision) ? TraceFlags.getSampled() : TraceFlags.getDefault(),
-            samplingResultTraceState,
-            /* remote= */ false,
-            tracerSharedState.isIdGeneratorSafeToSkipIdValidation());
+    // 与采样相关：TraceFlags.getSampled()返回true，TraceFlags.getDefault()返回false
+    TraceFlags traceFlags =
+        isSampled(samplingDecision) ? TraceFlags.getSampled() : TraceFlags.getDefault();
+    SpanContext spanContext =
+        spanId == null
+            ? BinarySpanContext.create(
+                traceIdHigh,
+                traceIdLow,
+                traceId,
+                spanIdLong,
+                traceFlags,
+                samplingResultTraceState,
+                /* remote= */ false)
+            : ImmutableSpanContext.create(
+                traceId,
+                spanId,
+                traceFlags,
+                samplingResultTraceState,
+                /* remote= */ false,
+                tracerSharedState.isIdGeneratorSafeToSkipIdValidation());
 
     if (!isRecording(samplingDecision)) {
       return Span.wrap(spanContext);
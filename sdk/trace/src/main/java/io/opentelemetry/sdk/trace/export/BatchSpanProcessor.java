@@ -12,25 +12,28 @@ import io.opentelemetry.api.metrics.Meter;
 import io.opentelemetry.api.metrics.MeterProvider;
 import io.opentelemetry.context.Context;
 import io.opentelemetry.sdk.common.CompletableResultCode;
-import io.opentelemetry.sdk.internal.DaemonThreadFactory;
+import io.opentelemetry.sdk.internal.JavaVersionSpecific;
 import io.opentelemetry.sdk.internal.ThrowableUtil;
 import io.opentelemetry.sdk.trace.ReadWriteSpan;
 import io.opentelemetry.sdk.trace.ReadableSpan;
 import io.opentelemetry.sdk.trace.SpanProcessor;
 import io.opentelemetry.sdk.trace.data.SpanData;
 import io.opentelemetry.sdk.trace.internal.JcTools;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Queue;
 import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.logging.Level;
 import java.util.logging.Logger;
+import javax.annotation.Nullable;
 
 /**
  * Implementation of the {@link SpanProcessor} that batches spans exported by the SDK then pushes
@@ -40,6 +43,12 @@ import java.util.logging.Logger;
  * {@code maxQueueSize} maximum size, if queue is full spans are dropped). Spans are exported either
  * when there are {@code maxExportBatchSize} pending spans or {@code scheduleDelayNanos} has passed
  * since the last export finished.
+ *
+ * <p>By default the worker waits for each export to complete before draining the queue again. With
+ * {@code maxConcurrentExports} greater than one, it keeps draining into new batches while up to
+ * that many exports are in flight. Once the limit is reached it waits up to the exporter timeout
+ * for an export to complete, and otherwise drops the batch. An export counts as in flight until it
+ * completes, even once its timeout has passed.
  */
 public final class BatchSpanProcessor implements SpanProcessor {
 
@@ -64,9 +73,13 @@ public final class BatchSpanProcessor implements SpanProcessor {
     return new BatchSpanProcessorBuilder(spanExporter);
   }
 
-  BatchSpanProcessor(SpanExporter spanExporter, MeterProvider meterProvider, long scheduleDelayNanos, int maxQueueSize, int maxExportBatchSize, long exporterTimeoutNanos) {
-    this.worker = new Worker(spanExporter, meterProvider, scheduleDelayNanos, maxExportBatchSize, exporterTimeoutNanos, JcTools.newFixedSizeQueue(maxQueueSize));
-    Thread workerThread = new DaemonThreadFactory(WORKER_THREAD_NAME).newThread(worker);
+  BatchSpanProcessor(SpanExporter spanExporter, MeterProvider meterProvider, long scheduleDelayNanos, int maxQueueSize, int maxExportBatchSize, long exporterTimeoutNanos, boolean shardedQueue, int maxConcurrentExports) {
+    Queue<ReadableSpan> queue = shardedQueue
+            ? new ShardedQueue<>(maxQueueSize, ShardedQueue.defaultShardCount())
+            : JcTools.newFixedSizeQueue(maxQueueSize);
+    this.worker = new Worker(spanExporter, meterProvider, scheduleDelayNanos, maxExportBatchSize, exporterTimeoutNanos, maxConcurrentExports, queue);
+    Thread workerThread =
+        JavaVersionSpecific.get().newWorkerThreadFactory(WORKER_THREAD_NAME).newThread(worker);
     workerThread.start();
   }
 
@@ -146,6 +159,12 @@ public final class BatchSpanProcessor implements SpanProcessor {
     private final long exporterTimeoutNanos;
 
     private long nextExportTime;
+    // One permit per export allowed in flight, released once an export completes, even after its
+    // timeout has passed. Null if exports do not run concurrently.
+    @Nullable private final Semaphore exportPermits;
+    // Concurrent exports that haven't completed, oldest first, awaited by flushes. Only accessed by
+    // the worker thread.
+    private final ArrayDeque<PendingExport> pendingExports = new ArrayDeque<>();
 
     private final Queue<ReadableSpan> queue;
     // When waiting on the spans queue, exporter thread sets this atomic to the number of more
@@ -165,11 +184,13 @@ public final class BatchSpanProcessor implements SpanProcessor {
         long scheduleDelayNanos,
         int maxExportBatchSize,
         long exporterTimeoutNanos,
+        int maxConcurrentExports,
         Queue<ReadableSpan> queue) {
       this.spanExporter = spanExporter;
       this.scheduleDelayNanos = scheduleDelayNanos;
       this.maxExportBatchSize = maxExportBatchSize;
       this.exporterTimeoutNanos = exporterTimeoutNanos;
+      this.exportPermits = maxConcurrentExports > 1 ? new Semaphore(maxConcurrentExports) : null;
       this.queue = queue;
       this.signal = new ArrayBlockingQueue<>(1);
       /*
@@ -202,7 +223,10 @@ public final class BatchSpanProcessor implements SpanProcessor {
         // 这里是调用SdkLongCounter的add方法
         processedSpansCounter.add(1, droppedAttrs);
       } else {
-        if (queue.size() >= spansNeeded.get()) {
+        // Only size the queue when the worker is waiting for spans, which is costlier for a sharded
+        // queue
+        int needed = spansNeeded.get();
+        if (needed != Integer.MAX_VALUE && queue.size() >= needed) {
           signal.offer(true);
         }
       }
@@ -217,7 +241,7 @@ public final class BatchSpanProcessor implements SpanProcessor {
           flush();
         }
         // 将Span数据从queue中poll出来，添加到batch中
-        JcTools.drain(queue, maxExportBatchSize - batch.size(), span -> batch.add(span.toSpanData()));
+        drain(maxExportBatchSize - batch.size());
 
         if (batch.size() >= maxExportBatchSize || System.nanoTime() >= nextExportTime) {
           exportCurrentBatch();
@@ -240,6 +264,14 @@ public final class BatchSpanProcessor implements SpanProcessor {
       }
     }
 
+    private void drain(int limit) {
+      if (queue instanceof ShardedQueue) {
+        ((ShardedQueue<ReadableSpan>) queue).drain(limit, span -> batch.add(span.toSpanData()));
+      } else {
+        JcTools.drain(queue, limit, span -> batch.add(span.toSpanData()));
+      }
+    }
+
     private void flush() {
       int spansToFlush = queue.size();
       while (spansToFlush > 0) {
@@ -252,6 +284,8 @@ public final class BatchSpanProcessor implements SpanProcessor {
         }
       }
       exportCurrentBatch();
+      // forceFlush只有在所有导出都完成后才算完成
+      awaitPendingExports();
       CompletableResultCode flushResult = flushRequested.get();
       if (flushResult != null) {
         flushResult.succeed();
@@ -302,21 +336,89 @@ public final class BatchSpanProcessor implements SpanProcessor {
         return;
       }
 
+      Semaphore exportPermits = this.exportPermits;
+      if (exportPermits != null && !acquireExportPermit(exportPermits)) {
+        // No export completed within the exporter timeout, drop the batch so the worker keeps
+        // serving flushes and shutdown even when the exporter never completes its results
+        processedSpansCounter.add(batch.size(), droppedAttrs);
+        logger.log(Level.FINE, "Dropped batch, too many exports in flight");
+        batch.clear();
+        return;
+      }
+      boolean exporting = false;
       try {
-        CompletableResultCode result = spanExporter.export(Collections.unmodifiableList(batch));
-        result.join(exporterTimeoutNanos, TimeUnit.NANOSECONDS);
-        if (result.isSuccess()) {
-          // 统计导出数量
-          processedSpansCounter.add(batch.size(), exportedAttrs);
+        // With concurrent exports the exporter gets its own copy, as the batch is refilled while
+        // the export is in flight
+        List<SpanData> spans =
+            exportPermits == null
+                ? Collections.unmodifiableList(batch)
+                : Collections.unmodifiableList(new ArrayList<>(batch));
+        CompletableResultCode result = spanExporter.export(spans);
+        exporting = true;
+        int exportedSpans = batch.size();
+        result.whenComplete(
+            () -> {
+              if (exportPermits != null) {
+                exportPermits.release();
+              }
+              if (result.isSuccess()) {
+                // 统计导出数量
+                processedSpansCounter.add(exportedSpans, exportedAttrs);
+              } else {
+                logger.log(Level.FINE, "Exporter failed");
+              }
+            });
+        if (exportPermits == null) {
+          result.join(exporterTimeoutNanos, TimeUnit.NANOSECONDS);
         } else {
-          logger.log(Level.FINE, "Exporter failed");
+          pendingExports.removeIf(pending -> pending.result.isDone());
+          pendingExports.add(new PendingExport(result, System.nanoTime() + exporterTimeoutNanos));
         }
       } catch (Throwable t) {
         ThrowableUtil.propagateIfFatal(t);
         logger.log(Level.WARNING, "Exporter threw an Exception", t);
       } finally {
+        if (!exporting && exportPermits != null) {
+          exportPermits.release();
+        }
         batch.clear();
       }
     }
+
+    // Back-pressure: waits up to the exporter timeout for one of the in flight exports to
+    // complete.
+    private boolean acquireExportPermit(Semaphore exportPermits) {
+      if (exportPermits.tryAcquire()) {
+        return true;
+      }
+      try {
+        return exportPermits.tryAcquire(exporterTimeoutNanos, TimeUnit.NANOSECONDS);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        return false;
+      }
+    }
+
+    // Waits until the concurrent exports have completed or their timeout has passed. Timed out
+    // exports are not awaited again, but stay in flight until they complete.
+    private void awaitPendingExports() {
+      PendingExport pending;
+      while ((pending = pendingExports.poll()) != null) {
+        long timeoutNanos = pending.deadlineNanos - System.nanoTime();
+        if (timeoutNanos > 0) {
+          pending.result.join(timeoutNanos, TimeUnit.NANOSECONDS);
+        }
+      }
+    }
+  }
+
+  private static final class PendingExport {
+    private final CompletableResultCode result;
+    private final long deadlineNanos;
+
+    private PendingExport(CompletableResultCode result, long deadlineNanos) {
+      this.result = result;
+      this.deadlineNanos = deadlineNanos;
+    }
   }
 }
@@ -23,13 +23,17 @@ public final class BatchSpanProcessorBuilder {
   static final int DEFAULT_MAX_EXPORT_BATCH_SIZE = 512;
   // Visible for testing
   static final int DEFAULT_EXPORT_TIMEOUT_MILLIS = 30_000;
+  // Visible for testing
+  static final int DEFAULT_MAX_CONCURRENT_EXPORTS = 1;
 
   private final SpanExporter spanExporter;
   private long scheduleDelayNanos = TimeUnit.MILLISECONDS.toNanos(DEFAULT_SCHEDULE_DELAY_MILLIS);
   private int maxQueueSize = DEFAULT_MAX_QUEUE_SIZE;
   private int maxExportBatchSize = DEFAULT_MAX_EXPORT_BATCH_SIZE;
   private long exporterTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(DEFAULT_EXPORT_TIMEOUT_MILLIS);
+  private int maxConcurrentExports = DEFAULT_MAX_CONCURRENT_EXPORTS;
   private MeterProvider meterProvider = MeterProvider.noop();
+  private boolean shardedQueue = false;
 
   BatchSpanProcessorBuilder(SpanExporter spanExporter) {
     this.spanExporter = requireNonNull(spanExporter, "spanExporter");
@@ -122,6 +126,52 @@ public final class BatchSpanProcessorBuilder {
     return this;
   }
 
+  /**
+   * Sets whether spans are queued in a queue sharded by producer thread, with one shard per
+   * processor, instead of a single queue. Sharding reduces contention between threads ending spans
+   * at a high rate, at the cost of only ordering spans ended by the same thread. The queue still
+   * holds up to {@code maxQueueSize} spans, split across the shards.
+   *
+   * <p>Default value is {@code false}.
+   *
+   * @param shardedQueue whether to use a sharded queue.
+   * @return this.
+   */
+  public BatchSpanProcessorBuilder setShardedQueue(boolean shardedQueue) {
+    this.shardedQueue = shardedQueue;
+    return this;
+  }
+
+  // Visible for testing
+  boolean isShardedQueue() {
+    return shardedQueue;
+  }
+
+  /**
+   * Sets the maximum number of exports that can be in flight at the same time. While fewer exports
+   * are in flight, the processor keeps batching spans from the queue instead of waiting for the
+   * previous export to complete, so that a slow exporter doesn't cause the queue to fill up. Each
+   * export counts as in flight until it completes. Once the limit is reached, the processor waits
+   * up to the exporter timeout for an export to complete and otherwise drops the batch. The
+   * exporter must support concurrent calls to {@code export} for values greater than one.
+   *
+   * <p>Default value is {@code 1}.
+   *
+   * @param maxConcurrentExports the maximum number of exports in flight.
+   * @return this.
+   * @see BatchSpanProcessorBuilder#DEFAULT_MAX_CONCURRENT_EXPORTS
+   */
+  public BatchSpanProcessorBuilder setMaxConcurrentExports(int maxConcurrentExports) {
+    checkArgument(maxConcurrentExports > 0, "maxConcurrentExports must be positive.");
+    this.maxConcurrentExports = maxConcurrentExports;
+    return this;
+  }
+
+  // Visible for testing
+  int getMaxConcurrentExports() {
+    return maxConcurrentExports;
+  }
+
   /**
    * Sets the {@link MeterProvider} to use to collect metrics related to batch export. If not set,
    * metrics will not be collected.
@@ -144,6 +194,6 @@ public final class BatchSpanProcessorBuilder {
    * @return a new {@link BatchSpanProcessor}.
    */
   public BatchSpanProcessor build() {
-    return new BatchSpanProcessor(spanExporter, meterProvider, scheduleDelayNanos, maxQueueSize, maxExportBatchSize, exporterTimeoutNanos);
+    return new BatchSpanProcessor(spanExporter, meterProvider, scheduleDelayNanos, maxQueueSize, maxExportBatchSize, exporterTimeoutNanos, shardedQueue, maxConcurrentExports);
   }
 }
@@ -0,0 +1,161 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.trace.export;
+
+import io.opentelemetry.sdk.trace.internal.JcTools;
+import java.util.AbstractQueue;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Queue;
+import java.util.function.Consumer;
+import javax.annotation.Nullable;
+
+/**
+ * A bounded multi-producer single-consumer queue split into shards, each backed by its own {@link
+ * JcTools#newFixedSizeQueue(int) fixed size queue}, so that producers on different threads don't
+ * contend on the same tail.
+ *
+ * <p>A producer offers to the shard picked by its thread ID, moving on to the next shards when it
+ * is full, so an element is only rejected once all shards are full. The consumer polls and drains
+ * the shards round-robin. Elements offered by the same thread are consumed in order, as long as its
+ * shard doesn't overflow, but there is no ordering across shards.
+ *
+ * <p>The capacity is split evenly across the shards, each rounded up the same way as the queue it
+ * is backed by. Iterating takes a snapshot of the elements, which can't be removed through it.
+ */
+final class ShardedQueue<T> extends AbstractQueue<T> {
+
+  private static final int MAX_SHARDS = 64;
+
+  private final Queue<T>[] shards;
+  private final int mask;
+  // Only accessed by the consumer
+  private int nextShard;
+
+  /** Returns the default number of shards, the number of processors as a power of two. */
+  static int defaultShardCount() {
+    int processors = Runtime.getRuntime().availableProcessors();
+    return Math.min(MAX_SHARDS, processors <= 1 ? 1 : Integer.highestOneBit(processors - 1) << 1);
+  }
+
+  /**
+   * Creates a queue of {@code capacity} elements split into {@code shardCount} shards, which must
+   * be a power of two.
+   */
+  @SuppressWarnings("unchecked")
+  ShardedQueue(int capacity, int shardCount) {
+    if (Integer.bitCount(shardCount) != 1) {
+      throw new IllegalArgumentException("shardCount must be a power of two");
+    }
+    int shardCapacity = Math.max(2, (capacity + shardCount - 1) / shardCount);
+    shards = new Queue[shardCount];
+    for (int i = 0; i < shardCount; i++) {
+      shards[i] = JcTools.newFixedSizeQueue(shardCapacity);
+    }
+    mask = shardCount - 1;
+  }
+
+  @Override
+  public boolean offer(T element) {
+    int shard = (int) Thread.currentThread().getId() & mask;
+    for (int i = 0; i <= mask; i++) {
+      if (shards[(shard + i) & mask].offer(element)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  @Override
+  @Nullable
+  public T poll() {
+    for (int i = 0; i <= mask; i++) {
+      T element = shards[nextShard].poll();
+      nextShard = (nextShard + 1) & mask;
+      if (element != null) {
+        return element;
+      }
+    }
+    return null;
+  }
+
+  @Override
+  @Nullable
+  public T peek() {
+    for (int i = 0; i <= mask; i++) {
+      T element = shards[(nextShard + i) & mask].peek();
+      if (element != null) {
+        return element;
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Removes up to {@code limit} elements and hands them to {@code consumer}, taking an equal share
+   * from each shard in turn so that a busy shard doesn't starve the others.
+   */
+  void drain(int limit, Consumer<T> consumer) {
+    int remaining = limit;
+    // Each pass takes at most a fair share from every shard, later passes pick up what the shards
+    // with fewer elements left over
+    while (remaining > 0) {
+      int share = Math.max(1, remaining / shards.length);
+      int drained = 0;
+      for (int i = 0; i <= mask && remaining > 0; i++) {
+        Queue<T> shard = shards[nextShard];
+        nextShard = (nextShard + 1) & mask;
+        for (int taken = 0; taken < share && remaining > 0; taken++) {
+          T element = shard.poll();
+          if (element == null) {
+            break;
+          }
+          consumer.accept(element);
+          remaining--;
+          drained++;
+        }
+      }
+      if (drained == 0) {
+        return;
+      }
+    }
+  }
+
+  @Override
+  public int size() {
+    int size = 0;
+    for (Queue<T> shard : shards) {
+      size += shard.size();
+    }
+    return size;
+  }
+
+  @Override
+  public boolean isEmpty() {
+    for (Queue<T> shard : shards) {
+      if (!shard.isEmpty()) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  @Override
+  public Iterator<T> iterator() {
+    List<T> elements = new ArrayList<>();
+    for (Queue<T> shard : shards) {
+      elements.addAll(shard);
+    }
+    return Collections.unmodifiableList(elements).iterator();
+  }
+
+  // Visible for testing
+  int shardCount() {
+    return shards.length;
+  }
+}
@@ -26,10 +26,12 @@ import io.opentelemetry.sdk.trace.SdkTracerProvider;
 import io.opentelemetry.sdk.trace.data.SpanData;
 import io.opentelemetry.sdk.trace.samplers.Sampler;
 import io.opentelemetry.sdk.trace.samplers.SamplingResult;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -92,6 +94,9 @@ class BatchSpanProcessorTest {
     assertThat(builder.getExporterTimeoutNanos())
         .isEqualTo(
             TimeUnit.MILLISECONDS.toNanos(BatchSpanProcessorBuilder.DEFAULT_EXPORT_TIMEOUT_MILLIS));
+    assertThat(builder.isShardedQueue()).isFalse();
+    assertThat(builder.getMaxConcurrentExports())
+        .isEqualTo(BatchSpanProcessorBuilder.DEFAULT_MAX_CONCURRENT_EXPORTS);
   }
 
   @Test
@@ -121,6 +126,10 @@ class BatchSpanProcessorTest {
     assertThatThrownBy(() -> BatchSpanProcessor.builder(mockSpanExporter).setExporterTimeout(null))
         .isInstanceOf(NullPointerException.class)
         .hasMessage("timeout");
+    assertThatThrownBy(
+            () -> BatchSpanProcessor.builder(mockSpanExporter).setMaxConcurrentExports(0))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("maxConcurrentExports must be positive.");
   }
 
   @Test
@@ -186,6 +195,44 @@ class BatchSpanProcessorTest {
                         span6.toSpanData()));
   }
 
+  @Test
+  void exportMoreSpansThanTheBufferSize_ShardedQueue() {
+    CompletableSpanExporter spanExporter = new CompletableSpanExporter();
+
+    BatchSpanProcessor batchSpanProcessor =
+        BatchSpanProcessor.builder(spanExporter)
+            .setMaxQueueSize(6)
+            .setMaxExportBatchSize(2)
+            .setScheduleDelay(MAX_SCHEDULE_DELAY_MILLIS, TimeUnit.MILLISECONDS)
+            .setShardedQueue(true)
+            .build();
+    assertThat(batchSpanProcessor.getQueue()).isInstanceOf(ShardedQueue.class);
+    sdkTracerProvider = SdkTracerProvider.builder().addSpanProcessor(batchSpanProcessor).build();
+
+    ReadableSpan span1 = createEndedSpan(SPAN_NAME_1);
+    ReadableSpan span2 = createEndedSpan(SPAN_NAME_1);
+    ReadableSpan span3 = createEndedSpan(SPAN_NAME_1);
+    ReadableSpan span4 = createEndedSpan(SPAN_NAME_1);
+    ReadableSpan span5 = createEndedSpan(SPAN_NAME_1);
+    ReadableSpan span6 = createEndedSpan(SPAN_NAME_1);
+
+    spanExporter.succeed();
+
+    // Spans ended by the same thread are exported in order, unless its shard overflows
+    await()
+        .untilAsserted(
+            () ->
+                assertThat(spanExporter.getExported())
+                    .containsExactlyInAnyOrder(
+                        span1.toSpanData(),
+                        span2.toSpanData(),
+                        span3.toSpanData(),
+                        span4.toSpanData(),
+                        span5.toSpanData(),
+                        span6.toSpanData()));
+    await().untilAsserted(() -> assertThat(batchSpanProcessor.getQueue()).isEmpty());
+  }
+
   @Test
   void forceExport() {
     WaitingSpanExporter waitingSpanExporter =
@@ -220,6 +267,87 @@ class BatchSpanProcessorTest {
     assertThat(exported.size()).isEqualTo(2);
   }
 
+  @Test
+  @Timeout(10)
+  void concurrentExports() {
+    List<CompletableResultCode> results = new CopyOnWriteArrayList<>();
+    when(mockSpanExporter.export(anyList()))
+        .then(
+            invocation -> {
+              CompletableResultCode result = new CompletableResultCode();
+              results.add(result);
+              return result;
+            });
+    BatchSpanProcessor batchSpanProcessor =
+        BatchSpanProcessor.builder(mockSpanExporter)
+            .setMaxConcurrentExports(2)
+            .setMaxExportBatchSize(1)
+            .setScheduleDelay(10, TimeUnit.SECONDS)
+            .build();
+    sdkTracerProvider = SdkTracerProvider.builder().addSpanProcessor(batchSpanProcessor).build();
+
+    createEndedSpan(SPAN_NAME_1);
+    createEndedSpan(SPAN_NAME_2);
+    // The second batch is exported while the first export is still in flight
+    await().untilAsserted(() -> assertThat(results).hasSize(2));
+
+    createEndedSpan(SPAN_NAME_1);
+    CompletableResultCode flushResult = batchSpanProcessor.forceFlush();
+    // No third export until one of the in flight exports completes
+    assertThat(results).hasSize(2);
+    assertThat(flushResult.isDone()).isFalse();
+
+    results.get(0).succeed();
+    await().untilAsserted(() -> assertThat(results).hasSize(3));
+    // Flushing waits for all exports to complete
+    assertThat(flushResult.isDone()).isFalse();
+
+    results.get(1).succeed();
+    results.get(2).succeed();
+    assertThat(flushResult.join(5, TimeUnit.SECONDS).isSuccess()).isTrue();
+  }
+
+  @Test
+  @Timeout(10)
+  void concurrentExports_TimedOutExportsStayInFlight() {
+    List<CompletableResultCode> results = new CopyOnWriteArrayList<>();
+    when(mockSpanExporter.export(anyList()))
+        .then(
+            invocation -> {
+              CompletableResultCode result = new CompletableResultCode();
+              results.add(result);
+              return result;
+            });
+    BatchSpanProcessor batchSpanProcessor =
+        BatchSpanProcessor.builder(mockSpanExporter)
+            .setMaxConcurrentExports(2)
+            .setMaxExportBatchSize(1)
+            .setExporterTimeout(100, TimeUnit.MILLISECONDS)
+            .setScheduleDelay(10, TimeUnit.SECONDS)
+            .build();
+    sdkTracerProvider = SdkTracerProvider.builder().addSpanProcessor(batchSpanProcessor).build();
+
+    createEndedSpan(SPAN_NAME_1);
+    createEndedSpan(SPAN_NAME_2);
+    await().untilAsserted(() -> assertThat(results).hasSize(2));
+
+    createEndedSpan(SPAN_NAME_1);
+    // Both exports are past their timeout but still in flight, so the third batch is dropped
+    await()
+        .during(Duration.ofMillis(300))
+        .atMost(Duration.ofSeconds(1))
+        .untilAsserted(() -> assertThat(results).hasSize(2));
+    // The hung exports don't block the worker
+    assertThat(batchSpanProcessor.forceFlush().join(5, TimeUnit.SECONDS).isSuccess()).isTrue();
+
+    results.get(0).succeed();
+    createEndedSpan(SPAN_NAME_2);
+    await().untilAsserted(() -> assertThat(results).hasSize(3));
+
+    results.get(1).succeed();
+    results.get(2).succeed();
+  }
+
   @Test
   void testEmptyQueue() {
     // Arrange
@@ -0,0 +1,110 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.trace.export;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.Test;
+
+class ShardedQueueTest {
+
+  @Test
+  void invalidShardCount() {
+    assertThatThrownBy(() -> new ShardedQueue<>(16, 3))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("shardCount must be a power of two");
+  }
+
+  @Test
+  void defaultShardCount() {
+    int shardCount = ShardedQueue.defaultShardCount();
+    assertThat(Integer.bitCount(shardCount)).isEqualTo(1);
+    assertThat(shardCount).isBetween(1, 64);
+  }
+
+  @Test
+  void offerSpillsOverToOtherShards() {
+    ShardedQueue<Integer> queue = new ShardedQueue<>(8, 4);
+
+    // A single thread fills its own shard first, then the others
+    for (int i = 0; i < 8; i++) {
+      assertThat(queue.offer(i)).isTrue();
+    }
+    assertThat(queue.offer(8)).isFalse();
+    assertThat(queue).hasSize(8);
+    assertThat(queue.isEmpty()).isFalse();
+    assertThat(queue).containsExactlyInAnyOrder(0, 1, 2, 3, 4, 5, 6, 7);
+
+    Set<Integer> polled = new HashSet<>();
+    Integer element;
+    while ((element = queue.poll()) != null) {
+      polled.add(element);
+    }
+    assertThat(polled).containsExactlyInAnyOrder(0, 1, 2, 3, 4, 5, 6, 7);
+    assertThat(queue.isEmpty()).isTrue();
+    assertThat(queue.peek()).isNull();
+  }
+
+  @Test
+  void drain() {
+    ShardedQueue<Integer> queue = new ShardedQueue<>(16, 4);
+    for (int i = 0; i < 10; i++) {
+      queue.offer(i);
+    }
+
+    List<Integer> drained = new ArrayList<>();
+    queue.drain(4, drained::add);
+    assertThat(drained).hasSize(4);
+    assertThat(queue).hasSize(6);
+
+    queue.drain(100, drained::add);
+    assertThat(drained).containsExactlyInAnyOrder(0, 1, 2, 3, 4, 5, 6, 7, 8, 9);
+    assertThat(queue.isEmpty()).isTrue();
+
+    queue.drain(100, drained::add);
+    assertThat(drained).hasSize(10);
+  }
+
+  @Test
+  void concurrentProducers() throws Exception {
+    int numThreads = 8;
+    int numElements = 1000;
+    ShardedQueue<Integer> queue = new ShardedQueue<>(numThreads * numElements, 4);
+    ExecutorService executor = Executors.newFixedThreadPool(numThreads);
+    try {
+      List<Future<?>> futures = new ArrayList<>();
+      for (int t = 0; t < numThreads; t++) {
+        int offset = t * numElements;
+        futures.add(
+            executor.submit(
+                () -> {
+                  for (int i = 0; i < numElements; i++) {
+                    assertThat(queue.offer(offset + i)).isTrue();
+                  }
+                }));
+      }
+      Set<Integer> drained = new HashSet<>();
+      while (drained.size() < numThreads * numElements) {
+        queue.drain(64, drained::add);
+      }
+      for (Future<?> future : futures) {
+        future.get();
+      }
+      assertThat(drained).hasSize(numThreads * numElements);
+      assertThat(queue.isEmpty()).isTrue();
+    } finally {
+      executor.shutdown();
+    }
+  }
+}